@@ -0,0 +1,129 @@
+import lwjglalti.gl.ClientArrayStreaming;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.Display;
+import org.lwjgl.opengl.DisplayMode;
+import org.lwjgl.opengl.GL11;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * Draws frames of tinted quads from client-side vertex and color arrays, a batch of quads per draw, and reports the
+ * mean frame time, the bytes per frame that streaming copied into its ring, and a checksum of the last frame. Run it
+ * once with, and once without, {@code client_array_streaming=true} in the properties of the installation: the frame
+ * times show what streaming saves, and equal checksums show that it renders the same image.
+ *
+ * Single-file source program: run with {@code java -cp <classpath> ClientArrayBenchmark.java [quads] [quads per draw] [frames]}.
+ */
+public class ClientArrayBenchmark {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+    private static final int VERTICES_PER_QUAD = 4;
+
+    private static String renderer;
+
+    public static void main(String[] args) throws Exception {
+        int quads = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int quadsPerDraw = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int frames = args.length > 2 ? Integer.parseInt(args[2]) : 300;
+
+        Display.setDisplayMode(new DisplayMode(WIDTH, HEIGHT));
+        Display.create();
+        // render-bound, rather than display-bound
+        Display.setVSyncEnabled(false);
+        setUp();
+
+        FloatBuffer vertices = BufferUtils.createFloatBuffer(quads * VERTICES_PER_QUAD * 2);
+        FloatBuffer colors = BufferUtils.createFloatBuffer(quads * VERTICES_PER_QUAD * 4);
+
+        long streamedBytes = 0;
+        long streamedDraws = 0;
+        long fenceWaits = 0;
+        long drawNanos = 0;
+        long start = 0;
+        for (int frame = -10; frame < frames; ++frame) {
+            if (frame == 0) {
+                // discard warm-up frames
+                GL11.glFinish();
+                start = System.nanoTime();
+                streamedBytes = 0;
+                streamedDraws = 0;
+                fenceWaits = 0;
+                drawNanos = 0;
+            }
+            long drawStart = System.nanoTime();
+            drawFrame(vertices, colors, frame, quads, quadsPerDraw);
+            drawNanos += System.nanoTime() - drawStart;
+            Display.swapBuffers();
+            Display.processMessages();
+            streamedBytes += ClientArrayStreaming.lastFrameStreamedBytes();
+            streamedDraws += ClientArrayStreaming.lastFrameStreamedDraws();
+            fenceWaits += ClientArrayStreaming.lastFrameFenceWaits();
+        }
+        GL11.glFinish();
+        long elapsed = System.nanoTime() - start;
+
+        drawFrame(vertices, colors, frames, quads, quadsPerDraw);
+        ByteBuffer pixels = BufferUtils.createByteBuffer(WIDTH * HEIGHT * 4);
+        GL11.glReadPixels(0, 0, WIDTH, HEIGHT, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, pixels);
+        CRC32 checksum = new CRC32();
+        checksum.update(pixels);
+        Display.destroy();
+
+        System.out.printf("streaming %s, renderer %s%n", ClientArrayStreaming.ENABLED ? "on" : "off", renderer);
+        System.out.printf(
+                "%d quads in draws of %d: %.3f ms per frame, %.3f ms of it issuing draws, over %d frames%n",
+                quads,
+                quadsPerDraw,
+                elapsed / 1e6 / frames,
+                drawNanos / 1e6 / frames,
+                frames
+        );
+        System.out.printf(
+                "client array bytes per frame: %d, %d streamed in %d draws, %d fence waits in total%n",
+                (long) quads * VERTICES_PER_QUAD * (2 + 4) * Float.BYTES,
+                streamedBytes / frames,
+                streamedDraws / frames,
+                fenceWaits
+        );
+        System.out.printf("last frame checksum: %08x%n", checksum.getValue());
+    }
+
+    private static void setUp() {
+        renderer = GL11.glGetString(GL11.GL_RENDERER);
+        GL11.glMatrixMode(GL11.GL_PROJECTION);
+        GL11.glLoadIdentity();
+        GL11.glOrtho(0, WIDTH, HEIGHT, 0, -1, 1);
+        GL11.glMatrixMode(GL11.GL_MODELVIEW);
+        GL11.glLoadIdentity();
+        GL11.glEnable(GL11.GL_BLEND);
+        GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+        GL11.glEnableClientState(GL11.GL_VERTEX_ARRAY);
+        GL11.glEnableClientState(GL11.GL_COLOR_ARRAY);
+    }
+
+    private static void drawFrame(FloatBuffer vertices, FloatBuffer colors, int frame, int quads, int quadsPerDraw) {
+        // rewritten every frame, as Altitude rewrites its arrays, and deterministic for the last frame's checksum
+        vertices.clear();
+        colors.clear();
+        for (int i = 0; i < quads; ++i) {
+            float x = (i * 37 + frame) % (WIDTH - 16);
+            float y = (i * 53) % (HEIGHT - 16);
+            vertices.put(x).put(y).put(x + 16).put(y).put(x + 16).put(y + 16).put(x).put(y + 16);
+            for (int v = 0; v < VERTICES_PER_QUAD; ++v) {
+                colors.put((i % 7) / 6F).put((i % 5) / 4F).put((i % 3) / 2F).put(0.75F);
+            }
+        }
+        GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+        for (int first = 0; first < quads; first += quadsPerDraw) {
+            int count = Math.min(quadsPerDraw, quads - first);
+            vertices.position(first * VERTICES_PER_QUAD * 2);
+            colors.position(first * VERTICES_PER_QUAD * 4);
+            GL11.glVertexPointer(2, GL11.GL_FLOAT, 0, vertices);
+            GL11.glColorPointer(4, GL11.GL_FLOAT, 0, colors);
+            GL11.glDrawArrays(GL11.GL_QUADS, 0, count * VERTICES_PER_QUAD);
+        }
+    }
+}
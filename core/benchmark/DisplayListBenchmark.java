@@ -0,0 +1,132 @@
+import lwjglalti.gl.DisplayListEmulation;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.Display;
+import org.lwjgl.opengl.DisplayMode;
+import org.lwjgl.opengl.GL11;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * Compiles a display list per glyph of a font-like texture atlas, the way Altitude compiles its fonts, and draws
+ * frames of text by calling them. Reports the mean frame time and a checksum of the last frame. Run it once with, and
+ * once without, {@code display_list_emulation=true} in the properties of the installation: the frame times show what
+ * emulation saves, and equal checksums show that it renders the same image.
+ *
+ * Single-file source program: run with {@code java -cp <classpath> DisplayListBenchmark.java [glyphs] [frames]}.
+ */
+public class DisplayListBenchmark {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+    private static final int ATLAS_COLUMNS = 16;
+    private static final int GLYPHS = ATLAS_COLUMNS * ATLAS_COLUMNS;
+    private static final int GLYPH_SIZE = 8;
+    private static final int LINE_LENGTH = WIDTH / GLYPH_SIZE - 1;
+
+    private static String renderer;
+
+    public static void main(String[] args) throws Exception {
+        int glyphs = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 300;
+
+        Display.setDisplayMode(new DisplayMode(WIDTH, HEIGHT));
+        Display.create();
+        // render-bound, rather than display-bound
+        Display.setVSyncEnabled(false);
+        int base = setUp();
+
+        long start = 0;
+        for (int frame = -10; frame < frames; ++frame) {
+            if (frame == 0) {
+                // discard warm-up frames
+                GL11.glFinish();
+                start = System.nanoTime();
+            }
+            drawFrame(base, glyphs);
+            Display.swapBuffers();
+            Display.processMessages();
+        }
+        GL11.glFinish();
+        long elapsed = System.nanoTime() - start;
+
+        drawFrame(base, glyphs);
+        ByteBuffer pixels = BufferUtils.createByteBuffer(WIDTH * HEIGHT * 4);
+        GL11.glReadPixels(0, 0, WIDTH, HEIGHT, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, pixels);
+        CRC32 checksum = new CRC32();
+        checksum.update(pixels);
+        Display.destroy();
+
+        System.out.printf("emulation %s, renderer %s%n", DisplayListEmulation.ENABLED ? "on" : "off", renderer);
+        System.out.printf("%d glyphs: %.3f ms per frame over %d frames%n", glyphs, elapsed / 1e6 / frames, frames);
+        System.out.printf("last frame checksum: %08x%n", checksum.getValue());
+    }
+
+    /**
+     * @return the first list, of glyph 0
+     */
+    private static int setUp() {
+        renderer = GL11.glGetString(GL11.GL_RENDERER);
+        GL11.glMatrixMode(GL11.GL_PROJECTION);
+        GL11.glLoadIdentity();
+        GL11.glOrtho(0, WIDTH, HEIGHT, 0, -1, 1);
+        GL11.glMatrixMode(GL11.GL_MODELVIEW);
+        GL11.glLoadIdentity();
+
+        // a noisy atlas, to make texture coordinates matter for the checksum
+        int size = ATLAS_COLUMNS * GLYPH_SIZE;
+        ByteBuffer texels = BufferUtils.createByteBuffer(size * size * 4);
+        for (int y = 0; y < size; ++y) {
+            for (int x = 0; x < size; ++x) {
+                byte value = (byte) ((x * 31 + y * 17) % 3 == 0 ? 0xFF : 0x00);
+                texels.put((byte) 0xFF).put((byte) 0xFF).put((byte) 0xFF).put(value);
+            }
+        }
+        texels.flip();
+        int texture = GL11.glGenTextures();
+        GL11.glBindTexture(GL11.GL_TEXTURE_2D, texture);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_NEAREST);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_NEAREST);
+        GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, size, size, 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, texels);
+        GL11.glEnable(GL11.GL_TEXTURE_2D);
+        GL11.glEnable(GL11.GL_BLEND);
+        GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+
+        // each glyph draws its quad, and advances to the next one
+        int base = GL11.glGenLists(GLYPHS);
+        float step = 1F / ATLAS_COLUMNS;
+        for (int glyph = 0; glyph < GLYPHS; ++glyph) {
+            float s = (glyph % ATLAS_COLUMNS) * step;
+            float t = (glyph / ATLAS_COLUMNS) * step;
+            GL11.glNewList(base + glyph, GL11.GL_COMPILE);
+            GL11.glBegin(GL11.GL_QUADS);
+            GL11.glTexCoord2f(s, t);
+            GL11.glVertex2f(0, 0);
+            GL11.glTexCoord2f(s + step, t);
+            GL11.glVertex2f(GLYPH_SIZE, 0);
+            GL11.glTexCoord2f(s + step, t + step);
+            GL11.glVertex2f(GLYPH_SIZE, GLYPH_SIZE);
+            GL11.glTexCoord2f(s, t + step);
+            GL11.glVertex2f(0, GLYPH_SIZE);
+            GL11.glEnd();
+            GL11.glTranslatef(GLYPH_SIZE, 0, 0);
+            GL11.glEndList();
+        }
+        return base;
+    }
+
+    private static void drawFrame(int base, int glyphs) {
+        GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+        int lines = (glyphs + LINE_LENGTH - 1) / LINE_LENGTH;
+        for (int line = 0; line < lines; ++line) {
+            // deterministic, so that every run draws the same frame
+            GL11.glColor4f((line % 7) / 6F, (line % 5) / 4F, (line % 3) / 2F, 1F);
+            GL11.glPushMatrix();
+            GL11.glTranslatef(0, (line * GLYPH_SIZE) % (HEIGHT - GLYPH_SIZE), 0);
+            for (int i = line * LINE_LENGTH; i < Math.min(glyphs, (line + 1) * LINE_LENGTH); ++i) {
+                GL11.glCallList(base + (i * 7) % GLYPHS);
+            }
+            GL11.glPopMatrix();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+import lwjglalti.gl.ImmediateModeBatcher;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.Display;
+import org.lwjgl.opengl.DisplayMode;
+import org.lwjgl.opengl.GL11;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * Draws frames of textured, tinted quads in immediate mode, the way Altitude draws its sprites, and reports the mean
+ * frame time, the immediate-mode calls the batcher kept from the driver, and a checksum of the last frame. Run it once
+ * with, and once without, {@code immediate_batching=true} in the properties of the installation: the frame times show
+ * what batching saves, and equal checksums show that it renders the same image.
+ *
+ * Single-file source program: run with {@code java -cp <classpath> ImmediateModeBenchmark.java [sprites] [frames]}.
+ */
+public class ImmediateModeBenchmark {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+    // glColor4f, glBegin, 4 * (glTexCoord2f, glVertex2f), glEnd
+    private static final int CALLS_PER_SPRITE = 11;
+
+    private static String renderer;
+
+    public static void main(String[] args) throws Exception {
+        int sprites = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 300;
+
+        Display.setDisplayMode(new DisplayMode(WIDTH, HEIGHT));
+        Display.create();
+        // render-bound, rather than display-bound
+        Display.setVSyncEnabled(false);
+        setUp();
+
+        long capturedCalls = 0;
+        long draws = 0;
+        long start = 0;
+        for (int frame = -10; frame < frames; ++frame) {
+            if (frame == 0) {
+                // discard warm-up frames
+                GL11.glFinish();
+                start = System.nanoTime();
+                capturedCalls = 0;
+                draws = 0;
+            }
+            drawFrame(sprites);
+            Display.swapBuffers();
+            Display.processMessages();
+            capturedCalls += ImmediateModeBatcher.lastFrameCapturedCalls();
+            draws += ImmediateModeBatcher.lastFrameDraws();
+        }
+        GL11.glFinish();
+        long elapsed = System.nanoTime() - start;
+
+        drawFrame(sprites);
+        ByteBuffer pixels = BufferUtils.createByteBuffer(WIDTH * HEIGHT * 4);
+        GL11.glReadPixels(0, 0, WIDTH, HEIGHT, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, pixels);
+        CRC32 checksum = new CRC32();
+        checksum.update(pixels);
+        Display.destroy();
+
+        System.out.printf("batching %s, renderer %s%n", ImmediateModeBatcher.ENABLED ? "on" : "off", renderer);
+        System.out.printf("%d sprites: %.3f ms per frame over %d frames%n", sprites, elapsed / 1e6 / frames, frames);
+        System.out.printf(
+                "immediate-mode calls per frame: %d made, %d kept from the driver, in %d batched draws%n",
+                (long) sprites * CALLS_PER_SPRITE,
+                capturedCalls / frames,
+                draws / frames
+        );
+        System.out.printf("last frame checksum: %08x%n", checksum.getValue());
+    }
+
+    private static void setUp() {
+        renderer = GL11.glGetString(GL11.GL_RENDERER);
+        GL11.glMatrixMode(GL11.GL_PROJECTION);
+        GL11.glLoadIdentity();
+        GL11.glOrtho(0, WIDTH, HEIGHT, 0, -1, 1);
+        GL11.glMatrixMode(GL11.GL_MODELVIEW);
+        GL11.glLoadIdentity();
+
+        // a checkerboard, to make texture coordinates matter for the checksum
+        int size = 16;
+        ByteBuffer texels = BufferUtils.createByteBuffer(size * size * 4);
+        for (int y = 0; y < size; ++y) {
+            for (int x = 0; x < size; ++x) {
+                byte value = (byte) (((x / 4 + y / 4) % 2 == 0) ? 0xFF : 0x40);
+                texels.put(value).put(value).put(value).put((byte) 0xFF);
+            }
+        }
+        texels.flip();
+        int texture = GL11.glGenTextures();
+        GL11.glBindTexture(GL11.GL_TEXTURE_2D, texture);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_NEAREST);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_NEAREST);
+        GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, size, size, 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, texels);
+        GL11.glEnable(GL11.GL_TEXTURE_2D);
+        GL11.glEnable(GL11.GL_BLEND);
+        GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    private static void drawFrame(int sprites) {
+        GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+        for (int i = 0; i < sprites; ++i) {
+            // deterministic, so that every run draws the same frame
+            float x = (i * 37) % (WIDTH - 16);
+            float y = (i * 53) % (HEIGHT - 16);
+            GL11.glColor4f((i % 7) / 6F, (i % 5) / 4F, (i % 3) / 2F, 0.75F);
+            GL11.glBegin(GL11.GL_QUADS);
+            GL11.glTexCoord2f(0, 0);
+            GL11.glVertex2f(x, y);
+            GL11.glTexCoord2f(1, 0);
+            GL11.glVertex2f(x + 16, y);
+            GL11.glTexCoord2f(1, 1);
+            GL11.glVertex2f(x + 16, y + 16);
+            GL11.glTexCoord2f(0, 1);
+            GL11.glVertex2f(x, y + 16);
+            GL11.glEnd();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+import lwjglalti.render.NullBackend;
+import org.lwjgl.input.Keyboard;
+import org.lwjgl.input.Mouse;
+import org.lwjgl.opengl.Display;
+import org.lwjgl.opengl.DisplayMode;
+import org.lwjgl.opengl.GL11;
+
+import static org.lwjgl.glfw.GLFW.GLFW_KEY_W;
+import static org.lwjgl.glfw.GLFW.GLFW_PRESS;
+import static org.lwjgl.glfw.GLFW.GLFW_RELEASE;
+
+/**
+ * Runs frames of sprites and input through the shim on the null backend, and reports their CPU cost, on machines
+ * without a GPU or display. Fails if a call would have been rejected by a driver, or if input was lost.
+ *
+ * Single-file source program: run with
+ * {@code java -Dlwjglalti.null_backend=true -cp <classpath> NullBackendBenchmark.java [sprites] [frames]}.
+ */
+public class NullBackendBenchmark {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+
+    public static void main(String[] args) throws Exception {
+        if (!NullBackend.ENABLED) {
+            throw new IllegalStateException("run with -Dlwjglalti.null_backend=true");
+        }
+        int sprites = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 300;
+
+        Display.setDisplayMode(new DisplayMode(WIDTH, HEIGHT));
+        Display.create();
+        Display.setVSyncEnabled(false);
+        setUp();
+
+        long events = 0;
+        long start = 0;
+        long startCalls = 0;
+        for (int frame = -10; frame < frames; ++frame) {
+            if (frame == 0) {
+                // discard warm-up frames
+                start = System.nanoTime();
+                startCalls = NullBackend.calls();
+                events = 0;
+            }
+            events += input(frame);
+            drawFrame(sprites);
+            Display.swapBuffers();
+            Display.processMessages();
+        }
+        long elapsed = System.nanoTime() - start;
+        long calls = NullBackend.calls() - startCalls;
+        long invalidCalls = NullBackend.invalidCalls();
+        Display.destroy();
+
+        System.out.printf("%d sprites: %.3f ms per frame over %d frames%n", sprites, elapsed / 1e6 / frames, frames);
+        System.out.printf("%d GL calls per frame reached the backend%n", calls / frames);
+        if (invalidCalls != 0) {
+            throw new IllegalStateException(invalidCalls + " calls would have been rejected by a driver");
+        }
+        // a key press and release, and a cursor move, per frame
+        if (events != 3L * frames) {
+            throw new IllegalStateException(events + " input events drained, of " + 3L * frames);
+        }
+    }
+
+    private static void setUp() {
+        GL11.glMatrixMode(GL11.GL_PROJECTION);
+        GL11.glLoadIdentity();
+        GL11.glOrtho(0, WIDTH, HEIGHT, 0, -1, 1);
+        GL11.glMatrixMode(GL11.GL_MODELVIEW);
+        GL11.glLoadIdentity();
+        int texture = GL11.glGenTextures();
+        GL11.glBindTexture(GL11.GL_TEXTURE_2D, texture);
+        GL11.glEnable(GL11.GL_TEXTURE_2D);
+        GL11.glEnable(GL11.GL_BLEND);
+        GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    /**
+     * Deliver input as GLFW would, and drain it as Altitude does
+     *
+     * @return the events drained
+     */
+    private static int input(int frame) {
+        Keyboard.registerGlfwKeyEvent(GLFW_KEY_W, GLFW_PRESS, 0);
+        Keyboard.registerGlfwKeyEvent(GLFW_KEY_W, GLFW_RELEASE, 0);
+        Mouse.registerGlfwCursorPositionEvent(frame % WIDTH, frame % HEIGHT);
+        int events = 0;
+        while (Keyboard.next()) {
+            ++events;
+        }
+        while (Mouse.next()) {
+            ++events;
+        }
+        return events;
+    }
+
+    private static void drawFrame(int sprites) {
+        GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+        for (int i = 0; i < sprites; ++i) {
+            float x = (i * 37) % (WIDTH - 16);
+            float y = (i * 53) % (HEIGHT - 16);
+            GL11.glColor4f((i % 7) / 6F, (i % 5) / 4F, (i % 3) / 2F, 0.75F);
+            GL11.glBegin(GL11.GL_QUADS);
+            GL11.glTexCoord2f(0, 0);
+            GL11.glVertex2f(x, y);
+            GL11.glTexCoord2f(1, 0);
+            GL11.glVertex2f(x + 16, y);
+            GL11.glTexCoord2f(1, 1);
+            GL11.glVertex2f(x + 16, y + 16);
+            GL11.glTexCoord2f(0, 1);
+            GL11.glVertex2f(x, y + 16);
+            GL11.glEnd();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+import lwjglalti.gl.GlTraceReader;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.ARBShaderObjects;
+import org.lwjgl.opengl.Display;
+import org.lwjgl.opengl.DisplayMode;
+import org.lwjgl.opengl.GL11;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Replays a trace recorded with {@code gl_trace=true}, and reports the mean frame time. The calls go through the
+ * adapters, as the calls of Altitude did, so that the properties of the installation apply to the replay as they did
+ * to the game: replay the same trace with, and without, an optimization to measure it, on the same renderer.
+ * <p>
+ * With backend {@code gl}, the trace is replayed in a window of its size, and a checksum of the last frame is
+ * reported: equal checksums show that two runs rendered the same image. With backend {@code null}, no context is
+ * created, and the calls are only counted, per method: the frame times are those of reading the trace, the floor of
+ * any replay. Calls that passed client memory by pointer are skipped in either backend, and counted.
+ *
+ * Single-file source program: run with {@code java -cp <classpath> TraceReplay.java <trace> [gl|null]}.
+ */
+public class TraceReplay {
+
+    private static final int REPORT_SIZE = 20;
+
+    private static final Map<String, MethodHandle> methods = new HashMap<>();
+
+    public static void main(String[] args) throws Throwable {
+        Path file = Path.of(args[0]);
+        boolean replaying = args.length <= 1 || args[1].equals("gl");
+
+        Map<String, Long> counts = new HashMap<>();
+        long calls = 0;
+        long skipped = 0;
+        int frames = 0;
+        long checksum = 0;
+        boolean swapPending = false;
+        long start = System.nanoTime();
+        try (GlTraceReader reader = new GlTraceReader(file)) {
+            byte tag;
+            while ((tag = reader.next()) != GlTraceReader.END) {
+                if (swapPending && replaying) {
+                    // the swap waits for the next record, so that the last frame can be read before it
+                    Display.swapBuffers();
+                    Display.processMessages();
+                }
+                swapPending = false;
+                switch (tag) {
+                    case GlTraceReader.CONTEXT -> {
+                        if (replaying) {
+                            Display.setDisplayMode(new DisplayMode(reader.width(), reader.height()));
+                            Display.create();
+                            // render-bound, rather than display-bound
+                            Display.setVSyncEnabled(false);
+                            System.out.printf("renderer %s%n", GL11.glGetString(GL11.GL_RENDERER));
+                        }
+                        start = System.nanoTime();
+                    }
+                    case GlTraceReader.CALL -> {
+                        if (!reader.replayable()) {
+                            ++skipped;
+                            continue;
+                        }
+                        ++calls;
+                        if (replaying) {
+                            method(reader.signature()).invokeWithArguments(reader.arguments());
+                        } else {
+                            counts.merge(GlTraceReader.name(reader.signature()), 1L, Long::sum);
+                        }
+                    }
+                    case GlTraceReader.FRAME -> {
+                        ++frames;
+                        swapPending = true;
+                    }
+                    default -> throw new IllegalStateException("Unexpected tag " + tag);
+                }
+            }
+            if (replaying) {
+                GL11.glFinish();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (replaying) {
+                checksum = lastFrameChecksum();
+                Display.destroy();
+            }
+            System.out.printf("backend %s, trace %s%n", replaying ? "gl" : "null", file.getFileName());
+            System.out.printf(
+                    "%d calls (%d skipped): %.3f ms per frame over %d frames%n",
+                    calls, skipped, elapsed / 1e6 / Math.max(frames, 1), frames
+            );
+        }
+        if (replaying) {
+            System.out.printf("last frame checksum: %08x%n", checksum);
+        } else {
+            System.out.printf("most called, of %d methods:%n", counts.size());
+            Map<Long, String> ranked = new TreeMap<>();
+            counts.forEach((name, count) -> ranked.merge(-count, name, (a, b) -> a + ", " + b));
+            ranked.entrySet().stream()
+                    .limit(REPORT_SIZE)
+                    .forEach(entry -> System.out.printf("%12d %s%n", -entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /**
+     * The adapter method of a signature
+     */
+    private static MethodHandle method(String signature) throws ReflectiveOperationException {
+        MethodHandle method = methods.get(signature);
+        if (method == null) {
+            String name = GlTraceReader.name(signature);
+            Class<?>[] parameterTypes = GlTraceReader.parameterTypes(signature);
+            Class<?> owner = name.endsWith("ARB") ? ARBShaderObjects.class : GL11.class;
+            method = MethodHandles.publicLookup().unreflect(owner.getMethod(name, parameterTypes));
+            methods.put(signature, method);
+        }
+        return method;
+    }
+
+    private static long lastFrameChecksum() {
+        int width = Display.getDisplayMode().getWidth();
+        int height = Display.getDisplayMode().getHeight();
+        ByteBuffer pixels = BufferUtils.createByteBuffer(width * height * 4);
+        GL11.glReadPixels(0, 0, width, height, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, pixels);
+        CRC32 checksum = new CRC32();
+        checksum.update(pixels);
+        return checksum.getValue();
+    }
+}
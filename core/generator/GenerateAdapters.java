@@ -0,0 +1,547 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates the adapters {@code GL11} and {@code ARBShaderObjects}, with {@code GlEntryPoint} and {@code QueuedCalls},
+ * from the templates of core/generator/template. A template class is the class of LWJGL3, with its natives written
+ * out as calls of the driver, and the LWJGL2 methods that Altitude still calls; its hooks file holds the calls of the
+ * shim around the body of each method. Every method of the template is then generated the same way: queued to the
+ * render thread, or run on it, counted by the call profiler, traced, and hooked.
+ * <p>
+ * A hooks file is a sequence of entries: the signatures of the methods that share a hook, as traced, such as
+ * {@code glColor3f(FFF)}, on lines of their own, and the hook, indented by four spaces. In the hook,
+ * {@code ${body}} stands for the body of the template, and {@code <declaration> = ${body}} for the body with its value
+ * assigned rather than returned; a hook without either replaces the body. A method that calls the driver without a
+ * hook gets {@code OpaqueCalls.before()}, and every method that calls a driver function must be hooked if any other
+ * is. Lines starting with {@code @} direct the render thread:
+ * <ul>
+ * <li>{@code @synchronous <names>}: run these methods on the render thread and wait, as they pass client memory that
+ * the driver reads later, or wait for the driver anyway</li>
+ * <li>{@code @queued <signatures>}: queue these methods, though their buffers lack the {@code const} type that marks
+ * buffers the driver only reads</li>
+ * <li>{@code @queue <signature>}, followed by indented lines: queue this method with these lines, as a call of
+ * another overload</li>
+ * </ul>
+ * Any other method that returns a value, or passes a pointer or a buffer that the driver may write, is run on the
+ * render thread; the others are queued, and replayed by {@code QueuedCalls} through one overload per entry point.
+ *
+ * Single-file source program: run with {@code java core/generator/GenerateAdapters.java [--check]} from the root of
+ * the repository. With {@code --check}, nothing is written, and the program fails if a generated file differs.
+ */
+public class GenerateAdapters {
+
+    private static final Path TEMPLATES = Path.of("core", "generator", "template");
+    private static final Path SOURCES = Path.of("core", "glfw", "src", "main", "java");
+    private static final Path OPENGL = SOURCES.resolve(Path.of("org", "lwjgl", "opengl"));
+    private static final Path SHIM = SOURCES.resolve(Path.of("lwjglalti", "gl"));
+    private static final List<String> ADAPTERS = List.of("GL11", "ARBShaderObjects");
+
+    private static final int LINE_LENGTH = 120;
+
+    private static final Pattern HEADER = Pattern.compile("^    public static ([\\w\\[\\]]+) (\\w+)\\((.*)\\) \\{$");
+    private static final Pattern PARAMETER = Pattern.compile(
+            "(?:@NativeType\\(\"([^\"]*)\"\\) )?([\\w.]+(?: ?\\[])?(?:\\.\\.\\.)?) (\\w+)(?:, |$)"
+    );
+    private static final Pattern DRIVER = Pattern.compile("GL\\.getICD\\(\\)\\.(\\w+)|\\bGL\\d+C\\.(\\w+)\\(");
+    private static final Pattern ASSIGNED_BODY = Pattern.compile("^(\\s*)(.+) = \\$\\{body}$");
+    private static final Pattern RETURN = Pattern.compile("^\\s*return (.*);$");
+
+    private static final Map<String, String> CODES = Map.ofEntries(
+            Map.entry("int", "I"),
+            Map.entry("float", "F"),
+            Map.entry("double", "D"),
+            Map.entry("short", "S"),
+            Map.entry("byte", "B"),
+            Map.entry("boolean", "Z"),
+            Map.entry("long", "P"),
+            Map.entry("ByteBuffer", "b"),
+            Map.entry("ShortBuffer", "s"),
+            Map.entry("IntBuffer", "i"),
+            Map.entry("FloatBuffer", "f"),
+            Map.entry("DoubleBuffer", "d"),
+            Map.entry("PointerBuffer", "q"),
+            Map.entry("CharSequence", "C"),
+            Map.entry("CharSequence...", "c"),
+            Map.entry("short[]", "[S"),
+            Map.entry("int[]", "[I"),
+            Map.entry("float[]", "[F"),
+            Map.entry("double[]", "[D")
+    );
+    // FIELD GROUP: how queued primitives are put into, and read from, a chunk
+    private static final Map<String, String> BYTES = Map.of(
+            "int", "Integer.BYTES",
+            "float", "Float.BYTES",
+            "double", "Double.BYTES",
+            "short", "Short.BYTES",
+            "byte", "Byte.BYTES",
+            "boolean", "Byte.BYTES"
+    );
+    private static final Map<String, String> PUTS = Map.of(
+            "int", ".putInt(%s)",
+            "float", ".putFloat(%s)",
+            "double", ".putDouble(%s)",
+            "short", ".putShort(%s)",
+            "byte", ".put(%s)",
+            "boolean", ".put((byte) (%s ? 1 : 0))"
+    );
+    private static final Map<String, String> GETS = Map.ofEntries(
+            Map.entry("int", "chunk.getInt()"),
+            Map.entry("float", "chunk.getFloat()"),
+            Map.entry("double", "chunk.getDouble()"),
+            Map.entry("short", "chunk.getShort()"),
+            Map.entry("byte", "chunk.get()"),
+            Map.entry("boolean", "chunk.get() != 0"),
+            Map.entry("ByteBuffer", "bytes(chunk)"),
+            Map.entry("ShortBuffer", "shorts(chunk)"),
+            Map.entry("IntBuffer", "ints(chunk)"),
+            Map.entry("FloatBuffer", "floats(chunk)"),
+            Map.entry("DoubleBuffer", "doubles(chunk)")
+    );
+    private static final Set<String> QUEUED_ONLY_IF_CONST = Set.of(
+            "ByteBuffer", "ShortBuffer", "IntBuffer", "FloatBuffer", "DoubleBuffer",
+            "short[]", "int[]", "float[]", "double[]"
+    );
+
+    private record Parameter(String type, String name, String nativeType) {
+
+        boolean primitive() {
+            return BYTES.containsKey(type);
+        }
+    }
+
+    private record Method(String adapter, String header, String returnType, String name, List<Parameter> parameters,
+                          List<String> body) {
+
+        String signature() {
+            StringBuilder signature = new StringBuilder(name).append('(');
+            for (Parameter parameter : parameters) {
+                String code = CODES.get(parameter.type);
+                if (code == null) {
+                    throw new IllegalStateException("No trace code for " + parameter.type + " of " + name);
+                }
+                signature.append(code);
+            }
+            return signature.append(')').toString();
+        }
+
+        String arguments() {
+            return String.join(", ", parameters.stream().map(Parameter::name).toList());
+        }
+
+        Set<String> driverFunctions() {
+            Set<String> functions = new LinkedHashSet<>();
+            for (String line : body) {
+                Matcher matcher = DRIVER.matcher(line);
+                while (matcher.find()) {
+                    functions.add(matcher.group(1) != null ? matcher.group(1) : matcher.group(2));
+                }
+            }
+            return functions;
+        }
+    }
+
+    private static final class Hooks {
+
+        private final Map<String, List<String>> hooks = new HashMap<>();
+        private final Map<String, List<String>> queues = new HashMap<>();
+        private final Set<String> synchronous = new LinkedHashSet<>();
+        private final Set<String> queued = new LinkedHashSet<>();
+        private final Set<String> unused = new LinkedHashSet<>();
+    }
+
+    private enum Dispatch { GET, RUN, QUEUE, CUSTOM_QUEUE }
+
+    public static void main(String[] args) throws IOException {
+        boolean checking = args.length > 0 && args[0].equals("--check");
+
+        Map<Path, String> files = new LinkedHashMap<>();
+        List<Method> methods = new ArrayList<>();
+        Map<String, Dispatch> dispatches = new HashMap<>();
+        for (String adapter : ADAPTERS) {
+            List<String> template = List.of(Files.readString(TEMPLATES.resolve(adapter + ".java")).split("\n", -1));
+            Hooks hooks = readHooks(TEMPLATES.resolve(adapter + ".hooks"));
+            String generated = generateAdapter(adapter, template, hooks, methods, dispatches);
+            files.put(OPENGL.resolve(adapter + ".java"), generated);
+            if (!hooks.unused.isEmpty()) {
+                throw new IllegalStateException(adapter + ".hooks names no method of the template: " + hooks.unused);
+            }
+        }
+        Map<String, List<Method>> entryPoints = new LinkedHashMap<>();
+        for (Method method : methods) {
+            entryPoints.computeIfAbsent(entryPoint(method.name), name -> new ArrayList<>()).add(method);
+        }
+        files.put(SHIM.resolve("GlEntryPoint.java"), generateEntryPoints(entryPoints));
+        files.put(SHIM.resolve("QueuedCalls.java"), generateQueuedCalls(entryPoints, dispatches));
+
+        List<Path> stale = new ArrayList<>();
+        for (Map.Entry<Path, String> file : files.entrySet()) {
+            if (Files.exists(file.getKey()) && Files.readString(file.getKey()).equals(file.getValue())) {
+                continue;
+            }
+            stale.add(file.getKey());
+            if (!checking) {
+                Files.writeString(file.getKey(), file.getValue());
+            }
+        }
+        if (checking && !stale.isEmpty()) {
+            throw new IllegalStateException("Not generated from the templates, run GenerateAdapters.java: " + stale);
+        }
+        System.out.println(checking ? "Up to date" : "Generated " + stale);
+    }
+
+    // TEMPLATES
+
+    private static Hooks readHooks(Path file) throws IOException {
+        Hooks hooks = new Hooks();
+        List<String> lines = Files.readAllLines(file);
+        int i = 0;
+        while (i < lines.size()) {
+            String line = lines.get(i++);
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith(" ")) {
+                throw new IllegalStateException(file + ":" + i + ": a hook without signatures");
+            }
+            // signatures continue on the lines up to the hook
+            while (i < lines.size() && !lines.get(i).isBlank() && !lines.get(i).startsWith(" ")
+                    && !lines.get(i).startsWith("#") && !lines.get(i).startsWith("@")) {
+                line += " " + lines.get(i++);
+            }
+            List<String> hook = new ArrayList<>();
+            while (i < lines.size() && (lines.get(i).isEmpty() || lines.get(i).startsWith("    "))) {
+                hook.add(lines.get(i++));
+            }
+            while (!hook.isEmpty() && hook.get(hook.size() - 1).isEmpty()) {
+                hook.remove(hook.size() - 1);
+            }
+            String[] words = line.trim().split("\\s+");
+            switch (words[0]) {
+                case "@synchronous" -> hooks.synchronous.addAll(List.of(words).subList(1, words.length));
+                case "@queued" -> hooks.queued.addAll(List.of(words).subList(1, words.length));
+                case "@queue" -> hooks.queues.put(words[1], hook);
+                default -> {
+                    for (String signature : words) {
+                        if (hooks.hooks.put(signature, hook) != null) {
+                            throw new IllegalStateException(file + ": " + signature + " is hooked twice");
+                        }
+                    }
+                }
+            }
+        }
+        hooks.unused.addAll(hooks.hooks.keySet());
+        hooks.unused.addAll(hooks.queues.keySet());
+        hooks.unused.addAll(hooks.synchronous);
+        hooks.unused.addAll(hooks.queued);
+        return hooks;
+    }
+
+    private static String generateAdapter(String adapter, List<String> template, Hooks hooks, List<Method> methods,
+                                          Map<String, Dispatch> dispatches) {
+        List<Method> adapterMethods = new ArrayList<>();
+        List<Object> parts = new ArrayList<>();
+        for (int i = 0; i < template.size(); ++i) {
+            String line = template.get(i);
+            if (line.equals(" * ${generated}")) {
+                parts.add(" * MACHINE GENERATED FILE, DO NOT EDIT");
+                parts.add(" * Generated by core/generator/GenerateAdapters.java from the template of " + adapter);
+                continue;
+            }
+            Matcher header = HEADER.matcher(line);
+            if (!header.matches()) {
+                parts.add(line);
+                continue;
+            }
+            List<String> body = new ArrayList<>();
+            while (!template.get(++i).equals("    }")) {
+                body.add(template.get(i));
+            }
+            List<Parameter> parameters = parameters(header.group(3));
+            Method method = new Method(adapter, line, header.group(1), header.group(2), parameters, body);
+            adapterMethods.add(method);
+            parts.add(method);
+        }
+        checkHooked(adapter, adapterMethods, hooks);
+
+        List<String> lines = new ArrayList<>();
+        for (Object part : parts) {
+            if (part instanceof Method method) {
+                methods.add(method);
+                generateMethod(method, hooks, dispatches, lines);
+            } else {
+                lines.add((String) part);
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    private static List<Parameter> parameters(String declaration) {
+        List<Parameter> parameters = new ArrayList<>();
+        Matcher matcher = PARAMETER.matcher(declaration);
+        int end = 0;
+        while (matcher.find() && matcher.start() == end) {
+            parameters.add(new Parameter(matcher.group(2).replace(" ", ""), matcher.group(3), matcher.group(1)));
+            end = matcher.end();
+        }
+        if (end != declaration.length()) {
+            throw new IllegalStateException("Unexpected parameters: " + declaration);
+        }
+        return parameters;
+    }
+
+    /**
+     * Fail if some methods that call a driver function are hooked and others are not, as a layer would then miss the
+     * calls through the others
+     */
+    private static void checkHooked(String adapter, List<Method> methods, Hooks hooks) {
+        Map<String, List<String>> hooked = new TreeMap<>();
+        Map<String, List<String>> unhooked = new TreeMap<>();
+        for (Method method : methods) {
+            String signature = method.signature();
+            for (String function : method.driverFunctions()) {
+                (hooks.hooks.containsKey(signature) ? hooked : unhooked)
+                        .computeIfAbsent(function, f -> new ArrayList<>())
+                        .add(signature);
+            }
+        }
+        List<String> errors = new ArrayList<>();
+        for (Map.Entry<String, List<String>> function : hooked.entrySet()) {
+            List<String> missing = unhooked.get(function.getKey());
+            if (missing != null) {
+                errors.add(function.getValue() + " hook " + function.getKey() + ", but not " + missing);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException(adapter + ": " + String.join("; ", errors));
+        }
+    }
+
+    // ADAPTERS
+
+    private static void generateMethod(Method method, Hooks hooks, Map<String, Dispatch> dispatches,
+                                       List<String> lines) {
+        String signature = method.signature();
+        String entryPoint = entryPoint(method.name);
+        Dispatch dispatch = dispatch(method, hooks);
+        dispatches.put(method.adapter + " " + signature, dispatch);
+        hooks.unused.remove(signature);
+        hooks.unused.remove(method.name);
+
+        lines.add(method.header);
+        lines.add("        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {");
+        String call = method.name + "(" + method.arguments() + ")";
+        switch (dispatch) {
+            case GET -> lines.add("            return RenderThread.get(() -> " + call + ");");
+            case RUN -> {
+                lines.add("            RenderThread.run(() -> " + call + ");");
+                lines.add("            return;");
+            }
+            case QUEUE -> {
+                queue(method, entryPoint, lines);
+                lines.add("            return;");
+            }
+            case CUSTOM_QUEUE -> {
+                indent(hooks.queues.get(signature), 8, lines);
+                lines.add("            return;");
+            }
+        }
+        lines.add("        }");
+        lines.add("        long __start = CallProfiler.enter(GlEntryPoint." + entryPoint + ");");
+        lines.add("        try {");
+        lines.add("            if (GlTrace.ENABLED) {");
+        lines.add("                GlTrace.call(\"" + signature + "\"" + (method.parameters.isEmpty() ? "" : ", ")
+                + method.arguments() + ");");
+        lines.add("            }");
+        hook(method, hooks.hooks.get(signature), lines);
+        lines.add("        } finally {");
+        lines.add("            CallProfiler.exit(__start);");
+        lines.add("        }");
+        lines.add("    }");
+    }
+
+    private static Dispatch dispatch(Method method, Hooks hooks) {
+        String signature = method.signature();
+        if (!method.returnType.equals("void")) {
+            return Dispatch.GET;
+        }
+        if (hooks.queues.containsKey(signature)) {
+            return Dispatch.CUSTOM_QUEUE;
+        }
+        if (hooks.synchronous.contains(method.name)) {
+            return Dispatch.RUN;
+        }
+        if (hooks.queued.contains(signature)) {
+            return Dispatch.QUEUE;
+        }
+        for (Parameter parameter : method.parameters) {
+            boolean writable = QUEUED_ONLY_IF_CONST.contains(parameter.type)
+                    && (parameter.nativeType == null || !parameter.nativeType.contains("const"));
+            if (parameter.type.equals("long") || parameter.type.equals("PointerBuffer") || writable) {
+                return Dispatch.RUN;
+            }
+        }
+        return Dispatch.QUEUE;
+    }
+
+    private static void queue(Method method, String entryPoint, List<String> lines) {
+        Map<String, Integer> primitives = new LinkedHashMap<>();
+        List<String> terms = new ArrayList<>();
+        for (Parameter parameter : method.parameters) {
+            if (parameter.primitive()) {
+                primitives.merge(BYTES.get(parameter.type), 1, Integer::sum);
+            } else {
+                terms.add("RenderThread.bytes(" + parameter.name + ")");
+            }
+        }
+        List<String> size = new ArrayList<>();
+        primitives.forEach((bytes, count) -> size.add(count == 1 ? bytes : count + " * " + bytes));
+        size.addAll(terms);
+        String queue = "RenderThread.queue(GlEntryPoint." + entryPoint + ", "
+                + (size.isEmpty() ? "0" : String.join(" + ", size)) + ")";
+
+        if (terms.isEmpty()) {
+            StringBuilder line = new StringBuilder("            ").append(queue);
+            method.parameters.forEach(parameter -> line.append(PUTS.get(parameter.type).formatted(parameter.name)));
+            lines.add(line.append(';').toString());
+            return;
+        }
+        lines.add("            ByteBuffer __command = " + queue + ";");
+        StringBuilder puts = new StringBuilder();
+        for (Parameter parameter : method.parameters) {
+            if (parameter.primitive()) {
+                puts.append(PUTS.get(parameter.type).formatted(parameter.name));
+                continue;
+            }
+            if (!puts.isEmpty()) {
+                lines.add("            __command" + puts + ";");
+                puts.setLength(0);
+            }
+            lines.add("            RenderThread.put(__command, " + parameter.name + ");");
+        }
+        if (!puts.isEmpty()) {
+            lines.add("            __command" + puts + ";");
+        }
+    }
+
+    /**
+     * The body of the method in its hook, or with the default hook, indented into the try block
+     */
+    private static void hook(Method method, List<String> hook, List<String> lines) {
+        if (hook == null) {
+            if (!method.driverFunctions().isEmpty()) {
+                lines.add("            OpaqueCalls.before();");
+            }
+            indent(method.body, 4, lines);
+            return;
+        }
+        for (String line : hook) {
+            String indentation = " ".repeat(line.length() - line.stripLeading().length() - 4);
+            Matcher assigned = ASSIGNED_BODY.matcher(line);
+            if (line.strip().equals("${body}")) {
+                indent(method.body, 4 + indentation.length(), lines);
+            } else if (assigned.matches()) {
+                List<String> body = method.body;
+                Matcher returned = RETURN.matcher(body.get(body.size() - 1));
+                if (!returned.matches()) {
+                    throw new IllegalStateException(method.signature() + " assigns a body that does not return");
+                }
+                indent(body.subList(0, body.size() - 1), 4 + indentation.length(), lines);
+                lines.add("        " + assigned.group(1) + assigned.group(2) + " = " + returned.group(1) + ";");
+            } else {
+                lines.add(line.isEmpty() ? line : "        " + line);
+            }
+        }
+    }
+
+    private static void indent(List<String> body, int indentation, List<String> lines) {
+        String prefix = " ".repeat(indentation);
+        for (String line : body) {
+            lines.add(line.isEmpty() ? line : prefix + line);
+        }
+    }
+
+    // ENTRY POINTS
+
+    /**
+     * The constant of the entry point of a method name, such as GL_TEX_IMAGE2_D for glTexImage2D
+     */
+    private static String entryPoint(String name) {
+        return name.replaceAll("([a-z0-9])(?=[A-Z])", "$1_").toUpperCase();
+    }
+
+    private static String generateEntryPoints(Map<String, List<Method>> entryPoints) throws IOException {
+        List<String> constants = new ArrayList<>();
+        for (Map.Entry<String, List<Method>> entryPoint : entryPoints.entrySet()) {
+            constants.add("    " + entryPoint.getKey() + "(\"" + entryPoint.getValue().get(0).name + "\"),");
+        }
+        String last = constants.remove(constants.size() - 1);
+        constants.add(last.substring(0, last.length() - 1) + ";");
+        return Files.readString(TEMPLATES.resolve("GlEntryPoint.java"))
+                .replace("${constants}", String.join("\n", constants));
+    }
+
+    private static String generateQueuedCalls(Map<String, List<Method>> entryPoints, Map<String, Dispatch> dispatches)
+            throws IOException {
+        List<String> cases = new ArrayList<>();
+        for (Map.Entry<String, List<Method>> entryPoint : entryPoints.entrySet()) {
+            List<Method> queued = entryPoint.getValue().stream()
+                    .filter(method -> {
+                        Dispatch dispatch = dispatches.get(method.adapter + " " + method.signature());
+                        return dispatch == Dispatch.QUEUE || dispatch == Dispatch.CUSTOM_QUEUE;
+                    })
+                    .toList();
+            if (queued.isEmpty()) {
+                continue;
+            }
+            Method replayed = replayed(queued, dispatches);
+            if (replayed == null) {
+                throw new IllegalStateException("No overload of " + entryPoint.getKey() + " replays its queued calls");
+            }
+            List<String> arguments = replayed.parameters.stream().map(parameter -> GETS.get(parameter.type)).toList();
+            String call = replayed.adapter + "." + replayed.name + "(";
+            String head = "            case " + entryPoint.getKey() + " -> " + call;
+            String line = head + String.join(", ", arguments) + ");";
+            if (line.length() <= LINE_LENGTH) {
+                cases.add(line);
+                continue;
+            }
+            cases.add(head);
+            for (int i = 0; i < arguments.size(); ++i) {
+                cases.add("                    " + arguments.get(i) + (i < arguments.size() - 1 ? "," : ""));
+            }
+            cases.add("            );");
+        }
+        return Files.readString(TEMPLATES.resolve("QueuedCalls.java"))
+                .replace("${cases}", String.join("\n", cases));
+    }
+
+    /**
+     * The overload that replays the queued calls of an entry point: one of buffers rather than arrays or strings, of
+     * bytes where the overloads differ in the type of their buffers
+     */
+    private static Method replayed(List<Method> queued, Map<String, Dispatch> dispatches) {
+        Method replayed = null;
+        for (Method method : queued) {
+            if (dispatches.get(method.adapter + " " + method.signature()) != Dispatch.QUEUE
+                    || !method.parameters.stream().allMatch(parameter -> GETS.containsKey(parameter.type))) {
+                continue;
+            }
+            if (replayed == null || method.parameters.stream().anyMatch(p -> p.type.equals("ByteBuffer"))
+                    && replayed.parameters.stream().noneMatch(p -> p.type.equals("ByteBuffer"))) {
+                replayed = method;
+            }
+        }
+        return replayed;
+    }
+}
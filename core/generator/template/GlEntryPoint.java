@@ -0,0 +1,26 @@
+package lwjglalti.gl;
+
+/**
+ * The entry points of {@code GL11} and {@code ARBShaderObjects} that {@link CallProfiler} counts, one per method name.
+ * Their ordinals also identify the calls that {@link RenderThread} queues.
+ * <p>
+ * The constants are generated with the adapters, from the method names of their templates, by
+ * core/generator/GenerateAdapters.java: edit the templates rather than this class.
+ */
+public enum GlEntryPoint {
+
+${constants}
+
+    private final String function;
+
+    GlEntryPoint(String function) {
+        this.function = function;
+    }
+
+    /**
+     * The name of the method, as Altitude calls it
+     */
+    public String function() {
+        return function;
+    }
+}
@@ -0,0 +1,81 @@
+package lwjglalti.gl;
+
+import org.lwjgl.opengl.ARBShaderObjects;
+import org.lwjgl.opengl.GL11;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * The calls that {@link RenderThread} queues, replayed from their records: the ordinal of the {@link GlEntryPoint} as a
+ * short, and the arguments as they are written by the adapters, primitives as they are, and buffers and arrays as
+ * their size in bytes, or -1 for null, and their contents. The overloads of an entry point are replayed through the
+ * one that takes a buffer, of bytes where the overloads differ in type.
+ * <p>
+ * The cases are generated with the adapters that queue the calls, like {@link GlEntryPoint}, by
+ * core/generator/GenerateAdapters.java: edit the templates rather than this class.
+ */
+final class QueuedCalls {
+
+    private static final GlEntryPoint[] ENTRY_POINTS = GlEntryPoint.values();
+
+    private QueuedCalls() {
+        // static api
+    }
+
+    /**
+     * The entry point of the call at this position of the chunk
+     */
+    static GlEntryPoint entryPoint(ByteBuffer chunk, int call) {
+        return ENTRY_POINTS[chunk.getShort(call)];
+    }
+
+    /**
+     * Run the call at the position of the chunk, and move past it
+     */
+    static void run(ByteBuffer chunk) {
+        GlEntryPoint entryPoint = ENTRY_POINTS[chunk.getShort()];
+        // the arguments are read in order, before the call
+        switch (entryPoint) {
+${cases}
+            default -> throw new IllegalStateException("Not a queued call: " + entryPoint.function());
+        }
+    }
+
+    /**
+     * A view of the bytes of a buffer argument in the chunk, in native order, valid until the chunk is recycled
+     */
+    private static ByteBuffer bytes(ByteBuffer chunk) {
+        int bytes = chunk.getInt();
+        if (bytes < 0) {
+            return null;
+        }
+        ByteBuffer buffer = chunk.slice(chunk.position(), bytes).order(ByteOrder.nativeOrder());
+        chunk.position(chunk.position() + bytes);
+        return buffer;
+    }
+
+    private static ShortBuffer shorts(ByteBuffer chunk) {
+        ByteBuffer buffer = bytes(chunk);
+        return buffer == null ? null : buffer.asShortBuffer();
+    }
+
+    private static IntBuffer ints(ByteBuffer chunk) {
+        ByteBuffer buffer = bytes(chunk);
+        return buffer == null ? null : buffer.asIntBuffer();
+    }
+
+    private static FloatBuffer floats(ByteBuffer chunk) {
+        ByteBuffer buffer = bytes(chunk);
+        return buffer == null ? null : buffer.asFloatBuffer();
+    }
+
+    private static DoubleBuffer doubles(ByteBuffer chunk) {
+        ByteBuffer buffer = bytes(chunk);
+        return buffer == null ? null : buffer.asDoubleBuffer();
+    }
+}
@@ -0,0 +1,139 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the calls of Altitude to every GL entry point, and optionally times them, and logs the entry points with
+ * the most calls (or time) every few seconds. Calls that the adapters make of each other, or that the emulation layers
+ * replay, are attributed to the call of Altitude that caused them.
+ * <p>
+ * When disabled, and {@link GlTrace} too, {@link #enter} and {@link #exit} are empty after the JIT has folded
+ * {@link #ENABLED}. Confined to the thread of the context, the render thread if there is one, as GL is: calls from
+ * any other thread are handed over before they are counted.
+ */
+public class CallProfiler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.glCallProfiler();
+    private static final boolean TIMING = Properties.glCallProfilerTiming();
+    // the depth also tells the trace which calls are of Altitude
+    private static final boolean TRACKING = ENABLED || GlTrace.ENABLED;
+
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int REPORT_SIZE = 20;
+
+    private static final GlEntryPoint[] ENTRY_POINTS = GlEntryPoint.values();
+
+    // FIELD GROUP: the current call of Altitude, on the thread of the context
+    private static Thread owner = null;
+    private static int depth = 0;
+    private static GlEntryPoint current = null;
+
+    // FIELD GROUP: totals since the last report, by ordinal
+    private static final long[] calls = new long[ENTRY_POINTS.length];
+    private static final long[] nanos = new long[ENTRY_POINTS.length];
+    private static int frames = 0;
+    private static long reportStart = System.nanoTime();
+
+    private CallProfiler() {
+        // static api
+    }
+
+    /**
+     * Confine the profiler to the thread of the new context: call on that thread
+     */
+    public static void contextCreated() {
+        owner = Thread.currentThread();
+        depth = 0;
+        current = null;
+    }
+
+    /**
+     * Count a call: call first thing in every entry point, and {@link #exit} in a finally block
+     *
+     * @return the start time to pass to {@link #exit}
+     */
+    public static long enter(GlEntryPoint entryPoint) {
+        if (!TRACKING) {
+            return 0;
+        }
+        assert owner == null || Thread.currentThread() == owner : "GL called off the thread of the context";
+        if (depth++ != 0 || !ENABLED) {
+            return 0;
+        }
+        current = entryPoint;
+        ++calls[entryPoint.ordinal()];
+        return TIMING ? System.nanoTime() : 0;
+    }
+
+    public static void exit(long start) {
+        if (!TRACKING || --depth != 0 || !ENABLED) {
+            return;
+        }
+        if (TIMING) {
+            nanos[current.ordinal()] += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Whether the current call is of Altitude, rather than of an adapter or emulation layer: only while tracking
+     */
+    static boolean outermost() {
+        return depth == 1;
+    }
+
+    /**
+     * Roll the statistics, and report them when due: call once per frame
+     */
+    public static void endFrame() {
+        if (!ENABLED) {
+            return;
+        }
+        ++frames;
+        long now = System.nanoTime();
+        if (now - reportStart < REPORT_INTERVAL_NANOS) {
+            return;
+        }
+        report(now - reportStart);
+        Arrays.fill(calls, 0);
+        Arrays.fill(nanos, 0);
+        frames = 0;
+        reportStart = now;
+    }
+
+    private static void report(long elapsedNanos) {
+        long totalCalls = Arrays.stream(calls).sum();
+        long totalNanos = Arrays.stream(nanos).sum();
+        Comparator<GlEntryPoint> order = TIMING
+                ? Comparator.comparingLong(entryPoint -> nanos[entryPoint.ordinal()])
+                : Comparator.comparingLong(entryPoint -> calls[entryPoint.ordinal()]);
+        StringBuilder report = new StringBuilder();
+        Arrays.stream(ENTRY_POINTS)
+                .filter(entryPoint -> calls[entryPoint.ordinal()] != 0)
+                .sorted(order.reversed())
+                .limit(REPORT_SIZE)
+                .forEach(entryPoint -> {
+                    int i = entryPoint.ordinal();
+                    report.append(String.format("%n  %-28s %10.1f calls", entryPoint.function(), (double) calls[i] / frames));
+                    if (TIMING) {
+                        report.append(String.format(" %8.3f ms", nanos[i] / 1e6 / frames));
+                    }
+                });
+        LOG.info(
+                "GL calls per frame, over {} frames in {} ms: {} calls{}{}",
+                frames,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                totalCalls / frames,
+                TIMING ? String.format(" in %.3f ms", totalNanos / 1e6 / frames) : "",
+                report
+        );
+    }
+}
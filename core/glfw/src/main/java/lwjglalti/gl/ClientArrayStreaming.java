@@ -0,0 +1,488 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11C;
+import org.lwjgl.opengl.GL15C;
+import org.lwjgl.opengl.GL30C;
+import org.lwjgl.opengl.GL32C;
+import org.lwjgl.opengl.GL44C;
+import org.lwjgl.opengl.GLCapabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.opengl.GL11.GL_BYTE;
+import static org.lwjgl.opengl.GL11.GL_CLIENT_VERTEX_ARRAY_BIT;
+import static org.lwjgl.opengl.GL11.GL_COLOR_ARRAY;
+import static org.lwjgl.opengl.GL11.GL_DOUBLE;
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+import static org.lwjgl.opengl.GL11.GL_INT;
+import static org.lwjgl.opengl.GL11.GL_SHORT;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_COORD_ARRAY;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+import static org.lwjgl.opengl.GL11.GL_VERTEX_ARRAY;
+import static org.lwjgl.opengl.GL12.GL_BGRA;
+import static org.lwjgl.opengl.GL15.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15.GL_ARRAY_BUFFER_BINDING;
+import static org.lwjgl.opengl.GL15.GL_ELEMENT_ARRAY_BUFFER_BINDING;
+import static org.lwjgl.opengl.GL15.GL_STREAM_DRAW;
+import static org.lwjgl.opengl.GL30.GL_MAP_WRITE_BIT;
+import static org.lwjgl.opengl.GL32.GL_ALREADY_SIGNALED;
+import static org.lwjgl.opengl.GL32.GL_SYNC_FLUSH_COMMANDS_BIT;
+import static org.lwjgl.opengl.GL32.GL_SYNC_GPU_COMMANDS_COMPLETE;
+import static org.lwjgl.opengl.GL32.GL_WAIT_FAILED;
+import static org.lwjgl.opengl.GL32.GL_TIMEOUT_EXPIRED;
+import static org.lwjgl.opengl.GL44.GL_MAP_COHERENT_BIT;
+import static org.lwjgl.opengl.GL44.GL_MAP_PERSISTENT_BIT;
+import static org.lwjgl.system.JNI.callPV;
+import static org.lwjgl.system.JNI.callV;
+import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.system.MemoryUtil.memAddress;
+import static org.lwjgl.system.MemoryUtil.memCopy;
+import static org.lwjgl.system.MemoryUtil.memGetByte;
+import static org.lwjgl.system.MemoryUtil.memGetInt;
+import static org.lwjgl.system.MemoryUtil.memGetShort;
+
+/**
+ * Streaming of the client-side vertex, texture coordinate, and color arrays of Altitude through a vertex buffer. At
+ * every draw from client memory, the driver has to copy the arrays before the call returns. Instead, the range of
+ * vertices that a draw reads is copied into a ring buffer, and the draw is made from there.
+ * <p>
+ * Where the driver supports buffer storage and sync objects, the ring is mapped once, persistently, and split into
+ * segments: a fence is placed behind the draws of a segment when the ring moves on from it, and waited on before the
+ * segment is written again. Elsewhere, the ring is orphaned when full, as the immediate-mode batcher does.
+ * <p>
+ * The pointers of Altitude are shadowed, and the pointers to the ring are set between pushing and popping the client
+ * vertex-array state, so that Altitude never sees them. Indices are left in client memory, as are arrays of a type,
+ * or drawn by a function, that is not shadowed, and draws larger than a segment. Arrays in a bound array buffer, and
+ * draws of indices in a bound element array buffer, are left to the driver.
+ */
+public class ClientArrayStreaming {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.clientArrayStreaming();
+
+    public static final int VERTEX = 0;
+    public static final int TEXTURE_COORDINATES = 1;
+    public static final int COLOR = 2;
+
+    private static final long RING_CAPACITY = 4 * 1024 * 1024;
+    private static final int SEGMENTS = 4;
+    private static final long SEGMENT_CAPACITY = RING_CAPACITY / SEGMENTS;
+    // of every array in the ring
+    private static final long ALIGNMENT = 16;
+    private static final long FENCE_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final ClientArray[] UNCHANGED = new ClientArray[0];
+
+    private static final class ClientArray {
+        private boolean enabled = false;
+        private int size = 4;
+        private int type = GL_FLOAT;
+        private int stride = 0;
+        // null for an array not shadowed
+        private long pointer = NULL;
+
+        ClientArray copy() {
+            ClientArray copy = new ClientArray();
+            copy.enabled = enabled;
+            copy.size = size;
+            copy.type = type;
+            copy.stride = stride;
+            copy.pointer = pointer;
+            return copy;
+        }
+
+        /**
+         * @return the bytes of one element, or 0 if the type is not shadowed
+         */
+        int elementBytes() {
+            int components = size == GL_BGRA ? 4 : size;
+            return switch (type) {
+                case GL_BYTE, GL_UNSIGNED_BYTE -> components;
+                case GL_SHORT, GL_UNSIGNED_SHORT -> 2 * components;
+                case GL_INT, GL_UNSIGNED_INT, GL_FLOAT -> 4 * components;
+                case GL_DOUBLE -> 8 * components;
+                default -> 0;
+            };
+        }
+
+        boolean streamed() {
+            return enabled && pointer != NULL && elementBytes() != 0;
+        }
+    }
+
+    // FIELD GROUP: shadowed client state
+    private static final ClientArray[] arrays = {new ClientArray(), new ClientArray(), new ClientArray()};
+    private static final Deque<ClientArray[]> stack = new ArrayDeque<>();
+
+    // FIELD GROUP: ring
+    private static GLCapabilities capabilities = null;
+    private static boolean persistent = false;
+    private static boolean baseVertex = false;
+    private static int ring = 0;
+    private static long ringCapacity = 0;
+    private static long mapped = NULL;
+    private static long head = 0;
+    private static int segment = 0;
+    private static final long[] fences = new long[SEGMENTS];
+
+    // FIELD GROUP: statistics
+    private static int streamedDraws = 0;
+    private static long streamedBytes = 0;
+    private static int clientDraws = 0;
+    private static int fenceWaits = 0;
+    private static int lastFrameStreamedDraws = 0;
+    private static long lastFrameStreamedBytes = 0;
+    private static int lastFrameClientDraws = 0;
+    private static int lastFrameFenceWaits = 0;
+
+    private ClientArrayStreaming() {
+        // static api
+    }
+
+    public static void contextCreated() {
+        for (int i = 0; i < arrays.length; ++i) {
+            arrays[i] = new ClientArray();
+        }
+        stack.clear();
+        // the buffer, and the fences, died with the previous context
+        ring = 0;
+        ringCapacity = 0;
+        mapped = NULL;
+        head = 0;
+        segment = 0;
+        for (int i = 0; i < SEGMENTS; ++i) {
+            fences[i] = NULL;
+        }
+        if (!ENABLED) {
+            return;
+        }
+        capabilities = GL.getCapabilities();
+        persistent = capabilities.glBufferStorage != NULL
+                && capabilities.glMapBufferRange != NULL
+                && capabilities.glFenceSync != NULL;
+        baseVertex = capabilities.glDrawElementsBaseVertex != NULL;
+        LOG.info(
+                "Streaming client arrays through {}",
+                persistent ? "a persistently mapped ring buffer" : "an orphaned ring buffer"
+        );
+    }
+
+    // CLIENT STATE
+
+    /**
+     * @param array one of {@link #VERTEX}, {@link #TEXTURE_COORDINATES}, or {@link #COLOR}
+     */
+    public static void pointer(int array, int size, int type, int stride, long pointer) {
+        if (!ENABLED) {
+            return;
+        }
+        ClientArray shadowed = arrays[array];
+        shadowed.size = size;
+        shadowed.type = type;
+        shadowed.stride = stride;
+        // with an array buffer bound, the pointer is an offset into it, and the array left to the driver
+        shadowed.pointer = GL11C.glGetInteger(GL_ARRAY_BUFFER_BINDING) == 0 ? pointer : NULL;
+    }
+
+    public static void clientState(int capability, boolean enabled) {
+        if (!ENABLED) {
+            return;
+        }
+        switch (capability) {
+            case GL_VERTEX_ARRAY -> arrays[VERTEX].enabled = enabled;
+            case GL_TEXTURE_COORD_ARRAY -> arrays[TEXTURE_COORDINATES].enabled = enabled;
+            case GL_COLOR_ARRAY -> arrays[COLOR].enabled = enabled;
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * After interleaved arrays are set: the arrays are left to the driver until their pointers are set again
+     */
+    public static void interleavedArrays() {
+        if (!ENABLED) {
+            return;
+        }
+        for (ClientArray array : arrays) {
+            array.pointer = NULL;
+        }
+    }
+
+    public static void pushClientAttrib(int mask) {
+        if (!ENABLED) {
+            return;
+        }
+        if ((mask & GL_CLIENT_VERTEX_ARRAY_BIT) == 0) {
+            stack.push(UNCHANGED);
+            return;
+        }
+        ClientArray[] pushed = new ClientArray[arrays.length];
+        for (int i = 0; i < arrays.length; ++i) {
+            pushed[i] = arrays[i].copy();
+        }
+        stack.push(pushed);
+    }
+
+    public static void popClientAttrib() {
+        if (!ENABLED || stack.isEmpty()) {
+            return;
+        }
+        ClientArray[] popped = stack.pop();
+        if (popped != UNCHANGED) {
+            System.arraycopy(popped, 0, arrays, 0, arrays.length);
+        }
+    }
+
+    // DRAWS
+
+    /**
+     * @return whether the draw was made here, from the ring, rather than left to the caller
+     */
+    public static boolean drawArrays(int mode, int first, int count) {
+        if (!streams(count) || first < 0) {
+            return false;
+        }
+        if (!upload(first, first + count - 1)) {
+            return false;
+        }
+        GL11C.glDrawArrays(mode, 0, count);
+        callV(capabilities.glPopClientAttrib);
+        return true;
+    }
+
+    /**
+     * @param indices the address of indices in client memory, or an offset into the bound element array buffer
+     * @return whether the draw was made here, from the ring, rather than left to the caller
+     */
+    public static boolean drawElements(int mode, int count, int type, long indices) {
+        if (!streams(count) || indices == NULL || GL11C.glGetInteger(GL_ELEMENT_ARRAY_BUFFER_BINDING) != 0) {
+            return false;
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < count; ++i) {
+            long index = switch (type) {
+                case GL_UNSIGNED_BYTE -> memGetByte(indices + i) & 0xFFL;
+                case GL_UNSIGNED_SHORT -> memGetShort(indices + 2L * i) & 0xFFFFL;
+                case GL_UNSIGNED_INT -> memGetInt(indices + 4L * i) & 0xFFFFFFFFL;
+                default -> -1;
+            };
+            if (index < 0) {
+                ++clientDraws;
+                return false;
+            }
+            min = Math.min(min, index);
+            max = Math.max(max, index);
+        }
+        if (max > Integer.MAX_VALUE) {
+            ++clientDraws;
+            return false;
+        }
+        // without a base vertex, the indices must find their vertices at the same place in the ring
+        int first = baseVertex ? (int) min : 0;
+        if (!upload(first, (int) max)) {
+            return false;
+        }
+        if (first == 0) {
+            GL11C.nglDrawElements(mode, count, type, indices);
+        } else {
+            GL32C.nglDrawElementsBaseVertex(mode, count, type, indices, -first);
+        }
+        callV(capabilities.glPopClientAttrib);
+        return true;
+    }
+
+    public static boolean drawElements(int mode, int type, ByteBuffer indices) {
+        int indexBytes = switch (type) {
+            case GL_UNSIGNED_SHORT -> 2;
+            case GL_UNSIGNED_INT -> 4;
+            default -> 1;
+        };
+        return drawElements(mode, indices.remaining() / indexBytes, type, memAddress(indices));
+    }
+
+    private static boolean streams(int count) {
+        // the arrays of a list are copied once, when compiled, and the ring would outlive them anyway
+        return ENABLED && count > 0 && !GlStateCache.compilingList();
+    }
+
+    /**
+     * Copy the vertices from first to last of every shadowed array into the ring, and point the arrays there, after
+     * pushing the client vertex-array state, which the caller pops after drawing
+     *
+     * @return whether the vertices were uploaded, or must be drawn from client memory
+     */
+    private static boolean upload(int first, int last) {
+        long total = 0;
+        boolean any = false;
+        for (ClientArray array : arrays) {
+            if (array.streamed()) {
+                total += align(bytes(array, first, last));
+                any = true;
+            }
+        }
+        if (!any || (persistent && total > SEGMENT_CAPACITY)) {
+            ++clientDraws;
+            return false;
+        }
+        callV(GL_CLIENT_VERTEX_ARRAY_BIT, capabilities.glPushClientAttrib);
+        long offset = reserve(total);
+        for (int i = 0; i < arrays.length; ++i) {
+            ClientArray array = arrays[i];
+            if (!array.streamed()) {
+                continue;
+            }
+            long bytes = bytes(array, first, last);
+            long source = array.pointer + (long) first * stride(array);
+            if (persistent) {
+                memCopy(source, mapped + offset, bytes);
+            } else {
+                GL15C.nglBufferSubData(GL_ARRAY_BUFFER, offset, bytes, source);
+            }
+            callPV(array.size, array.type, array.stride, offset, pointerFunction(i));
+            offset += align(bytes);
+        }
+        ++streamedDraws;
+        streamedBytes += total;
+        return true;
+    }
+
+    private static long stride(ClientArray array) {
+        return array.stride != 0 ? array.stride : array.elementBytes();
+    }
+
+    private static long bytes(ClientArray array, int first, int last) {
+        return (long) (last - first) * stride(array) + array.elementBytes();
+    }
+
+    private static long align(long bytes) {
+        return (bytes + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private static long pointerFunction(int array) {
+        return switch (array) {
+            case VERTEX -> capabilities.glVertexPointer;
+            case TEXTURE_COORDINATES -> capabilities.glTexCoordPointer;
+            default -> capabilities.glColorPointer;
+        };
+    }
+
+    // RING
+
+    /**
+     * Reserve bytes of the ring, and leave it bound
+     *
+     * @return the offset of the reserved bytes in the ring
+     */
+    private static long reserve(long bytes) {
+        if (ring == 0) {
+            createRing();
+        }
+        GL15C.glBindBuffer(GL_ARRAY_BUFFER, ring);
+        if (persistent) {
+            if (head + bytes > (segment + 1) * SEGMENT_CAPACITY) {
+                // fence the draws from this segment, and wait for the draws from the next, placed a lap ago
+                fences[segment] = GL32C.glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+                segment = (segment + 1) % SEGMENTS;
+                head = segment * SEGMENT_CAPACITY;
+                await(segment);
+            }
+        } else if (head + bytes > ringCapacity) {
+            // orphan the storage, rather than waiting for the GPU to finish drawing from it
+            ringCapacity = Math.max(ringCapacity, Math.max(bytes, SEGMENT_CAPACITY));
+            GL15C.nglBufferData(GL_ARRAY_BUFFER, ringCapacity, NULL, GL_STREAM_DRAW);
+            GlObjects.bufferStored(ring, ringCapacity);
+            head = 0;
+        }
+        long offset = head;
+        head += bytes;
+        return offset;
+    }
+
+    private static void createRing() {
+        ring = GL15C.glGenBuffers();
+        GL15C.glBindBuffer(GL_ARRAY_BUFFER, ring);
+        if (persistent) {
+            int flags = GL_MAP_WRITE_BIT | GL_MAP_PERSISTENT_BIT | GL_MAP_COHERENT_BIT;
+            GL44C.nglBufferStorage(GL_ARRAY_BUFFER, RING_CAPACITY, NULL, flags);
+            mapped = GL30C.nglMapBufferRange(GL_ARRAY_BUFFER, 0, RING_CAPACITY, flags);
+            ringCapacity = RING_CAPACITY;
+            GlObjects.bufferStored(ring, RING_CAPACITY);
+        }
+    }
+
+    private static void await(int segment) {
+        long fence = fences[segment];
+        if (fence == NULL) {
+            return;
+        }
+        int status = GL32C.glClientWaitSync(fence, GL_SYNC_FLUSH_COMMANDS_BIT, FENCE_TIMEOUT_NANOS);
+        if (status != GL_ALREADY_SIGNALED) {
+            ++fenceWaits;
+        }
+        while (status == GL_TIMEOUT_EXPIRED) {
+            status = GL32C.glClientWaitSync(fence, GL_SYNC_FLUSH_COMMANDS_BIT, FENCE_TIMEOUT_NANOS);
+        }
+        if (status == GL_WAIT_FAILED) {
+            LOG.warn("Failed to wait for a segment of the client array ring: drawing on regardless");
+        }
+        GL32C.glDeleteSync(fence);
+        fences[segment] = NULL;
+    }
+
+    // STATISTICS
+
+    /**
+     * Roll the per-frame statistics: call once per frame
+     */
+    public static void endFrame() {
+        lastFrameStreamedDraws = streamedDraws;
+        lastFrameStreamedBytes = streamedBytes;
+        lastFrameClientDraws = clientDraws;
+        lastFrameFenceWaits = fenceWaits;
+        streamedDraws = 0;
+        streamedBytes = 0;
+        clientDraws = 0;
+        fenceWaits = 0;
+    }
+
+    /**
+     * The number of draws made from the ring during the previous frame
+     */
+    public static int lastFrameStreamedDraws() {
+        return lastFrameStreamedDraws;
+    }
+
+    /**
+     * The number of bytes copied into the ring during the previous frame
+     */
+    public static long lastFrameStreamedBytes() {
+        return lastFrameStreamedBytes;
+    }
+
+    /**
+     * The number of draws left to read client memory during the previous frame
+     */
+    public static int lastFrameClientDraws() {
+        return lastFrameClientDraws;
+    }
+
+    /**
+     * The number of times the ring waited for the GPU to finish drawing from a segment during the previous frame
+     */
+    public static int lastFrameFenceWaits() {
+        return lastFrameFenceWaits;
+    }
+}
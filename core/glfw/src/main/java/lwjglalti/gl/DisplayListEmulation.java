@@ -0,0 +1,647 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL11C;
+import org.lwjgl.opengl.GL15C;
+
+import java.util.Arrays;
+
+import static org.lwjgl.opengl.GL11.GL_2_BYTES;
+import static org.lwjgl.opengl.GL11.GL_3_BYTES;
+import static org.lwjgl.opengl.GL11.GL_4_BYTES;
+import static org.lwjgl.opengl.GL11.GL_BYTE;
+import static org.lwjgl.opengl.GL11.GL_CLIENT_VERTEX_ARRAY_BIT;
+import static org.lwjgl.opengl.GL11.GL_COMPILE_AND_EXECUTE;
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+import static org.lwjgl.opengl.GL11.GL_INT;
+import static org.lwjgl.opengl.GL11.GL_LIST_BASE;
+import static org.lwjgl.opengl.GL11.GL_SHORT;
+import static org.lwjgl.opengl.GL11.GL_TRIANGLES;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+import static org.lwjgl.opengl.GL15C.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15C.GL_STATIC_DRAW;
+import static org.lwjgl.system.JNI.callV;
+import static org.lwjgl.system.MemoryUtil.memGetByte;
+import static org.lwjgl.system.MemoryUtil.memGetFloat;
+import static org.lwjgl.system.MemoryUtil.memGetInt;
+import static org.lwjgl.system.MemoryUtil.memGetShort;
+
+/**
+ * Emulates display lists, rather than leaving them to the driver, which may emulate them itself with wildly varying
+ * performance. Between {@code glNewList} and {@code glEndList}, the immediate-mode geometry is recorded as triangles
+ * into a vertex buffer, and the state changes into a compact command stream, in which each run of geometry between
+ * state changes is a single draw. {@code glCallList} replays the commands through {@link GL11}, so that the layers
+ * there see them as if Altitude made them.
+ * <p>
+ * Only the calls that Altitude is known to compile are recorded: geometry, the current color and texture coordinates,
+ * capabilities, texture bindings, blending, the float variants of the matrix operations, and calls to other lists. At
+ * any other call, the recording is demoted to a regular display list, by compiling what was recorded so far and
+ * passing through the rest. List names come from {@code glGenLists} as usual.
+ * <p>
+ * Geometry takes its color and texture coordinates from the list where the list sets them, and from the current
+ * attributes when the list is called otherwise, as in GL. Triangulated geometry is drawn as is regardless of the
+ * polygon mode, which Altitude leaves at fill.
+ */
+public class DisplayListEmulation {
+
+    public static final boolean ENABLED = Properties.displayListEmulation();
+
+    // nesting limit of the GL specification
+    private static final int MAX_NESTING = 64;
+
+    // opcodes, each followed by its arguments
+    private static final int ENABLE = 0;
+    private static final int DISABLE = 1;
+    private static final int BIND_TEXTURE = 2;
+    private static final int BLEND_FUNC = 3;
+    private static final int COLOR = 4;
+    private static final int TEXTURE_COORDINATES = 5;
+    private static final int CALL_LIST = 6;
+    private static final int TRANSLATE = 7;
+    private static final int ROTATE = 8;
+    private static final int SCALE = 9;
+    private static final int PUSH_MATRIX = 10;
+    private static final int POP_MATRIX = 11;
+    private static final int LOAD_IDENTITY = 12;
+    private static final int MATRIX_MODE = 13;
+    // first vertex, vertex count, and flags
+    private static final int DRAW = 14;
+
+    private static final int DRAW_COLORS = 1;
+    private static final int DRAW_TEXTURE_COORDINATES = 2;
+
+    private record Recording(int[] commands, int buffer) {
+
+    }
+
+    // FIELD GROUP: context
+    private static boolean supported = false;
+    // indexed by list name
+    private static Recording[] recordings = new Recording[256];
+    private static int recordingCount = 0;
+    private static int nesting = 0;
+
+    // FIELD GROUP: the list being recorded
+    private static boolean recording = false;
+    private static boolean demoting = false;
+    private static int listName;
+    private static int listMode;
+    private static int[] commands = new int[256];
+    private static int commandCount = 0;
+    private static final VertexArray triangles = new VertexArray(1024);
+    private static boolean runIsOpen = false;
+    private static int runStart;
+    private static int runFlags;
+    private static boolean inBlock = false;
+    private static int blockMode;
+    private static int blockFlags;
+    private static final VertexArray block = new VertexArray(64);
+
+    // FIELD GROUP: current attributes, as far as the list being recorded has set them
+    private static boolean colorIsSet;
+    private static boolean colorIsDirty;
+    private static float red;
+    private static float green;
+    private static float blue;
+    private static float alpha;
+    private static boolean textureCoordinatesAreSet;
+    private static boolean textureCoordinatesAreDirty;
+    private static float s;
+    private static float t;
+
+    private DisplayListEmulation() {
+        // static api
+    }
+
+    /**
+     * Forget all lists, which died with the previous context
+     */
+    public static void contextCreated() {
+        if (!ENABLED) {
+            return;
+        }
+        // vertex buffers are core since 1.5
+        supported = GL.getCapabilities().OpenGL15;
+        Arrays.fill(recordings, null);
+        recordingCount = 0;
+        nesting = 0;
+        recording = false;
+        demoting = false;
+    }
+
+    // LISTS
+
+    /**
+     * @return whether the list is recorded, rather than compiled by the driver
+     */
+    public static boolean newList(int list, int mode) {
+        if (!ENABLED) {
+            return false;
+        }
+        if (recording) {
+            // let the driver report the error
+            demoteRecording();
+            return false;
+        }
+        // a new list replaces the old one, whether it is recorded or compiled
+        forget(list);
+        if (!supported || demoting || list <= 0) {
+            return false;
+        }
+        recording = true;
+        listName = list;
+        listMode = mode;
+        commandCount = 0;
+        triangles.clear();
+        runIsOpen = false;
+        inBlock = false;
+        colorIsSet = false;
+        colorIsDirty = false;
+        textureCoordinatesAreSet = false;
+        textureCoordinatesAreDirty = false;
+        return true;
+    }
+
+    /**
+     * @return whether the list was recorded, rather than compiled by the driver
+     */
+    public static boolean endList() {
+        if (!recording) {
+            return false;
+        }
+        if (inBlock) {
+            // let the driver report the error
+            demoteRecording();
+            return false;
+        }
+        closeRun();
+        emitCurrent();
+        recording = false;
+
+        int buffer = 0;
+        if (triangles.count() > 0) {
+            // past the shim, which has nothing to flush or sync for an upload
+            callV(GL_CLIENT_VERTEX_ARRAY_BIT, GL.getCapabilities().glPushClientAttrib);
+            buffer = GL15C.glGenBuffers();
+            GL15C.glBindBuffer(GL_ARRAY_BUFFER, buffer);
+            GL15C.nglBufferData(GL_ARRAY_BUFFER, triangles.bytes(), triangles.address(), GL_STATIC_DRAW);
+            GlObjects.bufferStored(buffer, triangles.bytes());
+            callV(GL.getCapabilities().glPopClientAttrib);
+        }
+        Recording list = new Recording(Arrays.copyOf(commands, commandCount), buffer);
+        if (listName >= recordings.length) {
+            recordings = Arrays.copyOf(recordings, Math.max(recordings.length * 2, listName + 1));
+        }
+        recordings[listName] = list;
+        ++recordingCount;
+        triangles.clear();
+        if (listMode == GL_COMPILE_AND_EXECUTE) {
+            replay(list);
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the call was recorded or replayed, rather than passed to the driver
+     */
+    public static boolean callList(int list) {
+        if (!ENABLED) {
+            return false;
+        }
+        if (recording) {
+            if (inBlock) {
+                demoteRecording();
+                return false;
+            }
+            closeRun();
+            emitCurrent();
+            emit(CALL_LIST, list);
+            // the called list decides the current attributes from here on
+            colorIsSet = false;
+            textureCoordinatesAreSet = false;
+            return true;
+        }
+        Recording emulated = list > 0 && list < recordings.length ? recordings[list] : null;
+        if (emulated == null) {
+            return false;
+        }
+        replay(emulated);
+        return true;
+    }
+
+    /**
+     * @return whether the calls were replayed, rather than passed to the driver as a whole
+     */
+    public static boolean callLists(int n, int type, long lists) {
+        if (!ENABLED || recording || recordingCount == 0) {
+            return false;
+        }
+        switch (type) {
+            case GL_BYTE, GL_UNSIGNED_BYTE, GL_SHORT, GL_UNSIGNED_SHORT, GL_INT, GL_UNSIGNED_INT, GL_FLOAT,
+                    GL_2_BYTES, GL_3_BYTES, GL_4_BYTES -> {
+            }
+            default -> {
+                // let the driver report the error
+                return false;
+            }
+        }
+        int base = GL11C.glGetInteger(GL_LIST_BASE);
+        for (int i = 0; i < n; ++i) {
+            int offset = switch (type) {
+                case GL_BYTE -> memGetByte(lists + i);
+                case GL_UNSIGNED_BYTE -> memGetByte(lists + i) & 0xFF;
+                case GL_SHORT -> memGetShort(lists + 2L * i);
+                case GL_UNSIGNED_SHORT -> memGetShort(lists + 2L * i) & 0xFFFF;
+                case GL_INT, GL_UNSIGNED_INT -> memGetInt(lists + 4L * i);
+                case GL_FLOAT -> (int) memGetFloat(lists + 4L * i);
+                case GL_2_BYTES -> unsignedBigEndian(lists + 2L * i, 2);
+                case GL_3_BYTES -> unsignedBigEndian(lists + 3L * i, 3);
+                default -> unsignedBigEndian(lists + 4L * i, 4);
+            };
+            GL11.glCallList(base + offset);
+        }
+        return true;
+    }
+
+    private static int unsignedBigEndian(long address, int bytes) {
+        int value = 0;
+        for (int i = 0; i < bytes; ++i) {
+            value = (value << 8) | (memGetByte(address + i) & 0xFF);
+        }
+        return value;
+    }
+
+    public static boolean isList(int list) {
+        return ENABLED && list > 0 && list < recordings.length && recordings[list] != null;
+    }
+
+    public static void deleteLists(int list, int range) {
+        if (!ENABLED) {
+            return;
+        }
+        for (int i = 0; i < range; ++i) {
+            forget(list + i);
+        }
+    }
+
+    private static void forget(int list) {
+        if (list <= 0 || list >= recordings.length || recordings[list] == null) {
+            return;
+        }
+        int buffer = recordings[list].buffer();
+        if (buffer != 0) {
+            GL15C.glDeleteBuffers(buffer);
+            GlObjects.bufferDeleted(buffer);
+        }
+        recordings[list] = null;
+        --recordingCount;
+    }
+
+    // GEOMETRY
+
+    /**
+     * @return whether the block is recorded, rather than passed to the driver
+     */
+    public static boolean begin(int mode) {
+        if (!recording) {
+            return false;
+        }
+        if (inBlock || !VertexArray.isTriangulable(mode)) {
+            demoteRecording();
+            return false;
+        }
+        inBlock = true;
+        blockMode = mode;
+        blockFlags = currentFlags();
+        block.clear();
+        return true;
+    }
+
+    /**
+     * @return whether the block was recorded, rather than passed to the driver
+     */
+    public static boolean end() {
+        if (!recording) {
+            return false;
+        }
+        if (!inBlock) {
+            demoteRecording();
+            return false;
+        }
+        inBlock = false;
+        if (runIsOpen && runFlags != blockFlags) {
+            closeRun();
+        }
+        if (!runIsOpen) {
+            runIsOpen = true;
+            runStart = triangles.count();
+            runFlags = blockFlags;
+        }
+        triangles.appendTriangles(blockMode, block);
+        return true;
+    }
+
+    /**
+     * @return whether the vertex was recorded, rather than passed to the driver
+     */
+    public static boolean vertex(float x, float y, float z) {
+        if (!recording) {
+            return false;
+        }
+        if (!inBlock) {
+            demoteRecording();
+            return false;
+        }
+        if (block.count() == 0) {
+            blockFlags = currentFlags();
+        } else if (blockFlags != currentFlags()) {
+            // a block that starts out with the color of the caller, and then sets its own, cannot be one draw
+            demoteRecording();
+            return false;
+        }
+        block.put(x, y, z, s, t, red, green, blue, alpha);
+        return true;
+    }
+
+    /**
+     * @return whether the coordinates were recorded, rather than passed to the driver
+     */
+    public static boolean textureCoordinates(float s, float t) {
+        if (!recording) {
+            return false;
+        }
+        DisplayListEmulation.s = s;
+        DisplayListEmulation.t = t;
+        textureCoordinatesAreSet = true;
+        textureCoordinatesAreDirty = true;
+        return true;
+    }
+
+    /**
+     * @return whether the color was recorded, rather than passed to the driver
+     */
+    public static boolean color(float red, float green, float blue, float alpha) {
+        if (!recording) {
+            return false;
+        }
+        DisplayListEmulation.red = red;
+        DisplayListEmulation.green = green;
+        DisplayListEmulation.blue = blue;
+        DisplayListEmulation.alpha = alpha;
+        colorIsSet = true;
+        colorIsDirty = true;
+        return true;
+    }
+
+    public static boolean color(byte red, byte green, byte blue, byte alpha) {
+        return recording
+                && color((red & 0xFF) / 255F, (green & 0xFF) / 255F, (blue & 0xFF) / 255F, (alpha & 0xFF) / 255F);
+    }
+
+    private static int currentFlags() {
+        return (colorIsSet ? DRAW_COLORS : 0) | (textureCoordinatesAreSet ? DRAW_TEXTURE_COORDINATES : 0);
+    }
+
+    // STATE
+
+    public static boolean enable(int capability) {
+        return recordState(ENABLE, capability);
+    }
+
+    public static boolean disable(int capability) {
+        return recordState(DISABLE, capability);
+    }
+
+    public static boolean bindTexture(int target, int texture) {
+        return recordState(BIND_TEXTURE, target, texture);
+    }
+
+    public static boolean blendFunc(int src, int dst) {
+        return recordState(BLEND_FUNC, src, dst);
+    }
+
+    public static boolean translate(float x, float y, float z) {
+        return recordState(TRANSLATE, bits(x), bits(y), bits(z));
+    }
+
+    public static boolean rotate(float angle, float x, float y, float z) {
+        return recordState(ROTATE, bits(angle), bits(x), bits(y), bits(z));
+    }
+
+    public static boolean scale(float x, float y, float z) {
+        return recordState(SCALE, bits(x), bits(y), bits(z));
+    }
+
+    public static boolean pushMatrix() {
+        return recordState(PUSH_MATRIX);
+    }
+
+    public static boolean popMatrix() {
+        return recordState(POP_MATRIX);
+    }
+
+    public static boolean loadIdentity() {
+        return recordState(LOAD_IDENTITY);
+    }
+
+    public static boolean matrixMode(int mode) {
+        return recordState(MATRIX_MODE, mode);
+    }
+
+    private static int bits(float value) {
+        return Float.floatToRawIntBits(value);
+    }
+
+    private static float value(int bits) {
+        return Float.intBitsToFloat(bits);
+    }
+
+    /**
+     * @return whether the state change was recorded, rather than passed to the driver
+     */
+    private static boolean recordState(int opcode, int... arguments) {
+        if (!recording) {
+            return false;
+        }
+        if (inBlock) {
+            // let the driver report the error
+            demoteRecording();
+            return false;
+        }
+        closeRun();
+        emitCurrent();
+        emit(opcode, arguments);
+        return true;
+    }
+
+    private static void closeRun() {
+        if (!runIsOpen) {
+            return;
+        }
+        runIsOpen = false;
+        emit(DRAW, runStart, triangles.count() - runStart, runFlags);
+        // drawing from arrays leaves the current attributes undefined: the list must set them again
+        colorIsDirty |= (runFlags & DRAW_COLORS) != 0;
+        textureCoordinatesAreDirty |= (runFlags & DRAW_TEXTURE_COORDINATES) != 0;
+    }
+
+    /**
+     * Establish the current attributes that the list set
+     */
+    private static void emitCurrent() {
+        if (colorIsDirty && colorIsSet) {
+            emit(COLOR, bits(red), bits(green), bits(blue), bits(alpha));
+        }
+        if (textureCoordinatesAreDirty && textureCoordinatesAreSet) {
+            emit(TEXTURE_COORDINATES, bits(s), bits(t));
+        }
+        colorIsDirty = false;
+        textureCoordinatesAreDirty = false;
+    }
+
+    private static void emit(int opcode, int... arguments) {
+        if (commandCount + 1 + arguments.length > commands.length) {
+            commands = Arrays.copyOf(commands, Math.max(commands.length * 2, commandCount + 1 + arguments.length));
+        }
+        commands[commandCount++] = opcode;
+        for (int argument : arguments) {
+            commands[commandCount++] = argument;
+        }
+    }
+
+    // REPLAY
+
+    private static void replay(Recording list) {
+        if (nesting >= MAX_NESTING) {
+            return;
+        }
+        ++nesting;
+        // the batch must be drawn before the geometry of the list
+        ImmediateModeBatcher.flush();
+        execute(list.commands(), list.commands().length, list.buffer());
+        --nesting;
+    }
+
+    /**
+     * Execute commands through {@link GL11}, drawing geometry from the buffer, or in immediate mode from the recorded
+     * triangles if there is no buffer
+     */
+    private static void execute(int[] commands, int commandCount, int buffer) {
+        int i = 0;
+        while (i < commandCount) {
+            switch (commands[i++]) {
+                case ENABLE -> GL11.glEnable(commands[i++]);
+                case DISABLE -> GL11.glDisable(commands[i++]);
+                case BIND_TEXTURE -> GL11.glBindTexture(commands[i++], commands[i++]);
+                case BLEND_FUNC -> GL11.glBlendFunc(commands[i++], commands[i++]);
+                case COLOR -> {
+                    GlStateCache.invalidateColor();
+                    GL11.glColor4f(value(commands[i++]), value(commands[i++]), value(commands[i++]), value(commands[i++]));
+                }
+                case TEXTURE_COORDINATES -> GL11.glTexCoord2f(value(commands[i++]), value(commands[i++]));
+                case CALL_LIST -> GL11.glCallList(commands[i++]);
+                case TRANSLATE -> GL11.glTranslatef(value(commands[i++]), value(commands[i++]), value(commands[i++]));
+                case ROTATE -> GL11.glRotatef(
+                        value(commands[i++]),
+                        value(commands[i++]),
+                        value(commands[i++]),
+                        value(commands[i++])
+                );
+                case SCALE -> GL11.glScalef(value(commands[i++]), value(commands[i++]), value(commands[i++]));
+                case PUSH_MATRIX -> GL11.glPushMatrix();
+                case POP_MATRIX -> GL11.glPopMatrix();
+                case LOAD_IDENTITY -> GL11.glLoadIdentity();
+                case MATRIX_MODE -> GL11.glMatrixMode(commands[i++]);
+                case DRAW -> {
+                    int first = commands[i++];
+                    int count = commands[i++];
+                    int flags = commands[i++];
+                    if (buffer != 0) {
+                        drawRun(buffer, first, count, flags);
+                    } else {
+                        emitRun(first, count, flags);
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown display list command: " + commands[i - 1]);
+            }
+        }
+    }
+
+    private static void drawRun(int buffer, int first, int count, int flags) {
+        MatrixStacks.sync();
+        // past the shim, which would flush and sync again between the runs of the list
+        callV(GL_CLIENT_VERTEX_ARRAY_BIT, GL.getCapabilities().glPushClientAttrib);
+        GL15C.glBindBuffer(GL_ARRAY_BUFFER, buffer);
+        VertexArray.drawTriangles(
+                (long) first * VertexArray.STRIDE,
+                count,
+                (flags & DRAW_COLORS) != 0,
+                (flags & DRAW_TEXTURE_COORDINATES) != 0
+        );
+        callV(GL.getCapabilities().glPopClientAttrib);
+    }
+
+    /**
+     * Emit recorded triangles in immediate mode, to compile them into a regular display list
+     */
+    private static void emitRun(int first, int count, int flags) {
+        GL11.glBegin(GL_TRIANGLES);
+        for (int i = first; i < first + count; ++i) {
+            emitVertex(triangles, i, flags);
+        }
+        GL11.glEnd();
+    }
+
+    private static void emitVertex(VertexArray vertices, int i, int flags) {
+        if ((flags & DRAW_TEXTURE_COORDINATES) != 0) {
+            GL11.glTexCoord2f(vertices.get(i, VertexArray.S), vertices.get(i, VertexArray.T));
+        }
+        if ((flags & DRAW_COLORS) != 0) {
+            GL11.glColor4f(
+                    vertices.get(i, VertexArray.RED),
+                    vertices.get(i, VertexArray.GREEN),
+                    vertices.get(i, VertexArray.BLUE),
+                    vertices.get(i, VertexArray.ALPHA)
+            );
+        }
+        GL11.glVertex3f(vertices.get(i, VertexArray.X), vertices.get(i, VertexArray.Y), vertices.get(i, VertexArray.Z));
+    }
+
+    // DEMOTION
+
+    /**
+     * Turn the list being recorded into a regular display list, because something that cannot be recorded is about
+     * to be compiled into it
+     */
+    public static void demoteRecording() {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        demoting = true;
+        closeRun();
+        emitCurrent();
+        GL11.glNewList(listName, listMode);
+        execute(commands, commandCount, 0);
+        if (inBlock) {
+            // the rest of the block passes through
+            GL11.glBegin(blockMode);
+            for (int i = 0; i < block.count(); ++i) {
+                emitVertex(block, i, blockFlags);
+            }
+            if (colorIsSet) {
+                GL11.glColor4f(red, green, blue, alpha);
+            }
+            if (textureCoordinatesAreSet) {
+                GL11.glTexCoord2f(s, t);
+            }
+        }
+        demoting = false;
+        inBlock = false;
+        triangles.clear();
+    }
+}
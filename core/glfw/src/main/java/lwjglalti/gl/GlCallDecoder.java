@@ -0,0 +1,228 @@
+package lwjglalti.gl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes the records of a {@link GlCallEncoder} from a window that the subclass moves over its storage. The buffer
+ * arguments of a call are views of the window, valid for as long as the subclass keeps what is under it.
+ */
+abstract class GlCallDecoder {
+
+    static final byte SIGNATURE = 2;
+    public static final byte CALL = 3;
+
+    private final List<String> signatures = new ArrayList<>();
+    protected ByteBuffer window;
+
+    // FIELD GROUP: the last call
+    private String signature;
+    private Object[] arguments;
+    private boolean replayable;
+
+    /**
+     * Make this many bytes available in the window, little-endian, moving it if fewer are left
+     */
+    protected abstract void reserve(int bytes) throws IOException;
+
+    /**
+     * Read a {@link #SIGNATURE} record, after its tag
+     */
+    protected void readSignature() throws IOException {
+        reserve(Integer.BYTES + Short.BYTES);
+        int index = window.getInt();
+        byte[] bytes = new byte[Short.toUnsignedInt(window.getShort())];
+        reserve(bytes.length);
+        window.get(bytes);
+        // the encoder defines the signatures in order
+        signatures.add(index, new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read a {@link #CALL} record, after its tag
+     */
+    protected void readCall() throws IOException {
+        reserve(Integer.BYTES);
+        readCall(signatures.get(window.getInt()));
+    }
+
+    /**
+     * The signature of the last {@link #CALL}
+     */
+    public String signature() {
+        return signature;
+    }
+
+    /**
+     * The arguments of the last {@link #CALL}, boxed, with buffers as direct views of the window in native order
+     */
+    public Object[] arguments() {
+        return arguments;
+    }
+
+    /**
+     * Whether the last {@link #CALL} can be replayed: not if it passed client memory by pointer, since its contents
+     * were not recorded
+     */
+    public boolean replayable() {
+        return replayable;
+    }
+
+    private void readCall(String signature) throws IOException {
+        this.signature = signature;
+        List<Object> arguments = new ArrayList<>();
+        replayable = true;
+        for (int i = signature.indexOf('(') + 1; signature.charAt(i) != ')'; ++i) {
+            char code = signature.charAt(i);
+            if (code == '[') {
+                arguments.add(readArray(signature.charAt(++i)));
+            } else {
+                arguments.add(read(code));
+            }
+        }
+        this.arguments = arguments.toArray();
+    }
+
+    private Object read(char code) throws IOException {
+        switch (code) {
+            case 'I' -> {
+                reserve(Integer.BYTES);
+                return window.getInt();
+            }
+            case 'S' -> {
+                reserve(Short.BYTES);
+                return window.getShort();
+            }
+            case 'B' -> {
+                reserve(1);
+                return window.get();
+            }
+            case 'F' -> {
+                reserve(Float.BYTES);
+                return window.getFloat();
+            }
+            case 'D' -> {
+                reserve(Double.BYTES);
+                return window.getDouble();
+            }
+            case 'Z' -> {
+                reserve(1);
+                return window.get() != 0;
+            }
+            case 'P' -> {
+                reserve(Long.BYTES);
+                long pointer = window.getLong();
+                // altitude binds no buffers, so that anything but null is client memory, which was not recorded
+                replayable &= pointer == 0;
+                return pointer;
+            }
+            case 'b' -> {
+                return readBuffer();
+            }
+            case 's' -> {
+                ByteBuffer buffer = readBuffer();
+                return buffer == null ? null : buffer.asShortBuffer();
+            }
+            case 'i' -> {
+                ByteBuffer buffer = readBuffer();
+                return buffer == null ? null : buffer.asIntBuffer();
+            }
+            case 'f' -> {
+                ByteBuffer buffer = readBuffer();
+                return buffer == null ? null : buffer.asFloatBuffer();
+            }
+            case 'd' -> {
+                ByteBuffer buffer = readBuffer();
+                return buffer == null ? null : buffer.asDoubleBuffer();
+            }
+            case 'C' -> {
+                return readSequence();
+            }
+            case 'c' -> {
+                reserve(Integer.BYTES);
+                int count = window.getInt();
+                if (count < 0) {
+                    return null;
+                }
+                CharSequence[] sequences = new CharSequence[count];
+                for (int i = 0; i < count; ++i) {
+                    sequences[i] = readSequence();
+                }
+                return sequences;
+            }
+            case 'q' -> {
+                replayable = false;
+                return null;
+            }
+            default -> throw new IOException("Corrupt trace: unknown code " + code);
+        }
+    }
+
+    private ByteBuffer readBuffer() throws IOException {
+        reserve(Integer.BYTES);
+        int bytes = window.getInt();
+        if (bytes < 0) {
+            return null;
+        }
+        reserve(bytes);
+        ByteBuffer buffer = window.slice(window.position(), bytes).order(ByteOrder.nativeOrder());
+        window.position(window.position() + bytes);
+        return buffer;
+    }
+
+    private String readSequence() throws IOException {
+        reserve(Integer.BYTES);
+        int bytes = window.getInt();
+        if (bytes < 0) {
+            return null;
+        }
+        reserve(bytes);
+        byte[] utf8 = new byte[bytes];
+        window.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private Object readArray(char code) throws IOException {
+        reserve(Integer.BYTES);
+        int length = window.getInt();
+        if (length < 0) {
+            return null;
+        }
+        switch (code) {
+            case 'S' -> {
+                short[] elements = new short[length];
+                reserve(length * Short.BYTES);
+                window.asShortBuffer().get(elements);
+                window.position(window.position() + length * Short.BYTES);
+                return elements;
+            }
+            case 'I' -> {
+                int[] elements = new int[length];
+                reserve(length * Integer.BYTES);
+                window.asIntBuffer().get(elements);
+                window.position(window.position() + length * Integer.BYTES);
+                return elements;
+            }
+            case 'F' -> {
+                float[] elements = new float[length];
+                reserve(length * Float.BYTES);
+                window.asFloatBuffer().get(elements);
+                window.position(window.position() + length * Float.BYTES);
+                return elements;
+            }
+            case 'D' -> {
+                double[] elements = new double[length];
+                reserve(length * Double.BYTES);
+                window.asDoubleBuffer().get(elements);
+                window.position(window.position() + length * Double.BYTES);
+                return elements;
+            }
+            default -> throw new IOException("Corrupt trace: unknown array code " + code);
+        }
+    }
+
+}
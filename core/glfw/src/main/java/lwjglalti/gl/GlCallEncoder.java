@@ -0,0 +1,179 @@
+package lwjglalti.gl;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static org.lwjgl.system.MemoryUtil.memAddress;
+import static org.lwjgl.system.MemoryUtil.memByteBuffer;
+
+/**
+ * Encodes GL calls as {@link GlCallDecoder#SIGNATURE} and {@link GlCallDecoder#CALL} records, into a window that the
+ * subclass moves over its storage: see {@link GlTraceWriter} for the format.
+ */
+abstract class GlCallEncoder {
+
+    // the signatures are literals, so that identity suffices
+    private final Map<String, Integer> signatures = new IdentityHashMap<>();
+    protected ByteBuffer window;
+
+    /**
+     * Make room for this many bytes in the window, little-endian, moving it if fewer are left
+     */
+    protected abstract void reserve(int bytes) throws IOException;
+
+    /**
+     * Undefined behavior if the arguments do not match the signature
+     */
+    void call(String signature, Object[] arguments) throws IOException {
+        Integer index = signatures.get(signature);
+        if (index == null) {
+            index = signatures.size();
+            signatures.put(signature, index);
+            byte[] bytes = signature.getBytes(StandardCharsets.UTF_8);
+            reserve(1 + Integer.BYTES + Short.BYTES + bytes.length);
+            window.put(GlCallDecoder.SIGNATURE);
+            window.putInt(index);
+            window.putShort((short) bytes.length);
+            window.put(bytes);
+        }
+        reserve(1 + Integer.BYTES);
+        window.put(GlCallDecoder.CALL);
+        window.putInt(index);
+        int argument = 0;
+        for (int i = signature.indexOf('(') + 1; signature.charAt(i) != ')'; ++i) {
+            char code = signature.charAt(i);
+            if (code == '[') {
+                writeArray(signature.charAt(++i), arguments[argument++]);
+            } else {
+                write(code, arguments[argument++]);
+            }
+        }
+    }
+
+    private void write(char code, Object argument) throws IOException {
+        switch (code) {
+            case 'I' -> {
+                reserve(Integer.BYTES);
+                window.putInt((Integer) argument);
+            }
+            case 'S' -> {
+                reserve(Short.BYTES);
+                window.putShort((Short) argument);
+            }
+            case 'B' -> {
+                reserve(1);
+                window.put((Byte) argument);
+            }
+            case 'F' -> {
+                reserve(Float.BYTES);
+                window.putFloat((Float) argument);
+            }
+            case 'D' -> {
+                reserve(Double.BYTES);
+                window.putDouble((Double) argument);
+            }
+            case 'Z' -> {
+                reserve(1);
+                window.put((byte) ((Boolean) argument ? 1 : 0));
+            }
+            case 'P' -> {
+                reserve(Long.BYTES);
+                window.putLong((Long) argument);
+            }
+            case 'b' -> writeBuffer((Buffer) argument, 0);
+            case 's' -> writeBuffer((Buffer) argument, 1);
+            case 'i', 'f' -> writeBuffer((Buffer) argument, 2);
+            case 'd' -> writeBuffer((Buffer) argument, 3);
+            case 'C' -> writeSequence((CharSequence) argument);
+            case 'c' -> {
+                CharSequence[] sequences = (CharSequence[]) argument;
+                reserve(Integer.BYTES);
+                window.putInt(sequences == null ? -1 : sequences.length);
+                if (sequences != null) {
+                    for (CharSequence sequence : sequences) {
+                        writeSequence(sequence);
+                    }
+                }
+            }
+            case 'q' -> {
+                // the memory behind the pointers is unknown
+            }
+            default -> throw new IllegalArgumentException("Unknown code " + code);
+        }
+    }
+
+    /**
+     * @param shift log2 of the element size
+     */
+    private void writeBuffer(Buffer buffer, int shift) throws IOException {
+        if (buffer == null) {
+            reserve(Integer.BYTES);
+            window.putInt(-1);
+            return;
+        }
+        int bytes = buffer.remaining() << shift;
+        reserve(Integer.BYTES + bytes);
+        window.putInt(bytes);
+        window.put(memByteBuffer(memAddress(buffer), bytes));
+    }
+
+    private void writeSequence(CharSequence sequence) throws IOException {
+        if (sequence == null) {
+            reserve(Integer.BYTES);
+            window.putInt(-1);
+            return;
+        }
+        byte[] bytes = sequence.toString().getBytes(StandardCharsets.UTF_8);
+        reserve(Integer.BYTES + bytes.length);
+        window.putInt(bytes.length);
+        window.put(bytes);
+    }
+
+    private void writeArray(char code, Object array) throws IOException {
+        if (array == null) {
+            reserve(Integer.BYTES);
+            window.putInt(-1);
+            return;
+        }
+        switch (code) {
+            case 'S' -> {
+                short[] elements = (short[]) array;
+                reserve(Integer.BYTES + elements.length * Short.BYTES);
+                window.putInt(elements.length);
+                for (short element : elements) {
+                    window.putShort(element);
+                }
+            }
+            case 'I' -> {
+                int[] elements = (int[]) array;
+                reserve(Integer.BYTES + elements.length * Integer.BYTES);
+                window.putInt(elements.length);
+                for (int element : elements) {
+                    window.putInt(element);
+                }
+            }
+            case 'F' -> {
+                float[] elements = (float[]) array;
+                reserve(Integer.BYTES + elements.length * Float.BYTES);
+                window.putInt(elements.length);
+                for (float element : elements) {
+                    window.putFloat(element);
+                }
+            }
+            case 'D' -> {
+                double[] elements = (double[]) array;
+                reserve(Integer.BYTES + elements.length * Double.BYTES);
+                window.putInt(elements.length);
+                for (double element : elements) {
+                    window.putDouble(element);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown array code " + code);
+        }
+    }
+
+}
@@ -0,0 +1,600 @@
+package lwjglalti.gl;
+
+/**
+ * The entry points of {@code GL11} and {@code ARBShaderObjects} that {@link CallProfiler} counts, one per method name.
+ * Their ordinals also identify the calls that {@link RenderThread} queues.
+ * <p>
+ * The constants are generated with the adapters, from the method names of their templates, by
+ * core/generator/GenerateAdapters.java: edit the templates rather than this class.
+ */
+public enum GlEntryPoint {
+
+    GL_ENABLE("glEnable"),
+    GL_DISABLE("glDisable"),
+    GL_ACCUM("glAccum"),
+    GL_ALPHA_FUNC("glAlphaFunc"),
+    NGL_ARE_TEXTURES_RESIDENT("nglAreTexturesResident"),
+    GL_ARE_TEXTURES_RESIDENT("glAreTexturesResident"),
+    GL_ARRAY_ELEMENT("glArrayElement"),
+    GL_BEGIN("glBegin"),
+    GL_BIND_TEXTURE("glBindTexture"),
+    NGL_BITMAP("nglBitmap"),
+    GL_BITMAP("glBitmap"),
+    GL_BLEND_FUNC("glBlendFunc"),
+    GL_CALL_LIST("glCallList"),
+    NGL_CALL_LISTS("nglCallLists"),
+    GL_CALL_LISTS("glCallLists"),
+    GL_CLEAR("glClear"),
+    GL_CLEAR_ACCUM("glClearAccum"),
+    GL_CLEAR_COLOR("glClearColor"),
+    GL_CLEAR_DEPTH("glClearDepth"),
+    GL_CLEAR_INDEX("glClearIndex"),
+    GL_CLEAR_STENCIL("glClearStencil"),
+    NGL_CLIP_PLANE("nglClipPlane"),
+    GL_CLIP_PLANE("glClipPlane"),
+    GL_COLOR3B("glColor3b"),
+    GL_COLOR3S("glColor3s"),
+    GL_COLOR3I("glColor3i"),
+    GL_COLOR3F("glColor3f"),
+    GL_COLOR3D("glColor3d"),
+    GL_COLOR3UB("glColor3ub"),
+    GL_COLOR3US("glColor3us"),
+    GL_COLOR3UI("glColor3ui"),
+    NGL_COLOR3BV("nglColor3bv"),
+    GL_COLOR3BV("glColor3bv"),
+    NGL_COLOR3SV("nglColor3sv"),
+    GL_COLOR3SV("glColor3sv"),
+    NGL_COLOR3IV("nglColor3iv"),
+    GL_COLOR3IV("glColor3iv"),
+    NGL_COLOR3FV("nglColor3fv"),
+    GL_COLOR3FV("glColor3fv"),
+    NGL_COLOR3DV("nglColor3dv"),
+    GL_COLOR3DV("glColor3dv"),
+    NGL_COLOR3UBV("nglColor3ubv"),
+    GL_COLOR3UBV("glColor3ubv"),
+    NGL_COLOR3USV("nglColor3usv"),
+    GL_COLOR3USV("glColor3usv"),
+    NGL_COLOR3UIV("nglColor3uiv"),
+    GL_COLOR3UIV("glColor3uiv"),
+    GL_COLOR4B("glColor4b"),
+    GL_COLOR4S("glColor4s"),
+    GL_COLOR4I("glColor4i"),
+    GL_COLOR4F("glColor4f"),
+    GL_COLOR4D("glColor4d"),
+    GL_COLOR4UB("glColor4ub"),
+    GL_COLOR4US("glColor4us"),
+    GL_COLOR4UI("glColor4ui"),
+    NGL_COLOR4BV("nglColor4bv"),
+    GL_COLOR4BV("glColor4bv"),
+    NGL_COLOR4SV("nglColor4sv"),
+    GL_COLOR4SV("glColor4sv"),
+    NGL_COLOR4IV("nglColor4iv"),
+    GL_COLOR4IV("glColor4iv"),
+    NGL_COLOR4FV("nglColor4fv"),
+    GL_COLOR4FV("glColor4fv"),
+    NGL_COLOR4DV("nglColor4dv"),
+    GL_COLOR4DV("glColor4dv"),
+    NGL_COLOR4UBV("nglColor4ubv"),
+    GL_COLOR4UBV("glColor4ubv"),
+    NGL_COLOR4USV("nglColor4usv"),
+    GL_COLOR4USV("glColor4usv"),
+    NGL_COLOR4UIV("nglColor4uiv"),
+    GL_COLOR4UIV("glColor4uiv"),
+    GL_COLOR_MASK("glColorMask"),
+    GL_COLOR_MATERIAL("glColorMaterial"),
+    NGL_COLOR_POINTER("nglColorPointer"),
+    GL_COLOR_POINTER("glColorPointer"),
+    GL_COPY_PIXELS("glCopyPixels"),
+    GL_CULL_FACE("glCullFace"),
+    GL_DELETE_LISTS("glDeleteLists"),
+    GL_DEPTH_FUNC("glDepthFunc"),
+    GL_DEPTH_MASK("glDepthMask"),
+    GL_DEPTH_RANGE("glDepthRange"),
+    GL_DISABLE_CLIENT_STATE("glDisableClientState"),
+    GL_DRAW_ARRAYS("glDrawArrays"),
+    GL_DRAW_BUFFER("glDrawBuffer"),
+    NGL_DRAW_ELEMENTS("nglDrawElements"),
+    GL_DRAW_ELEMENTS("glDrawElements"),
+    NGL_DRAW_PIXELS("nglDrawPixels"),
+    GL_DRAW_PIXELS("glDrawPixels"),
+    GL_EDGE_FLAG("glEdgeFlag"),
+    NGL_EDGE_FLAGV("nglEdgeFlagv"),
+    GL_EDGE_FLAGV("glEdgeFlagv"),
+    NGL_EDGE_FLAG_POINTER("nglEdgeFlagPointer"),
+    GL_EDGE_FLAG_POINTER("glEdgeFlagPointer"),
+    GL_ENABLE_CLIENT_STATE("glEnableClientState"),
+    GL_END("glEnd"),
+    GL_EVAL_COORD1F("glEvalCoord1f"),
+    NGL_EVAL_COORD1FV("nglEvalCoord1fv"),
+    GL_EVAL_COORD1FV("glEvalCoord1fv"),
+    GL_EVAL_COORD1D("glEvalCoord1d"),
+    NGL_EVAL_COORD1DV("nglEvalCoord1dv"),
+    GL_EVAL_COORD1DV("glEvalCoord1dv"),
+    GL_EVAL_COORD2F("glEvalCoord2f"),
+    NGL_EVAL_COORD2FV("nglEvalCoord2fv"),
+    GL_EVAL_COORD2FV("glEvalCoord2fv"),
+    GL_EVAL_COORD2D("glEvalCoord2d"),
+    NGL_EVAL_COORD2DV("nglEvalCoord2dv"),
+    GL_EVAL_COORD2DV("glEvalCoord2dv"),
+    GL_EVAL_MESH1("glEvalMesh1"),
+    GL_EVAL_MESH2("glEvalMesh2"),
+    GL_EVAL_POINT1("glEvalPoint1"),
+    GL_EVAL_POINT2("glEvalPoint2"),
+    NGL_FEEDBACK_BUFFER("nglFeedbackBuffer"),
+    GL_FEEDBACK_BUFFER("glFeedbackBuffer"),
+    GL_FINISH("glFinish"),
+    GL_FLUSH("glFlush"),
+    GL_FOGI("glFogi"),
+    NGL_FOGIV("nglFogiv"),
+    GL_FOGIV("glFogiv"),
+    GL_FOGF("glFogf"),
+    NGL_FOGFV("nglFogfv"),
+    GL_FOGFV("glFogfv"),
+    GL_FRONT_FACE("glFrontFace"),
+    GL_GEN_LISTS("glGenLists"),
+    NGL_GEN_TEXTURES("nglGenTextures"),
+    GL_GEN_TEXTURES("glGenTextures"),
+    NGL_DELETE_TEXTURES("nglDeleteTextures"),
+    GL_DELETE_TEXTURES("glDeleteTextures"),
+    NGL_GET_CLIP_PLANE("nglGetClipPlane"),
+    GL_GET_CLIP_PLANE("glGetClipPlane"),
+    NGL_GET_BOOLEANV("nglGetBooleanv"),
+    GL_GET_BOOLEANV("glGetBooleanv"),
+    GL_GET_BOOLEAN("glGetBoolean"),
+    NGL_GET_FLOATV("nglGetFloatv"),
+    GL_GET_FLOATV("glGetFloatv"),
+    GL_GET_FLOAT("glGetFloat"),
+    NGL_GET_INTEGERV("nglGetIntegerv"),
+    GL_GET_INTEGERV("glGetIntegerv"),
+    GL_GET_INTEGER("glGetInteger"),
+    NGL_GET_DOUBLEV("nglGetDoublev"),
+    GL_GET_DOUBLEV("glGetDoublev"),
+    GL_GET_DOUBLE("glGetDouble"),
+    GL_GET_ERROR("glGetError"),
+    NGL_GET_LIGHTIV("nglGetLightiv"),
+    GL_GET_LIGHTIV("glGetLightiv"),
+    GL_GET_LIGHTI("glGetLighti"),
+    NGL_GET_LIGHTFV("nglGetLightfv"),
+    GL_GET_LIGHTFV("glGetLightfv"),
+    GL_GET_LIGHTF("glGetLightf"),
+    NGL_GET_MAPIV("nglGetMapiv"),
+    GL_GET_MAPIV("glGetMapiv"),
+    GL_GET_MAPI("glGetMapi"),
+    NGL_GET_MAPFV("nglGetMapfv"),
+    GL_GET_MAPFV("glGetMapfv"),
+    GL_GET_MAPF("glGetMapf"),
+    NGL_GET_MAPDV("nglGetMapdv"),
+    GL_GET_MAPDV("glGetMapdv"),
+    GL_GET_MAPD("glGetMapd"),
+    NGL_GET_MATERIALIV("nglGetMaterialiv"),
+    GL_GET_MATERIALIV("glGetMaterialiv"),
+    NGL_GET_MATERIALFV("nglGetMaterialfv"),
+    GL_GET_MATERIALFV("glGetMaterialfv"),
+    NGL_GET_PIXEL_MAPFV("nglGetPixelMapfv"),
+    GL_GET_PIXEL_MAPFV("glGetPixelMapfv"),
+    NGL_GET_PIXEL_MAPUSV("nglGetPixelMapusv"),
+    GL_GET_PIXEL_MAPUSV("glGetPixelMapusv"),
+    NGL_GET_PIXEL_MAPUIV("nglGetPixelMapuiv"),
+    GL_GET_PIXEL_MAPUIV("glGetPixelMapuiv"),
+    NGL_GET_POINTERV("nglGetPointerv"),
+    GL_GET_POINTERV("glGetPointerv"),
+    GL_GET_POINTER("glGetPointer"),
+    NGL_GET_POLYGON_STIPPLE("nglGetPolygonStipple"),
+    GL_GET_POLYGON_STIPPLE("glGetPolygonStipple"),
+    NGL_GET_STRING("nglGetString"),
+    GL_GET_STRING("glGetString"),
+    NGL_GET_TEX_ENVIV("nglGetTexEnviv"),
+    GL_GET_TEX_ENVIV("glGetTexEnviv"),
+    GL_GET_TEX_ENVI("glGetTexEnvi"),
+    NGL_GET_TEX_ENVFV("nglGetTexEnvfv"),
+    GL_GET_TEX_ENVFV("glGetTexEnvfv"),
+    GL_GET_TEX_ENVF("glGetTexEnvf"),
+    NGL_GET_TEX_GENIV("nglGetTexGeniv"),
+    GL_GET_TEX_GENIV("glGetTexGeniv"),
+    GL_GET_TEX_GENI("glGetTexGeni"),
+    NGL_GET_TEX_GENFV("nglGetTexGenfv"),
+    GL_GET_TEX_GENFV("glGetTexGenfv"),
+    GL_GET_TEX_GENF("glGetTexGenf"),
+    NGL_GET_TEX_GENDV("nglGetTexGendv"),
+    GL_GET_TEX_GENDV("glGetTexGendv"),
+    GL_GET_TEX_GEND("glGetTexGend"),
+    NGL_GET_TEX_IMAGE("nglGetTexImage"),
+    GL_GET_TEX_IMAGE("glGetTexImage"),
+    NGL_GET_TEX_LEVEL_PARAMETERIV("nglGetTexLevelParameteriv"),
+    GL_GET_TEX_LEVEL_PARAMETERIV("glGetTexLevelParameteriv"),
+    GL_GET_TEX_LEVEL_PARAMETERI("glGetTexLevelParameteri"),
+    NGL_GET_TEX_LEVEL_PARAMETERFV("nglGetTexLevelParameterfv"),
+    GL_GET_TEX_LEVEL_PARAMETERFV("glGetTexLevelParameterfv"),
+    GL_GET_TEX_LEVEL_PARAMETERF("glGetTexLevelParameterf"),
+    NGL_GET_TEX_PARAMETERIV("nglGetTexParameteriv"),
+    GL_GET_TEX_PARAMETERIV("glGetTexParameteriv"),
+    GL_GET_TEX_PARAMETERI("glGetTexParameteri"),
+    NGL_GET_TEX_PARAMETERFV("nglGetTexParameterfv"),
+    GL_GET_TEX_PARAMETERFV("glGetTexParameterfv"),
+    GL_GET_TEX_PARAMETERF("glGetTexParameterf"),
+    GL_HINT("glHint"),
+    GL_INDEXI("glIndexi"),
+    GL_INDEXUB("glIndexub"),
+    GL_INDEXS("glIndexs"),
+    GL_INDEXF("glIndexf"),
+    GL_INDEXD("glIndexd"),
+    NGL_INDEXIV("nglIndexiv"),
+    GL_INDEXIV("glIndexiv"),
+    NGL_INDEXUBV("nglIndexubv"),
+    GL_INDEXUBV("glIndexubv"),
+    NGL_INDEXSV("nglIndexsv"),
+    GL_INDEXSV("glIndexsv"),
+    NGL_INDEXFV("nglIndexfv"),
+    GL_INDEXFV("glIndexfv"),
+    NGL_INDEXDV("nglIndexdv"),
+    GL_INDEXDV("glIndexdv"),
+    GL_INDEX_MASK("glIndexMask"),
+    NGL_INDEX_POINTER("nglIndexPointer"),
+    GL_INDEX_POINTER("glIndexPointer"),
+    GL_INIT_NAMES("glInitNames"),
+    NGL_INTERLEAVED_ARRAYS("nglInterleavedArrays"),
+    GL_INTERLEAVED_ARRAYS("glInterleavedArrays"),
+    GL_IS_ENABLED("glIsEnabled"),
+    GL_IS_LIST("glIsList"),
+    GL_IS_TEXTURE("glIsTexture"),
+    GL_LIGHT_MODELI("glLightModeli"),
+    GL_LIGHT_MODELF("glLightModelf"),
+    NGL_LIGHT_MODELIV("nglLightModeliv"),
+    GL_LIGHT_MODELIV("glLightModeliv"),
+    NGL_LIGHT_MODELFV("nglLightModelfv"),
+    GL_LIGHT_MODELFV("glLightModelfv"),
+    GL_LIGHTI("glLighti"),
+    GL_LIGHTF("glLightf"),
+    NGL_LIGHTIV("nglLightiv"),
+    GL_LIGHTIV("glLightiv"),
+    NGL_LIGHTFV("nglLightfv"),
+    GL_LIGHTFV("glLightfv"),
+    GL_LINE_STIPPLE("glLineStipple"),
+    GL_LINE_WIDTH("glLineWidth"),
+    GL_LIST_BASE("glListBase"),
+    NGL_LOAD_MATRIXF("nglLoadMatrixf"),
+    GL_LOAD_MATRIXF("glLoadMatrixf"),
+    NGL_LOAD_MATRIXD("nglLoadMatrixd"),
+    GL_LOAD_MATRIXD("glLoadMatrixd"),
+    GL_LOAD_IDENTITY("glLoadIdentity"),
+    GL_LOAD_NAME("glLoadName"),
+    GL_LOGIC_OP("glLogicOp"),
+    NGL_MAP1F("nglMap1f"),
+    GL_MAP1F("glMap1f"),
+    NGL_MAP1D("nglMap1d"),
+    GL_MAP1D("glMap1d"),
+    NGL_MAP2F("nglMap2f"),
+    GL_MAP2F("glMap2f"),
+    NGL_MAP2D("nglMap2d"),
+    GL_MAP2D("glMap2d"),
+    GL_MAP_GRID1F("glMapGrid1f"),
+    GL_MAP_GRID1D("glMapGrid1d"),
+    GL_MAP_GRID2F("glMapGrid2f"),
+    GL_MAP_GRID2D("glMapGrid2d"),
+    GL_MATERIALI("glMateriali"),
+    GL_MATERIALF("glMaterialf"),
+    NGL_MATERIALIV("nglMaterialiv"),
+    GL_MATERIALIV("glMaterialiv"),
+    NGL_MATERIALFV("nglMaterialfv"),
+    GL_MATERIALFV("glMaterialfv"),
+    GL_MATRIX_MODE("glMatrixMode"),
+    NGL_MULT_MATRIXF("nglMultMatrixf"),
+    GL_MULT_MATRIXF("glMultMatrixf"),
+    NGL_MULT_MATRIXD("nglMultMatrixd"),
+    GL_MULT_MATRIXD("glMultMatrixd"),
+    GL_FRUSTUM("glFrustum"),
+    GL_NEW_LIST("glNewList"),
+    GL_END_LIST("glEndList"),
+    GL_NORMAL3F("glNormal3f"),
+    GL_NORMAL3B("glNormal3b"),
+    GL_NORMAL3S("glNormal3s"),
+    GL_NORMAL3I("glNormal3i"),
+    GL_NORMAL3D("glNormal3d"),
+    NGL_NORMAL3FV("nglNormal3fv"),
+    GL_NORMAL3FV("glNormal3fv"),
+    NGL_NORMAL3BV("nglNormal3bv"),
+    GL_NORMAL3BV("glNormal3bv"),
+    NGL_NORMAL3SV("nglNormal3sv"),
+    GL_NORMAL3SV("glNormal3sv"),
+    NGL_NORMAL3IV("nglNormal3iv"),
+    GL_NORMAL3IV("glNormal3iv"),
+    NGL_NORMAL3DV("nglNormal3dv"),
+    GL_NORMAL3DV("glNormal3dv"),
+    NGL_NORMAL_POINTER("nglNormalPointer"),
+    GL_NORMAL_POINTER("glNormalPointer"),
+    GL_ORTHO("glOrtho"),
+    GL_PASS_THROUGH("glPassThrough"),
+    NGL_PIXEL_MAPFV("nglPixelMapfv"),
+    GL_PIXEL_MAPFV("glPixelMapfv"),
+    NGL_PIXEL_MAPUSV("nglPixelMapusv"),
+    GL_PIXEL_MAPUSV("glPixelMapusv"),
+    NGL_PIXEL_MAPUIV("nglPixelMapuiv"),
+    GL_PIXEL_MAPUIV("glPixelMapuiv"),
+    GL_PIXEL_STOREI("glPixelStorei"),
+    GL_PIXEL_STOREF("glPixelStoref"),
+    GL_PIXEL_TRANSFERI("glPixelTransferi"),
+    GL_PIXEL_TRANSFERF("glPixelTransferf"),
+    GL_PIXEL_ZOOM("glPixelZoom"),
+    GL_POINT_SIZE("glPointSize"),
+    GL_POLYGON_MODE("glPolygonMode"),
+    GL_POLYGON_OFFSET("glPolygonOffset"),
+    NGL_POLYGON_STIPPLE("nglPolygonStipple"),
+    GL_POLYGON_STIPPLE("glPolygonStipple"),
+    GL_PUSH_ATTRIB("glPushAttrib"),
+    GL_PUSH_CLIENT_ATTRIB("glPushClientAttrib"),
+    GL_POP_ATTRIB("glPopAttrib"),
+    GL_POP_CLIENT_ATTRIB("glPopClientAttrib"),
+    GL_POP_MATRIX("glPopMatrix"),
+    GL_POP_NAME("glPopName"),
+    NGL_PRIORITIZE_TEXTURES("nglPrioritizeTextures"),
+    GL_PRIORITIZE_TEXTURES("glPrioritizeTextures"),
+    GL_PUSH_MATRIX("glPushMatrix"),
+    GL_PUSH_NAME("glPushName"),
+    GL_RASTER_POS2I("glRasterPos2i"),
+    GL_RASTER_POS2S("glRasterPos2s"),
+    GL_RASTER_POS2F("glRasterPos2f"),
+    GL_RASTER_POS2D("glRasterPos2d"),
+    NGL_RASTER_POS2IV("nglRasterPos2iv"),
+    GL_RASTER_POS2IV("glRasterPos2iv"),
+    NGL_RASTER_POS2SV("nglRasterPos2sv"),
+    GL_RASTER_POS2SV("glRasterPos2sv"),
+    NGL_RASTER_POS2FV("nglRasterPos2fv"),
+    GL_RASTER_POS2FV("glRasterPos2fv"),
+    NGL_RASTER_POS2DV("nglRasterPos2dv"),
+    GL_RASTER_POS2DV("glRasterPos2dv"),
+    GL_RASTER_POS3I("glRasterPos3i"),
+    GL_RASTER_POS3S("glRasterPos3s"),
+    GL_RASTER_POS3F("glRasterPos3f"),
+    GL_RASTER_POS3D("glRasterPos3d"),
+    NGL_RASTER_POS3IV("nglRasterPos3iv"),
+    GL_RASTER_POS3IV("glRasterPos3iv"),
+    NGL_RASTER_POS3SV("nglRasterPos3sv"),
+    GL_RASTER_POS3SV("glRasterPos3sv"),
+    NGL_RASTER_POS3FV("nglRasterPos3fv"),
+    GL_RASTER_POS3FV("glRasterPos3fv"),
+    NGL_RASTER_POS3DV("nglRasterPos3dv"),
+    GL_RASTER_POS3DV("glRasterPos3dv"),
+    GL_RASTER_POS4I("glRasterPos4i"),
+    GL_RASTER_POS4S("glRasterPos4s"),
+    GL_RASTER_POS4F("glRasterPos4f"),
+    GL_RASTER_POS4D("glRasterPos4d"),
+    NGL_RASTER_POS4IV("nglRasterPos4iv"),
+    GL_RASTER_POS4IV("glRasterPos4iv"),
+    NGL_RASTER_POS4SV("nglRasterPos4sv"),
+    GL_RASTER_POS4SV("glRasterPos4sv"),
+    NGL_RASTER_POS4FV("nglRasterPos4fv"),
+    GL_RASTER_POS4FV("glRasterPos4fv"),
+    NGL_RASTER_POS4DV("nglRasterPos4dv"),
+    GL_RASTER_POS4DV("glRasterPos4dv"),
+    GL_READ_BUFFER("glReadBuffer"),
+    NGL_READ_PIXELS("nglReadPixels"),
+    GL_READ_PIXELS("glReadPixels"),
+    GL_RECTI("glRecti"),
+    GL_RECTS("glRects"),
+    GL_RECTF("glRectf"),
+    GL_RECTD("glRectd"),
+    NGL_RECTIV("nglRectiv"),
+    GL_RECTIV("glRectiv"),
+    NGL_RECTSV("nglRectsv"),
+    GL_RECTSV("glRectsv"),
+    NGL_RECTFV("nglRectfv"),
+    GL_RECTFV("glRectfv"),
+    NGL_RECTDV("nglRectdv"),
+    GL_RECTDV("glRectdv"),
+    GL_RENDER_MODE("glRenderMode"),
+    GL_ROTATEF("glRotatef"),
+    GL_ROTATED("glRotated"),
+    GL_SCALEF("glScalef"),
+    GL_SCALED("glScaled"),
+    GL_SCISSOR("glScissor"),
+    NGL_SELECT_BUFFER("nglSelectBuffer"),
+    GL_SELECT_BUFFER("glSelectBuffer"),
+    GL_SHADE_MODEL("glShadeModel"),
+    GL_STENCIL_FUNC("glStencilFunc"),
+    GL_STENCIL_MASK("glStencilMask"),
+    GL_STENCIL_OP("glStencilOp"),
+    GL_TEX_COORD1F("glTexCoord1f"),
+    GL_TEX_COORD1S("glTexCoord1s"),
+    GL_TEX_COORD1I("glTexCoord1i"),
+    GL_TEX_COORD1D("glTexCoord1d"),
+    NGL_TEX_COORD1FV("nglTexCoord1fv"),
+    GL_TEX_COORD1FV("glTexCoord1fv"),
+    NGL_TEX_COORD1SV("nglTexCoord1sv"),
+    GL_TEX_COORD1SV("glTexCoord1sv"),
+    NGL_TEX_COORD1IV("nglTexCoord1iv"),
+    GL_TEX_COORD1IV("glTexCoord1iv"),
+    NGL_TEX_COORD1DV("nglTexCoord1dv"),
+    GL_TEX_COORD1DV("glTexCoord1dv"),
+    GL_TEX_COORD2F("glTexCoord2f"),
+    GL_TEX_COORD2S("glTexCoord2s"),
+    GL_TEX_COORD2I("glTexCoord2i"),
+    GL_TEX_COORD2D("glTexCoord2d"),
+    NGL_TEX_COORD2FV("nglTexCoord2fv"),
+    GL_TEX_COORD2FV("glTexCoord2fv"),
+    NGL_TEX_COORD2SV("nglTexCoord2sv"),
+    GL_TEX_COORD2SV("glTexCoord2sv"),
+    NGL_TEX_COORD2IV("nglTexCoord2iv"),
+    GL_TEX_COORD2IV("glTexCoord2iv"),
+    NGL_TEX_COORD2DV("nglTexCoord2dv"),
+    GL_TEX_COORD2DV("glTexCoord2dv"),
+    GL_TEX_COORD3F("glTexCoord3f"),
+    GL_TEX_COORD3S("glTexCoord3s"),
+    GL_TEX_COORD3I("glTexCoord3i"),
+    GL_TEX_COORD3D("glTexCoord3d"),
+    NGL_TEX_COORD3FV("nglTexCoord3fv"),
+    GL_TEX_COORD3FV("glTexCoord3fv"),
+    NGL_TEX_COORD3SV("nglTexCoord3sv"),
+    GL_TEX_COORD3SV("glTexCoord3sv"),
+    NGL_TEX_COORD3IV("nglTexCoord3iv"),
+    GL_TEX_COORD3IV("glTexCoord3iv"),
+    NGL_TEX_COORD3DV("nglTexCoord3dv"),
+    GL_TEX_COORD3DV("glTexCoord3dv"),
+    GL_TEX_COORD4F("glTexCoord4f"),
+    GL_TEX_COORD4S("glTexCoord4s"),
+    GL_TEX_COORD4I("glTexCoord4i"),
+    GL_TEX_COORD4D("glTexCoord4d"),
+    NGL_TEX_COORD4FV("nglTexCoord4fv"),
+    GL_TEX_COORD4FV("glTexCoord4fv"),
+    NGL_TEX_COORD4SV("nglTexCoord4sv"),
+    GL_TEX_COORD4SV("glTexCoord4sv"),
+    NGL_TEX_COORD4IV("nglTexCoord4iv"),
+    GL_TEX_COORD4IV("glTexCoord4iv"),
+    NGL_TEX_COORD4DV("nglTexCoord4dv"),
+    GL_TEX_COORD4DV("glTexCoord4dv"),
+    NGL_TEX_COORD_POINTER("nglTexCoordPointer"),
+    GL_TEX_COORD_POINTER("glTexCoordPointer"),
+    GL_TEX_ENVI("glTexEnvi"),
+    NGL_TEX_ENVIV("nglTexEnviv"),
+    GL_TEX_ENVIV("glTexEnviv"),
+    GL_TEX_ENVF("glTexEnvf"),
+    NGL_TEX_ENVFV("nglTexEnvfv"),
+    GL_TEX_ENVFV("glTexEnvfv"),
+    GL_TEX_GENI("glTexGeni"),
+    NGL_TEX_GENIV("nglTexGeniv"),
+    GL_TEX_GENIV("glTexGeniv"),
+    GL_TEX_GENF("glTexGenf"),
+    NGL_TEX_GENFV("nglTexGenfv"),
+    GL_TEX_GENFV("glTexGenfv"),
+    GL_TEX_GEND("glTexGend"),
+    NGL_TEX_GENDV("nglTexGendv"),
+    GL_TEX_GENDV("glTexGendv"),
+    NGL_TEX_IMAGE1_D("nglTexImage1D"),
+    GL_TEX_IMAGE1_D("glTexImage1D"),
+    NGL_TEX_IMAGE2_D("nglTexImage2D"),
+    GL_TEX_IMAGE2_D("glTexImage2D"),
+    GL_COPY_TEX_IMAGE1_D("glCopyTexImage1D"),
+    GL_COPY_TEX_IMAGE2_D("glCopyTexImage2D"),
+    GL_COPY_TEX_SUB_IMAGE1_D("glCopyTexSubImage1D"),
+    GL_COPY_TEX_SUB_IMAGE2_D("glCopyTexSubImage2D"),
+    GL_TEX_PARAMETERI("glTexParameteri"),
+    NGL_TEX_PARAMETERIV("nglTexParameteriv"),
+    GL_TEX_PARAMETERIV("glTexParameteriv"),
+    GL_TEX_PARAMETERF("glTexParameterf"),
+    NGL_TEX_PARAMETERFV("nglTexParameterfv"),
+    GL_TEX_PARAMETERFV("glTexParameterfv"),
+    NGL_TEX_SUB_IMAGE1_D("nglTexSubImage1D"),
+    GL_TEX_SUB_IMAGE1_D("glTexSubImage1D"),
+    NGL_TEX_SUB_IMAGE2_D("nglTexSubImage2D"),
+    GL_TEX_SUB_IMAGE2_D("glTexSubImage2D"),
+    GL_TRANSLATEF("glTranslatef"),
+    GL_TRANSLATED("glTranslated"),
+    GL_VERTEX2F("glVertex2f"),
+    GL_VERTEX2S("glVertex2s"),
+    GL_VERTEX2I("glVertex2i"),
+    GL_VERTEX2D("glVertex2d"),
+    NGL_VERTEX2FV("nglVertex2fv"),
+    GL_VERTEX2FV("glVertex2fv"),
+    NGL_VERTEX2SV("nglVertex2sv"),
+    GL_VERTEX2SV("glVertex2sv"),
+    NGL_VERTEX2IV("nglVertex2iv"),
+    GL_VERTEX2IV("glVertex2iv"),
+    NGL_VERTEX2DV("nglVertex2dv"),
+    GL_VERTEX2DV("glVertex2dv"),
+    GL_VERTEX3F("glVertex3f"),
+    GL_VERTEX3S("glVertex3s"),
+    GL_VERTEX3I("glVertex3i"),
+    GL_VERTEX3D("glVertex3d"),
+    NGL_VERTEX3FV("nglVertex3fv"),
+    GL_VERTEX3FV("glVertex3fv"),
+    NGL_VERTEX3SV("nglVertex3sv"),
+    GL_VERTEX3SV("glVertex3sv"),
+    NGL_VERTEX3IV("nglVertex3iv"),
+    GL_VERTEX3IV("glVertex3iv"),
+    NGL_VERTEX3DV("nglVertex3dv"),
+    GL_VERTEX3DV("glVertex3dv"),
+    GL_VERTEX4F("glVertex4f"),
+    GL_VERTEX4S("glVertex4s"),
+    GL_VERTEX4I("glVertex4i"),
+    GL_VERTEX4D("glVertex4d"),
+    NGL_VERTEX4FV("nglVertex4fv"),
+    GL_VERTEX4FV("glVertex4fv"),
+    NGL_VERTEX4SV("nglVertex4sv"),
+    GL_VERTEX4SV("glVertex4sv"),
+    NGL_VERTEX4IV("nglVertex4iv"),
+    GL_VERTEX4IV("glVertex4iv"),
+    NGL_VERTEX4DV("nglVertex4dv"),
+    GL_VERTEX4DV("glVertex4dv"),
+    NGL_VERTEX_POINTER("nglVertexPointer"),
+    GL_VERTEX_POINTER("glVertexPointer"),
+    GL_VIEWPORT("glViewport"),
+    GL_GET_TEX_LEVEL_PARAMETER("glGetTexLevelParameter"),
+    GL_TEX_ENV("glTexEnv"),
+    GL_MULT_MATRIX("glMultMatrix"),
+    GL_DELETE_OBJECT_ARB("glDeleteObjectARB"),
+    GL_GET_HANDLE_ARB("glGetHandleARB"),
+    GL_DETACH_OBJECT_ARB("glDetachObjectARB"),
+    GL_CREATE_SHADER_OBJECT_ARB("glCreateShaderObjectARB"),
+    NGL_SHADER_SOURCE_ARB("nglShaderSourceARB"),
+    GL_SHADER_SOURCE_ARB("glShaderSourceARB"),
+    GL_COMPILE_SHADER_ARB("glCompileShaderARB"),
+    GL_CREATE_PROGRAM_OBJECT_ARB("glCreateProgramObjectARB"),
+    GL_ATTACH_OBJECT_ARB("glAttachObjectARB"),
+    GL_LINK_PROGRAM_ARB("glLinkProgramARB"),
+    GL_USE_PROGRAM_OBJECT_ARB("glUseProgramObjectARB"),
+    GL_VALIDATE_PROGRAM_ARB("glValidateProgramARB"),
+    GL_UNIFORM1F_ARB("glUniform1fARB"),
+    GL_UNIFORM2F_ARB("glUniform2fARB"),
+    GL_UNIFORM3F_ARB("glUniform3fARB"),
+    GL_UNIFORM4F_ARB("glUniform4fARB"),
+    GL_UNIFORM1I_ARB("glUniform1iARB"),
+    GL_UNIFORM2I_ARB("glUniform2iARB"),
+    GL_UNIFORM3I_ARB("glUniform3iARB"),
+    GL_UNIFORM4I_ARB("glUniform4iARB"),
+    NGL_UNIFORM1FV_ARB("nglUniform1fvARB"),
+    GL_UNIFORM1FV_ARB("glUniform1fvARB"),
+    NGL_UNIFORM2FV_ARB("nglUniform2fvARB"),
+    GL_UNIFORM2FV_ARB("glUniform2fvARB"),
+    NGL_UNIFORM3FV_ARB("nglUniform3fvARB"),
+    GL_UNIFORM3FV_ARB("glUniform3fvARB"),
+    NGL_UNIFORM4FV_ARB("nglUniform4fvARB"),
+    GL_UNIFORM4FV_ARB("glUniform4fvARB"),
+    NGL_UNIFORM1IV_ARB("nglUniform1ivARB"),
+    GL_UNIFORM1IV_ARB("glUniform1ivARB"),
+    NGL_UNIFORM2IV_ARB("nglUniform2ivARB"),
+    GL_UNIFORM2IV_ARB("glUniform2ivARB"),
+    NGL_UNIFORM3IV_ARB("nglUniform3ivARB"),
+    GL_UNIFORM3IV_ARB("glUniform3ivARB"),
+    NGL_UNIFORM4IV_ARB("nglUniform4ivARB"),
+    GL_UNIFORM4IV_ARB("glUniform4ivARB"),
+    NGL_UNIFORM_MATRIX2FV_ARB("nglUniformMatrix2fvARB"),
+    GL_UNIFORM_MATRIX2FV_ARB("glUniformMatrix2fvARB"),
+    NGL_UNIFORM_MATRIX3FV_ARB("nglUniformMatrix3fvARB"),
+    GL_UNIFORM_MATRIX3FV_ARB("glUniformMatrix3fvARB"),
+    NGL_UNIFORM_MATRIX4FV_ARB("nglUniformMatrix4fvARB"),
+    GL_UNIFORM_MATRIX4FV_ARB("glUniformMatrix4fvARB"),
+    NGL_GET_OBJECT_PARAMETERFV_ARB("nglGetObjectParameterfvARB"),
+    GL_GET_OBJECT_PARAMETERFV_ARB("glGetObjectParameterfvARB"),
+    NGL_GET_OBJECT_PARAMETERIV_ARB("nglGetObjectParameterivARB"),
+    GL_GET_OBJECT_PARAMETERIV_ARB("glGetObjectParameterivARB"),
+    GL_GET_OBJECT_PARAMETERI_ARB("glGetObjectParameteriARB"),
+    NGL_GET_INFO_LOG_ARB("nglGetInfoLogARB"),
+    GL_GET_INFO_LOG_ARB("glGetInfoLogARB"),
+    NGL_GET_ATTACHED_OBJECTS_ARB("nglGetAttachedObjectsARB"),
+    GL_GET_ATTACHED_OBJECTS_ARB("glGetAttachedObjectsARB"),
+    NGL_GET_UNIFORM_LOCATION_ARB("nglGetUniformLocationARB"),
+    GL_GET_UNIFORM_LOCATION_ARB("glGetUniformLocationARB"),
+    NGL_GET_ACTIVE_UNIFORM_ARB("nglGetActiveUniformARB"),
+    GL_GET_ACTIVE_UNIFORM_ARB("glGetActiveUniformARB"),
+    NGL_GET_UNIFORMFV_ARB("nglGetUniformfvARB"),
+    GL_GET_UNIFORMFV_ARB("glGetUniformfvARB"),
+    GL_GET_UNIFORMF_ARB("glGetUniformfARB"),
+    NGL_GET_UNIFORMIV_ARB("nglGetUniformivARB"),
+    GL_GET_UNIFORMIV_ARB("glGetUniformivARB"),
+    GL_GET_UNIFORMI_ARB("glGetUniformiARB"),
+    NGL_GET_SHADER_SOURCE_ARB("nglGetShaderSourceARB"),
+    GL_GET_SHADER_SOURCE_ARB("glGetShaderSourceARB"),
+    GL_GET_OBJECT_PARAMETER_ARB("glGetObjectParameterARB");
+
+    private final String function;
+
+    GlEntryPoint(String function) {
+        this.function = function;
+    }
+
+    /**
+     * The name of the method, as Altitude calls it
+     */
+    public String function() {
+        return function;
+    }
+}
@@ -0,0 +1,356 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import org.lwjgl.opengl.GL11C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.opengl.GL11.GL_ALPHA;
+import static org.lwjgl.opengl.GL11.GL_BLUE;
+import static org.lwjgl.opengl.GL11.GL_BYTE;
+import static org.lwjgl.opengl.GL11.GL_COLOR_INDEX;
+import static org.lwjgl.opengl.GL11.GL_DEPTH_COMPONENT;
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+import static org.lwjgl.opengl.GL11.GL_GREEN;
+import static org.lwjgl.opengl.GL11.GL_INT;
+import static org.lwjgl.opengl.GL11.GL_LUMINANCE;
+import static org.lwjgl.opengl.GL11.GL_LUMINANCE_ALPHA;
+import static org.lwjgl.opengl.GL11.GL_RED;
+import static org.lwjgl.opengl.GL11.GL_RGB;
+import static org.lwjgl.opengl.GL11.GL_SHORT;
+import static org.lwjgl.opengl.GL11.GL_STENCIL_INDEX;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_BINDING_2D;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+import static org.lwjgl.opengl.GL12.GL_BGR;
+import static org.lwjgl.opengl.GL12.GL_UNSIGNED_BYTE_3_3_2;
+import static org.lwjgl.opengl.GL12.GL_UNSIGNED_INT_8_8_8_8;
+import static org.lwjgl.opengl.GL12.GL_UNSIGNED_INT_8_8_8_8_REV;
+import static org.lwjgl.opengl.GL12.GL_UNSIGNED_SHORT_4_4_4_4;
+import static org.lwjgl.opengl.GL12.GL_UNSIGNED_SHORT_5_5_5_1;
+import static org.lwjgl.opengl.GL12.GL_UNSIGNED_SHORT_5_6_5;
+import static org.lwjgl.system.MemoryUtil.memGetInt;
+
+/**
+ * Accounting of the GL objects that Altitude creates and deletes: textures, with an estimate of their memory, display
+ * lists, and the shader objects of {@code ARBShaderObjects}, as well as the buffers of the emulation layers. A
+ * snapshot is logged every minute, and the objects still alive when the display is destroyed are reported as leaks.
+ * <p>
+ * The memory of a texture is estimated from the format, type, and size of every level uploaded with
+ * {@code glTexImage2D}, which is what the driver was given, rather than what it keeps: drivers pad and compress as
+ * they see fit. Textures compressed by {@code TextureCompression} count at the size of their blocks. Uploads while a display list is compiled are not counted.
+ */
+public class GlObjects {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.glObjectTracking();
+
+    private static final long SNAPSHOT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    // levels of a texture are keyed after its name, below this many bits
+    private static final int LEVEL_BITS = 5;
+    private static final int LEAK_REPORT_SIZE = 10;
+
+    // FIELD GROUP: live objects, by name
+    private static final LongLongMap textureBytes = new LongLongMap(256);
+    private static final LongLongMap levelBytes = new LongLongMap(256);
+    private static final LongLongMap lists = new LongLongMap(1024);
+    // to the shader type, or 0 for programs
+    private static final LongLongMap shaderObjects = new LongLongMap(64);
+    private static final LongLongMap bufferBytes = new LongLongMap(64);
+
+    // FIELD GROUP: totals
+    private static long totalTextureBytes = 0;
+    private static long peakTextureBytes = 0;
+    private static long totalBufferBytes = 0;
+    private static int texturesCreated = 0;
+    private static int texturesDeleted = 0;
+
+    // FIELD GROUP: snapshots
+    private static long snapshotStart = System.nanoTime();
+    private static int snapshotTextures = 0;
+    private static long snapshotTextureBytes = 0;
+
+    private GlObjects() {
+        // static api
+    }
+
+    public static void contextCreated() {
+        // the objects of the previous context, if any, were reported with it
+        textureBytes.clear();
+        levelBytes.clear();
+        lists.clear();
+        shaderObjects.clear();
+        bufferBytes.clear();
+        totalTextureBytes = 0;
+        peakTextureBytes = 0;
+        totalBufferBytes = 0;
+        texturesCreated = 0;
+        texturesDeleted = 0;
+        snapshotStart = System.nanoTime();
+        snapshotTextures = 0;
+        snapshotTextureBytes = 0;
+    }
+
+    // TEXTURES
+
+    public static void texturesCreated(IntBuffer textures) {
+        for (int i = textures.position(); i < textures.limit(); ++i) {
+            textureCreated(textures.get(i));
+        }
+    }
+
+    public static void texturesCreated(int[] textures) {
+        for (int texture : textures) {
+            textureCreated(texture);
+        }
+    }
+
+    public static void texturesCreated(int n, long textures) {
+        for (int i = 0; i < n; ++i) {
+            textureCreated(memGetInt(textures + (long) i * Integer.BYTES));
+        }
+    }
+
+    public static void textureCreated(int texture) {
+        if (!ENABLED) {
+            return;
+        }
+        ++texturesCreated;
+        textureBytes.put(texture, 0);
+    }
+
+    public static void texturesDeleted(IntBuffer textures) {
+        for (int i = textures.position(); i < textures.limit(); ++i) {
+            textureDeleted(textures.get(i));
+        }
+    }
+
+    public static void texturesDeleted(int[] textures) {
+        for (int texture : textures) {
+            textureDeleted(texture);
+        }
+    }
+
+    public static void texturesDeleted(int n, long textures) {
+        for (int i = 0; i < n; ++i) {
+            textureDeleted(memGetInt(textures + (long) i * Integer.BYTES));
+        }
+    }
+
+    public static void textureDeleted(int texture) {
+        if (!ENABLED || texture == 0 || !textureBytes.containsKey(texture)) {
+            return;
+        }
+        ++texturesDeleted;
+        totalTextureBytes -= textureBytes.remove(texture);
+        for (int level = 0; level < 1 << LEVEL_BITS; ++level) {
+            levelBytes.remove(levelKey(texture, level));
+        }
+    }
+
+    /**
+     * After a level of the bound texture is uploaded
+     */
+    public static void texImage2D(int target, int level, int width, int height, int format, int type) {
+        if (!ENABLED || target != GL_TEXTURE_2D || level < 0 || level >= 1 << LEVEL_BITS || GlStateCache.compilingList()) {
+            return;
+        }
+        int texture = GlStateCache.answers(GL_TEXTURE_BINDING_2D)
+                ? (int) GlStateCache.value(GL_TEXTURE_BINDING_2D, 0)
+                : GL11C.glGetInteger(GL_TEXTURE_BINDING_2D);
+        if (texture == 0) {
+            return;
+        }
+        levelStored(texture, level, (long) Math.max(width, 0) * Math.max(height, 0) * texelBytes(format, type));
+    }
+
+    /**
+     * After a level of a texture is replaced with compressed blocks of this size, as by {@code TextureCompression}
+     */
+    public static void compressedTexImage2D(int texture, int level, long bytes) {
+        if (!ENABLED || level < 0 || level >= 1 << LEVEL_BITS || !textureBytes.containsKey(texture)) {
+            return;
+        }
+        levelStored(texture, level, bytes);
+    }
+
+    private static void levelStored(int texture, int level, long bytes) {
+        long delta = bytes - levelBytes.put(levelKey(texture, level), bytes);
+        // also a texture that was bound, rather than generated, into existence
+        textureBytes.put(texture, textureBytes.get(texture) + delta);
+        totalTextureBytes += delta;
+        peakTextureBytes = Math.max(peakTextureBytes, totalTextureBytes);
+    }
+
+    private static long levelKey(int texture, int level) {
+        return (Integer.toUnsignedLong(texture) << LEVEL_BITS) | level;
+    }
+
+    private static int texelBytes(int format, int type) {
+        int packedBytes = switch (type) {
+            case GL_UNSIGNED_BYTE_3_3_2 -> 1;
+            case GL_UNSIGNED_SHORT_5_6_5, GL_UNSIGNED_SHORT_4_4_4_4, GL_UNSIGNED_SHORT_5_5_5_1 -> 2;
+            case GL_UNSIGNED_INT_8_8_8_8, GL_UNSIGNED_INT_8_8_8_8_REV -> 4;
+            default -> 0;
+        };
+        if (packedBytes != 0) {
+            return packedBytes;
+        }
+        int components = switch (format) {
+            case GL_RED, GL_GREEN, GL_BLUE, GL_ALPHA, GL_LUMINANCE, GL_COLOR_INDEX, GL_DEPTH_COMPONENT, GL_STENCIL_INDEX -> 1;
+            case GL_LUMINANCE_ALPHA -> 2;
+            case GL_RGB, GL_BGR -> 3;
+            // RGBA and BGRA
+            default -> 4;
+        };
+        int componentBytes = switch (type) {
+            case GL_BYTE, GL_UNSIGNED_BYTE -> 1;
+            case GL_SHORT, GL_UNSIGNED_SHORT -> 2;
+            case GL_INT, GL_UNSIGNED_INT, GL_FLOAT -> 4;
+            // other packed types: as if a byte per component
+            default -> 1;
+        };
+        return components * componentBytes;
+    }
+
+    // LISTS
+
+    public static void listsCreated(int first, int range) {
+        if (!ENABLED || first == 0) {
+            return;
+        }
+        for (int i = 0; i < range; ++i) {
+            lists.put(first + i, 1);
+        }
+    }
+
+    public static void listsDeleted(int list, int range) {
+        if (!ENABLED) {
+            return;
+        }
+        for (int i = 0; i < range && lists.size() != 0; ++i) {
+            lists.remove(list + i);
+        }
+    }
+
+    // SHADER OBJECTS
+
+    public static void shaderObjectCreated(int object, int shaderType) {
+        if (!ENABLED || object == 0) {
+            return;
+        }
+        shaderObjects.put(object, shaderType);
+    }
+
+    public static void shaderObjectDeleted(int object) {
+        if (!ENABLED) {
+            return;
+        }
+        shaderObjects.remove(object);
+    }
+
+    // BUFFERS
+
+    /**
+     * After a buffer of the emulation layers is created, or its storage replaced
+     */
+    public static void bufferStored(int buffer, long bytes) {
+        if (!ENABLED) {
+            return;
+        }
+        totalBufferBytes += bytes - bufferBytes.put(buffer, bytes);
+    }
+
+    public static void bufferDeleted(int buffer) {
+        if (!ENABLED) {
+            return;
+        }
+        totalBufferBytes -= bufferBytes.remove(buffer);
+    }
+
+    // STATISTICS
+
+    /**
+     * Log a snapshot when due: call once per frame
+     */
+    public static void endFrame() {
+        if (!ENABLED) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - snapshotStart < SNAPSHOT_INTERVAL_NANOS) {
+            return;
+        }
+        LOG.info(
+                "GL objects: {} textures ({} since the last snapshot) in {} (peak {}; {} created and {} deleted), "
+                        + "{} display lists, {} shader objects, {} buffers in {}",
+                textureBytes.size(),
+                signed(textureBytes.size() - snapshotTextures),
+                mebibytes(totalTextureBytes),
+                mebibytes(peakTextureBytes),
+                texturesCreated,
+                texturesDeleted,
+                lists.size(),
+                shaderObjects.size(),
+                bufferBytes.size(),
+                mebibytes(totalBufferBytes)
+        );
+        if (totalTextureBytes != snapshotTextureBytes) {
+            LOG.info("Texture memory changed by {} since the last snapshot", mebibytes(totalTextureBytes - snapshotTextureBytes));
+        }
+        snapshotStart = now;
+        snapshotTextures = textureBytes.size();
+        snapshotTextureBytes = totalTextureBytes;
+    }
+
+    /**
+     * Report the objects still alive as leaks: call before the context is destroyed
+     */
+    public static void logLeaks() {
+        if (!ENABLED) {
+            return;
+        }
+        if (textureBytes.size() == 0 && lists.size() == 0 && shaderObjects.size() == 0 && bufferBytes.size() == 0) {
+            LOG.info("GL objects: none alive at destroy");
+            return;
+        }
+        LOG.warn(
+                "GL objects alive at destroy: {} textures in {}, {} display lists, {} shader objects, {} buffers in {}",
+                textureBytes.size(),
+                mebibytes(totalTextureBytes),
+                lists.size(),
+                shaderObjects.size(),
+                bufferBytes.size(),
+                mebibytes(totalBufferBytes)
+        );
+        if (textureBytes.size() == 0) {
+            return;
+        }
+        List<long[]> largest = new ArrayList<>();
+        textureBytes.forEach((texture, bytes) -> largest.add(new long[]{texture, bytes}));
+        largest.sort(Comparator.comparingLong((long[] texture) -> texture[1]).reversed());
+        StringBuilder report = new StringBuilder();
+        largest.stream().limit(LEAK_REPORT_SIZE).forEach(texture -> report.append(
+                String.format("%n  texture %-8d %s", texture[0], mebibytes(texture[1]))
+        ));
+        LOG.warn("Largest textures alive at destroy:{}", report);
+    }
+
+    private static String mebibytes(long bytes) {
+        return String.format("%.1f MiB", bytes / (1024.0 * 1024.0));
+    }
+
+    private static String signed(int value) {
+        return value >= 0 ? "+" + value : Integer.toString(value);
+    }
+}
@@ -0,0 +1,335 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import org.lwjgl.opengl.GL11C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.lwjgl.opengl.GL11.GL_LINE_WIDTH_GRANULARITY;
+import static org.lwjgl.opengl.GL11.GL_LINE_WIDTH_RANGE;
+import static org.lwjgl.opengl.GL11.GL_MAX_ATTRIB_STACK_DEPTH;
+import static org.lwjgl.opengl.GL11.GL_MAX_CLIENT_ATTRIB_STACK_DEPTH;
+import static org.lwjgl.opengl.GL11.GL_MAX_CLIP_PLANES;
+import static org.lwjgl.opengl.GL11.GL_MAX_EVAL_ORDER;
+import static org.lwjgl.opengl.GL11.GL_MAX_LIGHTS;
+import static org.lwjgl.opengl.GL11.GL_MAX_LIST_NESTING;
+import static org.lwjgl.opengl.GL11.GL_MAX_MODELVIEW_STACK_DEPTH;
+import static org.lwjgl.opengl.GL11.GL_MAX_NAME_STACK_DEPTH;
+import static org.lwjgl.opengl.GL11.GL_MAX_PIXEL_MAP_TABLE;
+import static org.lwjgl.opengl.GL11.GL_MAX_PROJECTION_STACK_DEPTH;
+import static org.lwjgl.opengl.GL11.GL_MAX_TEXTURE_SIZE;
+import static org.lwjgl.opengl.GL11.GL_MAX_TEXTURE_STACK_DEPTH;
+import static org.lwjgl.opengl.GL11.GL_MAX_VIEWPORT_DIMS;
+import static org.lwjgl.opengl.GL11.GL_NO_ERROR;
+import static org.lwjgl.opengl.GL11.GL_POINT_SIZE_GRANULARITY;
+import static org.lwjgl.opengl.GL11.GL_POINT_SIZE_RANGE;
+import static org.lwjgl.opengl.GL11.GL_SUBPIXEL_BITS;
+import static org.lwjgl.opengl.GL12.GL_ALIASED_LINE_WIDTH_RANGE;
+import static org.lwjgl.opengl.GL12.GL_ALIASED_POINT_SIZE_RANGE;
+import static org.lwjgl.opengl.GL12.GL_MAX_3D_TEXTURE_SIZE;
+import static org.lwjgl.opengl.GL12.GL_MAX_ELEMENTS_INDICES;
+import static org.lwjgl.opengl.GL12.GL_MAX_ELEMENTS_VERTICES;
+import static org.lwjgl.opengl.GL13.GL_MAX_TEXTURE_UNITS;
+import static org.lwjgl.opengl.GL20.GL_MAX_TEXTURE_IMAGE_UNITS;
+import static org.lwjgl.system.MemoryUtil.memPutByte;
+import static org.lwjgl.system.MemoryUtil.memPutDouble;
+import static org.lwjgl.system.MemoryUtil.memPutFloat;
+import static org.lwjgl.system.MemoryUtil.memPutInt;
+
+/**
+ * Answers {@code glGet} queries without a round trip to the driver, which on threaded drivers waits for every call
+ * before it. Limits of the implementation are queried once per context, mutable state comes from the shadows of
+ * {@link GlStateCache} and {@link MatrixStacks} where they know it, and every other query is forwarded to the driver
+ * and counted. The counts are logged when the display is destroyed, to find the queries worth shadowing next.
+ * <p>
+ * With validation, every answer is checked against the driver, and mismatches are logged. This defeats the purpose,
+ * and is meant for debugging the shadows only.
+ */
+public class GlQueries {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.glQueryCache();
+    private static final boolean VALIDATION = Properties.glQueryValidation();
+
+    // queries that cannot change during the lifetime of a context
+    private static final int[] LIMITS = {
+            GL_MAX_TEXTURE_SIZE,
+            GL_MAX_3D_TEXTURE_SIZE,
+            GL_MAX_TEXTURE_UNITS,
+            GL_MAX_TEXTURE_IMAGE_UNITS,
+            GL_MAX_VIEWPORT_DIMS,
+            GL_MAX_LIGHTS,
+            GL_MAX_CLIP_PLANES,
+            GL_MAX_LIST_NESTING,
+            GL_MAX_EVAL_ORDER,
+            GL_MAX_PIXEL_MAP_TABLE,
+            GL_MAX_ATTRIB_STACK_DEPTH,
+            GL_MAX_CLIENT_ATTRIB_STACK_DEPTH,
+            GL_MAX_MODELVIEW_STACK_DEPTH,
+            GL_MAX_PROJECTION_STACK_DEPTH,
+            GL_MAX_TEXTURE_STACK_DEPTH,
+            GL_MAX_NAME_STACK_DEPTH,
+            GL_MAX_ELEMENTS_VERTICES,
+            GL_MAX_ELEMENTS_INDICES,
+            GL_SUBPIXEL_BITS,
+            GL_POINT_SIZE_RANGE,
+            GL_POINT_SIZE_GRANULARITY,
+            GL_LINE_WIDTH_RANGE,
+            GL_LINE_WIDTH_GRANULARITY,
+            GL_ALIASED_POINT_SIZE_RANGE,
+            GL_ALIASED_LINE_WIDTH_RANGE,
+    };
+    private static final int MAX_VALUES = 16;
+
+    // FIELD GROUP: limits of the context, sorted by name
+    private static int[] limitNames = new int[0];
+    private static double[][] limitValues = new double[0][];
+    private static final double[] scratch = new double[MAX_VALUES];
+
+    // FIELD GROUP: statistics
+    private static int answered = 0;
+    private static int forwarded = 0;
+    private static int lastFrameAnswered = 0;
+    private static int lastFrameForwarded = 0;
+    private static long totalAnswered = 0;
+    private static final Map<Integer, Integer> forwardedByName = new HashMap<>();
+    private static final Set<Integer> mismatchesReported = new HashSet<>();
+
+    private GlQueries() {
+        // static api
+    }
+
+    /**
+     * Query the limits of the new context
+     */
+    public static void contextCreated() {
+        if (!ENABLED) {
+            return;
+        }
+        // errors of the queries below must not be mistaken for errors of Altitude
+        while (GL11C.glGetError() != GL_NO_ERROR) {
+            // drain
+        }
+        int[] names = LIMITS.clone();
+        Arrays.sort(names);
+        double[][] values = new double[names.length][];
+        int count = 0;
+        for (int name : names) {
+            GL11C.glGetDoublev(name, scratch);
+            // limits of extensions or versions that the context lacks are forwarded, for the driver to report
+            if (GL11C.glGetError() != GL_NO_ERROR) {
+                continue;
+            }
+            names[count] = name;
+            values[count] = Arrays.copyOf(scratch, limitCount(name));
+            ++count;
+        }
+        limitNames = Arrays.copyOf(names, count);
+        limitValues = Arrays.copyOf(values, count);
+    }
+
+    private static int limitCount(int pname) {
+        return switch (pname) {
+            case GL_MAX_VIEWPORT_DIMS,
+                    GL_POINT_SIZE_RANGE,
+                    GL_LINE_WIDTH_RANGE,
+                    GL_ALIASED_POINT_SIZE_RANGE,
+                    GL_ALIASED_LINE_WIDTH_RANGE -> 2;
+            default -> 1;
+        };
+    }
+
+    // QUERIES
+
+    /**
+     * @return whether the query is answered here, rather than passed to the driver
+     */
+    public static boolean answers(int pname) {
+        if (MatrixStacks.answers(pname)
+                || (ENABLED && (Arrays.binarySearch(limitNames, pname) >= 0 || GlStateCache.answers(pname)))) {
+            ++answered;
+            if (VALIDATION) {
+                validate(pname);
+            }
+            return true;
+        }
+        if (ENABLED) {
+            ++forwarded;
+            forwardedByName.merge(pname, 1, Integer::sum);
+        }
+        return false;
+    }
+
+    /**
+     * @return whether {@code glIsEnabled} is answered here, rather than passed to the driver
+     */
+    public static boolean answersIsEnabled(int capability) {
+        if (!ENABLED) {
+            return false;
+        }
+        if (!GlStateCache.knowsCapability(capability)) {
+            ++forwarded;
+            forwardedByName.merge(capability, 1, Integer::sum);
+            return false;
+        }
+        ++answered;
+        if (VALIDATION) {
+            OpaqueCalls.before();
+            if (GL11C.glIsEnabled(capability) != GlStateCache.isEnabled(capability)) {
+                reportMismatch(capability, "glIsEnabled");
+            }
+        }
+        return true;
+    }
+
+    public static boolean isEnabled(int capability) {
+        return GlStateCache.isEnabled(capability);
+    }
+
+    /**
+     * @param pname a query this {@link #answers}
+     * @param i the index of the value
+     */
+    public static double value(int pname, int i) {
+        if (MatrixStacks.answers(pname)) {
+            return MatrixStacks.value(pname, i);
+        }
+        int limit = Arrays.binarySearch(limitNames, pname);
+        if (limit >= 0) {
+            return limitValues[limit][i];
+        }
+        return GlStateCache.value(pname, i);
+    }
+
+    private static int valueCount(int pname) {
+        if (MatrixStacks.answers(pname)) {
+            return MatrixStacks.valueCount(pname);
+        }
+        int limit = Arrays.binarySearch(limitNames, pname);
+        if (limit >= 0) {
+            return limitValues[limit].length;
+        }
+        return GlStateCache.valueCount(pname);
+    }
+
+    public static void getFloats(int pname, long params) {
+        for (int i = 0; i < valueCount(pname); ++i) {
+            memPutFloat(params + (long) i * Float.BYTES, (float) value(pname, i));
+        }
+    }
+
+    public static void getFloats(int pname, float[] params) {
+        for (int i = 0; i < valueCount(pname); ++i) {
+            params[i] = (float) value(pname, i);
+        }
+    }
+
+    public static void getDoubles(int pname, long params) {
+        for (int i = 0; i < valueCount(pname); ++i) {
+            memPutDouble(params + (long) i * Double.BYTES, value(pname, i));
+        }
+    }
+
+    public static void getDoubles(int pname, double[] params) {
+        for (int i = 0; i < valueCount(pname); ++i) {
+            params[i] = value(pname, i);
+        }
+    }
+
+    public static void getIntegers(int pname, long params) {
+        for (int i = 0; i < valueCount(pname); ++i) {
+            memPutInt(params + (long) i * Integer.BYTES, (int) Math.round(value(pname, i)));
+        }
+    }
+
+    public static void getIntegers(int pname, int[] params) {
+        for (int i = 0; i < valueCount(pname); ++i) {
+            params[i] = (int) Math.round(value(pname, i));
+        }
+    }
+
+    public static void getBooleans(int pname, long params) {
+        for (int i = 0; i < valueCount(pname); ++i) {
+            memPutByte(params + i, (byte) (value(pname, i) != 0 ? 1 : 0));
+        }
+    }
+
+    // VALIDATION
+
+    private static void validate(int pname) {
+        // the driver must have seen everything the shadows have
+        OpaqueCalls.before();
+        GL11C.glGetDoublev(pname, scratch);
+        for (int i = 0; i < valueCount(pname); ++i) {
+            double expected = scratch[i];
+            double actual = value(pname, i);
+            // matrices may be computed with a different precision
+            if (Math.abs(expected - actual) > 1e-4 * Math.max(1, Math.abs(expected))) {
+                reportMismatch(pname, "glGet");
+                return;
+            }
+        }
+    }
+
+    private static void reportMismatch(int pname, String query) {
+        if (mismatchesReported.add(pname)) {
+            LOG.warn("Shadowed {} of 0x{} differs from the driver", query, Integer.toHexString(pname));
+        }
+    }
+
+    // STATISTICS
+
+    /**
+     * Roll the per-frame statistics: call once per frame
+     */
+    public static void endFrame() {
+        lastFrameAnswered = answered;
+        lastFrameForwarded = forwarded;
+        totalAnswered += answered;
+        answered = 0;
+        forwarded = 0;
+    }
+
+    /**
+     * The number of queries answered without the driver during the previous frame
+     */
+    public static int lastFrameAnswered() {
+        return lastFrameAnswered;
+    }
+
+    /**
+     * The number of queries forwarded to the driver during the previous frame
+     */
+    public static int lastFrameForwarded() {
+        return lastFrameForwarded;
+    }
+
+    /**
+     * Log the queries that were answered and forwarded since startup
+     */
+    public static void logStatistics() {
+        if (!ENABLED) {
+            return;
+        }
+        String forwardedNames = forwardedByName.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Integer>comparingByValue().reversed())
+                .limit(10)
+                .map(entry -> "0x" + Integer.toHexString(entry.getKey()) + " (" + entry.getValue() + ")")
+                .collect(Collectors.joining(", "));
+        LOG.info(
+                "GL queries: {} answered without the driver, {} forwarded, most often {}",
+                totalAnswered + answered,
+                forwardedByName.values().stream().mapToLong(Integer::longValue).sum(),
+                forwardedNames.isEmpty() ? "none" : forwardedNames
+        );
+    }
+}
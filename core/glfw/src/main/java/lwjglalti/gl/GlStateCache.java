@@ -0,0 +1,468 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+import static org.lwjgl.opengl.GL11.GL_ALPHA_TEST;
+import static org.lwjgl.opengl.GL11.GL_BLEND;
+import static org.lwjgl.opengl.GL11.GL_BLEND_DST;
+import static org.lwjgl.opengl.GL11.GL_BLEND_SRC;
+import static org.lwjgl.opengl.GL11.GL_COLOR_LOGIC_OP;
+import static org.lwjgl.opengl.GL11.GL_COLOR_MATERIAL;
+import static org.lwjgl.opengl.GL11.GL_COMPILE;
+import static org.lwjgl.opengl.GL11.GL_CULL_FACE;
+import static org.lwjgl.opengl.GL11.GL_DEPTH_TEST;
+import static org.lwjgl.opengl.GL11.GL_DITHER;
+import static org.lwjgl.opengl.GL11.GL_FOG;
+import static org.lwjgl.opengl.GL11.GL_LIGHTING;
+import static org.lwjgl.opengl.GL11.GL_LINE_SMOOTH;
+import static org.lwjgl.opengl.GL11.GL_LINE_STIPPLE;
+import static org.lwjgl.opengl.GL11.GL_NORMALIZE;
+import static org.lwjgl.opengl.GL11.GL_POINT_SMOOTH;
+import static org.lwjgl.opengl.GL11.GL_POLYGON_OFFSET_FILL;
+import static org.lwjgl.opengl.GL11.GL_POLYGON_SMOOTH;
+import static org.lwjgl.opengl.GL11.GL_SCISSOR_TEST;
+import static org.lwjgl.opengl.GL11.GL_STENCIL_TEST;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_1D;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_BINDING_1D;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_BINDING_2D;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_MAG_FILTER;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_MIN_FILTER;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_WRAP_S;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_WRAP_T;
+import static org.lwjgl.opengl.GL11.GL_VIEWPORT;
+import static org.lwjgl.system.MemoryUtil.memGetInt;
+
+/**
+ * Shadow of the GL state that Altitude sets far more often than it actually changes, used by {@link org.lwjgl.opengl.GL11}
+ * to skip redundant calls, and by {@link GlQueries} to answer queries. Every state-changing method returns whether the
+ * call must be issued to the driver.
+ * <p>
+ * State is either known or unknown, and unknown state is always issued. State becomes unknown when the context is
+ * (re)created, and whenever GL changes it behind the back of the shadow: popping attributes, calling display lists,
+ * and drawing from vertex arrays (which leaves the current color undefined). While a display list is compiled, every
+ * call is issued, because it must be recorded.
+ * <p>
+ * Texture bindings are shadowed for the active texture unit only: Altitude renders with a single unit, and
+ * {@code glActiveTexture} is not part of the shim.
+ */
+public class GlStateCache {
+
+    public static final boolean ENABLED = Properties.glStateCache();
+
+    private static final int[] CAPABILITIES = {
+            GL_ALPHA_TEST,
+            GL_BLEND,
+            GL_COLOR_LOGIC_OP,
+            GL_COLOR_MATERIAL,
+            GL_CULL_FACE,
+            GL_DEPTH_TEST,
+            GL_DITHER,
+            GL_FOG,
+            GL_LIGHTING,
+            GL_LINE_SMOOTH,
+            GL_LINE_STIPPLE,
+            GL_NORMALIZE,
+            GL_POINT_SMOOTH,
+            GL_POLYGON_OFFSET_FILL,
+            GL_POLYGON_SMOOTH,
+            GL_SCISSOR_TEST,
+            GL_STENCIL_TEST,
+            GL_TEXTURE_1D,
+            GL_TEXTURE_2D,
+    };
+
+    private static final int[] TEXTURE_PARAMETERS = {
+            GL_TEXTURE_MIN_FILTER,
+            GL_TEXTURE_MAG_FILTER,
+            GL_TEXTURE_WRAP_S,
+            GL_TEXTURE_WRAP_T,
+    };
+    // texture ids are small and dense in practice: beyond this, parameters are simply not shadowed
+    private static final int MAX_SHADOWED_TEXTURE = 1 << 16;
+    private static final int UNKNOWN = 0;
+    private static final int NOT_SHADOWED = -1;
+
+    // FIELD GROUP: shadowed state
+    private static long knownCapabilities = 0;
+    private static long enabledCapabilities = 0;
+    // index 0 is `GL_TEXTURE_1D`, and 1 is `GL_TEXTURE_2D`
+    private static final int[] boundTextures = new int[2];
+    private static final boolean[] boundTexturesKnown = new boolean[2];
+    private static boolean blendFuncKnown = false;
+    private static int blendSrc;
+    private static int blendDst;
+    private static boolean colorKnown = false;
+    private static float red;
+    private static float green;
+    private static float blue;
+    private static float alpha;
+    private static boolean viewportKnown = false;
+    private static final int[] viewport = new int[4];
+    // parameter values per texture, `UNKNOWN` if not known: no valid value of a shadowed parameter is zero
+    private static int[] textureParameters = new int[256 * TEXTURE_PARAMETERS.length];
+
+    // FIELD GROUP: display-list compilation
+    private static boolean compilingList = false;
+    private static boolean executingCompiledList = false;
+
+    // FIELD GROUP: statistics
+    private static int issued = 0;
+    private static int skipped = 0;
+    private static int lastFrameIssued = 0;
+    private static int lastFrameSkipped = 0;
+
+    private GlStateCache() {
+        // static api
+    }
+
+    // INVALIDATION
+
+    /**
+     * Forget all shadowed state, eg because the context was (re)created
+     */
+    public static void invalidate() {
+        knownCapabilities = 0;
+        Arrays.fill(boundTexturesKnown, false);
+        blendFuncKnown = false;
+        colorKnown = false;
+        viewportKnown = false;
+        Arrays.fill(textureParameters, UNKNOWN);
+    }
+
+    public static void invalidateColor() {
+        colorKnown = false;
+    }
+
+    public static void beginList(int mode) {
+        compilingList = true;
+        executingCompiledList = mode != GL_COMPILE;
+    }
+
+    public static void endList() {
+        compilingList = false;
+    }
+
+    /**
+     * Whether a display list is compiled, regardless of whether the cache is enabled
+     */
+    public static boolean compilingList() {
+        return compilingList;
+    }
+
+    // STATE CHANGES
+
+    public static boolean enable(int capability) {
+        return setCapability(capability, true);
+    }
+
+    public static boolean disable(int capability) {
+        return setCapability(capability, false);
+    }
+
+    private static boolean setCapability(int capability, boolean enabled) {
+        if (!ENABLED) {
+            return true;
+        }
+        int index = capabilityIndex(capability);
+        if (index < 0) {
+            return issue();
+        }
+        long bit = 1L << index;
+        boolean known = (knownCapabilities & bit) != 0;
+        if (known && ((enabledCapabilities & bit) != 0) == enabled && !compilingList) {
+            return skip();
+        }
+        if (!compilingList || executingCompiledList) {
+            knownCapabilities |= bit;
+            enabledCapabilities = enabled ? enabledCapabilities | bit : enabledCapabilities & ~bit;
+        }
+        return issue();
+    }
+
+    public static boolean bindTexture(int target, int texture) {
+        if (!ENABLED) {
+            return true;
+        }
+        int index = textureTargetIndex(target);
+        if (index < 0) {
+            return issue();
+        }
+        if (boundTexturesKnown[index] && boundTextures[index] == texture && !compilingList) {
+            return skip();
+        }
+        if (!compilingList || executingCompiledList) {
+            boundTexturesKnown[index] = true;
+            boundTextures[index] = texture;
+        }
+        return issue();
+    }
+
+    public static boolean blendFunc(int src, int dst) {
+        if (!ENABLED) {
+            return true;
+        }
+        if (blendFuncKnown && blendSrc == src && blendDst == dst && !compilingList) {
+            return skip();
+        }
+        if (!compilingList || executingCompiledList) {
+            blendFuncKnown = true;
+            blendSrc = src;
+            blendDst = dst;
+        }
+        return issue();
+    }
+
+    public static boolean viewport(int x, int y, int width, int height) {
+        if (!ENABLED) {
+            return true;
+        }
+        if (viewportKnown
+                && viewport[0] == x
+                && viewport[1] == y
+                && viewport[2] == width
+                && viewport[3] == height
+                && !compilingList) {
+            return skip();
+        }
+        // negative sizes are an error, which leaves the viewport unchanged
+        if ((!compilingList || executingCompiledList) && width >= 0 && height >= 0) {
+            viewportKnown = true;
+            viewport[0] = x;
+            viewport[1] = y;
+            viewport[2] = width;
+            viewport[3] = height;
+        }
+        return issue();
+    }
+
+    public static boolean color(float red, float green, float blue, float alpha) {
+        if (!ENABLED) {
+            return true;
+        }
+        if (colorKnown
+                && GlStateCache.red == red
+                && GlStateCache.green == green
+                && GlStateCache.blue == blue
+                && GlStateCache.alpha == alpha
+                && !compilingList) {
+            return skip();
+        }
+        if (!compilingList || executingCompiledList) {
+            colorKnown = true;
+            GlStateCache.red = red;
+            GlStateCache.green = green;
+            GlStateCache.blue = blue;
+            GlStateCache.alpha = alpha;
+        }
+        return issue();
+    }
+
+    public static boolean color(byte red, byte green, byte blue, byte alpha) {
+        return color((red & 0xFF) / 255F, (green & 0xFF) / 255F, (blue & 0xFF) / 255F, (alpha & 0xFF) / 255F);
+    }
+
+    public static boolean texParameter(int target, int parameter, int value) {
+        if (!ENABLED) {
+            return true;
+        }
+        int index = textureParameterIndex(target, parameter);
+        if (index == NOT_SHADOWED) {
+            return issue();
+        }
+        if (textureParameters[index] == value && !compilingList) {
+            return skip();
+        }
+        if (!compilingList || executingCompiledList) {
+            textureParameters[index] = value;
+        }
+        return issue();
+    }
+
+    /**
+     * For parameter updates that are not shadowed, but which may change a shadowed parameter
+     */
+    public static void invalidateTexParameter(int target, int parameter) {
+        if (!ENABLED) {
+            return;
+        }
+        int index = textureParameterIndex(target, parameter);
+        if (index != NOT_SHADOWED) {
+            textureParameters[index] = UNKNOWN;
+        }
+    }
+
+    public static void texturesDeleted(IntBuffer textures) {
+        for (int i = textures.position(); i < textures.limit(); ++i) {
+            textureDeleted(textures.get(i));
+        }
+    }
+
+    public static void texturesDeleted(int[] textures) {
+        for (int texture : textures) {
+            textureDeleted(texture);
+        }
+    }
+
+    public static void texturesDeleted(int n, long textures) {
+        for (int i = 0; i < n; ++i) {
+            textureDeleted(memGetInt(textures + (long) i * Integer.BYTES));
+        }
+    }
+
+    public static void textureDeleted(int texture) {
+        if (!ENABLED) {
+            return;
+        }
+        // the name may be reused by a new texture, with default parameters
+        int offset = texture * TEXTURE_PARAMETERS.length;
+        if (texture > 0 && offset + TEXTURE_PARAMETERS.length <= textureParameters.length) {
+            Arrays.fill(textureParameters, offset, offset + TEXTURE_PARAMETERS.length, UNKNOWN);
+        }
+        // deleting a bound texture binds zero
+        for (int i = 0; i < boundTextures.length; ++i) {
+            if (boundTextures[i] == texture) {
+                boundTextures[i] = 0;
+            }
+        }
+    }
+
+    // QUERIES
+
+    /**
+     * Whether the query is answered by known state. The current color is not, as it may be held back by
+     * {@link ImmediateModeBatcher}
+     */
+    static boolean answers(int pname) {
+        if (!ENABLED) {
+            return false;
+        }
+        if (knowsCapability(pname)) {
+            return true;
+        }
+        return switch (pname) {
+            case GL_TEXTURE_BINDING_1D -> boundTexturesKnown[0];
+            case GL_TEXTURE_BINDING_2D -> boundTexturesKnown[1];
+            case GL_BLEND_SRC, GL_BLEND_DST -> blendFuncKnown;
+            case GL_VIEWPORT -> viewportKnown;
+            default -> false;
+        };
+    }
+
+    static boolean knowsCapability(int capability) {
+        int index = capabilityIndex(capability);
+        return ENABLED && index >= 0 && (knownCapabilities & (1L << index)) != 0;
+    }
+
+    static boolean isEnabled(int capability) {
+        return (enabledCapabilities & (1L << capabilityIndex(capability))) != 0;
+    }
+
+    /**
+     * @param pname a query this {@link #answers}
+     */
+    static int valueCount(int pname) {
+        return pname == GL_VIEWPORT ? 4 : 1;
+    }
+
+    /**
+     * @param pname a query this {@link #answers}
+     */
+    static double value(int pname, int i) {
+        if (capabilityIndex(pname) >= 0) {
+            return isEnabled(pname) ? 1 : 0;
+        }
+        return switch (pname) {
+            case GL_TEXTURE_BINDING_1D -> boundTextures[0];
+            case GL_TEXTURE_BINDING_2D -> boundTextures[1];
+            case GL_BLEND_SRC -> blendSrc;
+            case GL_BLEND_DST -> blendDst;
+            case GL_VIEWPORT -> viewport[i];
+            default -> throw new IllegalArgumentException("Not answered: " + pname);
+        };
+    }
+
+    // STATISTICS
+
+    /**
+     * Roll the per-frame statistics: call once per frame
+     */
+    public static void endFrame() {
+        lastFrameIssued = issued;
+        lastFrameSkipped = skipped;
+        issued = 0;
+        skipped = 0;
+    }
+
+    /**
+     * The number of shadowed calls issued to the driver during the previous frame
+     */
+    public static int lastFrameIssued() {
+        return lastFrameIssued;
+    }
+
+    /**
+     * The number of shadowed calls skipped as redundant during the previous frame
+     */
+    public static int lastFrameSkipped() {
+        return lastFrameSkipped;
+    }
+
+    private static boolean issue() {
+        ++issued;
+        return true;
+    }
+
+    private static boolean skip() {
+        ++skipped;
+        return false;
+    }
+
+    // INDICES
+
+    private static int capabilityIndex(int capability) {
+        for (int i = 0; i < CAPABILITIES.length; ++i) {
+            if (CAPABILITIES[i] == capability) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int textureTargetIndex(int target) {
+        return switch (target) {
+            case GL_TEXTURE_1D -> 0;
+            case GL_TEXTURE_2D -> 1;
+            default -> -1;
+        };
+    }
+
+    private static int textureParameterIndex(int target, int parameter) {
+        int targetIndex = textureTargetIndex(target);
+        if (targetIndex < 0 || !boundTexturesKnown[targetIndex]) {
+            return NOT_SHADOWED;
+        }
+        int texture = boundTextures[targetIndex];
+        if (texture <= 0 || texture >= MAX_SHADOWED_TEXTURE) {
+            return NOT_SHADOWED;
+        }
+        int parameterIndex = -1;
+        for (int i = 0; i < TEXTURE_PARAMETERS.length; ++i) {
+            if (TEXTURE_PARAMETERS[i] == parameter) {
+                parameterIndex = i;
+            }
+        }
+        if (parameterIndex < 0) {
+            return NOT_SHADOWED;
+        }
+        int index = texture * TEXTURE_PARAMETERS.length + parameterIndex;
+        if (index >= textureParameters.length) {
+            int newLength = Math.max(textureParameters.length * 2, index + TEXTURE_PARAMETERS.length);
+            textureParameters = Arrays.copyOf(textureParameters, newLength);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,151 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import org.lwjgl.system.MemoryStack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.lwjgl.glfw.GLFW.glfwGetFramebufferSize;
+
+/**
+ * Records the calls of Altitude to {@code GL11} and {@code ARBShaderObjects}, with their arguments and the contents
+ * of the buffers they pass, to replay them offline: see {@link GlTraceReader}. Only the outermost calls are recorded,
+ * that is, those of Altitude, and not those that the adapters make of each other, or that the emulation layers replay,
+ * so that a replay through the adapters exercises the layers as the game did.
+ * <p>
+ * The first context is recorded, from its creation until it is destroyed. Names of textures, lists and shader objects
+ * are recorded as Altitude got them, and not remapped: the replay assumes that a fresh context hands out the same
+ * names in the same order, which drivers do.
+ * <p>
+ * When disabled, the calls in every entry point are skipped after the JIT has folded {@link #ENABLED}.
+ */
+public class GlTrace {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.glTrace();
+
+    private static final DateTimeFormatter FILE_NAME_FORMAT =
+            DateTimeFormatter.ofPattern("'trace-'yyyy-MM-dd_HH-mm-ss'.bin'");
+
+    // FIELD GROUP: the recording
+    private static GlTraceWriter writer = null;
+    private static boolean recorded = false;
+    // while the frame is finished and swapped, when the shim makes calls of its own, which the replay makes alike
+    private static boolean paused = false;
+    private static long calls = 0;
+    private static int frames = 0;
+
+    private GlTrace() {
+        // static api
+    }
+
+    public static void contextCreated(long window) {
+        if (!ENABLED) {
+            return;
+        }
+        if (recorded) {
+            // the replay knows one context only
+            if (writer != null) {
+                LOG.info("Context recreated: trace stops");
+                close();
+            }
+            return;
+        }
+        recorded = true;
+        Path file = directory().resolve(LocalDateTime.now().format(FILE_NAME_FORMAT));
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            Files.createDirectories(file.getParent());
+            writer = new GlTraceWriter(file);
+            IntBuffer width = stack.mallocInt(1);
+            IntBuffer height = stack.mallocInt(1);
+            RenderThread.onMainThread(() -> glfwGetFramebufferSize(window, width, height));
+            writer.context(width.get(0), height.get(0));
+            LOG.info("Recording GL trace {}", file);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private static Path directory() {
+        return Properties.installationDirectory()
+                .map(directory -> directory.resolve("traces"))
+                .orElse(Path.of("traces"));
+    }
+
+    /**
+     * Record a call: call first thing in every entry point, after {@link CallProfiler#enter}
+     *
+     * @param signature the name of the method and the codes of its parameters, as a literal: see {@link GlTraceWriter}
+     */
+    public static void call(String signature, Object... arguments) {
+        if (writer == null || paused || !CallProfiler.outermost()) {
+            return;
+        }
+        try {
+            writer.call(signature, arguments);
+            ++calls;
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Record the end of the frame: call before the shim finishes the frame, and {@link #frameSwapped} after
+     */
+    public static void frameFinished() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.frame();
+            ++frames;
+        } catch (IOException e) {
+            fail(e);
+        }
+        paused = true;
+    }
+
+    public static void frameSwapped() {
+        paused = false;
+    }
+
+    /**
+     * Finish the trace: call before the context is destroyed
+     */
+    public static void destroyed() {
+        if (writer != null) {
+            close();
+        }
+    }
+
+    private static void close() {
+        try {
+            writer.close();
+            LOG.info("Recorded {} GL calls over {} frames", calls, frames);
+        } catch (IOException e) {
+            LOG.error("Failed to finish GL trace", e);
+        }
+        writer = null;
+    }
+
+    private static void fail(IOException e) {
+        LOG.error("Failed to record GL trace: trace stops", e);
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException __) {
+                // already failing
+            }
+            writer = null;
+        }
+    }
+}
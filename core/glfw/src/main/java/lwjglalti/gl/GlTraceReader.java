@@ -0,0 +1,170 @@
+package lwjglalti.gl;
+
+import org.lwjgl.PointerBuffer;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a trace of GL calls, as written by {@link GlTrace}: see {@link GlTraceWriter} for the format. The file is
+ * mapped privately, a window at a time, and the buffer arguments of a call are views of the mapping, so that replaying
+ * a call copies nothing, and calls that write into their buffers do not change the file.
+ */
+public final class GlTraceReader extends GlCallDecoder implements Closeable {
+
+    // "ALTTRACE", little-endian
+    static final long MAGIC = 0x4543415254544C41L;
+    static final int VERSION = 1;
+
+    public static final byte END = 0;
+    public static final byte CONTEXT = 1;
+    public static final byte FRAME = 4;
+
+    private static final long WINDOW_BYTES = 64L << 20;
+
+    private final FileChannel channel;
+    private final long size;
+    private long windowStart = 0;
+
+    // FIELD GROUP: the last context
+    private int width;
+    private int height;
+
+    public GlTraceReader(Path file) throws IOException {
+        // a private mapping needs a writable channel, though nothing is written to the file
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        size = channel.size();
+        reserve(Long.BYTES + Integer.BYTES);
+        if (window.getLong() != MAGIC) {
+            channel.close();
+            throw new IOException("Not a trace: " + file);
+        }
+        int version = window.getInt();
+        if (version != VERSION) {
+            channel.close();
+            throw new IOException("Unsupported trace version " + version + ": " + file);
+        }
+    }
+
+    /**
+     * The types of the parameters of a signature, to look up its method with
+     */
+    public static Class<?>[] parameterTypes(String signature) {
+        List<Class<?>> types = new ArrayList<>();
+        for (int i = signature.indexOf('(') + 1; signature.charAt(i) != ')'; ++i) {
+            char code = signature.charAt(i);
+            types.add(switch (code) {
+                case 'I' -> int.class;
+                case 'S' -> short.class;
+                case 'B' -> byte.class;
+                case 'F' -> float.class;
+                case 'D' -> double.class;
+                case 'Z' -> boolean.class;
+                case 'P' -> long.class;
+                case 'b' -> ByteBuffer.class;
+                case 's' -> ShortBuffer.class;
+                case 'i' -> IntBuffer.class;
+                case 'f' -> FloatBuffer.class;
+                case 'd' -> DoubleBuffer.class;
+                case 'C' -> CharSequence.class;
+                case 'c' -> CharSequence[].class;
+                case 'q' -> PointerBuffer.class;
+                case '[' -> switch (signature.charAt(++i)) {
+                    case 'S' -> short[].class;
+                    case 'I' -> int[].class;
+                    case 'F' -> float[].class;
+                    case 'D' -> double[].class;
+                    default -> throw new IllegalArgumentException("Unknown array code in " + signature);
+                };
+                default -> throw new IllegalArgumentException("Unknown code " + code + " in " + signature);
+            });
+        }
+        return types.toArray(new Class<?>[0]);
+    }
+
+    /**
+     * The method name of a signature
+     */
+    public static String name(String signature) {
+        return signature.substring(0, signature.indexOf('('));
+    }
+
+    /**
+     * Read the next record
+     *
+     * @return its tag: {@link #CONTEXT}, {@link #CALL}, {@link #FRAME}, or {@link #END} at the end of the trace
+     */
+    public byte next() throws IOException {
+        while (true) {
+            if (windowStart + window.position() >= size) {
+                return END;
+            }
+            reserve(1);
+            byte tag = window.get();
+            switch (tag) {
+                case END, FRAME -> {
+                    return tag;
+                }
+                case CONTEXT -> {
+                    reserve(2 * Integer.BYTES);
+                    width = window.getInt();
+                    height = window.getInt();
+                    return tag;
+                }
+                case SIGNATURE -> readSignature();
+                case CALL -> {
+                    readCall();
+                    return tag;
+                }
+                default -> throw new IOException("Corrupt trace: unknown tag " + tag);
+            }
+        }
+    }
+
+    /**
+     * The framebuffer width of the last {@link #CONTEXT}
+     */
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Map more of the file, if fewer than this many bytes are left in the window
+     */
+    @Override
+    protected void reserve(int bytes) throws IOException {
+        if (window != null && window.remaining() >= bytes) {
+            return;
+        }
+        if (window != null) {
+            windowStart += window.position();
+        }
+        long left = size - windowStart;
+        if (left < bytes) {
+            throw new EOFException("Truncated trace");
+        }
+        window = channel.map(FileChannel.MapMode.PRIVATE, windowStart, Math.min(left, Math.max(WINDOW_BYTES, bytes)))
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,96 @@
+package lwjglalti.gl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a trace of GL calls through a memory-mapped file: appending a call is copying its arguments to memory, and
+ * the operating system writes the pages out in the background, even if the game crashes.
+ * <p>
+ * The format, little-endian throughout: a header of {@link GlTraceReader#MAGIC} and {@link GlTraceReader#VERSION},
+ * then records, each a tag byte followed by its fields:
+ * <ul>
+ * <li>{@link GlTraceReader#END}: the end of the trace, and any zeroes after it</li>
+ * <li>{@link GlTraceReader#CONTEXT}: int width and height of the framebuffer</li>
+ * <li>{@link GlCallDecoder#SIGNATURE}: int index, unsigned short length, and the UTF-8 bytes of a signature</li>
+ * <li>{@link GlCallDecoder#CALL}: int index of the signature, then the arguments as its codes describe them</li>
+ * <li>{@link GlTraceReader#FRAME}: the buffers were swapped</li>
+ * </ul>
+ * A signature is the name of the method, and a code per parameter in parentheses: {@code I S B F D Z} for int,
+ * short, byte, float, double and boolean, {@code P} for a long pointer, {@code b s i f d} for byte, short, int, float
+ * and double buffers, {@code [S [I [F [D} for arrays, {@code C} for a char sequence, {@code c} for char sequences, and
+ * {@code q} for a pointer buffer. Pointers and primitives are written as their value; buffers, arrays and sequences
+ * as an int length (-1 for null) and their contents, from position to limit for buffers; pointer buffers as nothing,
+ * since the memory they point to is not recorded.
+ */
+final class GlTraceWriter extends GlCallEncoder implements Closeable {
+
+    // the file is mapped this much at a time, or more for a larger call
+    private static final long WINDOW_BYTES = 64L << 20;
+
+    private final FileChannel channel;
+    private MappedByteBuffer mapping;
+    private long windowStart = 0;
+
+    GlTraceWriter(Path file) throws IOException {
+        channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        );
+        reserve(Long.BYTES + Integer.BYTES);
+        window.putLong(GlTraceReader.MAGIC);
+        window.putInt(GlTraceReader.VERSION);
+    }
+
+    void context(int width, int height) throws IOException {
+        reserve(1 + 2 * Integer.BYTES);
+        window.put(GlTraceReader.CONTEXT);
+        window.putInt(width);
+        window.putInt(height);
+    }
+
+    void frame() throws IOException {
+        reserve(1);
+        window.put(GlTraceReader.FRAME);
+    }
+
+    /**
+     * Map more of the file, if fewer than this many bytes are left in the window
+     */
+    @Override
+    protected void reserve(int bytes) throws IOException {
+        if (window != null && window.remaining() >= bytes) {
+            return;
+        }
+        if (window != null) {
+            windowStart += window.position();
+        }
+        mapping = channel.map(FileChannel.MapMode.READ_WRITE, windowStart, Math.max(WINDOW_BYTES, bytes));
+        window = mapping.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reserve(1);
+        window.put(GlTraceReader.END);
+        long size = windowStart + window.position();
+        mapping.force();
+        window = null;
+        mapping = null;
+        try {
+            channel.truncate(size);
+        } catch (IOException __) {
+            // windows refuses while the mapping lives, which is until it is collected: the reader stops at the end
+        } finally {
+            channel.close();
+        }
+    }
+}
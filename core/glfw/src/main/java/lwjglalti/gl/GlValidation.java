@@ -0,0 +1,180 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11C;
+import org.lwjgl.opengl.GL43C;
+import org.lwjgl.opengl.GLCapabilities;
+import org.lwjgl.opengl.GLDebugMessageCallback;
+import org.lwjgl.opengl.KHRDebug;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.lwjgl.glfw.GLFW.GLFW_CONTEXT_NO_ERROR;
+import static org.lwjgl.glfw.GLFW.GLFW_FALSE;
+import static org.lwjgl.glfw.GLFW.GLFW_OPENGL_DEBUG_CONTEXT;
+import static org.lwjgl.glfw.GLFW.GLFW_TRUE;
+import static org.lwjgl.glfw.GLFW.glfwWindowHint;
+import static org.lwjgl.opengl.GL43C.GL_DEBUG_OUTPUT;
+import static org.lwjgl.opengl.GL43C.GL_DEBUG_OUTPUT_SYNCHRONOUS;
+import static org.lwjgl.opengl.GL43C.GL_DEBUG_SEVERITY_HIGH;
+import static org.lwjgl.opengl.GL43C.GL_DEBUG_SEVERITY_MEDIUM;
+import static org.lwjgl.opengl.GL43C.GL_DEBUG_SEVERITY_NOTIFICATION;
+import static org.lwjgl.opengl.GL43C.GL_DEBUG_TYPE_ERROR;
+import static org.lwjgl.opengl.GL43C.GL_DONT_CARE;
+import static org.lwjgl.system.MemoryUtil.NULL;
+
+/**
+ * The validation that the driver does of every GL call, as chosen by a {@link Profile}
+ */
+public class GlValidation {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public enum Profile {
+        /**
+         * The driver validates every call, and Altitude checks for errors itself
+         */
+        STANDARD,
+        /**
+         * The context is created without error checking, where the driver supports that, and the error checks of
+         * Altitude are skipped: calls that would have been errors are undefined behavior
+         */
+        RELEASE,
+        /**
+         * The context is created for debugging, and the messages of the driver are logged once per frame
+         */
+        DIAGNOSTIC,
+    }
+
+    public static final Profile PROFILE = Properties.glValidation();
+
+    // messages beyond this many per frame are counted, rather than queued
+    private static final int MAX_QUEUED_MESSAGES = 256;
+
+    private record Message(int source, int type, int id, int severity, String text) {
+    }
+
+    // FIELD GROUP: diagnostic messages, written by the driver from any thread
+    private static final Queue<Message> messages = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger queuedMessages = new AtomicInteger();
+    private static final AtomicInteger droppedMessages = new AtomicInteger();
+
+    // FIELD GROUP: diagnostic state of the render thread
+    private static GLDebugMessageCallback callback = null;
+    // repeated messages are logged once, and counted after
+    private static final Map<Integer, Integer> repeats = new HashMap<>();
+
+    private GlValidation() {
+        // static api
+    }
+
+    /**
+     * Whether Altitude should check for errors: not in the release profile, where errors are not reported anyway
+     */
+    public static boolean checksErrors() {
+        return PROFILE != Profile.RELEASE;
+    }
+
+    /**
+     * Request the context of the profile: call before the window is created
+     */
+    public static void windowHints() {
+        // glfw ignores the no-error hint when the platform does not support it
+        glfwWindowHint(GLFW_CONTEXT_NO_ERROR, PROFILE == Profile.RELEASE ? GLFW_TRUE : GLFW_FALSE);
+        glfwWindowHint(GLFW_OPENGL_DEBUG_CONTEXT, PROFILE == Profile.DIAGNOSTIC ? GLFW_TRUE : GLFW_FALSE);
+    }
+
+    public static void contextCreated() {
+        if (PROFILE != Profile.DIAGNOSTIC) {
+            return;
+        }
+        GLCapabilities capabilities = GL.getCapabilities();
+        if (!capabilities.OpenGL43 && !capabilities.GL_KHR_debug) {
+            LOG.warn("The driver does not support KHR_debug: no diagnostics will be logged");
+            return;
+        }
+        if (callback == null) {
+            callback = GLDebugMessageCallback.create(GlValidation::enqueue);
+        }
+        if (capabilities.OpenGL43) {
+            GL43C.glDebugMessageCallback(callback, NULL);
+            GL43C.glDebugMessageControl(GL_DONT_CARE, GL_DONT_CARE, GL_DEBUG_SEVERITY_NOTIFICATION, (int[]) null, false);
+        } else {
+            KHRDebug.glDebugMessageCallback(callback, NULL);
+            KHRDebug.glDebugMessageControl(GL_DONT_CARE, GL_DONT_CARE, GL_DEBUG_SEVERITY_NOTIFICATION, (int[]) null, false);
+        }
+        GL11C.glEnable(GL_DEBUG_OUTPUT);
+        // asynchronous output lets the driver keep its worker thread, at the cost of stack traces pointing nowhere
+        GL11C.glDisable(GL_DEBUG_OUTPUT_SYNCHRONOUS);
+    }
+
+    // called by the driver, possibly from a thread of its own, and possibly in the middle of a gl call
+    private static void enqueue(int source, int type, int id, int severity, int length, long message, long userParam) {
+        if (queuedMessages.incrementAndGet() > MAX_QUEUED_MESSAGES) {
+            queuedMessages.decrementAndGet();
+            droppedMessages.incrementAndGet();
+            return;
+        }
+        messages.add(new Message(source, type, id, severity, GLDebugMessageCallback.getMessage(length, message)));
+    }
+
+    /**
+     * Log the messages of the driver since the previous frame: call once per frame
+     */
+    public static void endFrame() {
+        if (PROFILE != Profile.DIAGNOSTIC) {
+            return;
+        }
+        Message message;
+        while ((message = messages.poll()) != null) {
+            queuedMessages.decrementAndGet();
+            log(message);
+        }
+        int dropped = droppedMessages.getAndSet(0);
+        if (dropped != 0) {
+            LOG.warn("Dropped {} GL debug messages in one frame", dropped);
+        }
+    }
+
+    private static void log(Message message) {
+        int count = repeats.merge(message.id(), 1, Integer::sum);
+        // the first of every message, and then every power of two, to show that it keeps coming without flooding
+        if (Integer.bitCount(count) != 1) {
+            return;
+        }
+        String format = "GL debug message 0x{} (source 0x{}, type 0x{}, seen {} times): {}";
+        Object[] arguments = {
+                Integer.toHexString(message.id()),
+                Integer.toHexString(message.source()),
+                Integer.toHexString(message.type()),
+                count,
+                message.text(),
+        };
+        if (message.severity() == GL_DEBUG_SEVERITY_HIGH || message.type() == GL_DEBUG_TYPE_ERROR) {
+            LOG.error(format, arguments);
+        } else if (message.severity() == GL_DEBUG_SEVERITY_MEDIUM) {
+            LOG.warn(format, arguments);
+        } else {
+            LOG.info(format, arguments);
+        }
+    }
+
+    /**
+     * Log the remaining messages, and release the callback: call after the context is destroyed
+     */
+    public static void destroyed() {
+        endFrame();
+        if (callback != null) {
+            callback.free();
+            callback = null;
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL11C;
+import org.lwjgl.opengl.GL15C;
+import org.lwjgl.system.MemoryStack;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import static org.lwjgl.opengl.GL11.GL_CLIENT_VERTEX_ARRAY_BIT;
+import static org.lwjgl.opengl.GL11.GL_CURRENT_COLOR;
+import static org.lwjgl.opengl.GL11.GL_CURRENT_TEXTURE_COORDS;
+import static org.lwjgl.opengl.GL11.GL_FILL;
+import static org.lwjgl.opengl.GL11.GL_LIGHTING;
+import static org.lwjgl.opengl.GL11.GL_POLYGON_MODE;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_GEN_Q;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_GEN_R;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_GEN_S;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_GEN_T;
+import static org.lwjgl.opengl.GL15C.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15C.GL_STREAM_DRAW;
+import static org.lwjgl.system.JNI.callV;
+import static org.lwjgl.system.MemoryUtil.NULL;
+
+/**
+ * Batches the filled primitives that Altitude draws in immediate mode. Rather than passing every {@code glVertex},
+ * {@code glTexCoord} and {@code glColor} between {@code glBegin} and {@code glEnd} to the driver, vertices are captured
+ * off-heap, converted to triangles, and merged with the blocks before them. The merged triangles are drawn with a
+ * single {@code glDrawArrays} from a streaming vertex buffer once anything else reaches GL (see {@link OpaqueCalls}).
+ * <p>
+ * When a block turns out to use something that cannot be captured (such as {@code glNormal}), the block is replayed
+ * to the driver as is, and the rest of it passes through. Blocks of lines and points, blocks compiled into display
+ * lists, and blocks drawn with polygon modes other than fill are never captured.
+ * <p>
+ * With {@link MatrixStacks}, captured vertices are transformed to eye space on the CPU, so that matrix calls between
+ * blocks do not break the batch. This is skipped while lighting or texture-coordinate generation is enabled, which
+ * depend on the coordinates before the modelview transformation.
+ * <p>
+ * Captured vertices hold a position, a texture coordinate, and a color: the current normal still applies to all of
+ * them. Texture coordinates are streamed to the active client texture unit, assumed to be the first one, and the
+ * secondary color and fog coordinate arrays are assumed to be disabled.
+ */
+public class ImmediateModeBatcher {
+
+    public static final boolean ENABLED = Properties.immediateBatching();
+
+    // a batch is drawn at the end of the block that fills it, to bound the latency of the first triangles
+    private static final int PENDING_FLUSH_THRESHOLD = 16 * 1024;
+    private static final long MIN_STREAM_CAPACITY = 4L * 1024 * 1024;
+
+    // FIELD GROUP: context
+    private static boolean supported = false;
+    private static int streamBuffer = 0;
+    private static long streamCapacity = 0;
+    private static long streamOffset = 0;
+
+    // FIELD GROUP: current attributes, and state that decides whether blocks can be captured
+    private static boolean currentKnown = false;
+    // whether the current attributes were changed by captured blocks only, and are yet to reach GL
+    private static boolean currentDirty = false;
+    private static float s;
+    private static float t;
+    private static boolean textureCoordinatesCapturable;
+    private static float red;
+    private static float green;
+    private static float blue;
+    private static float alpha;
+    private static boolean polygonModeKnown = false;
+    private static boolean polygonModeCapturable;
+    private static boolean eyeSpaceStateKnown = false;
+    // whether nothing that depends on object coordinates is enabled
+    private static boolean eyeSpaceCapturable;
+
+    // FIELD GROUP: the block between glBegin and glEnd
+    private static boolean capturing = false;
+    private static boolean replaying = false;
+    private static int blockMode;
+    private static boolean blockInEyeSpace;
+    private static final VertexArray block = new VertexArray(64);
+
+    // FIELD GROUP: the batch of triangles of captured blocks
+    private static final VertexArray pending = new VertexArray(1024);
+    private static boolean pendingInEyeSpace = false;
+
+    // FIELD GROUP: statistics
+    private static int capturedCalls = 0;
+    private static int draws = 0;
+    private static int lastFrameCapturedCalls = 0;
+    private static int lastFrameDraws = 0;
+
+    private ImmediateModeBatcher() {
+        // static api
+    }
+
+    /**
+     * Reset for a new context, in the default state of GL
+     */
+    public static void contextCreated() {
+        if (!ENABLED) {
+            return;
+        }
+        // vertex buffers are core since 1.5
+        supported = GL.getCapabilities().OpenGL15;
+        streamBuffer = 0;
+        streamCapacity = 0;
+        streamOffset = 0;
+        capturing = false;
+        replaying = false;
+        block.clear();
+        pending.clear();
+        currentKnown = true;
+        currentDirty = false;
+        s = 0;
+        t = 0;
+        textureCoordinatesCapturable = true;
+        red = 1;
+        green = 1;
+        blue = 1;
+        alpha = 1;
+        polygonModeKnown = true;
+        polygonModeCapturable = true;
+        eyeSpaceStateKnown = true;
+        eyeSpaceCapturable = true;
+    }
+
+    /**
+     * Forget the current attributes, eg because an array draw left them undefined
+     */
+    public static void invalidateCurrent() {
+        currentKnown = false;
+    }
+
+    /**
+     * Forget everything that GL may have changed, eg by popping attributes or calling a display list
+     */
+    public static void invalidate() {
+        currentKnown = false;
+        polygonModeKnown = false;
+        eyeSpaceStateKnown = false;
+    }
+
+    /**
+     * Forget the polygon mode, which decides whether blocks can be captured
+     */
+    public static void invalidatePolygonMode() {
+        polygonModeKnown = false;
+    }
+
+    /**
+     * After enabling or disabling a capability, which may decide whether blocks can be captured in eye space
+     */
+    public static void invalidateCapability(int capability) {
+        switch (capability) {
+            case GL_LIGHTING, GL_TEXTURE_GEN_S, GL_TEXTURE_GEN_T, GL_TEXTURE_GEN_R, GL_TEXTURE_GEN_Q ->
+                    eyeSpaceStateKnown = false;
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Before the current matrix changes
+     *
+     * @return whether the change may be mirrored, rather than passed to the driver
+     */
+    static boolean matrixChanging(boolean modelview) {
+        if (capturing) {
+            // let the driver report the error
+            flush();
+            return false;
+        }
+        // triangles in eye space no longer depend on the modelview matrix
+        if (!modelview || !pendingInEyeSpace) {
+            flush();
+        }
+        return true;
+    }
+
+    // BLOCK
+
+    /**
+     * @return whether the block is captured, rather than passed to the driver
+     */
+    public static boolean begin(int mode) {
+        if (!ENABLED || replaying) {
+            return false;
+        }
+        if (!canCapture(mode)) {
+            flush();
+            return false;
+        }
+        blockInEyeSpace = MatrixStacks.ENABLED && eyeSpaceCapturable && MatrixStacks.eyeSpaceAvailable();
+        if (pending.count() > 0 && pendingInEyeSpace != blockInEyeSpace) {
+            drawPending();
+        }
+        capturing = true;
+        blockMode = mode;
+        block.clear();
+        ++capturedCalls;
+        return true;
+    }
+
+    /**
+     * @return whether the block was captured, rather than passed to the driver
+     */
+    public static boolean end() {
+        if (!capturing) {
+            return false;
+        }
+        capturing = false;
+        ++capturedCalls;
+        int first = pending.count();
+        pending.appendTriangles(blockMode, block);
+        if (blockInEyeSpace) {
+            pending.transformPositions(first, MatrixStacks.modelview());
+        }
+        pendingInEyeSpace = blockInEyeSpace;
+        block.clear();
+        if (pending.count() >= PENDING_FLUSH_THRESHOLD) {
+            flush();
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the vertex was captured, rather than passed to the driver
+     */
+    public static boolean vertex(float x, float y, float z) {
+        if (!capturing) {
+            return false;
+        }
+        ++capturedCalls;
+        block.put(x, y, z, s, t, red, green, blue, alpha);
+        return true;
+    }
+
+    /**
+     * @return whether the coordinates were captured, rather than passed to the driver
+     */
+    public static boolean textureCoordinates(float s, float t) {
+        if (!ENABLED) {
+            return false;
+        }
+        ImmediateModeBatcher.s = s;
+        ImmediateModeBatcher.t = t;
+        if (!capturing) {
+            // (r, q) may only be left undefined by glTexCoord with more components, which invalidates
+            textureCoordinatesCapturable = true;
+            return false;
+        }
+        ++capturedCalls;
+        currentDirty = true;
+        return true;
+    }
+
+    /**
+     * @return whether the color was captured, rather than passed to the driver
+     */
+    public static boolean color(float red, float green, float blue, float alpha) {
+        if (!ENABLED) {
+            return false;
+        }
+        ImmediateModeBatcher.red = red;
+        ImmediateModeBatcher.green = green;
+        ImmediateModeBatcher.blue = blue;
+        ImmediateModeBatcher.alpha = alpha;
+        if (!capturing) {
+            return false;
+        }
+        ++capturedCalls;
+        currentDirty = true;
+        return true;
+    }
+
+    public static boolean color(byte red, byte green, byte blue, byte alpha) {
+        return color((red & 0xFF) / 255F, (green & 0xFF) / 255F, (blue & 0xFF) / 255F, (alpha & 0xFF) / 255F);
+    }
+
+    // FLUSH
+
+    /**
+     * Draw the batch, because something else is about to reach GL. Inside a captured block, the block is instead
+     * passed through to the driver
+     */
+    public static void flush() {
+        if (capturing) {
+            passThroughBlock();
+        } else if (pending.count() > 0) {
+            drawPending();
+        } else if (currentDirty) {
+            restoreCurrent();
+        }
+    }
+
+    private static boolean canCapture(int mode) {
+        if (!supported || GlStateCache.compilingList() || !VertexArray.isTriangulable(mode)) {
+            return false;
+        }
+        if (!polygonModeKnown || !currentKnown || !eyeSpaceStateKnown) {
+            flush();
+            queryState();
+        }
+        // triangulation would show in the lines of other polygon modes
+        return polygonModeCapturable && textureCoordinatesCapturable;
+    }
+
+    private static void queryState() {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            if (!polygonModeKnown) {
+                IntBuffer polygonModes = stack.mallocInt(2);
+                GL11C.glGetIntegerv(GL_POLYGON_MODE, polygonModes);
+                polygonModeCapturable = polygonModes.get(0) == GL_FILL && polygonModes.get(1) == GL_FILL;
+                polygonModeKnown = true;
+            }
+            if (!eyeSpaceStateKnown) {
+                eyeSpaceCapturable = !GL11C.glIsEnabled(GL_LIGHTING)
+                        && !GL11C.glIsEnabled(GL_TEXTURE_GEN_S)
+                        && !GL11C.glIsEnabled(GL_TEXTURE_GEN_T)
+                        && !GL11C.glIsEnabled(GL_TEXTURE_GEN_R)
+                        && !GL11C.glIsEnabled(GL_TEXTURE_GEN_Q);
+                eyeSpaceStateKnown = true;
+            }
+            if (!currentKnown) {
+                FloatBuffer values = stack.mallocFloat(4);
+                GL11C.glGetFloatv(GL_CURRENT_COLOR, values);
+                red = values.get(0);
+                green = values.get(1);
+                blue = values.get(2);
+                alpha = values.get(3);
+                GL11C.glGetFloatv(GL_CURRENT_TEXTURE_COORDS, values);
+                s = values.get(0);
+                t = values.get(1);
+                // captured vertices have two texture coordinates, which implies r = 0 and q = 1
+                textureCoordinatesCapturable = values.get(2) == 0 && values.get(3) == 1;
+                currentKnown = true;
+            }
+        }
+    }
+
+    private static void passThroughBlock() {
+        capturing = false;
+        if (pending.count() > 0) {
+            drawPending();
+        }
+        // the colors and coordinates of the vertices are replayed as well, so the current attributes end up the same
+        float currentS = s;
+        float currentT = t;
+        float currentRed = red;
+        float currentGreen = green;
+        float currentBlue = blue;
+        float currentAlpha = alpha;
+        GlStateCache.invalidateColor();
+        replaying = true;
+        GL11.glBegin(blockMode);
+        replaying = false;
+        for (int i = 0; i < block.count(); ++i) {
+            GL11.glTexCoord2f(block.get(i, VertexArray.S), block.get(i, VertexArray.T));
+            GL11.glColor4f(
+                    block.get(i, VertexArray.RED),
+                    block.get(i, VertexArray.GREEN),
+                    block.get(i, VertexArray.BLUE),
+                    block.get(i, VertexArray.ALPHA)
+            );
+            GL11.glVertex3f(block.get(i, VertexArray.X), block.get(i, VertexArray.Y), block.get(i, VertexArray.Z));
+        }
+        GL11.glTexCoord2f(currentS, currentT);
+        GL11.glColor4f(currentRed, currentGreen, currentBlue, currentAlpha);
+        currentDirty = false;
+        block.clear();
+    }
+
+    private static void drawPending() {
+        int count = pending.count();
+        currentDirty = false;
+        if (pendingInEyeSpace) {
+            MatrixStacks.syncEyeSpace();
+        } else {
+            MatrixStacks.sync();
+        }
+        // past the shim, which would flush the batch being drawn, and sync the matrices over the eye space
+        callV(GL_CLIENT_VERTEX_ARRAY_BIT, GL.getCapabilities().glPushClientAttrib);
+        long offset = stream(pending);
+        pending.clear();
+        VertexArray.drawTriangles(offset, count, true, true);
+        callV(GL.getCapabilities().glPopClientAttrib);
+        ++draws;
+        // drawing with color and coordinate arrays leaves the current color and coordinates undefined
+        restoreCurrent();
+    }
+
+    private static void restoreCurrent() {
+        currentDirty = false;
+        GlStateCache.invalidateColor();
+        GL11.glTexCoord2f(s, t);
+        GL11.glColor4f(red, green, blue, alpha);
+    }
+
+    /**
+     * Upload vertices to the streaming buffer, and leave it bound
+     *
+     * @return the offset of the uploaded vertices in the buffer
+     */
+    private static long stream(VertexArray vertices) {
+        long bytes = vertices.bytes();
+        if (streamBuffer == 0) {
+            streamBuffer = GL15C.glGenBuffers();
+        }
+        GL15C.glBindBuffer(GL_ARRAY_BUFFER, streamBuffer);
+        if (streamOffset + bytes > streamCapacity) {
+            // orphan the storage, rather than waiting for the GPU to finish drawing from it
+            streamCapacity = Math.max(streamCapacity, Math.max(bytes, MIN_STREAM_CAPACITY));
+            GL15C.nglBufferData(GL_ARRAY_BUFFER, streamCapacity, NULL, GL_STREAM_DRAW);
+            GlObjects.bufferStored(streamBuffer, streamCapacity);
+            streamOffset = 0;
+        }
+        long offset = streamOffset;
+        GL15C.nglBufferSubData(GL_ARRAY_BUFFER, offset, bytes, vertices.address());
+        streamOffset += bytes;
+        return offset;
+    }
+
+    // STATISTICS
+
+    /**
+     * Roll the per-frame statistics: call once per frame
+     */
+    public static void endFrame() {
+        lastFrameCapturedCalls = capturedCalls;
+        lastFrameDraws = draws;
+        capturedCalls = 0;
+        draws = 0;
+    }
+
+    /**
+     * The number of immediate-mode calls that did not reach the driver during the previous frame
+     */
+    public static int lastFrameCapturedCalls() {
+        return lastFrameCapturedCalls;
+    }
+
+    /**
+     * The number of batches drawn during the previous frame
+     */
+    public static int lastFrameDraws() {
+        return lastFrameDraws;
+    }
+}
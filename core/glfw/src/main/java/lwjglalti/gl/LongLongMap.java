@@ -0,0 +1,139 @@
+package lwjglalti.gl;
+
+import java.util.Arrays;
+
+/**
+ * Hash map from longs to longs, without boxing either: open addressing with linear probing. Absent keys map to 0
+ */
+final class LongLongMap {
+
+    @FunctionalInterface
+    interface Entries {
+        void accept(long key, long value);
+    }
+
+    // marks a free slot: undefined behavior for this key
+    private static final long FREE = Long.MIN_VALUE;
+
+    private long[] keys;
+    private long[] values;
+    private int size = 0;
+
+    /**
+     * Undefined behavior for non-positive capacity
+     */
+    LongLongMap(int initialCapacity) {
+        // a power of two, kept at most half full
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 4) * 2 - 1) * 2;
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(keys, FREE);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean containsKey(long key) {
+        return keys[slot(key)] == key;
+    }
+
+    long get(long key) {
+        int slot = slot(key);
+        return keys[slot] == key ? values[slot] : 0;
+    }
+
+    /**
+     * @return the previous value of the key
+     */
+    long put(long key, long value) {
+        int slot = slot(key);
+        if (keys[slot] == key) {
+            long previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+        return 0;
+    }
+
+    /**
+     * @return the removed value of the key
+     */
+    long remove(long key) {
+        int slot = slot(key);
+        if (keys[slot] != key) {
+            return 0;
+        }
+        long removed = values[slot];
+        keys[slot] = FREE;
+        --size;
+        // shift back the keys that probed past the freed slot, so that their probes still find them
+        int mask = keys.length - 1;
+        int free = slot;
+        for (int i = (slot + 1) & mask; keys[i] != FREE; i = (i + 1) & mask) {
+            int home = home(keys[i]);
+            // move the key if its home is not cyclically within (free, i]
+            if (((i - home) & mask) >= ((i - free) & mask)) {
+                keys[free] = keys[i];
+                values[free] = values[i];
+                keys[i] = FREE;
+                free = i;
+            }
+        }
+        return removed;
+    }
+
+    void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+    }
+
+    /**
+     * Undefined behavior if the map is changed by the action
+     */
+    void forEach(Entries action) {
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != FREE) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return the slot of the key, or the free slot where it would be put
+     */
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        int i = home(key);
+        while (keys[i] != key && keys[i] != FREE) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private int home(long key) {
+        // spread the bits of sequential names over the table
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & (keys.length - 1);
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new long[oldValues.length * 2];
+        Arrays.fill(keys, FREE);
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != FREE) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package lwjglalti.gl;
+
+/**
+ * Operations on 4x4 matrices, stored column-major in float arrays of 16 as GL stores them. Every operation multiplies
+ * the matrix in place from the right, as the fixed-function matrix calls of GL do
+ */
+final class Matrix4 {
+
+    static final int SIZE = 16;
+
+    private Matrix4() {
+        // static api
+    }
+
+    static void identity(float[] m) {
+        for (int i = 0; i < SIZE; ++i) {
+            m[i] = i % 5 == 0 ? 1 : 0;
+        }
+    }
+
+    static boolean isAffine(float[] m) {
+        return m[3] == 0 && m[7] == 0 && m[11] == 0 && m[15] == 1;
+    }
+
+    /**
+     * m = m * r
+     */
+    static void multiply(float[] m, float[] r) {
+        // row i of the product only depends on row i of m
+        for (int i = 0; i < 4; ++i) {
+            float a = m[i];
+            float b = m[4 + i];
+            float c = m[8 + i];
+            float d = m[12 + i];
+            for (int j = 0; j < 4; ++j) {
+                m[4 * j + i] = a * r[4 * j] + b * r[4 * j + 1] + c * r[4 * j + 2] + d * r[4 * j + 3];
+            }
+        }
+    }
+
+    static void translate(float[] m, float x, float y, float z) {
+        for (int i = 0; i < 4; ++i) {
+            m[12 + i] += m[i] * x + m[4 + i] * y + m[8 + i] * z;
+        }
+    }
+
+    static void scale(float[] m, float x, float y, float z) {
+        for (int i = 0; i < 4; ++i) {
+            m[i] *= x;
+            m[4 + i] *= y;
+            m[8 + i] *= z;
+        }
+    }
+
+    /**
+     * Rotate counterclockwise about an axis, as {@code glRotate}. A zero axis leaves the matrix unchanged
+     *
+     * @param angle in degrees
+     */
+    static void rotate(float[] m, float angle, float x, float y, float z) {
+        double length = Math.sqrt((double) x * x + (double) y * y + (double) z * z);
+        if (length == 0) {
+            return;
+        }
+        double ux = x / length;
+        double uy = y / length;
+        double uz = z / length;
+        double radians = Math.toRadians(angle);
+        double c = Math.cos(radians);
+        double s = Math.sin(radians);
+        double k = 1 - c;
+        // rows of the rotation
+        float r00 = (float) (ux * ux * k + c);
+        float r01 = (float) (ux * uy * k - uz * s);
+        float r02 = (float) (ux * uz * k + uy * s);
+        float r10 = (float) (uy * ux * k + uz * s);
+        float r11 = (float) (uy * uy * k + c);
+        float r12 = (float) (uy * uz * k - ux * s);
+        float r20 = (float) (uz * ux * k - uy * s);
+        float r21 = (float) (uz * uy * k + ux * s);
+        float r22 = (float) (uz * uz * k + c);
+        for (int i = 0; i < 4; ++i) {
+            float a = m[i];
+            float b = m[4 + i];
+            float d = m[8 + i];
+            m[i] = a * r00 + b * r10 + d * r20;
+            m[4 + i] = a * r01 + b * r11 + d * r21;
+            m[8 + i] = a * r02 + b * r12 + d * r22;
+        }
+    }
+
+    /**
+     * Multiply by an orthographic projection, as {@code glOrtho}
+     *
+     * @return false, leaving the matrix unchanged, if the volume is empty
+     */
+    static boolean ortho(float[] m, double l, double r, double b, double t, double n, double f) {
+        if (l == r || b == t || n == f) {
+            return false;
+        }
+        translate(m, (float) (-(r + l) / (r - l)), (float) (-(t + b) / (t - b)), (float) (-(f + n) / (f - n)));
+        scale(m, (float) (2 / (r - l)), (float) (2 / (t - b)), (float) (-2 / (f - n)));
+        return true;
+    }
+
+    /**
+     * Multiply by a perspective projection, as {@code glFrustum}
+     *
+     * @return false, leaving the matrix unchanged, if the frustum is invalid
+     */
+    static boolean frustum(float[] m, double l, double r, double b, double t, double n, double f) {
+        if (n <= 0 || f <= 0 || l == r || b == t || n == f) {
+            return false;
+        }
+        float x = (float) (2 * n / (r - l));
+        float y = (float) (2 * n / (t - b));
+        float skewX = (float) ((r + l) / (r - l));
+        float skewY = (float) ((t + b) / (t - b));
+        float c = (float) (-(f + n) / (f - n));
+        float d = (float) (-2 * f * n / (f - n));
+        for (int i = 0; i < 4; ++i) {
+            float m0 = m[i];
+            float m1 = m[4 + i];
+            float m2 = m[8 + i];
+            float m3 = m[12 + i];
+            m[i] = m0 * x;
+            m[4 + i] = m1 * y;
+            m[8 + i] = m0 * skewX + m1 * skewY + m2 * c - m3;
+            m[12 + i] = m2 * d;
+        }
+        return true;
+    }
+}
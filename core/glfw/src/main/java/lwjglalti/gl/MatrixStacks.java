@@ -0,0 +1,534 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
+
+import static org.lwjgl.opengl.GL11.GL_COMPILE_AND_EXECUTE;
+import static org.lwjgl.opengl.GL11.GL_MATRIX_MODE;
+import static org.lwjgl.opengl.GL11.GL_MAX_MODELVIEW_STACK_DEPTH;
+import static org.lwjgl.opengl.GL11.GL_MAX_PROJECTION_STACK_DEPTH;
+import static org.lwjgl.opengl.GL11.GL_MAX_TEXTURE_STACK_DEPTH;
+import static org.lwjgl.opengl.GL11.GL_MODELVIEW;
+import static org.lwjgl.opengl.GL11.GL_MODELVIEW_MATRIX;
+import static org.lwjgl.opengl.GL11.GL_MODELVIEW_STACK_DEPTH;
+import static org.lwjgl.opengl.GL11.GL_PROJECTION;
+import static org.lwjgl.opengl.GL11.GL_PROJECTION_MATRIX;
+import static org.lwjgl.opengl.GL11.GL_PROJECTION_STACK_DEPTH;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_MATRIX;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_STACK_DEPTH;
+import static org.lwjgl.system.JNI.callPV;
+import static org.lwjgl.system.JNI.callV;
+import static org.lwjgl.system.MemoryUtil.memGetDouble;
+import static org.lwjgl.system.MemoryUtil.memGetFloat;
+
+/**
+ * Mirror of the modelview, projection and texture matrix stacks, so that matrix calls are computed on the CPU, and
+ * matrix queries answered without a round trip to the driver. The driver only ever holds the top of each stack, which
+ * is loaded lazily, right before a call that depends on it: an opaque call (see {@link OpaqueCalls}), or a draw of
+ * the layers in this package. The immediate-mode batcher transforms its vertices by the mirrored modelview matrix, so
+ * that batches are not broken by matrix calls between sprites.
+ * <p>
+ * While a display list is compiled, matrix calls pass through to be compiled into it. Calling a display list compiled
+ * with matrix calls changes the matrices behind the back of the mirror, so their tops are queried again before the next
+ * matrix call. A list that leaves the driver with more than one matrix on a stack stops the mirror for the context.
+ * <p>
+ * The texture matrix is mirrored for the first texture unit only, as {@code glActiveTexture} is not part of the shim.
+ * Overflowing or underflowing a stack is ignored without raising the GL error.
+ */
+public class MatrixStacks {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.cpuMatrixStack();
+
+    private static final int MODELVIEW_STACK = 0;
+    private static final int PROJECTION_STACK = 1;
+    private static final int TEXTURE_STACK = 2;
+    private static final int[] MODES = {GL_MODELVIEW, GL_PROJECTION, GL_TEXTURE};
+    private static final int[] MAX_DEPTHS = {
+            GL_MAX_MODELVIEW_STACK_DEPTH,
+            GL_MAX_PROJECTION_STACK_DEPTH,
+            GL_MAX_TEXTURE_STACK_DEPTH
+    };
+    private static final int NOT_MIRRORED = -1;
+
+    // FIELD GROUP: context
+    private static boolean supported = false;
+    // whether the tops of the stacks and the matrix mode of the driver are known
+    private static boolean known = false;
+    private static boolean modeKnown = false;
+
+    // FIELD GROUP: mirror
+    // [stack][level], each a matrix
+    private static final float[][][] stacks = new float[3][][];
+    private static final int[] depths = new int[3];
+    private static int mode = GL_MODELVIEW;
+    // index into stacks of the current matrix mode, or `NOT_MIRRORED` for modes such as `GL_COLOR`
+    private static int stack = MODELVIEW_STACK;
+
+    // FIELD GROUP: driver
+    private static final boolean[] loaded = new boolean[3];
+    private static int driverMode = GL_MODELVIEW;
+    // whether the driver holds the identity as modelview, for geometry in eye space, rather than the mirrored top
+    private static boolean driverInEyeSpace = false;
+    private static boolean overflowReported = false;
+    // scratch for matrices passed by address
+    private static final float[] argument = new float[Matrix4.SIZE];
+
+    // FIELD GROUP: display lists compiled by the driver
+    private static final BitSet listsChangingMatrices = new BitSet();
+    private static int compiledList;
+    private static int compiledListMode;
+    private static boolean compiledListChangesMatrices;
+
+    private MatrixStacks() {
+        // static api
+    }
+
+    /**
+     * Reset for a new context, in the default state of GL
+     */
+    public static void contextCreated() {
+        if (!ENABLED) {
+            return;
+        }
+        supported = true;
+        for (int i = 0; i < stacks.length; ++i) {
+            int maxDepth = GL11C.glGetInteger(MAX_DEPTHS[i]);
+            stacks[i] = new float[maxDepth][Matrix4.SIZE];
+            Matrix4.identity(stacks[i][0]);
+            depths[i] = 1;
+            loaded[i] = true;
+        }
+        mode = GL_MODELVIEW;
+        stack = MODELVIEW_STACK;
+        driverMode = GL_MODELVIEW;
+        driverInEyeSpace = false;
+        known = true;
+        modeKnown = true;
+        listsChangingMatrices.clear();
+    }
+
+    /**
+     * Forget the tops of the stacks and the matrix mode, eg because a display list compiled by the driver was called
+     */
+    public static void invalidate() {
+        known = false;
+        modeKnown = false;
+    }
+
+    /**
+     * Forget the matrix mode, eg because attributes were popped
+     */
+    public static void invalidateMode() {
+        if (GlStateCache.compilingList()) {
+            compiledListChangesMatrices = true;
+        } else {
+            modeKnown = false;
+        }
+    }
+
+    public static void beginList(int list, int mode) {
+        compiledList = list;
+        compiledListMode = mode;
+        compiledListChangesMatrices = false;
+    }
+
+    public static void endList() {
+        if (!ENABLED) {
+            return;
+        }
+        if (compiledList >= 0) {
+            listsChangingMatrices.set(compiledList, compiledListChangesMatrices);
+        }
+        if (compiledListChangesMatrices && compiledListMode == GL_COMPILE_AND_EXECUTE) {
+            invalidate();
+        }
+    }
+
+    /**
+     * After calling a display list compiled by the driver
+     */
+    public static void listCalled(int list) {
+        if (list >= 0 && listsChangingMatrices.get(list)) {
+            listsCalled();
+        }
+    }
+
+    /**
+     * After calling display lists compiled by the driver, which may be any
+     */
+    public static void listsCalled() {
+        if (GlStateCache.compilingList()) {
+            compiledListChangesMatrices = true;
+        } else {
+            invalidate();
+        }
+    }
+
+    private static boolean mirroring() {
+        if (!ENABLED || !supported) {
+            return false;
+        }
+        if (GlStateCache.compilingList()) {
+            compiledListChangesMatrices = true;
+            return false;
+        }
+        if (!known) {
+            queryTops();
+        }
+        if (!modeKnown) {
+            driverMode = GL11C.glGetInteger(GL_MATRIX_MODE);
+            setMode(driverMode);
+            modeKnown = true;
+        }
+        return supported;
+    }
+
+    private static void queryTops() {
+        for (int i = 0; i < stacks.length; ++i) {
+            if (GL11C.glGetInteger(depthQuery(i)) != 1) {
+                LOG.warn("A display list left matrices on the stack: matrices are no longer mirrored");
+                supported = false;
+                return;
+            }
+            GL11C.glGetFloatv(matrixQuery(i), top(i));
+            loaded[i] = true;
+        }
+        driverInEyeSpace = false;
+        known = true;
+    }
+
+    private static void setMode(int mode) {
+        MatrixStacks.mode = mode;
+        stack = switch (mode) {
+            case GL_MODELVIEW -> MODELVIEW_STACK;
+            case GL_PROJECTION -> PROJECTION_STACK;
+            case GL_TEXTURE -> TEXTURE_STACK;
+            default -> NOT_MIRRORED;
+        };
+    }
+
+    private static float[] top(int stack) {
+        return stacks[stack][depths[stack] - 1];
+    }
+
+    // MATRIX CALLS
+
+    /**
+     * @return whether the mode was mirrored, rather than passed to the driver
+     */
+    public static boolean matrixMode(int mode) {
+        if (!mirroring()) {
+            return false;
+        }
+        if (mode != GL_MODELVIEW && mode != GL_PROJECTION && mode != GL_TEXTURE) {
+            // other modes, and invalid ones, pass through, and the mode is queried again before the next matrix call
+            sync();
+            modeKnown = false;
+            return false;
+        }
+        setMode(mode);
+        return true;
+    }
+
+    public static boolean pushMatrix() {
+        if (!beforeChange()) {
+            return false;
+        }
+        if (depths[stack] == stacks[stack].length) {
+            reportOverflow();
+            return true;
+        }
+        System.arraycopy(top(stack), 0, stacks[stack][depths[stack]], 0, Matrix4.SIZE);
+        ++depths[stack];
+        return true;
+    }
+
+    public static boolean popMatrix() {
+        if (!beforeChange()) {
+            return false;
+        }
+        if (depths[stack] == 1) {
+            reportOverflow();
+            return true;
+        }
+        --depths[stack];
+        loaded[stack] = false;
+        return true;
+    }
+
+    public static boolean loadIdentity() {
+        if (!beforeChange()) {
+            return false;
+        }
+        Matrix4.identity(top(stack));
+        loaded[stack] = false;
+        return true;
+    }
+
+    public static boolean loadMatrix(float[] m) {
+        if (!beforeChange()) {
+            return false;
+        }
+        System.arraycopy(m, 0, top(stack), 0, Matrix4.SIZE);
+        loaded[stack] = false;
+        return true;
+    }
+
+    public static boolean loadMatrixf(long m) {
+        for (int i = 0; i < Matrix4.SIZE; ++i) {
+            argument[i] = memGetFloat(m + (long) i * Float.BYTES);
+        }
+        return loadMatrix(argument);
+    }
+
+    public static boolean loadMatrixd(long m) {
+        for (int i = 0; i < Matrix4.SIZE; ++i) {
+            argument[i] = (float) memGetDouble(m + (long) i * Double.BYTES);
+        }
+        return loadMatrix(argument);
+    }
+
+    public static boolean loadMatrix(double[] m) {
+        for (int i = 0; i < Matrix4.SIZE; ++i) {
+            argument[i] = (float) m[i];
+        }
+        return loadMatrix(argument);
+    }
+
+    public static boolean multiplyMatrix(float[] m) {
+        if (!beforeChange()) {
+            return false;
+        }
+        Matrix4.multiply(top(stack), m);
+        loaded[stack] = false;
+        return true;
+    }
+
+    public static boolean multiplyMatrixf(long m) {
+        for (int i = 0; i < Matrix4.SIZE; ++i) {
+            argument[i] = memGetFloat(m + (long) i * Float.BYTES);
+        }
+        return multiplyMatrix(argument);
+    }
+
+    public static boolean multiplyMatrixd(long m) {
+        for (int i = 0; i < Matrix4.SIZE; ++i) {
+            argument[i] = (float) memGetDouble(m + (long) i * Double.BYTES);
+        }
+        return multiplyMatrix(argument);
+    }
+
+    public static boolean multiplyMatrix(double[] m) {
+        for (int i = 0; i < Matrix4.SIZE; ++i) {
+            argument[i] = (float) m[i];
+        }
+        return multiplyMatrix(argument);
+    }
+
+    public static boolean translate(float x, float y, float z) {
+        if (!beforeChange()) {
+            return false;
+        }
+        Matrix4.translate(top(stack), x, y, z);
+        loaded[stack] = false;
+        return true;
+    }
+
+    public static boolean rotate(float angle, float x, float y, float z) {
+        if (!beforeChange()) {
+            return false;
+        }
+        Matrix4.rotate(top(stack), angle, x, y, z);
+        loaded[stack] = false;
+        return true;
+    }
+
+    public static boolean scale(float x, float y, float z) {
+        if (!beforeChange()) {
+            return false;
+        }
+        Matrix4.scale(top(stack), x, y, z);
+        loaded[stack] = false;
+        return true;
+    }
+
+    public static boolean ortho(double l, double r, double b, double t, double n, double f) {
+        if (!beforeChange()) {
+            return false;
+        }
+        // invalid volumes pass through, for the driver to report
+        if (!Matrix4.ortho(top(stack), l, r, b, t, n, f)) {
+            return false;
+        }
+        loaded[stack] = false;
+        return true;
+    }
+
+    public static boolean frustum(double l, double r, double b, double t, double n, double f) {
+        if (!beforeChange()) {
+            return false;
+        }
+        if (!Matrix4.frustum(top(stack), l, r, b, t, n, f)) {
+            return false;
+        }
+        loaded[stack] = false;
+        return true;
+    }
+
+    /**
+     * @return whether the change of the current matrix is mirrored
+     */
+    private static boolean beforeChange() {
+        // a recorded display list may have to be demoted by this call
+        DisplayListEmulation.demoteRecording();
+        return mirroring() && stack != NOT_MIRRORED && ImmediateModeBatcher.matrixChanging(stack == MODELVIEW_STACK);
+    }
+
+    private static void reportOverflow() {
+        if (!overflowReported) {
+            LOG.warn("Matrix stack overflow or underflow in mode {}, ignored", mode);
+            overflowReported = true;
+        }
+    }
+
+    // QUERIES
+
+    /**
+     * @return whether the query is answered from the mirror, rather than passed to the driver
+     */
+    static boolean answers(int pname) {
+        if (!ENABLED || !supported || !known || !modeKnown) {
+            return false;
+        }
+        return switch (pname) {
+            case GL_MATRIX_MODE,
+                    GL_MODELVIEW_MATRIX, GL_PROJECTION_MATRIX, GL_TEXTURE_MATRIX,
+                    GL_MODELVIEW_STACK_DEPTH, GL_PROJECTION_STACK_DEPTH, GL_TEXTURE_STACK_DEPTH -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * @param pname a query this {@link #answers}
+     * @param i the index of the value, which is zero unless the query is of a matrix
+     */
+    static double value(int pname, int i) {
+        return switch (pname) {
+            case GL_MATRIX_MODE -> mode;
+            case GL_MODELVIEW_MATRIX -> top(MODELVIEW_STACK)[i];
+            case GL_PROJECTION_MATRIX -> top(PROJECTION_STACK)[i];
+            case GL_TEXTURE_MATRIX -> top(TEXTURE_STACK)[i];
+            case GL_MODELVIEW_STACK_DEPTH -> depths[MODELVIEW_STACK];
+            case GL_PROJECTION_STACK_DEPTH -> depths[PROJECTION_STACK];
+            case GL_TEXTURE_STACK_DEPTH -> depths[TEXTURE_STACK];
+            default -> throw new IllegalArgumentException("Not answered: " + pname);
+        };
+    }
+
+    /**
+     * @param pname a query this {@link #answers}
+     */
+    static int valueCount(int pname) {
+        return switch (pname) {
+            case GL_MODELVIEW_MATRIX, GL_PROJECTION_MATRIX, GL_TEXTURE_MATRIX -> Matrix4.SIZE;
+            default -> 1;
+        };
+    }
+
+    private static int matrixQuery(int stack) {
+        return switch (stack) {
+            case MODELVIEW_STACK -> GL_MODELVIEW_MATRIX;
+            case PROJECTION_STACK -> GL_PROJECTION_MATRIX;
+            default -> GL_TEXTURE_MATRIX;
+        };
+    }
+
+    private static int depthQuery(int stack) {
+        return switch (stack) {
+            case MODELVIEW_STACK -> GL_MODELVIEW_STACK_DEPTH;
+            case PROJECTION_STACK -> GL_PROJECTION_STACK_DEPTH;
+            default -> GL_TEXTURE_STACK_DEPTH;
+        };
+    }
+
+    // DRIVER
+
+    /**
+     * Load the mirrored matrices into the driver, because something that depends on them is about to reach GL
+     */
+    public static void sync() {
+        if (!ENABLED || !supported || !known || !modeKnown || GlStateCache.compilingList()) {
+            return;
+        }
+        for (int i = 0; i < stacks.length; ++i) {
+            if (!loaded[i] || (i == MODELVIEW_STACK && driverInEyeSpace)) {
+                load(i, top(i));
+            }
+        }
+        driverInEyeSpace = false;
+        restoreDriverMode();
+    }
+
+    /**
+     * Load the mirrored matrices into the driver, except for the modelview matrix, which is loaded with the identity,
+     * to draw geometry that was already transformed by {@link #modelview()}
+     */
+    static void syncEyeSpace() {
+        if (!supported || !known || !modeKnown) {
+            return;
+        }
+        for (int i = 0; i < stacks.length; ++i) {
+            if (i == MODELVIEW_STACK) {
+                if (!driverInEyeSpace) {
+                    setDriverMode(GL_MODELVIEW);
+                    callV(GL.getCapabilities().glLoadIdentity);
+                    driverInEyeSpace = true;
+                    loaded[i] = false;
+                }
+            } else if (!loaded[i]) {
+                load(i, top(i));
+            }
+        }
+        restoreDriverMode();
+    }
+
+    /**
+     * Whether geometry may be transformed by {@link #modelview()} on the CPU, and drawn with {@link #syncEyeSpace()}
+     */
+    static boolean eyeSpaceAvailable() {
+        return mirroring() && Matrix4.isAffine(top(MODELVIEW_STACK));
+    }
+
+    /**
+     * The current modelview matrix, valid until the next matrix call
+     */
+    static float[] modelview() {
+        return top(MODELVIEW_STACK);
+    }
+
+    private static void load(int stack, float[] matrix) {
+        setDriverMode(MODES[stack]);
+        callPV(matrix, GL.getCapabilities().glLoadMatrixf);
+        loaded[stack] = true;
+    }
+
+    private static void setDriverMode(int mode) {
+        if (driverMode != mode) {
+            callV(mode, GL.getCapabilities().glMatrixMode);
+            driverMode = mode;
+        }
+    }
+
+    private static void restoreDriverMode() {
+        setDriverMode(mode);
+    }
+}
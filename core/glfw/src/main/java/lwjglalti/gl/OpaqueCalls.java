@@ -0,0 +1,19 @@
+package lwjglalti.gl;
+
+/**
+ * Opaque calls are the GL calls that no layer of lwjgl-altitude interprets, and that are passed to the driver as is.
+ * Each must see GL exactly as if every call before it had reached the driver in order: the shimmed entry points call
+ * {@link #before()} before issuing one.
+ */
+public class OpaqueCalls {
+
+    private OpaqueCalls() {
+        // static api
+    }
+
+    public static void before() {
+        DisplayListEmulation.demoteRecording();
+        ImmediateModeBatcher.flush();
+        MatrixStacks.sync();
+    }
+}
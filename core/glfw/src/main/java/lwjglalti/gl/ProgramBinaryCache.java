@@ -0,0 +1,425 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11C;
+import org.lwjgl.opengl.GL20C;
+import org.lwjgl.opengl.GL41C;
+import org.lwjgl.opengl.GLCapabilities;
+import org.lwjgl.system.MemoryStack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.lwjgl.opengl.ARBShaderObjects.GL_OBJECT_COMPILE_STATUS_ARB;
+import static org.lwjgl.opengl.ARBShaderObjects.GL_OBJECT_INFO_LOG_LENGTH_ARB;
+import static org.lwjgl.opengl.GL11.GL_RENDERER;
+import static org.lwjgl.opengl.GL11.GL_TRUE;
+import static org.lwjgl.opengl.GL11.GL_VERSION;
+import static org.lwjgl.opengl.GL20.GL_LINK_STATUS;
+import static org.lwjgl.opengl.GL41.GL_NUM_PROGRAM_BINARY_FORMATS;
+import static org.lwjgl.opengl.GL41.GL_PROGRAM_BINARY_LENGTH;
+import static org.lwjgl.opengl.GL41.GL_PROGRAM_BINARY_RETRIEVABLE_HINT;
+import static org.lwjgl.system.JNI.callV;
+import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.system.MemoryUtil.memAlloc;
+import static org.lwjgl.system.MemoryUtil.memFree;
+import static org.lwjgl.system.MemoryUtil.memGetAddress;
+import static org.lwjgl.system.MemoryUtil.memGetInt;
+import static org.lwjgl.system.MemoryUtil.memUTF8;
+import static org.lwjgl.system.Pointer.POINTER_SIZE;
+
+/**
+ * Cache of the linked programs of {@code ARBShaderObjects} on disk, as binaries of the driver that linked them, keyed
+ * by the sources of the program, the renderer, and the version of the driver. A program found in the cache is loaded
+ * rather than linked, and a binary the driver rejects is deleted, and the program linked as usual.
+ * <p>
+ * The compilation of a shader whose source is known to compile, because it was part of a cached program, is deferred
+ * to the link, where it is skipped if the program is loaded. Until then, its compile status is answered as successful,
+ * and its info log as empty.
+ * <p>
+ * Programs are cached in the installation only, next to the properties file.
+ */
+public class ProgramBinaryCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.programBinaryCache();
+
+    // change when the format of the files changes
+    private static final String VERSION = "v1";
+    private static final Optional<Path> DIRECTORY =
+            Properties.installationDirectory().map(directory -> directory.resolve("program-binaries").resolve(VERSION));
+    private static final String SOURCES_FILE_NAME = "sources";
+
+    private static final class Shader {
+        private final String source;
+        private boolean pending = false;
+
+        Shader(String source) {
+            this.source = source;
+        }
+    }
+
+    // the hashes of the sources of a linked program, in the order of attachment, and its key in the cache
+    private record Link(List<String> sources, String key) {
+    }
+
+    // FIELD GROUP: objects of the context
+    private static boolean supported = false;
+    private static String driver = "";
+    private static final Map<Integer, Shader> shaders = new HashMap<>();
+    private static final Map<Integer, List<Integer>> attachments = new HashMap<>();
+    // programs linked, but not stored yet, as their link may still be running on threads of the driver
+    private static final Map<Integer, Link> links = new HashMap<>();
+
+    // FIELD GROUP: the cache on disk
+    // hashes of the sources that compiled, on this driver, loaded with the first compile
+    private static Set<String> compiledSources = null;
+
+    // FIELD GROUP: statistics
+    private static int loaded = 0;
+    private static int stored = 0;
+    private static int rejected = 0;
+    private static int deferredCompiles = 0;
+
+    private ProgramBinaryCache() {
+        // static api
+    }
+
+    public static void contextCreated() {
+        supported = false;
+        shaders.clear();
+        attachments.clear();
+        links.clear();
+        if (!ENABLED || DIRECTORY.isEmpty()) {
+            return;
+        }
+        GLCapabilities capabilities = GL.getCapabilities();
+        supported = (capabilities.OpenGL41 || capabilities.GL_ARB_get_program_binary)
+                && GL11C.glGetInteger(GL_NUM_PROGRAM_BINARY_FORMATS) > 0;
+        if (!supported) {
+            LOG.info("The driver cannot save programs: programs will be linked as usual");
+            return;
+        }
+        driver = GL11C.glGetString(GL_RENDERER) + "\n" + GL11C.glGetString(GL_VERSION);
+        compiledSources = null;
+    }
+
+    // SHADERS
+
+    /**
+     * After setting the source of a shader, in the arguments of {@code nglShaderSourceARB}
+     */
+    public static void shaderSource(int shader, int count, long strings, long lengths) {
+        if (!supported) {
+            return;
+        }
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < count; ++i) {
+            long string = memGetAddress(strings + (long) i * POINTER_SIZE);
+            int length = lengths == NULL ? -1 : memGetInt(lengths + (long) i * Integer.BYTES);
+            source.append(length < 0 ? memUTF8(string) : memUTF8(string, length));
+        }
+        // the deferred compilation was of the previous source
+        compilePending(shader);
+        shaders.put(shader, new Shader(source.toString()));
+    }
+
+    /**
+     * @return whether the shader must be compiled now, rather than when its program is linked
+     */
+    public static boolean compileShader(int shader) {
+        if (!supported) {
+            return true;
+        }
+        Shader compiled = shaders.get(shader);
+        if (compiled == null || !compiledSources().contains(hash(compiled.source))) {
+            return true;
+        }
+        compiled.pending = true;
+        ++deferredCompiles;
+        return false;
+    }
+
+    /**
+     * @return whether a query of the parameters of an object is answered here, rather than passed to the driver
+     */
+    public static boolean answersParameter(int object, int pname) {
+        if (!pending(object)) {
+            return false;
+        }
+        return pname == GL_OBJECT_COMPILE_STATUS_ARB || pname == GL_OBJECT_INFO_LOG_LENGTH_ARB;
+    }
+
+    /**
+     * @param pname a query this {@link #answersParameter answers}
+     */
+    public static int parameter(int pname) {
+        // a deferred shader is known to compile, and a log of its compilation would be empty
+        return pname == GL_OBJECT_COMPILE_STATUS_ARB ? GL_TRUE : 0;
+    }
+
+    /**
+     * @return whether the info log of an object is empty for sure, rather than passed to the driver
+     */
+    public static boolean answersInfoLog(int object) {
+        return pending(object);
+    }
+
+    private static boolean pending(int object) {
+        Shader shader = supported ? shaders.get(object) : null;
+        return shader != null && shader.pending;
+    }
+
+    // PROGRAMS
+
+    public static void attached(int program, int shader) {
+        if (supported) {
+            attachments.computeIfAbsent(program, ignored -> new ArrayList<>()).add(shader);
+        }
+    }
+
+    public static void detached(int program, int shader) {
+        List<Integer> attached = supported ? attachments.get(program) : null;
+        if (attached != null) {
+            attached.remove((Integer) shader);
+        }
+    }
+
+    public static void objectDeleted(int object) {
+        if (!supported) {
+            return;
+        }
+        attachments.remove(object);
+        links.remove(object);
+        Shader shader = shaders.get(object);
+        if (shader == null) {
+            return;
+        }
+        // a deleted shader lives on in the programs it is attached to, and may still be linked
+        compilePending(object);
+        if (attachments.values().stream().noneMatch(attached -> attached.contains(object))) {
+            shaders.remove(object);
+        }
+    }
+
+    /**
+     * Load a program from the cache, instead of linking it
+     *
+     * @return whether the program was loaded, and must not be linked
+     */
+    public static boolean loadProgram(int program) {
+        if (!supported) {
+            return false;
+        }
+        Optional<Link> link = link(program);
+        if (link.isPresent()) {
+            Path file = DIRECTORY.orElseThrow().resolve(link.get().key());
+            if (Files.isRegularFile(file) && load(program, file)) {
+                ++loaded;
+                return true;
+            }
+        }
+        attachments.getOrDefault(program, List.of()).forEach(ProgramBinaryCache::compilePending);
+        GL41C.glProgramParameteri(program, GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL_TRUE);
+        return false;
+    }
+
+    private static boolean load(int program, Path file) {
+        ByteBuffer binary = null;
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(file))) {
+            int format = input.readInt();
+            byte[] bytes = input.readAllBytes();
+            binary = memAlloc(bytes.length);
+            binary.put(bytes).flip();
+            GL41C.glProgramBinary(program, format, binary);
+        } catch (IOException e) {
+            LOG.warn("Failed to read cached program {}", file, e);
+            return false;
+        } finally {
+            if (binary != null) {
+                memFree(binary);
+            }
+        }
+        if (GL20C.glGetProgrami(program, GL_LINK_STATUS) == GL_TRUE) {
+            return true;
+        }
+        ++rejected;
+        LOG.info("The driver rejected cached program {}: linking instead", file.getFileName());
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Failed to delete rejected program {}", file, e);
+        }
+        return false;
+    }
+
+    /**
+     * After linking a program that was not loaded: remember its sources, as attached now, to store it once the link is
+     * complete
+     */
+    public static void linked(int program) {
+        if (!supported) {
+            return;
+        }
+        link(program).ifPresentOrElse(link -> links.put(program, link), () -> links.remove(program));
+    }
+
+    /**
+     * Once the link of a program that was not loaded is complete: store it, if it linked. Querying the link status
+     * any sooner would wait for the link
+     */
+    public static void storeProgram(int program) {
+        Link link = supported ? links.remove(program) : null;
+        if (link == null || GL20C.glGetProgrami(program, GL_LINK_STATUS) != GL_TRUE) {
+            return;
+        }
+        int length = GL20C.glGetProgrami(program, GL_PROGRAM_BINARY_LENGTH);
+        if (length <= 0) {
+            return;
+        }
+        ByteBuffer binary = memAlloc(length);
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer format = stack.mallocInt(1);
+            GL41C.glGetProgramBinary(program, null, format, binary);
+            byte[] bytes = new byte[binary.remaining()];
+            binary.get(bytes);
+            Path directory = DIRECTORY.orElseThrow();
+            Files.createDirectories(directory);
+            write(directory.resolve(link.key()), output -> {
+                output.writeInt(format.get(0));
+                output.write(bytes);
+            });
+            compiledSources().addAll(link.sources());
+            write(directory.resolve(SOURCES_FILE_NAME), output -> {
+                for (String source : compiledSources()) {
+                    output.write((source + "\n").getBytes(StandardCharsets.US_ASCII));
+                }
+            });
+            ++stored;
+        } catch (IOException e) {
+            LOG.warn("Failed to cache program", e);
+        } finally {
+            memFree(binary);
+        }
+    }
+
+    // THE CACHE ON DISK
+
+    private interface Writer {
+        void write(DataOutputStream output) throws IOException;
+    }
+
+    // to a temporary file first, so that no other run reads half a file
+    private static void write(Path file, Writer writer) throws IOException {
+        Path temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temporary);
+             DataOutputStream output = new DataOutputStream(stream)) {
+            writer.write(output);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Set<String> compiledSources() {
+        if (compiledSources != null) {
+            return compiledSources;
+        }
+        compiledSources = new HashSet<>();
+        Path file = DIRECTORY.orElseThrow().resolve(SOURCES_FILE_NAME);
+        if (Files.isRegularFile(file)) {
+            try (InputStream input = Files.newInputStream(file)) {
+                new String(input.readAllBytes(), StandardCharsets.US_ASCII).lines().forEach(compiledSources::add);
+            } catch (IOException e) {
+                LOG.warn("Failed to read compiled sources {}", file, e);
+            }
+        }
+        return compiledSources;
+    }
+
+    /**
+     * The sources of a program, and its key in the cache, if the sources of all its shaders are known
+     */
+    private static Optional<Link> link(int program) {
+        List<Integer> attached = attachments.get(program);
+        if (attached == null || attached.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> sources = new ArrayList<>();
+        StringBuilder key = new StringBuilder();
+        for (int shader : attached) {
+            Shader known = shaders.get(shader);
+            if (known == null) {
+                return Optional.empty();
+            }
+            String source = hash(known.source);
+            sources.add(source);
+            key.append(source).append('\n');
+        }
+        return Optional.of(new Link(sources, hash(key.toString())));
+    }
+
+    private static String hash(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(driver.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform implements sha-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void compilePending(int shader) {
+        Shader compiled = shaders.get(shader);
+        if (compiled != null && compiled.pending) {
+            compiled.pending = false;
+            callV(shader, GL.getCapabilities().glCompileShaderARB);
+        }
+    }
+
+    // STATISTICS
+
+    /**
+     * Log how many programs were loaded from the cache since startup
+     */
+    public static void logStatistics() {
+        if (!supported) {
+            return;
+        }
+        LOG.info(
+                "Program binaries: {} loaded, {} stored, {} rejected; {} compiles deferred",
+                loaded,
+                stored,
+                rejected,
+                deferredCompiles
+        );
+    }
+}
@@ -0,0 +1,653 @@
+package lwjglalti.gl;
+
+import org.lwjgl.opengl.ARBShaderObjects;
+import org.lwjgl.opengl.GL11;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * The calls that {@link RenderThread} queues, replayed from their records: the ordinal of the {@link GlEntryPoint} as a
+ * short, and the arguments as they are written by the adapters, primitives as they are, and buffers and arrays as
+ * their size in bytes, or -1 for null, and their contents. The overloads of an entry point are replayed through the
+ * one that takes a buffer, of bytes where the overloads differ in type.
+ * <p>
+ * The cases are generated with the adapters that queue the calls, like {@link GlEntryPoint}, by
+ * core/generator/GenerateAdapters.java: edit the templates rather than this class.
+ */
+final class QueuedCalls {
+
+    private static final GlEntryPoint[] ENTRY_POINTS = GlEntryPoint.values();
+
+    private QueuedCalls() {
+        // static api
+    }
+
+    /**
+     * The entry point of the call at this position of the chunk
+     */
+    static GlEntryPoint entryPoint(ByteBuffer chunk, int call) {
+        return ENTRY_POINTS[chunk.getShort(call)];
+    }
+
+    /**
+     * Run the call at the position of the chunk, and move past it
+     */
+    static void run(ByteBuffer chunk) {
+        GlEntryPoint entryPoint = ENTRY_POINTS[chunk.getShort()];
+        // the arguments are read in order, before the call
+        switch (entryPoint) {
+            case GL_ENABLE -> GL11.glEnable(chunk.getInt());
+            case GL_DISABLE -> GL11.glDisable(chunk.getInt());
+            case GL_ACCUM -> GL11.glAccum(chunk.getInt(), chunk.getFloat());
+            case GL_ALPHA_FUNC -> GL11.glAlphaFunc(chunk.getInt(), chunk.getFloat());
+            case GL_BEGIN -> GL11.glBegin(chunk.getInt());
+            case GL_BIND_TEXTURE -> GL11.glBindTexture(chunk.getInt(), chunk.getInt());
+            case GL_BITMAP -> GL11.glBitmap(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    bytes(chunk)
+            );
+            case GL_BLEND_FUNC -> GL11.glBlendFunc(chunk.getInt(), chunk.getInt());
+            case GL_CALL_LIST -> GL11.glCallList(chunk.getInt());
+            case GL_CALL_LISTS -> GL11.glCallLists(chunk.getInt(), bytes(chunk));
+            case GL_CLEAR -> GL11.glClear(chunk.getInt());
+            case GL_CLEAR_ACCUM -> GL11.glClearAccum(
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat()
+            );
+            case GL_CLEAR_COLOR -> GL11.glClearColor(
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat()
+            );
+            case GL_CLEAR_DEPTH -> GL11.glClearDepth(chunk.getDouble());
+            case GL_CLEAR_INDEX -> GL11.glClearIndex(chunk.getFloat());
+            case GL_CLEAR_STENCIL -> GL11.glClearStencil(chunk.getInt());
+            case GL_CLIP_PLANE -> GL11.glClipPlane(chunk.getInt(), doubles(chunk));
+            case GL_COLOR3B -> GL11.glColor3b(chunk.get(), chunk.get(), chunk.get());
+            case GL_COLOR3S -> GL11.glColor3s(chunk.getShort(), chunk.getShort(), chunk.getShort());
+            case GL_COLOR3I -> GL11.glColor3i(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_COLOR3F -> GL11.glColor3f(chunk.getFloat(), chunk.getFloat(), chunk.getFloat());
+            case GL_COLOR3D -> GL11.glColor3d(chunk.getDouble(), chunk.getDouble(), chunk.getDouble());
+            case GL_COLOR3UB -> GL11.glColor3ub(chunk.get(), chunk.get(), chunk.get());
+            case GL_COLOR3US -> GL11.glColor3us(chunk.getShort(), chunk.getShort(), chunk.getShort());
+            case GL_COLOR3UI -> GL11.glColor3ui(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_COLOR3BV -> GL11.glColor3bv(bytes(chunk));
+            case GL_COLOR3SV -> GL11.glColor3sv(shorts(chunk));
+            case GL_COLOR3IV -> GL11.glColor3iv(ints(chunk));
+            case GL_COLOR3FV -> GL11.glColor3fv(floats(chunk));
+            case GL_COLOR3DV -> GL11.glColor3dv(doubles(chunk));
+            case GL_COLOR3UBV -> GL11.glColor3ubv(bytes(chunk));
+            case GL_COLOR3USV -> GL11.glColor3usv(shorts(chunk));
+            case GL_COLOR3UIV -> GL11.glColor3uiv(ints(chunk));
+            case GL_COLOR4B -> GL11.glColor4b(chunk.get(), chunk.get(), chunk.get(), chunk.get());
+            case GL_COLOR4S -> GL11.glColor4s(chunk.getShort(), chunk.getShort(), chunk.getShort(), chunk.getShort());
+            case GL_COLOR4I -> GL11.glColor4i(chunk.getInt(), chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_COLOR4F -> GL11.glColor4f(chunk.getFloat(), chunk.getFloat(), chunk.getFloat(), chunk.getFloat());
+            case GL_COLOR4D -> GL11.glColor4d(
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble()
+            );
+            case GL_COLOR4UB -> GL11.glColor4ub(chunk.get(), chunk.get(), chunk.get(), chunk.get());
+            case GL_COLOR4US -> GL11.glColor4us(chunk.getShort(), chunk.getShort(), chunk.getShort(), chunk.getShort());
+            case GL_COLOR4UI -> GL11.glColor4ui(chunk.getInt(), chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_COLOR4BV -> GL11.glColor4bv(bytes(chunk));
+            case GL_COLOR4SV -> GL11.glColor4sv(shorts(chunk));
+            case GL_COLOR4IV -> GL11.glColor4iv(ints(chunk));
+            case GL_COLOR4FV -> GL11.glColor4fv(floats(chunk));
+            case GL_COLOR4DV -> GL11.glColor4dv(doubles(chunk));
+            case GL_COLOR4UBV -> GL11.glColor4ubv(bytes(chunk));
+            case GL_COLOR4USV -> GL11.glColor4usv(shorts(chunk));
+            case GL_COLOR4UIV -> GL11.glColor4uiv(ints(chunk));
+            case GL_COLOR_MASK -> GL11.glColorMask(
+                    chunk.get() != 0,
+                    chunk.get() != 0,
+                    chunk.get() != 0,
+                    chunk.get() != 0
+            );
+            case GL_COLOR_MATERIAL -> GL11.glColorMaterial(chunk.getInt(), chunk.getInt());
+            case GL_COPY_PIXELS -> GL11.glCopyPixels(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt()
+            );
+            case GL_CULL_FACE -> GL11.glCullFace(chunk.getInt());
+            case GL_DELETE_LISTS -> GL11.glDeleteLists(chunk.getInt(), chunk.getInt());
+            case GL_DEPTH_FUNC -> GL11.glDepthFunc(chunk.getInt());
+            case GL_DEPTH_MASK -> GL11.glDepthMask(chunk.get() != 0);
+            case GL_DEPTH_RANGE -> GL11.glDepthRange(chunk.getDouble(), chunk.getDouble());
+            case GL_DISABLE_CLIENT_STATE -> GL11.glDisableClientState(chunk.getInt());
+            case GL_DRAW_BUFFER -> GL11.glDrawBuffer(chunk.getInt());
+            case GL_DRAW_PIXELS -> GL11.glDrawPixels(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    bytes(chunk)
+            );
+            case GL_EDGE_FLAG -> GL11.glEdgeFlag(chunk.get() != 0);
+            case GL_EDGE_FLAGV -> GL11.glEdgeFlagv(bytes(chunk));
+            case GL_ENABLE_CLIENT_STATE -> GL11.glEnableClientState(chunk.getInt());
+            case GL_END -> GL11.glEnd();
+            case GL_EVAL_COORD1F -> GL11.glEvalCoord1f(chunk.getFloat());
+            case GL_EVAL_COORD1FV -> GL11.glEvalCoord1fv(floats(chunk));
+            case GL_EVAL_COORD1D -> GL11.glEvalCoord1d(chunk.getDouble());
+            case GL_EVAL_COORD1DV -> GL11.glEvalCoord1dv(doubles(chunk));
+            case GL_EVAL_COORD2F -> GL11.glEvalCoord2f(chunk.getFloat(), chunk.getFloat());
+            case GL_EVAL_COORD2FV -> GL11.glEvalCoord2fv(floats(chunk));
+            case GL_EVAL_COORD2D -> GL11.glEvalCoord2d(chunk.getDouble(), chunk.getDouble());
+            case GL_EVAL_COORD2DV -> GL11.glEvalCoord2dv(doubles(chunk));
+            case GL_EVAL_MESH1 -> GL11.glEvalMesh1(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_EVAL_MESH2 -> GL11.glEvalMesh2(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt()
+            );
+            case GL_EVAL_POINT1 -> GL11.glEvalPoint1(chunk.getInt());
+            case GL_EVAL_POINT2 -> GL11.glEvalPoint2(chunk.getInt(), chunk.getInt());
+            case GL_FLUSH -> GL11.glFlush();
+            case GL_FOGI -> GL11.glFogi(chunk.getInt(), chunk.getInt());
+            case GL_FOGIV -> GL11.glFogiv(chunk.getInt(), ints(chunk));
+            case GL_FOGF -> GL11.glFogf(chunk.getInt(), chunk.getFloat());
+            case GL_FOGFV -> GL11.glFogfv(chunk.getInt(), floats(chunk));
+            case GL_FRONT_FACE -> GL11.glFrontFace(chunk.getInt());
+            case GL_DELETE_TEXTURES -> GL11.glDeleteTextures(ints(chunk));
+            case GL_HINT -> GL11.glHint(chunk.getInt(), chunk.getInt());
+            case GL_INDEXI -> GL11.glIndexi(chunk.getInt());
+            case GL_INDEXUB -> GL11.glIndexub(chunk.get());
+            case GL_INDEXS -> GL11.glIndexs(chunk.getShort());
+            case GL_INDEXF -> GL11.glIndexf(chunk.getFloat());
+            case GL_INDEXD -> GL11.glIndexd(chunk.getDouble());
+            case GL_INDEXIV -> GL11.glIndexiv(ints(chunk));
+            case GL_INDEXUBV -> GL11.glIndexubv(bytes(chunk));
+            case GL_INDEXSV -> GL11.glIndexsv(shorts(chunk));
+            case GL_INDEXFV -> GL11.glIndexfv(floats(chunk));
+            case GL_INDEXDV -> GL11.glIndexdv(doubles(chunk));
+            case GL_INDEX_MASK -> GL11.glIndexMask(chunk.getInt());
+            case GL_INIT_NAMES -> GL11.glInitNames();
+            case GL_LIGHT_MODELI -> GL11.glLightModeli(chunk.getInt(), chunk.getInt());
+            case GL_LIGHT_MODELF -> GL11.glLightModelf(chunk.getInt(), chunk.getFloat());
+            case GL_LIGHT_MODELIV -> GL11.glLightModeliv(chunk.getInt(), ints(chunk));
+            case GL_LIGHT_MODELFV -> GL11.glLightModelfv(chunk.getInt(), floats(chunk));
+            case GL_LIGHTI -> GL11.glLighti(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_LIGHTF -> GL11.glLightf(chunk.getInt(), chunk.getInt(), chunk.getFloat());
+            case GL_LIGHTIV -> GL11.glLightiv(chunk.getInt(), chunk.getInt(), ints(chunk));
+            case GL_LIGHTFV -> GL11.glLightfv(chunk.getInt(), chunk.getInt(), floats(chunk));
+            case GL_LINE_STIPPLE -> GL11.glLineStipple(chunk.getInt(), chunk.getShort());
+            case GL_LINE_WIDTH -> GL11.glLineWidth(chunk.getFloat());
+            case GL_LIST_BASE -> GL11.glListBase(chunk.getInt());
+            case GL_LOAD_MATRIXF -> GL11.glLoadMatrixf(floats(chunk));
+            case GL_LOAD_MATRIXD -> GL11.glLoadMatrixd(doubles(chunk));
+            case GL_LOAD_IDENTITY -> GL11.glLoadIdentity();
+            case GL_LOAD_NAME -> GL11.glLoadName(chunk.getInt());
+            case GL_LOGIC_OP -> GL11.glLogicOp(chunk.getInt());
+            case GL_MAP1F -> GL11.glMap1f(
+                    chunk.getInt(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    floats(chunk)
+            );
+            case GL_MAP1D -> GL11.glMap1d(
+                    chunk.getInt(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    doubles(chunk)
+            );
+            case GL_MAP2F -> GL11.glMap2f(
+                    chunk.getInt(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    floats(chunk)
+            );
+            case GL_MAP2D -> GL11.glMap2d(
+                    chunk.getInt(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    doubles(chunk)
+            );
+            case GL_MAP_GRID1F -> GL11.glMapGrid1f(chunk.getInt(), chunk.getFloat(), chunk.getFloat());
+            case GL_MAP_GRID1D -> GL11.glMapGrid1d(chunk.getInt(), chunk.getDouble(), chunk.getDouble());
+            case GL_MAP_GRID2F -> GL11.glMapGrid2f(
+                    chunk.getInt(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getInt(),
+                    chunk.getFloat(),
+                    chunk.getFloat()
+            );
+            case GL_MAP_GRID2D -> GL11.glMapGrid2d(
+                    chunk.getInt(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getInt(),
+                    chunk.getDouble(),
+                    chunk.getDouble()
+            );
+            case GL_MATERIALI -> GL11.glMateriali(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_MATERIALF -> GL11.glMaterialf(chunk.getInt(), chunk.getInt(), chunk.getFloat());
+            case GL_MATERIALIV -> GL11.glMaterialiv(chunk.getInt(), chunk.getInt(), ints(chunk));
+            case GL_MATERIALFV -> GL11.glMaterialfv(chunk.getInt(), chunk.getInt(), floats(chunk));
+            case GL_MATRIX_MODE -> GL11.glMatrixMode(chunk.getInt());
+            case GL_MULT_MATRIXF -> GL11.glMultMatrixf(floats(chunk));
+            case GL_MULT_MATRIXD -> GL11.glMultMatrixd(doubles(chunk));
+            case GL_FRUSTUM -> GL11.glFrustum(
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble()
+            );
+            case GL_NEW_LIST -> GL11.glNewList(chunk.getInt(), chunk.getInt());
+            case GL_END_LIST -> GL11.glEndList();
+            case GL_NORMAL3F -> GL11.glNormal3f(chunk.getFloat(), chunk.getFloat(), chunk.getFloat());
+            case GL_NORMAL3B -> GL11.glNormal3b(chunk.get(), chunk.get(), chunk.get());
+            case GL_NORMAL3S -> GL11.glNormal3s(chunk.getShort(), chunk.getShort(), chunk.getShort());
+            case GL_NORMAL3I -> GL11.glNormal3i(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_NORMAL3D -> GL11.glNormal3d(chunk.getDouble(), chunk.getDouble(), chunk.getDouble());
+            case GL_NORMAL3FV -> GL11.glNormal3fv(floats(chunk));
+            case GL_NORMAL3BV -> GL11.glNormal3bv(bytes(chunk));
+            case GL_NORMAL3SV -> GL11.glNormal3sv(shorts(chunk));
+            case GL_NORMAL3IV -> GL11.glNormal3iv(ints(chunk));
+            case GL_NORMAL3DV -> GL11.glNormal3dv(doubles(chunk));
+            case GL_ORTHO -> GL11.glOrtho(
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble()
+            );
+            case GL_PASS_THROUGH -> GL11.glPassThrough(chunk.getFloat());
+            case GL_PIXEL_MAPFV -> GL11.glPixelMapfv(chunk.getInt(), floats(chunk));
+            case GL_PIXEL_MAPUSV -> GL11.glPixelMapusv(chunk.getInt(), shorts(chunk));
+            case GL_PIXEL_MAPUIV -> GL11.glPixelMapuiv(chunk.getInt(), ints(chunk));
+            case GL_PIXEL_STOREI -> GL11.glPixelStorei(chunk.getInt(), chunk.getInt());
+            case GL_PIXEL_STOREF -> GL11.glPixelStoref(chunk.getInt(), chunk.getFloat());
+            case GL_PIXEL_TRANSFERI -> GL11.glPixelTransferi(chunk.getInt(), chunk.getInt());
+            case GL_PIXEL_TRANSFERF -> GL11.glPixelTransferf(chunk.getInt(), chunk.getFloat());
+            case GL_PIXEL_ZOOM -> GL11.glPixelZoom(chunk.getFloat(), chunk.getFloat());
+            case GL_POINT_SIZE -> GL11.glPointSize(chunk.getFloat());
+            case GL_POLYGON_MODE -> GL11.glPolygonMode(chunk.getInt(), chunk.getInt());
+            case GL_POLYGON_OFFSET -> GL11.glPolygonOffset(chunk.getFloat(), chunk.getFloat());
+            case GL_POLYGON_STIPPLE -> GL11.glPolygonStipple(bytes(chunk));
+            case GL_PUSH_ATTRIB -> GL11.glPushAttrib(chunk.getInt());
+            case GL_PUSH_CLIENT_ATTRIB -> GL11.glPushClientAttrib(chunk.getInt());
+            case GL_POP_ATTRIB -> GL11.glPopAttrib();
+            case GL_POP_CLIENT_ATTRIB -> GL11.glPopClientAttrib();
+            case GL_POP_MATRIX -> GL11.glPopMatrix();
+            case GL_POP_NAME -> GL11.glPopName();
+            case GL_PRIORITIZE_TEXTURES -> GL11.glPrioritizeTextures(ints(chunk), floats(chunk));
+            case GL_PUSH_MATRIX -> GL11.glPushMatrix();
+            case GL_PUSH_NAME -> GL11.glPushName(chunk.getInt());
+            case GL_RASTER_POS2I -> GL11.glRasterPos2i(chunk.getInt(), chunk.getInt());
+            case GL_RASTER_POS2S -> GL11.glRasterPos2s(chunk.getShort(), chunk.getShort());
+            case GL_RASTER_POS2F -> GL11.glRasterPos2f(chunk.getFloat(), chunk.getFloat());
+            case GL_RASTER_POS2D -> GL11.glRasterPos2d(chunk.getDouble(), chunk.getDouble());
+            case GL_RASTER_POS2IV -> GL11.glRasterPos2iv(ints(chunk));
+            case GL_RASTER_POS2SV -> GL11.glRasterPos2sv(shorts(chunk));
+            case GL_RASTER_POS2FV -> GL11.glRasterPos2fv(floats(chunk));
+            case GL_RASTER_POS2DV -> GL11.glRasterPos2dv(doubles(chunk));
+            case GL_RASTER_POS3I -> GL11.glRasterPos3i(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_RASTER_POS3S -> GL11.glRasterPos3s(chunk.getShort(), chunk.getShort(), chunk.getShort());
+            case GL_RASTER_POS3F -> GL11.glRasterPos3f(chunk.getFloat(), chunk.getFloat(), chunk.getFloat());
+            case GL_RASTER_POS3D -> GL11.glRasterPos3d(chunk.getDouble(), chunk.getDouble(), chunk.getDouble());
+            case GL_RASTER_POS3IV -> GL11.glRasterPos3iv(ints(chunk));
+            case GL_RASTER_POS3SV -> GL11.glRasterPos3sv(shorts(chunk));
+            case GL_RASTER_POS3FV -> GL11.glRasterPos3fv(floats(chunk));
+            case GL_RASTER_POS3DV -> GL11.glRasterPos3dv(doubles(chunk));
+            case GL_RASTER_POS4I -> GL11.glRasterPos4i(chunk.getInt(), chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_RASTER_POS4S -> GL11.glRasterPos4s(
+                    chunk.getShort(),
+                    chunk.getShort(),
+                    chunk.getShort(),
+                    chunk.getShort()
+            );
+            case GL_RASTER_POS4F -> GL11.glRasterPos4f(
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat()
+            );
+            case GL_RASTER_POS4D -> GL11.glRasterPos4d(
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble()
+            );
+            case GL_RASTER_POS4IV -> GL11.glRasterPos4iv(ints(chunk));
+            case GL_RASTER_POS4SV -> GL11.glRasterPos4sv(shorts(chunk));
+            case GL_RASTER_POS4FV -> GL11.glRasterPos4fv(floats(chunk));
+            case GL_RASTER_POS4DV -> GL11.glRasterPos4dv(doubles(chunk));
+            case GL_READ_BUFFER -> GL11.glReadBuffer(chunk.getInt());
+            case GL_RECTI -> GL11.glRecti(chunk.getInt(), chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_RECTS -> GL11.glRects(chunk.getShort(), chunk.getShort(), chunk.getShort(), chunk.getShort());
+            case GL_RECTF -> GL11.glRectf(chunk.getFloat(), chunk.getFloat(), chunk.getFloat(), chunk.getFloat());
+            case GL_RECTD -> GL11.glRectd(chunk.getDouble(), chunk.getDouble(), chunk.getDouble(), chunk.getDouble());
+            case GL_RECTIV -> GL11.glRectiv(ints(chunk), ints(chunk));
+            case GL_RECTSV -> GL11.glRectsv(shorts(chunk), shorts(chunk));
+            case GL_RECTFV -> GL11.glRectfv(floats(chunk), floats(chunk));
+            case GL_RECTDV -> GL11.glRectdv(doubles(chunk), doubles(chunk));
+            case GL_ROTATEF -> GL11.glRotatef(chunk.getFloat(), chunk.getFloat(), chunk.getFloat(), chunk.getFloat());
+            case GL_ROTATED -> GL11.glRotated(
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble()
+            );
+            case GL_SCALEF -> GL11.glScalef(chunk.getFloat(), chunk.getFloat(), chunk.getFloat());
+            case GL_SCALED -> GL11.glScaled(chunk.getDouble(), chunk.getDouble(), chunk.getDouble());
+            case GL_SCISSOR -> GL11.glScissor(chunk.getInt(), chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_SHADE_MODEL -> GL11.glShadeModel(chunk.getInt());
+            case GL_STENCIL_FUNC -> GL11.glStencilFunc(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_STENCIL_MASK -> GL11.glStencilMask(chunk.getInt());
+            case GL_STENCIL_OP -> GL11.glStencilOp(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_TEX_COORD1F -> GL11.glTexCoord1f(chunk.getFloat());
+            case GL_TEX_COORD1S -> GL11.glTexCoord1s(chunk.getShort());
+            case GL_TEX_COORD1I -> GL11.glTexCoord1i(chunk.getInt());
+            case GL_TEX_COORD1D -> GL11.glTexCoord1d(chunk.getDouble());
+            case GL_TEX_COORD1FV -> GL11.glTexCoord1fv(floats(chunk));
+            case GL_TEX_COORD1SV -> GL11.glTexCoord1sv(shorts(chunk));
+            case GL_TEX_COORD1IV -> GL11.glTexCoord1iv(ints(chunk));
+            case GL_TEX_COORD1DV -> GL11.glTexCoord1dv(doubles(chunk));
+            case GL_TEX_COORD2F -> GL11.glTexCoord2f(chunk.getFloat(), chunk.getFloat());
+            case GL_TEX_COORD2S -> GL11.glTexCoord2s(chunk.getShort(), chunk.getShort());
+            case GL_TEX_COORD2I -> GL11.glTexCoord2i(chunk.getInt(), chunk.getInt());
+            case GL_TEX_COORD2D -> GL11.glTexCoord2d(chunk.getDouble(), chunk.getDouble());
+            case GL_TEX_COORD2FV -> GL11.glTexCoord2fv(floats(chunk));
+            case GL_TEX_COORD2SV -> GL11.glTexCoord2sv(shorts(chunk));
+            case GL_TEX_COORD2IV -> GL11.glTexCoord2iv(ints(chunk));
+            case GL_TEX_COORD2DV -> GL11.glTexCoord2dv(doubles(chunk));
+            case GL_TEX_COORD3F -> GL11.glTexCoord3f(chunk.getFloat(), chunk.getFloat(), chunk.getFloat());
+            case GL_TEX_COORD3S -> GL11.glTexCoord3s(chunk.getShort(), chunk.getShort(), chunk.getShort());
+            case GL_TEX_COORD3I -> GL11.glTexCoord3i(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_TEX_COORD3D -> GL11.glTexCoord3d(chunk.getDouble(), chunk.getDouble(), chunk.getDouble());
+            case GL_TEX_COORD3FV -> GL11.glTexCoord3fv(floats(chunk));
+            case GL_TEX_COORD3SV -> GL11.glTexCoord3sv(shorts(chunk));
+            case GL_TEX_COORD3IV -> GL11.glTexCoord3iv(ints(chunk));
+            case GL_TEX_COORD3DV -> GL11.glTexCoord3dv(doubles(chunk));
+            case GL_TEX_COORD4F -> GL11.glTexCoord4f(
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat()
+            );
+            case GL_TEX_COORD4S -> GL11.glTexCoord4s(
+                    chunk.getShort(),
+                    chunk.getShort(),
+                    chunk.getShort(),
+                    chunk.getShort()
+            );
+            case GL_TEX_COORD4I -> GL11.glTexCoord4i(chunk.getInt(), chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_TEX_COORD4D -> GL11.glTexCoord4d(
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble()
+            );
+            case GL_TEX_COORD4FV -> GL11.glTexCoord4fv(floats(chunk));
+            case GL_TEX_COORD4SV -> GL11.glTexCoord4sv(shorts(chunk));
+            case GL_TEX_COORD4IV -> GL11.glTexCoord4iv(ints(chunk));
+            case GL_TEX_COORD4DV -> GL11.glTexCoord4dv(doubles(chunk));
+            case GL_TEX_ENVI -> GL11.glTexEnvi(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_TEX_ENVIV -> GL11.glTexEnviv(chunk.getInt(), chunk.getInt(), ints(chunk));
+            case GL_TEX_ENVF -> GL11.glTexEnvf(chunk.getInt(), chunk.getInt(), chunk.getFloat());
+            case GL_TEX_ENVFV -> GL11.glTexEnvfv(chunk.getInt(), chunk.getInt(), floats(chunk));
+            case GL_TEX_GENI -> GL11.glTexGeni(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_TEX_GENIV -> GL11.glTexGeniv(chunk.getInt(), chunk.getInt(), ints(chunk));
+            case GL_TEX_GENF -> GL11.glTexGenf(chunk.getInt(), chunk.getInt(), chunk.getFloat());
+            case GL_TEX_GENFV -> GL11.glTexGenfv(chunk.getInt(), chunk.getInt(), floats(chunk));
+            case GL_TEX_GEND -> GL11.glTexGend(chunk.getInt(), chunk.getInt(), chunk.getDouble());
+            case GL_TEX_GENDV -> GL11.glTexGendv(chunk.getInt(), chunk.getInt(), doubles(chunk));
+            case GL_TEX_IMAGE1_D -> GL11.glTexImage1D(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    bytes(chunk)
+            );
+            case GL_TEX_IMAGE2_D -> GL11.glTexImage2D(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    bytes(chunk)
+            );
+            case GL_COPY_TEX_IMAGE1_D -> GL11.glCopyTexImage1D(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt()
+            );
+            case GL_COPY_TEX_IMAGE2_D -> GL11.glCopyTexImage2D(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt()
+            );
+            case GL_COPY_TEX_SUB_IMAGE1_D -> GL11.glCopyTexSubImage1D(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt()
+            );
+            case GL_COPY_TEX_SUB_IMAGE2_D -> GL11.glCopyTexSubImage2D(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt()
+            );
+            case GL_TEX_PARAMETERI -> GL11.glTexParameteri(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_TEX_PARAMETERIV -> GL11.glTexParameteriv(chunk.getInt(), chunk.getInt(), ints(chunk));
+            case GL_TEX_PARAMETERF -> GL11.glTexParameterf(chunk.getInt(), chunk.getInt(), chunk.getFloat());
+            case GL_TEX_PARAMETERFV -> GL11.glTexParameterfv(chunk.getInt(), chunk.getInt(), floats(chunk));
+            case GL_TEX_SUB_IMAGE1_D -> GL11.glTexSubImage1D(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    bytes(chunk)
+            );
+            case GL_TEX_SUB_IMAGE2_D -> GL11.glTexSubImage2D(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    bytes(chunk)
+            );
+            case GL_TRANSLATEF -> GL11.glTranslatef(chunk.getFloat(), chunk.getFloat(), chunk.getFloat());
+            case GL_TRANSLATED -> GL11.glTranslated(chunk.getDouble(), chunk.getDouble(), chunk.getDouble());
+            case GL_VERTEX2F -> GL11.glVertex2f(chunk.getFloat(), chunk.getFloat());
+            case GL_VERTEX2S -> GL11.glVertex2s(chunk.getShort(), chunk.getShort());
+            case GL_VERTEX2I -> GL11.glVertex2i(chunk.getInt(), chunk.getInt());
+            case GL_VERTEX2D -> GL11.glVertex2d(chunk.getDouble(), chunk.getDouble());
+            case GL_VERTEX2FV -> GL11.glVertex2fv(floats(chunk));
+            case GL_VERTEX2SV -> GL11.glVertex2sv(shorts(chunk));
+            case GL_VERTEX2IV -> GL11.glVertex2iv(ints(chunk));
+            case GL_VERTEX2DV -> GL11.glVertex2dv(doubles(chunk));
+            case GL_VERTEX3F -> GL11.glVertex3f(chunk.getFloat(), chunk.getFloat(), chunk.getFloat());
+            case GL_VERTEX3S -> GL11.glVertex3s(chunk.getShort(), chunk.getShort(), chunk.getShort());
+            case GL_VERTEX3I -> GL11.glVertex3i(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_VERTEX3D -> GL11.glVertex3d(chunk.getDouble(), chunk.getDouble(), chunk.getDouble());
+            case GL_VERTEX3FV -> GL11.glVertex3fv(floats(chunk));
+            case GL_VERTEX3SV -> GL11.glVertex3sv(shorts(chunk));
+            case GL_VERTEX3IV -> GL11.glVertex3iv(ints(chunk));
+            case GL_VERTEX3DV -> GL11.glVertex3dv(doubles(chunk));
+            case GL_VERTEX4F -> GL11.glVertex4f(chunk.getFloat(), chunk.getFloat(), chunk.getFloat(), chunk.getFloat());
+            case GL_VERTEX4S -> GL11.glVertex4s(chunk.getShort(), chunk.getShort(), chunk.getShort(), chunk.getShort());
+            case GL_VERTEX4I -> GL11.glVertex4i(chunk.getInt(), chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_VERTEX4D -> GL11.glVertex4d(
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble(),
+                    chunk.getDouble()
+            );
+            case GL_VERTEX4FV -> GL11.glVertex4fv(floats(chunk));
+            case GL_VERTEX4SV -> GL11.glVertex4sv(shorts(chunk));
+            case GL_VERTEX4IV -> GL11.glVertex4iv(ints(chunk));
+            case GL_VERTEX4DV -> GL11.glVertex4dv(doubles(chunk));
+            case GL_VIEWPORT -> GL11.glViewport(chunk.getInt(), chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_TEX_ENV -> GL11.glTexEnv(chunk.getInt(), chunk.getInt(), floats(chunk));
+            case GL_MULT_MATRIX -> GL11.glMultMatrix(floats(chunk));
+            case GL_DELETE_OBJECT_ARB -> ARBShaderObjects.glDeleteObjectARB(chunk.getInt());
+            case GL_DETACH_OBJECT_ARB -> ARBShaderObjects.glDetachObjectARB(chunk.getInt(), chunk.getInt());
+            case GL_SHADER_SOURCE_ARB -> ARBShaderObjects.glShaderSourceARB(chunk.getInt(), bytes(chunk));
+            case GL_COMPILE_SHADER_ARB -> ARBShaderObjects.glCompileShaderARB(chunk.getInt());
+            case GL_ATTACH_OBJECT_ARB -> ARBShaderObjects.glAttachObjectARB(chunk.getInt(), chunk.getInt());
+            case GL_LINK_PROGRAM_ARB -> ARBShaderObjects.glLinkProgramARB(chunk.getInt());
+            case GL_USE_PROGRAM_OBJECT_ARB -> ARBShaderObjects.glUseProgramObjectARB(chunk.getInt());
+            case GL_VALIDATE_PROGRAM_ARB -> ARBShaderObjects.glValidateProgramARB(chunk.getInt());
+            case GL_UNIFORM1F_ARB -> ARBShaderObjects.glUniform1fARB(chunk.getInt(), chunk.getFloat());
+            case GL_UNIFORM2F_ARB -> ARBShaderObjects.glUniform2fARB(
+                    chunk.getInt(),
+                    chunk.getFloat(),
+                    chunk.getFloat()
+            );
+            case GL_UNIFORM3F_ARB -> ARBShaderObjects.glUniform3fARB(
+                    chunk.getInt(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat()
+            );
+            case GL_UNIFORM4F_ARB -> ARBShaderObjects.glUniform4fARB(
+                    chunk.getInt(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat(),
+                    chunk.getFloat()
+            );
+            case GL_UNIFORM1I_ARB -> ARBShaderObjects.glUniform1iARB(chunk.getInt(), chunk.getInt());
+            case GL_UNIFORM2I_ARB -> ARBShaderObjects.glUniform2iARB(chunk.getInt(), chunk.getInt(), chunk.getInt());
+            case GL_UNIFORM3I_ARB -> ARBShaderObjects.glUniform3iARB(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt()
+            );
+            case GL_UNIFORM4I_ARB -> ARBShaderObjects.glUniform4iARB(
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt(),
+                    chunk.getInt()
+            );
+            case GL_UNIFORM1FV_ARB -> ARBShaderObjects.glUniform1fvARB(chunk.getInt(), floats(chunk));
+            case GL_UNIFORM2FV_ARB -> ARBShaderObjects.glUniform2fvARB(chunk.getInt(), floats(chunk));
+            case GL_UNIFORM3FV_ARB -> ARBShaderObjects.glUniform3fvARB(chunk.getInt(), floats(chunk));
+            case GL_UNIFORM4FV_ARB -> ARBShaderObjects.glUniform4fvARB(chunk.getInt(), floats(chunk));
+            case GL_UNIFORM1IV_ARB -> ARBShaderObjects.glUniform1ivARB(chunk.getInt(), ints(chunk));
+            case GL_UNIFORM2IV_ARB -> ARBShaderObjects.glUniform2ivARB(chunk.getInt(), ints(chunk));
+            case GL_UNIFORM3IV_ARB -> ARBShaderObjects.glUniform3ivARB(chunk.getInt(), ints(chunk));
+            case GL_UNIFORM4IV_ARB -> ARBShaderObjects.glUniform4ivARB(chunk.getInt(), ints(chunk));
+            case GL_UNIFORM_MATRIX2FV_ARB -> ARBShaderObjects.glUniformMatrix2fvARB(
+                    chunk.getInt(),
+                    chunk.get() != 0,
+                    floats(chunk)
+            );
+            case GL_UNIFORM_MATRIX3FV_ARB -> ARBShaderObjects.glUniformMatrix3fvARB(
+                    chunk.getInt(),
+                    chunk.get() != 0,
+                    floats(chunk)
+            );
+            case GL_UNIFORM_MATRIX4FV_ARB -> ARBShaderObjects.glUniformMatrix4fvARB(
+                    chunk.getInt(),
+                    chunk.get() != 0,
+                    floats(chunk)
+            );
+            default -> throw new IllegalStateException("Not a queued call: " + entryPoint.function());
+        }
+    }
+
+    /**
+     * A view of the bytes of a buffer argument in the chunk, in native order, valid until the chunk is recycled
+     */
+    private static ByteBuffer bytes(ByteBuffer chunk) {
+        int bytes = chunk.getInt();
+        if (bytes < 0) {
+            return null;
+        }
+        ByteBuffer buffer = chunk.slice(chunk.position(), bytes).order(ByteOrder.nativeOrder());
+        chunk.position(chunk.position() + bytes);
+        return buffer;
+    }
+
+    private static ShortBuffer shorts(ByteBuffer chunk) {
+        ByteBuffer buffer = bytes(chunk);
+        return buffer == null ? null : buffer.asShortBuffer();
+    }
+
+    private static IntBuffer ints(ByteBuffer chunk) {
+        ByteBuffer buffer = bytes(chunk);
+        return buffer == null ? null : buffer.asIntBuffer();
+    }
+
+    private static FloatBuffer floats(ByteBuffer chunk) {
+        ByteBuffer buffer = bytes(chunk);
+        return buffer == null ? null : buffer.asFloatBuffer();
+    }
+
+    private static DoubleBuffer doubles(ByteBuffer chunk) {
+        ByteBuffer buffer = bytes(chunk);
+        return buffer == null ? null : buffer.asDoubleBuffer();
+    }
+}
@@ -0,0 +1,560 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import org.lwjgl.opengl.GL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.lwjgl.glfw.GLFW.glfwMakeContextCurrent;
+import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.system.MemoryUtil.memAddress;
+import static org.lwjgl.system.MemoryUtil.memAddressSafe;
+import static org.lwjgl.system.MemoryUtil.memAlloc;
+import static org.lwjgl.system.MemoryUtil.memCopy;
+import static org.lwjgl.system.MemoryUtil.memDoubleBuffer;
+import static org.lwjgl.system.MemoryUtil.memFloatBuffer;
+import static org.lwjgl.system.MemoryUtil.memFree;
+import static org.lwjgl.system.MemoryUtil.memIntBuffer;
+import static org.lwjgl.system.MemoryUtil.memLengthUTF8;
+import static org.lwjgl.system.MemoryUtil.memShortBuffer;
+import static org.lwjgl.system.MemoryUtil.memUTF8;
+
+/**
+ * Runs GL on a thread of its own, which owns the context, so that the game thread goes on with the next frame while
+ * the driver works through the last one. The calls of Altitude to {@code GL11} and {@code ARBShaderObjects} that
+ * return nothing, and only read their arguments, are written by the adapters into chunks of off-heap memory on the
+ * game thread, as the ordinal of their entry point and their arguments, with the contents of their buffers, and
+ * replayed through the adapters on the render thread by {@link QueuedCalls}, so that the layers of the shim run there
+ * as well. Any other call (queries, calls that write into their buffers, and calls that pass client memory by pointer,
+ * or that the driver reads later, such as the client arrays) is synchronous: the game thread hands the call over as
+ * it is, with the commands before it, and waits for its result.
+ * <p>
+ * The client arrays are not copied when they are set, as the vertices that a draw reads are only known from its range
+ * or its indices: every draw from client memory is synchronous, and waits for the render thread to catch up with the
+ * queue. A frame that draws mostly from client arrays gains little from the render thread, and a frame that draws
+ * from them between every other call may take longer than without it.
+ * <p>
+ * Swapping the buffers is the fence of a frame: it is queued like a call, and the game thread waits only for the swap
+ * of the frame before, so that it runs at most one frame ahead. The state of the shim behind the adapters is only
+ * touched on the render thread, but the window, and its events, stay on the main thread, as GLFW requires: the few
+ * window queries that GL needs go back to the main thread through {@link #onMainThread(Runnable)}, which the main
+ * thread serves while it waits.
+ * <p>
+ * If the render thread fails, the error is thrown at the game thread by the call that waits for it next, and by every
+ * call after that: the calls queued since are lost.
+ */
+public class RenderThread {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.renderThread();
+
+    private static final int CHUNK_BYTES = 256 << 10;
+    // a frame of altitude is some hundreds of kilobytes of calls: enough to queue about two frames before waiting
+    private static final int CHUNKS = 16;
+
+    // FIELD GROUP: shared between the threads
+    // chunks of encoded calls, and tasks, in order
+    private static final BlockingQueue<Object> commands = new LinkedBlockingQueue<>();
+    private static final BlockingQueue<ByteBuffer> freeChunks = new ArrayBlockingQueue<>(CHUNKS);
+    private static final Queue<Runnable> mainThreadTasks = new ConcurrentLinkedQueue<>();
+    // notified whenever the render thread makes progress that the main thread may wait for
+    private static final Object progress = new Object();
+    private static volatile Thread thread = null;
+    // the error that stopped the render thread, thrown at the game thread from then on
+    private static volatile Throwable failure = null;
+
+    // FIELD GROUP: the game thread
+    // the chunk that calls are queued into, queued itself once full
+    private static ByteBuffer chunk = null;
+    private static FutureTask<?> previousFrame = null;
+
+    // FIELD GROUP: the render thread
+    private static boolean stopping = false;
+
+    private RenderThread() {
+        // static api
+    }
+
+    /**
+     * Start the render thread, which will own the context: call before the context is made current, and make it
+     * current through {@link #run(Runnable)}
+     */
+    public static void start() {
+        if (!ENABLED || thread != null) {
+            return;
+        }
+        if (freeChunks.isEmpty()) {
+            for (int i = 0; i < CHUNKS; ++i) {
+                freeChunks.add(memAlloc(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN));
+            }
+        }
+        stopping = false;
+        failure = null;
+        Thread thread = new Thread(RenderThread::loop, "lwjgl-altitude render");
+        thread.setDaemon(true);
+        RenderThread.thread = thread;
+        thread.start();
+        LOG.info("GL calls run on a render thread");
+    }
+
+    /**
+     * Run the queued commands, and stop the render thread, which releases the context: call before the window is
+     * destroyed
+     */
+    public static void stop() {
+        Thread thread = RenderThread.thread;
+        if (thread == null) {
+            return;
+        }
+        if (failure == null) {
+            run(() -> {
+                GL.setCapabilities(null);
+                glfwMakeContextCurrent(NULL);
+                stopping = true;
+            });
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        RenderThread.thread = null;
+        previousFrame = null;
+        // the calls queued after a failure
+        discard();
+        if (chunk != null) {
+            recycle(chunk);
+            chunk = null;
+        }
+    }
+
+    /**
+     * Whether GL must be handed to the render thread from the calling thread
+     */
+    public static boolean offRenderThread() {
+        Thread thread = RenderThread.thread;
+        return thread != null && Thread.currentThread() != thread;
+    }
+
+    /**
+     * Queue an asynchronous call of an adapter method that returns nothing, and only reads its arguments: call off the
+     * render thread, and put the arguments into the chunk returned, as {@link QueuedCalls} reads them
+     *
+     * @param argumentBytes the bytes of the arguments, as counted by {@link #bytes} for buffers
+     * @return the chunk, positioned after the entry point, with room for the arguments
+     */
+    public static ByteBuffer queue(GlEntryPoint entryPoint, int argumentBytes) {
+        int bytes = Short.BYTES + argumentBytes;
+        if (chunk == null || chunk.remaining() < bytes) {
+            if (failure != null) {
+                throw rethrown(failure);
+            }
+            flush();
+            if (bytes <= CHUNK_BYTES) {
+                // waits for the render thread to run a chunk, if it is this far behind
+                awaitServing(() -> !freeChunks.isEmpty());
+                chunk = freeChunks.poll();
+            } else {
+                // a chunk of its own, for a call too large for the others
+                chunk = memAlloc(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+        return chunk.putShort((short) entryPoint.ordinal());
+    }
+
+    private static void flush() {
+        if (chunk != null && chunk.position() > 0) {
+            commands.add(chunk.flip());
+            chunk = null;
+        }
+    }
+
+    // QUEUED ARGUMENTS
+
+    public static int bytes(ByteBuffer buffer) {
+        return Integer.BYTES + (buffer == null ? 0 : buffer.remaining());
+    }
+
+    public static int bytes(ShortBuffer buffer) {
+        return Integer.BYTES + (buffer == null ? 0 : buffer.remaining() * Short.BYTES);
+    }
+
+    public static int bytes(IntBuffer buffer) {
+        return Integer.BYTES + (buffer == null ? 0 : buffer.remaining() * Integer.BYTES);
+    }
+
+    public static int bytes(FloatBuffer buffer) {
+        return Integer.BYTES + (buffer == null ? 0 : buffer.remaining() * Float.BYTES);
+    }
+
+    public static int bytes(DoubleBuffer buffer) {
+        return Integer.BYTES + (buffer == null ? 0 : buffer.remaining() * Double.BYTES);
+    }
+
+    public static int bytes(short[] array) {
+        return Integer.BYTES + (array == null ? 0 : array.length * Short.BYTES);
+    }
+
+    public static int bytes(int[] array) {
+        return Integer.BYTES + (array == null ? 0 : array.length * Integer.BYTES);
+    }
+
+    public static int bytes(float[] array) {
+        return Integer.BYTES + (array == null ? 0 : array.length * Float.BYTES);
+    }
+
+    public static int bytes(double[] array) {
+        return Integer.BYTES + (array == null ? 0 : array.length * Double.BYTES);
+    }
+
+    /**
+     * The bytes of a string, as UTF-8, without a terminator
+     */
+    public static int bytes(CharSequence string) {
+        return Integer.BYTES + (string == null ? 0 : memLengthUTF8(string, false));
+    }
+
+    /**
+     * The bytes of strings, as the UTF-8 of their concatenation
+     */
+    public static int bytes(CharSequence[] strings) {
+        int bytes = Integer.BYTES;
+        for (CharSequence string : strings) {
+            bytes += memLengthUTF8(string, false);
+        }
+        return bytes;
+    }
+
+    public static void put(ByteBuffer command, ByteBuffer buffer) {
+        put(command, memAddressSafe(buffer), buffer == null ? -1 : buffer.remaining());
+    }
+
+    public static void put(ByteBuffer command, ShortBuffer buffer) {
+        put(command, memAddressSafe(buffer), buffer == null ? -1 : buffer.remaining() * Short.BYTES);
+    }
+
+    public static void put(ByteBuffer command, IntBuffer buffer) {
+        put(command, memAddressSafe(buffer), buffer == null ? -1 : buffer.remaining() * Integer.BYTES);
+    }
+
+    public static void put(ByteBuffer command, FloatBuffer buffer) {
+        put(command, memAddressSafe(buffer), buffer == null ? -1 : buffer.remaining() * Float.BYTES);
+    }
+
+    public static void put(ByteBuffer command, DoubleBuffer buffer) {
+        put(command, memAddressSafe(buffer), buffer == null ? -1 : buffer.remaining() * Double.BYTES);
+    }
+
+    private static void put(ByteBuffer command, long address, int bytes) {
+        command.putInt(bytes);
+        if (bytes > 0) {
+            memCopy(address, memAddress(command), bytes);
+            command.position(command.position() + bytes);
+        }
+    }
+
+    public static void put(ByteBuffer command, short[] array) {
+        if (array == null) {
+            command.putInt(-1);
+            return;
+        }
+        command.putInt(array.length * Short.BYTES);
+        memShortBuffer(memAddress(command), array.length).put(array);
+        command.position(command.position() + array.length * Short.BYTES);
+    }
+
+    public static void put(ByteBuffer command, int[] array) {
+        if (array == null) {
+            command.putInt(-1);
+            return;
+        }
+        command.putInt(array.length * Integer.BYTES);
+        memIntBuffer(memAddress(command), array.length).put(array);
+        command.position(command.position() + array.length * Integer.BYTES);
+    }
+
+    public static void put(ByteBuffer command, float[] array) {
+        if (array == null) {
+            command.putInt(-1);
+            return;
+        }
+        command.putInt(array.length * Float.BYTES);
+        memFloatBuffer(memAddress(command), array.length).put(array);
+        command.position(command.position() + array.length * Float.BYTES);
+    }
+
+    public static void put(ByteBuffer command, double[] array) {
+        if (array == null) {
+            command.putInt(-1);
+            return;
+        }
+        command.putInt(array.length * Double.BYTES);
+        memDoubleBuffer(memAddress(command), array.length).put(array);
+        command.position(command.position() + array.length * Double.BYTES);
+    }
+
+    public static void put(ByteBuffer command, CharSequence string) {
+        if (string == null) {
+            command.putInt(-1);
+            return;
+        }
+        command.putInt(memLengthUTF8(string, false));
+        command.position(command.position() + memUTF8(string, false, command, command.position()));
+    }
+
+    public static void put(ByteBuffer command, CharSequence[] strings) {
+        command.putInt(bytes(strings) - Integer.BYTES);
+        for (CharSequence string : strings) {
+            command.position(command.position() + memUTF8(string, false, command, command.position()));
+        }
+    }
+
+    // SYNCHRONOUS CALLS
+
+    /**
+     * Run on the render thread, after the queued commands, and wait for it
+     */
+    public static void run(Runnable runnable) {
+        get(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Get on the render thread, after the queued commands, and wait for it
+     */
+    public static <T> T get(Supplier<T> supplier) {
+        if (!offRenderThread()) {
+            return supplier.get();
+        }
+        flush();
+        FutureTask<T> task = new Task<>(supplier::get);
+        commands.add(task);
+        awaitServing(task::isDone);
+        return await(task);
+    }
+
+    /**
+     * Run on the main thread, which owns the window, and wait for it: from the render thread, the main thread runs it
+     * while it waits for the render thread
+     */
+    public static void onMainThread(Runnable runnable) {
+        if (!onRenderThread()) {
+            runnable.run();
+            return;
+        }
+        FutureTask<?> task = new FutureTask<>(runnable, null);
+        mainThreadTasks.add(task);
+        progressed();
+        await(task);
+    }
+
+    private static boolean onRenderThread() {
+        Thread thread = RenderThread.thread;
+        return thread != null && Thread.currentThread() == thread;
+    }
+
+    /**
+     * Queue the end of a frame, which finishes the frame and swaps the buffers on the render thread, and wait for the
+     * end of the frame before: call from {@code Display.swapBuffers}
+     */
+    public static void frame(Runnable finishFrame) {
+        if (!offRenderThread()) {
+            finishFrame.run();
+            return;
+        }
+        flush();
+        FutureTask<?> frame = new Task<>(() -> {
+            finishFrame.run();
+            return null;
+        });
+        commands.add(frame);
+        if (previousFrame != null) {
+            awaitServing(previousFrame::isDone);
+            await(previousFrame);
+        }
+        previousFrame = frame;
+    }
+
+    /**
+     * Wait on the main thread for the render thread, running the tasks of the render thread for the main thread
+     * meanwhile, since the render thread may be waiting for those in turn
+     */
+    private static void awaitServing(BooleanSupplier condition) {
+        boolean interrupted = false;
+        while (true) {
+            Runnable task = mainThreadTasks.poll();
+            if (task != null) {
+                task.run();
+                continue;
+            }
+            synchronized (progress) {
+                if (condition.getAsBoolean()) {
+                    break;
+                }
+                if (failure != null) {
+                    throw rethrown(failure);
+                }
+                if (mainThreadTasks.isEmpty()) {
+                    try {
+                        progress.wait();
+                    } catch (InterruptedException e) {
+                        // the render thread cannot be abandoned mid-call: wait regardless
+                        interrupted = true;
+                    }
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void progressed() {
+        synchronized (progress) {
+            progress.notifyAll();
+        }
+    }
+
+    private static <T> T await(FutureTask<T> task) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    // the render thread cannot be abandoned mid-call: wait regardless
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            throw rethrown(e.getCause());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static RuntimeException rethrown(Throwable throwable) {
+        if (throwable instanceof RuntimeException exception) {
+            return exception;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(throwable);
+    }
+
+    // RENDER THREAD
+
+    private static void loop() {
+        try {
+            while (!stopping) {
+                Object command = take();
+                if (command instanceof ByteBuffer chunk) {
+                    replay(chunk);
+                } else {
+                    ((FutureTask<?>) command).run();
+                }
+            }
+        } catch (Throwable e) {
+            LOG.error("The render thread failed: GL calls fail from now on", e);
+            fail(e);
+        }
+    }
+
+    /**
+     * Fail the tasks that wait for the render thread, and wake the game thread to throw the error
+     */
+    private static void fail(Throwable e) {
+        failure = e;
+        discard();
+        progressed();
+    }
+
+    private static void discard() {
+        Object command;
+        while ((command = commands.poll()) != null) {
+            if (command instanceof ByteBuffer chunk) {
+                recycle(chunk);
+            } else {
+                ((Task<?>) command).fail(failure);
+            }
+        }
+    }
+
+    private static Object take() {
+        try {
+            return commands.take();
+        } catch (InterruptedException e) {
+            // nothing interrupts the render thread, which exits through its queue
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void replay(ByteBuffer chunk) {
+        try {
+            while (chunk.hasRemaining()) {
+                int call = chunk.position();
+                try {
+                    QueuedCalls.run(chunk);
+                } catch (RuntimeException e) {
+                    // nobody waits for the call, to throw at
+                    LOG.error("Queued call {} failed", QueuedCalls.entryPoint(chunk, call).function(), e);
+                }
+            }
+        } finally {
+            recycle(chunk);
+        }
+    }
+
+    /**
+     * A task for the render thread, which notifies the main thread once done
+     */
+    private static final class Task<T> extends FutureTask<T> {
+
+        Task(Callable<T> callable) {
+            super(callable);
+        }
+
+        void fail(Throwable e) {
+            setException(e);
+        }
+
+        @Override
+        protected void done() {
+            progressed();
+        }
+    }
+
+    private static void recycle(ByteBuffer chunk) {
+        if (chunk.capacity() == CHUNK_BYTES) {
+            freeChunks.add(chunk.clear());
+            progressed();
+        } else {
+            // a chunk of its own, for a call too large for the others
+            memFree(chunk);
+        }
+    }
+}
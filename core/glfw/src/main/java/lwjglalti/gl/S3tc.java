@@ -0,0 +1,285 @@
+package lwjglalti.gl;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encoder and decoder of S3TC, the block compression of every desktop driver: BC1 (DXT1), of 8 bytes per block of 4
+ * by 4 texels, for opaque images, and BC3 (DXT5), of 16 bytes per block, for images with alpha. Images are a byte per
+ * component, RGBA or BGRA, tightly packed, of a width and height divisible by 4; decoded images are RGBA.
+ * <p>
+ * The colors of a block are fit to its principal axis, through the texels farthest apart along it, which is fast
+ * rather than the closest fit. Thread safe: blocks are read and written at absolute positions.
+ */
+final class S3tc {
+
+    static final int BC1_BLOCK_BYTES = 8;
+    static final int BC3_BLOCK_BYTES = 16;
+
+    // iterations to find the principal axis of the colors of a block: it converges within a few
+    private static final int POWER_ITERATIONS = 4;
+
+    private S3tc() {
+        // static api
+    }
+
+    static int blockBytes(boolean alpha) {
+        return alpha ? BC3_BLOCK_BYTES : BC1_BLOCK_BYTES;
+    }
+
+    static int encodedBytes(int width, int height, boolean alpha) {
+        return (width / 4) * (height / 4) * blockBytes(alpha);
+    }
+
+    /**
+     * @return whether every texel is fully opaque, so that the image needs no alpha
+     */
+    static boolean opaque(ByteBuffer pixels, int width, int height) {
+        int bytes = width * height * 4;
+        for (int i = 3; i < bytes; i += 4) {
+            if (pixels.get(i) != (byte) 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encode the rows of blocks from the first to the last, exclusive, of an image into its blocks
+     */
+    static void encode(ByteBuffer pixels, int width, boolean bgra, boolean alpha, ByteBuffer blocks, int firstBlockRow, int lastBlockRow) {
+        int blocksPerRow = width / 4;
+        int blockBytes = blockBytes(alpha);
+        // the texels of a block, as rgba, by texel
+        int[] texels = new int[16 * 4];
+        for (int blockRow = firstBlockRow; blockRow < lastBlockRow; ++blockRow) {
+            for (int blockColumn = 0; blockColumn < blocksPerRow; ++blockColumn) {
+                for (int i = 0; i < 16; ++i) {
+                    int pixel = ((blockRow * 4 + i / 4) * width + blockColumn * 4 + i % 4) * 4;
+                    texels[i * 4] = pixels.get(pixel + (bgra ? 2 : 0)) & 0xFF;
+                    texels[i * 4 + 1] = pixels.get(pixel + 1) & 0xFF;
+                    texels[i * 4 + 2] = pixels.get(pixel + (bgra ? 0 : 2)) & 0xFF;
+                    texels[i * 4 + 3] = pixels.get(pixel + 3) & 0xFF;
+                }
+                int block = (blockRow * blocksPerRow + blockColumn) * blockBytes;
+                if (alpha) {
+                    encodeAlpha(texels, blocks, block);
+                    block += 8;
+                }
+                encodeColors(texels, blocks, block);
+            }
+        }
+    }
+
+    private static void encodeColors(int[] texels, ByteBuffer blocks, int block) {
+        float meanR = 0;
+        float meanG = 0;
+        float meanB = 0;
+        for (int i = 0; i < 16; ++i) {
+            meanR += texels[i * 4];
+            meanG += texels[i * 4 + 1];
+            meanB += texels[i * 4 + 2];
+        }
+        meanR /= 16;
+        meanG /= 16;
+        meanB /= 16;
+        // the covariance of the colors
+        float rr = 0;
+        float rg = 0;
+        float rb = 0;
+        float gg = 0;
+        float gb = 0;
+        float bb = 0;
+        for (int i = 0; i < 16; ++i) {
+            float r = texels[i * 4] - meanR;
+            float g = texels[i * 4 + 1] - meanG;
+            float b = texels[i * 4 + 2] - meanB;
+            rr += r * r;
+            rg += r * g;
+            rb += r * b;
+            gg += g * g;
+            gb += g * b;
+            bb += b * b;
+        }
+        float axisR = 1;
+        float axisG = 1;
+        float axisB = 1;
+        for (int iteration = 0; iteration < POWER_ITERATIONS; ++iteration) {
+            float r = rr * axisR + rg * axisG + rb * axisB;
+            float g = rg * axisR + gg * axisG + gb * axisB;
+            float b = rb * axisR + gb * axisG + bb * axisB;
+            float length = Math.max(Math.abs(r), Math.max(Math.abs(g), Math.abs(b)));
+            if (length == 0) {
+                // all texels alike: any axis will do
+                break;
+            }
+            axisR = r / length;
+            axisG = g / length;
+            axisB = b / length;
+        }
+        int min = 0;
+        int max = 0;
+        float minProjection = Float.MAX_VALUE;
+        float maxProjection = -Float.MAX_VALUE;
+        for (int i = 0; i < 16; ++i) {
+            float projection = texels[i * 4] * axisR + texels[i * 4 + 1] * axisG + texels[i * 4 + 2] * axisB;
+            if (projection < minProjection) {
+                minProjection = projection;
+                min = i;
+            }
+            if (projection > maxProjection) {
+                maxProjection = projection;
+                max = i;
+            }
+        }
+        int color0 = to565(texels[max * 4], texels[max * 4 + 1], texels[max * 4 + 2]);
+        int color1 = to565(texels[min * 4], texels[min * 4 + 1], texels[min * 4 + 2]);
+        if (color0 < color1) {
+            int swap = color0;
+            color0 = color1;
+            color1 = swap;
+        }
+        int indices = 0;
+        if (color0 != color1) {
+            // the four colors of the palette, in order of the index, as rgb
+            int[] palette = new int[4 * 3];
+            palette(color0, color1, true, palette);
+            for (int i = 0; i < 16; ++i) {
+                int closest = 0;
+                int closestDistance = Integer.MAX_VALUE;
+                for (int entry = 0; entry < 4; ++entry) {
+                    int r = texels[i * 4] - palette[entry * 3];
+                    int g = texels[i * 4 + 1] - palette[entry * 3 + 1];
+                    int b = texels[i * 4 + 2] - palette[entry * 3 + 2];
+                    int distance = r * r + g * g + b * b;
+                    if (distance < closestDistance) {
+                        closestDistance = distance;
+                        closest = entry;
+                    }
+                }
+                indices |= closest << (i * 2);
+            }
+        }
+        // with equal colors, every index picks the first, in either mode
+        blocks.put(block, (byte) color0);
+        blocks.put(block + 1, (byte) (color0 >>> 8));
+        blocks.put(block + 2, (byte) color1);
+        blocks.put(block + 3, (byte) (color1 >>> 8));
+        for (int i = 0; i < 4; ++i) {
+            blocks.put(block + 4 + i, (byte) (indices >>> (i * 8)));
+        }
+    }
+
+    private static void encodeAlpha(int[] texels, ByteBuffer blocks, int block) {
+        int alpha0 = 0;
+        int alpha1 = 255;
+        for (int i = 0; i < 16; ++i) {
+            alpha0 = Math.max(alpha0, texels[i * 4 + 3]);
+            alpha1 = Math.min(alpha1, texels[i * 4 + 3]);
+        }
+        long indices = 0;
+        if (alpha0 != alpha1) {
+            int[] palette = new int[8];
+            alphaPalette(alpha0, alpha1, palette);
+            for (int i = 0; i < 16; ++i) {
+                int closest = 0;
+                for (int entry = 1; entry < 8; ++entry) {
+                    if (Math.abs(texels[i * 4 + 3] - palette[entry]) < Math.abs(texels[i * 4 + 3] - palette[closest])) {
+                        closest = entry;
+                    }
+                }
+                indices |= (long) closest << (i * 3);
+            }
+        }
+        blocks.put(block, (byte) alpha0);
+        blocks.put(block + 1, (byte) alpha1);
+        for (int i = 0; i < 6; ++i) {
+            blocks.put(block + 2 + i, (byte) (indices >>> (i * 8)));
+        }
+    }
+
+    /**
+     * Decode the blocks of an image into its pixels, as RGBA
+     */
+    static void decode(ByteBuffer blocks, int width, int height, boolean alpha, ByteBuffer pixels) {
+        int blocksPerRow = width / 4;
+        int blockBytes = blockBytes(alpha);
+        int[] palette = new int[4 * 3];
+        int[] alphaPalette = new int[8];
+        for (int blockRow = 0; blockRow < height / 4; ++blockRow) {
+            for (int blockColumn = 0; blockColumn < blocksPerRow; ++blockColumn) {
+                int block = (blockRow * blocksPerRow + blockColumn) * blockBytes;
+                long alphaIndices = 0;
+                if (alpha) {
+                    alphaPalette(blocks.get(block) & 0xFF, blocks.get(block + 1) & 0xFF, alphaPalette);
+                    for (int i = 0; i < 6; ++i) {
+                        alphaIndices |= (long) (blocks.get(block + 2 + i) & 0xFF) << (i * 8);
+                    }
+                    block += 8;
+                }
+                int color0 = (blocks.get(block) & 0xFF) | (blocks.get(block + 1) & 0xFF) << 8;
+                int color1 = (blocks.get(block + 2) & 0xFF) | (blocks.get(block + 3) & 0xFF) << 8;
+                // bc3 always has four colors, bc1 only when the first is greater
+                boolean fourColors = alpha || color0 > color1;
+                palette(color0, color1, fourColors, palette);
+                int indices = 0;
+                for (int i = 0; i < 4; ++i) {
+                    indices |= (blocks.get(block + 4 + i) & 0xFF) << (i * 8);
+                }
+                for (int i = 0; i < 16; ++i) {
+                    int entry = (indices >>> (i * 2)) & 3;
+                    int pixel = ((blockRow * 4 + i / 4) * width + blockColumn * 4 + i % 4) * 4;
+                    pixels.put(pixel, (byte) palette[entry * 3]);
+                    pixels.put(pixel + 1, (byte) palette[entry * 3 + 1]);
+                    pixels.put(pixel + 2, (byte) palette[entry * 3 + 2]);
+                    int texelAlpha = alpha
+                            ? alphaPalette[(int) (alphaIndices >>> (i * 3)) & 7]
+                            : !fourColors && entry == 3 ? 0 : 255;
+                    pixels.put(pixel + 3, (byte) texelAlpha);
+                }
+            }
+        }
+    }
+
+    private static int to565(int r, int g, int b) {
+        return (r * 31 + 127) / 255 << 11 | (g * 63 + 127) / 255 << 5 | (b * 31 + 127) / 255;
+    }
+
+    private static void palette(int color0, int color1, boolean fourColors, int[] palette) {
+        for (int entry = 0; entry < 2; ++entry) {
+            int color = entry == 0 ? color0 : color1;
+            int r = color >>> 11;
+            int g = (color >>> 5) & 0x3F;
+            int b = color & 0x1F;
+            palette[entry * 3] = r << 3 | r >>> 2;
+            palette[entry * 3 + 1] = g << 2 | g >>> 4;
+            palette[entry * 3 + 2] = b << 3 | b >>> 2;
+        }
+        for (int component = 0; component < 3; ++component) {
+            int first = palette[component];
+            int second = palette[3 + component];
+            if (fourColors) {
+                palette[6 + component] = (2 * first + second) / 3;
+                palette[9 + component] = (first + 2 * second) / 3;
+            } else {
+                palette[6 + component] = (first + second) / 2;
+                palette[9 + component] = 0;
+            }
+        }
+    }
+
+    private static void alphaPalette(int alpha0, int alpha1, int[] palette) {
+        palette[0] = alpha0;
+        palette[1] = alpha1;
+        if (alpha0 > alpha1) {
+            for (int entry = 2; entry < 8; ++entry) {
+                palette[entry] = ((8 - entry) * alpha0 + (entry - 1) * alpha1) / 7;
+            }
+        } else {
+            for (int entry = 2; entry < 6; ++entry) {
+                palette[entry] = ((6 - entry) * alpha0 + (entry - 1) * alpha1) / 5;
+            }
+            palette[6] = 0;
+            palette[7] = 255;
+        }
+    }
+}
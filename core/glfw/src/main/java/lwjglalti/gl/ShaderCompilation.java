@@ -0,0 +1,209 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import lwjglalti.render.StartupTimeline;
+import org.lwjgl.opengl.ARBParallelShaderCompile;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+import org.lwjgl.opengl.KHRParallelShaderCompile;
+import org.lwjgl.system.MemoryStack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.lwjgl.opengl.ARBShaderObjects.GL_OBJECT_COMPILE_STATUS_ARB;
+import static org.lwjgl.opengl.ARBShaderObjects.GL_OBJECT_INFO_LOG_LENGTH_ARB;
+import static org.lwjgl.opengl.ARBShaderObjects.GL_OBJECT_LINK_STATUS_ARB;
+import static org.lwjgl.opengl.GL11.GL_TRUE;
+import static org.lwjgl.system.JNI.callPPV;
+import static org.lwjgl.system.JNI.callPV;
+import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.system.MemoryUtil.memAddress;
+import static org.lwjgl.system.MemoryUtil.memUTF8;
+
+/**
+ * Compilation of the shaders of {@code ARBShaderObjects}, timed to measure how long the game thread waits for the
+ * driver to compile and link.
+ * <p>
+ * With parallel compilation, the driver compiles and links on threads of its own, and the status of every compile and
+ * link is answered as successful, and its info log as empty, without waiting for the driver. The actual status is
+ * checked when a program is first used, and failures are logged there, as Altitude would have logged them. A program
+ * linked in parallel is stored in the {@link ProgramBinaryCache} once its status is checked, rather than waited for.
+ */
+public class ShaderCompilation {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.parallelShaderCompile();
+
+    // as many threads as the driver sees fit
+    private static final int MAX_COMPILER_THREADS = 0xFFFFFFFF;
+
+    // FIELD GROUP: deferred status
+    private static boolean parallel = false;
+    private static final Set<Integer> uncheckedShaders = new HashSet<>();
+    private static final Set<Integer> uncheckedPrograms = new HashSet<>();
+
+    // FIELD GROUP: statistics
+    private static int compiles = 0;
+    private static int links = 0;
+    private static long blockedNanos = 0;
+    private static boolean marked = false;
+
+    private ShaderCompilation() {
+        // static api
+    }
+
+    public static void contextCreated() {
+        uncheckedShaders.clear();
+        uncheckedPrograms.clear();
+        parallel = false;
+        if (!ENABLED) {
+            return;
+        }
+        GLCapabilities capabilities = GL.getCapabilities();
+        if (capabilities.GL_KHR_parallel_shader_compile) {
+            KHRParallelShaderCompile.glMaxShaderCompilerThreadsKHR(MAX_COMPILER_THREADS);
+            parallel = true;
+        } else if (capabilities.GL_ARB_parallel_shader_compile) {
+            ARBParallelShaderCompile.glMaxShaderCompilerThreadsARB(MAX_COMPILER_THREADS);
+            parallel = true;
+        } else {
+            LOG.info("The driver cannot compile shaders in parallel: shaders will be compiled as usual");
+        }
+    }
+
+    // TIMING
+
+    /**
+     * Before a call that may wait for the driver to compile or link
+     *
+     * @return the start time to pass to {@link #waited}
+     */
+    public static long waiting() {
+        return System.nanoTime();
+    }
+
+    public static void waited(long start) {
+        blockedNanos += System.nanoTime() - start;
+    }
+
+    // DEFERRED STATUS
+
+    public static void compiled(int shader) {
+        ++compiles;
+        if (parallel) {
+            uncheckedShaders.add(shader);
+        }
+    }
+
+    public static void linked(int program) {
+        ++links;
+        if (parallel) {
+            uncheckedPrograms.add(program);
+        } else {
+            ProgramBinaryCache.storeProgram(program);
+        }
+    }
+
+    /**
+     * @return whether a query of the parameters of an object is answered here, rather than passed to the driver
+     */
+    public static boolean answersParameter(int object, int pname) {
+        return switch (pname) {
+            case GL_OBJECT_COMPILE_STATUS_ARB -> uncheckedShaders.contains(object);
+            case GL_OBJECT_LINK_STATUS_ARB -> uncheckedPrograms.contains(object);
+            case GL_OBJECT_INFO_LOG_LENGTH_ARB -> uncheckedShaders.contains(object) || uncheckedPrograms.contains(object);
+            default -> false;
+        };
+    }
+
+    /**
+     * @param pname a query this {@link #answersParameter answers}
+     */
+    public static int parameter(int pname) {
+        return pname == GL_OBJECT_INFO_LOG_LENGTH_ARB ? 0 : GL_TRUE;
+    }
+
+    /**
+     * @return whether the info log of an object is answered as empty here, rather than passed to the driver
+     */
+    public static boolean answersInfoLog(int object) {
+        return uncheckedShaders.contains(object) || uncheckedPrograms.contains(object);
+    }
+
+    /**
+     * Before using a program: check its status, and the status of the shaders compiled before it
+     */
+    public static void beforeUse(int program) {
+        if (!uncheckedPrograms.remove(program)) {
+            return;
+        }
+        long start = waiting();
+        for (int shader : uncheckedShaders) {
+            check(shader, GL_OBJECT_COMPILE_STATUS_ARB, "Shader {} failed to compile: {}");
+        }
+        uncheckedShaders.clear();
+        if (check(program, GL_OBJECT_LINK_STATUS_ARB, "Program {} failed to link: {}")) {
+            ProgramBinaryCache.storeProgram(program);
+        }
+        waited(start);
+    }
+
+    public static void beforeDelete(int object) {
+        if (uncheckedShaders.remove(object)) {
+            check(object, GL_OBJECT_COMPILE_STATUS_ARB, "Shader {} failed to compile: {}");
+        }
+        if (uncheckedPrograms.remove(object)
+                && check(object, GL_OBJECT_LINK_STATUS_ARB, "Program {} failed to link: {}")) {
+            ProgramBinaryCache.storeProgram(object);
+        }
+    }
+
+    /**
+     * @return whether the object compiled or linked
+     */
+    private static boolean check(int object, int status, String failure) {
+        GLCapabilities capabilities = GL.getCapabilities();
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer value = stack.mallocInt(1);
+            callPV(object, status, memAddress(value), capabilities.glGetObjectParameterivARB);
+            if (value.get(0) == GL_TRUE) {
+                return true;
+            }
+            callPV(object, GL_OBJECT_INFO_LOG_LENGTH_ARB, memAddress(value), capabilities.glGetObjectParameterivARB);
+            int length = value.get(0);
+            String log = "";
+            if (length > 1) {
+                ByteBuffer infoLog = stack.malloc(length);
+                callPPV(object, length, NULL, memAddress(infoLog), capabilities.glGetInfoLogARB);
+                log = memUTF8(memAddress(infoLog));
+            }
+            LOG.error(failure, object, log);
+            return false;
+        }
+    }
+
+    // STATISTICS
+
+    /**
+     * Mark the compilation so far in the startup timeline: call at the first frame
+     */
+    public static void markStartup() {
+        if (marked || compiles == 0) {
+            return;
+        }
+        marked = true;
+        StartupTimeline.mark("%d shaders compiled and %d programs linked, waiting %.1f ms for the driver%s".formatted(
+                compiles,
+                links,
+                blockedNanos / 1e6,
+                parallel ? " (parallel)" : ""
+        ));
+    }
+}
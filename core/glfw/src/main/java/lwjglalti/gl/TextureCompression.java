@@ -0,0 +1,505 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11C;
+import org.lwjgl.opengl.GL13C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import static org.lwjgl.opengl.EXTTextureCompressionS3TC.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT;
+import static org.lwjgl.opengl.EXTTextureCompressionS3TC.GL_COMPRESSED_RGB_S3TC_DXT1_EXT;
+import static org.lwjgl.opengl.GL11.GL_FALSE;
+import static org.lwjgl.opengl.GL11.GL_RGB;
+import static org.lwjgl.opengl.GL11.GL_RGB8;
+import static org.lwjgl.opengl.GL11.GL_RGBA;
+import static org.lwjgl.opengl.GL11.GL_RGBA8;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_BINDING_2D;
+import static org.lwjgl.opengl.GL11.GL_TRUE;
+import static org.lwjgl.opengl.GL11.GL_UNPACK_ROW_LENGTH;
+import static org.lwjgl.opengl.GL11.GL_UNPACK_SKIP_PIXELS;
+import static org.lwjgl.opengl.GL11.GL_UNPACK_SKIP_ROWS;
+import static org.lwjgl.opengl.GL11.GL_UNPACK_SWAP_BYTES;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL12.GL_BGRA;
+import static org.lwjgl.opengl.GL12.GL_UNSIGNED_INT_8_8_8_8_REV;
+import static org.lwjgl.opengl.GL14.GL_GENERATE_MIPMAP;
+import static org.lwjgl.opengl.GL21.GL_PIXEL_UNPACK_BUFFER_BINDING;
+import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.system.MemoryUtil.memAddress;
+import static org.lwjgl.system.MemoryUtil.memAlloc;
+import static org.lwjgl.system.MemoryUtil.memCopy;
+import static org.lwjgl.system.MemoryUtil.memFree;
+import static org.lwjgl.system.MemoryUtil.memGetInt;
+
+/**
+ * Compression of the large static textures of Altitude into S3TC, which takes a quarter of the memory of RGBA8 for
+ * textures with alpha, and an eighth for opaque ones, and as much less bandwidth to sample. A texture qualifies with
+ * its first upload, if it is of level 0, RGBA or BGRA of a byte per component, of a width and height divisible by 4,
+ * and at least as large as configured. It is uploaded as usual, and encoded in the background, on a fork-join pool,
+ * and replaced with its blocks once it has gone a few frames without any other upload: a texture whose level 0 is
+ * specified again, or that is updated with {@code glTexSubImage2D}, or given more levels, stays uncompressed, and one
+ * that is updated after it was compressed is decoded back first.
+ * <p>
+ * The blocks are cached in the installation, next to the properties file, keyed by a hash of the pixels, and mapped
+ * from there by later runs rather than encoded again.
+ */
+public class TextureCompression {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final Optional<Integer> MIN_TEXELS = Properties.textureCompression();
+    public static final boolean ENABLED = MIN_TEXELS.isPresent();
+
+    // change when the format of the files, or the encoding, changes
+    private static final String VERSION = "v1";
+    private static final Optional<Path> DIRECTORY =
+            Properties.installationDirectory().map(directory -> directory.resolve("compressed-textures").resolve(VERSION));
+    // the format, width, and height, ahead of the blocks
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+    // frames without another upload before a texture is taken for static: updates usually follow the first right away
+    private static final int SETTLE_FRAMES = 60;
+    // rows of blocks that a task of the pool encodes, rather than splitting them further
+    private static final int BLOCK_ROWS_PER_TASK = 8;
+
+    private record Encoded(int format, int width, int height, ByteBuffer blocks, boolean loaded) {
+    }
+
+    private record Candidate(int internalformat, long frame, ForkJoinTask<Encoded> task) {
+    }
+
+    private record Compressed(int internalformat, Encoded encoded) {
+    }
+
+    // FIELD GROUP: textures of the context, by name
+    private static boolean supported = false;
+    private static ForkJoinPool pool = null;
+    // every texture whose level 0 was uploaded, of which the others stay uncompressed
+    private static final Set<Integer> uploaded = new HashSet<>();
+    private static final Map<Integer, Candidate> candidates = new HashMap<>();
+    private static final Map<Integer, Compressed> compressed = new HashMap<>();
+    private static long frame = 0;
+
+    // FIELD GROUP: statistics
+    private static int encodedTextures = 0;
+    private static int loadedTextures = 0;
+    private static int updatedTextures = 0;
+    private static int decodedTextures = 0;
+    private static int failedTextures = 0;
+    private static long savedBytes = 0;
+
+    private TextureCompression() {
+        // static api
+    }
+
+    public static void contextCreated() {
+        // the textures died with the previous context, and tasks still running are left to finish unseen
+        uploaded.clear();
+        candidates.clear();
+        compressed.clear();
+        if (!ENABLED) {
+            return;
+        }
+        supported = GL.getCapabilities().GL_EXT_texture_compression_s3tc;
+        if (!supported) {
+            LOG.warn("Texture compression needs S3TC, which the driver does not support");
+            return;
+        }
+        if (pool == null) {
+            // the game thread keeps a core of its own
+            pool = new ForkJoinPool(Math.max(Runtime.getRuntime().availableProcessors() - 1, 1));
+        }
+        LOG.info("Compressing static textures of at least {} texels", MIN_TEXELS.get());
+    }
+
+    // UPLOADS
+
+    /**
+     * Before a level of the bound texture is uploaded
+     *
+     * @param pixels the address of the pixels, or {@code NULL} if unknown, as for buffer offsets
+     * @param pixelBytes the bytes that may be read from the pixels
+     */
+    public static void texImage2D(int target, int level, int internalformat, int width, int height, int border, int format, int type, long pixels, long pixelBytes) {
+        if (!supported || target != GL_TEXTURE_2D || GlStateCache.compilingList()) {
+            return;
+        }
+        int texture = boundTexture();
+        if (texture == 0) {
+            return;
+        }
+        if (uploaded.contains(texture) || level != 0) {
+            // a level 0 specified again replaces the compressed one anyway, but other levels must match it
+            updated(texture, level != 0);
+            uploaded.add(texture);
+            return;
+        }
+        uploaded.add(texture);
+        if (!qualifies(internalformat, width, height, border, format, type, pixels, pixelBytes)) {
+            return;
+        }
+        // the caller may reuse its pixels right after the upload
+        int bytes = width * height * 4;
+        ByteBuffer copy = memAlloc(bytes);
+        memCopy(pixels, memAddress(copy), bytes);
+        boolean bgra = format == GL_BGRA;
+        boolean opaque = internalformat == GL_RGB || internalformat == GL_RGB8 || internalformat == 3;
+        ForkJoinTask<Encoded> task = pool.submit(() -> {
+            try {
+                return encode(copy, width, height, bgra, opaque);
+            } finally {
+                memFree(copy);
+            }
+        });
+        candidates.put(texture, new Candidate(internalformat, frame, task));
+    }
+
+    private static boolean qualifies(int internalformat, int width, int height, int border, int format, int type, long pixels, long pixelBytes) {
+        boolean qualifies = pixels != NULL
+                && pixelBytes >= (long) width * height * 4
+                && border == 0
+                && width > 0 && height > 0 && width % 4 == 0 && height % 4 == 0
+                && (long) width * height >= MIN_TEXELS.get()
+                && (long) width * height * 4 <= Integer.MAX_VALUE
+                && (format == GL_RGBA || format == GL_BGRA)
+                && (type == GL_UNSIGNED_BYTE || type == GL_UNSIGNED_INT_8_8_8_8_REV)
+                && switch (internalformat) {
+                    case GL_RGBA, GL_RGBA8, 4, GL_RGB, GL_RGB8, 3 -> true;
+                    default -> false;
+                };
+        // the driver would generate the other levels from the compressed level 0, which not all drivers can
+        return qualifies
+                && GL11C.glGetTexParameteri(GL_TEXTURE_2D, GL_GENERATE_MIPMAP) != GL_TRUE
+                && tightlyPacked();
+    }
+
+    /**
+     * @return whether the pixels are read as they are copied, from client memory, a row right after the other; the
+     * alignment never pads rows of 4 byte texels a multiple of 4 wide
+     */
+    private static boolean tightlyPacked() {
+        if ((GL.getCapabilities().OpenGL21 || GL.getCapabilities().GL_ARB_pixel_buffer_object)
+                && GL11C.glGetInteger(GL_PIXEL_UNPACK_BUFFER_BINDING) != 0) {
+            return false;
+        }
+        return GL11C.glGetInteger(GL_UNPACK_ROW_LENGTH) == 0
+                && GL11C.glGetInteger(GL_UNPACK_SKIP_ROWS) == 0
+                && GL11C.glGetInteger(GL_UNPACK_SKIP_PIXELS) == 0
+                && GL11C.glGetInteger(GL_UNPACK_SWAP_BYTES) == GL_FALSE;
+    }
+
+    /**
+     * Before a part of a level of the bound texture is uploaded
+     */
+    public static void texSubImage2D(int target) {
+        if (!supported || target != GL_TEXTURE_2D || GlStateCache.compilingList()) {
+            return;
+        }
+        int texture = boundTexture();
+        if (uploaded.contains(texture)) {
+            updated(texture, true);
+        }
+    }
+
+    /**
+     * @param decode whether the texture keeps its level 0, which must be uncompressed again, if it was compressed
+     */
+    private static void updated(int texture, boolean decode) {
+        if (candidates.remove(texture) != null) {
+            ++updatedTextures;
+        }
+        Compressed replaced = compressed.remove(texture);
+        if (replaced == null) {
+            return;
+        }
+        ++updatedTextures;
+        savedBytes -= savedBytes(replaced.encoded);
+        if (decode) {
+            decode(replaced);
+        }
+    }
+
+    private static void decode(Compressed replaced) {
+        Encoded encoded = replaced.encoded;
+        ByteBuffer pixels = memAlloc(encoded.width * encoded.height * 4);
+        // the caller may have set these up for its own upload
+        int rowLength = GL11C.glGetInteger(GL_UNPACK_ROW_LENGTH);
+        int skipRows = GL11C.glGetInteger(GL_UNPACK_SKIP_ROWS);
+        int skipPixels = GL11C.glGetInteger(GL_UNPACK_SKIP_PIXELS);
+        try {
+            S3tc.decode(encoded.blocks, encoded.width, encoded.height, alpha(encoded.format), pixels);
+            GL11C.glPixelStorei(GL_UNPACK_ROW_LENGTH, 0);
+            GL11C.glPixelStorei(GL_UNPACK_SKIP_ROWS, 0);
+            GL11C.glPixelStorei(GL_UNPACK_SKIP_PIXELS, 0);
+            GL11C.glTexImage2D(GL_TEXTURE_2D, 0, replaced.internalformat, encoded.width, encoded.height, 0, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+            GlObjects.texImage2D(GL_TEXTURE_2D, 0, encoded.width, encoded.height, GL_RGBA, GL_UNSIGNED_BYTE);
+            ++decodedTextures;
+        } finally {
+            GL11C.glPixelStorei(GL_UNPACK_ROW_LENGTH, rowLength);
+            GL11C.glPixelStorei(GL_UNPACK_SKIP_ROWS, skipRows);
+            GL11C.glPixelStorei(GL_UNPACK_SKIP_PIXELS, skipPixels);
+            memFree(pixels);
+        }
+    }
+
+    public static void texturesDeleted(IntBuffer textures) {
+        for (int i = textures.position(); i < textures.limit(); ++i) {
+            textureDeleted(textures.get(i));
+        }
+    }
+
+    public static void texturesDeleted(int[] textures) {
+        for (int texture : textures) {
+            textureDeleted(texture);
+        }
+    }
+
+    public static void texturesDeleted(int n, long textures) {
+        for (int i = 0; i < n; ++i) {
+            textureDeleted(memGetInt(textures + (long) i * Integer.BYTES));
+        }
+    }
+
+    public static void textureDeleted(int texture) {
+        if (!supported) {
+            return;
+        }
+        // the name may come back for another texture
+        uploaded.remove(texture);
+        candidates.remove(texture);
+        Compressed deleted = compressed.remove(texture);
+        if (deleted != null) {
+            savedBytes -= savedBytes(deleted.encoded);
+        }
+    }
+
+    /**
+     * Replace the textures that are encoded, and have settled, with their blocks: call once per frame
+     */
+    public static void endFrame() {
+        if (!supported) {
+            return;
+        }
+        ++frame;
+        if (candidates.isEmpty() || GlStateCache.compilingList()) {
+            return;
+        }
+        int previous = 0;
+        boolean bound = false;
+        for (Iterator<Map.Entry<Integer, Candidate>> iterator = candidates.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Integer, Candidate> entry = iterator.next();
+            Candidate candidate = entry.getValue();
+            if (frame - candidate.frame < SETTLE_FRAMES || !candidate.task.isDone()) {
+                continue;
+            }
+            iterator.remove();
+            Encoded encoded;
+            try {
+                encoded = candidate.task.join();
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to compress texture {}", entry.getKey(), e);
+                ++failedTextures;
+                continue;
+            }
+            if (!bound) {
+                previous = boundTexture();
+                bound = true;
+            }
+            GL11C.glBindTexture(GL_TEXTURE_2D, entry.getKey());
+            GL13C.glCompressedTexImage2D(GL_TEXTURE_2D, 0, encoded.format, encoded.width, encoded.height, 0, encoded.blocks);
+            GlObjects.compressedTexImage2D(entry.getKey(), 0, encoded.blocks.remaining());
+            compressed.put(entry.getKey(), new Compressed(candidate.internalformat, encoded));
+            savedBytes += savedBytes(encoded);
+            if (encoded.loaded) {
+                ++loadedTextures;
+            } else {
+                ++encodedTextures;
+            }
+        }
+        if (bound) {
+            GL11C.glBindTexture(GL_TEXTURE_2D, previous);
+        }
+    }
+
+    private static int boundTexture() {
+        return GlStateCache.answers(GL_TEXTURE_BINDING_2D)
+                ? (int) GlStateCache.value(GL_TEXTURE_BINDING_2D, 0)
+                : GL11C.glGetInteger(GL_TEXTURE_BINDING_2D);
+    }
+
+    private static boolean alpha(int format) {
+        return format == GL_COMPRESSED_RGBA_S3TC_DXT5_EXT;
+    }
+
+    private static long savedBytes(Encoded encoded) {
+        return (long) encoded.width * encoded.height * 4 - encoded.blocks.remaining();
+    }
+
+    // ENCODING, ON THE POOL
+
+    private static final class EncodeRows extends RecursiveAction {
+        private final ByteBuffer pixels;
+        private final int width;
+        private final boolean bgra;
+        private final boolean alpha;
+        private final ByteBuffer blocks;
+        private final int firstBlockRow;
+        private final int lastBlockRow;
+
+        EncodeRows(ByteBuffer pixels, int width, boolean bgra, boolean alpha, ByteBuffer blocks, int firstBlockRow, int lastBlockRow) {
+            this.pixels = pixels;
+            this.width = width;
+            this.bgra = bgra;
+            this.alpha = alpha;
+            this.blocks = blocks;
+            this.firstBlockRow = firstBlockRow;
+            this.lastBlockRow = lastBlockRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastBlockRow - firstBlockRow <= BLOCK_ROWS_PER_TASK) {
+                S3tc.encode(pixels, width, bgra, alpha, blocks, firstBlockRow, lastBlockRow);
+                return;
+            }
+            int middle = (firstBlockRow + lastBlockRow) >>> 1;
+            invokeAll(
+                    new EncodeRows(pixels, width, bgra, alpha, blocks, firstBlockRow, middle),
+                    new EncodeRows(pixels, width, bgra, alpha, blocks, middle, lastBlockRow)
+            );
+        }
+    }
+
+    private static Encoded encode(ByteBuffer pixels, int width, int height, boolean bgra, boolean opaque) {
+        boolean alpha = !opaque && !S3tc.opaque(pixels, width, height);
+        int format = alpha ? GL_COMPRESSED_RGBA_S3TC_DXT5_EXT : GL_COMPRESSED_RGB_S3TC_DXT1_EXT;
+        String key = hash(pixels, width, height, bgra, alpha);
+        Optional<Encoded> cached = load(key, format, width, height);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        ByteBuffer blocks = ByteBuffer.allocateDirect(S3tc.encodedBytes(width, height, alpha));
+        new EncodeRows(pixels, width, bgra, alpha, blocks, 0, height / 4).invoke();
+        store(key, format, width, height, blocks);
+        return new Encoded(format, width, height, blocks, false);
+    }
+
+    // THE CACHE ON DISK
+
+    private static Optional<Encoded> load(String key, int format, int width, int height) {
+        if (DIRECTORY.isEmpty()) {
+            return Optional.empty();
+        }
+        Path file = DIRECTORY.get().resolve(key);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        int bytes = S3tc.encodedBytes(width, height, alpha(format));
+        // the mapping outlives the channel
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() == HEADER_BYTES + bytes) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (mapped.getInt(0) == format && mapped.getInt(Integer.BYTES) == width && mapped.getInt(2 * Integer.BYTES) == height) {
+                    return Optional.of(new Encoded(format, width, height, mapped.slice(HEADER_BYTES, bytes), true));
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to read compressed texture {}", file, e);
+            return Optional.empty();
+        }
+        LOG.info("Ignoring compressed texture {} of another format", file.getFileName());
+        return Optional.empty();
+    }
+
+    // to a temporary file first, so that no other run maps half a file
+    private static void store(String key, int format, int width, int height, ByteBuffer blocks) {
+        if (DIRECTORY.isEmpty()) {
+            return;
+        }
+        Path file = DIRECTORY.get().resolve(key);
+        Path temporary = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temporary = Files.createTempFile(file.getParent(), key, ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(format).putInt(width).putInt(height).flip();
+                ByteBuffer content = blocks.duplicate();
+                while (header.hasRemaining() || content.hasRemaining()) {
+                    channel.write(new ByteBuffer[] {header, content});
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Failed to cache compressed texture {}", file, e);
+            try {
+                if (temporary != null) {
+                    Files.deleteIfExists(temporary);
+                }
+            } catch (IOException ignored) {
+                // left for the next run to overwrite
+            }
+        }
+    }
+
+    private static String hash(ByteBuffer pixels, int width, int height, boolean bgra, boolean alpha) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(ByteBuffer.allocate(4 * Integer.BYTES)
+                    .putInt(width)
+                    .putInt(height)
+                    .putInt(bgra ? 1 : 0)
+                    .putInt(alpha ? 1 : 0)
+                    .flip());
+            digest.update(pixels.duplicate());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform implements sha-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // STATISTICS
+
+    /**
+     * Log how many textures were compressed since startup
+     */
+    public static void logStatistics() {
+        if (!supported) {
+            return;
+        }
+        LOG.info(
+                "Texture compression: {} encoded, {} loaded from the cache, {} left uncompressed after updates "
+                        + "({} decoded again), {} failed; {} MiB saved",
+                encodedTextures,
+                loadedTextures,
+                updatedTextures,
+                decodedTextures,
+                failedTextures,
+                String.format("%.1f", savedBytes / (1024.0 * 1024.0))
+        );
+    }
+}
@@ -0,0 +1,384 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.Properties;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.lwjgl.system.MemoryUtil.memGetInt;
+
+/**
+ * Shadow of the uniforms of the programs of {@code ARBShaderObjects}: caches uniform locations, which the driver looks
+ * up by name, and the last value uploaded to every location of the program in use, to skip uploads of the same bits.
+ * Every upload method returns whether the call must be issued to the driver.
+ * <p>
+ * Values are shadowed for uploads of a single element only: an upload to an array may reach locations that are not
+ * known to belong to it, and so forgets every value of the program. Linking a program resets its uniforms, and
+ * deleting a program forgets it. Display lists compiled by the driver that upload uniforms or use programs make every
+ * value unknown when called.
+ */
+public class UniformCache {
+
+    public static final boolean ENABLED = Properties.uniformCache();
+
+    // locations are small and dense in practice: beyond this, values are simply not shadowed
+    private static final int MAX_SHADOWED_LOCATION = 4096;
+
+    // the function of an upload, stored ahead of its bits: uploads of the same bits by another function differ
+    public static final int FLOAT = 0;
+    public static final int INT = 4;
+    public static final int MATRIX = 8;
+    private static final int TRANSPOSED = 16;
+    // set in the function of a shadow whose bits are not known yet
+    private static final int UNKNOWN_BITS = 1 << 31;
+
+    private static final class Program {
+        private final Map<String, Integer> locations = new HashMap<>();
+        private int[][] values = new int[16][];
+
+        void forgetValues() {
+            Arrays.fill(values, null);
+        }
+    }
+
+    // FIELD GROUP: shadowed state
+    private static final Map<Integer, Program> programs = new HashMap<>();
+    // the program in use, null if not known or none
+    private static Program current = null;
+    private static boolean listsUploadUniforms = false;
+
+    // FIELD GROUP: statistics
+    private static int locationHits = 0;
+    private static int locationMisses = 0;
+    private static int issued = 0;
+    private static int skipped = 0;
+    private static int lastFrameLocationHits = 0;
+    private static int lastFrameLocationMisses = 0;
+    private static int lastFrameIssued = 0;
+    private static int lastFrameSkipped = 0;
+
+    private UniformCache() {
+        // static api
+    }
+
+    // INVALIDATION
+
+    public static void contextCreated() {
+        programs.clear();
+        listsUploadUniforms = false;
+        // no program is in use in a new context
+        current = null;
+    }
+
+    public static void programLinked(int program) {
+        Program linked = programs.get(program);
+        if (linked != null) {
+            linked.locations.clear();
+            linked.forgetValues();
+        }
+    }
+
+    public static void objectDeleted(int object) {
+        // the program stays in use until replaced, but its name may be reused for another after that
+        programs.remove(object);
+    }
+
+    /**
+     * After calling display lists compiled by the driver
+     */
+    public static void listsCalled() {
+        if (!listsUploadUniforms) {
+            return;
+        }
+        current = null;
+        programs.values().forEach(Program::forgetValues);
+    }
+
+    private static boolean compilingList() {
+        // a list being recorded by the emulation becomes a list of the driver with the first upload
+        DisplayListEmulation.demoteRecording();
+        if (GlStateCache.compilingList()) {
+            listsUploadUniforms = true;
+            return true;
+        }
+        return false;
+    }
+
+    // PROGRAMS
+
+    public static void useProgram(int program) {
+        if (!ENABLED) {
+            return;
+        }
+        if (compilingList()) {
+            // the list may or may not be executed as it is compiled
+            current = null;
+            return;
+        }
+        current = program == 0 ? null : programs.computeIfAbsent(program, ignored -> new Program());
+    }
+
+    /**
+     * @return the cached location of a uniform, or null if it must be looked up
+     */
+    public static Integer location(int program, CharSequence name) {
+        if (!ENABLED) {
+            return null;
+        }
+        Program shadowed = programs.get(program);
+        Integer location = shadowed == null ? null : shadowed.locations.get(name.toString());
+        if (location == null) {
+            ++locationMisses;
+        } else {
+            ++locationHits;
+        }
+        return location;
+    }
+
+    public static void locationFound(int program, CharSequence name, int location) {
+        if (!ENABLED) {
+            return;
+        }
+        programs.computeIfAbsent(program, ignored -> new Program()).locations.put(name.toString(), location);
+    }
+
+    // UPLOADS
+
+    public static boolean uniform(int location, int function, int x) {
+        int[] shadowed = shadow(location, function, 1);
+        if (shadowed == null) {
+            return issue();
+        }
+        if (known(shadowed) && shadowed[1] == x) {
+            return skip();
+        }
+        shadowed[1] = x;
+        return issued(shadowed);
+    }
+
+    public static boolean uniform(int location, int function, int x, int y) {
+        int[] shadowed = shadow(location, function, 2);
+        if (shadowed == null) {
+            return issue();
+        }
+        if (known(shadowed) && shadowed[1] == x && shadowed[2] == y) {
+            return skip();
+        }
+        shadowed[1] = x;
+        shadowed[2] = y;
+        return issued(shadowed);
+    }
+
+    public static boolean uniform(int location, int function, int x, int y, int z) {
+        int[] shadowed = shadow(location, function, 3);
+        if (shadowed == null) {
+            return issue();
+        }
+        if (known(shadowed) && shadowed[1] == x && shadowed[2] == y && shadowed[3] == z) {
+            return skip();
+        }
+        shadowed[1] = x;
+        shadowed[2] = y;
+        shadowed[3] = z;
+        return issued(shadowed);
+    }
+
+    public static boolean uniform(int location, int function, int x, int y, int z, int w) {
+        int[] shadowed = shadow(location, function, 4);
+        if (shadowed == null) {
+            return issue();
+        }
+        if (known(shadowed) && shadowed[1] == x && shadowed[2] == y && shadowed[3] == z && shadowed[4] == w) {
+            return skip();
+        }
+        shadowed[1] = x;
+        shadowed[2] = y;
+        shadowed[3] = z;
+        shadowed[4] = w;
+        return issued(shadowed);
+    }
+
+    public static boolean uniform(int location, int function, float x) {
+        return uniform(location, function, Float.floatToRawIntBits(x));
+    }
+
+    public static boolean uniform(int location, int function, float x, float y) {
+        return uniform(location, function, Float.floatToRawIntBits(x), Float.floatToRawIntBits(y));
+    }
+
+    public static boolean uniform(int location, int function, float x, float y, float z) {
+        return uniform(location, function, Float.floatToRawIntBits(x), Float.floatToRawIntBits(y), Float.floatToRawIntBits(z));
+    }
+
+    public static boolean uniform(int location, int function, float x, float y, float z, float w) {
+        return uniform(
+                location,
+                function,
+                Float.floatToRawIntBits(x),
+                Float.floatToRawIntBits(y),
+                Float.floatToRawIntBits(z),
+                Float.floatToRawIntBits(w)
+        );
+    }
+
+    /**
+     * @param size the number of components of an element: 1 to 4 for vectors, 4, 9, or 16 for matrices
+     * @param value the address of 32-bit components
+     */
+    public static boolean uniforms(int location, int function, int size, int count, long value) {
+        if (count != 1) {
+            return forgetAll();
+        }
+        int[] shadowed = shadow(location, function, size);
+        if (shadowed == null) {
+            return issue();
+        }
+        boolean same = known(shadowed);
+        for (int i = 0; i < size; ++i) {
+            int bits = memGetInt(value + (long) i * Integer.BYTES);
+            same &= shadowed[1 + i] == bits;
+            shadowed[1 + i] = bits;
+        }
+        return same ? skip() : issued(shadowed);
+    }
+
+    public static boolean uniforms(int location, int function, int size, float[] value) {
+        if (value.length != size) {
+            return forgetAll();
+        }
+        int[] shadowed = shadow(location, function, size);
+        if (shadowed == null) {
+            return issue();
+        }
+        boolean same = known(shadowed);
+        for (int i = 0; i < size; ++i) {
+            int bits = Float.floatToRawIntBits(value[i]);
+            same &= shadowed[1 + i] == bits;
+            shadowed[1 + i] = bits;
+        }
+        return same ? skip() : issued(shadowed);
+    }
+
+    public static boolean uniforms(int location, int function, int size, int[] value) {
+        if (value.length != size) {
+            return forgetAll();
+        }
+        int[] shadowed = shadow(location, function, size);
+        if (shadowed == null) {
+            return issue();
+        }
+        boolean same = known(shadowed);
+        for (int i = 0; i < size; ++i) {
+            same &= shadowed[1 + i] == value[i];
+            shadowed[1 + i] = value[i];
+        }
+        return same ? skip() : issued(shadowed);
+    }
+
+    public static int matrix(boolean transpose) {
+        return transpose ? MATRIX | TRANSPOSED : MATRIX;
+    }
+
+    /**
+     * The shadow of a location for an upload, with the function in front, or null if the upload must be issued and
+     * not shadowed. A shadow of another function, or size, is reset to hold no value
+     */
+    private static int[] shadow(int location, int function, int size) {
+        if (!ENABLED) {
+            return null;
+        }
+        if (compilingList()) {
+            if (current != null && location >= 0 && location < current.values.length) {
+                current.values[location] = null;
+            }
+            return null;
+        }
+        if (current == null || location < 0 || location >= MAX_SHADOWED_LOCATION) {
+            return null;
+        }
+        if (location >= current.values.length) {
+            current.values = Arrays.copyOf(current.values, Math.max(location + 1, 2 * current.values.length));
+        }
+        int[] shadowed = current.values[location];
+        int tag = function | size << 5;
+        if (shadowed == null || (shadowed[0] & ~UNKNOWN_BITS) != tag) {
+            shadowed = new int[1 + size];
+            shadowed[0] = tag | UNKNOWN_BITS;
+            current.values[location] = shadowed;
+        }
+        return shadowed;
+    }
+
+    private static boolean known(int[] shadowed) {
+        return (shadowed[0] & UNKNOWN_BITS) == 0;
+    }
+
+    private static boolean issued(int[] shadowed) {
+        shadowed[0] &= ~UNKNOWN_BITS;
+        return issue();
+    }
+
+    private static boolean forgetAll() {
+        if (ENABLED && !compilingList() && current != null) {
+            current.forgetValues();
+        }
+        return issue();
+    }
+
+    // STATISTICS
+
+    /**
+     * Roll the per-frame statistics: call once per frame
+     */
+    public static void endFrame() {
+        lastFrameLocationHits = locationHits;
+        lastFrameLocationMisses = locationMisses;
+        lastFrameIssued = issued;
+        lastFrameSkipped = skipped;
+        locationHits = 0;
+        locationMisses = 0;
+        issued = 0;
+        skipped = 0;
+    }
+
+    /**
+     * The number of uniform locations answered from the cache during the previous frame
+     */
+    public static int lastFrameLocationHits() {
+        return lastFrameLocationHits;
+    }
+
+    /**
+     * The number of uniform locations looked up by the driver during the previous frame
+     */
+    public static int lastFrameLocationMisses() {
+        return lastFrameLocationMisses;
+    }
+
+    /**
+     * The number of uploads issued to the driver during the previous frame
+     */
+    public static int lastFrameIssued() {
+        return lastFrameIssued;
+    }
+
+    /**
+     * The number of uploads skipped as redundant during the previous frame
+     */
+    public static int lastFrameSkipped() {
+        return lastFrameSkipped;
+    }
+
+    private static boolean issue() {
+        if (ENABLED) {
+            ++issued;
+        }
+        return true;
+    }
+
+    private static boolean skip() {
+        ++skipped;
+        return false;
+    }
+}
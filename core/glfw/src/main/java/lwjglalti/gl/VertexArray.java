@@ -0,0 +1,220 @@
+package lwjglalti.gl;
+
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11C;
+import org.lwjgl.opengl.GLCapabilities;
+
+import static org.lwjgl.opengl.GL11.GL_COLOR_ARRAY;
+import static org.lwjgl.opengl.GL11.GL_EDGE_FLAG_ARRAY;
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+import static org.lwjgl.opengl.GL11.GL_INDEX_ARRAY;
+import static org.lwjgl.opengl.GL11.GL_NORMAL_ARRAY;
+import static org.lwjgl.opengl.GL11.GL_POLYGON;
+import static org.lwjgl.opengl.GL11.GL_QUADS;
+import static org.lwjgl.opengl.GL11.GL_QUAD_STRIP;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_COORD_ARRAY;
+import static org.lwjgl.opengl.GL11.GL_TRIANGLES;
+import static org.lwjgl.opengl.GL11.GL_TRIANGLE_FAN;
+import static org.lwjgl.opengl.GL11.GL_TRIANGLE_STRIP;
+import static org.lwjgl.opengl.GL11.GL_VERTEX_ARRAY;
+import static org.lwjgl.system.JNI.callPV;
+import static org.lwjgl.system.JNI.callV;
+import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.system.MemoryUtil.memCopy;
+import static org.lwjgl.system.MemoryUtil.memGetFloat;
+import static org.lwjgl.system.MemoryUtil.memPutFloat;
+import static org.lwjgl.system.MemoryUtil.nmemFree;
+import static org.lwjgl.system.MemoryUtil.nmemRealloc;
+
+/**
+ * Growable off-heap array of vertices captured from immediate mode, in the layout they are drawn in from vertex
+ * buffers: position, texture coordinates, and color
+ */
+final class VertexArray {
+
+    // x, y, z, s, t, red, green, blue, alpha
+    static final int STRIDE = 9 * Float.BYTES;
+    static final int X = 0;
+    static final int Y = 1;
+    static final int Z = 2;
+    static final int S = 3;
+    static final int T = 4;
+    static final int RED = 5;
+    static final int GREEN = 6;
+    static final int BLUE = 7;
+    static final int ALPHA = 8;
+
+    private final int minCapacity;
+    private long address = NULL;
+    private int capacity = 0;
+    private int count = 0;
+
+    VertexArray(int minCapacity) {
+        this.minCapacity = minCapacity;
+    }
+
+    static boolean isTriangulable(int mode) {
+        return switch (mode) {
+            case GL_TRIANGLES, GL_TRIANGLE_STRIP, GL_TRIANGLE_FAN, GL_QUADS, GL_QUAD_STRIP, GL_POLYGON -> true;
+            default -> false;
+        };
+    }
+
+    void put(float x, float y, float z, float s, float t, float red, float green, float blue, float alpha) {
+        ensureCapacity(count + 1);
+        long vertex = address + (long) count * STRIDE;
+        memPutFloat(vertex, x);
+        memPutFloat(vertex + 4, y);
+        memPutFloat(vertex + 8, z);
+        memPutFloat(vertex + 12, s);
+        memPutFloat(vertex + 16, t);
+        memPutFloat(vertex + 20, red);
+        memPutFloat(vertex + 24, green);
+        memPutFloat(vertex + 28, blue);
+        memPutFloat(vertex + 32, alpha);
+        ++count;
+    }
+
+    float get(int vertex, int component) {
+        return memGetFloat(address + (long) vertex * STRIDE + (long) component * Float.BYTES);
+    }
+
+    int count() {
+        return count;
+    }
+
+    long address() {
+        return address;
+    }
+
+    long bytes() {
+        return (long) count * STRIDE;
+    }
+
+    /**
+     * Transform the positions of the vertices from the first on by an affine matrix
+     */
+    void transformPositions(int first, float[] m) {
+        for (int i = first; i < count; ++i) {
+            long vertex = address + (long) i * STRIDE;
+            float x = memGetFloat(vertex);
+            float y = memGetFloat(vertex + 4);
+            float z = memGetFloat(vertex + 8);
+            memPutFloat(vertex, m[0] * x + m[4] * y + m[8] * z + m[12]);
+            memPutFloat(vertex + 4, m[1] * x + m[5] * y + m[9] * z + m[13]);
+            memPutFloat(vertex + 8, m[2] * x + m[6] * y + m[10] * z + m[14]);
+        }
+    }
+
+    void clear() {
+        count = 0;
+    }
+
+    void free() {
+        nmemFree(address);
+        address = NULL;
+        capacity = 0;
+        count = 0;
+    }
+
+    /**
+     * Append the triangles of a primitive, in an order that keeps both the winding and the provoking vertex of every
+     * triangle the same as in the primitive, so that flat shading and face culling are unaffected
+     */
+    void appendTriangles(int mode, VertexArray primitive) {
+        int n = primitive.count;
+        switch (mode) {
+            case GL_TRIANGLES -> {
+                for (int i = 0; i + 2 < n; i += 3) {
+                    appendTriangle(primitive, i, i + 1, i + 2);
+                }
+            }
+            case GL_TRIANGLE_STRIP -> {
+                for (int i = 2; i < n; ++i) {
+                    // every other triangle is flipped, to keep the winding of the strip
+                    if (i % 2 == 0) {
+                        appendTriangle(primitive, i - 2, i - 1, i);
+                    } else {
+                        appendTriangle(primitive, i - 1, i - 2, i);
+                    }
+                }
+            }
+            case GL_TRIANGLE_FAN -> {
+                for (int i = 2; i < n; ++i) {
+                    appendTriangle(primitive, 0, i - 1, i);
+                }
+            }
+            case GL_POLYGON -> {
+                // the first vertex provokes a polygon
+                for (int i = 2; i < n; ++i) {
+                    appendTriangle(primitive, i - 1, i, 0);
+                }
+            }
+            case GL_QUADS -> {
+                // the last vertex provokes a quad
+                for (int i = 0; i + 3 < n; i += 4) {
+                    appendTriangle(primitive, i, i + 1, i + 3);
+                    appendTriangle(primitive, i + 1, i + 2, i + 3);
+                }
+            }
+            case GL_QUAD_STRIP -> {
+                // the boundary of each quad is (i, i + 1, i + 3, i + 2), and the last vertex provokes it
+                for (int i = 0; i + 3 < n; i += 2) {
+                    appendTriangle(primitive, i, i + 1, i + 3);
+                    appendTriangle(primitive, i + 2, i, i + 3);
+                }
+            }
+            default -> throw new IllegalArgumentException("Not triangulable: " + mode);
+        }
+    }
+
+    private void appendTriangle(VertexArray primitive, int a, int b, int c) {
+        ensureCapacity(count + 3);
+        long destination = address + (long) count * STRIDE;
+        memCopy(primitive.address + (long) a * STRIDE, destination, STRIDE);
+        memCopy(primitive.address + (long) b * STRIDE, destination + STRIDE, STRIDE);
+        memCopy(primitive.address + (long) c * STRIDE, destination + 2 * STRIDE, STRIDE);
+        count += 3;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, capacity * 2);
+        while (newCapacity < required) {
+            newCapacity *= 2;
+        }
+        address = nmemRealloc(address, (long) newCapacity * STRIDE);
+        capacity = newCapacity;
+    }
+
+    /**
+     * Draw triangles from the bound array buffer. Call between pushing and popping the client vertex-array state,
+     * which this clobbers. Attributes without an array take their current value. The calls go to the driver directly:
+     * they are the drawing of a layer, not calls of Altitude, and must not flush or sync the layers again
+     *
+     * @param offset the offset of the first vertex in the buffer
+     */
+    static void drawTriangles(long offset, int count, boolean colors, boolean textureCoordinates) {
+        GLCapabilities capabilities = GL.getCapabilities();
+        callPV(3, GL_FLOAT, STRIDE, offset, capabilities.glVertexPointer);
+        callV(GL_VERTEX_ARRAY, capabilities.glEnableClientState);
+        if (textureCoordinates) {
+            callPV(2, GL_FLOAT, STRIDE, offset + S * Float.BYTES, capabilities.glTexCoordPointer);
+            callV(GL_TEXTURE_COORD_ARRAY, capabilities.glEnableClientState);
+        } else {
+            callV(GL_TEXTURE_COORD_ARRAY, capabilities.glDisableClientState);
+        }
+        if (colors) {
+            callPV(4, GL_FLOAT, STRIDE, offset + RED * Float.BYTES, capabilities.glColorPointer);
+            callV(GL_COLOR_ARRAY, capabilities.glEnableClientState);
+        } else {
+            callV(GL_COLOR_ARRAY, capabilities.glDisableClientState);
+        }
+        callV(GL_NORMAL_ARRAY, capabilities.glDisableClientState);
+        callV(GL_INDEX_ARRAY, capabilities.glDisableClientState);
+        callV(GL_EDGE_FLAG_ARRAY, capabilities.glDisableClientState);
+        GL11C.glDrawArrays(GL_TRIANGLES, 0, count);
+    }
+}
@@ -0,0 +1,164 @@
+package lwjglalti.input;
+
+import lwjglalti.render.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from input to the swap of the frame that consumed it, which is the latency that players feel.
+ * Every keyboard and mouse event is stamped when it is queued, and every frame remembers the oldest and the newest
+ * event that Altitude consumed through {@code Keyboard.next} and {@code Mouse.next}, until {@code Display.swapBuffers}
+ * returns. The latencies of both are collected in histograms, which are logged every few seconds, and kept for the
+ * session, as {@link #oldestEventLatency()} and {@link #newestEventLatency()}.
+ * <p>
+ * GLFW does not tell when the system received an event: events are stamped as GLFW delivers them, when events are
+ * polled, so that the time an event waited for the poll is not counted. With a render thread, the swap returns before
+ * the frame is presented, and the time to present it is not counted either.
+ */
+public class InputLatency {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.inputLatency();
+
+    private static final long BUCKET_NANOS = TimeUnit.MICROSECONDS.toNanos(250);
+    // up to 100 ms, beyond which the exact latency matters less than that it is too high
+    private static final int BUCKETS = 400;
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    public enum Device {
+        KEYBOARD,
+        MOUSE,
+    }
+
+    // FIELD GROUP: stamps of the queued events, by device, as pairs of ints
+    private static final DumbRingBuffer[] stamps = {new DumbRingBuffer(50 * 2), new DumbRingBuffer(50 * 2)};
+
+    // FIELD GROUP: the current frame
+    private static long oldestConsumed = Long.MAX_VALUE;
+    private static long newestConsumed = Long.MIN_VALUE;
+
+    // FIELD GROUP: histograms since the last report, and for the session
+    private static final LatencyHistogram oldest = new LatencyHistogram(BUCKET_NANOS, BUCKETS);
+    private static final LatencyHistogram newest = new LatencyHistogram(BUCKET_NANOS, BUCKETS);
+    private static final LatencyHistogram sessionOldest = new LatencyHistogram(BUCKET_NANOS, BUCKETS);
+    private static final LatencyHistogram sessionNewest = new LatencyHistogram(BUCKET_NANOS, BUCKETS);
+    private static int frames = 0;
+    private static long reportStart = System.nanoTime();
+
+    private InputLatency() {
+        // static api
+    }
+
+    /**
+     * @return the stamp of an event received now, to pass to {@link #queued(Device, long)}
+     */
+    public static long stamp() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Stamp an event of the device: call when it is queued, in the order of the queue
+     */
+    public static void queued(Device device, long stamp) {
+        if (!ENABLED) {
+            return;
+        }
+        DumbRingBuffer deviceStamps = stamps[device.ordinal()];
+        deviceStamps.push((int) (stamp >>> 32));
+        deviceStamps.push((int) stamp);
+        // the capacity is even, so that the buffer can only fill up after a whole stamp
+        deviceStamps.resizeIfFull();
+    }
+
+    /**
+     * Take the stamp of an event of the device: call when it is taken from the queue, in the order of the queue
+     *
+     * @param delivered whether the event is delivered to Altitude, rather than dropped
+     */
+    public static void consumed(Device device, boolean delivered) {
+        if (!ENABLED) {
+            return;
+        }
+        DumbRingBuffer deviceStamps = stamps[device.ordinal()];
+        if (!deviceStamps.hasNext()) {
+            // queued before this was enabled, which is never
+            return;
+        }
+        long stamp = (long) deviceStamps.pop() << 32 | Integer.toUnsignedLong(deviceStamps.pop());
+        if (delivered) {
+            oldestConsumed = Math.min(oldestConsumed, stamp);
+            newestConsumed = Math.max(newestConsumed, stamp);
+        }
+    }
+
+    /**
+     * Record the latencies of the frame: call once {@code Display.swapBuffers} is done
+     */
+    public static void frameSwapped() {
+        if (!ENABLED) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (newestConsumed != Long.MIN_VALUE) {
+            oldest.record(now - oldestConsumed);
+            newest.record(now - newestConsumed);
+            ++frames;
+            oldestConsumed = Long.MAX_VALUE;
+            newestConsumed = Long.MIN_VALUE;
+        }
+        if (now - reportStart >= REPORT_INTERVAL_NANOS) {
+            report(now - reportStart);
+            reportStart = now;
+        }
+    }
+
+    private static void report(long elapsedNanos) {
+        if (frames > 0) {
+            LOG.info(
+                    "Input to swap over {} frames with input in {} ms: newest event {}, oldest event {}",
+                    frames,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    summary(newest),
+                    summary(oldest)
+            );
+        }
+        sessionOldest.add(oldest);
+        sessionNewest.add(newest);
+        oldest.clear();
+        newest.clear();
+        frames = 0;
+    }
+
+    private static String summary(LatencyHistogram histogram) {
+        return String.format(
+                "mean %.2f ms, p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, max %.2f ms",
+                histogram.meanNanos() / 1e6,
+                histogram.percentileNanos(0.50) / 1e6,
+                histogram.percentileNanos(0.95) / 1e6,
+                histogram.percentileNanos(0.99) / 1e6,
+                histogram.maxNanos() / 1e6
+        );
+    }
+
+    /**
+     * The latencies of the oldest input event of each frame, for the session so far
+     */
+    public static LatencyHistogram oldestEventLatency() {
+        LatencyHistogram result = sessionOldest.copy();
+        result.add(oldest);
+        return result;
+    }
+
+    /**
+     * The latencies of the newest input event of each frame, for the session so far
+     */
+    public static LatencyHistogram newestEventLatency() {
+        LatencyHistogram result = sessionNewest.copy();
+        result.add(newest);
+        return result;
+    }
+}
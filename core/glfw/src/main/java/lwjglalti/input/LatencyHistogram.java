@@ -0,0 +1,95 @@
+package lwjglalti.input;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of latencies in buckets of equal width, with an overflow bucket past the last, from which percentiles are
+ * read to the resolution of a bucket. Not thread safe.
+ */
+public final class LatencyHistogram {
+
+    private final long bucketNanos;
+    // the last bucket is the overflow
+    private final long[] counts;
+    private long count = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+
+    /**
+     * Undefined behavior for non-positive arguments
+     */
+    public LatencyHistogram(long bucketNanos, int buckets) {
+        this.bucketNanos = bucketNanos;
+        this.counts = new long[buckets + 1];
+    }
+
+    /**
+     * Negative latencies, as from clocks that disagree, count as zero
+     */
+    public void record(long nanos) {
+        nanos = Math.max(nanos, 0);
+        ++counts[(int) Math.min(nanos / bucketNanos, counts.length - 1)];
+        ++count;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    /**
+     * Undefined behavior if the other histogram has different buckets
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; ++i) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        totalNanos += other.totalNanos;
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram(bucketNanos, counts.length - 1);
+        copy.add(this);
+        return copy;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return 0 if empty
+     */
+    public long meanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    public long maxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * The least latency that this share of the recorded latencies does not exceed, rounded up to the end of its bucket,
+     * but no more than the maximum
+     *
+     * @param share from 0 to 1, such as 0.99 for the 99th percentile
+     * @return 0 if empty
+     */
+    public long percentileNanos(double share) {
+        long rank = Math.max((long) Math.ceil(share * count), 1);
+        long seen = 0;
+        for (int i = 0; i < counts.length - 1; ++i) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min((i + 1) * bucketNanos, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+}
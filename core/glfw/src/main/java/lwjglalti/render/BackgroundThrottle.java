@@ -0,0 +1,60 @@
+package lwjglalti.render;
+
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static org.lwjgl.glfw.GLFW.glfwPollEvents;
+import static org.lwjgl.glfw.GLFW.glfwWaitEventsTimeout;
+
+/**
+ * Frame-rate cap for when the window is in the background, ie unfocused or iconified. Rather than sleeping, the
+ * remainder of the frame interval is spent waiting for window events, so that the cap is lifted the moment the window
+ * regains focus
+ */
+public class BackgroundThrottle {
+
+    private static final long NO_CAP = 0;
+
+    private static final long UNFOCUSED_FRAME_NANOS = frameNanos(Properties.backgroundFps());
+    private static final long ICONIFIED_FRAME_NANOS =
+            frameNanos(Properties.minimizedFps().or(Properties::backgroundFps));
+
+    private static long lastFrameNanos = System.nanoTime();
+
+    private BackgroundThrottle() {
+        // static api
+    }
+
+    private static long frameNanos(Optional<Integer> fps) {
+        return fps.filter(value -> value > 0)
+                .map(value -> 1_000_000_000L / value)
+                .orElse(NO_CAP);
+    }
+
+    public static void frameSwapped() {
+        lastFrameNanos = System.nanoTime();
+    }
+
+    public static void pollEvents(BooleanSupplier iconified, BooleanSupplier focused) {
+        // the window state is re-evaluated after every wait, because waiting processes the events that change it
+        while (true) {
+            long frameNanos = currentFrameNanos(iconified.getAsBoolean(), focused.getAsBoolean());
+            long remainingNanos = lastFrameNanos + frameNanos - System.nanoTime();
+            if (frameNanos == NO_CAP || remainingNanos <= 0) {
+                glfwPollEvents();
+                return;
+            }
+            glfwWaitEventsTimeout(remainingNanos / 1e9);
+        }
+    }
+
+    private static long currentFrameNanos(boolean iconified, boolean focused) {
+        if (iconified) {
+            return ICONIFIED_FRAME_NANOS;
+        } else if (!focused) {
+            return UNFOCUSED_FRAME_NANOS;
+        } else {
+            return NO_CAP;
+        }
+    }
+}
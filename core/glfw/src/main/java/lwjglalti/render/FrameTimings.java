@@ -0,0 +1,194 @@
+package lwjglalti.render;
+
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL15C;
+import org.lwjgl.opengl.GL33C;
+import org.lwjgl.opengl.GLCapabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.opengl.GL15.GL_QUERY_RESULT;
+import static org.lwjgl.opengl.GL15.GL_QUERY_RESULT_AVAILABLE;
+import static org.lwjgl.opengl.GL33.GL_TIME_ELAPSED;
+
+/**
+ * Times every frame on the GPU, next to its time on the CPU, and logs both every few seconds: this tells whether slow
+ * frames are bound by the GPU or by the CPU. A {@code GL_TIME_ELAPSED} query is begun after each swap and ended before
+ * the next, in a ring of queries, and its result is read a few frames later, once it is available, so that the
+ * timing never waits for the GPU. Frames whose query is still pending when its slot comes around again go untimed.
+ * <p>
+ * The time on the CPU is the time between swaps, which also includes the waits of the frame, such as for vsync.
+ */
+public class FrameTimings {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.gpuFrameTiming();
+
+    // frames of gpu latency that the ring covers: results usually arrive within two or three
+    private static final int RING = 6;
+    // a frame is bound by the gpu when the gpu is busy for this much of its time between swaps
+    private static final double GPU_BOUND_SHARE = 0.9;
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    // FIELD GROUP: the ring of queries, by frame modulo RING
+    private static boolean supported = false;
+    private static final int[] queries = new int[RING];
+    private static final boolean[] pending = new boolean[RING];
+    private static final long[] cpuNanos = new long[RING];
+    private static long frame = 0;
+    private static boolean timing = false;
+    // whether the frame being swapped was timed
+    private static boolean ended = false;
+    private static long lastSwap = 0;
+
+    // FIELD GROUP: totals since the last report
+    private static int frames = 0;
+    private static int untimedFrames = 0;
+    private static int gpuBoundFrames = 0;
+    private static long totalCpuNanos = 0;
+    private static long totalGpuNanos = 0;
+    private static long maxCpuNanos = 0;
+    private static long maxGpuNanos = 0;
+    private static long reportStart = System.nanoTime();
+
+    private FrameTimings() {
+        // static api
+    }
+
+    public static void contextCreated() {
+        if (!ENABLED) {
+            return;
+        }
+        GLCapabilities capabilities = GL.getCapabilities();
+        supported = capabilities.OpenGL33 || capabilities.GL_ARB_timer_query;
+        if (!supported) {
+            LOG.warn("GPU frame timing needs timer queries, which the driver does not support");
+            return;
+        }
+        // the queries died with the previous context
+        GL15C.glGenQueries(queries);
+        Arrays.fill(pending, false);
+        timing = false;
+        ended = false;
+        lastSwap = 0;
+        frameSwapped();
+    }
+
+    /**
+     * End the timing of the finished frame: call before swapping buffers, after the last call of the frame
+     */
+    public static void frameFinished() {
+        if (!ENABLED || !supported || !timing) {
+            return;
+        }
+        GL15C.glEndQuery(GL_TIME_ELAPSED);
+        pending[slot(frame)] = true;
+        timing = false;
+        ended = true;
+    }
+
+    /**
+     * Read the timings that are available, and begin timing the next frame: call after swapping buffers
+     */
+    public static void frameSwapped() {
+        if (!ENABLED || !supported) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (ended) {
+            cpuNanos[slot(frame)] = now - lastSwap;
+            ended = false;
+        }
+        lastSwap = now;
+        ++frame;
+        collect();
+        if (now - reportStart >= REPORT_INTERVAL_NANOS) {
+            report(now - reportStart);
+            reportStart = now;
+        }
+        int slot = slot(frame);
+        if (pending[slot]) {
+            // the gpu is more than a ring behind: leave this frame untimed, rather than wait
+            ++untimedFrames;
+            return;
+        }
+        GL15C.glBeginQuery(GL_TIME_ELAPSED, queries[slot]);
+        timing = true;
+    }
+
+    /**
+     * Record the results that have arrived, oldest first, without waiting for any
+     */
+    private static void collect() {
+        for (long past = Math.max(frame - RING + 1, 0); past < frame; ++past) {
+            int slot = slot(past);
+            if (!pending[slot]) {
+                continue;
+            }
+            if (GL15C.glGetQueryObjecti(queries[slot], GL_QUERY_RESULT_AVAILABLE) == 0) {
+                // results arrive in order
+                return;
+            }
+            pending[slot] = false;
+            record(cpuNanos[slot], GL33C.glGetQueryObjectui64(queries[slot], GL_QUERY_RESULT));
+        }
+    }
+
+    private static void record(long cpu, long gpu) {
+        ++frames;
+        totalCpuNanos += cpu;
+        totalGpuNanos += gpu;
+        maxCpuNanos = Math.max(maxCpuNanos, cpu);
+        maxGpuNanos = Math.max(maxGpuNanos, gpu);
+        if (gpu >= GPU_BOUND_SHARE * cpu) {
+            ++gpuBoundFrames;
+        }
+    }
+
+    private static void report(long elapsedNanos) {
+        if (frames > 0) {
+            LOG.info(
+                    "Frame times over {} frames in {} ms: CPU {} ms (max {}), GPU {} ms (max {}), {} frames GPU-bound{}",
+                    frames,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    String.format("%.3f", totalCpuNanos / 1e6 / frames),
+                    String.format("%.3f", maxCpuNanos / 1e6),
+                    String.format("%.3f", totalGpuNanos / 1e6 / frames),
+                    String.format("%.3f", maxGpuNanos / 1e6),
+                    gpuBoundFrames,
+                    untimedFrames == 0 ? "" : String.format(", %d frames untimed", untimedFrames)
+            );
+        }
+        frames = 0;
+        untimedFrames = 0;
+        gpuBoundFrames = 0;
+        totalCpuNanos = 0;
+        totalGpuNanos = 0;
+        maxCpuNanos = 0;
+        maxGpuNanos = 0;
+    }
+
+    private static int slot(long frame) {
+        return (int) (frame % RING);
+    }
+
+    /**
+     * Stop timing: call before the context is destroyed
+     */
+    public static void destroyed() {
+        if (!ENABLED || !supported) {
+            return;
+        }
+        if (timing) {
+            GL15C.glEndQuery(GL_TIME_ELAPSED);
+            timing = false;
+        }
+        GL15C.glDeleteQueries(queries);
+        supported = false;
+    }
+}
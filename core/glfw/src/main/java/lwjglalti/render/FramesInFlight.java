@@ -0,0 +1,165 @@
+package lwjglalti.render;
+
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.lwjgl.opengl.GL32.GL_SYNC_FLUSH_COMMANDS_BIT;
+import static org.lwjgl.opengl.GL32.GL_SYNC_GPU_COMMANDS_COMPLETE;
+import static org.lwjgl.opengl.GL32.GL_TIMEOUT_EXPIRED;
+import static org.lwjgl.opengl.GL32.GL_WAIT_FAILED;
+import static org.lwjgl.system.MemoryUtil.NULL;
+
+/**
+ * Limits how many frames the driver may queue ahead of the GPU, which drivers otherwise let grow to two or three, each
+ * a frame of latency between input and display. A fence follows every swap, and the next frame only starts once no
+ * more frames than the limit, the one just swapped included, are left unfinished on the GPU: with a limit of 1, the
+ * next frame is prepared while the GPU draws the last, but never further ahead, for the lowest latency that still
+ * keeps the GPU busy. Unlike {@code glFinish}, the frame just swapped is never waited for.
+ * <p>
+ * The wait polls the fence, spinning at first and then sleeping, rather than blocking in the driver as
+ * {@code glFinish} does, which drivers often implement as a busy wait. The time waited is logged every few seconds, to
+ * weigh the latency won against the frame rate lost.
+ */
+public class FramesInFlight {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final Optional<Integer> LIMIT = Properties.framesInFlight();
+    public static final boolean ENABLED = LIMIT.isPresent();
+
+    // fences usually signal within microseconds of when they are first polled, or after milliseconds
+    private static final long SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(250);
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    // FIELD GROUP: fences of the frames in flight, a ring from the oldest
+    private static boolean supported = false;
+    private static long[] fences = new long[0];
+    private static int oldest = 0;
+    private static int inFlight = 0;
+
+    // FIELD GROUP: totals since the last report
+    private static int frames = 0;
+    private static int waitedFrames = 0;
+    private static long totalWaitNanos = 0;
+    private static long maxWaitNanos = 0;
+    private static long reportStart = System.nanoTime();
+
+    private FramesInFlight() {
+        // static api
+    }
+
+    public static void contextCreated() {
+        if (!ENABLED) {
+            return;
+        }
+        // the fences died with the previous context
+        oldest = 0;
+        inFlight = 0;
+        supported = GL.getCapabilities().glFenceSync != NULL;
+        if (!supported) {
+            LOG.warn("Limiting frames in flight needs sync objects, which the driver does not support");
+            return;
+        }
+        if (LIMIT.get() < 1) {
+            LOG.warn("Frames in flight must be at least 1, not {}: not limited", LIMIT.get());
+            supported = false;
+            return;
+        }
+        // the limit, and the fence of the frame just swapped
+        fences = new long[LIMIT.get() + 1];
+        LOG.info("Limiting frames in flight to {}", LIMIT.get());
+    }
+
+    /**
+     * Fence the swapped frame, and wait for the GPU to pass the frames beyond the limit: call after swapping buffers
+     */
+    public static void frameSwapped() {
+        if (!ENABLED || !supported) {
+            return;
+        }
+        fences[(oldest + inFlight++) % fences.length] = GL32C.glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        long start = System.nanoTime();
+        boolean waited = false;
+        // the frame just swapped may stay in flight, with the others up to the limit
+        while (inFlight > LIMIT.get()) {
+            long fence = fences[oldest];
+            oldest = (oldest + 1) % fences.length;
+            --inFlight;
+            waited |= await(fence, start);
+            GL32C.glDeleteSync(fence);
+        }
+        long end = System.nanoTime();
+        ++frames;
+        if (waited) {
+            ++waitedFrames;
+            totalWaitNanos += end - start;
+            maxWaitNanos = Math.max(maxWaitNanos, end - start);
+        }
+        if (end - reportStart >= REPORT_INTERVAL_NANOS) {
+            report(end - reportStart);
+            reportStart = end;
+        }
+    }
+
+    /**
+     * @return whether the fence had not yet signaled
+     */
+    private static boolean await(long fence, long start) {
+        // the first poll flushes the fence to the gpu, lest it never arrive
+        int status = GL32C.glClientWaitSync(fence, GL_SYNC_FLUSH_COMMANDS_BIT, 0);
+        boolean waited = status == GL_TIMEOUT_EXPIRED;
+        while (status == GL_TIMEOUT_EXPIRED) {
+            if (System.nanoTime() - start < SPIN_NANOS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(SLEEP_NANOS);
+            }
+            status = GL32C.glClientWaitSync(fence, 0, 0);
+        }
+        if (status == GL_WAIT_FAILED) {
+            LOG.error("Failed to wait for a frame fence");
+        }
+        return waited;
+    }
+
+    private static void report(long elapsedNanos) {
+        if (frames > 0) {
+            LOG.info(
+                    "Frames in flight limited to {}, over {} frames in {} ms: waited in {} frames, {} ms per frame (max {})",
+                    LIMIT.get(),
+                    frames,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    waitedFrames,
+                    String.format("%.3f", totalWaitNanos / 1e6 / frames),
+                    String.format("%.3f", maxWaitNanos / 1e6)
+            );
+        }
+        frames = 0;
+        waitedFrames = 0;
+        totalWaitNanos = 0;
+        maxWaitNanos = 0;
+    }
+
+    /**
+     * Release the fences: call before the context is destroyed
+     */
+    public static void destroyed() {
+        if (!ENABLED || !supported) {
+            return;
+        }
+        for (int i = 0; i < inFlight; ++i) {
+            GL32C.glDeleteSync(fences[(oldest + i) % fences.length]);
+        }
+        oldest = 0;
+        inFlight = 0;
+        supported = false;
+    }
+}
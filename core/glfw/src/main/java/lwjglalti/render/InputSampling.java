@@ -0,0 +1,145 @@
+package lwjglalti.render;
+
+import lwjglalti.gl.RenderThread;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Polls input as late as the frame allows, rather than whenever Altitude asks, which is usually right after the swap,
+ * so that input is about a frame old by the time it is displayed. With vsync, the next swap is due one refresh interval
+ * after the last: the poll is delayed until just enough time is left to render the frame before that, as measured over
+ * the last frames, with a margin. With a render thread, the swap returns before the display is due, and the poll is
+ * not delayed.
+ * <p>
+ * The time from the poll to the swap that displays its input is logged every few seconds, next to what it would have
+ * been without the delay.
+ */
+public class InputSampling {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.lateInputSampling();
+
+    // frames of render time to predict the next from: the slowest of these, so that a slow frame rarely misses vsync
+    private static final int HISTORY = 32;
+    private static final long MARGIN_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    // sleeping overshoots by up to about a millisecond on some platforms: spin through the end of the delay
+    private static final long SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(1500);
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    // FIELD GROUP: the current frame
+    private static long lastSwapNanos = 0;
+    private static long pollRequestNanos = 0;
+    private static long pollNanos = 0;
+    private static boolean polled = false;
+
+    // FIELD GROUP: render times of the last frames, from poll to swap
+    private static final long[] renderNanos = new long[HISTORY];
+    private static int renderFrames = 0;
+
+    // FIELD GROUP: totals since the last report
+    private static int frames = 0;
+    private static long totalLatencyNanos = 0;
+    private static long totalUndelayedLatencyNanos = 0;
+    private static long totalDelayNanos = 0;
+    private static long reportStart = System.nanoTime();
+
+    private InputSampling() {
+        // static api
+    }
+
+    /**
+     * Wait until input is due to be polled: call before polling events
+     *
+     * @param refreshRate of the display mode, in hertz, or 0 if unknown
+     * @param vsync whether the swap waits for the display
+     */
+    public static void awaitPoll(int refreshRate, boolean vsync) {
+        if (!ENABLED || polled) {
+            return;
+        }
+        long now = System.nanoTime();
+        pollRequestNanos = now;
+        // only the first poll of a frame is delayed, and only when the deadline is known
+        polled = true;
+        if (vsync && refreshRate > 0 && !RenderThread.ENABLED && lastSwapNanos != 0 && renderFrames >= HISTORY) {
+            long deadline = lastSwapNanos + TimeUnit.SECONDS.toNanos(1) / refreshRate;
+            sleepUntil(deadline - predictedRenderNanos() - MARGIN_NANOS);
+        }
+        pollNanos = System.nanoTime();
+    }
+
+    private static long predictedRenderNanos() {
+        long slowest = 0;
+        for (long nanos : renderNanos) {
+            slowest = Math.max(slowest, nanos);
+        }
+        return slowest;
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            if (remaining > SPIN_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Measure the render time of the frame, from the poll of its input: call when the frame is submitted, before
+     * swapping buffers, which may wait for vsync
+     */
+    public static void frameFinished() {
+        if (!ENABLED || !polled) {
+            return;
+        }
+        renderNanos[renderFrames++ % HISTORY] = System.nanoTime() - pollNanos;
+    }
+
+    /**
+     * Measure the frame, from the poll of its input to its swap, and start the interval of the next frame: call once
+     * the buffers are swapped
+     */
+    public static void frameSwapped() {
+        if (!ENABLED) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (polled) {
+            ++frames;
+            totalLatencyNanos += now - pollNanos;
+            totalUndelayedLatencyNanos += now - pollRequestNanos;
+            totalDelayNanos += pollNanos - pollRequestNanos;
+        }
+        lastSwapNanos = now;
+        polled = false;
+        if (now - reportStart >= REPORT_INTERVAL_NANOS) {
+            report(now - reportStart);
+            reportStart = now;
+        }
+    }
+
+    private static void report(long elapsedNanos) {
+        if (frames > 0) {
+            LOG.info(
+                    "Input to swap over {} frames in {} ms: {} ms, rather than {} ms without delaying the poll by {} ms",
+                    frames,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    String.format("%.3f", totalLatencyNanos / 1e6 / frames),
+                    String.format("%.3f", totalUndelayedLatencyNanos / 1e6 / frames),
+                    String.format("%.3f", totalDelayNanos / 1e6 / frames)
+            );
+        }
+        frames = 0;
+        totalLatencyNanos = 0;
+        totalUndelayedLatencyNanos = 0;
+        totalDelayNanos = 0;
+    }
+}
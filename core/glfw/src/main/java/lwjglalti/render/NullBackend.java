@@ -0,0 +1,591 @@
+package lwjglalti.render;
+
+import org.lwjgl.opengl.GL;
+import org.lwjgl.system.CallbackI;
+import org.lwjgl.system.Configuration;
+import org.lwjgl.system.FunctionProvider;
+import org.lwjgl.system.Pointer;
+import org.lwjgl.system.libffi.FFICIF;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+
+import static org.lwjgl.glfw.GLFW.GLFW_CLIENT_API;
+import static org.lwjgl.glfw.GLFW.GLFW_NO_API;
+import static org.lwjgl.glfw.GLFW.GLFW_PLATFORM;
+import static org.lwjgl.glfw.GLFW.GLFW_PLATFORM_NULL;
+import static org.lwjgl.glfw.GLFW.glfwInitHint;
+import static org.lwjgl.glfw.GLFW.glfwWindowHint;
+import static org.lwjgl.system.APIUtil.apiCreateCIF;
+import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.system.MemoryUtil.memAddress;
+import static org.lwjgl.system.MemoryUtil.memCopy;
+import static org.lwjgl.system.MemoryUtil.memGetAddress;
+import static org.lwjgl.system.MemoryUtil.memGetInt;
+import static org.lwjgl.system.MemoryUtil.memPutAddress;
+import static org.lwjgl.system.MemoryUtil.memPutDouble;
+import static org.lwjgl.system.MemoryUtil.memPutFloat;
+import static org.lwjgl.system.MemoryUtil.memPutInt;
+import static org.lwjgl.system.MemoryUtil.memPutLong;
+import static org.lwjgl.system.MemoryUtil.memUTF8;
+import static org.lwjgl.system.MemoryUtil.nmemAllocChecked;
+import static org.lwjgl.system.MemoryUtil.nmemFree;
+import static org.lwjgl.system.libffi.LibFFI.FFI_DEFAULT_ABI;
+import static org.lwjgl.system.libffi.LibFFI.ffi_type_pointer;
+
+/**
+ * A backend without a GPU or a display, to measure the CPU cost of the shim and of the frame logic on build machines,
+ * selected by the system property {@code lwjglalti.null_backend=true}. GLFW runs on its null platform, whose windows
+ * have no context and whose input is never delivered, and every GL function is a stub that counts its calls, checks
+ * them as a driver would (on the thread of the context, and not between {@code glBegin} and {@code glEnd} unless
+ * allowed there), and answers the queries that the shim and Altitude depend on: names, compile and link status,
+ * mapped buffers, signalled fences, bound buffers, strings of an OpenGL 2.1 context, and the polygon mode,
+ * current attributes and matrix stacks as they are initially.
+ * <p>
+ * The stubs are libffi closures of six pointer-sized integer arguments, of which each reads the ones it needs: on the
+ * 64-bit calling conventions, the caller cleans up, and surplus arguments are harmless. Arguments of floating-point
+ * types are never read. 32-bit JVMs are not supported.
+ */
+public class NullBackend {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final boolean ENABLED = Properties.nullBackend();
+
+    private static final int ARGUMENTS = 6;
+    private static final int REPORT_SIZE = 20;
+
+    // FIELD GROUP: gl constants, inlined to keep the stubs free of the classes that they stand in for
+    private static final int GL_NO_ERROR = 0;
+    private static final int GL_INVALID_OPERATION = 0x0502;
+    private static final int GL_VENDOR = 0x1F00;
+    private static final int GL_RENDERER = 0x1F01;
+    private static final int GL_VERSION = 0x1F02;
+    private static final int GL_EXTENSIONS = 0x1F03;
+    private static final int GL_SHADING_LANGUAGE_VERSION = 0x8B8C;
+    private static final int GL_VIEWPORT = 0x0BA2;
+    private static final int GL_POLYGON_MODE = 0x0B40;
+    private static final int GL_FILL = 0x1B02;
+    private static final int GL_CURRENT_COLOR = 0x0B00;
+    private static final int GL_CURRENT_TEXTURE_COORDS = 0x0B03;
+    private static final int GL_MATRIX_MODE = 0x0BA0;
+    private static final int GL_MODELVIEW = 0x1700;
+    private static final int GL_MODELVIEW_STACK_DEPTH = 0x0BA3;
+    private static final int GL_PROJECTION_STACK_DEPTH = 0x0BA4;
+    private static final int GL_TEXTURE_STACK_DEPTH = 0x0BA5;
+    private static final int GL_MODELVIEW_MATRIX = 0x0BA6;
+    private static final int GL_PROJECTION_MATRIX = 0x0BA7;
+    private static final int GL_TEXTURE_MATRIX = 0x0BA8;
+    private static final int GL_MAX_TEXTURE_SIZE = 0x0D33;
+    private static final int GL_MAX_MODELVIEW_STACK_DEPTH = 0x0D36;
+    private static final int GL_MAX_PROJECTION_STACK_DEPTH = 0x0D38;
+    private static final int GL_MAX_TEXTURE_STACK_DEPTH = 0x0D39;
+    private static final int GL_COMPILE_STATUS = 0x8B81;
+    private static final int GL_LINK_STATUS = 0x8B82;
+    private static final int GL_VALIDATE_STATUS = 0x8B83;
+    private static final int GL_COMPLETION_STATUS = 0x91B1;
+    private static final int GL_SIGNALED = 0x9119;
+    private static final int GL_ALREADY_SIGNALED = 0x911A;
+    private static final int GL_FRAMEBUFFER_COMPLETE = 0x8CD5;
+    private static final int GL_CLIENT_VERTEX_ARRAY_BIT = 0x0002;
+    private static final int GL_ARRAY_BUFFER = 0x8892;
+    private static final int GL_ELEMENT_ARRAY_BUFFER = 0x8893;
+    private static final int GL_ARRAY_BUFFER_BINDING = 0x8894;
+    private static final int GL_ELEMENT_ARRAY_BUFFER_BINDING = 0x8895;
+    // pushed client state without the vertex arrays
+    private static final int UNCHANGED = -1;
+
+    private static final String VERSION = "2.1 lwjgl-altitude null backend";
+    // what the layers of the shim look for, so that a benchmark takes the paths that the game takes on a real driver
+    private static final String EXTENSIONS = String.join(
+            " ",
+            "GL_ARB_shader_objects",
+            "GL_ARB_vertex_shader",
+            "GL_ARB_fragment_shader",
+            "GL_ARB_vertex_buffer_object",
+            "GL_ARB_map_buffer_range",
+            "GL_ARB_buffer_storage",
+            "GL_ARB_sync",
+            "GL_ARB_draw_elements_base_vertex"
+    );
+
+    private static final FFICIF CIF = createCif();
+
+    // FIELD GROUP: the stubs, created once and kept for the process, since the capabilities point to them
+    private static final Map<String, Stub> stubs = new HashMap<>();
+    private static final Map<Integer, ByteBuffer> strings = new HashMap<>();
+    private static boolean created = false;
+
+    // FIELD GROUP: the state of the null context
+    private static Thread contextThread = null;
+    private static int viewportWidth = 0;
+    private static int viewportHeight = 0;
+    private static int error = GL_NO_ERROR;
+    private static boolean betweenBeginAndEnd = false;
+    private static int nextName = 1;
+    private static final Map<Integer, Integer> boundBuffers = new HashMap<>();
+    private static final Map<Integer, Long> bufferAddresses = new HashMap<>();
+    private static final Deque<Integer> pushedArrayBuffers = new ArrayDeque<>();
+
+    // FIELD GROUP: statistics
+    private static long calls = 0;
+    private static long invalidCalls = 0;
+    private static int frames = 0;
+
+    private NullBackend() {
+        // static api
+    }
+
+    private static FFICIF createCif() {
+        if (!ENABLED) {
+            return null;
+        }
+        if (Pointer.BITS32) {
+            throw new IllegalStateException("The null backend requires a 64-bit JVM");
+        }
+        return apiCreateCIF(
+                FFI_DEFAULT_ABI,
+                ffi_type_pointer,
+                ffi_type_pointer, ffi_type_pointer, ffi_type_pointer,
+                ffi_type_pointer, ffi_type_pointer, ffi_type_pointer
+        );
+    }
+
+    /**
+     * Select the null platform of GLFW, and keep LWJGL from loading the GL library: call before GLFW is initialized
+     */
+    public static void initHints() {
+        if (!ENABLED) {
+            return;
+        }
+        LOG.info("Null backend: nothing will be displayed");
+        Configuration.OPENGL_EXPLICIT_INIT.set(true);
+        glfwInitHint(GLFW_PLATFORM, GLFW_PLATFORM_NULL);
+    }
+
+    /**
+     * Request a window without a context: call before the window is created
+     */
+    public static void windowHints() {
+        if (ENABLED) {
+            glfwWindowHint(GLFW_CLIENT_API, GLFW_NO_API);
+        }
+    }
+
+    /**
+     * Create the capabilities of the null context, in place of {@link GL#createCapabilities()}, on the thread that
+     * will make the GL calls
+     */
+    public static void createCapabilities(int width, int height) {
+        if (!created) {
+            GL.create(new StubProvider());
+            created = true;
+        }
+        contextThread = Thread.currentThread();
+        viewportWidth = width;
+        viewportHeight = height;
+        error = GL_NO_ERROR;
+        betweenBeginAndEnd = false;
+        GL.createCapabilities();
+    }
+
+    /**
+     * Count a frame, in place of swapping the buffers
+     */
+    public static void frameSwapped() {
+        ++frames;
+    }
+
+    /**
+     * The GL calls that reached the null backend, which would have reached the driver
+     */
+    public static long calls() {
+        return calls;
+    }
+
+    /**
+     * The calls of one GL function that reached the null backend, eg for tests of what the shim keeps from the driver
+     */
+    public static long calls(String function) {
+        Stub stub = stubs.get(function);
+        return stub == null ? 0 : stub.calls;
+    }
+
+    /**
+     * An integer or pointer argument of the last call of a GL function, eg for tests of what a replayed call passes to
+     * the driver: arguments past the sixth, and floating-point ones, which are passed apart, are not kept
+     */
+    public static long lastArgument(String function, int index) {
+        Stub stub = stubs.get(function);
+        return stub == null ? 0 : stub.arguments[index];
+    }
+
+    /**
+     * The GL calls that a driver would have rejected, or that would have crashed it
+     */
+    public static long invalidCalls() {
+        return invalidCalls;
+    }
+
+    public static void logStatistics() {
+        if (!ENABLED || !created) {
+            return;
+        }
+        LOG.info(
+                "Null backend: {} GL calls over {} frames ({} per frame), {} invalid",
+                calls, frames, frames == 0 ? 0 : calls / frames, invalidCalls
+        );
+        stubs.values().stream()
+                .filter(stub -> stub.calls != 0)
+                .sorted(Comparator.comparingLong((Stub stub) -> stub.calls).reversed())
+                .limit(REPORT_SIZE)
+                .forEach(stub -> LOG.info("{} {}", String.format("%12d", stub.calls), stub.name));
+    }
+
+    // STUBS
+
+    private static final class StubProvider implements FunctionProvider {
+
+        @Override
+        public long getFunctionAddress(ByteBuffer functionName) {
+            StringBuilder name = new StringBuilder(functionName.remaining());
+            for (int i = functionName.position(); i < functionName.limit() && functionName.get(i) != 0; ++i) {
+                name.append((char) functionName.get(i));
+            }
+            return getFunctionAddress(name);
+        }
+
+        @Override
+        public long getFunctionAddress(CharSequence functionName) {
+            String name = functionName.toString();
+            // only gl itself: not the window-system bindings, which lwjgl probes to pick a platform path
+            if (!name.startsWith("gl") || name.startsWith("glX")) {
+                return NULL;
+            }
+            return stubs.computeIfAbsent(name, Stub::new).address;
+        }
+    }
+
+    private static final class Stub implements CallbackI {
+
+        private final String name;
+        private final LongUnaryOperator answer;
+        private final boolean allowedBetweenBeginAndEnd;
+        private final long address;
+        private final long[] arguments = new long[ARGUMENTS];
+        private long calls = 0;
+        private boolean reported = false;
+
+        private Stub(String name) {
+            this.name = name;
+            this.answer = answer(name);
+            this.allowedBetweenBeginAndEnd = allowedBetweenBeginAndEnd(name);
+            this.address = address();
+        }
+
+        @Override
+        public FFICIF getCallInterface() {
+            return CIF;
+        }
+
+        @Override
+        public void callback(long ret, long args) {
+            ++calls;
+            ++NullBackend.calls;
+            for (int i = 0; i < ARGUMENTS; ++i) {
+                arguments[i] = argument(args, i);
+            }
+            if (Thread.currentThread() != contextThread) {
+                invalid("on a thread without the context");
+                memPutAddress(ret, 0);
+                return;
+            }
+            if (betweenBeginAndEnd && !allowedBetweenBeginAndEnd) {
+                invalid("between glBegin and glEnd");
+                setError(GL_INVALID_OPERATION);
+                memPutAddress(ret, 0);
+                return;
+            }
+            memPutAddress(ret, answer.applyAsLong(args));
+        }
+
+        private void invalid(String reason) {
+            ++invalidCalls;
+            if (!reported) {
+                reported = true;
+                LOG.error("Null backend: invalid call of {} {} (reported once)", name, reason);
+            }
+        }
+    }
+
+    private static boolean allowedBetweenBeginAndEnd(String name) {
+        return name.equals("glEnd")
+                || name.startsWith("glVertex")
+                || name.startsWith("glColor") && !name.startsWith("glColorPointer") && !name.startsWith("glColorMask")
+                || name.startsWith("glSecondaryColor") && !name.startsWith("glSecondaryColorPointer")
+                || name.startsWith("glTexCoord") && !name.startsWith("glTexCoordPointer")
+                || name.startsWith("glMultiTexCoord")
+                || name.startsWith("glNormal") && !name.startsWith("glNormalPointer")
+                || name.startsWith("glFogCoord") && !name.startsWith("glFogCoordPointer")
+                || name.startsWith("glIndex") && !name.startsWith("glIndexPointer") && !name.startsWith("glIndexMask")
+                || name.startsWith("glMaterial")
+                || name.startsWith("glEdgeFlag") && !name.startsWith("glEdgeFlagPointer")
+                || name.startsWith("glEvalCoord")
+                || name.startsWith("glEvalPoint")
+                || name.startsWith("glArrayElement")
+                || name.startsWith("glCallList");
+    }
+
+    /**
+     * What a stub returns, and writes through its pointer arguments: nothing, by default
+     */
+    private static LongUnaryOperator answer(String name) {
+        return switch (name) {
+            case "glBegin" -> args -> {
+                if (betweenBeginAndEnd) {
+                    setError(GL_INVALID_OPERATION);
+                }
+                betweenBeginAndEnd = true;
+                return 0;
+            };
+            case "glEnd" -> args -> {
+                if (!betweenBeginAndEnd) {
+                    setError(GL_INVALID_OPERATION);
+                }
+                betweenBeginAndEnd = false;
+                return 0;
+            };
+            case "glGetError" -> args -> {
+                int result = error;
+                error = GL_NO_ERROR;
+                return result;
+            };
+            case "glGetString" -> args -> string(intArgument(args, 0));
+            case "glGetIntegerv" -> args -> {
+                getInteger(intArgument(args, 0), argument(args, 1));
+                return 0;
+            };
+            case "glGetFloatv" -> args -> {
+                getFloat(intArgument(args, 0), argument(args, 1));
+                return 0;
+            };
+            case "glGetDoublev" -> args -> {
+                getDouble(intArgument(args, 0), argument(args, 1));
+                return 0;
+            };
+            case "glGenLists" -> args -> {
+                int first = nextName;
+                nextName += intArgument(args, 0);
+                return first;
+            };
+            case "glGenTextures", "glGenBuffers", "glGenBuffersARB", "glGenQueries", "glGenQueriesARB",
+                    "glGenFramebuffers", "glGenRenderbuffers", "glGenVertexArrays" -> args -> {
+                int count = intArgument(args, 0);
+                long names = argument(args, 1);
+                for (int i = 0; i < count; ++i) {
+                    memPutInt(names + (long) i * Integer.BYTES, nextName++);
+                }
+                return 0;
+            };
+            case "glCreateShaderObjectARB", "glCreateProgramObjectARB", "glCreateShader", "glCreateProgram",
+                    "glGetUniformLocationARB", "glGetUniformLocation", "glGetAttribLocationARB",
+                    "glGetAttribLocation" -> args -> nextName++;
+            case "glGetObjectParameterivARB", "glGetShaderiv", "glGetProgramiv" -> args -> {
+                int parameter = intArgument(args, 1);
+                boolean status = parameter == GL_COMPILE_STATUS
+                        || parameter == GL_LINK_STATUS
+                        || parameter == GL_VALIDATE_STATUS
+                        || parameter == GL_COMPLETION_STATUS;
+                // everything else, such as the length of the info log, is zero
+                memPutInt(argument(args, 2), status ? 1 : 0);
+                return 0;
+            };
+            case "glGetQueryObjectiv", "glGetQueryObjectuiv", "glGetQueryObjectivARB", "glGetQueryObjectuivARB" ->
+                    args -> {
+                        // available, and of result 1
+                        memPutInt(argument(args, 2), 1);
+                        return 0;
+                    };
+            case "glGetQueryObjecti64v", "glGetQueryObjectui64v" -> args -> {
+                memPutLong(argument(args, 2), 1);
+                return 0;
+            };
+            case "glBindBuffer", "glBindBufferARB" -> args -> {
+                boundBuffers.put(intArgument(args, 0), intArgument(args, 1));
+                return 0;
+            };
+            case "glPushClientAttrib" -> args -> {
+                // the binding of the array buffer is client vertex-array state, which the layers save around draws
+                boolean arrays = (intArgument(args, 0) & GL_CLIENT_VERTEX_ARRAY_BIT) != 0;
+                pushedArrayBuffers.push(arrays ? boundBuffers.getOrDefault(GL_ARRAY_BUFFER, 0) : UNCHANGED);
+                return 0;
+            };
+            case "glPopClientAttrib" -> args -> {
+                Integer pushed = pushedArrayBuffers.poll();
+                if (pushed != null && pushed != UNCHANGED) {
+                    boundBuffers.put(GL_ARRAY_BUFFER, pushed);
+                }
+                return 0;
+            };
+            case "glBufferData", "glBufferDataARB", "glBufferStorage" -> args -> {
+                bufferData(intArgument(args, 0), argument(args, 1), argument(args, 2));
+                return 0;
+            };
+            case "glMapBuffer", "glMapBufferARB" -> args -> boundBufferAddress(intArgument(args, 0));
+            case "glMapBufferRange" -> args -> {
+                long address = boundBufferAddress(intArgument(args, 0));
+                return address == NULL ? NULL : address + argument(args, 1);
+            };
+            case "glUnmapBuffer", "glUnmapBufferARB" -> args -> 1;
+            case "glDeleteBuffers", "glDeleteBuffersARB" -> args -> {
+                int count = intArgument(args, 0);
+                long names = argument(args, 1);
+                for (int i = 0; i < count; ++i) {
+                    Long address = bufferAddresses.remove(memGetInt(names + (long) i * Integer.BYTES));
+                    if (address != null) {
+                        nmemFree(address);
+                    }
+                }
+                return 0;
+            };
+            case "glFenceSync" -> args -> nextName++;
+            case "glClientWaitSync" -> args -> GL_ALREADY_SIGNALED;
+            case "glGetSynciv" -> args -> {
+                long values = argument(args, 4);
+                if (values != NULL) {
+                    memPutInt(values, GL_SIGNALED);
+                }
+                return 0;
+            };
+            case "glCheckFramebufferStatus" -> args -> GL_FRAMEBUFFER_COMPLETE;
+            default -> args -> 0;
+        };
+    }
+
+    private static long argument(long args, int index) {
+        return memGetAddress(memGetAddress(args + (long) index * Long.BYTES));
+    }
+
+    private static int intArgument(long args, int index) {
+        // the upper half of the register is undefined for 32-bit arguments
+        return (int) argument(args, index);
+    }
+
+    private static void setError(int error) {
+        // as in gl, the first error sticks until it is read
+        if (NullBackend.error == GL_NO_ERROR) {
+            NullBackend.error = error;
+        }
+    }
+
+    private static long string(int name) {
+        ByteBuffer string = strings.computeIfAbsent(name, __ -> switch (name) {
+            case GL_VENDOR -> memUTF8("lwjgl-altitude");
+            case GL_RENDERER -> memUTF8("null");
+            case GL_VERSION -> memUTF8(VERSION);
+            case GL_EXTENSIONS -> memUTF8(EXTENSIONS);
+            case GL_SHADING_LANGUAGE_VERSION -> memUTF8("1.20");
+            default -> null;
+        });
+        return string == null ? NULL : memAddress(string);
+    }
+
+    private static void getInteger(int parameter, long data) {
+        int[] values = integers(parameter);
+        if (values == null) {
+            // left as the caller initialized it
+            return;
+        }
+        for (int i = 0; i < values.length; ++i) {
+            memPutInt(data + (long) i * Integer.BYTES, values[i]);
+        }
+    }
+
+    private static void getDouble(int parameter, long data) {
+        // the shim queries the limits of the context as doubles
+        int[] values = integers(parameter);
+        if (values == null) {
+            return;
+        }
+        for (int i = 0; i < values.length; ++i) {
+            memPutDouble(data + (long) i * Double.BYTES, values[i]);
+        }
+    }
+
+    private static int[] integers(int parameter) {
+        return switch (parameter) {
+            case GL_VIEWPORT -> new int[]{0, 0, viewportWidth, viewportHeight};
+            case GL_POLYGON_MODE -> new int[]{GL_FILL, GL_FILL};
+            case GL_ARRAY_BUFFER_BINDING -> new int[]{boundBuffers.getOrDefault(GL_ARRAY_BUFFER, 0)};
+            case GL_ELEMENT_ARRAY_BUFFER_BINDING -> new int[]{boundBuffers.getOrDefault(GL_ELEMENT_ARRAY_BUFFER, 0)};
+            case GL_MATRIX_MODE -> new int[]{GL_MODELVIEW};
+            case GL_MODELVIEW_STACK_DEPTH, GL_PROJECTION_STACK_DEPTH, GL_TEXTURE_STACK_DEPTH -> new int[]{1};
+            case GL_MAX_TEXTURE_SIZE -> new int[]{8192};
+            // the depths that drivers commonly have, for the stacks that the cpu matrix stack mirrors
+            case GL_MAX_MODELVIEW_STACK_DEPTH -> new int[]{32};
+            case GL_MAX_PROJECTION_STACK_DEPTH -> new int[]{4};
+            case GL_MAX_TEXTURE_STACK_DEPTH -> new int[]{10};
+            default -> null;
+        };
+    }
+
+    private static void getFloat(int parameter, long data) {
+        // the stubs cannot read the floating-point arguments that set them: the initial values of gl
+        switch (parameter) {
+            case GL_CURRENT_COLOR -> {
+                for (int i = 0; i < 4; ++i) {
+                    memPutFloat(data + (long) i * Float.BYTES, 1);
+                }
+            }
+            case GL_CURRENT_TEXTURE_COORDS -> {
+                for (int i = 0; i < 4; ++i) {
+                    memPutFloat(data + (long) i * Float.BYTES, i == 3 ? 1 : 0);
+                }
+            }
+            case GL_MODELVIEW_MATRIX, GL_PROJECTION_MATRIX, GL_TEXTURE_MATRIX -> {
+                for (int i = 0; i < 16; ++i) {
+                    memPutFloat(data + (long) i * Float.BYTES, i % 5 == 0 ? 1 : 0);
+                }
+            }
+            default -> {
+                // left as the caller initialized it
+            }
+        }
+    }
+
+    private static void bufferData(int target, long size, long data) {
+        Integer buffer = boundBuffers.get(target);
+        if (buffer == null || buffer == 0) {
+            setError(GL_INVALID_OPERATION);
+            return;
+        }
+        Long previous = bufferAddresses.remove(buffer);
+        if (previous != null) {
+            nmemFree(previous);
+        }
+        // a driver copies the data too: that is part of what the benchmarks measure
+        long address = nmemAllocChecked(Math.max(size, 1));
+        if (data != NULL) {
+            memCopy(data, address, size);
+        }
+        bufferAddresses.put(buffer, address);
+    }
+
+    private static long boundBufferAddress(int target) {
+        Integer buffer = boundBuffers.get(target);
+        Long address = buffer == null ? null : bufferAddresses.get(buffer);
+        if (address == null) {
+            setError(GL_INVALID_OPERATION);
+            return NULL;
+        }
+        return address;
+    }
+}
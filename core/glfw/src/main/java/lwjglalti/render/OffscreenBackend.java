@@ -0,0 +1,165 @@
+package lwjglalti.render;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.PointerBuffer;
+import org.lwjgl.system.Configuration;
+import org.lwjgl.system.MemoryStack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Optional;
+
+import static org.lwjgl.glfw.GLFW.GLFW_CONTEXT_CREATION_API;
+import static org.lwjgl.glfw.GLFW.GLFW_EGL_CONTEXT_API;
+import static org.lwjgl.glfw.GLFW.GLFW_OSMESA_CONTEXT_API;
+import static org.lwjgl.glfw.GLFW.GLFW_PLATFORM;
+import static org.lwjgl.glfw.GLFW.GLFW_PLATFORM_NULL;
+import static org.lwjgl.glfw.GLFW.glfwGetFramebufferSize;
+import static org.lwjgl.glfw.GLFW.glfwInitHint;
+import static org.lwjgl.glfw.GLFW.glfwWindowHint;
+import static org.lwjgl.glfw.GLFWNativeOSMesa.glfwGetOSMesaColorBuffer;
+import static org.lwjgl.opengl.GL11C.GL_PACK_ALIGNMENT;
+import static org.lwjgl.opengl.GL11C.GL_RGBA;
+import static org.lwjgl.opengl.GL11C.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL11C.glFinish;
+import static org.lwjgl.opengl.GL11C.glGetInteger;
+import static org.lwjgl.opengl.GL11C.glPixelStorei;
+import static org.lwjgl.opengl.GL11C.glReadPixels;
+import static org.lwjgl.system.MemoryUtil.memByteBuffer;
+
+/**
+ * A backend that renders with real GL, but without a GPU or a display, for pixel-exact tests and frame-time benchmarks
+ * of the shim on Linux machines without an X server, selected by the system property
+ * {@code lwjglalti.offscreen_backend=osmesa} or {@code egl}. GLFW runs on its null platform, and creates the context
+ * of its window offscreen, through OSMesa or through EGL on the surfaceless platform of Mesa, which Mesa rasterizes in
+ * software (llvmpipe).
+ * <p>
+ * Swapping the buffers presents the frame into an in-memory framebuffer, rows bottom first in RGBA, as
+ * {@link #framebuffer()}: with OSMesa, that is the color buffer of OSMesa itself, once the frame is finished; with
+ * EGL, the frame is read into a buffer of the backend.
+ */
+public class OffscreenBackend {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public enum Api {
+        OSMESA,
+        EGL,
+    }
+
+    public static final Optional<Api> API = Properties.offscreenBackend();
+    public static final boolean ENABLED = API.isPresent();
+
+    // mesa builds of osmesa export the gl functions, and OSMesaGetProcAddress, themselves
+    private static final String OSMESA_LIBRARY = "libOSMesa.so.8";
+
+    // FIELD GROUP: the presented frame
+    private static ByteBuffer framebuffer = null;
+    private static int width = 0;
+    private static int height = 0;
+    private static int frames = 0;
+
+    private OffscreenBackend() {
+        // static api
+    }
+
+    /**
+     * Select the null platform of GLFW, and the GL library of the context: call before GLFW is initialized
+     */
+    public static void initHints() {
+        if (!ENABLED) {
+            return;
+        }
+        if (NullBackend.ENABLED) {
+            throw new IllegalStateException("The null and offscreen backends are exclusive");
+        }
+        LOG.info("Offscreen backend through {}: nothing will be displayed", API.get());
+        if (API.get() == Api.OSMESA && Configuration.OPENGL_LIBRARY_NAME.get() == null) {
+            Configuration.OPENGL_LIBRARY_NAME.set(OSMESA_LIBRARY);
+        }
+        glfwInitHint(GLFW_PLATFORM, GLFW_PLATFORM_NULL);
+    }
+
+    /**
+     * Request an offscreen context: call before the window is created
+     */
+    public static void windowHints() {
+        if (ENABLED) {
+            glfwWindowHint(
+                    GLFW_CONTEXT_CREATION_API,
+                    API.get() == Api.OSMESA ? GLFW_OSMESA_CONTEXT_API : GLFW_EGL_CONTEXT_API
+            );
+        }
+    }
+
+    /**
+     * Present the finished frame: call before the buffers are swapped, which changes nothing offscreen
+     */
+    public static void frameFinished(long window) {
+        if (!ENABLED) {
+            return;
+        }
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer width = stack.mallocInt(1);
+            IntBuffer height = stack.mallocInt(1);
+            if (API.get() == Api.OSMESA) {
+                // the color buffer is written by the rasterizer as it goes: finish the frame before presenting it
+                glFinish();
+                IntBuffer format = stack.mallocInt(1);
+                PointerBuffer buffer = stack.mallocPointer(1);
+                if (!glfwGetOSMesaColorBuffer(window, width, height, format, buffer)) {
+                    LOG.error("Failed to get the OSMesa color buffer: frame not presented");
+                    return;
+                }
+                present(memByteBuffer(buffer.get(0), width.get(0) * height.get(0) * 4), width.get(0), height.get(0));
+            } else {
+                glfwGetFramebufferSize(window, width, height);
+                ByteBuffer target = framebuffer;
+                if (target == null || width.get(0) != OffscreenBackend.width || height.get(0) != OffscreenBackend.height) {
+                    target = BufferUtils.createByteBuffer(width.get(0) * height.get(0) * 4);
+                }
+                readBack(target, width.get(0), height.get(0));
+                present(target, width.get(0), height.get(0));
+            }
+        }
+    }
+
+    private static void readBack(ByteBuffer target, int width, int height) {
+        // from the default read buffer, which is the one drawn into; the packing of altitude must survive the read
+        int packAlignment = glGetInteger(GL_PACK_ALIGNMENT);
+        glPixelStorei(GL_PACK_ALIGNMENT, 1);
+        glReadPixels(0, 0, width, height, GL_RGBA, GL_UNSIGNED_BYTE, target);
+        glPixelStorei(GL_PACK_ALIGNMENT, packAlignment);
+    }
+
+    private static void present(ByteBuffer frame, int width, int height) {
+        framebuffer = frame;
+        OffscreenBackend.width = width;
+        OffscreenBackend.height = height;
+        ++frames;
+    }
+
+    /**
+     * The last presented frame, rows bottom first in RGBA: with OSMesa, valid only until the next frame is drawn
+     *
+     * @return a read-only view of the frame, or null before the first frame
+     */
+    public static ByteBuffer framebuffer() {
+        return framebuffer == null ? null : framebuffer.asReadOnlyBuffer();
+    }
+
+    public static int framebufferWidth() {
+        return width;
+    }
+
+    public static int framebufferHeight() {
+        return height;
+    }
+
+    public static int frames() {
+        return frames;
+    }
+}
@@ -1,5 +1,6 @@
 package lwjglalti.render;
 
+import lwjglalti.gl.GlValidation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -7,26 +8,36 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.Locale;
 import java.util.Optional;
 
 public class Properties {
 
     private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+    private static final String FILE_NAME = "lwjgl-altitude.properties";
+
     private static final java.util.Properties delegate = new java.util.Properties();
 
+    // in an installation, the release jar is in app/lib, and the properties in app/lib/lwjgl-altitude. the directory
+    // is deliberately not on the classpath: class-data sharing refuses to archive classpaths with non-empty directories
+    private static final Optional<Path> INSTALLATION_DIRECTORY = locateInstallationDirectory();
+
     static {
-        InputStream stream = Properties.class.getClassLoader().getResourceAsStream("lwjgl-altitude.properties");
-        if (stream == null) {
-            LOG.error("lwjgl-altitude properties not found on classpath");
-        } else {
-            try {
+        try (InputStream stream = openPropertiesStream()) {
+            if (stream == null) {
+                LOG.error("lwjgl-altitude properties not found in installation or on classpath");
+            } else {
                 delegate.load(stream);
-            } catch (FileNotFoundException __) {
-                // this is fine
-            } catch (IOException e) {
-                LOG.error("Failed to load lwjgl-altitude properties", e);
             }
+        } catch (FileNotFoundException __) {
+            // this is fine
+        } catch (IOException e) {
+            LOG.error("Failed to load lwjgl-altitude properties", e);
         }
     }
 
@@ -34,11 +45,102 @@ public class Properties {
             Boolean.parseBoolean(delegate.getProperty("prefer_windowed_fullscreen"));
     private static final Optional<Integer> MONITOR =
             Optional.ofNullable(delegate.getProperty("monitor")).map(Integer::parseInt);
+    private static final Optional<Integer> BACKGROUND_FPS =
+            Optional.ofNullable(delegate.getProperty("background_fps")).map(Integer::parseInt);
+    private static final Optional<Integer> MINIMIZED_FPS =
+            Optional.ofNullable(delegate.getProperty("minimized_fps")).map(Integer::parseInt);
+    private static final boolean GL_STATE_CACHE =
+            Boolean.parseBoolean(delegate.getProperty("gl_state_cache"));
+    private static final boolean IMMEDIATE_BATCHING =
+            Boolean.parseBoolean(delegate.getProperty("immediate_batching"));
+    private static final boolean DISPLAY_LIST_EMULATION =
+            Boolean.parseBoolean(delegate.getProperty("display_list_emulation"));
+    private static final boolean CPU_MATRIX_STACK =
+            Boolean.parseBoolean(delegate.getProperty("cpu_matrix_stack"));
+    private static final boolean GL_QUERY_CACHE =
+            Boolean.parseBoolean(delegate.getProperty("gl_query_cache"));
+    private static final boolean GL_QUERY_VALIDATION =
+            Boolean.parseBoolean(delegate.getProperty("gl_query_validation"));
+    private static final boolean GL_CALL_PROFILER =
+            Boolean.parseBoolean(delegate.getProperty("gl_call_profiler"));
+    private static final boolean GL_CALL_PROFILER_TIMING =
+            Boolean.parseBoolean(delegate.getProperty("gl_call_profiler_timing"));
+    private static final boolean UNIFORM_CACHE =
+            Boolean.parseBoolean(delegate.getProperty("uniform_cache"));
+    private static final boolean PROGRAM_BINARY_CACHE =
+            Boolean.parseBoolean(delegate.getProperty("program_binary_cache"));
+    private static final boolean PARALLEL_SHADER_COMPILE =
+            Boolean.parseBoolean(delegate.getProperty("parallel_shader_compile"));
+    private static final boolean CLIENT_ARRAY_STREAMING =
+            Boolean.parseBoolean(delegate.getProperty("client_array_streaming"));
+    private static final boolean GL_OBJECT_TRACKING =
+            Boolean.parseBoolean(delegate.getProperty("gl_object_tracking"));
+    private static final Optional<String> SCREENSHOT_KEY =
+            Optional.ofNullable(delegate.getProperty("screenshot_key"));
+    private static final boolean GL_TRACE =
+            Boolean.parseBoolean(delegate.getProperty("gl_trace"));
+    private static final boolean GPU_FRAME_TIMING =
+            Boolean.parseBoolean(delegate.getProperty("gpu_frame_timing"));
+    private static final Optional<Integer> FRAMES_IN_FLIGHT =
+            Optional.ofNullable(delegate.getProperty("frames_in_flight")).map(Integer::parseInt);
+    private static final boolean LATE_INPUT_SAMPLING =
+            Boolean.parseBoolean(delegate.getProperty("late_input_sampling"));
+    private static final boolean INPUT_LATENCY =
+            Boolean.parseBoolean(delegate.getProperty("input_latency"));
+    private static final Optional<Integer> TEXTURE_COMPRESSION =
+            Optional.ofNullable(delegate.getProperty("texture_compression")).map(Integer::parseInt);
+    private static final boolean CONTROLLER_PREFETCH =
+            Boolean.parseBoolean(delegate.getProperty("controller_prefetch"));
+    private static final boolean RENDER_THREAD =
+            Boolean.parseBoolean(delegate.getProperty("render_thread"));
+    private static final GlValidation.Profile GL_VALIDATION =
+            Optional.ofNullable(delegate.getProperty("gl_validation"))
+                    .map(profile -> GlValidation.Profile.valueOf(profile.toUpperCase(Locale.ROOT)))
+                    .orElse(GlValidation.Profile.STANDARD);
+    // a system property rather than a property of the installation, since benchmarks run without one
+    private static final boolean NULL_BACKEND = Boolean.getBoolean("lwjglalti.null_backend");
+    private static final Optional<OffscreenBackend.Api> OFFSCREEN_BACKEND =
+            Optional.ofNullable(System.getProperty("lwjglalti.offscreen_backend"))
+                    .map(api -> OffscreenBackend.Api.valueOf(api.toUpperCase(Locale.ROOT)));
 
     private Properties() {
         // static api
     }
 
+    private static Optional<Path> locateInstallationDirectory() {
+        CodeSource codeSource = Properties.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            return Optional.empty();
+        }
+        try {
+            Path location = Path.of(codeSource.getLocation().toURI());
+            if (Files.isDirectory(location)) {
+                // not running from a jar, ie during development
+                return Optional.empty();
+            }
+            return Optional.of(location.resolveSibling("lwjgl-altitude"));
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            LOG.error("Failed to locate lwjgl-altitude installation", e);
+            return Optional.empty();
+        }
+    }
+
+    private static InputStream openPropertiesStream() throws IOException {
+        Optional<Path> installedFile = INSTALLATION_DIRECTORY.map(directory -> directory.resolve(FILE_NAME));
+        if (installedFile.isPresent() && Files.isRegularFile(installedFile.get())) {
+            return Files.newInputStream(installedFile.get());
+        }
+        // installations from before the properties directory was dropped from the classpath, and development
+        return Properties.class.getClassLoader().getResourceAsStream(FILE_NAME);
+    }
+
+    /**
+     * The directory of the installation that contains the properties file, if running from an installation
+     */
+    public static Optional<Path> installationDirectory() {
+        return INSTALLATION_DIRECTORY;
+    }
+
     public static boolean preferWindowedFullscreen() {
         return PREFER_WINDOWED_FULLSCREEN;
     }
@@ -46,4 +148,112 @@ public class Properties {
     public static Optional<Integer> monitor() {
         return MONITOR;
     }
+
+    public static Optional<Integer> backgroundFps() {
+        return BACKGROUND_FPS;
+    }
+
+    public static Optional<Integer> minimizedFps() {
+        return MINIMIZED_FPS;
+    }
+
+    public static boolean glStateCache() {
+        return GL_STATE_CACHE;
+    }
+
+    public static boolean immediateBatching() {
+        return IMMEDIATE_BATCHING;
+    }
+
+    public static boolean displayListEmulation() {
+        return DISPLAY_LIST_EMULATION;
+    }
+
+    public static boolean cpuMatrixStack() {
+        return CPU_MATRIX_STACK;
+    }
+
+    public static boolean glQueryCache() {
+        return GL_QUERY_CACHE;
+    }
+
+    public static boolean glQueryValidation() {
+        return GL_QUERY_VALIDATION;
+    }
+
+    public static boolean glCallProfiler() {
+        return GL_CALL_PROFILER;
+    }
+
+    public static boolean glCallProfilerTiming() {
+        return GL_CALL_PROFILER_TIMING;
+    }
+
+    public static boolean uniformCache() {
+        return UNIFORM_CACHE;
+    }
+
+    public static boolean programBinaryCache() {
+        return PROGRAM_BINARY_CACHE;
+    }
+
+    public static boolean parallelShaderCompile() {
+        return PARALLEL_SHADER_COMPILE;
+    }
+
+    public static boolean clientArrayStreaming() {
+        return CLIENT_ARRAY_STREAMING;
+    }
+
+    public static boolean glObjectTracking() {
+        return GL_OBJECT_TRACKING;
+    }
+
+    public static Optional<String> screenshotKey() {
+        return SCREENSHOT_KEY;
+    }
+
+    public static boolean glTrace() {
+        return GL_TRACE;
+    }
+
+    public static boolean gpuFrameTiming() {
+        return GPU_FRAME_TIMING;
+    }
+
+    public static Optional<Integer> framesInFlight() {
+        return FRAMES_IN_FLIGHT;
+    }
+
+    public static boolean lateInputSampling() {
+        return LATE_INPUT_SAMPLING;
+    }
+
+    public static boolean inputLatency() {
+        return INPUT_LATENCY;
+    }
+
+    public static Optional<Integer> textureCompression() {
+        return TEXTURE_COMPRESSION;
+    }
+
+    public static boolean controllerPrefetch() {
+        return CONTROLLER_PREFETCH;
+    }
+
+    public static boolean renderThread() {
+        return RENDER_THREAD;
+    }
+
+    public static GlValidation.Profile glValidation() {
+        return GL_VALIDATION;
+    }
+
+    public static boolean nullBackend() {
+        return NULL_BACKEND;
+    }
+
+    public static Optional<OffscreenBackend.Api> offscreenBackend() {
+        return OFFSCREEN_BACKEND;
+    }
 }
@@ -0,0 +1,282 @@
+package lwjglalti.render;
+
+import lwjglalti.gl.OpaqueCalls;
+import lwjglalti.gl.RenderThread;
+import lwjglalti.input.GlfwToLwjgl2Key;
+import org.lwjgl.input.Keyboard;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11C;
+import org.lwjgl.opengl.GL15C;
+import org.lwjgl.opengl.GL30C;
+import org.lwjgl.opengl.GL32C;
+import org.lwjgl.opengl.GLCapabilities;
+import org.lwjgl.system.MemoryStack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.glfw.GLFW.GLFW_PRESS;
+import static org.lwjgl.glfw.GLFW.glfwGetFramebufferSize;
+import static org.lwjgl.opengl.GL11.GL_CLIENT_PIXEL_STORE_BIT;
+import static org.lwjgl.opengl.GL11.GL_PACK_ALIGNMENT;
+import static org.lwjgl.opengl.GL11.GL_PACK_ROW_LENGTH;
+import static org.lwjgl.opengl.GL11.GL_PACK_SKIP_PIXELS;
+import static org.lwjgl.opengl.GL11.GL_PACK_SKIP_ROWS;
+import static org.lwjgl.opengl.GL11.GL_RGBA;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL15.GL_STREAM_READ;
+import static org.lwjgl.opengl.GL21.GL_PIXEL_PACK_BUFFER;
+import static org.lwjgl.opengl.GL30.GL_MAP_READ_BIT;
+import static org.lwjgl.opengl.GL32.GL_SYNC_GPU_COMMANDS_COMPLETE;
+import static org.lwjgl.opengl.GL32.GL_TIMEOUT_EXPIRED;
+import static org.lwjgl.system.JNI.callV;
+import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.system.MemoryUtil.memByteBuffer;
+
+/**
+ * Screenshots taken by the shim, at a key of its own, without stalling the frame. The finished frame is read into a
+ * pixel buffer just before it is swapped, and the pixels are mapped a frame or two later, once a fence shows that the
+ * GPU has written them. The image is flipped and encoded to PNG on a background thread.
+ * <p>
+ * Without pixel buffers and sync objects, the frame is read as Altitude would read it, and only the encoding is moved
+ * off the game thread.
+ */
+public class Screenshots {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    // the lwjgl2 key, or none
+    private static final int KEY = resolveKey(Properties.screenshotKey());
+
+    // in-flight captures: one per frame at most, so more than this means the gpu is very far behind
+    private static final int MAX_PENDING = 3;
+    // after this many frames, a capture is waited for, rather than polled
+    private static final int MAX_FRAMES_PENDING = 2;
+
+    private static final DateTimeFormatter FILE_NAME_FORMAT =
+            DateTimeFormatter.ofPattern("'screenshot-'yyyy-MM-dd_HH-mm-ss-SSS'.png'");
+
+    private record Capture(int buffer, long fence, int width, int height, int frame) {
+    }
+
+    // FIELD GROUP: captures
+    // requested on the main thread, and taken on the render thread, if any
+    private static volatile boolean requested = false;
+    private static boolean asynchronous = false;
+    private static final Deque<Capture> pending = new ArrayDeque<>();
+    private static int frame = 0;
+    private static ExecutorService encoder = null;
+
+    private Screenshots() {
+        // static api
+    }
+
+    private static int resolveKey(Optional<String> name) {
+        if (name.isEmpty()) {
+            return Keyboard.KEY_NONE;
+        }
+        for (int key = 0; key < Keyboard.KEYBOARD_SIZE; ++key) {
+            if (name.get().equalsIgnoreCase(Keyboard.getKeyName(key))) {
+                return key;
+            }
+        }
+        LOG.warn("Unknown screenshot key {}: screenshots are disabled", name.get());
+        return Keyboard.KEY_NONE;
+    }
+
+    public static void contextCreated() {
+        // the buffers and fences died with the previous context
+        pending.clear();
+        GLCapabilities capabilities = GL.getCapabilities();
+        asynchronous = capabilities.OpenGL21 && capabilities.glFenceSync != NULL && capabilities.glMapBufferRange != NULL;
+    }
+
+    /**
+     * On every key event of the window
+     */
+    public static void keyEvent(int glfwKey, int action) {
+        if (KEY != Keyboard.KEY_NONE && action == GLFW_PRESS && GlfwToLwjgl2Key.adapt(glfwKey) == KEY) {
+            requested = true;
+        }
+    }
+
+    /**
+     * Capture the finished frame, if requested, and complete earlier captures: call before swapping buffers
+     */
+    public static void frameFinished(long window) {
+        if (KEY == Keyboard.KEY_NONE) {
+            return;
+        }
+        ++frame;
+        completeCaptures(false);
+        if (!requested) {
+            return;
+        }
+        requested = false;
+        int width;
+        int height;
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer w = stack.mallocInt(1);
+            IntBuffer h = stack.mallocInt(1);
+            // glfw answers on the main thread only
+            RenderThread.onMainThread(() -> glfwGetFramebufferSize(window, w, h));
+            width = w.get(0);
+            height = h.get(0);
+        }
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (pending.size() >= MAX_PENDING) {
+            LOG.warn("Too many screenshots in flight: skipping one");
+            return;
+        }
+        OpaqueCalls.before();
+        if (asynchronous) {
+            capture(width, height);
+        } else {
+            ByteBuffer pixels = ByteBuffer.allocateDirect(width * height * 4);
+            readPixels(width, height, pixels, NULL);
+            encode(pixels, width, height);
+        }
+    }
+
+    private static void capture(int width, int height) {
+        int buffer = GL15C.glGenBuffers();
+        GL15C.glBindBuffer(GL_PIXEL_PACK_BUFFER, buffer);
+        GL15C.glBufferData(GL_PIXEL_PACK_BUFFER, (long) width * height * 4, GL_STREAM_READ);
+        readPixels(width, height, null, 0);
+        GL15C.glBindBuffer(GL_PIXEL_PACK_BUFFER, 0);
+        long fence = GL32C.glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        pending.add(new Capture(buffer, fence, width, height, frame));
+    }
+
+    /**
+     * Read the frame into client memory, or at an offset in the bound pixel buffer, with default packing
+     */
+    private static void readPixels(int width, int height, ByteBuffer pixels, long offset) {
+        GLCapabilities capabilities = GL.getCapabilities();
+        callV(GL_CLIENT_PIXEL_STORE_BIT, capabilities.glPushClientAttrib);
+        GL11C.glPixelStorei(GL_PACK_ALIGNMENT, 4);
+        GL11C.glPixelStorei(GL_PACK_ROW_LENGTH, 0);
+        GL11C.glPixelStorei(GL_PACK_SKIP_PIXELS, 0);
+        GL11C.glPixelStorei(GL_PACK_SKIP_ROWS, 0);
+        if (pixels != null) {
+            GL11C.glReadPixels(0, 0, width, height, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+        } else {
+            GL11C.glReadPixels(0, 0, width, height, GL_RGBA, GL_UNSIGNED_BYTE, offset);
+        }
+        callV(capabilities.glPopClientAttrib);
+    }
+
+    /**
+     * Hand the captures that the gpu has finished to the encoder
+     *
+     * @param wait whether to wait for every capture, rather than only those that are overdue
+     */
+    private static void completeCaptures(boolean wait) {
+        while (!pending.isEmpty()) {
+            Capture capture = pending.peek();
+            boolean overdue = wait || frame - capture.frame() >= MAX_FRAMES_PENDING;
+            int status = GL32C.glClientWaitSync(capture.fence(), 0, 0);
+            while (overdue && status == GL_TIMEOUT_EXPIRED) {
+                status = GL32C.glClientWaitSync(capture.fence(), 0, TimeUnit.MILLISECONDS.toNanos(100));
+            }
+            if (status == GL_TIMEOUT_EXPIRED) {
+                return;
+            }
+            pending.remove();
+            GL32C.glDeleteSync(capture.fence());
+            int bytes = capture.width() * capture.height() * 4;
+            GL15C.glBindBuffer(GL_PIXEL_PACK_BUFFER, capture.buffer());
+            long mapped = GL30C.nglMapBufferRange(GL_PIXEL_PACK_BUFFER, 0, bytes, GL_MAP_READ_BIT);
+            if (mapped == NULL) {
+                LOG.warn("Failed to map a screenshot");
+            } else {
+                // copied, so that the buffer can go before the encoder gets to it
+                ByteBuffer pixels = ByteBuffer.allocateDirect(bytes);
+                pixels.put(memByteBuffer(mapped, bytes)).flip();
+                GL15C.glUnmapBuffer(GL_PIXEL_PACK_BUFFER);
+                encode(pixels, capture.width(), capture.height());
+            }
+            GL15C.glBindBuffer(GL_PIXEL_PACK_BUFFER, 0);
+            GL15C.glDeleteBuffers(capture.buffer());
+        }
+    }
+
+    // ENCODING
+
+    private static void encode(ByteBuffer pixels, int width, int height) {
+        if (encoder == null) {
+            encoder = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "lwjgl-altitude-screenshots");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        Path file = directory().resolve(LocalDateTime.now().format(FILE_NAME_FORMAT));
+        encoder.execute(() -> write(pixels, width, height, file));
+    }
+
+    private static Path directory() {
+        return Properties.installationDirectory()
+                .map(directory -> directory.resolve("screenshots"))
+                .orElse(Path.of("screenshots"));
+    }
+
+    private static void write(ByteBuffer pixels, int width, int height, Path file) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int[] row = new int[width];
+        for (int y = 0; y < height; ++y) {
+            // gl rows go bottom up
+            int offset = (height - 1 - y) * width * 4;
+            for (int x = 0; x < width; ++x) {
+                int i = offset + x * 4;
+                row[x] = (pixels.get(i) & 0xFF) << 16 | (pixels.get(i + 1) & 0xFF) << 8 | (pixels.get(i + 2) & 0xFF);
+            }
+            image.setRGB(0, y, width, 1, row, 0, width);
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            ImageIO.write(image, "png", file.toFile());
+            LOG.info("Saved screenshot {}", file);
+        } catch (IOException e) {
+            LOG.error("Failed to save screenshot {}", file, e);
+        }
+    }
+
+    /**
+     * Finish the captures in flight, and wait for them to be written: call before the context is destroyed
+     */
+    public static void destroyed() {
+        if (!pending.isEmpty()) {
+            completeCaptures(true);
+        }
+        if (encoder != null) {
+            encoder.shutdown();
+            try {
+                if (!encoder.awaitTermination(10, TimeUnit.SECONDS)) {
+                    LOG.warn("Screenshots still being written at exit");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            encoder = null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package lwjglalti.render;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Timeline of startup milestones, from loading {@link org.lwjgl.opengl.Display} to the first buffer swap. The timeline
+ * is logged once, at the first swap, to make the time-to-first-frame visible in the Altitude log
+ */
+public class StartupTimeline {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final long START = System.nanoTime();
+
+    private static final List<Milestone> milestones = new ArrayList<>();
+    // volatile, to keep the check at every swap after the first one free of locking
+    private static volatile boolean completed = false;
+
+    private StartupTimeline() {
+        // static api
+    }
+
+    private record Milestone(String name, long nanoTime, String thread) {
+
+    }
+
+    /**
+     * Milestones may be marked from background threads, but are only ever logged from the game thread
+     */
+    public static synchronized void mark(String name) {
+        if (completed) {
+            return;
+        }
+        milestones.add(new Milestone(name, System.nanoTime(), Thread.currentThread().getName()));
+    }
+
+    public static void completeAtFirstFrame() {
+        if (completed) {
+            return;
+        }
+        complete();
+    }
+
+    private static synchronized void complete() {
+        if (completed) {
+            return;
+        }
+        mark("first swapBuffers");
+        completed = true;
+        StringBuilder message = new StringBuilder("Startup timeline (ms since display class load):");
+        for (Milestone milestone : milestones) {
+            message.append("%n  %8.1f  %s [%s]".formatted(
+                    (milestone.nanoTime() - START) / 1e6,
+                    milestone.name(),
+                    milestone.thread()
+            ));
+        }
+        LOG.info(message.toString());
+        milestones.clear();
+    }
+}
@@ -124,6 +124,10 @@ public class WindowOperation {
     }
 
     public static void setVsync(boolean enabled) {
+        if (NullBackend.ENABLED) {
+            // there is no context to swap
+            return;
+        }
         glfwSwapInterval(enabled ? 1 : 0);
     }
 
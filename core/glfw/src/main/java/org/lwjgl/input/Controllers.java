@@ -31,10 +31,15 @@
  */
 package org.lwjgl.input;
 
+import lwjglalti.render.StartupTimeline;
 import net.java.games.input.ControllerEnvironment;
 import org.lwjgl.LWJGLException;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * The collection of controllers currently connected.
@@ -50,19 +55,61 @@ public class Controllers {
 	/** Whether controllers were created */
 	private static boolean created;
 
+	/** The jinput controllers, enumerated in the background if prefetched */
+	private static CompletableFuture<net.java.games.input.Controller[]> prefetched;
+
+	/** How long {@link #create()} waits for a prefetch, which a jinput plugin may hang */
+	private static final long PREFETCH_TIMEOUT_SECONDS = 10;
+
+	/**
+	 * Start enumerating the controllers on a background thread, for {@link #create()} to pick up later. Enumeration
+	 * is slow, and does not have to block the startup of the display
+	 */
+	public static synchronized void prefetch() {
+		if (created || prefetched != null)
+			return;
+
+		prefetched = new CompletableFuture<>();
+		Thread thread = new Thread(() -> {
+			try {
+				prefetched.complete(ControllerEnvironment.getDefaultEnvironment().getControllers());
+				StartupTimeline.mark("controllers enumerated");
+			} catch (Throwable e) {
+				prefetched.completeExceptionally(e);
+			}
+		}, "lwjgl-altitude controller enumeration");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private static net.java.games.input.Controller[] enumerate() throws Throwable {
+		if (prefetched == null)
+			return ControllerEnvironment.getDefaultEnvironment().getControllers();
+
+		try {
+			return prefetched.get(PREFETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (ExecutionException e) {
+			// the enumeration is over: a later create enumerates again
+			prefetched = null;
+			throw e.getCause();
+		} catch (TimeoutException e) {
+			// the enumeration may still be running: a later create waits for it again, rather than starting another
+			// that would race it through jinput
+			throw e;
+		}
+	}
+
 	/**
 	 * Initialise the controllers collection
 	 *
 	 * @throws LWJGLException Indicates a failure to initialise the controller library.
 	 */
-	public static void create() throws LWJGLException {
+	public static synchronized void create() throws LWJGLException {
 		if (created)
 			return;
 
 		try {
-			ControllerEnvironment env = ControllerEnvironment.getDefaultEnvironment();
-
-			net.java.games.input.Controller[] found = env.getControllers();
+			net.java.games.input.Controller[] found = enumerate();
 			ArrayList<net.java.games.input.Controller> lollers = new ArrayList<net.java.games.input.Controller>();
 			for ( net.java.games.input.Controller c : found ) {
 				if ( (!c.getType().equals(net.java.games.input.Controller.Type.KEYBOARD)) &&
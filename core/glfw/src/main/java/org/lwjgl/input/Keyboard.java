@@ -33,6 +33,7 @@ package org.lwjgl.input;
 
 import lwjglalti.input.DumbRingBuffer;
 import lwjglalti.input.GlfwToLwjgl2Key;
+import lwjglalti.input.InputLatency;
 import org.lwjgl.opengl.Display;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -206,7 +207,11 @@ public class Keyboard {
     public static final int KEY_POWER           = 0xDE;
     public static final int KEY_SLEEP           = 0xDF;
 
-    private static final String[] KEY_NAMES = readKeyNames();
+    // key names are only needed for the controls menu: the reflection is deferred to first use by the holder idiom
+    private static final class KeyNames {
+
+        private static final String[] KEY_NAMES = readKeyNames();
+    }
 
     private static String[] readKeyNames() {
         var result = new String[Keyboard.KEYBOARD_SIZE];
@@ -242,6 +247,7 @@ public class Keyboard {
     private static Integer retainedAction = null;
     private static Integer retainedMods = null;
     private static Integer firstCharacterAfterRetainedKey = null;
+    private static long retainedStamp = 0;
 
     // this is the actual current event that consumers see: it is readied by `next`
     private static int eventLwjglKey;
@@ -266,7 +272,9 @@ public class Keyboard {
             eventGlfwAction = events.pop();
             eventGlfwMods = events.pop();
             eventChar = events.pop();
-            if (repeatEventsEnabled || eventGlfwAction != GLFW_REPEAT) {
+            boolean delivered = repeatEventsEnabled || eventGlfwAction != GLFW_REPEAT;
+            InputLatency.consumed(InputLatency.Device.KEYBOARD, delivered);
+            if (delivered) {
                 return true;
             }
         }
@@ -306,7 +314,7 @@ public class Keyboard {
 
     // probably does not need to be synchronized, but retains the lwjgl2 api signature
     public static synchronized String getKeyName(int key) {
-        return KEY_NAMES[key];
+        return KeyNames.KEY_NAMES[key];
     }
 
     public static void registerGlfwKeyEvent(int key, int action, int mods) {
@@ -315,6 +323,7 @@ public class Keyboard {
         retainedAction = action;
         retainedMods = mods;
         firstCharacterAfterRetainedKey = null;
+        retainedStamp = InputLatency.stamp();
     }
 
     private static void addPreviousEvent() {
@@ -328,6 +337,7 @@ public class Keyboard {
             events.push(retainedAction);
             events.push(retainedMods);
             events.push(firstCharacterAfterRetainedKey != null ? firstCharacterAfterRetainedKey : CHAR_NONE);
+            InputLatency.queued(InputLatency.Device.KEYBOARD, retainedStamp);
             retainedKey = null;
         }
     }
@@ -32,6 +32,7 @@
 package org.lwjgl.input;
 
 import lwjglalti.input.DumbRingBuffer;
+import lwjglalti.input.InputLatency;
 import org.lwjgl.LWJGLException;
 import org.lwjgl.glfw.GLFW;
 import org.lwjgl.opengl.Display;
@@ -86,6 +87,7 @@ public class Mouse {
         eventGlfwX = events.pop();
         eventGlfwY = events.pop();
         eventGlfwScroll = events.pop();
+        InputLatency.consumed(InputLatency.Device.MOUSE, true);
         return true;
     }
 
@@ -203,5 +205,6 @@ public class Mouse {
         events.push(scroll);
         // because the capacity of the buffer is divisible by the event size, we only have to check fullness at the end
         events.resizeIfFull();
+        InputLatency.queued(InputLatency.Device.MOUSE, InputLatency.stamp());
     }
 }
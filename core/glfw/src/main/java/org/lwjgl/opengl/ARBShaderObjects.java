@@ -2,9 +2,19 @@
  * Copyright LWJGL. All rights reserved.
  * License terms: https://www.lwjgl.org/license
  * MACHINE GENERATED FILE, DO NOT EDIT
+ * Generated by core/generator/GenerateAdapters.java from the template of ARBShaderObjects
  */
 package org.lwjgl.opengl;
 
+import lwjglalti.gl.CallProfiler;
+import lwjglalti.gl.GlEntryPoint;
+import lwjglalti.gl.GlObjects;
+import lwjglalti.gl.GlTrace;
+import lwjglalti.gl.OpaqueCalls;
+import lwjglalti.gl.ProgramBinaryCache;
+import lwjglalti.gl.RenderThread;
+import lwjglalti.gl.ShaderCompilation;
+import lwjglalti.gl.UniformCache;
 import org.lwjgl.PointerBuffer;
 import org.lwjgl.system.MemoryStack;
 import org.lwjgl.system.MemoryUtil;
@@ -18,14 +28,21 @@ import static org.lwjgl.system.Checks.CHECKS;
 import static org.lwjgl.system.Checks.check;
 import static org.lwjgl.system.Checks.checkNT1;
 import static org.lwjgl.system.Checks.checkSafe;
+import static org.lwjgl.system.JNI.callI;
+import static org.lwjgl.system.JNI.callPI;
 import static org.lwjgl.system.JNI.callPPPPV;
 import static org.lwjgl.system.JNI.callPPV;
 import static org.lwjgl.system.JNI.callPV;
+import static org.lwjgl.system.JNI.callV;
 import static org.lwjgl.system.MemoryStack.stackGet;
+import static org.lwjgl.system.MemoryUtil.NULL;
 import static org.lwjgl.system.MemoryUtil.memAddress;
 import static org.lwjgl.system.MemoryUtil.memAddressSafe;
 import static org.lwjgl.system.MemoryUtil.memAlloc;
 import static org.lwjgl.system.MemoryUtil.memFree;
+import static org.lwjgl.system.MemoryUtil.memPutByte;
+import static org.lwjgl.system.MemoryUtil.memPutFloat;
+import static org.lwjgl.system.MemoryUtil.memPutInt;
 import static org.lwjgl.system.MemoryUtil.memUTF8;
 
 /**
@@ -119,7 +136,30 @@ public class ARBShaderObjects {
      *
      * @param obj the shader object to delete
      */
-    public static native void glDeleteObjectARB(@NativeType("GLhandleARB") int obj);
+    public static void glDeleteObjectARB(@NativeType("GLhandleARB") int obj) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_DELETE_OBJECT_ARB, Integer.BYTES).putInt(obj);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DELETE_OBJECT_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDeleteObjectARB(I)", obj);
+            }
+            OpaqueCalls.before();
+            ShaderCompilation.beforeDelete(obj);
+            long __functionAddress = GL.getICD().glDeleteObjectARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(obj, __functionAddress);
+            UniformCache.objectDeleted(obj);
+            ProgramBinaryCache.objectDeleted(obj);
+            GlObjects.shaderObjectDeleted(obj);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glGetHandleARB ] ---
 
@@ -129,7 +169,25 @@ public class ARBShaderObjects {
      * @param pname the state item for which the current object is to be returned. Must be:<br><table><tr><td>{@link #GL_PROGRAM_OBJECT_ARB PROGRAM_OBJECT_ARB}</td></tr></table>
      */
     @NativeType("GLhandleARB")
-    public static native int glGetHandleARB(@NativeType("GLenum") int pname);
+    public static int glGetHandleARB(@NativeType("GLenum") int pname) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetHandleARB(pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_HANDLE_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetHandleARB(I)", pname);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetHandleARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            return callI(pname, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glDetachObjectARB ] ---
 
@@ -139,7 +197,27 @@ public class ARBShaderObjects {
      * @param containerObj the container object
      * @param attachedObj  the object to detach
      */
-    public static native void glDetachObjectARB(@NativeType("GLhandleARB") int containerObj, @NativeType("GLhandleARB") int attachedObj);
+    public static void glDetachObjectARB(@NativeType("GLhandleARB") int containerObj, @NativeType("GLhandleARB") int attachedObj) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_DETACH_OBJECT_ARB, 2 * Integer.BYTES).putInt(containerObj).putInt(attachedObj);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DETACH_OBJECT_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDetachObjectARB(II)", containerObj, attachedObj);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glDetachObjectARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(containerObj, attachedObj, __functionAddress);
+            ProgramBinaryCache.detached(containerObj, attachedObj);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glCreateShaderObjectARB ] ---
 
@@ -149,7 +227,27 @@ public class ARBShaderObjects {
      * @param shaderType the type of the shader object to be created. One of:<br><table><tr><td>{@link ARBVertexShader#GL_VERTEX_SHADER_ARB VERTEX_SHADER_ARB}</td><td>{@link ARBFragmentShader#GL_FRAGMENT_SHADER_ARB FRAGMENT_SHADER_ARB}</td></tr></table>
      */
     @NativeType("GLhandleARB")
-    public static native int glCreateShaderObjectARB(@NativeType("GLenum") int shaderType);
+    public static int glCreateShaderObjectARB(@NativeType("GLenum") int shaderType) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glCreateShaderObjectARB(shaderType));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CREATE_SHADER_OBJECT_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCreateShaderObjectARB(I)", shaderType);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glCreateShaderObjectARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            int shaderObj = callI(shaderType, __functionAddress);
+            GlObjects.shaderObjectCreated(shaderObj, shaderType);
+            return shaderObj;
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glShaderSourceARB ] ---
 
@@ -158,7 +256,27 @@ public class ARBShaderObjects {
      *
      * @param count the number of strings in the array
      */
-    public static native void nglShaderSourceARB(int shaderObj, int count, long string, long length);
+    public static void nglShaderSourceARB(int shaderObj, int count, long string, long length) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglShaderSourceARB(shaderObj, count, string, length));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_SHADER_SOURCE_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglShaderSourceARB(IIPP)", shaderObj, count, string, length);
+            }
+            ProgramBinaryCache.shaderSource(shaderObj, count, string, length);
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glShaderSourceARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPPV(shaderObj, count, string, length, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Sets the source code for the specified shader object {@code shaderObj} to the text strings in the {@code string} array. If the object previously had
@@ -174,10 +292,22 @@ public class ARBShaderObjects {
      *                  considered null terminated.
      */
     public static void glShaderSourceARB(@NativeType("GLhandleARB") int shaderObj, @NativeType("GLcharARB const **") PointerBuffer string, @NativeType("GLint const *") IntBuffer length) {
-        if (CHECKS) {
-            checkSafe(length, string.remaining());
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glShaderSourceARB(shaderObj, string, length));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_SHADER_SOURCE_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glShaderSourceARB(Iqi)", shaderObj, string, length);
+            }
+            if (CHECKS) {
+                checkSafe(length, string.remaining());
+            }
+            nglShaderSourceARB(shaderObj, string.remaining(), memAddress(string), memAddressSafe(length));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglShaderSourceARB(shaderObj, string.remaining(), memAddress(string), memAddressSafe(length));
     }
 
     /**
@@ -191,13 +321,27 @@ public class ARBShaderObjects {
      * @param string    an array of pointers to one or more, optionally null terminated, character strings that make up the source code
      */
     public static void glShaderSourceARB(@NativeType("GLhandleARB") int shaderObj, @NativeType("GLcharARB const **") CharSequence... string) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_SHADER_SOURCE_ARB, Integer.BYTES + RenderThread.bytes(string));
+            __command.putInt(shaderObj);
+            RenderThread.put(__command, string);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_SHADER_SOURCE_ARB);
         try {
-            long stringAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
-            nglShaderSourceARB(shaderObj, string.length, stringAddress, stringAddress - (string.length << 2));
-            org.lwjgl.system.APIUtil.apiArrayFree(stringAddress, string.length);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glShaderSourceARB(Ic)", shaderObj, string);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                long stringAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
+                nglShaderSourceARB(shaderObj, string.length, stringAddress, stringAddress - (string.length << 2));
+                org.lwjgl.system.APIUtil.apiArrayFree(stringAddress, string.length);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
@@ -212,13 +356,27 @@ public class ARBShaderObjects {
      * @param string    an array of pointers to one or more, optionally null terminated, character strings that make up the source code
      */
     public static void glShaderSourceARB(@NativeType("GLhandleARB") int shaderObj, @NativeType("GLcharARB const **") CharSequence string) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_SHADER_SOURCE_ARB, Integer.BYTES + RenderThread.bytes(string));
+            __command.putInt(shaderObj);
+            RenderThread.put(__command, string);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_SHADER_SOURCE_ARB);
         try {
-            long stringAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
-            nglShaderSourceARB(shaderObj, 1, stringAddress, stringAddress - 4);
-            org.lwjgl.system.APIUtil.apiArrayFree(stringAddress, 1);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glShaderSourceARB(IC)", shaderObj, string);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                long stringAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
+                nglShaderSourceARB(shaderObj, 1, stringAddress, stringAddress - 4);
+                org.lwjgl.system.APIUtil.apiArrayFree(stringAddress, 1);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
@@ -238,7 +396,32 @@ public class ARBShaderObjects {
      *
      * @param shaderObj the shader object to compile
      */
-    public static native void glCompileShaderARB(@NativeType("GLhandleARB") int shaderObj);
+    public static void glCompileShaderARB(@NativeType("GLhandleARB") int shaderObj) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COMPILE_SHADER_ARB, Integer.BYTES).putInt(shaderObj);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COMPILE_SHADER_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCompileShaderARB(I)", shaderObj);
+            }
+            if (!ProgramBinaryCache.compileShader(shaderObj)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __waiting = ShaderCompilation.waiting();
+            long __functionAddress = GL.getICD().glCompileShaderARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(shaderObj, __functionAddress);
+            ShaderCompilation.waited(__waiting);
+            ShaderCompilation.compiled(shaderObj);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glCreateProgramObjectARB ] ---
 
@@ -251,7 +434,27 @@ public class ARBShaderObjects {
      * one program object.</p>
      */
     @NativeType("GLhandleARB")
-    public static native int glCreateProgramObjectARB();
+    public static int glCreateProgramObjectARB() {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glCreateProgramObjectARB());
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CREATE_PROGRAM_OBJECT_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCreateProgramObjectARB()");
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glCreateProgramObjectARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            int programObj = callI(__functionAddress);
+            GlObjects.shaderObjectCreated(programObj, 0);
+            return programObj;
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glAttachObjectARB ] ---
 
@@ -261,7 +464,27 @@ public class ARBShaderObjects {
      * @param containerObj the container object
      * @param obj          the object to attach
      */
-    public static native void glAttachObjectARB(@NativeType("GLhandleARB") int containerObj, @NativeType("GLhandleARB") int obj);
+    public static void glAttachObjectARB(@NativeType("GLhandleARB") int containerObj, @NativeType("GLhandleARB") int obj) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_ATTACH_OBJECT_ARB, 2 * Integer.BYTES).putInt(containerObj).putInt(obj);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_ATTACH_OBJECT_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glAttachObjectARB(II)", containerObj, obj);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glAttachObjectARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(containerObj, obj, __functionAddress);
+            ProgramBinaryCache.attached(containerObj, obj);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glLinkProgramARB ] ---
 
@@ -280,7 +503,33 @@ public class ARBShaderObjects {
      *
      * @param programObj the program object to link
      */
-    public static native void glLinkProgramARB(@NativeType("GLhandleARB") int programObj);
+    public static void glLinkProgramARB(@NativeType("GLhandleARB") int programObj) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_LINK_PROGRAM_ARB, Integer.BYTES).putInt(programObj);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LINK_PROGRAM_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLinkProgramARB(I)", programObj);
+            }
+            OpaqueCalls.before();
+            long __waiting = ShaderCompilation.waiting();
+            if (!ProgramBinaryCache.loadProgram(programObj)) {
+                long __functionAddress = GL.getICD().glLinkProgramARB;
+                if (CHECKS) {
+                    check(__functionAddress);
+                }
+                callV(programObj, __functionAddress);
+                ProgramBinaryCache.linked(programObj);
+                ShaderCompilation.linked(programObj);
+            }
+            ShaderCompilation.waited(__waiting);
+            UniformCache.programLinked(programObj);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glUseProgramObjectARB ] ---
 
@@ -300,7 +549,28 @@ public class ARBShaderObjects {
      *
      * @param programObj the program object to use
      */
-    public static native void glUseProgramObjectARB(@NativeType("GLhandleARB") int programObj);
+    public static void glUseProgramObjectARB(@NativeType("GLhandleARB") int programObj) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_USE_PROGRAM_OBJECT_ARB, Integer.BYTES).putInt(programObj);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_USE_PROGRAM_OBJECT_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUseProgramObjectARB(I)", programObj);
+            }
+            OpaqueCalls.before();
+            ShaderCompilation.beforeUse(programObj);
+            long __functionAddress = GL.getICD().glUseProgramObjectARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(programObj, __functionAddress);
+            UniformCache.useProgram(programObj);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glValidateProgramARB ] ---
 
@@ -321,7 +591,26 @@ public class ARBShaderObjects {
      *
      * @param programObj the program object to validate
      */
-    public static native void glValidateProgramARB(@NativeType("GLhandleARB") int programObj);
+    public static void glValidateProgramARB(@NativeType("GLhandleARB") int programObj) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VALIDATE_PROGRAM_ARB, Integer.BYTES).putInt(programObj);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VALIDATE_PROGRAM_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glValidateProgramARB(I)", programObj);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glValidateProgramARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(programObj, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glUniform1fARB ] ---
 
@@ -331,7 +620,29 @@ public class ARBShaderObjects {
      * @param location the uniform variable location
      * @param v0       the uniform x value
      */
-    public static native void glUniform1fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0);
+    public static void glUniform1fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_UNIFORM1F_ARB, Integer.BYTES + Float.BYTES).putInt(location).putFloat(v0);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM1F_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform1fARB(IF)", location, v0);
+            }
+            if (!UniformCache.uniform(location, UniformCache.FLOAT, v0)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform1fARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glUniform2fARB ] ---
 
@@ -342,7 +653,29 @@ public class ARBShaderObjects {
      * @param v0       the uniform x value
      * @param v1       the uniform y value
      */
-    public static native void glUniform2fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1);
+    public static void glUniform2fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_UNIFORM2F_ARB, Integer.BYTES + 2 * Float.BYTES).putInt(location).putFloat(v0).putFloat(v1);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM2F_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform2fARB(IFF)", location, v0, v1);
+            }
+            if (!UniformCache.uniform(location, UniformCache.FLOAT, v0, v1)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform2fARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, v1, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glUniform3fARB ] ---
 
@@ -354,7 +687,29 @@ public class ARBShaderObjects {
      * @param v1       the uniform y value
      * @param v2       the uniform z value
      */
-    public static native void glUniform3fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2);
+    public static void glUniform3fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_UNIFORM3F_ARB, Integer.BYTES + 3 * Float.BYTES).putInt(location).putFloat(v0).putFloat(v1).putFloat(v2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM3F_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform3fARB(IFFF)", location, v0, v1, v2);
+            }
+            if (!UniformCache.uniform(location, UniformCache.FLOAT, v0, v1, v2)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform3fARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, v1, v2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glUniform4fARB ] ---
 
@@ -367,7 +722,29 @@ public class ARBShaderObjects {
      * @param v2       the uniform z value
      * @param v3       the uniform w value
      */
-    public static native void glUniform4fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2, @NativeType("GLfloat") float v3);
+    public static void glUniform4fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2, @NativeType("GLfloat") float v3) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_UNIFORM4F_ARB, Integer.BYTES + 4 * Float.BYTES).putInt(location).putFloat(v0).putFloat(v1).putFloat(v2).putFloat(v3);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM4F_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform4fARB(IFFFF)", location, v0, v1, v2, v3);
+            }
+            if (!UniformCache.uniform(location, UniformCache.FLOAT, v0, v1, v2, v3)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform4fARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, v1, v2, v3, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glUniform1iARB ] ---
 
@@ -377,7 +754,29 @@ public class ARBShaderObjects {
      * @param location the uniform variable location
      * @param v0       the uniform x value
      */
-    public static native void glUniform1iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0);
+    public static void glUniform1iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_UNIFORM1I_ARB, 2 * Integer.BYTES).putInt(location).putInt(v0);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM1I_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform1iARB(II)", location, v0);
+            }
+            if (!UniformCache.uniform(location, UniformCache.INT, v0)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform1iARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glUniform2iARB ] ---
 
@@ -388,7 +787,29 @@ public class ARBShaderObjects {
      * @param v0       the uniform x value
      * @param v1       the uniform y value
      */
-    public static native void glUniform2iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1);
+    public static void glUniform2iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_UNIFORM2I_ARB, 3 * Integer.BYTES).putInt(location).putInt(v0).putInt(v1);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM2I_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform2iARB(III)", location, v0, v1);
+            }
+            if (!UniformCache.uniform(location, UniformCache.INT, v0, v1)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform2iARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, v1, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glUniform3iARB ] ---
 
@@ -400,7 +821,29 @@ public class ARBShaderObjects {
      * @param v1       the uniform y value
      * @param v2       the uniform z value
      */
-    public static native void glUniform3iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1, @NativeType("GLint") int v2);
+    public static void glUniform3iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1, @NativeType("GLint") int v2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_UNIFORM3I_ARB, 4 * Integer.BYTES).putInt(location).putInt(v0).putInt(v1).putInt(v2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM3I_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform3iARB(IIII)", location, v0, v1, v2);
+            }
+            if (!UniformCache.uniform(location, UniformCache.INT, v0, v1, v2)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform3iARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, v1, v2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glUniform4iARB ] ---
 
@@ -413,7 +856,29 @@ public class ARBShaderObjects {
      * @param v2       the uniform z value
      * @param v3       the uniform w value
      */
-    public static native void glUniform4iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1, @NativeType("GLint") int v2, @NativeType("GLint") int v3);
+    public static void glUniform4iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1, @NativeType("GLint") int v2, @NativeType("GLint") int v3) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_UNIFORM4I_ARB, 5 * Integer.BYTES).putInt(location).putInt(v0).putInt(v1).putInt(v2).putInt(v3);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM4I_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform4iARB(IIIII)", location, v0, v1, v2, v3);
+            }
+            if (!UniformCache.uniform(location, UniformCache.INT, v0, v1, v2, v3)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform4iARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, v1, v2, v3, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glUniform1fvARB ] ---
 
@@ -422,7 +887,29 @@ public class ARBShaderObjects {
      *
      * @param count the number of float values to load
      */
-    public static native void nglUniform1fvARB(int location, int count, long value);
+    public static void nglUniform1fvARB(int location, int count, long value) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglUniform1fvARB(location, count, value));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_UNIFORM1FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglUniform1fvARB(IIP)", location, count, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.FLOAT, 1, count, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform1fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Loads floating-point values {@code count} times into a uniform location defined as an array of float values.
@@ -431,7 +918,21 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform1fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniform1fvARB(location, value.remaining(), memAddress(value));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM1FV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM1FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform1fvARB(If)", location, value);
+            }
+            nglUniform1fvARB(location, value.remaining(), memAddress(value));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glUniform2fvARB ] ---
@@ -441,7 +942,29 @@ public class ARBShaderObjects {
      *
      * @param count the number of vec2 vectors to load
      */
-    public static native void nglUniform2fvARB(int location, int count, long value);
+    public static void nglUniform2fvARB(int location, int count, long value) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglUniform2fvARB(location, count, value));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_UNIFORM2FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglUniform2fvARB(IIP)", location, count, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.FLOAT, 2, count, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform2fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Loads floating-point values {@code count} times into a uniform location defined as an array of vec2 vectors.
@@ -450,7 +973,21 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform2fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniform2fvARB(location, value.remaining() >> 1, memAddress(value));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM2FV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM2FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform2fvARB(If)", location, value);
+            }
+            nglUniform2fvARB(location, value.remaining() >> 1, memAddress(value));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glUniform3fvARB ] ---
@@ -460,7 +997,29 @@ public class ARBShaderObjects {
      *
      * @param count the number of vec3 vectors to load
      */
-    public static native void nglUniform3fvARB(int location, int count, long value);
+    public static void nglUniform3fvARB(int location, int count, long value) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglUniform3fvARB(location, count, value));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_UNIFORM3FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglUniform3fvARB(IIP)", location, count, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.FLOAT, 3, count, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform3fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Loads floating-point values {@code count} times into a uniform location defined as an array of vec3 vectors.
@@ -469,7 +1028,21 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform3fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniform3fvARB(location, value.remaining() / 3, memAddress(value));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM3FV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM3FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform3fvARB(If)", location, value);
+            }
+            nglUniform3fvARB(location, value.remaining() / 3, memAddress(value));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glUniform4fvARB ] ---
@@ -479,7 +1052,29 @@ public class ARBShaderObjects {
      *
      * @param count the number of vec4 vectors to load
      */
-    public static native void nglUniform4fvARB(int location, int count, long value);
+    public static void nglUniform4fvARB(int location, int count, long value) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglUniform4fvARB(location, count, value));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_UNIFORM4FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglUniform4fvARB(IIP)", location, count, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.FLOAT, 4, count, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform4fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Loads floating-point values {@code count} times into a uniform location defined as an array of vec4 vectors.
@@ -488,7 +1083,21 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform4fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniform4fvARB(location, value.remaining() >> 2, memAddress(value));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM4FV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM4FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform4fvARB(If)", location, value);
+            }
+            nglUniform4fvARB(location, value.remaining() >> 2, memAddress(value));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glUniform1ivARB ] ---
@@ -498,7 +1107,29 @@ public class ARBShaderObjects {
      *
      * @param count the number of integer values to load
      */
-    public static native void nglUniform1ivARB(int location, int count, long value);
+    public static void nglUniform1ivARB(int location, int count, long value) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglUniform1ivARB(location, count, value));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_UNIFORM1IV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglUniform1ivARB(IIP)", location, count, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.INT, 1, count, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform1ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Loads integer values {@code count} times into a uniform location defined as an array of integer values.
@@ -507,7 +1138,21 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform1ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
-        nglUniform1ivARB(location, value.remaining(), memAddress(value));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM1IV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM1IV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform1ivARB(Ii)", location, value);
+            }
+            nglUniform1ivARB(location, value.remaining(), memAddress(value));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glUniform2ivARB ] ---
@@ -517,7 +1162,29 @@ public class ARBShaderObjects {
      *
      * @param count the number of ivec2 vectors to load
      */
-    public static native void nglUniform2ivARB(int location, int count, long value);
+    public static void nglUniform2ivARB(int location, int count, long value) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglUniform2ivARB(location, count, value));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_UNIFORM2IV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglUniform2ivARB(IIP)", location, count, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.INT, 2, count, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform2ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Loads integer values {@code count} times into a uniform location defined as an array of ivec2 vectors.
@@ -526,7 +1193,21 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform2ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
-        nglUniform2ivARB(location, value.remaining() >> 1, memAddress(value));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM2IV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM2IV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform2ivARB(Ii)", location, value);
+            }
+            nglUniform2ivARB(location, value.remaining() >> 1, memAddress(value));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glUniform3ivARB ] ---
@@ -536,7 +1217,29 @@ public class ARBShaderObjects {
      *
      * @param count the number of ivec3 vectors to load
      */
-    public static native void nglUniform3ivARB(int location, int count, long value);
+    public static void nglUniform3ivARB(int location, int count, long value) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglUniform3ivARB(location, count, value));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_UNIFORM3IV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglUniform3ivARB(IIP)", location, count, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.INT, 3, count, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform3ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Loads integer values {@code count} times into a uniform location defined as an array of ivec3 vectors.
@@ -545,7 +1248,21 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform3ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
-        nglUniform3ivARB(location, value.remaining() / 3, memAddress(value));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM3IV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM3IV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform3ivARB(Ii)", location, value);
+            }
+            nglUniform3ivARB(location, value.remaining() / 3, memAddress(value));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glUniform4ivARB ] ---
@@ -555,7 +1272,29 @@ public class ARBShaderObjects {
      *
      * @param count the number of ivec4 vectors to load
      */
-    public static native void nglUniform4ivARB(int location, int count, long value);
+    public static void nglUniform4ivARB(int location, int count, long value) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglUniform4ivARB(location, count, value));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_UNIFORM4IV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglUniform4ivARB(IIP)", location, count, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.INT, 4, count, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform4ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Loads integer values {@code count} times into a uniform location defined as an array of ivec4 vectors.
@@ -564,7 +1303,21 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform4ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
-        nglUniform4ivARB(location, value.remaining() >> 2, memAddress(value));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM4IV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM4IV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform4ivARB(Ii)", location, value);
+            }
+            nglUniform4ivARB(location, value.remaining() >> 2, memAddress(value));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glUniformMatrix2fvARB ] ---
@@ -574,7 +1327,29 @@ public class ARBShaderObjects {
      *
      * @param count the number of 2x2 matrices to load
      */
-    public static native void nglUniformMatrix2fvARB(int location, int count, boolean transpose, long value);
+    public static void nglUniformMatrix2fvARB(int location, int count, boolean transpose, long value) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglUniformMatrix2fvARB(location, count, transpose, value));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_UNIFORM_MATRIX2FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglUniformMatrix2fvARB(IIZP)", location, count, transpose, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.matrix(transpose), 4, count, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniformMatrix2fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, transpose, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Loads a 2x2 matrix of floating-point values {@code count} times into a uniform location defined as a matrix or an array of matrices.
@@ -584,7 +1359,21 @@ public class ARBShaderObjects {
      * @param value     the matrix values to load
      */
     public static void glUniformMatrix2fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniformMatrix2fvARB(location, value.remaining() >> 2, transpose, memAddress(value));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM_MATRIX2FV_ARB, Integer.BYTES + Byte.BYTES + RenderThread.bytes(value));
+            __command.putInt(location).put((byte) (transpose ? 1 : 0));
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM_MATRIX2FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniformMatrix2fvARB(IZf)", location, transpose, value);
+            }
+            nglUniformMatrix2fvARB(location, value.remaining() >> 2, transpose, memAddress(value));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glUniformMatrix3fvARB ] ---
@@ -594,7 +1383,29 @@ public class ARBShaderObjects {
      *
      * @param count the number of 3x3 matrices to load
      */
-    public static native void nglUniformMatrix3fvARB(int location, int count, boolean transpose, long value);
+    public static void nglUniformMatrix3fvARB(int location, int count, boolean transpose, long value) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglUniformMatrix3fvARB(location, count, transpose, value));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_UNIFORM_MATRIX3FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglUniformMatrix3fvARB(IIZP)", location, count, transpose, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.matrix(transpose), 9, count, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniformMatrix3fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, transpose, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Loads a 3x3 matrix of floating-point values {@code count} times into a uniform location defined as a matrix or an array of matrices.
@@ -604,7 +1415,21 @@ public class ARBShaderObjects {
      * @param value     the matrix values to load
      */
     public static void glUniformMatrix3fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniformMatrix3fvARB(location, value.remaining() / 9, transpose, memAddress(value));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM_MATRIX3FV_ARB, Integer.BYTES + Byte.BYTES + RenderThread.bytes(value));
+            __command.putInt(location).put((byte) (transpose ? 1 : 0));
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM_MATRIX3FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniformMatrix3fvARB(IZf)", location, transpose, value);
+            }
+            nglUniformMatrix3fvARB(location, value.remaining() / 9, transpose, memAddress(value));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glUniformMatrix4fvARB ] ---
@@ -614,7 +1439,29 @@ public class ARBShaderObjects {
      *
      * @param count the number of 4x4 matrices to load
      */
-    public static native void nglUniformMatrix4fvARB(int location, int count, boolean transpose, long value);
+    public static void nglUniformMatrix4fvARB(int location, int count, boolean transpose, long value) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglUniformMatrix4fvARB(location, count, transpose, value));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_UNIFORM_MATRIX4FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglUniformMatrix4fvARB(IIZP)", location, count, transpose, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.matrix(transpose), 16, count, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniformMatrix4fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, transpose, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Loads a 4x4 matrix of floating-point values {@code count} times into a uniform location defined as a matrix or an array of matrices.
@@ -624,13 +1471,56 @@ public class ARBShaderObjects {
      * @param value     the matrix values to load
      */
     public static void glUniformMatrix4fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniformMatrix4fvARB(location, value.remaining() >> 4, transpose, memAddress(value));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM_MATRIX4FV_ARB, Integer.BYTES + Byte.BYTES + RenderThread.bytes(value));
+            __command.putInt(location).put((byte) (transpose ? 1 : 0));
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM_MATRIX4FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniformMatrix4fvARB(IZf)", location, transpose, value);
+            }
+            nglUniformMatrix4fvARB(location, value.remaining() >> 4, transpose, memAddress(value));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetObjectParameterfvARB ] ---
 
     /** Unsafe version of: {@link #glGetObjectParameterfvARB GetObjectParameterfvARB} */
-    public static native void nglGetObjectParameterfvARB(int obj, int pname, long params);
+    public static void nglGetObjectParameterfvARB(int obj, int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetObjectParameterfvARB(obj, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_OBJECT_PARAMETERFV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetObjectParameterfvARB(IIP)", obj, pname, params);
+            }
+            if (ProgramBinaryCache.answersParameter(obj, pname)) {
+                memPutFloat(params, ProgramBinaryCache.parameter(pname));
+                return;
+            }
+            if (ShaderCompilation.answersParameter(obj, pname)) {
+                memPutFloat(params, ShaderCompilation.parameter(pname));
+                return;
+            }
+            OpaqueCalls.before();
+            long __waiting = ShaderCompilation.waiting();
+            long __functionAddress = GL.getICD().glGetObjectParameterfvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(obj, pname, params, __functionAddress);
+            ShaderCompilation.waited(__waiting);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns object specific parameter values.
@@ -640,16 +1530,57 @@ public class ARBShaderObjects {
      * @param params a buffer in which to return the parameter value
      */
     public static void glGetObjectParameterfvARB(@NativeType("GLhandleARB") int obj, @NativeType("GLenum") int pname, @NativeType("GLfloat *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetObjectParameterfvARB(obj, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_OBJECT_PARAMETERFV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetObjectParameterfvARB(IIf)", obj, pname, params);
+            }
+            if (CHECKS) {
+                check(params, 1);
+            }
+            nglGetObjectParameterfvARB(obj, pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetObjectParameterfvARB(obj, pname, memAddress(params));
     }
 
     // --- [ glGetObjectParameterivARB ] ---
 
     /** Unsafe version of: {@link #glGetObjectParameterivARB GetObjectParameterivARB} */
-    public static native void nglGetObjectParameterivARB(int obj, int pname, long params);
+    public static void nglGetObjectParameterivARB(int obj, int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetObjectParameterivARB(obj, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_OBJECT_PARAMETERIV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetObjectParameterivARB(IIP)", obj, pname, params);
+            }
+            if (ProgramBinaryCache.answersParameter(obj, pname)) {
+                memPutInt(params, ProgramBinaryCache.parameter(pname));
+                return;
+            }
+            if (ShaderCompilation.answersParameter(obj, pname)) {
+                memPutInt(params, ShaderCompilation.parameter(pname));
+                return;
+            }
+            OpaqueCalls.before();
+            long __waiting = ShaderCompilation.waiting();
+            long __functionAddress = GL.getICD().glGetObjectParameterivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(obj, pname, params, __functionAddress);
+            ShaderCompilation.waited(__waiting);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns object specific parameter values.
@@ -659,10 +1590,22 @@ public class ARBShaderObjects {
      * @param params a buffer in which to return the parameter value
      */
     public static void glGetObjectParameterivARB(@NativeType("GLhandleARB") int obj, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetObjectParameterivARB(obj, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_OBJECT_PARAMETERIV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetObjectParameterivARB(IIi)", obj, pname, params);
+            }
+            if (CHECKS) {
+                check(params, 1);
+            }
+            nglGetObjectParameterivARB(obj, pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetObjectParameterivARB(obj, pname, memAddress(params));
     }
 
     /**
@@ -673,13 +1616,24 @@ public class ARBShaderObjects {
      */
     @NativeType("void")
     public static int glGetObjectParameteriARB(@NativeType("GLhandleARB") int obj, @NativeType("GLenum") int pname) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetObjectParameteriARB(obj, pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_OBJECT_PARAMETERI_ARB);
         try {
-            IntBuffer params = stack.callocInt(1);
-            nglGetObjectParameterivARB(obj, pname, memAddress(params));
-            return params.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetObjectParameteriARB(II)", obj, pname);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                IntBuffer params = stack.callocInt(1);
+                nglGetObjectParameterivARB(obj, pname, memAddress(params));
+                return params.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
@@ -690,7 +1644,35 @@ public class ARBShaderObjects {
      *
      * @param maxLength the maximum number of characters the GL is allowed to write into {@code infoLog}
      */
-    public static native void nglGetInfoLogARB(int obj, int maxLength, long length, long infoLog);
+    public static void nglGetInfoLogARB(int obj, int maxLength, long length, long infoLog) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetInfoLogARB(obj, maxLength, length, infoLog));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_INFO_LOG_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetInfoLogARB(IIPP)", obj, maxLength, length, infoLog);
+            }
+            if (ProgramBinaryCache.answersInfoLog(obj) || ShaderCompilation.answersInfoLog(obj)) {
+                if (length != NULL) {
+                    memPutInt(length, 0);
+                }
+                if (maxLength > 0) {
+                    memPutByte(infoLog, (byte) 0);
+                }
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetInfoLogARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPPV(obj, maxLength, length, infoLog, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * A string that contains information about the last link or validation attempt and last compilation attempt are kept per program or shader object. This
@@ -712,10 +1694,22 @@ public class ARBShaderObjects {
      * @param infoLog a buffer in which to return the info log
      */
     public static void glGetInfoLogARB(@NativeType("GLhandleARB") int obj, @NativeType("GLsizei *") IntBuffer length, @NativeType("GLcharARB *") ByteBuffer infoLog) {
-        if (CHECKS) {
-            checkSafe(length, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetInfoLogARB(obj, length, infoLog));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_INFO_LOG_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetInfoLogARB(Iib)", obj, length, infoLog);
+            }
+            if (CHECKS) {
+                checkSafe(length, 1);
+            }
+            nglGetInfoLogARB(obj, infoLog.remaining(), memAddressSafe(length), memAddress(infoLog));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetInfoLogARB(obj, infoLog.remaining(), memAddressSafe(length), memAddress(infoLog));
     }
 
     /**
@@ -737,15 +1731,26 @@ public class ARBShaderObjects {
      */
     @NativeType("void")
     public static String glGetInfoLogARB(@NativeType("GLhandleARB") int obj, @NativeType("GLsizei") int maxLength) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
-        ByteBuffer infoLog = memAlloc(maxLength);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetInfoLogARB(obj, maxLength));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_INFO_LOG_ARB);
         try {
-            IntBuffer length = stack.ints(0);
-            nglGetInfoLogARB(obj, maxLength, memAddress(length), memAddress(infoLog));
-            return memUTF8(infoLog, length.get(0));
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetInfoLogARB(II)", obj, maxLength);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            ByteBuffer infoLog = memAlloc(maxLength);
+            try {
+                IntBuffer length = stack.ints(0);
+                nglGetInfoLogARB(obj, maxLength, memAddress(length), memAddress(infoLog));
+                return memUTF8(infoLog, length.get(0));
+            } finally {
+                memFree(infoLog);
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            memFree(infoLog);
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
@@ -767,7 +1772,18 @@ public class ARBShaderObjects {
      */
     @NativeType("void")
     public static String glGetInfoLogARB(@NativeType("GLhandleARB") int obj) {
-        return glGetInfoLogARB(obj, glGetObjectParameteriARB(obj, GL_OBJECT_INFO_LOG_LENGTH_ARB));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetInfoLogARB(obj));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_INFO_LOG_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetInfoLogARB(I)", obj);
+            }
+            return glGetInfoLogARB(obj, glGetObjectParameteriARB(obj, GL_OBJECT_INFO_LOG_LENGTH_ARB));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetAttachedObjectsARB ] ---
@@ -777,7 +1793,26 @@ public class ARBShaderObjects {
      *
      * @param maxCount the maximum number of handles the GL is allowed to write into {@code obj}
      */
-    public static native void nglGetAttachedObjectsARB(int containerObj, int maxCount, long count, long obj);
+    public static void nglGetAttachedObjectsARB(int containerObj, int maxCount, long count, long obj) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetAttachedObjectsARB(containerObj, maxCount, count, obj));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_ATTACHED_OBJECTS_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetAttachedObjectsARB(IIPP)", containerObj, maxCount, count, obj);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetAttachedObjectsARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPPV(containerObj, maxCount, count, obj, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns the handles of objects attached to {@code containerObj} in {@code obj}. . The number of objects attached to {@code containerObj} is given by
@@ -789,16 +1824,46 @@ public class ARBShaderObjects {
      * @param obj          a buffer in which to return the attached object handles
      */
     public static void glGetAttachedObjectsARB(@NativeType("GLhandleARB") int containerObj, @NativeType("GLsizei *") IntBuffer count, @NativeType("GLhandleARB *") IntBuffer obj) {
-        if (CHECKS) {
-            checkSafe(count, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetAttachedObjectsARB(containerObj, count, obj));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_ATTACHED_OBJECTS_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetAttachedObjectsARB(Iii)", containerObj, count, obj);
+            }
+            if (CHECKS) {
+                checkSafe(count, 1);
+            }
+            nglGetAttachedObjectsARB(containerObj, obj.remaining(), memAddressSafe(count), memAddress(obj));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetAttachedObjectsARB(containerObj, obj.remaining(), memAddressSafe(count), memAddress(obj));
     }
 
     // --- [ glGetUniformLocationARB ] ---
 
     /** Unsafe version of: {@link #glGetUniformLocationARB GetUniformLocationARB} */
-    public static native int nglGetUniformLocationARB(int programObj, long name);
+    public static int nglGetUniformLocationARB(int programObj, long name) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> nglGetUniformLocationARB(programObj, name));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_UNIFORM_LOCATION_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetUniformLocationARB(IP)", programObj, name);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetUniformLocationARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            return callPI(programObj, name, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns the location of uniform variable {@code name}. {@code name} has to be a null terminated string, without white space. The value of -1 will be
@@ -818,10 +1883,31 @@ public class ARBShaderObjects {
      */
     @NativeType("GLint")
     public static int glGetUniformLocationARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLcharARB const *") ByteBuffer name) {
-        if (CHECKS) {
-            checkNT1(name);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetUniformLocationARB(programObj, name));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_UNIFORM_LOCATION_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetUniformLocationARB(Ib)", programObj, name);
+            }
+            if (CHECKS) {
+                checkNT1(name);
+            }
+            if (!UniformCache.ENABLED) {
+                return nglGetUniformLocationARB(programObj, memAddress(name));
+            }
+            String decoded = memUTF8(memAddress(name));
+            Integer cached = UniformCache.location(programObj, decoded);
+            if (cached != null) {
+                return cached;
+            }
+            int location = nglGetUniformLocationARB(programObj, memAddress(name));
+            UniformCache.locationFound(programObj, decoded, location);
+            return location;
+        } finally {
+            CallProfiler.exit(__start);
         }
-        return nglGetUniformLocationARB(programObj, memAddress(name));
     }
 
     /**
@@ -842,13 +1928,30 @@ public class ARBShaderObjects {
      */
     @NativeType("GLint")
     public static int glGetUniformLocationARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLcharARB const *") CharSequence name) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetUniformLocationARB(programObj, name));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_UNIFORM_LOCATION_ARB);
         try {
-            stack.nUTF8(name, true);
-            long nameEncoded = stack.getPointerAddress();
-            return nglGetUniformLocationARB(programObj, nameEncoded);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetUniformLocationARB(IC)", programObj, name);
+            }
+            Integer cached = UniformCache.location(programObj, name);
+            if (cached != null) {
+                return cached;
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                stack.nUTF8(name, true);
+                long nameEncoded = stack.getPointerAddress();
+                int location = nglGetUniformLocationARB(programObj, nameEncoded);
+                UniformCache.locationFound(programObj, name, location);
+                return location;
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
@@ -859,7 +1962,26 @@ public class ARBShaderObjects {
      *
      * @param maxLength the maximum number of characters the GL is allowed to write into {@code name}.
      */
-    public static native void nglGetActiveUniformARB(int programObj, int index, int maxLength, long length, long size, long type, long name);
+    public static void nglGetActiveUniformARB(int programObj, int index, int maxLength, long length, long size, long type, long name) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetActiveUniformARB(programObj, index, maxLength, length, size, type, name));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_ACTIVE_UNIFORM_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetActiveUniformARB(IIIPPPP)", programObj, index, maxLength, length, size, type, name);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetActiveUniformARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPPPPV(programObj, index, maxLength, length, size, type, name, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Determines which of the declared uniform variables are active and their sizes and types.
@@ -894,12 +2016,24 @@ public class ARBShaderObjects {
      * @param name       a buffer in which to return the uniform name
      */
     public static void glGetActiveUniformARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLuint") int index, @NativeType("GLsizei *") IntBuffer length, @NativeType("GLint *") IntBuffer size, @NativeType("GLenum *") IntBuffer type, @NativeType("GLcharARB *") ByteBuffer name) {
-        if (CHECKS) {
-            checkSafe(length, 1);
-            check(size, 1);
-            check(type, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetActiveUniformARB(programObj, index, length, size, type, name));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_ACTIVE_UNIFORM_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetActiveUniformARB(IIiiib)", programObj, index, length, size, type, name);
+            }
+            if (CHECKS) {
+                checkSafe(length, 1);
+                check(size, 1);
+                check(type, 1);
+            }
+            nglGetActiveUniformARB(programObj, index, name.remaining(), memAddressSafe(length), memAddress(size), memAddress(type), memAddress(name));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetActiveUniformARB(programObj, index, name.remaining(), memAddressSafe(length), memAddress(size), memAddress(type), memAddress(name));
     }
 
     /**
@@ -934,18 +2068,29 @@ public class ARBShaderObjects {
      */
     @NativeType("void")
     public static String glGetActiveUniformARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLuint") int index, @NativeType("GLsizei") int maxLength, @NativeType("GLint *") IntBuffer size, @NativeType("GLenum *") IntBuffer type) {
-        if (CHECKS) {
-            check(size, 1);
-            check(type, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetActiveUniformARB(programObj, index, maxLength, size, type));
         }
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_ACTIVE_UNIFORM_ARB);
         try {
-            IntBuffer length = stack.ints(0);
-            ByteBuffer name = stack.malloc(maxLength);
-            nglGetActiveUniformARB(programObj, index, maxLength, memAddress(length), memAddress(size), memAddress(type), memAddress(name));
-            return memUTF8(name, length.get(0));
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetActiveUniformARB(IIIii)", programObj, index, maxLength, size, type);
+            }
+            if (CHECKS) {
+                check(size, 1);
+                check(type, 1);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                IntBuffer length = stack.ints(0);
+                ByteBuffer name = stack.malloc(maxLength);
+                nglGetActiveUniformARB(programObj, index, maxLength, memAddress(length), memAddress(size), memAddress(type), memAddress(name));
+                return memUTF8(name, length.get(0));
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
@@ -980,13 +2125,43 @@ public class ARBShaderObjects {
      */
     @NativeType("void")
     public static String glGetActiveUniformARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLuint") int index, @NativeType("GLint *") IntBuffer size, @NativeType("GLenum *") IntBuffer type) {
-        return glGetActiveUniformARB(programObj, index, glGetObjectParameteriARB(programObj, GL_OBJECT_ACTIVE_UNIFORM_MAX_LENGTH_ARB), size, type);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetActiveUniformARB(programObj, index, size, type));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_ACTIVE_UNIFORM_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetActiveUniformARB(IIii)", programObj, index, size, type);
+            }
+            return glGetActiveUniformARB(programObj, index, glGetObjectParameteriARB(programObj, GL_OBJECT_ACTIVE_UNIFORM_MAX_LENGTH_ARB), size, type);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetUniformfvARB ] ---
 
     /** Unsafe version of: {@link #glGetUniformfvARB GetUniformfvARB} */
-    public static native void nglGetUniformfvARB(int programObj, int location, long params);
+    public static void nglGetUniformfvARB(int programObj, int location, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetUniformfvARB(programObj, location, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_UNIFORMFV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetUniformfvARB(IIP)", programObj, location, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetUniformfvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(programObj, location, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns the floating-point value or values of a uniform.
@@ -996,10 +2171,22 @@ public class ARBShaderObjects {
      * @param params     a buffer in which to return the uniform values
      */
     public static void glGetUniformfvARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLint") int location, @NativeType("GLfloat *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetUniformfvARB(programObj, location, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_UNIFORMFV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetUniformfvARB(IIf)", programObj, location, params);
+            }
+            if (CHECKS) {
+                check(params, 1);
+            }
+            nglGetUniformfvARB(programObj, location, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetUniformfvARB(programObj, location, memAddress(params));
     }
 
     /**
@@ -1010,20 +2197,50 @@ public class ARBShaderObjects {
      */
     @NativeType("void")
     public static float glGetUniformfARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLint") int location) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetUniformfARB(programObj, location));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_UNIFORMF_ARB);
         try {
-            FloatBuffer params = stack.callocFloat(1);
-            nglGetUniformfvARB(programObj, location, memAddress(params));
-            return params.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetUniformfARB(II)", programObj, location);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                FloatBuffer params = stack.callocFloat(1);
+                nglGetUniformfvARB(programObj, location, memAddress(params));
+                return params.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
     // --- [ glGetUniformivARB ] ---
 
     /** Unsafe version of: {@link #glGetUniformivARB GetUniformivARB} */
-    public static native void nglGetUniformivARB(int programObj, int location, long params);
+    public static void nglGetUniformivARB(int programObj, int location, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetUniformivARB(programObj, location, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_UNIFORMIV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetUniformivARB(IIP)", programObj, location, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetUniformivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(programObj, location, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns the integer value or values of a uniform.
@@ -1033,10 +2250,22 @@ public class ARBShaderObjects {
      * @param params     a buffer in which to return the uniform values
      */
     public static void glGetUniformivARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLint") int location, @NativeType("GLint *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetUniformivARB(programObj, location, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_UNIFORMIV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetUniformivARB(IIi)", programObj, location, params);
+            }
+            if (CHECKS) {
+                check(params, 1);
+            }
+            nglGetUniformivARB(programObj, location, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetUniformivARB(programObj, location, memAddress(params));
     }
 
     /**
@@ -1047,13 +2276,24 @@ public class ARBShaderObjects {
      */
     @NativeType("void")
     public static int glGetUniformiARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLint") int location) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetUniformiARB(programObj, location));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_UNIFORMI_ARB);
         try {
-            IntBuffer params = stack.callocInt(1);
-            nglGetUniformivARB(programObj, location, memAddress(params));
-            return params.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetUniformiARB(II)", programObj, location);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                IntBuffer params = stack.callocInt(1);
+                nglGetUniformivARB(programObj, location, memAddress(params));
+                return params.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
@@ -1064,7 +2304,26 @@ public class ARBShaderObjects {
      *
      * @param maxLength the maximum number of characters the GL is allowed to write into {@code source}
      */
-    public static native void nglGetShaderSourceARB(int obj, int maxLength, long length, long source);
+    public static void nglGetShaderSourceARB(int obj, int maxLength, long length, long source) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetShaderSourceARB(obj, maxLength, length, source));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_SHADER_SOURCE_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetShaderSourceARB(IIPP)", obj, maxLength, length, source);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetShaderSourceARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPPV(obj, maxLength, length, source, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns the string making up the source code for a shader object.
@@ -1079,10 +2338,22 @@ public class ARBShaderObjects {
      * @param source a buffer in which to return the shader object source
      */
     public static void glGetShaderSourceARB(@NativeType("GLhandleARB") int obj, @NativeType("GLsizei *") IntBuffer length, @NativeType("GLcharARB *") ByteBuffer source) {
-        if (CHECKS) {
-            checkSafe(length, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetShaderSourceARB(obj, length, source));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_SHADER_SOURCE_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetShaderSourceARB(Iib)", obj, length, source);
+            }
+            if (CHECKS) {
+                checkSafe(length, 1);
+            }
+            nglGetShaderSourceARB(obj, source.remaining(), memAddressSafe(length), memAddress(source));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetShaderSourceARB(obj, source.remaining(), memAddressSafe(length), memAddress(source));
     }
 
     /**
@@ -1097,15 +2368,26 @@ public class ARBShaderObjects {
      */
     @NativeType("void")
     public static String glGetShaderSourceARB(@NativeType("GLhandleARB") int obj, @NativeType("GLsizei") int maxLength) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
-        ByteBuffer source = memAlloc(maxLength);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetShaderSourceARB(obj, maxLength));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_SHADER_SOURCE_ARB);
         try {
-            IntBuffer length = stack.ints(0);
-            nglGetShaderSourceARB(obj, maxLength, memAddress(length), memAddress(source));
-            return memUTF8(source, length.get(0));
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetShaderSourceARB(II)", obj, maxLength);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            ByteBuffer source = memAlloc(maxLength);
+            try {
+                IntBuffer length = stack.ints(0);
+                nglGetShaderSourceARB(obj, maxLength, memAddress(length), memAddress(source));
+                return memUTF8(source, length.get(0));
+            } finally {
+                memFree(source);
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            memFree(source);
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
@@ -1120,207 +2402,588 @@ public class ARBShaderObjects {
      */
     @NativeType("void")
     public static String glGetShaderSourceARB(@NativeType("GLhandleARB") int obj) {
-        return glGetShaderSourceARB(obj, glGetObjectParameteriARB(obj, GL_OBJECT_SHADER_SOURCE_LENGTH_ARB));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetShaderSourceARB(obj));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_SHADER_SOURCE_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetShaderSourceARB(I)", obj);
+            }
+            return glGetShaderSourceARB(obj, glGetObjectParameteriARB(obj, GL_OBJECT_SHADER_SOURCE_LENGTH_ARB));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /** Array version of: {@link #glShaderSourceARB ShaderSourceARB} */
     public static void glShaderSourceARB(@NativeType("GLhandleARB") int shaderObj, @NativeType("GLcharARB const **") PointerBuffer string, @NativeType("GLint const *") int [] length) {
-        long __functionAddress = GL.getICD().glShaderSourceARB;
-        if (CHECKS) {
-            check(__functionAddress);
-            checkSafe(length, string.remaining());
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glShaderSourceARB(shaderObj, string, length));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_SHADER_SOURCE_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glShaderSourceARB(Iq[I)", shaderObj, string, length);
+            }
+            // through the buffer overload, as the cache reads the lengths from memory
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                glShaderSourceARB(shaderObj, string, length == null ? null : stack.ints(length));
+            } finally {
+                stack.setPointer(stackPointer);
+            }
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPPV(shaderObj, string.remaining(), memAddress(string), length, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform1fvARB Uniform1fvARB} */
     public static void glUniform1fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniform1fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM1FV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM1FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform1fvARB(I[F)", location, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.FLOAT, 1, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform1fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(location, value.length, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform2fvARB Uniform2fvARB} */
     public static void glUniform2fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniform2fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM2FV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM2FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform2fvARB(I[F)", location, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.FLOAT, 2, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform2fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length >> 1, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(location, value.length >> 1, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform3fvARB Uniform3fvARB} */
     public static void glUniform3fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniform3fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM3FV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM3FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform3fvARB(I[F)", location, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.FLOAT, 3, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform3fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length / 3, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(location, value.length / 3, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform4fvARB Uniform4fvARB} */
     public static void glUniform4fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniform4fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM4FV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM4FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform4fvARB(I[F)", location, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.FLOAT, 4, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform4fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length >> 2, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(location, value.length >> 2, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform1ivARB Uniform1ivARB} */
     public static void glUniform1ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
-        long __functionAddress = GL.getICD().glUniform1ivARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM1IV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM1IV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform1ivARB(I[I)", location, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.INT, 1, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform1ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(location, value.length, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform2ivARB Uniform2ivARB} */
     public static void glUniform2ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
-        long __functionAddress = GL.getICD().glUniform2ivARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM2IV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM2IV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform2ivARB(I[I)", location, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.INT, 2, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform2ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length >> 1, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(location, value.length >> 1, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform3ivARB Uniform3ivARB} */
     public static void glUniform3ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
-        long __functionAddress = GL.getICD().glUniform3ivARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM3IV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM3IV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform3ivARB(I[I)", location, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.INT, 3, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform3ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length / 3, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(location, value.length / 3, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform4ivARB Uniform4ivARB} */
     public static void glUniform4ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
-        long __functionAddress = GL.getICD().glUniform4ivARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM4IV_ARB, Integer.BYTES + RenderThread.bytes(value));
+            __command.putInt(location);
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM4IV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniform4ivARB(I[I)", location, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.INT, 4, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniform4ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length >> 2, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(location, value.length >> 2, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniformMatrix2fvARB UniformMatrix2fvARB} */
     public static void glUniformMatrix2fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniformMatrix2fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM_MATRIX2FV_ARB, Integer.BYTES + Byte.BYTES + RenderThread.bytes(value));
+            __command.putInt(location).put((byte) (transpose ? 1 : 0));
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM_MATRIX2FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniformMatrix2fvARB(IZ[F)", location, transpose, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.matrix(transpose), 4, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniformMatrix2fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length >> 2, transpose, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(location, value.length >> 2, transpose, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniformMatrix3fvARB UniformMatrix3fvARB} */
     public static void glUniformMatrix3fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniformMatrix3fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM_MATRIX3FV_ARB, Integer.BYTES + Byte.BYTES + RenderThread.bytes(value));
+            __command.putInt(location).put((byte) (transpose ? 1 : 0));
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM_MATRIX3FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniformMatrix3fvARB(IZ[F)", location, transpose, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.matrix(transpose), 9, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniformMatrix3fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length / 9, transpose, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(location, value.length / 9, transpose, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniformMatrix4fvARB UniformMatrix4fvARB} */
     public static void glUniformMatrix4fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniformMatrix4fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_UNIFORM_MATRIX4FV_ARB, Integer.BYTES + Byte.BYTES + RenderThread.bytes(value));
+            __command.putInt(location).put((byte) (transpose ? 1 : 0));
+            RenderThread.put(__command, value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_UNIFORM_MATRIX4FV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glUniformMatrix4fvARB(IZ[F)", location, transpose, value);
+            }
+            if (!UniformCache.uniforms(location, UniformCache.matrix(transpose), 16, value)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glUniformMatrix4fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length >> 4, transpose, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(location, value.length >> 4, transpose, value, __functionAddress);
     }
 
     /** Array version of: {@link #glGetObjectParameterfvARB GetObjectParameterfvARB} */
     public static void glGetObjectParameterfvARB(@NativeType("GLhandleARB") int obj, @NativeType("GLenum") int pname, @NativeType("GLfloat *") float[] params) {
-        long __functionAddress = GL.getICD().glGetObjectParameterfvARB;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetObjectParameterfvARB(obj, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_OBJECT_PARAMETERFV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetObjectParameterfvARB(II[F)", obj, pname, params);
+            }
+            if (ProgramBinaryCache.answersParameter(obj, pname)) {
+                params[0] = ProgramBinaryCache.parameter(pname);
+                return;
+            }
+            if (ShaderCompilation.answersParameter(obj, pname)) {
+                params[0] = ShaderCompilation.parameter(pname);
+                return;
+            }
+            OpaqueCalls.before();
+            long __waiting = ShaderCompilation.waiting();
+            long __functionAddress = GL.getICD().glGetObjectParameterfvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 1);
+            }
+            callPV(obj, pname, params, __functionAddress);
+            ShaderCompilation.waited(__waiting);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(obj, pname, params, __functionAddress);
     }
 
     /** Array version of: {@link #glGetObjectParameterivARB GetObjectParameterivARB} */
     public static void glGetObjectParameterivARB(@NativeType("GLhandleARB") int obj, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        long __functionAddress = GL.getICD().glGetObjectParameterivARB;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetObjectParameterivARB(obj, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_OBJECT_PARAMETERIV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetObjectParameterivARB(II[I)", obj, pname, params);
+            }
+            if (ProgramBinaryCache.answersParameter(obj, pname)) {
+                params[0] = ProgramBinaryCache.parameter(pname);
+                return;
+            }
+            if (ShaderCompilation.answersParameter(obj, pname)) {
+                params[0] = ShaderCompilation.parameter(pname);
+                return;
+            }
+            OpaqueCalls.before();
+            long __waiting = ShaderCompilation.waiting();
+            long __functionAddress = GL.getICD().glGetObjectParameterivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 1);
+            }
+            callPV(obj, pname, params, __functionAddress);
+            ShaderCompilation.waited(__waiting);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(obj, pname, params, __functionAddress);
     }
 
     /** Array version of: {@link #glGetInfoLogARB GetInfoLogARB} */
     public static void glGetInfoLogARB(@NativeType("GLhandleARB") int obj, @NativeType("GLsizei *") int [] length, @NativeType("GLcharARB *") ByteBuffer infoLog) {
-        long __functionAddress = GL.getICD().glGetInfoLogARB;
-        if (CHECKS) {
-            check(__functionAddress);
-            checkSafe(length, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetInfoLogARB(obj, length, infoLog));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_INFO_LOG_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetInfoLogARB(I[Ib)", obj, length, infoLog);
+            }
+            if (ProgramBinaryCache.answersInfoLog(obj) || ShaderCompilation.answersInfoLog(obj)) {
+                if (length != null) {
+                    length[0] = 0;
+                }
+                if (infoLog.hasRemaining()) {
+                    infoLog.put(infoLog.position(), (byte) 0);
+                }
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetInfoLogARB;
+            if (CHECKS) {
+                check(__functionAddress);
+                checkSafe(length, 1);
+            }
+            callPPV(obj, infoLog.remaining(), length, memAddress(infoLog), __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPPV(obj, infoLog.remaining(), length, memAddress(infoLog), __functionAddress);
     }
 
     /** Array version of: {@link #glGetAttachedObjectsARB GetAttachedObjectsARB} */
     public static void glGetAttachedObjectsARB(@NativeType("GLhandleARB") int containerObj, @NativeType("GLsizei *") int [] count, @NativeType("GLhandleARB *") int[] obj) {
-        long __functionAddress = GL.getICD().glGetAttachedObjectsARB;
-        if (CHECKS) {
-            check(__functionAddress);
-            checkSafe(count, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetAttachedObjectsARB(containerObj, count, obj));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_ATTACHED_OBJECTS_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetAttachedObjectsARB(I[I[I)", containerObj, count, obj);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetAttachedObjectsARB;
+            if (CHECKS) {
+                check(__functionAddress);
+                checkSafe(count, 1);
+            }
+            callPPV(containerObj, obj.length, count, obj, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPPV(containerObj, obj.length, count, obj, __functionAddress);
     }
 
     /** Array version of: {@link #glGetActiveUniformARB GetActiveUniformARB} */
     public static void glGetActiveUniformARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLuint") int index, @NativeType("GLsizei *") int [] length, @NativeType("GLint *") int[] size, @NativeType("GLenum *") int[] type, @NativeType("GLcharARB *") ByteBuffer name) {
-        long __functionAddress = GL.getICD().glGetActiveUniformARB;
-        if (CHECKS) {
-            check(__functionAddress);
-            checkSafe(length, 1);
-            check(size, 1);
-            check(type, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetActiveUniformARB(programObj, index, length, size, type, name));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_ACTIVE_UNIFORM_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetActiveUniformARB(II[I[I[Ib)", programObj, index, length, size, type, name);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetActiveUniformARB;
+            if (CHECKS) {
+                check(__functionAddress);
+                checkSafe(length, 1);
+                check(size, 1);
+                check(type, 1);
+            }
+            callPPPPV(programObj, index, name.remaining(), length, size, type, memAddress(name), __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPPPPV(programObj, index, name.remaining(), length, size, type, memAddress(name), __functionAddress);
     }
 
     /** Array version of: {@link #glGetUniformfvARB GetUniformfvARB} */
     public static void glGetUniformfvARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLint") int location, @NativeType("GLfloat *") float[] params) {
-        long __functionAddress = GL.getICD().glGetUniformfvARB;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetUniformfvARB(programObj, location, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_UNIFORMFV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetUniformfvARB(II[F)", programObj, location, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetUniformfvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 1);
+            }
+            callPV(programObj, location, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(programObj, location, params, __functionAddress);
     }
 
     /** Array version of: {@link #glGetUniformivARB GetUniformivARB} */
     public static void glGetUniformivARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLint") int location, @NativeType("GLint *") int[] params) {
-        long __functionAddress = GL.getICD().glGetUniformivARB;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetUniformivARB(programObj, location, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_UNIFORMIV_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetUniformivARB(II[I)", programObj, location, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetUniformivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 1);
+            }
+            callPV(programObj, location, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(programObj, location, params, __functionAddress);
     }
 
     /** Array version of: {@link #glGetShaderSourceARB GetShaderSourceARB} */
     public static void glGetShaderSourceARB(@NativeType("GLhandleARB") int obj, @NativeType("GLsizei *") int [] length, @NativeType("GLcharARB *") ByteBuffer source) {
-        long __functionAddress = GL.getICD().glGetShaderSourceARB;
-        if (CHECKS) {
-            check(__functionAddress);
-            checkSafe(length, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetShaderSourceARB(obj, length, source));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_SHADER_SOURCE_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetShaderSourceARB(I[Ib)", obj, length, source);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetShaderSourceARB;
+            if (CHECKS) {
+                check(__functionAddress);
+                checkSafe(length, 1);
+            }
+            callPPV(obj, source.remaining(), length, memAddress(source), __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPPV(obj, source.remaining(), length, memAddress(source), __functionAddress);
     }
 
     // COMPATIBILITY EXTENSION BELOW
 
     public static void glGetObjectParameterARB(int obj, int pname, IntBuffer params) {
-        glGetObjectParameterivARB(obj, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetObjectParameterARB(obj, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_OBJECT_PARAMETER_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetObjectParameterARB(IIi)", obj, pname, params);
+            }
+            glGetObjectParameterivARB(obj, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     public static void glShaderSourceARB(int shader, ByteBuffer string) {
-        glShaderSourceARB(shader, MemoryUtil.memUTF8(string));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_SHADER_SOURCE_ARB, Integer.BYTES + RenderThread.bytes(string));
+            __command.putInt(shader);
+            RenderThread.put(__command, string);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_SHADER_SOURCE_ARB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glShaderSourceARB(Ib)", shader, string);
+            }
+            glShaderSourceARB(shader, MemoryUtil.memUTF8(string));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 }
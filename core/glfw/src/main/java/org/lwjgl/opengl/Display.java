@@ -31,9 +31,33 @@
  */
 package org.lwjgl.opengl;
 
+import lwjglalti.gl.CallProfiler;
+import lwjglalti.gl.ClientArrayStreaming;
+import lwjglalti.gl.DisplayListEmulation;
+import lwjglalti.gl.GlObjects;
+import lwjglalti.gl.GlQueries;
+import lwjglalti.gl.GlStateCache;
+import lwjglalti.gl.GlTrace;
+import lwjglalti.gl.GlValidation;
+import lwjglalti.gl.ImmediateModeBatcher;
+import lwjglalti.gl.MatrixStacks;
+import lwjglalti.gl.ProgramBinaryCache;
+import lwjglalti.gl.RenderThread;
+import lwjglalti.gl.ShaderCompilation;
+import lwjglalti.gl.TextureCompression;
+import lwjglalti.gl.UniformCache;
+import lwjglalti.input.InputLatency;
+import lwjglalti.render.BackgroundThrottle;
+import lwjglalti.render.FrameTimings;
+import lwjglalti.render.FramesInFlight;
 import lwjglalti.render.GammaRamp;
+import lwjglalti.render.InputSampling;
 import lwjglalti.render.MonitorOperation;
+import lwjglalti.render.NullBackend;
+import lwjglalti.render.OffscreenBackend;
 import lwjglalti.render.Properties;
+import lwjglalti.render.Screenshots;
+import lwjglalti.render.StartupTimeline;
 import lwjglalti.render.WindowOperation;
 import lwjglalti.render.WindowOperation.WindowDefinition;
 import org.lwjgl.BufferUtils;
@@ -43,6 +67,7 @@ import org.lwjgl.glfw.GLFWErrorCallback;
 import org.lwjgl.glfw.GLFWErrorCallbackI;
 import org.lwjgl.glfw.GLFWGammaRamp;
 import org.lwjgl.glfw.GLFWVidMode;
+import org.lwjgl.input.Controllers;
 import org.lwjgl.input.Keyboard;
 import org.lwjgl.input.Mouse;
 import org.slf4j.Logger;
@@ -71,12 +96,12 @@ import static org.lwjgl.glfw.GLFW.glfwGetVideoMode;
 import static org.lwjgl.glfw.GLFW.glfwGetVideoModes;
 import static org.lwjgl.glfw.GLFW.glfwInit;
 import static org.lwjgl.glfw.GLFW.glfwMakeContextCurrent;
-import static org.lwjgl.glfw.GLFW.glfwPollEvents;
 import static org.lwjgl.glfw.GLFW.glfwSetCharCallback;
 import static org.lwjgl.glfw.GLFW.glfwSetCursorPosCallback;
 import static org.lwjgl.glfw.GLFW.glfwSetErrorCallback;
 import static org.lwjgl.glfw.GLFW.glfwSetGammaRamp;
 import static org.lwjgl.glfw.GLFW.glfwSetKeyCallback;
+import static org.lwjgl.glfw.GLFW.glfwSetMonitorCallback;
 import static org.lwjgl.glfw.GLFW.glfwSetMouseButtonCallback;
 import static org.lwjgl.glfw.GLFW.glfwSetScrollCallback;
 import static org.lwjgl.glfw.GLFW.glfwSetWindowFocusCallback;
@@ -95,11 +120,21 @@ public class Display {
 
     // altitude relies on static display init: eg, altitude queries the monitor mode statically
     static {
+        StartupTimeline.mark("display class load");
         glfwSetErrorCallback(errorLogger());
+        NullBackend.initHints();
+        OffscreenBackend.initHints();
         boolean initSuccess = glfwInit();
         if (!initSuccess) {
             throw new IllegalStateException("GLFW init failed");
         }
+        StartupTimeline.mark("glfw init");
+        // jinput enumeration is slow, and independent of glfw: overlap it with window and context creation
+        if (Properties.controllerPrefetch()) {
+            Controllers.prefetch();
+        }
+        // the list of video modes changes with the monitors
+        glfwSetMonitorCallback((monitor, event) -> availableDisplayModes = null);
     }
 
     // there is probably no good reason to cache the monitor mode this way, and will probably lead to issues if the
@@ -109,7 +144,17 @@ public class Display {
             .orElse(glfwGetPrimaryMonitor());
     private static final DisplayMode INITIAL_PRIMARY_MONITOR_DISPLAY_MODE =
             DisplayMode.adapt(glfwGetVideoMode(INITIAL_PRIMARY_MONITOR));
-    private static final GammaRamp INITIAL_GAMMA_RAMP = GammaRamp.createFrom(glfwGetGammaRamp(INITIAL_PRIMARY_MONITOR));
+
+    static {
+        StartupTimeline.mark("monitor video mode");
+    }
+
+    // the gamma ramp is only needed once altitude asks for gamma correction, which is never before the first frame:
+    // capture it lazily (glfw requires the main thread for this, so a background thread is not an option)
+    private static GammaRamp initialGammaRamp = null;
+    private static boolean initialGammaRampIsCaptured = false;
+    // the list of video modes is only needed for the options menu
+    private static DisplayMode[] availableDisplayModes = null;
 
     private static long window = NULL;
     private static boolean altitudeWantsToRecreateDisplay = false;
@@ -164,6 +209,9 @@ public class Display {
             glfwWindowHint(GLFW_STENCIL_BITS, pixelFormat.stencilBits());
         }
         glfwWindowHint(GLFW_CENTER_CURSOR, GLFW_FALSE);
+        GlValidation.windowHints();
+        NullBackend.windowHints();
+        OffscreenBackend.windowHints();
 
         WindowDefinition definition = WindowOperation.windowDefinition(
                 INITIAL_PRIMARY_MONITOR,
@@ -177,15 +225,46 @@ public class Display {
             WindowOperation.setWindowIcons(window, icons);
         }
         triggerUpdatesAfterModeChange();
-        glfwMakeContextCurrent(window);
-        if (vsync != null) {
-            WindowOperation.setVsync(vsync);
-        }
-        GL.createCapabilities();
+        // the thread that makes the context current owns it: see `RenderThread`
+        RenderThread.start();
+        RenderThread.run(() -> createContext(definition));
         glfwShowWindow(window);
         focused = true;
     }
 
+    private static void createContext(WindowDefinition definition) {
+        if (NullBackend.ENABLED) {
+            // the window has no context, and the stubs of the null backend stand in for gl
+            StartupTimeline.mark("window created");
+            NullBackend.createCapabilities(definition.width(), definition.height());
+        } else {
+            glfwMakeContextCurrent(window);
+            if (vsync != null) {
+                WindowOperation.setVsync(vsync);
+            }
+            StartupTimeline.mark("window created");
+            GL.createCapabilities();
+        }
+        CallProfiler.contextCreated();
+        GlValidation.contextCreated();
+        GlStateCache.invalidate();
+        ImmediateModeBatcher.contextCreated();
+        DisplayListEmulation.contextCreated();
+        MatrixStacks.contextCreated();
+        GlQueries.contextCreated();
+        UniformCache.contextCreated();
+        ProgramBinaryCache.contextCreated();
+        ShaderCompilation.contextCreated();
+        ClientArrayStreaming.contextCreated();
+        GlObjects.contextCreated();
+        TextureCompression.contextCreated();
+        Screenshots.contextCreated();
+        FrameTimings.contextCreated();
+        FramesInFlight.contextCreated();
+        GlTrace.contextCreated(window);
+        StartupTimeline.mark("gl capabilities");
+    }
+
     private static void triggerUpdatesAfterModeChange() {
         if (windowMode == WindowMode.WINDOWED_FULLSCREEN) {
             IntBuffer x = BufferUtils.createIntBuffer(1);
@@ -204,15 +283,32 @@ public class Display {
             altitudeWantsToRecreateDisplay = false;
             return;
         }
+        RenderThread.run(Display::destroyContext);
+        RenderThread.stop();
         if (windowIsCreated()) {
             Callbacks.glfwFreeCallbacks(window);
             glfwDestroyWindow(window);
             window = NULL;
         }
+        GlValidation.destroyed();
+        // the monitor callback is set through glfw, which must still be initialized; the error callback is not
+        freeIfPresent(glfwSetMonitorCallback(null));
         glfwTerminate();
         freeIfPresent(glfwSetErrorCallback(null));
     }
 
+    private static void destroyContext() {
+        GlQueries.logStatistics();
+        ProgramBinaryCache.logStatistics();
+        TextureCompression.logStatistics();
+        GlObjects.logLeaks();
+        NullBackend.logStatistics();
+        Screenshots.destroyed();
+        FrameTimings.destroyed();
+        FramesInFlight.destroyed();
+        GlTrace.destroyed();
+    }
+
     public static boolean isCreated() {
         boolean isCreated = windowIsCreated();
         // this is a major hack to prevent altitude from forcibly recreating the window on every display-mode change:
@@ -242,9 +338,10 @@ public class Display {
         glfwSetWindowFocusCallback(window, (__, focused) ->
                 setFocused(focused)
         );
-        glfwSetKeyCallback(window, (__, key, scancode, action, mods) ->
-                Keyboard.registerGlfwKeyEvent(key, action, mods)
-        );
+        glfwSetKeyCallback(window, (__, key, scancode, action, mods) -> {
+            Screenshots.keyEvent(key, action);
+            Keyboard.registerGlfwKeyEvent(key, action, mods);
+        });
         glfwSetCharCallback(window, (__, codepoint) ->
                 Keyboard.registerGlfwCharEvent(codepoint)
         );
@@ -358,7 +455,7 @@ public class Display {
         }
         Display.vsync = vsync;
         if (windowIsCreated()) {
-            WindowOperation.setVsync(vsync);
+            RenderThread.run(() -> WindowOperation.setVsync(vsync));
         }
     }
 
@@ -373,9 +470,14 @@ public class Display {
     }
 
     private static void updateGamma() {
-        // if `INITIAL_GAMMA_RAMP` is null, getting the gamma ramp failed, and the gamma system therefore is unsupported
         // if `desiredGamma` is null, no gamma preference has been sent by the client at all
-        if (INITIAL_GAMMA_RAMP == null || Display.desiredGamma == null) {
+        if (Display.desiredGamma == null) {
+            return;
+        }
+        // if the initial gamma ramp is null, getting the gamma ramp failed, and the gamma system therefore is
+        // unsupported
+        GammaRamp initialGammaRamp = initialGammaRamp();
+        if (initialGammaRamp == null) {
             return;
         }
         // this condition is whether altitude considers the current mode to be exclusive fullscreen. we could support
@@ -391,16 +493,25 @@ public class Display {
         if (Display.actualGamma != null) {
             MonitorOperation.setGammaRampFromLwjgl2Gamma(
                     INITIAL_PRIMARY_MONITOR,
-                    INITIAL_GAMMA_RAMP.size(),
+                    initialGammaRamp.size(),
                     Display.actualGamma
             );
         } else {
-            try (GLFWGammaRamp ramp = INITIAL_GAMMA_RAMP.allocateAsGlfwRamp()) {
+            try (GLFWGammaRamp ramp = initialGammaRamp.allocateAsGlfwRamp()) {
                 glfwSetGammaRamp(INITIAL_PRIMARY_MONITOR, ramp);
             }
         }
     }
 
+    // this must be called before the gamma ramp is first changed, which `updateGamma` guarantees
+    private static GammaRamp initialGammaRamp() {
+        if (!initialGammaRampIsCaptured) {
+            initialGammaRamp = GammaRamp.createFrom(glfwGetGammaRamp(INITIAL_PRIMARY_MONITOR));
+            initialGammaRampIsCaptured = true;
+        }
+        return initialGammaRamp;
+    }
+
     public static DisplayMode getDisplayMode() {
         return displayMode;
     }
@@ -423,6 +534,14 @@ public class Display {
     }
 
     public static DisplayMode[] getAvailableDisplayModes() throws LWJGLException {
+        // cached until a monitor is connected or disconnected
+        if (availableDisplayModes == null) {
+            availableDisplayModes = queryAvailableDisplayModes();
+        }
+        return availableDisplayModes.clone();
+    }
+
+    private static DisplayMode[] queryAvailableDisplayModes() throws LWJGLException {
         GLFWVidMode.Buffer vidModes = glfwGetVideoModes(INITIAL_PRIMARY_MONITOR);
         if (vidModes == null) {
             throw new LWJGLException("Failed to get available display modes");
@@ -438,12 +557,54 @@ public class Display {
     // STATE
 
     public static void processMessages() {
-        glfwPollEvents();
+        // the poll may be delayed to just before the frame must start, see `InputSampling`, and a background window is
+        // throttled here, if configured: see `BackgroundThrottle`
+        InputSampling.awaitPoll(refreshRate(), Boolean.TRUE.equals(vsync) && focused && !iconified);
+        BackgroundThrottle.pollEvents(() -> iconified, () -> focused);
+    }
+
+    private static int refreshRate() {
+        // windows that are not exclusive fullscreen are displayed at the rate of the monitor
+        return windowMode == WindowMode.EXCLUSIVE_FULLSCREEN && displayMode != null
+                ? displayMode.getFrequency()
+                : getDesktopDisplayMode().getFrequency();
     }
 
     @SuppressWarnings("RedundantThrows") // lwjgl2 api signature retained for posterity
     public static void swapBuffers() throws LWJGLException {
-        glfwSwapBuffers(window);
+        InputSampling.frameFinished();
+        // with a render thread, the frame is finished and swapped there, while the game goes on with the next one
+        RenderThread.frame(Display::finishFrame);
+        BackgroundThrottle.frameSwapped();
+        InputSampling.frameSwapped();
+        InputLatency.frameSwapped();
+    }
+
+    private static void finishFrame() {
+        GlTrace.frameFinished();
+        ImmediateModeBatcher.flush();
+        FrameTimings.frameFinished();
+        Screenshots.frameFinished(window);
+        OffscreenBackend.frameFinished(window);
+        if (NullBackend.ENABLED) {
+            NullBackend.frameSwapped();
+        } else {
+            glfwSwapBuffers(window);
+        }
+        GlTrace.frameSwapped();
+        FramesInFlight.frameSwapped();
+        FrameTimings.frameSwapped();
+        GlStateCache.endFrame();
+        ImmediateModeBatcher.endFrame();
+        GlQueries.endFrame();
+        UniformCache.endFrame();
+        ClientArrayStreaming.endFrame();
+        GlObjects.endFrame();
+        TextureCompression.endFrame();
+        CallProfiler.endFrame();
+        GlValidation.endFrame();
+        ShaderCompilation.markStartup();
+        StartupTimeline.completeAtFirstFrame();
     }
 
     public static boolean isCloseRequested() {
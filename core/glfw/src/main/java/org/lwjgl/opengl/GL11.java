@@ -2,9 +2,24 @@
  * Copyright LWJGL. All rights reserved.
  * License terms: https://www.lwjgl.org/license
  * MACHINE GENERATED FILE, DO NOT EDIT
+ * Generated by core/generator/GenerateAdapters.java from the template of GL11
  */
 package org.lwjgl.opengl;
 
+import lwjglalti.gl.CallProfiler;
+import lwjglalti.gl.ClientArrayStreaming;
+import lwjglalti.gl.DisplayListEmulation;
+import lwjglalti.gl.GlEntryPoint;
+import lwjglalti.gl.GlObjects;
+import lwjglalti.gl.GlQueries;
+import lwjglalti.gl.GlStateCache;
+import lwjglalti.gl.GlTrace;
+import lwjglalti.gl.ImmediateModeBatcher;
+import lwjglalti.gl.MatrixStacks;
+import lwjglalti.gl.OpaqueCalls;
+import lwjglalti.gl.RenderThread;
+import lwjglalti.gl.TextureCompression;
+import lwjglalti.gl.UniformCache;
 import org.lwjgl.PointerBuffer;
 import org.lwjgl.system.MemoryStack;
 import org.lwjgl.system.NativeType;
@@ -19,10 +34,20 @@ import static org.lwjgl.glfw.GLFW.glfwGetFramebufferSize;
 import static org.lwjgl.system.Checks.CHECKS;
 import static org.lwjgl.system.Checks.check;
 import static org.lwjgl.system.Checks.checkSafe;
+import static org.lwjgl.system.JNI.callBBBBV;
+import static org.lwjgl.system.JNI.callBBBV;
+import static org.lwjgl.system.JNI.callI;
 import static org.lwjgl.system.JNI.callPPV;
 import static org.lwjgl.system.JNI.callPPZ;
 import static org.lwjgl.system.JNI.callPV;
+import static org.lwjgl.system.JNI.callSSSSV;
+import static org.lwjgl.system.JNI.callSSSV;
+import static org.lwjgl.system.JNI.callSSV;
+import static org.lwjgl.system.JNI.callSV;
+import static org.lwjgl.system.JNI.callV;
+import static org.lwjgl.system.JNI.callZ;
 import static org.lwjgl.system.MemoryStack.stackGet;
+import static org.lwjgl.system.MemoryUtil.NULL;
 import static org.lwjgl.system.MemoryUtil.memAddress;
 import static org.lwjgl.system.MemoryUtil.memAddressSafe;
 
@@ -729,7 +754,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glEnable">Reference Page</a>
      */
     public static void glEnable(@NativeType("GLenum") int target) {
-        GL11C.glEnable(target);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_ENABLE, Integer.BYTES).putInt(target);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_ENABLE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEnable(I)", target);
+            }
+            if (DisplayListEmulation.enable(target)) {
+                return;
+            }
+            if (GlStateCache.enable(target)) {
+                OpaqueCalls.before();
+                GL11C.glEnable(target);
+                ImmediateModeBatcher.invalidateCapability(target);
+            }
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glDisable ] ---
@@ -742,7 +786,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDisable">Reference Page</a>
      */
     public static void glDisable(@NativeType("GLenum") int target) {
-        GL11C.glDisable(target);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_DISABLE, Integer.BYTES).putInt(target);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DISABLE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDisable(I)", target);
+            }
+            if (DisplayListEmulation.disable(target)) {
+                return;
+            }
+            if (GlStateCache.disable(target)) {
+                OpaqueCalls.before();
+                GL11C.glDisable(target);
+                ImmediateModeBatcher.invalidateCapability(target);
+            }
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glAccum ] ---
@@ -756,7 +819,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glAccum">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glAccum(@NativeType("GLenum") int op, @NativeType("GLfloat") float value);
+    public static void glAccum(@NativeType("GLenum") int op, @NativeType("GLfloat") float value) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_ACCUM, Integer.BYTES + Float.BYTES).putInt(op).putFloat(value);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_ACCUM);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glAccum(IF)", op, value);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glAccum;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(op, value, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glAlphaFunc ] ---
 
@@ -770,7 +852,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glAlphaFunc">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glAlphaFunc(@NativeType("GLenum") int func, @NativeType("GLfloat") float ref);
+    public static void glAlphaFunc(@NativeType("GLenum") int func, @NativeType("GLfloat") float ref) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_ALPHA_FUNC, Integer.BYTES + Float.BYTES).putInt(func).putFloat(ref);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_ALPHA_FUNC);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glAlphaFunc(IF)", func, ref);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glAlphaFunc;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(func, ref, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glAreTexturesResident ] ---
 
@@ -779,7 +880,25 @@ public class GL11 {
      *
      * @param n the number of texture objects in {@code textures}
      */
-    public static native boolean nglAreTexturesResident(int n, long textures, long residences);
+    public static boolean nglAreTexturesResident(int n, long textures, long residences) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> nglAreTexturesResident(n, textures, residences));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_ARE_TEXTURES_RESIDENT);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglAreTexturesResident(IPP)", n, textures, residences);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glAreTexturesResident;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            return callPPZ(n, textures, residences, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns {@link #GL_TRUE TRUE} if all of the texture objects named in textures are resident, or if the implementation does not distinguish a working set. If
@@ -793,10 +912,21 @@ public class GL11 {
      */
     @NativeType("GLboolean")
     public static boolean glAreTexturesResident(@NativeType("GLuint const *") IntBuffer textures, @NativeType("GLboolean *") ByteBuffer residences) {
-        if (CHECKS) {
-            check(residences, textures.remaining());
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glAreTexturesResident(textures, residences));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_ARE_TEXTURES_RESIDENT);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glAreTexturesResident(ib)", textures, residences);
+            }
+            if (CHECKS) {
+                check(residences, textures.remaining());
+            }
+            return nglAreTexturesResident(textures.remaining(), memAddress(textures), memAddress(residences));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        return nglAreTexturesResident(textures.remaining(), memAddress(textures), memAddress(residences));
     }
 
     /**
@@ -810,15 +940,26 @@ public class GL11 {
      */
     @NativeType("GLboolean")
     public static boolean glAreTexturesResident(@NativeType("GLuint const *") int texture, @NativeType("GLboolean *") ByteBuffer residences) {
-        if (CHECKS) {
-            check(residences, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glAreTexturesResident(texture, residences));
         }
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        long __start = CallProfiler.enter(GlEntryPoint.GL_ARE_TEXTURES_RESIDENT);
         try {
-            IntBuffer textures = stack.ints(texture);
-            return nglAreTexturesResident(1, memAddress(textures), memAddress(residences));
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glAreTexturesResident(Ib)", texture, residences);
+            }
+            if (CHECKS) {
+                check(residences, 1);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                IntBuffer textures = stack.ints(texture);
+                return nglAreTexturesResident(1, memAddress(textures), memAddress(residences));
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
@@ -831,7 +972,28 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glArrayElement">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glArrayElement(@NativeType("GLint") int i);
+    public static void glArrayElement(@NativeType("GLint") int i) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glArrayElement(i));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_ARRAY_ELEMENT);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glArrayElement(I)", i);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glArrayElement;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(i, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glBegin ] ---
 
@@ -842,7 +1004,32 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glBegin">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glBegin(@NativeType("GLenum") int mode);
+    public static void glBegin(@NativeType("GLenum") int mode) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_BEGIN, Integer.BYTES).putInt(mode);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_BEGIN);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glBegin(I)", mode);
+            }
+            if (DisplayListEmulation.begin(mode)) {
+                return;
+            }
+            if (ImmediateModeBatcher.begin(mode)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glBegin;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(mode, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glBindTexture ] ---
 
@@ -859,13 +1046,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glBindTexture">Reference Page</a>
      */
     public static void glBindTexture(@NativeType("GLenum") int target, @NativeType("GLuint") int texture) {
-        GL11C.glBindTexture(target, texture);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_BIND_TEXTURE, 2 * Integer.BYTES).putInt(target).putInt(texture);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_BIND_TEXTURE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glBindTexture(II)", target, texture);
+            }
+            if (DisplayListEmulation.bindTexture(target, texture)) {
+                return;
+            }
+            if (GlStateCache.bindTexture(target, texture)) {
+                OpaqueCalls.before();
+                GL11C.glBindTexture(target, texture);
+            }
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glBitmap ] ---
 
     /** Unsafe version of: {@link #glBitmap Bitmap} */
-    public static native void nglBitmap(int w, int h, float xOrig, float yOrig, float xInc, float yInc, long data);
+    public static void nglBitmap(int w, int h, float xOrig, float yOrig, float xInc, float yInc, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglBitmap(w, h, xOrig, yOrig, xInc, yInc, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_BITMAP);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglBitmap(IIFFFFP)", w, h, xOrig, yOrig, xInc, yInc, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glBitmap;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(w, h, xOrig, yOrig, xInc, yInc, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Sents a bitmap to the GL. Bitmaps are rectangles of zeros and ones specifying a particular pattern of fragments to be produced. Each of these fragments
@@ -882,10 +1106,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glBitmap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glBitmap(@NativeType("GLsizei") int w, @NativeType("GLsizei") int h, @NativeType("GLfloat") float xOrig, @NativeType("GLfloat") float yOrig, @NativeType("GLfloat") float xInc, @NativeType("GLfloat") float yInc, @NativeType("GLubyte const *") ByteBuffer data) {
-        if (CHECKS) {
-            checkSafe(data, ((w + 7) >> 3) * h);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_BITMAP, 2 * Integer.BYTES + 4 * Float.BYTES + RenderThread.bytes(data));
+            __command.putInt(w).putInt(h).putFloat(xOrig).putFloat(yOrig).putFloat(xInc).putFloat(yInc);
+            RenderThread.put(__command, data);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_BITMAP);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glBitmap(IIFFFFb)", w, h, xOrig, yOrig, xInc, yInc, data);
+            }
+            if (CHECKS) {
+                checkSafe(data, ((w + 7) >> 3) * h);
+            }
+            nglBitmap(w, h, xOrig, yOrig, xInc, yInc, memAddressSafe(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglBitmap(w, h, xOrig, yOrig, xInc, yInc, memAddressSafe(data));
     }
 
     /**
@@ -903,7 +1141,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glBitmap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glBitmap(@NativeType("GLsizei") int w, @NativeType("GLsizei") int h, @NativeType("GLfloat") float xOrig, @NativeType("GLfloat") float yOrig, @NativeType("GLfloat") float xInc, @NativeType("GLfloat") float yInc, @NativeType("GLubyte const *") long data) {
-        nglBitmap(w, h, xOrig, yOrig, xInc, yInc, data);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glBitmap(w, h, xOrig, yOrig, xInc, yInc, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_BITMAP);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glBitmap(IIFFFFP)", w, h, xOrig, yOrig, xInc, yInc, data);
+            }
+            nglBitmap(w, h, xOrig, yOrig, xInc, yInc, data);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glBlendFunc ] ---
@@ -917,7 +1167,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glBlendFunc">Reference Page</a>
      */
     public static void glBlendFunc(@NativeType("GLenum") int sfactor, @NativeType("GLenum") int dfactor) {
-        GL11C.glBlendFunc(sfactor, dfactor);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_BLEND_FUNC, 2 * Integer.BYTES).putInt(sfactor).putInt(dfactor);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_BLEND_FUNC);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glBlendFunc(II)", sfactor, dfactor);
+            }
+            if (DisplayListEmulation.blendFunc(sfactor, dfactor)) {
+                return;
+            }
+            if (GlStateCache.blendFunc(sfactor, dfactor)) {
+                OpaqueCalls.before();
+                GL11C.glBlendFunc(sfactor, dfactor);
+            }
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glCallList ] ---
@@ -929,7 +1197,33 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glCallList">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glCallList(@NativeType("GLuint") int list);
+    public static void glCallList(@NativeType("GLuint") int list) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_CALL_LIST, Integer.BYTES).putInt(list);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CALL_LIST);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCallList(I)", list);
+            }
+            if (DisplayListEmulation.callList(list)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glCallList;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(list, __functionAddress);
+            GlStateCache.invalidate();
+            ImmediateModeBatcher.invalidate();
+            MatrixStacks.listCalled(list);
+            UniformCache.listsCalled();
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glCallLists ] ---
 
@@ -939,7 +1233,33 @@ public class GL11 {
      * @param n    the number of display lists to be called
      * @param type the data type of each element in {@code lists}. One of:<br><table><tr><td>{@link #GL_BYTE BYTE}</td><td>{@link #GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link #GL_SHORT SHORT}</td><td>{@link #GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link #GL_INT INT}</td><td>{@link #GL_UNSIGNED_INT UNSIGNED_INT}</td><td>{@link #GL_FLOAT FLOAT}</td><td>{@link #GL_2_BYTES 2_BYTES}</td><td>{@link #GL_3_BYTES 3_BYTES}</td><td>{@link #GL_4_BYTES 4_BYTES}</td></tr></table>
      */
-    public static native void nglCallLists(int n, int type, long lists);
+    public static void nglCallLists(int n, int type, long lists) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglCallLists(n, type, lists));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_CALL_LISTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglCallLists(IIP)", n, type, lists);
+            }
+            if (DisplayListEmulation.callLists(n, type, lists)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glCallLists;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(n, type, lists, __functionAddress);
+            GlStateCache.invalidate();
+            ImmediateModeBatcher.invalidate();
+            MatrixStacks.listsCalled();
+            UniformCache.listsCalled();
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Provides an efficient means for executing a number of display lists.
@@ -950,7 +1270,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glCallLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glCallLists(@NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer lists) {
-        nglCallLists(lists.remaining() / GLChecks.typeToBytes(type), type, memAddress(lists));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_CALL_LISTS, Integer.BYTES + RenderThread.bytes(lists));
+            __command.putInt(type);
+            RenderThread.put(__command, lists);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CALL_LISTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCallLists(Ib)", type, lists);
+            }
+            nglCallLists(lists.remaining() / GLChecks.typeToBytes(type), type, memAddress(lists));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -961,7 +1295,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glCallLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glCallLists(@NativeType("void const *") ByteBuffer lists) {
-        nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(lists));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_CALL_LISTS, Integer.BYTES + RenderThread.bytes(lists));
+            __command.putInt(GL_UNSIGNED_BYTE);
+            RenderThread.put(__command, lists);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CALL_LISTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCallLists(b)", lists);
+            }
+            nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(lists));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -972,7 +1320,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glCallLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glCallLists(@NativeType("void const *") ShortBuffer lists) {
-        nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(lists));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_CALL_LISTS, Integer.BYTES + RenderThread.bytes(lists));
+            __command.putInt(GL_UNSIGNED_SHORT);
+            RenderThread.put(__command, lists);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CALL_LISTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCallLists(s)", lists);
+            }
+            nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(lists));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -983,7 +1345,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glCallLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glCallLists(@NativeType("void const *") IntBuffer lists) {
-        nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_INT, memAddress(lists));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_CALL_LISTS, Integer.BYTES + RenderThread.bytes(lists));
+            __command.putInt(GL_UNSIGNED_INT);
+            RenderThread.put(__command, lists);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CALL_LISTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCallLists(i)", lists);
+            }
+            nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_INT, memAddress(lists));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glClear ] ---
@@ -997,7 +1373,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glClear">Reference Page</a>
      */
     public static void glClear(@NativeType("GLbitfield") int mask) {
-        GL11C.glClear(mask);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_CLEAR, Integer.BYTES).putInt(mask);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CLEAR);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glClear(I)", mask);
+            }
+            OpaqueCalls.before();
+            GL11C.glClear(mask);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glClearAccum ] ---
@@ -1012,7 +1401,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glClearAccum">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glClearAccum(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue, @NativeType("GLfloat") float alpha);
+    public static void glClearAccum(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue, @NativeType("GLfloat") float alpha) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_CLEAR_ACCUM, 4 * Float.BYTES).putFloat(red).putFloat(green).putFloat(blue).putFloat(alpha);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CLEAR_ACCUM);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glClearAccum(FFFF)", red, green, blue, alpha);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glClearAccum;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glClearColor ] ---
 
@@ -1027,7 +1435,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glClearColor">Reference Page</a>
      */
     public static void glClearColor(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue, @NativeType("GLfloat") float alpha) {
-        GL11C.glClearColor(red, green, blue, alpha);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_CLEAR_COLOR, 4 * Float.BYTES).putFloat(red).putFloat(green).putFloat(blue).putFloat(alpha);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CLEAR_COLOR);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glClearColor(FFFF)", red, green, blue, alpha);
+            }
+            OpaqueCalls.before();
+            GL11C.glClearColor(red, green, blue, alpha);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glClearDepth ] ---
@@ -1041,7 +1462,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glClearDepth">Reference Page</a>
      */
     public static void glClearDepth(@NativeType("GLdouble") double depth) {
-        GL11C.glClearDepth(depth);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_CLEAR_DEPTH, Double.BYTES).putDouble(depth);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CLEAR_DEPTH);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glClearDepth(D)", depth);
+            }
+            OpaqueCalls.before();
+            GL11C.glClearDepth(depth);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glClearIndex ] ---
@@ -1055,7 +1489,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glClearIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glClearIndex(@NativeType("GLfloat") float index);
+    public static void glClearIndex(@NativeType("GLfloat") float index) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_CLEAR_INDEX, Float.BYTES).putFloat(index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CLEAR_INDEX);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glClearIndex(F)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glClearIndex;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glClearStencil ] ---
 
@@ -1067,13 +1520,45 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glClearStencil">Reference Page</a>
      */
     public static void glClearStencil(@NativeType("GLint") int s) {
-        GL11C.glClearStencil(s);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_CLEAR_STENCIL, Integer.BYTES).putInt(s);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CLEAR_STENCIL);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glClearStencil(I)", s);
+            }
+            OpaqueCalls.before();
+            GL11C.glClearStencil(s);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glClipPlane ] ---
 
     /** Unsafe version of: {@link #glClipPlane ClipPlane} */
-    public static native void nglClipPlane(int plane, long equation);
+    public static void nglClipPlane(int plane, long equation) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglClipPlane(plane, equation));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_CLIP_PLANE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglClipPlane(IP)", plane, equation);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glClipPlane;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(plane, equation, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Specifies a client-defined clip plane.
@@ -1088,10 +1573,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glClipPlane">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glClipPlane(@NativeType("GLenum") int plane, @NativeType("GLdouble const *") DoubleBuffer equation) {
-        if (CHECKS) {
-            check(equation, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_CLIP_PLANE, Integer.BYTES + RenderThread.bytes(equation));
+            __command.putInt(plane);
+            RenderThread.put(__command, equation);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CLIP_PLANE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glClipPlane(Id)", plane, equation);
+            }
+            if (CHECKS) {
+                check(equation, 4);
+            }
+            nglClipPlane(plane, memAddress(equation));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglClipPlane(plane, memAddress(equation));
     }
 
     // --- [ glColor3b ] ---
@@ -1105,7 +1604,28 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3b(@NativeType("GLbyte") byte red, @NativeType("GLbyte") byte green, @NativeType("GLbyte") byte blue);
+    public static void glColor3b(@NativeType("GLbyte") byte red, @NativeType("GLbyte") byte green, @NativeType("GLbyte") byte blue) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR3B, 3 * Byte.BYTES).put(red).put(green).put(blue);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3B);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3b(BBB)", red, green, blue);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3b;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callBBBV(red, green, blue, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor3s ] ---
 
@@ -1118,7 +1638,28 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3s(@NativeType("GLshort") short red, @NativeType("GLshort") short green, @NativeType("GLshort") short blue);
+    public static void glColor3s(@NativeType("GLshort") short red, @NativeType("GLshort") short green, @NativeType("GLshort") short blue) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR3S, 3 * Short.BYTES).putShort(red).putShort(green).putShort(blue);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3s(SSS)", red, green, blue);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSSV(red, green, blue, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor3i ] ---
 
@@ -1131,7 +1672,28 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3i(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue);
+    public static void glColor3i(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR3I, 3 * Integer.BYTES).putInt(red).putInt(green).putInt(blue);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3i(III)", red, green, blue);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor3f ] ---
 
@@ -1144,7 +1706,34 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3f(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue);
+    public static void glColor3f(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR3F, 3 * Float.BYTES).putFloat(red).putFloat(green).putFloat(blue);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3f(FFF)", red, green, blue);
+            }
+            if (DisplayListEmulation.color(red, green, blue, 1F)) {
+                return;
+            }
+            if (ImmediateModeBatcher.color(red, green, blue, 1F)) {
+                return;
+            }
+            if (!GlStateCache.color(red, green, blue, 1F)) {
+                return;
+            }
+            long __functionAddress = GL.getICD().glColor3f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor3d ] ---
 
@@ -1157,7 +1746,28 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3d(@NativeType("GLdouble") double red, @NativeType("GLdouble") double green, @NativeType("GLdouble") double blue);
+    public static void glColor3d(@NativeType("GLdouble") double red, @NativeType("GLdouble") double green, @NativeType("GLdouble") double blue) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR3D, 3 * Double.BYTES).putDouble(red).putDouble(green).putDouble(blue);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3d(DDD)", red, green, blue);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor3ub ] ---
 
@@ -1170,7 +1780,34 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3ub(@NativeType("GLubyte") byte red, @NativeType("GLubyte") byte green, @NativeType("GLubyte") byte blue);
+    public static void glColor3ub(@NativeType("GLubyte") byte red, @NativeType("GLubyte") byte green, @NativeType("GLubyte") byte blue) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR3UB, 3 * Byte.BYTES).put(red).put(green).put(blue);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3UB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3ub(BBB)", red, green, blue);
+            }
+            if (DisplayListEmulation.color(red, green, blue, (byte) 0xFF)) {
+                return;
+            }
+            if (ImmediateModeBatcher.color(red, green, blue, (byte) 0xFF)) {
+                return;
+            }
+            if (!GlStateCache.color(red, green, blue, (byte) 0xFF)) {
+                return;
+            }
+            long __functionAddress = GL.getICD().glColor3ub;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callBBBV(red, green, blue, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor3us ] ---
 
@@ -1183,7 +1820,28 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3us(@NativeType("GLushort") short red, @NativeType("GLushort") short green, @NativeType("GLushort") short blue);
+    public static void glColor3us(@NativeType("GLushort") short red, @NativeType("GLushort") short green, @NativeType("GLushort") short blue) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR3US, 3 * Short.BYTES).putShort(red).putShort(green).putShort(blue);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3US);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3us(SSS)", red, green, blue);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3us;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSSV(red, green, blue, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor3ui ] ---
 
@@ -1196,12 +1854,54 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3ui(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue);
+    public static void glColor3ui(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR3UI, 3 * Integer.BYTES).putInt(red).putInt(green).putInt(blue);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3UI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3ui(III)", red, green, blue);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3ui;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor3bv ] ---
 
     /** Unsafe version of: {@link #glColor3bv Color3bv} */
-    public static native void nglColor3bv(long v);
+    public static void nglColor3bv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor3bv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR3BV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor3bv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3bv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Byte pointer version of {@link #glColor3b Color3b}.
@@ -1211,16 +1911,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3bv(@NativeType("GLbyte const *") ByteBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3BV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3BV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3bv(b)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3bv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor3bv(memAddress(v));
     }
 
     // --- [ glColor3sv ] ---
 
     /** Unsafe version of: {@link #glColor3sv Color3sv} */
-    public static native void nglColor3sv(long v);
+    public static void nglColor3sv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor3sv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor3sv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3s Color3s}.
@@ -1230,16 +1964,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3sv(s)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3sv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor3sv(memAddress(v));
     }
 
     // --- [ glColor3iv ] ---
 
     /** Unsafe version of: {@link #glColor3iv Color3iv} */
-    public static native void nglColor3iv(long v);
+    public static void nglColor3iv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor3iv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor3iv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3i Color3i}.
@@ -1249,16 +2017,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3iv(i)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3iv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor3iv(memAddress(v));
     }
 
     // --- [ glColor3fv ] ---
 
     /** Unsafe version of: {@link #glColor3fv Color3fv} */
-    public static native void nglColor3fv(long v);
+    public static void nglColor3fv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor3fv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor3fv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3f Color3f}.
@@ -1268,16 +2070,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3fv(f)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3fv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor3fv(memAddress(v));
     }
 
     // --- [ glColor3dv ] ---
 
     /** Unsafe version of: {@link #glColor3dv Color3dv} */
-    public static native void nglColor3dv(long v);
+    public static void nglColor3dv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor3dv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor3dv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3d Color3d}.
@@ -1287,16 +2123,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3dv(d)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3dv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor3dv(memAddress(v));
     }
 
     // --- [ glColor3ubv ] ---
 
     /** Unsafe version of: {@link #glColor3ubv Color3ubv} */
-    public static native void nglColor3ubv(long v);
+    public static void nglColor3ubv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor3ubv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR3UBV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor3ubv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3ubv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3ub Color3ub}.
@@ -1306,16 +2176,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3ubv(@NativeType("GLubyte const *") ByteBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3UBV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3UBV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3ubv(b)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3ubv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor3ubv(memAddress(v));
     }
 
     // --- [ glColor3usv ] ---
 
     /** Unsafe version of: {@link #glColor3usv Color3usv} */
-    public static native void nglColor3usv(long v);
+    public static void nglColor3usv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor3usv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR3USV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor3usv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3usv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3us Color3us}.
@@ -1325,16 +2229,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3usv(@NativeType("GLushort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3USV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3USV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3usv(s)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3usv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor3usv(memAddress(v));
     }
 
     // --- [ glColor3uiv ] ---
 
     /** Unsafe version of: {@link #glColor3uiv Color3uiv} */
-    public static native void nglColor3uiv(long v);
+    public static void nglColor3uiv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor3uiv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR3UIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor3uiv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3uiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3ui Color3ui}.
@@ -1344,10 +2282,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3uiv(@NativeType("GLuint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3UIV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3UIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3uiv(i)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3uiv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor3uiv(memAddress(v));
     }
 
     // --- [ glColor4b ] ---
@@ -1362,7 +2313,28 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4b(@NativeType("GLbyte") byte red, @NativeType("GLbyte") byte green, @NativeType("GLbyte") byte blue, @NativeType("GLbyte") byte alpha);
+    public static void glColor4b(@NativeType("GLbyte") byte red, @NativeType("GLbyte") byte green, @NativeType("GLbyte") byte blue, @NativeType("GLbyte") byte alpha) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR4B, 4 * Byte.BYTES).put(red).put(green).put(blue).put(alpha);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4B);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4b(BBBB)", red, green, blue, alpha);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4b;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callBBBBV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor4s ] ---
 
@@ -1376,7 +2348,28 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4s(@NativeType("GLshort") short red, @NativeType("GLshort") short green, @NativeType("GLshort") short blue, @NativeType("GLshort") short alpha);
+    public static void glColor4s(@NativeType("GLshort") short red, @NativeType("GLshort") short green, @NativeType("GLshort") short blue, @NativeType("GLshort") short alpha) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR4S, 4 * Short.BYTES).putShort(red).putShort(green).putShort(blue).putShort(alpha);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4s(SSSS)", red, green, blue, alpha);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSSSV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor4i ] ---
 
@@ -1390,7 +2383,28 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4i(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue, @NativeType("GLint") int alpha);
+    public static void glColor4i(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue, @NativeType("GLint") int alpha) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR4I, 4 * Integer.BYTES).putInt(red).putInt(green).putInt(blue).putInt(alpha);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4i(IIII)", red, green, blue, alpha);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor4f ] ---
 
@@ -1404,7 +2418,34 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4f(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue, @NativeType("GLfloat") float alpha);
+    public static void glColor4f(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue, @NativeType("GLfloat") float alpha) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR4F, 4 * Float.BYTES).putFloat(red).putFloat(green).putFloat(blue).putFloat(alpha);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4f(FFFF)", red, green, blue, alpha);
+            }
+            if (DisplayListEmulation.color(red, green, blue, alpha)) {
+                return;
+            }
+            if (ImmediateModeBatcher.color(red, green, blue, alpha)) {
+                return;
+            }
+            if (!GlStateCache.color(red, green, blue, alpha)) {
+                return;
+            }
+            long __functionAddress = GL.getICD().glColor4f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor4d ] ---
 
@@ -1418,7 +2459,28 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4d(@NativeType("GLdouble") double red, @NativeType("GLdouble") double green, @NativeType("GLdouble") double blue, @NativeType("GLdouble") double alpha);
+    public static void glColor4d(@NativeType("GLdouble") double red, @NativeType("GLdouble") double green, @NativeType("GLdouble") double blue, @NativeType("GLdouble") double alpha) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR4D, 4 * Double.BYTES).putDouble(red).putDouble(green).putDouble(blue).putDouble(alpha);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4d(DDDD)", red, green, blue, alpha);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor4ub ] ---
 
@@ -1432,7 +2494,34 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4ub(@NativeType("GLubyte") byte red, @NativeType("GLubyte") byte green, @NativeType("GLubyte") byte blue, @NativeType("GLubyte") byte alpha);
+    public static void glColor4ub(@NativeType("GLubyte") byte red, @NativeType("GLubyte") byte green, @NativeType("GLubyte") byte blue, @NativeType("GLubyte") byte alpha) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR4UB, 4 * Byte.BYTES).put(red).put(green).put(blue).put(alpha);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4UB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4ub(BBBB)", red, green, blue, alpha);
+            }
+            if (DisplayListEmulation.color(red, green, blue, alpha)) {
+                return;
+            }
+            if (ImmediateModeBatcher.color(red, green, blue, alpha)) {
+                return;
+            }
+            if (!GlStateCache.color(red, green, blue, alpha)) {
+                return;
+            }
+            long __functionAddress = GL.getICD().glColor4ub;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callBBBBV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor4us ] ---
 
@@ -1446,7 +2535,28 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4us(@NativeType("GLushort") short red, @NativeType("GLushort") short green, @NativeType("GLushort") short blue, @NativeType("GLushort") short alpha);
+    public static void glColor4us(@NativeType("GLushort") short red, @NativeType("GLushort") short green, @NativeType("GLushort") short blue, @NativeType("GLushort") short alpha) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR4US, 4 * Short.BYTES).putShort(red).putShort(green).putShort(blue).putShort(alpha);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4US);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4us(SSSS)", red, green, blue, alpha);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4us;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSSSV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColor4ui ] ---
 
@@ -1460,12 +2570,54 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4ui(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue, @NativeType("GLint") int alpha);
-
+    public static void glColor4ui(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue, @NativeType("GLint") int alpha) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR4UI, 4 * Integer.BYTES).putInt(red).putInt(green).putInt(blue).putInt(alpha);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4UI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4ui(IIII)", red, green, blue, alpha);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4ui;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
+
     // --- [ glColor4bv ] ---
 
     /** Unsafe version of: {@link #glColor4bv Color4bv} */
-    public static native void nglColor4bv(long v);
+    public static void nglColor4bv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor4bv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR4BV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor4bv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4bv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4b Color4b}.
@@ -1475,16 +2627,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4bv(@NativeType("GLbyte const *") ByteBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4BV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4BV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4bv(b)", v);
+            }
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4bv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor4bv(memAddress(v));
     }
 
     // --- [ glColor4sv ] ---
 
     /** Unsafe version of: {@link #glColor4sv Color4sv} */
-    public static native void nglColor4sv(long v);
+    public static void nglColor4sv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor4sv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR4SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor4sv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4s Color4s}.
@@ -1494,16 +2680,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4sv(s)", v);
+            }
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4sv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor4sv(memAddress(v));
     }
 
     // --- [ glColor4iv ] ---
 
     /** Unsafe version of: {@link #glColor4iv Color4iv} */
-    public static native void nglColor4iv(long v);
+    public static void nglColor4iv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor4iv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR4IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor4iv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4i Color4i}.
@@ -1513,16 +2733,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4iv(i)", v);
+            }
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4iv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor4iv(memAddress(v));
     }
 
     // --- [ glColor4fv ] ---
 
     /** Unsafe version of: {@link #glColor4fv Color4fv} */
-    public static native void nglColor4fv(long v);
+    public static void nglColor4fv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor4fv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR4FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor4fv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4f Color4f}.
@@ -1532,16 +2786,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4fv(f)", v);
+            }
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4fv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor4fv(memAddress(v));
     }
 
     // --- [ glColor4dv ] ---
 
     /** Unsafe version of: {@link #glColor4dv Color4dv} */
-    public static native void nglColor4dv(long v);
+    public static void nglColor4dv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor4dv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR4DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor4dv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4d Color4d}.
@@ -1551,16 +2839,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4dv(d)", v);
+            }
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4dv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor4dv(memAddress(v));
     }
 
     // --- [ glColor4ubv ] ---
 
     /** Unsafe version of: {@link #glColor4ubv Color4ubv} */
-    public static native void nglColor4ubv(long v);
+    public static void nglColor4ubv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor4ubv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR4UBV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor4ubv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4ubv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4ub Color4ub}.
@@ -1570,16 +2892,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4ubv(@NativeType("GLubyte const *") ByteBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4UBV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4UBV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4ubv(b)", v);
+            }
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4ubv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor4ubv(memAddress(v));
     }
 
     // --- [ glColor4usv ] ---
 
     /** Unsafe version of: {@link #glColor4usv Color4usv} */
-    public static native void nglColor4usv(long v);
+    public static void nglColor4usv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor4usv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR4USV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor4usv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4usv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4us Color4us}.
@@ -1589,16 +2945,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4usv(@NativeType("GLushort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4USV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4USV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4usv(s)", v);
+            }
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4usv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor4usv(memAddress(v));
     }
 
     // --- [ glColor4uiv ] ---
 
     /** Unsafe version of: {@link #glColor4uiv Color4uiv} */
-    public static native void nglColor4uiv(long v);
+    public static void nglColor4uiv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColor4uiv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR4UIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColor4uiv(P)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4uiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4ui Color4ui}.
@@ -1608,10 +2998,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4uiv(@NativeType("GLuint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4UIV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4UIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4uiv(i)", v);
+            }
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4uiv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglColor4uiv(memAddress(v));
     }
 
     // --- [ glColorMask ] ---
@@ -1627,7 +3030,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glColorMask">Reference Page</a>
      */
     public static void glColorMask(@NativeType("GLboolean") boolean red, @NativeType("GLboolean") boolean green, @NativeType("GLboolean") boolean blue, @NativeType("GLboolean") boolean alpha) {
-        GL11C.glColorMask(red, green, blue, alpha);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR_MASK, 4 * Byte.BYTES).put((byte) (red ? 1 : 0)).put((byte) (green ? 1 : 0)).put((byte) (blue ? 1 : 0)).put((byte) (alpha ? 1 : 0));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR_MASK);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColorMask(ZZZZ)", red, green, blue, alpha);
+            }
+            OpaqueCalls.before();
+            GL11C.glColorMask(red, green, blue, alpha);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glColorMaterial ] ---
@@ -1642,12 +3058,51 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glColorMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColorMaterial(@NativeType("GLenum") int face, @NativeType("GLenum") int mode);
+    public static void glColorMaterial(@NativeType("GLenum") int face, @NativeType("GLenum") int mode) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COLOR_MATERIAL, 2 * Integer.BYTES).putInt(face).putInt(mode);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR_MATERIAL);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColorMaterial(II)", face, mode);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glColorMaterial;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(face, mode, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glColorPointer ] ---
 
     /** Unsafe version of: {@link #glColorPointer ColorPointer} */
-    public static native void nglColorPointer(int size, int type, int stride, long pointer);
+    public static void nglColorPointer(int size, int type, int stride, long pointer) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglColorPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_COLOR_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglColorPointer(IIIP)", size, type, stride, pointer);
+            }
+            ClientArrayStreaming.pointer(ClientArrayStreaming.COLOR, size, type, stride, pointer);
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glColorPointer;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(size, type, stride, pointer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Specifies the location and organization of a color array.
@@ -1660,7 +3115,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
-        nglColorPointer(size, type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glColorPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColorPointer(IIIb)", size, type, stride, pointer);
+            }
+            nglColorPointer(size, type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -1674,7 +3141,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
-        nglColorPointer(size, type, stride, pointer);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glColorPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColorPointer(IIIP)", size, type, stride, pointer);
+            }
+            nglColorPointer(size, type, stride, pointer);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -1688,7 +3167,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
-        nglColorPointer(size, type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glColorPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColorPointer(IIIs)", size, type, stride, pointer);
+            }
+            nglColorPointer(size, type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -1702,7 +3193,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
-        nglColorPointer(size, type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glColorPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColorPointer(IIIi)", size, type, stride, pointer);
+            }
+            nglColorPointer(size, type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -1716,7 +3219,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
-        nglColorPointer(size, type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glColorPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColorPointer(IIIf)", size, type, stride, pointer);
+            }
+            nglColorPointer(size, type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glCopyPixels ] ---
@@ -1732,7 +3247,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glCopyPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glCopyPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int type);
+    public static void glCopyPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int type) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COPY_PIXELS, 5 * Integer.BYTES).putInt(x).putInt(y).putInt(width).putInt(height).putInt(type);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COPY_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCopyPixels(IIIII)", x, y, width, height, type);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glCopyPixels;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, width, height, type, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glCullFace ] ---
 
@@ -1746,7 +3280,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glCullFace">Reference Page</a>
      */
     public static void glCullFace(@NativeType("GLenum") int mode) {
-        GL11C.glCullFace(mode);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_CULL_FACE, Integer.BYTES).putInt(mode);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CULL_FACE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCullFace(I)", mode);
+            }
+            OpaqueCalls.before();
+            GL11C.glCullFace(mode);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glDeleteLists ] ---
@@ -1760,7 +3307,28 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glDeleteLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glDeleteLists(@NativeType("GLuint") int list, @NativeType("GLsizei") int range);
+    public static void glDeleteLists(@NativeType("GLuint") int list, @NativeType("GLsizei") int range) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_DELETE_LISTS, 2 * Integer.BYTES).putInt(list).putInt(range);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DELETE_LISTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDeleteLists(II)", list, range);
+            }
+            DisplayListEmulation.deleteLists(list, range);
+            GlObjects.listsDeleted(list, range);
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glDeleteLists;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(list, range, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glDepthFunc ] ---
 
@@ -1772,7 +3340,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDepthFunc">Reference Page</a>
      */
     public static void glDepthFunc(@NativeType("GLenum") int func) {
-        GL11C.glDepthFunc(func);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_DEPTH_FUNC, Integer.BYTES).putInt(func);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DEPTH_FUNC);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDepthFunc(I)", func);
+            }
+            OpaqueCalls.before();
+            GL11C.glDepthFunc(func);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glDepthMask ] ---
@@ -1785,7 +3366,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDepthMask">Reference Page</a>
      */
     public static void glDepthMask(@NativeType("GLboolean") boolean flag) {
-        GL11C.glDepthMask(flag);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_DEPTH_MASK, Byte.BYTES).put((byte) (flag ? 1 : 0));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DEPTH_MASK);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDepthMask(Z)", flag);
+            }
+            OpaqueCalls.before();
+            GL11C.glDepthMask(flag);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glDepthRange ] ---
@@ -1799,7 +3393,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDepthRange">Reference Page</a>
      */
     public static void glDepthRange(@NativeType("GLdouble") double zNear, @NativeType("GLdouble") double zFar) {
-        GL11C.glDepthRange(zNear, zFar);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_DEPTH_RANGE, 2 * Double.BYTES).putDouble(zNear).putDouble(zFar);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DEPTH_RANGE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDepthRange(DD)", zNear, zFar);
+            }
+            OpaqueCalls.before();
+            GL11C.glDepthRange(zNear, zFar);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glDisableClientState ] ---
@@ -1813,7 +3420,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glDisableClientState">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glDisableClientState(@NativeType("GLenum") int cap);
+    public static void glDisableClientState(@NativeType("GLenum") int cap) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_DISABLE_CLIENT_STATE, Integer.BYTES).putInt(cap);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DISABLE_CLIENT_STATE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDisableClientState(I)", cap);
+            }
+            ClientArrayStreaming.clientState(cap, false);
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glDisableClientState;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(cap, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glDrawArrays ] ---
 
@@ -1831,7 +3458,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDrawArrays">Reference Page</a>
      */
     public static void glDrawArrays(@NativeType("GLenum") int mode, @NativeType("GLint") int first, @NativeType("GLsizei") int count) {
-        GL11C.glDrawArrays(mode, first, count);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glDrawArrays(mode, first, count));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_ARRAYS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawArrays(III)", mode, first, count);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            if (ClientArrayStreaming.drawArrays(mode, first, count)) {
+                return;
+            }
+            GL11C.glDrawArrays(mode, first, count);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glDrawBuffer ] ---
@@ -1847,7 +3492,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDrawBuffer">Reference Page</a>
      */
     public static void glDrawBuffer(@NativeType("GLenum") int buf) {
-        GL11C.glDrawBuffer(buf);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_DRAW_BUFFER, Integer.BYTES).putInt(buf);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_BUFFER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawBuffer(I)", buf);
+            }
+            OpaqueCalls.before();
+            GL11C.glDrawBuffer(buf);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glDrawElements ] ---
@@ -1859,7 +3517,25 @@ public class GL11 {
      * @param type  indicates the type of index values in {@code indices}. One of:<br><table><tr><td>{@link #GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link #GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link #GL_UNSIGNED_INT UNSIGNED_INT}</td></tr></table>
      */
     public static void nglDrawElements(int mode, int count, int type, long indices) {
-        GL11C.nglDrawElements(mode, count, type, indices);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglDrawElements(mode, count, type, indices));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_DRAW_ELEMENTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglDrawElements(IIIP)", mode, count, type, indices);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            if (ClientArrayStreaming.drawElements(mode, count, type, indices)) {
+                return;
+            }
+            GL11C.nglDrawElements(mode, count, type, indices);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -1875,7 +3551,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices) {
-        GL11C.glDrawElements(mode, count, type, indices);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glDrawElements(mode, count, type, indices));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_ELEMENTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawElements(IIIP)", mode, count, type, indices);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            if (ClientArrayStreaming.drawElements(mode, count, type, indices)) {
+                return;
+            }
+            GL11C.glDrawElements(mode, count, type, indices);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -1890,7 +3584,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices) {
-        GL11C.glDrawElements(mode, type, indices);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glDrawElements(mode, type, indices));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_ELEMENTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawElements(IIb)", mode, type, indices);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            if (ClientArrayStreaming.drawElements(mode, type, indices)) {
+                return;
+            }
+            GL11C.glDrawElements(mode, type, indices);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -1904,7 +3616,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices) {
-        GL11C.glDrawElements(mode, indices);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glDrawElements(mode, indices));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_ELEMENTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawElements(Ib)", mode, indices);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            if (ClientArrayStreaming.drawElements(mode, GL_UNSIGNED_BYTE, indices)) {
+                return;
+            }
+            GL11C.glDrawElements(mode, indices);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -1918,7 +3648,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices) {
-        GL11C.glDrawElements(mode, indices);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glDrawElements(mode, indices));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_ELEMENTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawElements(Is)", mode, indices);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            if (ClientArrayStreaming.drawElements(mode, indices.remaining(), GL_UNSIGNED_SHORT, memAddress(indices))) {
+                return;
+            }
+            GL11C.glDrawElements(mode, indices);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -1932,13 +3680,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices) {
-        GL11C.glDrawElements(mode, indices);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glDrawElements(mode, indices));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_ELEMENTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawElements(Ii)", mode, indices);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            if (ClientArrayStreaming.drawElements(mode, indices.remaining(), GL_UNSIGNED_INT, memAddress(indices))) {
+                return;
+            }
+            GL11C.glDrawElements(mode, indices);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glDrawPixels ] ---
 
     /** Unsafe version of: {@link #glDrawPixels DrawPixels} */
-    public static native void nglDrawPixels(int width, int height, int format, int type, long pixels);
+    public static void nglDrawPixels(int width, int height, int format, int type, long pixels) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglDrawPixels(width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_DRAW_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglDrawPixels(IIIIP)", width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glDrawPixels;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(width, height, format, type, pixels, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Draws a pixel rectangle to the active draw buffers.
@@ -1952,7 +3737,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
-        nglDrawPixels(width, height, format, type, memAddress(pixels));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_DRAW_PIXELS, 4 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawPixels(IIIIb)", width, height, format, type, pixels);
+            }
+            nglDrawPixels(width, height, format, type, memAddress(pixels));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -1967,7 +3766,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
-        nglDrawPixels(width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glDrawPixels(width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawPixels(IIIIP)", width, height, format, type, pixels);
+            }
+            nglDrawPixels(width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -1982,7 +3793,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
-        nglDrawPixels(width, height, format, type, memAddress(pixels));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_DRAW_PIXELS, 4 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawPixels(IIIIs)", width, height, format, type, pixels);
+            }
+            nglDrawPixels(width, height, format, type, memAddress(pixels));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -1997,7 +3822,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
-        nglDrawPixels(width, height, format, type, memAddress(pixels));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_DRAW_PIXELS, 4 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawPixels(IIIIi)", width, height, format, type, pixels);
+            }
+            nglDrawPixels(width, height, format, type, memAddress(pixels));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2012,7 +3851,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
-        nglDrawPixels(width, height, format, type, memAddress(pixels));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_DRAW_PIXELS, 4 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawPixels(IIIIf)", width, height, format, type, pixels);
+            }
+            nglDrawPixels(width, height, format, type, memAddress(pixels));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glEdgeFlag ] ---
@@ -2030,12 +3883,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glEdgeFlag">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEdgeFlag(@NativeType("GLboolean") boolean flag);
+    public static void glEdgeFlag(@NativeType("GLboolean") boolean flag) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_EDGE_FLAG, Byte.BYTES).put((byte) (flag ? 1 : 0));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EDGE_FLAG);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEdgeFlag(Z)", flag);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEdgeFlag;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(flag, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glEdgeFlagv ] ---
 
     /** Unsafe version of: {@link #glEdgeFlagv EdgeFlagv} */
-    public static native void nglEdgeFlagv(long flag);
+    public static void nglEdgeFlagv(long flag) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglEdgeFlagv(flag));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_EDGE_FLAGV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglEdgeFlagv(P)", flag);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEdgeFlagv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(flag, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glEdgeFlag EdgeFlag}.
@@ -2045,16 +3936,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glEdgeFlagv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEdgeFlagv(@NativeType("GLboolean const *") ByteBuffer flag) {
-        if (CHECKS) {
-            check(flag, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_EDGE_FLAGV, RenderThread.bytes(flag));
+            RenderThread.put(__command, flag);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EDGE_FLAGV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEdgeFlagv(b)", flag);
+            }
+            if (CHECKS) {
+                check(flag, 1);
+            }
+            nglEdgeFlagv(memAddress(flag));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglEdgeFlagv(memAddress(flag));
     }
 
     // --- [ glEdgeFlagPointer ] ---
 
     /** Unsafe version of: {@link #glEdgeFlagPointer EdgeFlagPointer} */
-    public static native void nglEdgeFlagPointer(int stride, long pointer);
+    public static void nglEdgeFlagPointer(int stride, long pointer) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglEdgeFlagPointer(stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_EDGE_FLAG_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglEdgeFlagPointer(IP)", stride, pointer);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEdgeFlagPointer;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(stride, pointer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Specifies the location and organization of an edge flag array.
@@ -2065,7 +3988,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glEdgeFlagPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEdgeFlagPointer(@NativeType("GLsizei") int stride, @NativeType("GLboolean const *") ByteBuffer pointer) {
-        nglEdgeFlagPointer(stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glEdgeFlagPointer(stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EDGE_FLAG_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEdgeFlagPointer(Ib)", stride, pointer);
+            }
+            nglEdgeFlagPointer(stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2077,7 +4012,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glEdgeFlagPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEdgeFlagPointer(@NativeType("GLsizei") int stride, @NativeType("GLboolean const *") long pointer) {
-        nglEdgeFlagPointer(stride, pointer);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glEdgeFlagPointer(stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EDGE_FLAG_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEdgeFlagPointer(IP)", stride, pointer);
+            }
+            nglEdgeFlagPointer(stride, pointer);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glEnableClientState ] ---
@@ -2091,7 +4038,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glEnableClientState">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEnableClientState(@NativeType("GLenum") int cap);
+    public static void glEnableClientState(@NativeType("GLenum") int cap) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_ENABLE_CLIENT_STATE, Integer.BYTES).putInt(cap);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_ENABLE_CLIENT_STATE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEnableClientState(I)", cap);
+            }
+            ClientArrayStreaming.clientState(cap, true);
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEnableClientState;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(cap, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glEnd ] ---
 
@@ -2100,7 +4067,31 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glEnd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEnd();
+    public static void glEnd() {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_END, 0);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_END);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEnd()");
+            }
+            if (DisplayListEmulation.end()) {
+                return;
+            }
+            if (ImmediateModeBatcher.end()) {
+                return;
+            }
+            long __functionAddress = GL.getICD().glEnd;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glEvalCoord1f ] ---
 
@@ -2111,12 +4102,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalCoord1f(@NativeType("GLfloat") float u);
+    public static void glEvalCoord1f(@NativeType("GLfloat") float u) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_EVAL_COORD1F, Float.BYTES).putFloat(u);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_COORD1F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalCoord1f(F)", u);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalCoord1f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(u, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glEvalCoord1fv ] ---
 
     /** Unsafe version of: {@link #glEvalCoord1fv EvalCoord1fv} */
-    public static native void nglEvalCoord1fv(long u);
+    public static void nglEvalCoord1fv(long u) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglEvalCoord1fv(u));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_EVAL_COORD1FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglEvalCoord1fv(P)", u);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalCoord1fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glEvalCoord1f EvalCoord1f}.
@@ -2126,10 +4155,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord1fv(@NativeType("GLfloat const *") FloatBuffer u) {
-        if (CHECKS) {
-            check(u, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_EVAL_COORD1FV, RenderThread.bytes(u));
+            RenderThread.put(__command, u);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_COORD1FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalCoord1fv(f)", u);
+            }
+            if (CHECKS) {
+                check(u, 1);
+            }
+            nglEvalCoord1fv(memAddress(u));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglEvalCoord1fv(memAddress(u));
     }
 
     // --- [ glEvalCoord1d ] ---
@@ -2141,12 +4183,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalCoord1d(@NativeType("GLdouble") double u);
+    public static void glEvalCoord1d(@NativeType("GLdouble") double u) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_EVAL_COORD1D, Double.BYTES).putDouble(u);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_COORD1D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalCoord1d(D)", u);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalCoord1d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(u, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glEvalCoord1dv ] ---
 
     /** Unsafe version of: {@link #glEvalCoord1dv EvalCoord1dv} */
-    public static native void nglEvalCoord1dv(long u);
+    public static void nglEvalCoord1dv(long u) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglEvalCoord1dv(u));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_EVAL_COORD1DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglEvalCoord1dv(P)", u);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalCoord1dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glEvalCoord1d EvalCoord1d}.
@@ -2156,10 +4236,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord1dv(@NativeType("GLdouble const *") DoubleBuffer u) {
-        if (CHECKS) {
-            check(u, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_EVAL_COORD1DV, RenderThread.bytes(u));
+            RenderThread.put(__command, u);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_COORD1DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalCoord1dv(d)", u);
+            }
+            if (CHECKS) {
+                check(u, 1);
+            }
+            nglEvalCoord1dv(memAddress(u));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglEvalCoord1dv(memAddress(u));
     }
 
     // --- [ glEvalCoord2f ] ---
@@ -2172,12 +4265,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalCoord2f(@NativeType("GLfloat") float u, @NativeType("GLfloat") float v);
-
-    // --- [ glEvalCoord2fv ] ---
+    public static void glEvalCoord2f(@NativeType("GLfloat") float u, @NativeType("GLfloat") float v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_EVAL_COORD2F, 2 * Float.BYTES).putFloat(u).putFloat(v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_COORD2F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalCoord2f(FF)", u, v);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalCoord2f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(u, v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
+
+    // --- [ glEvalCoord2fv ] ---
 
     /** Unsafe version of: {@link #glEvalCoord2fv EvalCoord2fv} */
-    public static native void nglEvalCoord2fv(long u);
+    public static void nglEvalCoord2fv(long u) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglEvalCoord2fv(u));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_EVAL_COORD2FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglEvalCoord2fv(P)", u);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalCoord2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glEvalCoord2f EvalCoord2f}.
@@ -2187,10 +4318,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord2fv(@NativeType("GLfloat const *") FloatBuffer u) {
-        if (CHECKS) {
-            check(u, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_EVAL_COORD2FV, RenderThread.bytes(u));
+            RenderThread.put(__command, u);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_COORD2FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalCoord2fv(f)", u);
+            }
+            if (CHECKS) {
+                check(u, 2);
+            }
+            nglEvalCoord2fv(memAddress(u));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglEvalCoord2fv(memAddress(u));
     }
 
     // --- [ glEvalCoord2d ] ---
@@ -2203,12 +4347,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalCoord2d(@NativeType("GLdouble") double u, @NativeType("GLdouble") double v);
+    public static void glEvalCoord2d(@NativeType("GLdouble") double u, @NativeType("GLdouble") double v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_EVAL_COORD2D, 2 * Double.BYTES).putDouble(u).putDouble(v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_COORD2D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalCoord2d(DD)", u, v);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalCoord2d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(u, v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glEvalCoord2dv ] ---
 
     /** Unsafe version of: {@link #glEvalCoord2dv EvalCoord2dv} */
-    public static native void nglEvalCoord2dv(long u);
+    public static void nglEvalCoord2dv(long u) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglEvalCoord2dv(u));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_EVAL_COORD2DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglEvalCoord2dv(P)", u);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalCoord2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glEvalCoord2d EvalCoord2d}.
@@ -2218,10 +4400,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord2dv(@NativeType("GLdouble const *") DoubleBuffer u) {
-        if (CHECKS) {
-            check(u, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_EVAL_COORD2DV, RenderThread.bytes(u));
+            RenderThread.put(__command, u);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_COORD2DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalCoord2dv(d)", u);
+            }
+            if (CHECKS) {
+                check(u, 2);
+            }
+            nglEvalCoord2dv(memAddress(u));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglEvalCoord2dv(memAddress(u));
     }
 
     // --- [ glEvalMesh1 ] ---
@@ -2235,7 +4430,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glEvalMesh1">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalMesh1(@NativeType("GLenum") int mode, @NativeType("GLint") int i1, @NativeType("GLint") int i2);
+    public static void glEvalMesh1(@NativeType("GLenum") int mode, @NativeType("GLint") int i1, @NativeType("GLint") int i2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_EVAL_MESH1, 3 * Integer.BYTES).putInt(mode).putInt(i1).putInt(i2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_MESH1);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalMesh1(III)", mode, i1, i2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalMesh1;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(mode, i1, i2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glEvalMesh2 ] ---
 
@@ -2250,7 +4464,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glEvalMesh2">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalMesh2(@NativeType("GLenum") int mode, @NativeType("GLint") int i1, @NativeType("GLint") int i2, @NativeType("GLint") int j1, @NativeType("GLint") int j2);
+    public static void glEvalMesh2(@NativeType("GLenum") int mode, @NativeType("GLint") int i1, @NativeType("GLint") int i2, @NativeType("GLint") int j1, @NativeType("GLint") int j2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_EVAL_MESH2, 5 * Integer.BYTES).putInt(mode).putInt(i1).putInt(i2).putInt(j1).putInt(j2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_MESH2);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalMesh2(IIIII)", mode, i1, i2, j1, j2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalMesh2;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(mode, i1, i2, j1, j2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glEvalPoint1 ] ---
 
@@ -2261,7 +4494,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glEvalPoint1">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalPoint1(@NativeType("GLint") int i);
+    public static void glEvalPoint1(@NativeType("GLint") int i) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_EVAL_POINT1, Integer.BYTES).putInt(i);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_POINT1);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalPoint1(I)", i);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalPoint1;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(i, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glEvalPoint2 ] ---
 
@@ -2273,7 +4525,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glEvalPoint2">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalPoint2(@NativeType("GLint") int i, @NativeType("GLint") int j);
+    public static void glEvalPoint2(@NativeType("GLint") int i, @NativeType("GLint") int j) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_EVAL_POINT2, 2 * Integer.BYTES).putInt(i).putInt(j);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_POINT2);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalPoint2(II)", i, j);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalPoint2;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(i, j, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glFeedbackBuffer ] ---
 
@@ -2282,7 +4553,26 @@ public class GL11 {
      *
      * @param size the maximum number of values that can be written to {@code buffer}
      */
-    public static native void nglFeedbackBuffer(int size, int type, long buffer);
+    public static void nglFeedbackBuffer(int size, int type, long buffer) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglFeedbackBuffer(size, type, buffer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_FEEDBACK_BUFFER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglFeedbackBuffer(IIP)", size, type, buffer);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glFeedbackBuffer;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(size, type, buffer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns information about primitives when the GL is in feedback mode.
@@ -2293,7 +4583,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glFeedbackBuffer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFeedbackBuffer(@NativeType("GLenum") int type, @NativeType("GLfloat *") FloatBuffer buffer) {
-        nglFeedbackBuffer(buffer.remaining(), type, memAddress(buffer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glFeedbackBuffer(type, buffer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_FEEDBACK_BUFFER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glFeedbackBuffer(If)", type, buffer);
+            }
+            nglFeedbackBuffer(buffer.remaining(), type, memAddress(buffer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glFinish ] ---
@@ -2305,7 +4607,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glFinish">Reference Page</a>
      */
     public static void glFinish() {
-        GL11C.glFinish();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glFinish());
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_FINISH);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glFinish()");
+            }
+            OpaqueCalls.before();
+            GL11C.glFinish();
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glFlush ] ---
@@ -2316,7 +4631,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glFlush">Reference Page</a>
      */
     public static void glFlush() {
-        GL11C.glFlush();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_FLUSH, 0);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_FLUSH);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glFlush()");
+            }
+            OpaqueCalls.before();
+            GL11C.glFlush();
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glFogi ] ---
@@ -2329,12 +4657,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glFogi">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glFogi(@NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glFogi(@NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_FOGI, 2 * Integer.BYTES).putInt(pname).putInt(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_FOGI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glFogi(II)", pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glFogi;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glFogiv ] ---
 
     /** Unsafe version of: {@link #glFogiv Fogiv} */
-    public static native void nglFogiv(int pname, long params);
+    public static void nglFogiv(int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglFogiv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_FOGIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglFogiv(IP)", pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glFogiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glFogi Fogi}.
@@ -2345,10 +4711,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glFog">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFogiv(@NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_FOGIV, Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_FOGIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glFogiv(Ii)", pname, params);
+            }
+            if (CHECKS) {
+                check(params, 1);
+            }
+            nglFogiv(pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglFogiv(pname, memAddress(params));
     }
 
     // --- [ glFogf ] ---
@@ -2361,12 +4741,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glFogf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glFogf(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glFogf(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_FOGF, Integer.BYTES + Float.BYTES).putInt(pname).putFloat(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_FOGF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glFogf(IF)", pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glFogf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glFogfv ] ---
 
     /** Unsafe version of: {@link #glFogfv Fogfv} */
-    public static native void nglFogfv(int pname, long params);
+    public static void nglFogfv(int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglFogfv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_FOGFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglFogfv(IP)", pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glFogfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glFogf Fogf}.
@@ -2377,10 +4795,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glFog">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFogfv(@NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_FOGFV, Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_FOGFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glFogfv(If)", pname, params);
+            }
+            if (CHECKS) {
+                check(params, 1);
+            }
+            nglFogfv(pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglFogfv(pname, memAddress(params));
     }
 
     // --- [ glFrontFace ] ---
@@ -2395,7 +4827,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glFrontFace">Reference Page</a>
      */
     public static void glFrontFace(@NativeType("GLenum") int dir) {
-        GL11C.glFrontFace(dir);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_FRONT_FACE, Integer.BYTES).putInt(dir);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_FRONT_FACE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glFrontFace(I)", dir);
+            }
+            OpaqueCalls.before();
+            GL11C.glFrontFace(dir);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGenLists ] ---
@@ -2411,7 +4856,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGenLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     @NativeType("GLuint")
-    public static native int glGenLists(@NativeType("GLsizei") int s);
+    public static int glGenLists(@NativeType("GLsizei") int s) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGenLists(s));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GEN_LISTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGenLists(I)", s);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGenLists;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            int first = callI(s, __functionAddress);
+            GlObjects.listsCreated(first, s);
+            return first;
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glGenTextures ] ---
 
@@ -2421,7 +4886,21 @@ public class GL11 {
      * @param n the number of textures to create
      */
     public static void nglGenTextures(int n, long textures) {
-        GL11C.nglGenTextures(n, textures);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGenTextures(n, textures));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GEN_TEXTURES);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGenTextures(IP)", n, textures);
+            }
+            OpaqueCalls.before();
+            GL11C.nglGenTextures(n, textures);
+            GlObjects.texturesCreated(n, textures);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2433,7 +4912,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGenTextures">Reference Page</a>
      */
     public static void glGenTextures(@NativeType("GLuint *") IntBuffer textures) {
-        GL11C.glGenTextures(textures);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGenTextures(textures));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GEN_TEXTURES);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGenTextures(i)", textures);
+            }
+            OpaqueCalls.before();
+            GL11C.glGenTextures(textures);
+            GlObjects.texturesCreated(textures);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2444,7 +4937,21 @@ public class GL11 {
      */
     @NativeType("void")
     public static int glGenTextures() {
-        return GL11C.glGenTextures();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGenTextures());
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GEN_TEXTURES);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGenTextures()");
+            }
+            OpaqueCalls.before();
+            int texture = GL11C.glGenTextures();
+            GlObjects.textureCreated(texture);
+            return texture;
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glDeleteTextures ] ---
@@ -2455,7 +4962,23 @@ public class GL11 {
      * @param n the number of texture names in the {@code textures} parameter
      */
     public static void nglDeleteTextures(int n, long textures) {
-        GL11C.nglDeleteTextures(n, textures);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglDeleteTextures(n, textures));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_DELETE_TEXTURES);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglDeleteTextures(IP)", n, textures);
+            }
+            OpaqueCalls.before();
+            GlStateCache.texturesDeleted(n, textures);
+            GlObjects.texturesDeleted(n, textures);
+            TextureCompression.texturesDeleted(n, textures);
+            GL11C.nglDeleteTextures(n, textures);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2472,7 +4995,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDeleteTextures">Reference Page</a>
      */
     public static void glDeleteTextures(@NativeType("GLuint const *") IntBuffer textures) {
-        GL11C.glDeleteTextures(textures);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_DELETE_TEXTURES, RenderThread.bytes(textures));
+            RenderThread.put(__command, textures);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DELETE_TEXTURES);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDeleteTextures(i)", textures);
+            }
+            OpaqueCalls.before();
+            GlStateCache.texturesDeleted(textures);
+            GlObjects.texturesDeleted(textures);
+            TextureCompression.texturesDeleted(textures);
+            GL11C.glDeleteTextures(textures);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2487,13 +5027,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDeleteTextures">Reference Page</a>
      */
     public static void glDeleteTextures(@NativeType("GLuint const *") int texture) {
-        GL11C.glDeleteTextures(texture);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            // as a buffer of one
+            RenderThread.queue(GlEntryPoint.GL_DELETE_TEXTURES, 2 * Integer.BYTES).putInt(Integer.BYTES).putInt(texture);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DELETE_TEXTURES);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDeleteTextures(I)", texture);
+            }
+            OpaqueCalls.before();
+            GlStateCache.textureDeleted(texture);
+            GlObjects.textureDeleted(texture);
+            TextureCompression.textureDeleted(texture);
+            GL11C.glDeleteTextures(texture);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetClipPlane ] ---
 
     /** Unsafe version of: {@link #glGetClipPlane GetClipPlane} */
-    public static native void nglGetClipPlane(int plane, long equation);
+    public static void nglGetClipPlane(int plane, long equation) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetClipPlane(plane, equation));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_CLIP_PLANE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetClipPlane(IP)", plane, equation);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetClipPlane;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(plane, equation, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns four double-precision values in {@code equation}; these are the coefficients of the plane equation of plane in eye coordinates (these
@@ -2505,17 +5081,46 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetClipPlane">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetClipPlane(@NativeType("GLenum") int plane, @NativeType("GLdouble *") DoubleBuffer equation) {
-        if (CHECKS) {
-            check(equation, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetClipPlane(plane, equation));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_CLIP_PLANE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetClipPlane(Id)", plane, equation);
+            }
+            if (CHECKS) {
+                check(equation, 4);
+            }
+            nglGetClipPlane(plane, memAddress(equation));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetClipPlane(plane, memAddress(equation));
     }
 
     // --- [ glGetBooleanv ] ---
 
     /** Unsafe version of: {@link #glGetBooleanv GetBooleanv} */
     public static void nglGetBooleanv(int pname, long params) {
-        GL11C.nglGetBooleanv(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetBooleanv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_BOOLEANV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetBooleanv(IP)", pname, params);
+            }
+            if (GlQueries.answers(pname)) {
+                GlQueries.getBooleans(pname, params);
+                return;
+            }
+            OpaqueCalls.before();
+            GL11C.nglGetBooleanv(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2531,7 +5136,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetBooleanv">Reference Page</a>
      */
     public static void glGetBooleanv(@NativeType("GLenum") int pname, @NativeType("GLboolean *") ByteBuffer params) {
-        GL11C.glGetBooleanv(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetBooleanv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_BOOLEANV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetBooleanv(Ib)", pname, params);
+            }
+            if (GlQueries.answers(pname)) {
+                GlQueries.getBooleans(pname, memAddress(params));
+                return;
+            }
+            OpaqueCalls.before();
+            GL11C.glGetBooleanv(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2547,14 +5169,46 @@ public class GL11 {
      */
     @NativeType("void")
     public static boolean glGetBoolean(@NativeType("GLenum") int pname) {
-        return GL11C.glGetBoolean(pname);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetBoolean(pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_BOOLEAN);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetBoolean(I)", pname);
+            }
+            if (GlQueries.answers(pname)) {
+                return GlQueries.value(pname, 0) != 0;
+            }
+            OpaqueCalls.before();
+            return GL11C.glGetBoolean(pname);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetFloatv ] ---
 
     /** Unsafe version of: {@link #glGetFloatv GetFloatv} */
     public static void nglGetFloatv(int pname, long params) {
-        GL11C.nglGetFloatv(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetFloatv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_FLOATV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetFloatv(IP)", pname, params);
+            }
+            if (GlQueries.answers(pname)) {
+                GlQueries.getFloats(pname, params);
+                return;
+            }
+            OpaqueCalls.before();
+            GL11C.nglGetFloatv(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2570,7 +5224,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetFloatv">Reference Page</a>
      */
     public static void glGetFloatv(@NativeType("GLenum") int pname, @NativeType("GLfloat *") FloatBuffer params) {
-        GL11C.glGetFloatv(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetFloatv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_FLOATV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetFloatv(If)", pname, params);
+            }
+            if (GlQueries.answers(pname)) {
+                GlQueries.getFloats(pname, memAddress(params));
+                return;
+            }
+            OpaqueCalls.before();
+            GL11C.glGetFloatv(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2586,14 +5257,46 @@ public class GL11 {
      */
     @NativeType("void")
     public static float glGetFloat(@NativeType("GLenum") int pname) {
-        return GL11C.glGetFloat(pname);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetFloat(pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_FLOAT);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetFloat(I)", pname);
+            }
+            if (GlQueries.answers(pname)) {
+                return (float) GlQueries.value(pname, 0);
+            }
+            OpaqueCalls.before();
+            return GL11C.glGetFloat(pname);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetIntegerv ] ---
 
     /** Unsafe version of: {@link #glGetIntegerv GetIntegerv} */
     public static void nglGetIntegerv(int pname, long params) {
-        GL11C.nglGetIntegerv(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetIntegerv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_INTEGERV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetIntegerv(IP)", pname, params);
+            }
+            if (GlQueries.answers(pname)) {
+                GlQueries.getIntegers(pname, params);
+                return;
+            }
+            OpaqueCalls.before();
+            GL11C.nglGetIntegerv(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2609,7 +5312,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetIntegerv">Reference Page</a>
      */
     public static void glGetIntegerv(@NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        GL11C.glGetIntegerv(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetIntegerv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_INTEGERV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetIntegerv(Ii)", pname, params);
+            }
+            if (GlQueries.answers(pname)) {
+                GlQueries.getIntegers(pname, memAddress(params));
+                return;
+            }
+            OpaqueCalls.before();
+            GL11C.glGetIntegerv(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2625,14 +5345,46 @@ public class GL11 {
      */
     @NativeType("void")
     public static int glGetInteger(@NativeType("GLenum") int pname) {
-        return GL11C.glGetInteger(pname);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetInteger(pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_INTEGER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetInteger(I)", pname);
+            }
+            if (GlQueries.answers(pname)) {
+                return (int) Math.round(GlQueries.value(pname, 0));
+            }
+            OpaqueCalls.before();
+            return GL11C.glGetInteger(pname);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetDoublev ] ---
 
     /** Unsafe version of: {@link #glGetDoublev GetDoublev} */
     public static void nglGetDoublev(int pname, long params) {
-        GL11C.nglGetDoublev(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetDoublev(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_DOUBLEV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetDoublev(IP)", pname, params);
+            }
+            if (GlQueries.answers(pname)) {
+                GlQueries.getDoubles(pname, params);
+                return;
+            }
+            OpaqueCalls.before();
+            GL11C.nglGetDoublev(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2648,7 +5400,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetDoublev">Reference Page</a>
      */
     public static void glGetDoublev(@NativeType("GLenum") int pname, @NativeType("GLdouble *") DoubleBuffer params) {
-        GL11C.glGetDoublev(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetDoublev(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_DOUBLEV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetDoublev(Id)", pname, params);
+            }
+            if (GlQueries.answers(pname)) {
+                GlQueries.getDoubles(pname, memAddress(params));
+                return;
+            }
+            OpaqueCalls.before();
+            GL11C.glGetDoublev(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -2664,7 +5433,22 @@ public class GL11 {
      */
     @NativeType("void")
     public static double glGetDouble(@NativeType("GLenum") int pname) {
-        return GL11C.glGetDouble(pname);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetDouble(pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_DOUBLE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetDouble(I)", pname);
+            }
+            if (GlQueries.answers(pname)) {
+                return GlQueries.value(pname, 0);
+            }
+            OpaqueCalls.before();
+            return GL11C.glGetDouble(pname);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetError ] ---
@@ -2681,13 +5465,44 @@ public class GL11 {
      */
     @NativeType("GLenum")
     public static int glGetError() {
-        return GL11C.glGetError();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetError());
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_ERROR);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetError()");
+            }
+            OpaqueCalls.before();
+            return GL11C.glGetError();
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetLightiv ] ---
 
     /** Unsafe version of: {@link #glGetLightiv GetLightiv} */
-    public static native void nglGetLightiv(int light, int pname, long data);
+    public static void nglGetLightiv(int light, int pname, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetLightiv(light, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_LIGHTIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetLightiv(IIP)", light, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetLightiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(light, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns integer information about light parameter {@code pname} for {@code light} in {@code data}.
@@ -2699,10 +5514,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetLight">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetLightiv(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer data) {
-        if (CHECKS) {
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetLightiv(light, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_LIGHTIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetLightiv(IIi)", light, pname, data);
+            }
+            if (CHECKS) {
+                check(data, 4);
+            }
+            nglGetLightiv(light, pname, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetLightiv(light, pname, memAddress(data));
     }
 
     /**
@@ -2715,20 +5542,50 @@ public class GL11 {
      */
     @NativeType("void")
     public static int glGetLighti(@NativeType("GLenum") int light, @NativeType("GLenum") int pname) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetLighti(light, pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_LIGHTI);
         try {
-            IntBuffer data = stack.callocInt(1);
-            nglGetLightiv(light, pname, memAddress(data));
-            return data.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetLighti(II)", light, pname);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                IntBuffer data = stack.callocInt(1);
+                nglGetLightiv(light, pname, memAddress(data));
+                return data.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
     // --- [ glGetLightfv ] ---
 
     /** Unsafe version of: {@link #glGetLightfv GetLightfv} */
-    public static native void nglGetLightfv(int light, int pname, long data);
+    public static void nglGetLightfv(int light, int pname, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetLightfv(light, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_LIGHTFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetLightfv(IIP)", light, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetLightfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(light, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Float version of {@link #glGetLightiv GetLightiv}.
@@ -2740,10 +5597,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetLight">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetLightfv(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLfloat *") FloatBuffer data) {
-        if (CHECKS) {
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetLightfv(light, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_LIGHTFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetLightfv(IIf)", light, pname, data);
+            }
+            if (CHECKS) {
+                check(data, 4);
+            }
+            nglGetLightfv(light, pname, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetLightfv(light, pname, memAddress(data));
     }
 
     /**
@@ -2756,20 +5625,50 @@ public class GL11 {
      */
     @NativeType("void")
     public static float glGetLightf(@NativeType("GLenum") int light, @NativeType("GLenum") int pname) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetLightf(light, pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_LIGHTF);
         try {
-            FloatBuffer data = stack.callocFloat(1);
-            nglGetLightfv(light, pname, memAddress(data));
-            return data.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetLightf(II)", light, pname);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                FloatBuffer data = stack.callocFloat(1);
+                nglGetLightfv(light, pname, memAddress(data));
+                return data.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
     // --- [ glGetMapiv ] ---
 
     /** Unsafe version of: {@link #glGetMapiv GetMapiv} */
-    public static native void nglGetMapiv(int target, int query, long data);
+    public static void nglGetMapiv(int target, int query, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetMapiv(target, query, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_MAPIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetMapiv(IIP)", target, query, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetMapiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, query, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns integer information about {@code query} for evaluator map {@code target} in {@code data}.
@@ -2781,10 +5680,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetMapiv(@NativeType("GLenum") int target, @NativeType("GLenum") int query, @NativeType("GLint *") IntBuffer data) {
-        if (CHECKS) {
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetMapiv(target, query, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MAPIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMapiv(IIi)", target, query, data);
+            }
+            if (CHECKS) {
+                check(data, 4);
+            }
+            nglGetMapiv(target, query, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetMapiv(target, query, memAddress(data));
     }
 
     /**
@@ -2797,20 +5708,50 @@ public class GL11 {
      */
     @NativeType("void")
     public static int glGetMapi(@NativeType("GLenum") int target, @NativeType("GLenum") int query) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetMapi(target, query));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MAPI);
         try {
-            IntBuffer data = stack.callocInt(1);
-            nglGetMapiv(target, query, memAddress(data));
-            return data.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMapi(II)", target, query);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                IntBuffer data = stack.callocInt(1);
+                nglGetMapiv(target, query, memAddress(data));
+                return data.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
     // --- [ glGetMapfv ] ---
 
     /** Unsafe version of: {@link #glGetMapfv GetMapfv} */
-    public static native void nglGetMapfv(int target, int query, long data);
+    public static void nglGetMapfv(int target, int query, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetMapfv(target, query, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_MAPFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetMapfv(IIP)", target, query, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetMapfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, query, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Float version of {@link #glGetMapiv GetMapiv}.
@@ -2822,10 +5763,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetMapfv(@NativeType("GLenum") int target, @NativeType("GLenum") int query, @NativeType("GLfloat *") FloatBuffer data) {
-        if (CHECKS) {
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetMapfv(target, query, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MAPFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMapfv(IIf)", target, query, data);
+            }
+            if (CHECKS) {
+                check(data, 4);
+            }
+            nglGetMapfv(target, query, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetMapfv(target, query, memAddress(data));
     }
 
     /**
@@ -2838,20 +5791,50 @@ public class GL11 {
      */
     @NativeType("void")
     public static float glGetMapf(@NativeType("GLenum") int target, @NativeType("GLenum") int query) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetMapf(target, query));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MAPF);
         try {
-            FloatBuffer data = stack.callocFloat(1);
-            nglGetMapfv(target, query, memAddress(data));
-            return data.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMapf(II)", target, query);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                FloatBuffer data = stack.callocFloat(1);
+                nglGetMapfv(target, query, memAddress(data));
+                return data.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
     // --- [ glGetMapdv ] ---
 
     /** Unsafe version of: {@link #glGetMapdv GetMapdv} */
-    public static native void nglGetMapdv(int target, int query, long data);
+    public static void nglGetMapdv(int target, int query, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetMapdv(target, query, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_MAPDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetMapdv(IIP)", target, query, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetMapdv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, query, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Double version of {@link #glGetMapiv GetMapiv}.
@@ -2863,10 +5846,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetMapdv(@NativeType("GLenum") int target, @NativeType("GLenum") int query, @NativeType("GLdouble *") DoubleBuffer data) {
-        if (CHECKS) {
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetMapdv(target, query, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MAPDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMapdv(IId)", target, query, data);
+            }
+            if (CHECKS) {
+                check(data, 4);
+            }
+            nglGetMapdv(target, query, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetMapdv(target, query, memAddress(data));
     }
 
     /**
@@ -2879,20 +5874,50 @@ public class GL11 {
      */
     @NativeType("void")
     public static double glGetMapd(@NativeType("GLenum") int target, @NativeType("GLenum") int query) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetMapd(target, query));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MAPD);
         try {
-            DoubleBuffer data = stack.callocDouble(1);
-            nglGetMapdv(target, query, memAddress(data));
-            return data.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMapd(II)", target, query);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                DoubleBuffer data = stack.callocDouble(1);
+                nglGetMapdv(target, query, memAddress(data));
+                return data.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
     // --- [ glGetMaterialiv ] ---
 
     /** Unsafe version of: {@link #glGetMaterialiv GetMaterialiv} */
-    public static native void nglGetMaterialiv(int face, int pname, long data);
+    public static void nglGetMaterialiv(int face, int pname, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetMaterialiv(face, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_MATERIALIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetMaterialiv(IIP)", face, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetMaterialiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(face, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns integer information about material property {@code pname} for {@code face} in {@code data}.
@@ -2904,16 +5929,47 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetMaterialiv(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer data) {
-        if (CHECKS) {
-            check(data, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetMaterialiv(face, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MATERIALIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMaterialiv(IIi)", face, pname, data);
+            }
+            if (CHECKS) {
+                check(data, 1);
+            }
+            nglGetMaterialiv(face, pname, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetMaterialiv(face, pname, memAddress(data));
     }
 
     // --- [ glGetMaterialfv ] ---
 
     /** Unsafe version of: {@link #glGetMaterialfv GetMaterialfv} */
-    public static native void nglGetMaterialfv(int face, int pname, long data);
+    public static void nglGetMaterialfv(int face, int pname, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetMaterialfv(face, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_MATERIALFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetMaterialfv(IIP)", face, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetMaterialfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(face, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Float version of {@link #glGetMaterialiv GetMaterialiv}.
@@ -2925,17 +5981,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetMaterialfv(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLfloat *") FloatBuffer data) {
-        if (CHECKS) {
-            check(data, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetMaterialfv(face, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MATERIALFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMaterialfv(IIf)", face, pname, data);
+            }
+            if (CHECKS) {
+                check(data, 1);
+            }
+            nglGetMaterialfv(face, pname, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetMaterialfv(face, pname, memAddress(data));
     }
 
     // --- [ glGetPixelMapfv ] ---
 
     /** Unsafe version of: {@link #glGetPixelMapfv GetPixelMapfv} */
-    public static native void nglGetPixelMapfv(int map, long data);
-
+    public static void nglGetPixelMapfv(int map, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetPixelMapfv(map, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_PIXEL_MAPFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetPixelMapfv(IP)", map, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetPixelMapfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
+
     /**
      * Returns all float values in the pixel map {@code map} in {@code data}.
      *
@@ -2945,10 +6032,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLfloat *") FloatBuffer data) {
-        if (CHECKS) {
-            check(data, 32);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetPixelMapfv(map, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_PIXEL_MAPFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPixelMapfv(If)", map, data);
+            }
+            if (CHECKS) {
+                check(data, 32);
+            }
+            nglGetPixelMapfv(map, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetPixelMapfv(map, memAddress(data));
     }
 
     /**
@@ -2960,13 +6059,44 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLfloat *") long data) {
-        nglGetPixelMapfv(map, data);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetPixelMapfv(map, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_PIXEL_MAPFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPixelMapfv(IP)", map, data);
+            }
+            nglGetPixelMapfv(map, data);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetPixelMapusv ] ---
 
     /** Unsafe version of: {@link #glGetPixelMapusv GetPixelMapusv} */
-    public static native void nglGetPixelMapusv(int map, long data);
+    public static void nglGetPixelMapusv(int map, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetPixelMapusv(map, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_PIXEL_MAPUSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetPixelMapusv(IP)", map, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetPixelMapusv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Unsigned short version of {@link #glGetPixelMapfv GetPixelMapfv}.
@@ -2977,10 +6107,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLushort *") ShortBuffer data) {
-        if (CHECKS) {
-            check(data, 32);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetPixelMapusv(map, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_PIXEL_MAPUSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPixelMapusv(Is)", map, data);
+            }
+            if (CHECKS) {
+                check(data, 32);
+            }
+            nglGetPixelMapusv(map, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetPixelMapusv(map, memAddress(data));
     }
 
     /**
@@ -2992,13 +6134,44 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLushort *") long data) {
-        nglGetPixelMapusv(map, data);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetPixelMapusv(map, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_PIXEL_MAPUSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPixelMapusv(IP)", map, data);
+            }
+            nglGetPixelMapusv(map, data);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetPixelMapuiv ] ---
 
     /** Unsafe version of: {@link #glGetPixelMapuiv GetPixelMapuiv} */
-    public static native void nglGetPixelMapuiv(int map, long data);
+    public static void nglGetPixelMapuiv(int map, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetPixelMapuiv(map, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_PIXEL_MAPUIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetPixelMapuiv(IP)", map, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetPixelMapuiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Unsigned integer version of {@link #glGetPixelMapfv GetPixelMapfv}.
@@ -3009,10 +6182,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLuint *") IntBuffer data) {
-        if (CHECKS) {
-            check(data, 32);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetPixelMapuiv(map, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_PIXEL_MAPUIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPixelMapuiv(Ii)", map, data);
+            }
+            if (CHECKS) {
+                check(data, 32);
+            }
+            nglGetPixelMapuiv(map, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetPixelMapuiv(map, memAddress(data));
     }
 
     /**
@@ -3024,14 +6209,39 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLuint *") long data) {
-        nglGetPixelMapuiv(map, data);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetPixelMapuiv(map, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_PIXEL_MAPUIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPixelMapuiv(IP)", map, data);
+            }
+            nglGetPixelMapuiv(map, data);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetPointerv ] ---
 
     /** Unsafe version of: {@link #glGetPointerv GetPointerv} */
     public static void nglGetPointerv(int pname, long params) {
-        GL11C.nglGetPointerv(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetPointerv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_POINTERV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetPointerv(IP)", pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.nglGetPointerv(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3043,7 +6253,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetPointerv">Reference Page</a>
      */
     public static void glGetPointerv(@NativeType("GLenum") int pname, @NativeType("void **") PointerBuffer params) {
-        GL11C.glGetPointerv(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetPointerv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_POINTERV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPointerv(Iq)", pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetPointerv(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3055,13 +6278,44 @@ public class GL11 {
      */
     @NativeType("void")
     public static long glGetPointer(@NativeType("GLenum") int pname) {
-        return GL11C.glGetPointer(pname);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetPointer(pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPointer(I)", pname);
+            }
+            OpaqueCalls.before();
+            return GL11C.glGetPointer(pname);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetPolygonStipple ] ---
 
     /** Unsafe version of: {@link #glGetPolygonStipple GetPolygonStipple} */
-    public static native void nglGetPolygonStipple(long pattern);
+    public static void nglGetPolygonStipple(long pattern) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetPolygonStipple(pattern));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_POLYGON_STIPPLE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetPolygonStipple(P)", pattern);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetPolygonStipple;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(pattern, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Obtains the polygon stipple.
@@ -3071,10 +6325,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetPolygonStipple">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPolygonStipple(@NativeType("void *") ByteBuffer pattern) {
-        if (CHECKS) {
-            check(pattern, 128);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetPolygonStipple(pattern));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_POLYGON_STIPPLE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPolygonStipple(b)", pattern);
+            }
+            if (CHECKS) {
+                check(pattern, 128);
+            }
+            nglGetPolygonStipple(memAddress(pattern));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetPolygonStipple(memAddress(pattern));
     }
 
     /**
@@ -3085,14 +6351,38 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetPolygonStipple">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPolygonStipple(@NativeType("void *") long pattern) {
-        nglGetPolygonStipple(pattern);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetPolygonStipple(pattern));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_POLYGON_STIPPLE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPolygonStipple(P)", pattern);
+            }
+            nglGetPolygonStipple(pattern);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetString ] ---
 
     /** Unsafe version of: {@link #glGetString GetString} */
     public static long nglGetString(int name) {
-        return GL11C.nglGetString(name);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> nglGetString(name));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_STRING);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetString(I)", name);
+            }
+            OpaqueCalls.before();
+            return GL11C.nglGetString(name);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3104,13 +6394,44 @@ public class GL11 {
      */
     @NativeType("GLubyte const *")
     public static String glGetString(@NativeType("GLenum") int name) {
-        return GL11C.glGetString(name);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetString(name));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_STRING);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetString(I)", name);
+            }
+            OpaqueCalls.before();
+            return GL11C.glGetString(name);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetTexEnviv ] ---
 
     /** Unsafe version of: {@link #glGetTexEnviv GetTexEnviv} */
-    public static native void nglGetTexEnviv(int env, int pname, long data);
+    public static void nglGetTexEnviv(int env, int pname, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetTexEnviv(env, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_TEX_ENVIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetTexEnviv(IIP)", env, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetTexEnviv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(env, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns integer information about {@code pname} for {@code env} in {@code data}.
@@ -3122,10 +6443,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetTexEnv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetTexEnviv(@NativeType("GLenum") int env, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer data) {
-        if (CHECKS) {
-            check(data, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexEnviv(env, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_ENVIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexEnviv(IIi)", env, pname, data);
+            }
+            if (CHECKS) {
+                check(data, 1);
+            }
+            nglGetTexEnviv(env, pname, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetTexEnviv(env, pname, memAddress(data));
     }
 
     /**
@@ -3138,20 +6471,50 @@ public class GL11 {
      */
     @NativeType("void")
     public static int glGetTexEnvi(@NativeType("GLenum") int env, @NativeType("GLenum") int pname) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetTexEnvi(env, pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_ENVI);
         try {
-            IntBuffer data = stack.callocInt(1);
-            nglGetTexEnviv(env, pname, memAddress(data));
-            return data.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexEnvi(II)", env, pname);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                IntBuffer data = stack.callocInt(1);
+                nglGetTexEnviv(env, pname, memAddress(data));
+                return data.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
     // --- [ glGetTexEnvfv ] ---
 
     /** Unsafe version of: {@link #glGetTexEnvfv GetTexEnvfv} */
-    public static native void nglGetTexEnvfv(int env, int pname, long data);
+    public static void nglGetTexEnvfv(int env, int pname, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetTexEnvfv(env, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_TEX_ENVFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetTexEnvfv(IIP)", env, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetTexEnvfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(env, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Float version of {@link #glGetTexEnviv GetTexEnviv}.
@@ -3163,10 +6526,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetTexEnv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetTexEnvfv(@NativeType("GLenum") int env, @NativeType("GLenum") int pname, @NativeType("GLfloat *") FloatBuffer data) {
-        if (CHECKS) {
-            check(data, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexEnvfv(env, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_ENVFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexEnvfv(IIf)", env, pname, data);
+            }
+            if (CHECKS) {
+                check(data, 1);
+            }
+            nglGetTexEnvfv(env, pname, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetTexEnvfv(env, pname, memAddress(data));
     }
 
     /**
@@ -3179,20 +6554,50 @@ public class GL11 {
      */
     @NativeType("void")
     public static float glGetTexEnvf(@NativeType("GLenum") int env, @NativeType("GLenum") int pname) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetTexEnvf(env, pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_ENVF);
         try {
-            FloatBuffer data = stack.callocFloat(1);
-            nglGetTexEnvfv(env, pname, memAddress(data));
-            return data.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexEnvf(II)", env, pname);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                FloatBuffer data = stack.callocFloat(1);
+                nglGetTexEnvfv(env, pname, memAddress(data));
+                return data.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
     // --- [ glGetTexGeniv ] ---
 
     /** Unsafe version of: {@link #glGetTexGeniv GetTexGeniv} */
-    public static native void nglGetTexGeniv(int coord, int pname, long data);
+    public static void nglGetTexGeniv(int coord, int pname, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetTexGeniv(coord, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_TEX_GENIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetTexGeniv(IIP)", coord, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetTexGeniv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coord, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Returns integer information about {@code pname} for {@code coord} in {@code data}.
@@ -3204,10 +6609,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetTexGeniv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer data) {
-        if (CHECKS) {
-            check(data, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexGeniv(coord, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_GENIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexGeniv(IIi)", coord, pname, data);
+            }
+            if (CHECKS) {
+                check(data, 1);
+            }
+            nglGetTexGeniv(coord, pname, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetTexGeniv(coord, pname, memAddress(data));
     }
 
     /**
@@ -3220,20 +6637,50 @@ public class GL11 {
      */
     @NativeType("void")
     public static int glGetTexGeni(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetTexGeni(coord, pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_GENI);
         try {
-            IntBuffer data = stack.callocInt(1);
-            nglGetTexGeniv(coord, pname, memAddress(data));
-            return data.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexGeni(II)", coord, pname);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                IntBuffer data = stack.callocInt(1);
+                nglGetTexGeniv(coord, pname, memAddress(data));
+                return data.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
     // --- [ glGetTexGenfv ] ---
 
     /** Unsafe version of: {@link #glGetTexGenfv GetTexGenfv} */
-    public static native void nglGetTexGenfv(int coord, int pname, long data);
+    public static void nglGetTexGenfv(int coord, int pname, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetTexGenfv(coord, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_TEX_GENFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetTexGenfv(IIP)", coord, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetTexGenfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coord, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Float version of {@link #glGetTexGeniv GetTexGeniv}.
@@ -3245,10 +6692,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetTexGenfv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLfloat *") FloatBuffer data) {
-        if (CHECKS) {
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexGenfv(coord, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_GENFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexGenfv(IIf)", coord, pname, data);
+            }
+            if (CHECKS) {
+                check(data, 4);
+            }
+            nglGetTexGenfv(coord, pname, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetTexGenfv(coord, pname, memAddress(data));
     }
 
     /**
@@ -3261,20 +6720,50 @@ public class GL11 {
      */
     @NativeType("void")
     public static float glGetTexGenf(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetTexGenf(coord, pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_GENF);
         try {
-            FloatBuffer data = stack.callocFloat(1);
-            nglGetTexGenfv(coord, pname, memAddress(data));
-            return data.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexGenf(II)", coord, pname);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                FloatBuffer data = stack.callocFloat(1);
+                nglGetTexGenfv(coord, pname, memAddress(data));
+                return data.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
     // --- [ glGetTexGendv ] ---
 
     /** Unsafe version of: {@link #glGetTexGendv GetTexGendv} */
-    public static native void nglGetTexGendv(int coord, int pname, long data);
+    public static void nglGetTexGendv(int coord, int pname, long data) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetTexGendv(coord, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_TEX_GENDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetTexGendv(IIP)", coord, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetTexGendv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coord, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Double version of {@link #glGetTexGeniv GetTexGeniv}.
@@ -3286,10 +6775,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetTexGendv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLdouble *") DoubleBuffer data) {
-        if (CHECKS) {
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexGendv(coord, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_GENDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexGendv(IId)", coord, pname, data);
+            }
+            if (CHECKS) {
+                check(data, 4);
+            }
+            nglGetTexGendv(coord, pname, memAddress(data));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglGetTexGendv(coord, pname, memAddress(data));
     }
 
     /**
@@ -3302,13 +6803,24 @@ public class GL11 {
      */
     @NativeType("void")
     public static double glGetTexGend(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetTexGend(coord, pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_GEND);
         try {
-            DoubleBuffer data = stack.callocDouble(1);
-            nglGetTexGendv(coord, pname, memAddress(data));
-            return data.get(0);
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexGend(II)", coord, pname);
+            }
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                DoubleBuffer data = stack.callocDouble(1);
+                nglGetTexGendv(coord, pname, memAddress(data));
+                return data.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            CallProfiler.exit(__start);
         }
     }
 
@@ -3316,7 +6828,20 @@ public class GL11 {
 
     /** Unsafe version of: {@link #glGetTexImage GetTexImage} */
     public static void nglGetTexImage(int tex, int level, int format, int type, long pixels) {
-        GL11C.nglGetTexImage(tex, level, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetTexImage(tex, level, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_TEX_IMAGE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetTexImage(IIIIP)", tex, level, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.nglGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3331,7 +6856,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexImage(tex, level, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_IMAGE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexImage(IIIIb)", tex, level, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3346,7 +6884,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexImage(tex, level, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_IMAGE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexImage(IIIIP)", tex, level, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3361,7 +6912,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexImage(tex, level, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_IMAGE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexImage(IIIIs)", tex, level, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3376,7 +6940,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexImage(tex, level, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_IMAGE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexImage(IIIIi)", tex, level, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3391,7 +6968,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexImage(tex, level, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_IMAGE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexImage(IIIIf)", tex, level, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3406,14 +6996,40 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") DoubleBuffer pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexImage(tex, level, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_IMAGE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexImage(IIIId)", tex, level, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetTexLevelParameteriv ] ---
 
     /** Unsafe version of: {@link #glGetTexLevelParameteriv GetTexLevelParameteriv} */
     public static void nglGetTexLevelParameteriv(int target, int level, int pname, long params) {
-        GL11C.nglGetTexLevelParameteriv(target, level, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetTexLevelParameteriv(target, level, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_TEX_LEVEL_PARAMETERIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetTexLevelParameteriv(IIIP)", target, level, pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.nglGetTexLevelParameteriv(target, level, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3427,7 +7043,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexLevelParameter">Reference Page</a>
      */
     public static void glGetTexLevelParameteriv(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        GL11C.glGetTexLevelParameteriv(target, level, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexLevelParameteriv(target, level, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_LEVEL_PARAMETERIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexLevelParameteriv(IIIi)", target, level, pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexLevelParameteriv(target, level, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3441,14 +7070,39 @@ public class GL11 {
      */
     @NativeType("void")
     public static int glGetTexLevelParameteri(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int pname) {
-        return GL11C.glGetTexLevelParameteri(target, level, pname);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetTexLevelParameteri(target, level, pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_LEVEL_PARAMETERI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexLevelParameteri(III)", target, level, pname);
+            }
+            OpaqueCalls.before();
+            return GL11C.glGetTexLevelParameteri(target, level, pname);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetTexLevelParameterfv ] ---
 
     /** Unsafe version of: {@link #glGetTexLevelParameterfv GetTexLevelParameterfv} */
     public static void nglGetTexLevelParameterfv(int target, int level, int pname, long params) {
-        GL11C.nglGetTexLevelParameterfv(target, level, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetTexLevelParameterfv(target, level, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_TEX_LEVEL_PARAMETERFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetTexLevelParameterfv(IIIP)", target, level, pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.nglGetTexLevelParameterfv(target, level, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3462,7 +7116,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexLevelParameter">Reference Page</a>
      */
     public static void glGetTexLevelParameterfv(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int pname, @NativeType("GLfloat *") FloatBuffer params) {
-        GL11C.glGetTexLevelParameterfv(target, level, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexLevelParameterfv(target, level, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_LEVEL_PARAMETERFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexLevelParameterfv(IIIf)", target, level, pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexLevelParameterfv(target, level, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3476,14 +7143,39 @@ public class GL11 {
      */
     @NativeType("void")
     public static float glGetTexLevelParameterf(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int pname) {
-        return GL11C.glGetTexLevelParameterf(target, level, pname);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetTexLevelParameterf(target, level, pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_LEVEL_PARAMETERF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexLevelParameterf(III)", target, level, pname);
+            }
+            OpaqueCalls.before();
+            return GL11C.glGetTexLevelParameterf(target, level, pname);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetTexParameteriv ] ---
 
     /** Unsafe version of: {@link #glGetTexParameteriv GetTexParameteriv} */
     public static void nglGetTexParameteriv(int target, int pname, long params) {
-        GL11C.nglGetTexParameteriv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetTexParameteriv(target, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_TEX_PARAMETERIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetTexParameteriv(IIP)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.nglGetTexParameteriv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3496,7 +7188,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexParameter">Reference Page</a>
      */
     public static void glGetTexParameteriv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        GL11C.glGetTexParameteriv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexParameteriv(target, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_PARAMETERIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexParameteriv(IIi)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexParameteriv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3509,14 +7214,39 @@ public class GL11 {
      */
     @NativeType("void")
     public static int glGetTexParameteri(@NativeType("GLenum") int target, @NativeType("GLenum") int pname) {
-        return GL11C.glGetTexParameteri(target, pname);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetTexParameteri(target, pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_PARAMETERI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexParameteri(II)", target, pname);
+            }
+            OpaqueCalls.before();
+            return GL11C.glGetTexParameteri(target, pname);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glGetTexParameterfv ] ---
 
     /** Unsafe version of: {@link #glGetTexParameterfv GetTexParameterfv} */
     public static void nglGetTexParameterfv(int target, int pname, long params) {
-        GL11C.nglGetTexParameterfv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglGetTexParameterfv(target, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_GET_TEX_PARAMETERFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglGetTexParameterfv(IIP)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.nglGetTexParameterfv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3529,7 +7259,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexParameter">Reference Page</a>
      */
     public static void glGetTexParameterfv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat *") FloatBuffer params) {
-        GL11C.glGetTexParameterfv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexParameterfv(target, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_PARAMETERFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexParameterfv(IIf)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexParameterfv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3542,7 +7285,19 @@ public class GL11 {
      */
     @NativeType("void")
     public static float glGetTexParameterf(@NativeType("GLenum") int target, @NativeType("GLenum") int pname) {
-        return GL11C.glGetTexParameterf(target, pname);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glGetTexParameterf(target, pname));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_PARAMETERF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexParameterf(II)", target, pname);
+            }
+            OpaqueCalls.before();
+            return GL11C.glGetTexParameterf(target, pname);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glHint ] ---
@@ -3557,7 +7312,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glHint">Reference Page</a>
      */
     public static void glHint(@NativeType("GLenum") int target, @NativeType("GLenum") int hint) {
-        GL11C.glHint(target, hint);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_HINT, 2 * Integer.BYTES).putInt(target).putInt(hint);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_HINT);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glHint(II)", target, hint);
+            }
+            OpaqueCalls.before();
+            GL11C.glHint(target, hint);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glIndexi ] ---
@@ -3569,7 +7337,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glIndexi">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glIndexi(@NativeType("GLint") int index);
+    public static void glIndexi(@NativeType("GLint") int index) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_INDEXI, Integer.BYTES).putInt(index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexi(I)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexi;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glIndexub ] ---
 
@@ -3580,7 +7367,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glIndexub">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glIndexub(@NativeType("GLubyte") byte index);
+    public static void glIndexub(@NativeType("GLubyte") byte index) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_INDEXUB, Byte.BYTES).put(index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXUB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexub(B)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexub;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glIndexs ] ---
 
@@ -3591,7 +7397,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glIndexs">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glIndexs(@NativeType("GLshort") short index);
+    public static void glIndexs(@NativeType("GLshort") short index) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_INDEXS, Short.BYTES).putShort(index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexs(S)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexs;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glIndexf ] ---
 
@@ -3602,7 +7427,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glIndexf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glIndexf(@NativeType("GLfloat") float index);
+    public static void glIndexf(@NativeType("GLfloat") float index) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_INDEXF, Float.BYTES).putFloat(index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexf(F)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glIndexd ] ---
 
@@ -3613,12 +7457,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glIndexd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glIndexd(@NativeType("GLdouble") double index);
+    public static void glIndexd(@NativeType("GLdouble") double index) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_INDEXD, Double.BYTES).putDouble(index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXD);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexd(D)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexd;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glIndexiv ] ---
 
     /** Unsafe version of: {@link #glIndexiv Indexiv} */
-    public static native void nglIndexiv(long index);
+    public static void nglIndexiv(long index) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglIndexiv(index));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_INDEXIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglIndexiv(P)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glIndexi Indexi}
@@ -3628,16 +7510,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexiv(@NativeType("GLint const *") IntBuffer index) {
-        if (CHECKS) {
-            check(index, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_INDEXIV, RenderThread.bytes(index));
+            RenderThread.put(__command, index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexiv(i)", index);
+            }
+            if (CHECKS) {
+                check(index, 1);
+            }
+            nglIndexiv(memAddress(index));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglIndexiv(memAddress(index));
     }
 
     // --- [ glIndexubv ] ---
 
     /** Unsafe version of: {@link #glIndexubv Indexubv} */
-    public static native void nglIndexubv(long index);
+    public static void nglIndexubv(long index) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglIndexubv(index));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_INDEXUBV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglIndexubv(P)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexubv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glIndexub Indexub}.
@@ -3647,16 +7561,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexubv(@NativeType("GLubyte const *") ByteBuffer index) {
-        if (CHECKS) {
-            check(index, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_INDEXUBV, RenderThread.bytes(index));
+            RenderThread.put(__command, index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXUBV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexubv(b)", index);
+            }
+            if (CHECKS) {
+                check(index, 1);
+            }
+            nglIndexubv(memAddress(index));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglIndexubv(memAddress(index));
     }
 
     // --- [ glIndexsv ] ---
 
     /** Unsafe version of: {@link #glIndexsv Indexsv} */
-    public static native void nglIndexsv(long index);
+    public static void nglIndexsv(long index) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglIndexsv(index));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_INDEXSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglIndexsv(P)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexsv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glIndexs Indexs}.
@@ -3666,35 +7612,99 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexsv(@NativeType("GLshort const *") ShortBuffer index) {
-        if (CHECKS) {
-            check(index, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_INDEXSV, RenderThread.bytes(index));
+            RenderThread.put(__command, index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexsv(s)", index);
+            }
+            if (CHECKS) {
+                check(index, 1);
+            }
+            nglIndexsv(memAddress(index));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglIndexsv(memAddress(index));
     }
 
     // --- [ glIndexfv ] ---
 
     /** Unsafe version of: {@link #glIndexfv Indexfv} */
-    public static native void nglIndexfv(long index);
-
-    /**
-     * Pointer version of {@link #glIndexf Indexf}.
+    public static void nglIndexfv(long index) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglIndexfv(index));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_INDEXFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglIndexfv(P)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
+
+    /**
+     * Pointer version of {@link #glIndexf Indexf}.
      *
      * @param index the value to which the current color index should be set
      *
      * @see <a href="https://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexfv(@NativeType("GLfloat const *") FloatBuffer index) {
-        if (CHECKS) {
-            check(index, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_INDEXFV, RenderThread.bytes(index));
+            RenderThread.put(__command, index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexfv(f)", index);
+            }
+            if (CHECKS) {
+                check(index, 1);
+            }
+            nglIndexfv(memAddress(index));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglIndexfv(memAddress(index));
     }
 
     // --- [ glIndexdv ] ---
 
     /** Unsafe version of: {@link #glIndexdv Indexdv} */
-    public static native void nglIndexdv(long index);
+    public static void nglIndexdv(long index) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglIndexdv(index));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_INDEXDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglIndexdv(P)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexdv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glIndexd Indexd}.
@@ -3704,10 +7714,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexdv(@NativeType("GLdouble const *") DoubleBuffer index) {
-        if (CHECKS) {
-            check(index, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_INDEXDV, RenderThread.bytes(index));
+            RenderThread.put(__command, index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexdv(d)", index);
+            }
+            if (CHECKS) {
+                check(index, 1);
+            }
+            nglIndexdv(memAddress(index));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglIndexdv(memAddress(index));
     }
 
     // --- [ glIndexMask ] ---
@@ -3721,7 +7744,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glIndexMask">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glIndexMask(@NativeType("GLuint") int mask);
+    public static void glIndexMask(@NativeType("GLuint") int mask) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_INDEX_MASK, Integer.BYTES).putInt(mask);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEX_MASK);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexMask(I)", mask);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexMask;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(mask, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glIndexPointer ] ---
 
@@ -3730,7 +7772,26 @@ public class GL11 {
      *
      * @param type the data type of the values stored in the array. One of:<br><table><tr><td>{@link #GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link #GL_SHORT SHORT}</td><td>{@link #GL_INT INT}</td><td>{@link #GL_FLOAT FLOAT}</td><td>{@link #GL_DOUBLE DOUBLE}</td></tr></table>
      */
-    public static native void nglIndexPointer(int type, int stride, long pointer);
+    public static void nglIndexPointer(int type, int stride, long pointer) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglIndexPointer(type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_INDEX_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglIndexPointer(IIP)", type, stride, pointer);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexPointer;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(type, stride, pointer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Specifies the location and organization of a color index array.
@@ -3742,7 +7803,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
-        nglIndexPointer(type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glIndexPointer(type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEX_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexPointer(IIb)", type, stride, pointer);
+            }
+            nglIndexPointer(type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3755,7 +7828,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
-        nglIndexPointer(type, stride, pointer);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glIndexPointer(type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEX_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexPointer(IIP)", type, stride, pointer);
+            }
+            nglIndexPointer(type, stride, pointer);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3767,7 +7852,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexPointer(@NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
-        nglIndexPointer(GL11.GL_UNSIGNED_BYTE, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glIndexPointer(stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEX_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexPointer(Ib)", stride, pointer);
+            }
+            nglIndexPointer(GL11.GL_UNSIGNED_BYTE, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3779,7 +7876,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexPointer(@NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
-        nglIndexPointer(GL11.GL_SHORT, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glIndexPointer(stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEX_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexPointer(Is)", stride, pointer);
+            }
+            nglIndexPointer(GL11.GL_SHORT, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3791,7 +7900,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexPointer(@NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
-        nglIndexPointer(GL11.GL_INT, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glIndexPointer(stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEX_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexPointer(Ii)", stride, pointer);
+            }
+            nglIndexPointer(GL11.GL_INT, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glInitNames ] ---
@@ -3801,12 +7922,51 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glInitNames">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glInitNames();
+    public static void glInitNames() {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_INIT_NAMES, 0);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INIT_NAMES);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glInitNames()");
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glInitNames;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glInterleavedArrays ] ---
 
     /** Unsafe version of: {@link #glInterleavedArrays InterleavedArrays} */
-    public static native void nglInterleavedArrays(int format, int stride, long pointer);
+    public static void nglInterleavedArrays(int format, int stride, long pointer) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglInterleavedArrays(format, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_INTERLEAVED_ARRAYS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglInterleavedArrays(IIP)", format, stride, pointer);
+            }
+            ClientArrayStreaming.interleavedArrays();
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glInterleavedArrays;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(format, stride, pointer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Efficiently initializes the six vertex arrays and their enables to one of 14 configurations.
@@ -3818,7 +7978,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
-        nglInterleavedArrays(format, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glInterleavedArrays(format, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INTERLEAVED_ARRAYS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glInterleavedArrays(IIb)", format, stride, pointer);
+            }
+            nglInterleavedArrays(format, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3831,7 +8003,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
-        nglInterleavedArrays(format, stride, pointer);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glInterleavedArrays(format, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INTERLEAVED_ARRAYS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glInterleavedArrays(IIP)", format, stride, pointer);
+            }
+            nglInterleavedArrays(format, stride, pointer);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3844,7 +8028,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
-        nglInterleavedArrays(format, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glInterleavedArrays(format, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INTERLEAVED_ARRAYS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glInterleavedArrays(IIs)", format, stride, pointer);
+            }
+            nglInterleavedArrays(format, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3857,7 +8053,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
-        nglInterleavedArrays(format, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glInterleavedArrays(format, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INTERLEAVED_ARRAYS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glInterleavedArrays(IIi)", format, stride, pointer);
+            }
+            nglInterleavedArrays(format, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3870,7 +8078,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
-        nglInterleavedArrays(format, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glInterleavedArrays(format, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INTERLEAVED_ARRAYS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glInterleavedArrays(IIf)", format, stride, pointer);
+            }
+            nglInterleavedArrays(format, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -3883,7 +8103,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") DoubleBuffer pointer) {
-        nglInterleavedArrays(format, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glInterleavedArrays(format, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INTERLEAVED_ARRAYS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glInterleavedArrays(IId)", format, stride, pointer);
+            }
+            nglInterleavedArrays(format, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glIsEnabled ] ---
@@ -3897,7 +8129,22 @@ public class GL11 {
      */
     @NativeType("GLboolean")
     public static boolean glIsEnabled(@NativeType("GLenum") int cap) {
-        return GL11C.glIsEnabled(cap);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glIsEnabled(cap));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_IS_ENABLED);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIsEnabled(I)", cap);
+            }
+            if (GlQueries.answersIsEnabled(cap)) {
+                return GlQueries.isEnabled(cap);
+            }
+            OpaqueCalls.before();
+            return GL11C.glIsEnabled(cap);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glIsList ] ---
@@ -3910,7 +8157,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIsList">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     @NativeType("GLboolean")
-    public static native boolean glIsList(@NativeType("GLuint") int list);
+    public static boolean glIsList(@NativeType("GLuint") int list) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glIsList(list));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_IS_LIST);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIsList(I)", list);
+            }
+            if (DisplayListEmulation.isList(list)) {
+                return true;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIsList;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            return callZ(list, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glIsTexture ] ---
 
@@ -3923,7 +8191,19 @@ public class GL11 {
      */
     @NativeType("GLboolean")
     public static boolean glIsTexture(@NativeType("GLuint") int texture) {
-        return GL11C.glIsTexture(texture);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glIsTexture(texture));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_IS_TEXTURE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIsTexture(I)", texture);
+            }
+            OpaqueCalls.before();
+            return GL11C.glIsTexture(texture);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glLightModeli ] ---
@@ -3936,7 +8216,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glLightModeli">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLightModeli(@NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glLightModeli(@NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_LIGHT_MODELI, 2 * Integer.BYTES).putInt(pname).putInt(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIGHT_MODELI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLightModeli(II)", pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLightModeli;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glLightModelf ] ---
 
@@ -3948,12 +8247,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glLightModelf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLightModelf(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glLightModelf(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_LIGHT_MODELF, Integer.BYTES + Float.BYTES).putInt(pname).putFloat(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIGHT_MODELF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLightModelf(IF)", pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLightModelf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glLightModeliv ] ---
 
     /** Unsafe version of: {@link #glLightModeliv LightModeliv} */
-    public static native void nglLightModeliv(int pname, long params);
+    public static void nglLightModeliv(int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglLightModeliv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_LIGHT_MODELIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglLightModeliv(IP)", pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLightModeliv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glLightModeli LightModeli}.
@@ -3964,16 +8301,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glLightModel">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightModeliv(@NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_LIGHT_MODELIV, Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIGHT_MODELIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLightModeliv(Ii)", pname, params);
+            }
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglLightModeliv(pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglLightModeliv(pname, memAddress(params));
     }
 
     // --- [ glLightModelfv ] ---
 
     /** Unsafe version of: {@link #glLightModelfv LightModelfv} */
-    public static native void nglLightModelfv(int pname, long params);
+    public static void nglLightModelfv(int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglLightModelfv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_LIGHT_MODELFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglLightModelfv(IP)", pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLightModelfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glLightModelf LightModelf}.
@@ -3984,10 +8354,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glLightModel">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightModelfv(@NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_LIGHT_MODELFV, Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIGHT_MODELFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLightModelfv(If)", pname, params);
+            }
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglLightModelfv(pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglLightModelfv(pname, memAddress(params));
     }
 
     // --- [ glLighti ] ---
@@ -4001,7 +8385,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glLighti">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLighti(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glLighti(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_LIGHTI, 3 * Integer.BYTES).putInt(light).putInt(pname).putInt(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIGHTI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLighti(III)", light, pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLighti;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(light, pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glLightf ] ---
 
@@ -4014,12 +8417,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glLightf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLightf(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glLightf(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_LIGHTF, 2 * Integer.BYTES + Float.BYTES).putInt(light).putInt(pname).putFloat(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIGHTF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLightf(IIF)", light, pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLightf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(light, pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glLightiv ] ---
 
     /** Unsafe version of: {@link #glLightiv Lightiv} */
-    public static native void nglLightiv(int light, int pname, long params);
+    public static void nglLightiv(int light, int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglLightiv(light, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_LIGHTIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglLightiv(IIP)", light, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLightiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(light, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glLighti Lighti}.
@@ -4031,16 +8472,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glLight">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightiv(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_LIGHTIV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(light).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIGHTIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLightiv(IIi)", light, pname, params);
+            }
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglLightiv(light, pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglLightiv(light, pname, memAddress(params));
     }
 
     // --- [ glLightfv ] ---
 
     /** Unsafe version of: {@link #glLightfv Lightfv} */
-    public static native void nglLightfv(int light, int pname, long params);
+    public static void nglLightfv(int light, int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglLightfv(light, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_LIGHTFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglLightfv(IIP)", light, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLightfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(light, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glLightf Lightf}.
@@ -4052,10 +8526,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glLight">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightfv(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_LIGHTFV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(light).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIGHTFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLightfv(IIf)", light, pname, params);
+            }
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglLightfv(light, pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglLightfv(light, pname, memAddress(params));
     }
 
     // --- [ glLineStipple ] ---
@@ -4070,7 +8558,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glLineStipple">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLineStipple(@NativeType("GLint") int factor, @NativeType("GLushort") short pattern);
+    public static void glLineStipple(@NativeType("GLint") int factor, @NativeType("GLushort") short pattern) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_LINE_STIPPLE, Integer.BYTES + Short.BYTES).putInt(factor).putShort(pattern);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LINE_STIPPLE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLineStipple(IS)", factor, pattern);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLineStipple;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSV(factor, pattern, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glLineWidth ] ---
 
@@ -4082,7 +8589,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glLineWidth">Reference Page</a>
      */
     public static void glLineWidth(@NativeType("GLfloat") float width) {
-        GL11C.glLineWidth(width);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_LINE_WIDTH, Float.BYTES).putFloat(width);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LINE_WIDTH);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLineWidth(F)", width);
+            }
+            OpaqueCalls.before();
+            GL11C.glLineWidth(width);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glListBase ] ---
@@ -4094,12 +8614,53 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glListBase">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glListBase(@NativeType("GLuint") int base);
+    public static void glListBase(@NativeType("GLuint") int base) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_LIST_BASE, Integer.BYTES).putInt(base);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIST_BASE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glListBase(I)", base);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glListBase;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(base, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glLoadMatrixf ] ---
 
     /** Unsafe version of: {@link #glLoadMatrixf LoadMatrixf} */
-    public static native void nglLoadMatrixf(long m);
+    public static void nglLoadMatrixf(long m) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglLoadMatrixf(m));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_LOAD_MATRIXF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglLoadMatrixf(P)", m);
+            }
+            if (MatrixStacks.loadMatrixf(m)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLoadMatrixf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Sets the current matrix to a 4 &times; 4 matrix in column-major order.
@@ -4121,16 +8682,51 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glLoadMatrixf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLoadMatrixf(@NativeType("GLfloat const *") FloatBuffer m) {
-        if (CHECKS) {
-            check(m, 16);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_LOAD_MATRIXF, RenderThread.bytes(m));
+            RenderThread.put(__command, m);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LOAD_MATRIXF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLoadMatrixf(f)", m);
+            }
+            if (CHECKS) {
+                check(m, 16);
+            }
+            nglLoadMatrixf(memAddress(m));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglLoadMatrixf(memAddress(m));
     }
 
     // --- [ glLoadMatrixd ] ---
 
     /** Unsafe version of: {@link #glLoadMatrixd LoadMatrixd} */
-    public static native void nglLoadMatrixd(long m);
+    public static void nglLoadMatrixd(long m) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglLoadMatrixd(m));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_LOAD_MATRIXD);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglLoadMatrixd(P)", m);
+            }
+            if (MatrixStacks.loadMatrixd(m)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLoadMatrixd;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Double version of {@link #glLoadMatrixf LoadMatrixf}.
@@ -4140,10 +8736,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glLoadMatrixd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLoadMatrixd(@NativeType("GLdouble const *") DoubleBuffer m) {
-        if (CHECKS) {
-            check(m, 16);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_LOAD_MATRIXD, RenderThread.bytes(m));
+            RenderThread.put(__command, m);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LOAD_MATRIXD);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLoadMatrixd(d)", m);
+            }
+            if (CHECKS) {
+                check(m, 16);
+            }
+            nglLoadMatrixd(memAddress(m));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglLoadMatrixd(memAddress(m));
     }
 
     // --- [ glLoadIdentity ] ---
@@ -4162,7 +8771,32 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glLoadIdentity">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLoadIdentity();
+    public static void glLoadIdentity() {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_LOAD_IDENTITY, 0);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LOAD_IDENTITY);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLoadIdentity()");
+            }
+            if (DisplayListEmulation.loadIdentity()) {
+                return;
+            }
+            if (MatrixStacks.loadIdentity()) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLoadIdentity;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glLoadName ] ---
 
@@ -4173,7 +8807,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glLoadName">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLoadName(@NativeType("GLuint") int name);
+    public static void glLoadName(@NativeType("GLuint") int name) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_LOAD_NAME, Integer.BYTES).putInt(name);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LOAD_NAME);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLoadName(I)", name);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLoadName;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(name, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glLogicOp ] ---
 
@@ -4185,13 +8838,45 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glLogicOp">Reference Page</a>
      */
     public static void glLogicOp(@NativeType("GLenum") int op) {
-        GL11C.glLogicOp(op);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_LOGIC_OP, Integer.BYTES).putInt(op);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LOGIC_OP);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLogicOp(I)", op);
+            }
+            OpaqueCalls.before();
+            GL11C.glLogicOp(op);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glMap1f ] ---
 
     /** Unsafe version of: {@link #glMap1f Map1f} */
-    public static native void nglMap1f(int target, float u1, float u2, int stride, int order, long points);
+    public static void nglMap1f(int target, float u1, float u2, int stride, int order, long points) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglMap1f(target, u1, u2, stride, order, points));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_MAP1F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglMap1f(IFFIIP)", target, u1, u2, stride, order, points);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMap1f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, u1, u2, stride, order, points, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Defines a polynomial or rational polynomial mapping to produce vertex, normal, texture coordinates and colors. The values so produced are sent on to
@@ -4207,16 +8892,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap1f(@NativeType("GLenum") int target, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2, @NativeType("GLint") int stride, @NativeType("GLint") int order, @NativeType("GLfloat const *") FloatBuffer points) {
-        if (CHECKS) {
-            check(points, order * stride);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MAP1F, 3 * Integer.BYTES + 2 * Float.BYTES + RenderThread.bytes(points));
+            __command.putInt(target).putFloat(u1).putFloat(u2).putInt(stride).putInt(order);
+            RenderThread.put(__command, points);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MAP1F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMap1f(IFFIIf)", target, u1, u2, stride, order, points);
+            }
+            if (CHECKS) {
+                check(points, order * stride);
+            }
+            nglMap1f(target, u1, u2, stride, order, memAddress(points));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglMap1f(target, u1, u2, stride, order, memAddress(points));
     }
 
     // --- [ glMap1d ] ---
 
     /** Unsafe version of: {@link #glMap1d Map1d} */
-    public static native void nglMap1d(int target, double u1, double u2, int stride, int order, long points);
+    public static void nglMap1d(int target, double u1, double u2, int stride, int order, long points) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglMap1d(target, u1, u2, stride, order, points));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_MAP1D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglMap1d(IDDIIP)", target, u1, u2, stride, order, points);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMap1d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, u1, u2, stride, order, points, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Double version of {@link #glMap1f Map1f}.
@@ -4231,16 +8949,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap1d(@NativeType("GLenum") int target, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2, @NativeType("GLint") int stride, @NativeType("GLint") int order, @NativeType("GLdouble const *") DoubleBuffer points) {
-        if (CHECKS) {
-            check(points, stride * order);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MAP1D, 3 * Integer.BYTES + 2 * Double.BYTES + RenderThread.bytes(points));
+            __command.putInt(target).putDouble(u1).putDouble(u2).putInt(stride).putInt(order);
+            RenderThread.put(__command, points);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MAP1D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMap1d(IDDIId)", target, u1, u2, stride, order, points);
+            }
+            if (CHECKS) {
+                check(points, stride * order);
+            }
+            nglMap1d(target, u1, u2, stride, order, memAddress(points));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglMap1d(target, u1, u2, stride, order, memAddress(points));
     }
 
     // --- [ glMap2f ] ---
 
     /** Unsafe version of: {@link #glMap2f Map2f} */
-    public static native void nglMap2f(int target, float u1, float u2, int ustride, int uorder, float v1, float v2, int vstride, int vorder, long points);
+    public static void nglMap2f(int target, float u1, float u2, int ustride, int uorder, float v1, float v2, int vstride, int vorder, long points) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglMap2f(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_MAP2F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglMap2f(IFFIIFFIIP)", target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMap2f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Bivariate version of {@link #glMap1f Map1f}.
@@ -4259,16 +9010,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap2f(@NativeType("GLenum") int target, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2, @NativeType("GLint") int ustride, @NativeType("GLint") int uorder, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2, @NativeType("GLint") int vstride, @NativeType("GLint") int vorder, @NativeType("GLfloat const *") FloatBuffer points) {
-        if (CHECKS) {
-            check(points, ustride * uorder * vstride * vorder);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MAP2F, 5 * Integer.BYTES + 4 * Float.BYTES + RenderThread.bytes(points));
+            __command.putInt(target).putFloat(u1).putFloat(u2).putInt(ustride).putInt(uorder).putFloat(v1).putFloat(v2).putInt(vstride).putInt(vorder);
+            RenderThread.put(__command, points);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MAP2F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMap2f(IFFIIFFIIf)", target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points);
+            }
+            if (CHECKS) {
+                check(points, ustride * uorder * vstride * vorder);
+            }
+            nglMap2f(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, memAddress(points));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglMap2f(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, memAddress(points));
     }
 
     // --- [ glMap2d ] ---
 
     /** Unsafe version of: {@link #glMap2d Map2d} */
-    public static native void nglMap2d(int target, double u1, double u2, int ustride, int uorder, double v1, double v2, int vstride, int vorder, long points);
+    public static void nglMap2d(int target, double u1, double u2, int ustride, int uorder, double v1, double v2, int vstride, int vorder, long points) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglMap2d(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_MAP2D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglMap2d(IDDIIDDIIP)", target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMap2d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Double version of {@link #glMap2f Map2f}.
@@ -4287,10 +9071,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap2d(@NativeType("GLenum") int target, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2, @NativeType("GLint") int ustride, @NativeType("GLint") int uorder, @NativeType("GLdouble") double v1, @NativeType("GLdouble") double v2, @NativeType("GLint") int vstride, @NativeType("GLint") int vorder, @NativeType("GLdouble const *") DoubleBuffer points) {
-        if (CHECKS) {
-            check(points, ustride * uorder * vstride * vorder);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MAP2D, 5 * Integer.BYTES + 4 * Double.BYTES + RenderThread.bytes(points));
+            __command.putInt(target).putDouble(u1).putDouble(u2).putInt(ustride).putInt(uorder).putDouble(v1).putDouble(v2).putInt(vstride).putInt(vorder);
+            RenderThread.put(__command, points);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MAP2D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMap2d(IDDIIDDIId)", target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points);
+            }
+            if (CHECKS) {
+                check(points, ustride * uorder * vstride * vorder);
+            }
+            nglMap2d(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, memAddress(points));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglMap2d(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, memAddress(points));
     }
 
     // --- [ glMapGrid1f ] ---
@@ -4304,7 +9102,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glMapGrid">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMapGrid1f(@NativeType("GLint") int n, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2);
+    public static void glMapGrid1f(@NativeType("GLint") int n, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_MAP_GRID1F, Integer.BYTES + 2 * Float.BYTES).putInt(n).putFloat(u1).putFloat(u2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MAP_GRID1F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMapGrid1f(IFF)", n, u1, u2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMapGrid1f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(n, u1, u2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glMapGrid1d ] ---
 
@@ -4317,7 +9134,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glMapGrid">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMapGrid1d(@NativeType("GLint") int n, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2);
+    public static void glMapGrid1d(@NativeType("GLint") int n, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_MAP_GRID1D, Integer.BYTES + 2 * Double.BYTES).putInt(n).putDouble(u1).putDouble(u2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MAP_GRID1D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMapGrid1d(IDD)", n, u1, u2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMapGrid1d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(n, u1, u2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glMapGrid2f ] ---
 
@@ -4333,7 +9169,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glMapGrid">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMapGrid2f(@NativeType("GLint") int un, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2, @NativeType("GLint") int vn, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2);
+    public static void glMapGrid2f(@NativeType("GLint") int un, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2, @NativeType("GLint") int vn, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_MAP_GRID2F, 2 * Integer.BYTES + 4 * Float.BYTES).putInt(un).putFloat(u1).putFloat(u2).putInt(vn).putFloat(v1).putFloat(v2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MAP_GRID2F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMapGrid2f(IFFIFF)", un, u1, u2, vn, v1, v2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMapGrid2f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(un, u1, u2, vn, v1, v2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glMapGrid2d ] ---
 
@@ -4349,7 +9204,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glMapGrid">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMapGrid2d(@NativeType("GLint") int un, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2, @NativeType("GLint") int vn, @NativeType("GLdouble") double v1, @NativeType("GLdouble") double v2);
+    public static void glMapGrid2d(@NativeType("GLint") int un, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2, @NativeType("GLint") int vn, @NativeType("GLdouble") double v1, @NativeType("GLdouble") double v2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_MAP_GRID2D, 2 * Integer.BYTES + 4 * Double.BYTES).putInt(un).putDouble(u1).putDouble(u2).putInt(vn).putDouble(v1).putDouble(v2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MAP_GRID2D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMapGrid2d(IDDIDD)", un, u1, u2, vn, v1, v2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMapGrid2d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(un, u1, u2, vn, v1, v2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glMateriali ] ---
 
@@ -4362,7 +9236,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glMateriali">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMateriali(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glMateriali(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_MATERIALI, 3 * Integer.BYTES).putInt(face).putInt(pname).putInt(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MATERIALI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMateriali(III)", face, pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMateriali;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(face, pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glMaterialf ] ---
 
@@ -4375,14 +9268,52 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glMaterialf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMaterialf(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glMaterialf(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_MATERIALF, 2 * Integer.BYTES + Float.BYTES).putInt(face).putInt(pname).putFloat(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MATERIALF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMaterialf(IIF)", face, pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMaterialf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(face, pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glMaterialiv ] ---
 
     /** Unsafe version of: {@link #glMaterialiv Materialiv} */
-    public static native void nglMaterialiv(int face, int pname, long params);
-
-    /**
+    public static void nglMaterialiv(int face, int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglMaterialiv(face, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_MATERIALIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglMaterialiv(IIP)", face, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMaterialiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(face, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
+
+    /**
      * Pointer version of {@link #glMateriali Materiali}.
      *
      * @param face   the material face for which to set the parameter
@@ -4392,16 +9323,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMaterialiv(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MATERIALIV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(face).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MATERIALIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMaterialiv(IIi)", face, pname, params);
+            }
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglMaterialiv(face, pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglMaterialiv(face, pname, memAddress(params));
     }
 
     // --- [ glMaterialfv ] ---
 
     /** Unsafe version of: {@link #glMaterialfv Materialfv} */
-    public static native void nglMaterialfv(int face, int pname, long params);
+    public static void nglMaterialfv(int face, int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglMaterialfv(face, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_MATERIALFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglMaterialfv(IIP)", face, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMaterialfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(face, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glMaterialf Materialf}.
@@ -4413,10 +9377,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMaterialfv(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MATERIALFV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(face).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MATERIALFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMaterialfv(IIf)", face, pname, params);
+            }
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglMaterialfv(face, pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglMaterialfv(face, pname, memAddress(params));
     }
 
     // --- [ glMatrixMode ] ---
@@ -4428,12 +9406,59 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glMatrixMode">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMatrixMode(@NativeType("GLenum") int mode);
+    public static void glMatrixMode(@NativeType("GLenum") int mode) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_MATRIX_MODE, Integer.BYTES).putInt(mode);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MATRIX_MODE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMatrixMode(I)", mode);
+            }
+            if (DisplayListEmulation.matrixMode(mode)) {
+                return;
+            }
+            if (MatrixStacks.matrixMode(mode)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMatrixMode;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(mode, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glMultMatrixf ] ---
 
     /** Unsafe version of: {@link #glMultMatrixf MultMatrixf} */
-    public static native void nglMultMatrixf(long m);
+    public static void nglMultMatrixf(long m) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglMultMatrixf(m));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_MULT_MATRIXF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglMultMatrixf(P)", m);
+            }
+            if (MatrixStacks.multiplyMatrixf(m)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMultMatrixf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Multiplies the current matrix with a 4 &times; 4 matrix in column-major order. See {@link #glLoadMatrixf LoadMatrixf} for details.
@@ -4443,16 +9468,51 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMultMatrixf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMultMatrixf(@NativeType("GLfloat const *") FloatBuffer m) {
-        if (CHECKS) {
-            check(m, 16);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MULT_MATRIXF, RenderThread.bytes(m));
+            RenderThread.put(__command, m);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MULT_MATRIXF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMultMatrixf(f)", m);
+            }
+            if (CHECKS) {
+                check(m, 16);
+            }
+            nglMultMatrixf(memAddress(m));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglMultMatrixf(memAddress(m));
     }
 
     // --- [ glMultMatrixd ] ---
 
     /** Unsafe version of: {@link #glMultMatrixd MultMatrixd} */
-    public static native void nglMultMatrixd(long m);
+    public static void nglMultMatrixd(long m) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglMultMatrixd(m));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_MULT_MATRIXD);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglMultMatrixd(P)", m);
+            }
+            if (MatrixStacks.multiplyMatrixd(m)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMultMatrixd;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Double version of {@link #glMultMatrixf MultMatrixf}.
@@ -4462,10 +9522,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMultMatrixd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMultMatrixd(@NativeType("GLdouble const *") DoubleBuffer m) {
-        if (CHECKS) {
-            check(m, 16);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MULT_MATRIXD, RenderThread.bytes(m));
+            RenderThread.put(__command, m);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MULT_MATRIXD);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMultMatrixd(d)", m);
+            }
+            if (CHECKS) {
+                check(m, 16);
+            }
+            nglMultMatrixd(memAddress(m));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglMultMatrixd(memAddress(m));
     }
 
     // --- [ glFrustum ] ---
@@ -4494,7 +9567,29 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glFrustum">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glFrustum(@NativeType("GLdouble") double l, @NativeType("GLdouble") double r, @NativeType("GLdouble") double b, @NativeType("GLdouble") double t, @NativeType("GLdouble") double n, @NativeType("GLdouble") double f);
+    public static void glFrustum(@NativeType("GLdouble") double l, @NativeType("GLdouble") double r, @NativeType("GLdouble") double b, @NativeType("GLdouble") double t, @NativeType("GLdouble") double n, @NativeType("GLdouble") double f) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_FRUSTUM, 6 * Double.BYTES).putDouble(l).putDouble(r).putDouble(b).putDouble(t).putDouble(n).putDouble(f);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_FRUSTUM);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glFrustum(DDDDDD)", l, r, b, t, n, f);
+            }
+            if (MatrixStacks.frustum(l, r, b, t, n, f)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glFrustum;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(l, r, b, t, n, f, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glNewList ] ---
 
@@ -4506,7 +9601,31 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glNewList">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glNewList(@NativeType("GLuint") int n, @NativeType("GLenum") int mode);
+    public static void glNewList(@NativeType("GLuint") int n, @NativeType("GLenum") int mode) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_NEW_LIST, 2 * Integer.BYTES).putInt(n).putInt(mode);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NEW_LIST);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNewList(II)", n, mode);
+            }
+            if (DisplayListEmulation.newList(n, mode)) {
+                return;
+            }
+            OpaqueCalls.before();
+            GlStateCache.beginList(mode);
+            MatrixStacks.beginList(n, mode);
+            long __functionAddress = GL.getICD().glNewList;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(n, mode, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glEndList ] ---
 
@@ -4516,7 +9635,31 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glEndList">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEndList();
+    public static void glEndList() {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_END_LIST, 0);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_END_LIST);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEndList()");
+            }
+            if (DisplayListEmulation.endList()) {
+                return;
+            }
+            OpaqueCalls.before();
+            GlStateCache.endList();
+            MatrixStacks.endList();
+            long __functionAddress = GL.getICD().glEndList;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glNormal3f ] ---
 
@@ -4529,7 +9672,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glNormal3f(@NativeType("GLfloat") float nx, @NativeType("GLfloat") float ny, @NativeType("GLfloat") float nz);
+    public static void glNormal3f(@NativeType("GLfloat") float nx, @NativeType("GLfloat") float ny, @NativeType("GLfloat") float nz) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_NORMAL3F, 3 * Float.BYTES).putFloat(nx).putFloat(ny).putFloat(nz);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3f(FFF)", nx, ny, nz);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(nx, ny, nz, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glNormal3b ] ---
 
@@ -4542,7 +9704,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glNormal3b(@NativeType("GLbyte") byte nx, @NativeType("GLbyte") byte ny, @NativeType("GLbyte") byte nz);
+    public static void glNormal3b(@NativeType("GLbyte") byte nx, @NativeType("GLbyte") byte ny, @NativeType("GLbyte") byte nz) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_NORMAL3B, 3 * Byte.BYTES).put(nx).put(ny).put(nz);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3B);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3b(BBB)", nx, ny, nz);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3b;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callBBBV(nx, ny, nz, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glNormal3s ] ---
 
@@ -4555,7 +9736,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glNormal3s(@NativeType("GLshort") short nx, @NativeType("GLshort") short ny, @NativeType("GLshort") short nz);
+    public static void glNormal3s(@NativeType("GLshort") short nx, @NativeType("GLshort") short ny, @NativeType("GLshort") short nz) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_NORMAL3S, 3 * Short.BYTES).putShort(nx).putShort(ny).putShort(nz);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3s(SSS)", nx, ny, nz);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSSV(nx, ny, nz, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glNormal3i ] ---
 
@@ -4568,7 +9768,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glNormal3i(@NativeType("GLint") int nx, @NativeType("GLint") int ny, @NativeType("GLint") int nz);
+    public static void glNormal3i(@NativeType("GLint") int nx, @NativeType("GLint") int ny, @NativeType("GLint") int nz) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_NORMAL3I, 3 * Integer.BYTES).putInt(nx).putInt(ny).putInt(nz);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3i(III)", nx, ny, nz);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(nx, ny, nz, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glNormal3d ] ---
 
@@ -4581,12 +9800,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glNormal3d(@NativeType("GLdouble") double nx, @NativeType("GLdouble") double ny, @NativeType("GLdouble") double nz);
+    public static void glNormal3d(@NativeType("GLdouble") double nx, @NativeType("GLdouble") double ny, @NativeType("GLdouble") double nz) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_NORMAL3D, 3 * Double.BYTES).putDouble(nx).putDouble(ny).putDouble(nz);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3d(DDD)", nx, ny, nz);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(nx, ny, nz, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glNormal3fv ] ---
 
     /** Unsafe version of: {@link #glNormal3fv Normal3fv} */
-    public static native void nglNormal3fv(long v);
+    public static void nglNormal3fv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglNormal3fv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_NORMAL3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglNormal3fv(P)", v);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glNormal3f Normal3f}.
@@ -4596,16 +9853,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_NORMAL3FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3fv(f)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglNormal3fv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglNormal3fv(memAddress(v));
     }
 
     // --- [ glNormal3bv ] ---
 
     /** Unsafe version of: {@link #glNormal3bv Normal3bv} */
-    public static native void nglNormal3bv(long v);
+    public static void nglNormal3bv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglNormal3bv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_NORMAL3BV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglNormal3bv(P)", v);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3bv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glNormal3b Normal3b}.
@@ -4615,16 +9904,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3bv(@NativeType("GLbyte const *") ByteBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_NORMAL3BV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3BV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3bv(b)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglNormal3bv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglNormal3bv(memAddress(v));
     }
 
     // --- [ glNormal3sv ] ---
 
     /** Unsafe version of: {@link #glNormal3sv Normal3sv} */
-    public static native void nglNormal3sv(long v);
+    public static void nglNormal3sv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglNormal3sv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_NORMAL3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglNormal3sv(P)", v);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glNormal3s Normal3s}.
@@ -4634,16 +9955,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_NORMAL3SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3sv(s)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglNormal3sv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglNormal3sv(memAddress(v));
     }
 
     // --- [ glNormal3iv ] ---
 
     /** Unsafe version of: {@link #glNormal3iv Normal3iv} */
-    public static native void nglNormal3iv(long v);
+    public static void nglNormal3iv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglNormal3iv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_NORMAL3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglNormal3iv(P)", v);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glNormal3i Normal3i}.
@@ -4653,16 +10006,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_NORMAL3IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3iv(i)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglNormal3iv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglNormal3iv(memAddress(v));
     }
 
     // --- [ glNormal3dv ] ---
 
     /** Unsafe version of: {@link #glNormal3dv Normal3dv} */
-    public static native void nglNormal3dv(long v);
+    public static void nglNormal3dv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglNormal3dv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_NORMAL3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglNormal3dv(P)", v);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glNormal3d Normal3d}.
@@ -4672,16 +10057,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_NORMAL3DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3dv(d)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglNormal3dv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglNormal3dv(memAddress(v));
     }
 
     // --- [ glNormalPointer ] ---
 
     /** Unsafe version of: {@link #glNormalPointer NormalPointer} */
-    public static native void nglNormalPointer(int type, int stride, long pointer);
+    public static void nglNormalPointer(int type, int stride, long pointer) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglNormalPointer(type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_NORMAL_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglNormalPointer(IIP)", type, stride, pointer);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormalPointer;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(type, stride, pointer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Specifies the location and organization of a normal array.
@@ -4693,7 +10110,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormalPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormalPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
-        nglNormalPointer(type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glNormalPointer(type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormalPointer(IIb)", type, stride, pointer);
+            }
+            nglNormalPointer(type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -4706,7 +10135,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormalPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormalPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
-        nglNormalPointer(type, stride, pointer);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glNormalPointer(type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormalPointer(IIP)", type, stride, pointer);
+            }
+            nglNormalPointer(type, stride, pointer);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -4719,7 +10160,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormalPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormalPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
-        nglNormalPointer(type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glNormalPointer(type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormalPointer(IIs)", type, stride, pointer);
+            }
+            nglNormalPointer(type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -4732,7 +10185,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormalPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormalPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
-        nglNormalPointer(type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glNormalPointer(type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormalPointer(IIi)", type, stride, pointer);
+            }
+            nglNormalPointer(type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -4745,7 +10210,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormalPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormalPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
-        nglNormalPointer(type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glNormalPointer(type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormalPointer(IIf)", type, stride, pointer);
+            }
+            nglNormalPointer(type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glOrtho ] ---
@@ -4774,7 +10251,29 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glOrtho">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glOrtho(@NativeType("GLdouble") double l, @NativeType("GLdouble") double r, @NativeType("GLdouble") double b, @NativeType("GLdouble") double t, @NativeType("GLdouble") double n, @NativeType("GLdouble") double f);
+    public static void glOrtho(@NativeType("GLdouble") double l, @NativeType("GLdouble") double r, @NativeType("GLdouble") double b, @NativeType("GLdouble") double t, @NativeType("GLdouble") double n, @NativeType("GLdouble") double f) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_ORTHO, 6 * Double.BYTES).putDouble(l).putDouble(r).putDouble(b).putDouble(t).putDouble(n).putDouble(f);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_ORTHO);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glOrtho(DDDDDD)", l, r, b, t, n, f);
+            }
+            if (MatrixStacks.ortho(l, r, b, t, n, f)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glOrtho;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(l, r, b, t, n, f, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glPassThrough ] ---
 
@@ -4787,7 +10286,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glPassThrough">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPassThrough(@NativeType("GLfloat") float token);
+    public static void glPassThrough(@NativeType("GLfloat") float token) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_PASS_THROUGH, Float.BYTES).putFloat(token);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PASS_THROUGH);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPassThrough(F)", token);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPassThrough;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(token, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glPixelMapfv ] ---
 
@@ -4796,7 +10314,26 @@ public class GL11 {
      *
      * @param size the map size
      */
-    public static native void nglPixelMapfv(int map, int size, long values);
+    public static void nglPixelMapfv(int map, int size, long values) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglPixelMapfv(map, size, values));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_PIXEL_MAPFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglPixelMapfv(IIP)", map, size, values);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPixelMapfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, size, values, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Sets a pixel map lookup table.
@@ -4808,7 +10345,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLsizei") int size, @NativeType("GLfloat const *") long values) {
-        nglPixelMapfv(map, size, values);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glPixelMapfv(map, size, values));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_MAPFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelMapfv(IIP)", map, size, values);
+            }
+            nglPixelMapfv(map, size, values);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -4820,7 +10369,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLfloat const *") FloatBuffer values) {
-        nglPixelMapfv(map, values.remaining(), memAddress(values));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_PIXEL_MAPFV, Integer.BYTES + RenderThread.bytes(values));
+            __command.putInt(map);
+            RenderThread.put(__command, values);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_MAPFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelMapfv(If)", map, values);
+            }
+            nglPixelMapfv(map, values.remaining(), memAddress(values));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glPixelMapusv ] ---
@@ -4830,7 +10393,26 @@ public class GL11 {
      *
      * @param size the map size
      */
-    public static native void nglPixelMapusv(int map, int size, long values);
+    public static void nglPixelMapusv(int map, int size, long values) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglPixelMapusv(map, size, values));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_PIXEL_MAPUSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglPixelMapusv(IIP)", map, size, values);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPixelMapusv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, size, values, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Unsigned short version of {@link #glPixelMapfv PixelMapfv}.
@@ -4842,7 +10424,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLsizei") int size, @NativeType("GLushort const *") long values) {
-        nglPixelMapusv(map, size, values);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glPixelMapusv(map, size, values));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_MAPUSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelMapusv(IIP)", map, size, values);
+            }
+            nglPixelMapusv(map, size, values);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -4854,7 +10448,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLushort const *") ShortBuffer values) {
-        nglPixelMapusv(map, values.remaining(), memAddress(values));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_PIXEL_MAPUSV, Integer.BYTES + RenderThread.bytes(values));
+            __command.putInt(map);
+            RenderThread.put(__command, values);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_MAPUSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelMapusv(Is)", map, values);
+            }
+            nglPixelMapusv(map, values.remaining(), memAddress(values));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glPixelMapuiv ] ---
@@ -4864,7 +10472,26 @@ public class GL11 {
      *
      * @param size the map size
      */
-    public static native void nglPixelMapuiv(int map, int size, long values);
+    public static void nglPixelMapuiv(int map, int size, long values) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglPixelMapuiv(map, size, values));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_PIXEL_MAPUIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglPixelMapuiv(IIP)", map, size, values);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPixelMapuiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, size, values, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Unsigned integer version of {@link #glPixelMapfv PixelMapfv}.
@@ -4876,7 +10503,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLsizei") int size, @NativeType("GLuint const *") long values) {
-        nglPixelMapuiv(map, size, values);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glPixelMapuiv(map, size, values));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_MAPUIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelMapuiv(IIP)", map, size, values);
+            }
+            nglPixelMapuiv(map, size, values);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -4888,7 +10527,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLuint const *") IntBuffer values) {
-        nglPixelMapuiv(map, values.remaining(), memAddress(values));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_PIXEL_MAPUIV, Integer.BYTES + RenderThread.bytes(values));
+            __command.putInt(map);
+            RenderThread.put(__command, values);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_MAPUIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelMapuiv(Ii)", map, values);
+            }
+            nglPixelMapuiv(map, values.remaining(), memAddress(values));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glPixelStorei ] ---
@@ -4902,7 +10555,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glPixelStorei">Reference Page</a>
      */
     public static void glPixelStorei(@NativeType("GLenum") int pname, @NativeType("GLint") int param) {
-        GL11C.glPixelStorei(pname, param);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_PIXEL_STOREI, 2 * Integer.BYTES).putInt(pname).putInt(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_STOREI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelStorei(II)", pname, param);
+            }
+            OpaqueCalls.before();
+            GL11C.glPixelStorei(pname, param);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glPixelStoref ] ---
@@ -4916,7 +10582,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glPixelStoref">Reference Page</a>
      */
     public static void glPixelStoref(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
-        GL11C.glPixelStoref(pname, param);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_PIXEL_STOREF, Integer.BYTES + Float.BYTES).putInt(pname).putFloat(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_STOREF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelStoref(IF)", pname, param);
+            }
+            OpaqueCalls.before();
+            GL11C.glPixelStoref(pname, param);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glPixelTransferi ] ---
@@ -4929,7 +10608,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glPixelTransferi">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPixelTransferi(@NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glPixelTransferi(@NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_PIXEL_TRANSFERI, 2 * Integer.BYTES).putInt(pname).putInt(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_TRANSFERI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelTransferi(II)", pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPixelTransferi;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glPixelTransferf ] ---
 
@@ -4941,7 +10639,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glPixelTransferf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPixelTransferf(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glPixelTransferf(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_PIXEL_TRANSFERF, Integer.BYTES + Float.BYTES).putInt(pname).putFloat(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_TRANSFERF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelTransferf(IF)", pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPixelTransferf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glPixelZoom ] ---
 
@@ -4961,7 +10678,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glPixelZoom">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPixelZoom(@NativeType("GLfloat") float xfactor, @NativeType("GLfloat") float yfactor);
+    public static void glPixelZoom(@NativeType("GLfloat") float xfactor, @NativeType("GLfloat") float yfactor) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_PIXEL_ZOOM, 2 * Float.BYTES).putFloat(xfactor).putFloat(yfactor);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_ZOOM);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelZoom(FF)", xfactor, yfactor);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPixelZoom;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(xfactor, yfactor, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glPointSize ] ---
 
@@ -4973,7 +10709,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glPointSize">Reference Page</a>
      */
     public static void glPointSize(@NativeType("GLfloat") float size) {
-        GL11C.glPointSize(size);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_POINT_SIZE, Float.BYTES).putFloat(size);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_POINT_SIZE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPointSize(F)", size);
+            }
+            OpaqueCalls.before();
+            GL11C.glPointSize(size);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glPolygonMode ] ---
@@ -4991,7 +10740,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glPolygonMode">Reference Page</a>
      */
     public static void glPolygonMode(@NativeType("GLenum") int face, @NativeType("GLenum") int mode) {
-        GL11C.glPolygonMode(face, mode);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_POLYGON_MODE, 2 * Integer.BYTES).putInt(face).putInt(mode);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_POLYGON_MODE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPolygonMode(II)", face, mode);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidatePolygonMode();
+            GL11C.glPolygonMode(face, mode);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glPolygonOffset ] ---
@@ -5009,13 +10772,45 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glPolygonOffset">Reference Page</a>
      */
     public static void glPolygonOffset(@NativeType("GLfloat") float factor, @NativeType("GLfloat") float units) {
-        GL11C.glPolygonOffset(factor, units);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_POLYGON_OFFSET, 2 * Float.BYTES).putFloat(factor).putFloat(units);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_POLYGON_OFFSET);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPolygonOffset(FF)", factor, units);
+            }
+            OpaqueCalls.before();
+            GL11C.glPolygonOffset(factor, units);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glPolygonStipple ] ---
 
     /** Unsafe version of: {@link #glPolygonStipple PolygonStipple} */
-    public static native void nglPolygonStipple(long pattern);
+    public static void nglPolygonStipple(long pattern) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglPolygonStipple(pattern));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_POLYGON_STIPPLE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglPolygonStipple(P)", pattern);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPolygonStipple;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(pattern, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Defines a polygon stipple. It works much the same way as {@link #glLineStipple LineStipple}, masking out certain fragments produced by rasterization so that they
@@ -5032,10 +10827,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPolygonStipple">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPolygonStipple(@NativeType("GLubyte const *") ByteBuffer pattern) {
-        if (CHECKS) {
-            check(pattern, 128);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_POLYGON_STIPPLE, RenderThread.bytes(pattern));
+            RenderThread.put(__command, pattern);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_POLYGON_STIPPLE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPolygonStipple(b)", pattern);
+            }
+            if (CHECKS) {
+                check(pattern, 128);
+            }
+            nglPolygonStipple(memAddress(pattern));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglPolygonStipple(memAddress(pattern));
     }
 
     /**
@@ -5053,7 +10861,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPolygonStipple">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPolygonStipple(@NativeType("GLubyte const *") long pattern) {
-        nglPolygonStipple(pattern);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glPolygonStipple(pattern));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_POLYGON_STIPPLE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPolygonStipple(P)", pattern);
+            }
+            nglPolygonStipple(pattern);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glPushAttrib ] ---
@@ -5072,7 +10892,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glPushAttrib">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPushAttrib(@NativeType("GLbitfield") int mask);
+    public static void glPushAttrib(@NativeType("GLbitfield") int mask) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_PUSH_ATTRIB, Integer.BYTES).putInt(mask);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PUSH_ATTRIB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPushAttrib(I)", mask);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPushAttrib;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(mask, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glPushClientAttrib ] ---
 
@@ -5090,7 +10929,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glPushClientAttrib">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPushClientAttrib(@NativeType("GLbitfield") int mask);
+    public static void glPushClientAttrib(@NativeType("GLbitfield") int mask) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_PUSH_CLIENT_ATTRIB, Integer.BYTES).putInt(mask);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PUSH_CLIENT_ATTRIB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPushClientAttrib(I)", mask);
+            }
+            ClientArrayStreaming.pushClientAttrib(mask);
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPushClientAttrib;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(mask, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glPopAttrib ] ---
 
@@ -5099,7 +10958,29 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glPopAttrib">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPopAttrib();
+    public static void glPopAttrib() {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_POP_ATTRIB, 0);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_POP_ATTRIB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPopAttrib()");
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPopAttrib;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+            GlStateCache.invalidate();
+            ImmediateModeBatcher.invalidate();
+            MatrixStacks.invalidateMode();
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glPopClientAttrib ] ---
 
@@ -5108,7 +10989,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glPopClientAttrib">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPopClientAttrib();
+    public static void glPopClientAttrib() {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_POP_CLIENT_ATTRIB, 0);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_POP_CLIENT_ATTRIB);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPopClientAttrib()");
+            }
+            ClientArrayStreaming.popClientAttrib();
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPopClientAttrib;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glPopMatrix ] ---
 
@@ -5117,7 +11018,32 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glPopMatrix">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPopMatrix();
+    public static void glPopMatrix() {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_POP_MATRIX, 0);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_POP_MATRIX);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPopMatrix()");
+            }
+            if (DisplayListEmulation.popMatrix()) {
+                return;
+            }
+            if (MatrixStacks.popMatrix()) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPopMatrix;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glPopName ] ---
 
@@ -5126,7 +11052,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glPopName">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPopName();
+    public static void glPopName() {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_POP_NAME, 0);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_POP_NAME);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPopName()");
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPopName;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glPrioritizeTextures ] ---
 
@@ -5135,7 +11080,26 @@ public class GL11 {
      *
      * @param n the number of texture object priorities to set
      */
-    public static native void nglPrioritizeTextures(int n, long textures, long priorities);
+    public static void nglPrioritizeTextures(int n, long textures, long priorities) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglPrioritizeTextures(n, textures, priorities));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_PRIORITIZE_TEXTURES);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglPrioritizeTextures(IPP)", n, textures, priorities);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPrioritizeTextures;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPPV(n, textures, priorities, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Sets the priority of texture objects. Each priority value is clamped to the range [0, 1] before it is assigned. Zero indicates the lowest priority, with
@@ -5147,10 +11111,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPrioritizeTextures">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPrioritizeTextures(@NativeType("GLuint const *") IntBuffer textures, @NativeType("GLfloat const *") FloatBuffer priorities) {
-        if (CHECKS) {
-            check(priorities, textures.remaining());
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_PRIORITIZE_TEXTURES, RenderThread.bytes(textures) + RenderThread.bytes(priorities));
+            RenderThread.put(__command, textures);
+            RenderThread.put(__command, priorities);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PRIORITIZE_TEXTURES);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPrioritizeTextures(if)", textures, priorities);
+            }
+            if (CHECKS) {
+                check(priorities, textures.remaining());
+            }
+            nglPrioritizeTextures(textures.remaining(), memAddress(textures), memAddress(priorities));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglPrioritizeTextures(textures.remaining(), memAddress(textures), memAddress(priorities));
     }
 
     // --- [ glPushMatrix ] ---
@@ -5160,7 +11138,32 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glPushMatrix">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPushMatrix();
+    public static void glPushMatrix() {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_PUSH_MATRIX, 0);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PUSH_MATRIX);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPushMatrix()");
+            }
+            if (DisplayListEmulation.pushMatrix()) {
+                return;
+            }
+            if (MatrixStacks.pushMatrix()) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPushMatrix;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glPushName ] ---
 
@@ -5171,7 +11174,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glPushName">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPushName(@NativeType("GLuint") int name);
+    public static void glPushName(@NativeType("GLuint") int name) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_PUSH_NAME, Integer.BYTES).putInt(name);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PUSH_NAME);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPushName(I)", name);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPushName;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(name, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos2i ] ---
 
@@ -5189,7 +11211,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos2i(@NativeType("GLint") int x, @NativeType("GLint") int y);
+    public static void glRasterPos2i(@NativeType("GLint") int x, @NativeType("GLint") int y) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RASTER_POS2I, 2 * Integer.BYTES).putInt(x).putInt(y);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS2I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos2i(II)", x, y);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos2i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos2s ] ---
 
@@ -5201,7 +11242,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos2s(@NativeType("GLshort") short x, @NativeType("GLshort") short y);
+    public static void glRasterPos2s(@NativeType("GLshort") short x, @NativeType("GLshort") short y) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RASTER_POS2S, 2 * Short.BYTES).putShort(x).putShort(y);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS2S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos2s(SS)", x, y);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos2s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSV(x, y, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos2f ] ---
 
@@ -5213,7 +11273,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos2f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y);
+    public static void glRasterPos2f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RASTER_POS2F, 2 * Float.BYTES).putFloat(x).putFloat(y);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS2F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos2f(FF)", x, y);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos2f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos2d ] ---
 
@@ -5225,12 +11304,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos2d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y);
+    public static void glRasterPos2d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RASTER_POS2D, 2 * Double.BYTES).putDouble(x).putDouble(y);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS2D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos2d(DD)", x, y);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos2d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos2iv ] ---
 
     /** Unsafe version of: {@link #glRasterPos2iv RasterPos2iv} */
-    public static native void nglRasterPos2iv(long coords);
+    public static void nglRasterPos2iv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRasterPos2iv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RASTER_POS2IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRasterPos2iv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos2iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos2i RasterPos2i}.
@@ -5240,16 +11357,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2iv(@NativeType("GLint const *") IntBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS2IV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS2IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos2iv(i)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            nglRasterPos2iv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRasterPos2iv(memAddress(coords));
     }
 
     // --- [ glRasterPos2sv ] ---
 
     /** Unsafe version of: {@link #glRasterPos2sv RasterPos2sv} */
-    public static native void nglRasterPos2sv(long coords);
+    public static void nglRasterPos2sv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRasterPos2sv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RASTER_POS2SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRasterPos2sv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos2sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos2s RasterPos2s}.
@@ -5259,16 +11408,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2sv(@NativeType("GLshort const *") ShortBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS2SV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS2SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos2sv(s)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            nglRasterPos2sv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRasterPos2sv(memAddress(coords));
     }
 
     // --- [ glRasterPos2fv ] ---
 
     /** Unsafe version of: {@link #glRasterPos2fv RasterPos2fv} */
-    public static native void nglRasterPos2fv(long coords);
+    public static void nglRasterPos2fv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRasterPos2fv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RASTER_POS2FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRasterPos2fv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos2f RasterPos2f}.
@@ -5278,16 +11459,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2fv(@NativeType("GLfloat const *") FloatBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS2FV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS2FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos2fv(f)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            nglRasterPos2fv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRasterPos2fv(memAddress(coords));
     }
 
     // --- [ glRasterPos2dv ] ---
 
     /** Unsafe version of: {@link #glRasterPos2dv RasterPos2dv} */
-    public static native void nglRasterPos2dv(long coords);
+    public static void nglRasterPos2dv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRasterPos2dv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RASTER_POS2DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRasterPos2dv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos2d RasterPos2d}.
@@ -5297,10 +11510,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2dv(@NativeType("GLdouble const *") DoubleBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS2DV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS2DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos2dv(d)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            nglRasterPos2dv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRasterPos2dv(memAddress(coords));
     }
 
     // --- [ glRasterPos3i ] ---
@@ -5314,7 +11540,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos3i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z);
+    public static void glRasterPos3i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RASTER_POS3I, 3 * Integer.BYTES).putInt(x).putInt(y).putInt(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS3I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos3i(III)", x, y, z);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos3i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos3s ] ---
 
@@ -5327,7 +11572,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos3s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z);
+    public static void glRasterPos3s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RASTER_POS3S, 3 * Short.BYTES).putShort(x).putShort(y).putShort(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS3S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos3s(SSS)", x, y, z);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos3s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSSV(x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos3f ] ---
 
@@ -5340,7 +11604,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos3f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z);
+    public static void glRasterPos3f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RASTER_POS3F, 3 * Float.BYTES).putFloat(x).putFloat(y).putFloat(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS3F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos3f(FFF)", x, y, z);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos3f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos3d ] ---
 
@@ -5353,12 +11636,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos3d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z);
+    public static void glRasterPos3d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RASTER_POS3D, 3 * Double.BYTES).putDouble(x).putDouble(y).putDouble(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS3D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos3d(DDD)", x, y, z);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos3d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos3iv ] ---
 
     /** Unsafe version of: {@link #glRasterPos3iv RasterPos3iv} */
-    public static native void nglRasterPos3iv(long coords);
+    public static void nglRasterPos3iv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRasterPos3iv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RASTER_POS3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRasterPos3iv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos3i RasterPos3i}.
@@ -5368,16 +11689,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3iv(@NativeType("GLint const *") IntBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS3IV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos3iv(i)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            nglRasterPos3iv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRasterPos3iv(memAddress(coords));
     }
 
     // --- [ glRasterPos3sv ] ---
 
     /** Unsafe version of: {@link #glRasterPos3sv RasterPos3sv} */
-    public static native void nglRasterPos3sv(long coords);
+    public static void nglRasterPos3sv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRasterPos3sv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RASTER_POS3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRasterPos3sv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos3s RasterPos3s}.
@@ -5387,16 +11740,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3sv(@NativeType("GLshort const *") ShortBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS3SV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos3sv(s)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            nglRasterPos3sv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRasterPos3sv(memAddress(coords));
     }
 
     // --- [ glRasterPos3fv ] ---
 
     /** Unsafe version of: {@link #glRasterPos3fv RasterPos3fv} */
-    public static native void nglRasterPos3fv(long coords);
+    public static void nglRasterPos3fv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRasterPos3fv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RASTER_POS3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRasterPos3fv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos3f RasterPos3f}.
@@ -5406,16 +11791,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3fv(@NativeType("GLfloat const *") FloatBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS3FV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos3fv(f)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            nglRasterPos3fv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRasterPos3fv(memAddress(coords));
     }
 
     // --- [ glRasterPos3dv ] ---
 
     /** Unsafe version of: {@link #glRasterPos3dv RasterPos3dv} */
-    public static native void nglRasterPos3dv(long coords);
+    public static void nglRasterPos3dv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRasterPos3dv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RASTER_POS3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRasterPos3dv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos3d RasterPos3d}.
@@ -5425,10 +11842,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3dv(@NativeType("GLdouble const *") DoubleBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS3DV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos3dv(d)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            nglRasterPos3dv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRasterPos3dv(memAddress(coords));
     }
 
     // --- [ glRasterPos4i ] ---
@@ -5443,7 +11873,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos4i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z, @NativeType("GLint") int w);
+    public static void glRasterPos4i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z, @NativeType("GLint") int w) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RASTER_POS4I, 4 * Integer.BYTES).putInt(x).putInt(y).putInt(z).putInt(w);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS4I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos4i(IIII)", x, y, z, w);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos4i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos4s ] ---
 
@@ -5457,7 +11906,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos4s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z, @NativeType("GLshort") short w);
+    public static void glRasterPos4s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z, @NativeType("GLshort") short w) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RASTER_POS4S, 4 * Short.BYTES).putShort(x).putShort(y).putShort(z).putShort(w);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS4S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos4s(SSSS)", x, y, z, w);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos4s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSSSV(x, y, z, w, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos4f ] ---
 
@@ -5471,7 +11939,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos4f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z, @NativeType("GLfloat") float w);
+    public static void glRasterPos4f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z, @NativeType("GLfloat") float w) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RASTER_POS4F, 4 * Float.BYTES).putFloat(x).putFloat(y).putFloat(z).putFloat(w);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS4F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos4f(FFFF)", x, y, z, w);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos4f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos4d ] ---
 
@@ -5485,12 +11972,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos4d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z, @NativeType("GLdouble") double w);
+    public static void glRasterPos4d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z, @NativeType("GLdouble") double w) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RASTER_POS4D, 4 * Double.BYTES).putDouble(x).putDouble(y).putDouble(z).putDouble(w);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS4D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos4d(DDDD)", x, y, z, w);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos4d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRasterPos4iv ] ---
 
     /** Unsafe version of: {@link #glRasterPos4iv RasterPos4iv} */
-    public static native void nglRasterPos4iv(long coords);
+    public static void nglRasterPos4iv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRasterPos4iv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RASTER_POS4IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRasterPos4iv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos4i RasterPos4i}.
@@ -5500,16 +12025,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4iv(@NativeType("GLint const *") IntBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS4IV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS4IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos4iv(i)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            nglRasterPos4iv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRasterPos4iv(memAddress(coords));
     }
 
     // --- [ glRasterPos4sv ] ---
 
     /** Unsafe version of: {@link #glRasterPos4sv RasterPos4sv} */
-    public static native void nglRasterPos4sv(long coords);
+    public static void nglRasterPos4sv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRasterPos4sv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RASTER_POS4SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRasterPos4sv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos4s RasterPos4s}.
@@ -5519,16 +12076,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4sv(@NativeType("GLshort const *") ShortBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS4SV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS4SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos4sv(s)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            nglRasterPos4sv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRasterPos4sv(memAddress(coords));
     }
 
     // --- [ glRasterPos4fv ] ---
 
     /** Unsafe version of: {@link #glRasterPos4fv RasterPos4fv} */
-    public static native void nglRasterPos4fv(long coords);
+    public static void nglRasterPos4fv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRasterPos4fv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RASTER_POS4FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRasterPos4fv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos4f RasterPos4f}.
@@ -5538,16 +12127,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4fv(@NativeType("GLfloat const *") FloatBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS4FV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS4FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos4fv(f)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            nglRasterPos4fv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRasterPos4fv(memAddress(coords));
     }
 
     // --- [ glRasterPos4dv ] ---
 
     /** Unsafe version of: {@link #glRasterPos4dv RasterPos4dv} */
-    public static native void nglRasterPos4dv(long coords);
+    public static void nglRasterPos4dv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRasterPos4dv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RASTER_POS4DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRasterPos4dv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos4d RasterPos4d}.
@@ -5557,10 +12178,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4dv(@NativeType("GLdouble const *") DoubleBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS4DV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS4DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos4dv(d)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            nglRasterPos4dv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRasterPos4dv(memAddress(coords));
     }
 
     // --- [ glReadBuffer ] ---
@@ -5576,14 +12210,40 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glReadBuffer">Reference Page</a>
      */
     public static void glReadBuffer(@NativeType("GLenum") int src) {
-        GL11C.glReadBuffer(src);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_READ_BUFFER, Integer.BYTES).putInt(src);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_READ_BUFFER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glReadBuffer(I)", src);
+            }
+            OpaqueCalls.before();
+            GL11C.glReadBuffer(src);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glReadPixels ] ---
 
     /** Unsafe version of: {@link #glReadPixels ReadPixels} */
     public static void nglReadPixels(int x, int y, int width, int height, int format, int type, long pixels) {
-        GL11C.nglReadPixels(x, y, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglReadPixels(x, y, width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_READ_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglReadPixels(IIIIIIP)", x, y, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.nglReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -5604,7 +12264,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glReadPixels(x, y, width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_READ_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glReadPixels(IIIIIIb)", x, y, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -5625,7 +12298,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glReadPixels(x, y, width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_READ_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glReadPixels(IIIIIIP)", x, y, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -5646,7 +12332,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glReadPixels(x, y, width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_READ_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glReadPixels(IIIIIIs)", x, y, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -5667,7 +12366,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glReadPixels(x, y, width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_READ_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glReadPixels(IIIIIIi)", x, y, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -5688,7 +12400,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glReadPixels(x, y, width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_READ_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glReadPixels(IIIIIIf)", x, y, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glRecti ] ---
@@ -5716,7 +12441,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRecti">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRecti(@NativeType("GLint") int x1, @NativeType("GLint") int y1, @NativeType("GLint") int x2, @NativeType("GLint") int y2);
+    public static void glRecti(@NativeType("GLint") int x1, @NativeType("GLint") int y1, @NativeType("GLint") int x2, @NativeType("GLint") int y2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RECTI, 4 * Integer.BYTES).putInt(x1).putInt(y1).putInt(x2).putInt(y2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RECTI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRecti(IIII)", x1, y1, x2, y2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRecti;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x1, y1, x2, y2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRects ] ---
 
@@ -5730,7 +12474,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRects">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRects(@NativeType("GLshort") short x1, @NativeType("GLshort") short y1, @NativeType("GLshort") short x2, @NativeType("GLshort") short y2);
+    public static void glRects(@NativeType("GLshort") short x1, @NativeType("GLshort") short y1, @NativeType("GLshort") short x2, @NativeType("GLshort") short y2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RECTS, 4 * Short.BYTES).putShort(x1).putShort(y1).putShort(x2).putShort(y2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RECTS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRects(SSSS)", x1, y1, x2, y2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRects;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSSSV(x1, y1, x2, y2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRectf ] ---
 
@@ -5744,7 +12507,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRectf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRectf(@NativeType("GLfloat") float x1, @NativeType("GLfloat") float y1, @NativeType("GLfloat") float x2, @NativeType("GLfloat") float y2);
+    public static void glRectf(@NativeType("GLfloat") float x1, @NativeType("GLfloat") float y1, @NativeType("GLfloat") float x2, @NativeType("GLfloat") float y2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RECTF, 4 * Float.BYTES).putFloat(x1).putFloat(y1).putFloat(x2).putFloat(y2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RECTF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRectf(FFFF)", x1, y1, x2, y2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRectf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x1, y1, x2, y2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRectd ] ---
 
@@ -5758,12 +12540,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRectd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRectd(@NativeType("GLdouble") double x1, @NativeType("GLdouble") double y1, @NativeType("GLdouble") double x2, @NativeType("GLdouble") double y2);
+    public static void glRectd(@NativeType("GLdouble") double x1, @NativeType("GLdouble") double y1, @NativeType("GLdouble") double x2, @NativeType("GLdouble") double y2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_RECTD, 4 * Double.BYTES).putDouble(x1).putDouble(y1).putDouble(x2).putDouble(y2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RECTD);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRectd(DDDD)", x1, y1, x2, y2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRectd;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x1, y1, x2, y2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRectiv ] ---
 
     /** Unsafe version of: {@link #glRectiv Rectiv} */
-    public static native void nglRectiv(long v1, long v2);
+    public static void nglRectiv(long v1, long v2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRectiv(v1, v2));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RECTIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRectiv(PP)", v1, v2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRectiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRecti Recti}.
@@ -5774,17 +12594,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectiv(@NativeType("GLint const *") IntBuffer v1, @NativeType("GLint const *") IntBuffer v2) {
-        if (CHECKS) {
-            check(v1, 2);
-            check(v2, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RECTIV, RenderThread.bytes(v1) + RenderThread.bytes(v2));
+            RenderThread.put(__command, v1);
+            RenderThread.put(__command, v2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RECTIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRectiv(ii)", v1, v2);
+            }
+            if (CHECKS) {
+                check(v1, 2);
+                check(v2, 2);
+            }
+            nglRectiv(memAddress(v1), memAddress(v2));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRectiv(memAddress(v1), memAddress(v2));
     }
 
     // --- [ glRectsv ] ---
 
     /** Unsafe version of: {@link #glRectsv Rectsv} */
-    public static native void nglRectsv(long v1, long v2);
+    public static void nglRectsv(long v1, long v2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRectsv(v1, v2));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RECTSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRectsv(PP)", v1, v2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRectsv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRects Rects}.
@@ -5795,17 +12648,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectsv(@NativeType("GLshort const *") ShortBuffer v1, @NativeType("GLshort const *") ShortBuffer v2) {
-        if (CHECKS) {
-            check(v1, 2);
-            check(v2, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RECTSV, RenderThread.bytes(v1) + RenderThread.bytes(v2));
+            RenderThread.put(__command, v1);
+            RenderThread.put(__command, v2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RECTSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRectsv(ss)", v1, v2);
+            }
+            if (CHECKS) {
+                check(v1, 2);
+                check(v2, 2);
+            }
+            nglRectsv(memAddress(v1), memAddress(v2));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRectsv(memAddress(v1), memAddress(v2));
     }
 
     // --- [ glRectfv ] ---
 
     /** Unsafe version of: {@link #glRectfv Rectfv} */
-    public static native void nglRectfv(long v1, long v2);
+    public static void nglRectfv(long v1, long v2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRectfv(v1, v2));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RECTFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRectfv(PP)", v1, v2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRectfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRectf Rectf}.
@@ -5816,17 +12702,50 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectfv(@NativeType("GLfloat const *") FloatBuffer v1, @NativeType("GLfloat const *") FloatBuffer v2) {
-        if (CHECKS) {
-            check(v1, 2);
-            check(v2, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RECTFV, RenderThread.bytes(v1) + RenderThread.bytes(v2));
+            RenderThread.put(__command, v1);
+            RenderThread.put(__command, v2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RECTFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRectfv(ff)", v1, v2);
+            }
+            if (CHECKS) {
+                check(v1, 2);
+                check(v2, 2);
+            }
+            nglRectfv(memAddress(v1), memAddress(v2));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRectfv(memAddress(v1), memAddress(v2));
     }
 
     // --- [ glRectdv ] ---
 
     /** Unsafe version of: {@link #glRectdv Rectdv} */
-    public static native void nglRectdv(long v1, long v2);
+    public static void nglRectdv(long v1, long v2) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglRectdv(v1, v2));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_RECTDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglRectdv(PP)", v1, v2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRectdv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRectd Rectd}.
@@ -5837,11 +12756,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectdv(@NativeType("GLdouble const *") DoubleBuffer v1, @NativeType("GLdouble const *") DoubleBuffer v2) {
-        if (CHECKS) {
-            check(v1, 2);
-            check(v2, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RECTDV, RenderThread.bytes(v1) + RenderThread.bytes(v2));
+            RenderThread.put(__command, v1);
+            RenderThread.put(__command, v2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RECTDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRectdv(dd)", v1, v2);
+            }
+            if (CHECKS) {
+                check(v1, 2);
+                check(v2, 2);
+            }
+            nglRectdv(memAddress(v1), memAddress(v2));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglRectdv(memAddress(v1), memAddress(v2));
     }
 
     // --- [ glRenderMode ] ---
@@ -5854,7 +12787,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRenderMode">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     @NativeType("GLint")
-    public static native int glRenderMode(@NativeType("GLenum") int mode);
+    public static int glRenderMode(@NativeType("GLenum") int mode) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glRenderMode(mode));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RENDER_MODE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRenderMode(I)", mode);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRenderMode;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            return callI(mode, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRotatef ] ---
 
@@ -5889,7 +12840,32 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRotatef">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRotatef(@NativeType("GLfloat") float angle, @NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z);
+    public static void glRotatef(@NativeType("GLfloat") float angle, @NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_ROTATEF, 4 * Float.BYTES).putFloat(angle).putFloat(x).putFloat(y).putFloat(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_ROTATEF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRotatef(FFFF)", angle, x, y, z);
+            }
+            if (DisplayListEmulation.rotate(angle, x, y, z)) {
+                return;
+            }
+            if (MatrixStacks.rotate(angle, x, y, z)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRotatef;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(angle, x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glRotated ] ---
 
@@ -5903,7 +12879,29 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glRotated">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRotated(@NativeType("GLdouble") double angle, @NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z);
+    public static void glRotated(@NativeType("GLdouble") double angle, @NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_ROTATED, 4 * Double.BYTES).putDouble(angle).putDouble(x).putDouble(y).putDouble(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_ROTATED);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRotated(DDDD)", angle, x, y, z);
+            }
+            if (MatrixStacks.rotate((float) angle, (float) x, (float) y, (float) z)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRotated;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(angle, x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glScalef ] ---
 
@@ -5925,7 +12923,32 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glScalef">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glScalef(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z);
+    public static void glScalef(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_SCALEF, 3 * Float.BYTES).putFloat(x).putFloat(y).putFloat(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_SCALEF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glScalef(FFF)", x, y, z);
+            }
+            if (DisplayListEmulation.scale(x, y, z)) {
+                return;
+            }
+            if (MatrixStacks.scale(x, y, z)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glScalef;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glScaled ] ---
 
@@ -5938,7 +12961,29 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glScaled">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glScaled(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z);
+    public static void glScaled(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_SCALED, 3 * Double.BYTES).putDouble(x).putDouble(y).putDouble(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_SCALED);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glScaled(DDD)", x, y, z);
+            }
+            if (MatrixStacks.scale((float) x, (float) y, (float) z)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glScaled;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glScissor ] ---
 
@@ -5956,7 +13001,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glScissor">Reference Page</a>
      */
     public static void glScissor(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height) {
-        GL11C.glScissor(x, y, width, height);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_SCISSOR, 4 * Integer.BYTES).putInt(x).putInt(y).putInt(width).putInt(height);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_SCISSOR);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glScissor(IIII)", x, y, width, height);
+            }
+            OpaqueCalls.before();
+            GL11C.glScissor(x, y, width, height);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glSelectBuffer ] ---
@@ -5966,7 +13024,26 @@ public class GL11 {
      *
      * @param size the maximum number of values that can be stored in {@code buffer}
      */
-    public static native void nglSelectBuffer(int size, long buffer);
+    public static void nglSelectBuffer(int size, long buffer) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglSelectBuffer(size, buffer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_SELECT_BUFFER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglSelectBuffer(IP)", size, buffer);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glSelectBuffer;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(size, buffer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Sets the selection array.
@@ -5976,7 +13053,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glSelectBuffer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glSelectBuffer(@NativeType("GLuint *") IntBuffer buffer) {
-        nglSelectBuffer(buffer.remaining(), memAddress(buffer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glSelectBuffer(buffer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_SELECT_BUFFER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glSelectBuffer(i)", buffer);
+            }
+            nglSelectBuffer(buffer.remaining(), memAddress(buffer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glShadeModel ] ---
@@ -5992,7 +13081,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glShadeModel">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glShadeModel(@NativeType("GLenum") int mode);
+    public static void glShadeModel(@NativeType("GLenum") int mode) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_SHADE_MODEL, Integer.BYTES).putInt(mode);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_SHADE_MODEL);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glShadeModel(I)", mode);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glShadeModel;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(mode, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glStencilFunc ] ---
 
@@ -6011,7 +13119,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glStencilFunc">Reference Page</a>
      */
     public static void glStencilFunc(@NativeType("GLenum") int func, @NativeType("GLint") int ref, @NativeType("GLuint") int mask) {
-        GL11C.glStencilFunc(func, ref, mask);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_STENCIL_FUNC, 3 * Integer.BYTES).putInt(func).putInt(ref).putInt(mask);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_STENCIL_FUNC);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glStencilFunc(III)", func, ref, mask);
+            }
+            OpaqueCalls.before();
+            GL11C.glStencilFunc(func, ref, mask);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glStencilMask ] ---
@@ -6027,7 +13148,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glStencilMask">Reference Page</a>
      */
     public static void glStencilMask(@NativeType("GLuint") int mask) {
-        GL11C.glStencilMask(mask);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_STENCIL_MASK, Integer.BYTES).putInt(mask);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_STENCIL_MASK);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glStencilMask(I)", mask);
+            }
+            OpaqueCalls.before();
+            GL11C.glStencilMask(mask);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glStencilOp ] ---
@@ -6050,7 +13184,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glStencilOp">Reference Page</a>
      */
     public static void glStencilOp(@NativeType("GLenum") int sfail, @NativeType("GLenum") int dpfail, @NativeType("GLenum") int dppass) {
-        GL11C.glStencilOp(sfail, dpfail, dppass);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_STENCIL_OP, 3 * Integer.BYTES).putInt(sfail).putInt(dpfail).putInt(dppass);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_STENCIL_OP);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glStencilOp(III)", sfail, dpfail, dppass);
+            }
+            OpaqueCalls.before();
+            GL11C.glStencilOp(sfail, dpfail, dppass);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glTexCoord1f ] ---
@@ -6062,7 +13209,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord1f(@NativeType("GLfloat") float s);
+    public static void glTexCoord1f(@NativeType("GLfloat") float s) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD1F, Float.BYTES).putFloat(s);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD1F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord1f(F)", s);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord1f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord1s ] ---
 
@@ -6073,7 +13240,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord1s(@NativeType("GLshort") short s);
+    public static void glTexCoord1s(@NativeType("GLshort") short s) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD1S, Short.BYTES).putShort(s);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD1S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord1s(S)", s);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord1s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSV(s, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord1i ] ---
 
@@ -6084,7 +13271,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord1i(@NativeType("GLint") int s);
+    public static void glTexCoord1i(@NativeType("GLint") int s) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD1I, Integer.BYTES).putInt(s);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD1I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord1i(I)", s);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord1i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord1d ] ---
 
@@ -6095,12 +13302,52 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord1d(@NativeType("GLdouble") double s);
+    public static void glTexCoord1d(@NativeType("GLdouble") double s) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD1D, Double.BYTES).putDouble(s);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD1D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord1d(D)", s);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord1d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord1fv ] ---
 
     /** Unsafe version of: {@link #glTexCoord1fv TexCoord1fv} */
-    public static native void nglTexCoord1fv(long v);
+    public static void nglTexCoord1fv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord1fv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD1FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord1fv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord1fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord1f TexCoord1f}.
@@ -6110,16 +13357,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD1FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD1FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord1fv(f)", v);
+            }
+            if (CHECKS) {
+                check(v, 1);
+            }
+            nglTexCoord1fv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord1fv(memAddress(v));
     }
 
     // --- [ glTexCoord1sv ] ---
 
     /** Unsafe version of: {@link #glTexCoord1sv TexCoord1sv} */
-    public static native void nglTexCoord1sv(long v);
+    public static void nglTexCoord1sv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord1sv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD1SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord1sv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord1sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord1s TexCoord1s}.
@@ -6129,16 +13409,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD1SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD1SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord1sv(s)", v);
+            }
+            if (CHECKS) {
+                check(v, 1);
+            }
+            nglTexCoord1sv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord1sv(memAddress(v));
     }
 
     // --- [ glTexCoord1iv ] ---
 
     /** Unsafe version of: {@link #glTexCoord1iv TexCoord1iv} */
-    public static native void nglTexCoord1iv(long v);
+    public static void nglTexCoord1iv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord1iv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD1IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord1iv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord1iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord1i TexCoord1i}.
@@ -6148,16 +13461,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD1IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD1IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord1iv(i)", v);
+            }
+            if (CHECKS) {
+                check(v, 1);
+            }
+            nglTexCoord1iv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord1iv(memAddress(v));
     }
 
     // --- [ glTexCoord1dv ] ---
 
     /** Unsafe version of: {@link #glTexCoord1dv TexCoord1dv} */
-    public static native void nglTexCoord1dv(long v);
+    public static void nglTexCoord1dv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord1dv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD1DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord1dv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord1dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord1d TexCoord1d}.
@@ -6167,10 +13513,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD1DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD1DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord1dv(d)", v);
+            }
+            if (CHECKS) {
+                check(v, 1);
+            }
+            nglTexCoord1dv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord1dv(memAddress(v));
     }
 
     // --- [ glTexCoord2f ] ---
@@ -6183,7 +13542,31 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord2f(@NativeType("GLfloat") float s, @NativeType("GLfloat") float t);
+    public static void glTexCoord2f(@NativeType("GLfloat") float s, @NativeType("GLfloat") float t) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD2F, 2 * Float.BYTES).putFloat(s).putFloat(t);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD2F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord2f(FF)", s, t);
+            }
+            if (DisplayListEmulation.textureCoordinates(s, t)) {
+                return;
+            }
+            if (ImmediateModeBatcher.textureCoordinates(s, t)) {
+                return;
+            }
+            long __functionAddress = GL.getICD().glTexCoord2f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord2s ] ---
 
@@ -6195,7 +13578,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord2s(@NativeType("GLshort") short s, @NativeType("GLshort") short t);
+    public static void glTexCoord2s(@NativeType("GLshort") short s, @NativeType("GLshort") short t) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD2S, 2 * Short.BYTES).putShort(s).putShort(t);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD2S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord2s(SS)", s, t);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord2s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSV(s, t, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord2i ] ---
 
@@ -6207,7 +13610,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord2i(@NativeType("GLint") int s, @NativeType("GLint") int t);
+    public static void glTexCoord2i(@NativeType("GLint") int s, @NativeType("GLint") int t) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD2I, 2 * Integer.BYTES).putInt(s).putInt(t);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD2I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord2i(II)", s, t);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord2i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord2d ] ---
 
@@ -6219,12 +13642,56 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord2d(@NativeType("GLdouble") double s, @NativeType("GLdouble") double t);
+    public static void glTexCoord2d(@NativeType("GLdouble") double s, @NativeType("GLdouble") double t) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD2D, 2 * Double.BYTES).putDouble(s).putDouble(t);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD2D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord2d(DD)", s, t);
+            }
+            if (DisplayListEmulation.textureCoordinates((float) s, (float) t)) {
+                return;
+            }
+            if (ImmediateModeBatcher.textureCoordinates((float) s, (float) t)) {
+                return;
+            }
+            long __functionAddress = GL.getICD().glTexCoord2d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord2fv ] ---
 
     /** Unsafe version of: {@link #glTexCoord2fv TexCoord2fv} */
-    public static native void nglTexCoord2fv(long v);
+    public static void nglTexCoord2fv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord2fv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD2FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord2fv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord2f TexCoord2f}.
@@ -6234,16 +13701,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD2FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD2FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord2fv(f)", v);
+            }
+            if (CHECKS) {
+                check(v, 2);
+            }
+            nglTexCoord2fv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord2fv(memAddress(v));
     }
 
     // --- [ glTexCoord2sv ] ---
 
     /** Unsafe version of: {@link #glTexCoord2sv TexCoord2sv} */
-    public static native void nglTexCoord2sv(long v);
+    public static void nglTexCoord2sv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord2sv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD2SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord2sv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord2sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord2s TexCoord2s}.
@@ -6253,16 +13753,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD2SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD2SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord2sv(s)", v);
+            }
+            if (CHECKS) {
+                check(v, 2);
+            }
+            nglTexCoord2sv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord2sv(memAddress(v));
     }
 
     // --- [ glTexCoord2iv ] ---
 
     /** Unsafe version of: {@link #glTexCoord2iv TexCoord2iv} */
-    public static native void nglTexCoord2iv(long v);
+    public static void nglTexCoord2iv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord2iv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD2IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord2iv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord2iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord2i TexCoord2i}.
@@ -6272,16 +13805,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD2IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD2IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord2iv(i)", v);
+            }
+            if (CHECKS) {
+                check(v, 2);
+            }
+            nglTexCoord2iv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord2iv(memAddress(v));
     }
 
     // --- [ glTexCoord2dv ] ---
 
     /** Unsafe version of: {@link #glTexCoord2dv TexCoord2dv} */
-    public static native void nglTexCoord2dv(long v);
+    public static void nglTexCoord2dv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord2dv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD2DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord2dv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord2d TexCoord2d}.
@@ -6291,10 +13857,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD2DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD2DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord2dv(d)", v);
+            }
+            if (CHECKS) {
+                check(v, 2);
+            }
+            nglTexCoord2dv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord2dv(memAddress(v));
     }
 
     // --- [ glTexCoord3f ] ---
@@ -6308,7 +13887,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord3f(@NativeType("GLfloat") float s, @NativeType("GLfloat") float t, @NativeType("GLfloat") float r);
+    public static void glTexCoord3f(@NativeType("GLfloat") float s, @NativeType("GLfloat") float t, @NativeType("GLfloat") float r) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD3F, 3 * Float.BYTES).putFloat(s).putFloat(t).putFloat(r);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD3F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord3f(FFF)", s, t, r);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord3f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord3s ] ---
 
@@ -6321,7 +13920,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord3s(@NativeType("GLshort") short s, @NativeType("GLshort") short t, @NativeType("GLshort") short r);
+    public static void glTexCoord3s(@NativeType("GLshort") short s, @NativeType("GLshort") short t, @NativeType("GLshort") short r) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD3S, 3 * Short.BYTES).putShort(s).putShort(t).putShort(r);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD3S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord3s(SSS)", s, t, r);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord3s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSSV(s, t, r, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord3i ] ---
 
@@ -6334,7 +13953,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord3i(@NativeType("GLint") int s, @NativeType("GLint") int t, @NativeType("GLint") int r);
+    public static void glTexCoord3i(@NativeType("GLint") int s, @NativeType("GLint") int t, @NativeType("GLint") int r) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD3I, 3 * Integer.BYTES).putInt(s).putInt(t).putInt(r);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD3I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord3i(III)", s, t, r);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord3i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord3d ] ---
 
@@ -6347,12 +13986,52 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord3d(@NativeType("GLdouble") double s, @NativeType("GLdouble") double t, @NativeType("GLdouble") double r);
+    public static void glTexCoord3d(@NativeType("GLdouble") double s, @NativeType("GLdouble") double t, @NativeType("GLdouble") double r) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD3D, 3 * Double.BYTES).putDouble(s).putDouble(t).putDouble(r);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD3D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord3d(DDD)", s, t, r);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord3d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord3fv ] ---
 
     /** Unsafe version of: {@link #glTexCoord3fv TexCoord3fv} */
-    public static native void nglTexCoord3fv(long v);
+    public static void nglTexCoord3fv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord3fv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord3fv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord3f TexCoord3f}.
@@ -6362,16 +14041,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD3FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord3fv(f)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglTexCoord3fv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord3fv(memAddress(v));
     }
 
     // --- [ glTexCoord3sv ] ---
 
     /** Unsafe version of: {@link #glTexCoord3sv TexCoord3sv} */
-    public static native void nglTexCoord3sv(long v);
+    public static void nglTexCoord3sv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord3sv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord3sv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord3s TexCoord3s}.
@@ -6381,16 +14093,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD3SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord3sv(s)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglTexCoord3sv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord3sv(memAddress(v));
     }
 
     // --- [ glTexCoord3iv ] ---
 
     /** Unsafe version of: {@link #glTexCoord3iv TexCoord3iv} */
-    public static native void nglTexCoord3iv(long v);
+    public static void nglTexCoord3iv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord3iv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord3iv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord3i TexCoord3i}.
@@ -6400,16 +14145,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD3IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord3iv(i)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglTexCoord3iv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord3iv(memAddress(v));
     }
 
     // --- [ glTexCoord3dv ] ---
 
     /** Unsafe version of: {@link #glTexCoord3dv TexCoord3dv} */
-    public static native void nglTexCoord3dv(long v);
+    public static void nglTexCoord3dv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord3dv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord3dv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord3d TexCoord3d}.
@@ -6419,10 +14197,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD3DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord3dv(d)", v);
+            }
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglTexCoord3dv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord3dv(memAddress(v));
     }
 
     // --- [ glTexCoord4f ] ---
@@ -6437,7 +14228,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord4f(@NativeType("GLfloat") float s, @NativeType("GLfloat") float t, @NativeType("GLfloat") float r, @NativeType("GLfloat") float q);
+    public static void glTexCoord4f(@NativeType("GLfloat") float s, @NativeType("GLfloat") float t, @NativeType("GLfloat") float r, @NativeType("GLfloat") float q) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD4F, 4 * Float.BYTES).putFloat(s).putFloat(t).putFloat(r).putFloat(q);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD4F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord4f(FFFF)", s, t, r, q);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord4f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, q, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord4s ] ---
 
@@ -6451,7 +14262,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord4s(@NativeType("GLshort") short s, @NativeType("GLshort") short t, @NativeType("GLshort") short r, @NativeType("GLshort") short q);
+    public static void glTexCoord4s(@NativeType("GLshort") short s, @NativeType("GLshort") short t, @NativeType("GLshort") short r, @NativeType("GLshort") short q) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD4S, 4 * Short.BYTES).putShort(s).putShort(t).putShort(r).putShort(q);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD4S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord4s(SSSS)", s, t, r, q);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord4s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSSSV(s, t, r, q, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord4i ] ---
 
@@ -6465,7 +14296,27 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord4i(@NativeType("GLint") int s, @NativeType("GLint") int t, @NativeType("GLint") int r, @NativeType("GLint") int q);
+    public static void glTexCoord4i(@NativeType("GLint") int s, @NativeType("GLint") int t, @NativeType("GLint") int r, @NativeType("GLint") int q) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD4I, 4 * Integer.BYTES).putInt(s).putInt(t).putInt(r).putInt(q);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD4I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord4i(IIII)", s, t, r, q);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord4i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, q, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord4d ] ---
 
@@ -6479,12 +14330,52 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord4d(@NativeType("GLdouble") double s, @NativeType("GLdouble") double t, @NativeType("GLdouble") double r, @NativeType("GLdouble") double q);
+    public static void glTexCoord4d(@NativeType("GLdouble") double s, @NativeType("GLdouble") double t, @NativeType("GLdouble") double r, @NativeType("GLdouble") double q) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_COORD4D, 4 * Double.BYTES).putDouble(s).putDouble(t).putDouble(r).putDouble(q);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD4D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord4d(DDDD)", s, t, r, q);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord4d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, q, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexCoord4fv ] ---
 
     /** Unsafe version of: {@link #glTexCoord4fv TexCoord4fv} */
-    public static native void nglTexCoord4fv(long v);
+    public static void nglTexCoord4fv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord4fv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD4FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord4fv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord4f TexCoord4f}.
@@ -6494,16 +14385,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD4FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD4FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord4fv(f)", v);
+            }
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglTexCoord4fv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord4fv(memAddress(v));
     }
 
     // --- [ glTexCoord4sv ] ---
 
     /** Unsafe version of: {@link #glTexCoord4sv TexCoord4sv} */
-    public static native void nglTexCoord4sv(long v);
+    public static void nglTexCoord4sv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord4sv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD4SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord4sv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord4s TexCoord4s}.
@@ -6513,16 +14437,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD4SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD4SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord4sv(s)", v);
+            }
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglTexCoord4sv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord4sv(memAddress(v));
     }
 
     // --- [ glTexCoord4iv ] ---
 
     /** Unsafe version of: {@link #glTexCoord4iv TexCoord4iv} */
-    public static native void nglTexCoord4iv(long v);
+    public static void nglTexCoord4iv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord4iv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD4IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord4iv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord4i TexCoord4i}.
@@ -6532,16 +14489,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD4IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD4IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord4iv(i)", v);
+            }
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglTexCoord4iv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord4iv(memAddress(v));
     }
 
     // --- [ glTexCoord4dv ] ---
 
     /** Unsafe version of: {@link #glTexCoord4dv TexCoord4dv} */
-    public static native void nglTexCoord4dv(long v);
+    public static void nglTexCoord4dv(long v) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoord4dv(v));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD4DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoord4dv(P)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord4d TexCoord4d}.
@@ -6551,16 +14541,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD4DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD4DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord4dv(d)", v);
+            }
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglTexCoord4dv(memAddress(v));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexCoord4dv(memAddress(v));
     }
 
     // --- [ glTexCoordPointer ] ---
 
     /** Unsafe version of: {@link #glTexCoordPointer TexCoordPointer} */
-    public static native void nglTexCoordPointer(int size, int type, int stride, long pointer);
+    public static void nglTexCoordPointer(int size, int type, int stride, long pointer) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexCoordPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_COORD_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexCoordPointer(IIIP)", size, type, stride, pointer);
+            }
+            ClientArrayStreaming.pointer(ClientArrayStreaming.TEXTURE_COORDINATES, size, type, stride, pointer);
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexCoordPointer;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(size, type, stride, pointer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Specifies the location and organization of a texture coordinate array.
@@ -6573,7 +14596,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoordPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
-        nglTexCoordPointer(size, type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glTexCoordPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoordPointer(IIIb)", size, type, stride, pointer);
+            }
+            nglTexCoordPointer(size, type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6587,7 +14622,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoordPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
-        nglTexCoordPointer(size, type, stride, pointer);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glTexCoordPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoordPointer(IIIP)", size, type, stride, pointer);
+            }
+            nglTexCoordPointer(size, type, stride, pointer);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6601,7 +14648,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoordPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
-        nglTexCoordPointer(size, type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glTexCoordPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoordPointer(IIIs)", size, type, stride, pointer);
+            }
+            nglTexCoordPointer(size, type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6615,7 +14674,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoordPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
-        nglTexCoordPointer(size, type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glTexCoordPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoordPointer(IIIi)", size, type, stride, pointer);
+            }
+            nglTexCoordPointer(size, type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6629,7 +14700,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoordPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
-        nglTexCoordPointer(size, type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glTexCoordPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoordPointer(IIIf)", size, type, stride, pointer);
+            }
+            nglTexCoordPointer(size, type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glTexEnvi ] ---
@@ -6644,12 +14727,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexEnvi">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexEnvi(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glTexEnvi(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_ENVI, 3 * Integer.BYTES).putInt(target).putInt(pname).putInt(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_ENVI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexEnvi(III)", target, pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexEnvi;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(target, pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexEnviv ] ---
 
     /** Unsafe version of: {@link #glTexEnviv TexEnviv} */
-    public static native void nglTexEnviv(int target, int pname, long params);
+    public static void nglTexEnviv(int target, int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexEnviv(target, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_ENVIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexEnviv(IIP)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexEnviv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexEnvi TexEnvi}.
@@ -6661,10 +14782,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexEnv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexEnviv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_ENVIV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(target).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_ENVIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexEnviv(IIi)", target, pname, params);
+            }
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglTexEnviv(target, pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexEnviv(target, pname, memAddress(params));
     }
 
     // --- [ glTexEnvf ] ---
@@ -6678,12 +14813,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexEnvf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexEnvf(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glTexEnvf(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_ENVF, 2 * Integer.BYTES + Float.BYTES).putInt(target).putInt(pname).putFloat(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_ENVF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexEnvf(IIF)", target, pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexEnvf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(target, pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexEnvfv ] ---
 
     /** Unsafe version of: {@link #glTexEnvfv TexEnvfv} */
-    public static native void nglTexEnvfv(int target, int pname, long params);
+    public static void nglTexEnvfv(int target, int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexEnvfv(target, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_ENVFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexEnvfv(IIP)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexEnvfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexEnvf TexEnvf}.
@@ -6695,10 +14868,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexEnv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexEnvfv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_ENVFV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(target).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_ENVFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexEnvfv(IIf)", target, pname, params);
+            }
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglTexEnvfv(target, pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexEnvfv(target, pname, memAddress(params));
     }
 
     // --- [ glTexGeni ] ---
@@ -6720,12 +14907,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexGeni">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexGeni(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glTexGeni(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_GENI, 3 * Integer.BYTES).putInt(coord).putInt(pname).putInt(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_GENI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexGeni(III)", coord, pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexGeni;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(coord, pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexGeniv ] ---
 
     /** Unsafe version of: {@link #glTexGeniv TexGeniv} */
-    public static native void nglTexGeniv(int coord, int pname, long params);
+    public static void nglTexGeniv(int coord, int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexGeniv(coord, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_GENIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexGeniv(IIP)", coord, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexGeniv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coord, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexGeni TexGeni}.
@@ -6737,10 +14962,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexGeniv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_GENIV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(coord).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_GENIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexGeniv(IIi)", coord, pname, params);
+            }
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglTexGeniv(coord, pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexGeniv(coord, pname, memAddress(params));
     }
 
     // --- [ glTexGenf ] ---
@@ -6754,12 +14993,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexGenf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexGenf(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glTexGenf(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_GENF, 2 * Integer.BYTES + Float.BYTES).putInt(coord).putInt(pname).putFloat(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_GENF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexGenf(IIF)", coord, pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexGenf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(coord, pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexGenfv ] ---
 
     /** Unsafe version of: {@link #glTexGenfv TexGenfv} */
-    public static native void nglTexGenfv(int coord, int pname, long params);
+    public static void nglTexGenfv(int coord, int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexGenfv(coord, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_GENFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexGenfv(IIP)", coord, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexGenfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coord, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexGenf TexGenf}.
@@ -6771,10 +15048,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexGenfv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_GENFV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(coord).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_GENFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexGenfv(IIf)", coord, pname, params);
+            }
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglTexGenfv(coord, pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexGenfv(coord, pname, memAddress(params));
     }
 
     // --- [ glTexGend ] ---
@@ -6788,12 +15079,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTexGend">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexGend(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLdouble") double param);
+    public static void glTexGend(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLdouble") double param) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_GEND, 2 * Integer.BYTES + Double.BYTES).putInt(coord).putInt(pname).putDouble(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_GEND);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexGend(IID)", coord, pname, param);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexGend;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(coord, pname, param, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTexGendv ] ---
 
     /** Unsafe version of: {@link #glTexGendv TexGendv} */
-    public static native void nglTexGendv(int coord, int pname, long params);
+    public static void nglTexGendv(int coord, int pname, long params) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexGendv(coord, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_GENDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexGendv(IIP)", coord, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexGendv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coord, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexGend TexGend}.
@@ -6805,17 +15134,44 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexGendv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLdouble const *") DoubleBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_GENDV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(coord).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_GENDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexGendv(IId)", coord, pname, params);
+            }
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglTexGendv(coord, pname, memAddress(params));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglTexGendv(coord, pname, memAddress(params));
     }
 
     // --- [ glTexImage1D ] ---
 
     /** Unsafe version of: {@link #glTexImage1D TexImage1D} */
     public static void nglTexImage1D(int target, int level, int internalformat, int width, int border, int format, int type, long pixels) {
-        GL11C.nglTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexImage1D(target, level, internalformat, width, border, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexImage1D(IIIIIIIP)", target, level, internalformat, width, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.nglTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6833,7 +15189,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE1_D, 7 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage1D(IIIIIIIb)", target, level, internalformat, width, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6851,7 +15222,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glTexImage1D(target, level, internalformat, width, border, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage1D(IIIIIIIP)", target, level, internalformat, width, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6869,7 +15253,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE1_D, 7 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage1D(IIIIIIIs)", target, level, internalformat, width, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6887,7 +15286,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE1_D, 7 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage1D(IIIIIIIi)", target, level, internalformat, width, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6905,7 +15319,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE1_D, 7 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage1D(IIIIIIIf)", target, level, internalformat, width, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6923,14 +15352,44 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE1_D, 7 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage1D(IIIIIIId)", target, level, internalformat, width, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glTexImage2D ] ---
 
     /** Unsafe version of: {@link #glTexImage2D TexImage2D} */
     public static void nglTexImage2D(int target, int level, int internalformat, int width, int height, int border, int format, int type, long pixels) {
-        GL11C.nglTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexImage2D(target, level, internalformat, width, height, border, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexImage2D(IIIIIIIIP)", target, level, internalformat, width, height, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texImage2D(target, level, internalformat, width, height, border, format, type, NULL, 0);
+            GL11C.nglTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+            GlObjects.texImage2D(target, level, width, height, format, type);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6949,7 +15408,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage2D(IIIIIIIIb)", target, level, internalformat, width, height, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texImage2D(target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels), pixels == null ? 0 : pixels.remaining());
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+            GlObjects.texImage2D(target, level, width, height, format, type);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6968,7 +15444,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage2D(IIIIIIIIP)", target, level, internalformat, width, height, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texImage2D(target, level, internalformat, width, height, border, format, type, NULL, 0);
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+            GlObjects.texImage2D(target, level, width, height, format, type);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -6987,7 +15478,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage2D(IIIIIIIIs)", target, level, internalformat, width, height, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texImage2D(target, level, internalformat, width, height, border, format, type, NULL, 0);
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+            GlObjects.texImage2D(target, level, width, height, format, type);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7006,7 +15514,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage2D(IIIIIIIIi)", target, level, internalformat, width, height, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texImage2D(target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels), pixels == null ? 0 : (long) pixels.remaining() * Integer.BYTES);
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+            GlObjects.texImage2D(target, level, width, height, format, type);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7025,7 +15550,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage2D(IIIIIIIIf)", target, level, internalformat, width, height, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texImage2D(target, level, internalformat, width, height, border, format, type, NULL, 0);
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+            GlObjects.texImage2D(target, level, width, height, format, type);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7044,7 +15586,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage2D(IIIIIIIId)", target, level, internalformat, width, height, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texImage2D(target, level, internalformat, width, height, border, format, type, NULL, 0);
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+            GlObjects.texImage2D(target, level, width, height, format, type);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glCopyTexImage1D ] ---
@@ -7067,7 +15626,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glCopyTexImage1D">Reference Page</a>
      */
     public static void glCopyTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalFormat, @NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLint") int border) {
-        GL11C.glCopyTexImage1D(target, level, internalFormat, x, y, width, border);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COPY_TEX_IMAGE1_D, 7 * Integer.BYTES).putInt(target).putInt(level).putInt(internalFormat).putInt(x).putInt(y).putInt(width).putInt(border);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COPY_TEX_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCopyTexImage1D(IIIIIII)", target, level, internalFormat, x, y, width, border);
+            }
+            OpaqueCalls.before();
+            GL11C.glCopyTexImage1D(target, level, internalFormat, x, y, width, border);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glCopyTexImage2D ] ---
@@ -7101,7 +15673,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glCopyTexImage2D">Reference Page</a>
      */
     public static void glCopyTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalFormat, @NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border) {
-        GL11C.glCopyTexImage2D(target, level, internalFormat, x, y, width, height, border);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COPY_TEX_IMAGE2_D, 8 * Integer.BYTES).putInt(target).putInt(level).putInt(internalFormat).putInt(x).putInt(y).putInt(width).putInt(height).putInt(border);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COPY_TEX_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCopyTexImage2D(IIIIIIII)", target, level, internalFormat, x, y, width, height, border);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texImage2D(target, level, internalFormat, width, height, border, 0, 0, NULL, 0);
+            GL11C.glCopyTexImage2D(target, level, internalFormat, x, y, width, height, border);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glCopyTexSubImage1D ] ---
@@ -7121,7 +15707,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glCopyTexSubImage1D">Reference Page</a>
      */
     public static void glCopyTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width) {
-        GL11C.glCopyTexSubImage1D(target, level, xoffset, x, y, width);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COPY_TEX_SUB_IMAGE1_D, 6 * Integer.BYTES).putInt(target).putInt(level).putInt(xoffset).putInt(x).putInt(y).putInt(width);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COPY_TEX_SUB_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCopyTexSubImage1D(IIIIII)", target, level, xoffset, x, y, width);
+            }
+            OpaqueCalls.before();
+            GL11C.glCopyTexSubImage1D(target, level, xoffset, x, y, width);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glCopyTexSubImage2D ] ---
@@ -7143,7 +15742,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glCopyTexSubImage2D">Reference Page</a>
      */
     public static void glCopyTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height) {
-        GL11C.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_COPY_TEX_SUB_IMAGE2_D, 8 * Integer.BYTES).putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(x).putInt(y).putInt(width).putInt(height);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COPY_TEX_SUB_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glCopyTexSubImage2D(IIIIIIII)", target, level, xoffset, yoffset, x, y, width, height);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texSubImage2D(target);
+            GL11C.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glTexParameteri ] ---
@@ -7158,14 +15771,43 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexParameter">Reference Page</a>
      */
     public static void glTexParameteri(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint") int param) {
-        GL11C.glTexParameteri(target, pname, param);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_PARAMETERI, 3 * Integer.BYTES).putInt(target).putInt(pname).putInt(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_PARAMETERI);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexParameteri(III)", target, pname, param);
+            }
+            if (GlStateCache.texParameter(target, pname, param)) {
+                OpaqueCalls.before();
+                GL11C.glTexParameteri(target, pname, param);
+            }
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glTexParameteriv ] ---
 
     /** Unsafe version of: {@link #glTexParameteriv TexParameteriv} */
     public static void nglTexParameteriv(int target, int pname, long params) {
-        GL11C.nglTexParameteriv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexParameteriv(target, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_PARAMETERIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexParameteriv(IIP)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateTexParameter(target, pname);
+            GL11C.nglTexParameteriv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7178,7 +15820,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexParameter">Reference Page</a>
      */
     public static void glTexParameteriv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        GL11C.glTexParameteriv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_PARAMETERIV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(target).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_PARAMETERIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexParameteriv(IIi)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateTexParameter(target, pname);
+            GL11C.glTexParameteriv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glTexParameterf ] ---
@@ -7193,14 +15851,42 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexParameter">Reference Page</a>
      */
     public static void glTexParameterf(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
-        GL11C.glTexParameterf(target, pname, param);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TEX_PARAMETERF, 2 * Integer.BYTES + Float.BYTES).putInt(target).putInt(pname).putFloat(param);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_PARAMETERF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexParameterf(IIF)", target, pname, param);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateTexParameter(target, pname);
+            GL11C.glTexParameterf(target, pname, param);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glTexParameterfv ] ---
 
     /** Unsafe version of: {@link #glTexParameterfv TexParameterfv} */
     public static void nglTexParameterfv(int target, int pname, long params) {
-        GL11C.nglTexParameterfv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexParameterfv(target, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_PARAMETERFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexParameterfv(IIP)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateTexParameter(target, pname);
+            GL11C.nglTexParameterfv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7213,14 +15899,43 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexParameter">Reference Page</a>
      */
     public static void glTexParameterfv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        GL11C.glTexParameterfv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_PARAMETERFV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(target).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_PARAMETERFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexParameterfv(IIf)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateTexParameter(target, pname);
+            GL11C.glTexParameterfv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glTexSubImage1D ] ---
 
     /** Unsafe version of: {@link #glTexSubImage1D TexSubImage1D} */
     public static void nglTexSubImage1D(int target, int level, int xoffset, int width, int format, int type, long pixels) {
-        GL11C.nglTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexSubImage1D(target, level, xoffset, width, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_SUB_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexSubImage1D(IIIIIIP)", target, level, xoffset, width, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.nglTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7237,7 +15952,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE1_D, 6 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(width).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage1D(IIIIIIb)", target, level, xoffset, width, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7254,7 +15984,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glTexSubImage1D(target, level, xoffset, width, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage1D(IIIIIIP)", target, level, xoffset, width, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7271,7 +16014,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE1_D, 6 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(width).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage1D(IIIIIIs)", target, level, xoffset, width, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7288,7 +16046,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE1_D, 6 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(width).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage1D(IIIIIIi)", target, level, xoffset, width, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7305,7 +16078,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE1_D, 6 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(width).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage1D(IIIIIIf)", target, level, xoffset, width, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7322,14 +16110,43 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE1_D, 6 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(width).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage1D(IIIIIId)", target, level, xoffset, width, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glTexSubImage2D ] ---
 
     /** Unsafe version of: {@link #glTexSubImage2D TexSubImage2D} */
     public static void nglTexSubImage2D(int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, long pixels) {
-        GL11C.nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_TEX_SUB_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglTexSubImage2D(IIIIIIIIP)", target, level, xoffset, yoffset, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texSubImage2D(target);
+            GL11C.nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7349,7 +16166,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage2D(IIIIIIIIb)", target, level, xoffset, yoffset, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texSubImage2D(target);
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7369,7 +16202,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage2D(IIIIIIIIP)", target, level, xoffset, yoffset, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texSubImage2D(target);
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7389,7 +16236,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage2D(IIIIIIIIs)", target, level, xoffset, yoffset, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texSubImage2D(target);
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7409,7 +16272,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage2D(IIIIIIIIi)", target, level, xoffset, yoffset, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texSubImage2D(target);
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7429,7 +16308,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage2D(IIIIIIIIf)", target, level, xoffset, yoffset, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texSubImage2D(target);
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7449,7 +16344,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage2D(IIIIIIIId)", target, level, xoffset, yoffset, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texSubImage2D(target);
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glTranslatef ] ---
@@ -7472,7 +16383,32 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTranslatef">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTranslatef(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z);
+    public static void glTranslatef(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TRANSLATEF, 3 * Float.BYTES).putFloat(x).putFloat(y).putFloat(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TRANSLATEF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTranslatef(FFF)", x, y, z);
+            }
+            if (DisplayListEmulation.translate(x, y, z)) {
+                return;
+            }
+            if (MatrixStacks.translate(x, y, z)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTranslatef;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glTranslated ] ---
 
@@ -7485,7 +16421,29 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glTranslated">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTranslated(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z);
+    public static void glTranslated(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_TRANSLATED, 3 * Double.BYTES).putDouble(x).putDouble(y).putDouble(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TRANSLATED);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTranslated(DDD)", x, y, z);
+            }
+            if (MatrixStacks.translate((float) x, (float) y, (float) z)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTranslated;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex2f ] ---
 
@@ -7498,7 +16456,31 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex2f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y);
+    public static void glVertex2f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VERTEX2F, 2 * Float.BYTES).putFloat(x).putFloat(y);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX2F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex2f(FF)", x, y);
+            }
+            if (DisplayListEmulation.vertex(x, y, 0F)) {
+                return;
+            }
+            if (ImmediateModeBatcher.vertex(x, y, 0F)) {
+                return;
+            }
+            long __functionAddress = GL.getICD().glVertex2f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex2s ] ---
 
@@ -7510,7 +16492,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex2s(@NativeType("GLshort") short x, @NativeType("GLshort") short y);
+    public static void glVertex2s(@NativeType("GLshort") short x, @NativeType("GLshort") short y) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VERTEX2S, 2 * Short.BYTES).putShort(x).putShort(y);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX2S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex2s(SS)", x, y);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex2s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSV(x, y, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex2i ] ---
 
@@ -7522,7 +16523,31 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex2i(@NativeType("GLint") int x, @NativeType("GLint") int y);
+    public static void glVertex2i(@NativeType("GLint") int x, @NativeType("GLint") int y) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VERTEX2I, 2 * Integer.BYTES).putInt(x).putInt(y);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX2I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex2i(II)", x, y);
+            }
+            if (DisplayListEmulation.vertex(x, y, 0F)) {
+                return;
+            }
+            if (ImmediateModeBatcher.vertex(x, y, 0F)) {
+                return;
+            }
+            long __functionAddress = GL.getICD().glVertex2i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex2d ] ---
 
@@ -7534,12 +16559,55 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex2d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y);
+    public static void glVertex2d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VERTEX2D, 2 * Double.BYTES).putDouble(x).putDouble(y);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX2D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex2d(DD)", x, y);
+            }
+            if (DisplayListEmulation.vertex((float) x, (float) y, 0F)) {
+                return;
+            }
+            if (ImmediateModeBatcher.vertex((float) x, (float) y, 0F)) {
+                return;
+            }
+            long __functionAddress = GL.getICD().glVertex2d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex2fv ] ---
 
     /** Unsafe version of: {@link #glVertex2fv Vertex2fv} */
-    public static native void nglVertex2fv(long coords);
+    public static void nglVertex2fv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertex2fv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX2FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertex2fv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex2f Vertex2f}.
@@ -7549,16 +16617,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2fv(@NativeType("GLfloat const *") FloatBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX2FV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX2FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex2fv(f)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            nglVertex2fv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglVertex2fv(memAddress(coords));
     }
 
     // --- [ glVertex2sv ] ---
 
     /** Unsafe version of: {@link #glVertex2sv Vertex2sv} */
-    public static native void nglVertex2sv(long coords);
+    public static void nglVertex2sv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertex2sv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX2SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertex2sv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex2sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex2s Vertex2s}.
@@ -7568,16 +16668,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2sv(@NativeType("GLshort const *") ShortBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX2SV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX2SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex2sv(s)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            nglVertex2sv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglVertex2sv(memAddress(coords));
     }
 
     // --- [ glVertex2iv ] ---
 
     /** Unsafe version of: {@link #glVertex2iv Vertex2iv} */
-    public static native void nglVertex2iv(long coords);
+    public static void nglVertex2iv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertex2iv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX2IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertex2iv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex2iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex2i Vertex2i}.
@@ -7587,16 +16719,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2iv(@NativeType("GLint const *") IntBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX2IV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX2IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex2iv(i)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            nglVertex2iv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglVertex2iv(memAddress(coords));
     }
 
     // --- [ glVertex2dv ] ---
 
     /** Unsafe version of: {@link #glVertex2dv Vertex2dv} */
-    public static native void nglVertex2dv(long coords);
+    public static void nglVertex2dv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertex2dv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX2DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertex2dv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex2d Vertex2d}.
@@ -7606,10 +16770,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2dv(@NativeType("GLdouble const *") DoubleBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX2DV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX2DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex2dv(d)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            nglVertex2dv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglVertex2dv(memAddress(coords));
     }
 
     // --- [ glVertex3f ] ---
@@ -7624,7 +16801,31 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex3f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z);
+    public static void glVertex3f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VERTEX3F, 3 * Float.BYTES).putFloat(x).putFloat(y).putFloat(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX3F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex3f(FFF)", x, y, z);
+            }
+            if (DisplayListEmulation.vertex(x, y, z)) {
+                return;
+            }
+            if (ImmediateModeBatcher.vertex(x, y, z)) {
+                return;
+            }
+            long __functionAddress = GL.getICD().glVertex3f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex3s ] ---
 
@@ -7637,7 +16838,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex3s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z);
+    public static void glVertex3s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VERTEX3S, 3 * Short.BYTES).putShort(x).putShort(y).putShort(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX3S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex3s(SSS)", x, y, z);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex3s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSSV(x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex3i ] ---
 
@@ -7650,7 +16870,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex3i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z);
+    public static void glVertex3i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VERTEX3I, 3 * Integer.BYTES).putInt(x).putInt(y).putInt(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX3I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex3i(III)", x, y, z);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex3i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex3d ] ---
 
@@ -7663,12 +16902,55 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex3d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z);
+    public static void glVertex3d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VERTEX3D, 3 * Double.BYTES).putDouble(x).putDouble(y).putDouble(z);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX3D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex3d(DDD)", x, y, z);
+            }
+            if (DisplayListEmulation.vertex((float) x, (float) y, (float) z)) {
+                return;
+            }
+            if (ImmediateModeBatcher.vertex((float) x, (float) y, (float) z)) {
+                return;
+            }
+            long __functionAddress = GL.getICD().glVertex3d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex3fv ] ---
 
     /** Unsafe version of: {@link #glVertex3fv Vertex3fv} */
-    public static native void nglVertex3fv(long coords);
+    public static void nglVertex3fv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertex3fv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertex3fv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex3f Vertex3f}.
@@ -7678,16 +16960,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3fv(@NativeType("GLfloat const *") FloatBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX3FV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex3fv(f)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            nglVertex3fv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglVertex3fv(memAddress(coords));
     }
 
     // --- [ glVertex3sv ] ---
 
     /** Unsafe version of: {@link #glVertex3sv Vertex3sv} */
-    public static native void nglVertex3sv(long coords);
+    public static void nglVertex3sv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertex3sv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertex3sv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex3s Vertex3s}.
@@ -7697,16 +17011,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3sv(@NativeType("GLshort const *") ShortBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX3SV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex3sv(s)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            nglVertex3sv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglVertex3sv(memAddress(coords));
     }
 
     // --- [ glVertex3iv ] ---
 
     /** Unsafe version of: {@link #glVertex3iv Vertex3iv} */
-    public static native void nglVertex3iv(long coords);
+    public static void nglVertex3iv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertex3iv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertex3iv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex3i Vertex3i}.
@@ -7716,16 +17062,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3iv(@NativeType("GLint const *") IntBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX3IV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex3iv(i)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            nglVertex3iv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglVertex3iv(memAddress(coords));
     }
 
     // --- [ glVertex3dv ] ---
 
     /** Unsafe version of: {@link #glVertex3dv Vertex3dv} */
-    public static native void nglVertex3dv(long coords);
+    public static void nglVertex3dv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertex3dv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertex3dv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex3d Vertex3d}.
@@ -7735,10 +17113,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3dv(@NativeType("GLdouble const *") DoubleBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX3DV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex3dv(d)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            nglVertex3dv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglVertex3dv(memAddress(coords));
     }
 
     // --- [ glVertex4f ] ---
@@ -7753,7 +17144,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex4f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z, @NativeType("GLfloat") float w);
+    public static void glVertex4f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z, @NativeType("GLfloat") float w) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VERTEX4F, 4 * Float.BYTES).putFloat(x).putFloat(y).putFloat(z).putFloat(w);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX4F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex4f(FFFF)", x, y, z, w);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex4f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex4s ] ---
 
@@ -7767,7 +17177,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex4s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z, @NativeType("GLshort") short w);
+    public static void glVertex4s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z, @NativeType("GLshort") short w) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VERTEX4S, 4 * Short.BYTES).putShort(x).putShort(y).putShort(z).putShort(w);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX4S);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex4s(SSSS)", x, y, z, w);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex4s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callSSSSV(x, y, z, w, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex4i ] ---
 
@@ -7781,7 +17210,26 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex4i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z, @NativeType("GLint") int w);
+    public static void glVertex4i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z, @NativeType("GLint") int w) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VERTEX4I, 4 * Integer.BYTES).putInt(x).putInt(y).putInt(z).putInt(w);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX4I);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex4i(IIII)", x, y, z, w);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex4i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex4d ] ---
 
@@ -7795,12 +17243,50 @@ public class GL11 {
      *
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex4d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z, @NativeType("GLdouble") double w);
+    public static void glVertex4d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z, @NativeType("GLdouble") double w) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VERTEX4D, 4 * Double.BYTES).putDouble(x).putDouble(y).putDouble(z).putDouble(w);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX4D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex4d(DDDD)", x, y, z, w);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex4d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     // --- [ glVertex4fv ] ---
 
     /** Unsafe version of: {@link #glVertex4fv Vertex4fv} */
-    public static native void nglVertex4fv(long coords);
+    public static void nglVertex4fv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertex4fv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX4FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertex4fv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex4f Vertex4f}.
@@ -7810,16 +17296,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4fv(@NativeType("GLfloat const *") FloatBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX4FV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX4FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex4fv(f)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            nglVertex4fv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglVertex4fv(memAddress(coords));
     }
 
     // --- [ glVertex4sv ] ---
 
     /** Unsafe version of: {@link #glVertex4sv Vertex4sv} */
-    public static native void nglVertex4sv(long coords);
+    public static void nglVertex4sv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertex4sv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX4SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertex4sv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex4s Vertex4s}.
@@ -7829,16 +17347,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4sv(@NativeType("GLshort const *") ShortBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX4SV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX4SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex4sv(s)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            nglVertex4sv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglVertex4sv(memAddress(coords));
     }
 
     // --- [ glVertex4iv ] ---
 
     /** Unsafe version of: {@link #glVertex4iv Vertex4iv} */
-    public static native void nglVertex4iv(long coords);
+    public static void nglVertex4iv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertex4iv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX4IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertex4iv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex4i Vertex4i}.
@@ -7848,16 +17398,48 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4iv(@NativeType("GLint const *") IntBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX4IV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX4IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex4iv(i)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            nglVertex4iv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglVertex4iv(memAddress(coords));
     }
 
     // --- [ glVertex4dv ] ---
 
     /** Unsafe version of: {@link #glVertex4dv Vertex4dv} */
-    public static native void nglVertex4dv(long coords);
+    public static void nglVertex4dv(long coords) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertex4dv(coords));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX4DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertex4dv(P)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex4d Vertex4d}.
@@ -7867,16 +17449,49 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4dv(@NativeType("GLdouble const *") DoubleBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX4DV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX4DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex4dv(d)", coords);
+            }
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            nglVertex4dv(memAddress(coords));
+        } finally {
+            CallProfiler.exit(__start);
         }
-        nglVertex4dv(memAddress(coords));
     }
 
     // --- [ glVertexPointer ] ---
 
     /** Unsafe version of: {@link #glVertexPointer VertexPointer} */
-    public static native void nglVertexPointer(int size, int type, int stride, long pointer);
+    public static void nglVertexPointer(int size, int type, int stride, long pointer) {
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> nglVertexPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.NGL_VERTEX_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("nglVertexPointer(IIIP)", size, type, stride, pointer);
+            }
+            ClientArrayStreaming.pointer(ClientArrayStreaming.VERTEX, size, type, stride, pointer);
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertexPointer;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(size, type, stride, pointer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
+        }
+    }
 
     /**
      * Specifies the location and organization of a vertex array.
@@ -7889,7 +17504,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertexPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
-        nglVertexPointer(size, type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glVertexPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertexPointer(IIIb)", size, type, stride, pointer);
+            }
+            nglVertexPointer(size, type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7903,7 +17530,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertexPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
-        nglVertexPointer(size, type, stride, pointer);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glVertexPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertexPointer(IIIP)", size, type, stride, pointer);
+            }
+            nglVertexPointer(size, type, stride, pointer);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7917,7 +17556,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertexPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
-        nglVertexPointer(size, type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glVertexPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertexPointer(IIIs)", size, type, stride, pointer);
+            }
+            nglVertexPointer(size, type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7931,7 +17582,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertexPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
-        nglVertexPointer(size, type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glVertexPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertexPointer(IIIi)", size, type, stride, pointer);
+            }
+            nglVertexPointer(size, type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7945,7 +17608,19 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertexPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
-        nglVertexPointer(size, type, stride, memAddress(pointer));
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glVertexPointer(size, type, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX_POINTER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertexPointer(IIIf)", size, type, stride, pointer);
+            }
+            nglVertexPointer(size, type, stride, memAddress(pointer));
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     // --- [ glViewport ] ---
@@ -7972,7 +17647,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glViewport">Reference Page</a>
      */
     public static void glViewport(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int w, @NativeType("GLsizei") int h) {
-        GL11C.glViewport(x, y, w, h);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.queue(GlEntryPoint.GL_VIEWPORT, 4 * Integer.BYTES).putInt(x).putInt(y).putInt(w).putInt(h);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VIEWPORT);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glViewport(IIII)", x, y, w, h);
+            }
+            if (GlStateCache.viewport(x, y, w, h)) {
+                OpaqueCalls.before();
+                GL11C.glViewport(x, y, w, h);
+            }
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -7982,12 +17672,24 @@ public class GL11 {
      */
     @NativeType("GLboolean")
     public static boolean glAreTexturesResident(@NativeType("GLuint const *") int[] textures, @NativeType("GLboolean *") ByteBuffer residences) {
-        long __functionAddress = GL.getICD().glAreTexturesResident;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(residences, textures.length);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            return RenderThread.get(() -> glAreTexturesResident(textures, residences));
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_ARE_TEXTURES_RESIDENT);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glAreTexturesResident([Ib)", textures, residences);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glAreTexturesResident;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(residences, textures.length);
+            }
+            return callPPZ(textures.length, textures, memAddress(residences), __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        return callPPZ(textures.length, textures, memAddress(residences), __functionAddress);
     }
 
     /**
@@ -7996,12 +17698,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glClipPlane">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glClipPlane(@NativeType("GLenum") int plane, @NativeType("GLdouble const *") double[] equation) {
-        long __functionAddress = GL.getICD().glClipPlane;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(equation, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_CLIP_PLANE, Integer.BYTES + RenderThread.bytes(equation));
+            __command.putInt(plane);
+            RenderThread.put(__command, equation);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_CLIP_PLANE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glClipPlane(I[D)", plane, equation);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glClipPlane;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(equation, 4);
+            }
+            callPV(plane, equation, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(plane, equation, __functionAddress);
     }
 
     /**
@@ -8010,12 +17727,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glColor3sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3sv([S)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8024,12 +17757,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glColor3iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3iv([I)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8038,12 +17787,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glColor3fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3fv([F)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8052,12 +17817,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glColor3dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3dv([D)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8066,12 +17847,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3usv(@NativeType("GLushort const *") short[] v) {
-        long __functionAddress = GL.getICD().glColor3usv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3USV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3USV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3usv([S)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3usv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8080,12 +17877,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3uiv(@NativeType("GLuint const *") int[] v) {
-        long __functionAddress = GL.getICD().glColor3uiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR3UIV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR3UIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor3uiv([I)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor3uiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8094,12 +17907,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glColor4sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4sv([S)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8108,12 +17937,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glColor4iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4iv([I)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8122,12 +17967,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glColor4fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4fv([F)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8136,12 +17997,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glColor4dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4dv([D)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8150,12 +18027,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4usv(@NativeType("GLushort const *") short[] v) {
-        long __functionAddress = GL.getICD().glColor4usv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4USV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4USV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4usv([S)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4usv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8164,12 +18057,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4uiv(@NativeType("GLuint const *") int[] v) {
-        long __functionAddress = GL.getICD().glColor4uiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_COLOR4UIV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_COLOR4UIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glColor4uiv([I)", v);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateColor();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glColor4uiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8178,11 +18087,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") short[] pixels) {
-        long __functionAddress = GL.getICD().glDrawPixels;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_DRAW_PIXELS, 4 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawPixels(IIII[S)", width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glDrawPixels;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(width, height, format, type, pixels, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(width, height, format, type, pixels, __functionAddress);
     }
 
     /**
@@ -8191,11 +18115,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") int[] pixels) {
-        long __functionAddress = GL.getICD().glDrawPixels;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_DRAW_PIXELS, 4 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawPixels(IIII[I)", width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glDrawPixels;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(width, height, format, type, pixels, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(width, height, format, type, pixels, __functionAddress);
     }
 
     /**
@@ -8204,11 +18143,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") float[] pixels) {
-        long __functionAddress = GL.getICD().glDrawPixels;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_DRAW_PIXELS, 4 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DRAW_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDrawPixels(IIII[F)", width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glDrawPixels;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(width, height, format, type, pixels, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(width, height, format, type, pixels, __functionAddress);
     }
 
     /**
@@ -8217,12 +18171,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord1fv(@NativeType("GLfloat const *") float[] u) {
-        long __functionAddress = GL.getICD().glEvalCoord1fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(u, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_EVAL_COORD1FV, RenderThread.bytes(u));
+            RenderThread.put(__command, u);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_COORD1FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalCoord1fv([F)", u);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalCoord1fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(u, 1);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(u, __functionAddress);
     }
 
     /**
@@ -8231,12 +18199,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord1dv(@NativeType("GLdouble const *") double[] u) {
-        long __functionAddress = GL.getICD().glEvalCoord1dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(u, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_EVAL_COORD1DV, RenderThread.bytes(u));
+            RenderThread.put(__command, u);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_COORD1DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalCoord1dv([D)", u);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalCoord1dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(u, 1);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(u, __functionAddress);
     }
 
     /**
@@ -8245,12 +18227,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord2fv(@NativeType("GLfloat const *") float[] u) {
-        long __functionAddress = GL.getICD().glEvalCoord2fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(u, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_EVAL_COORD2FV, RenderThread.bytes(u));
+            RenderThread.put(__command, u);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_COORD2FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalCoord2fv([F)", u);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalCoord2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(u, 2);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(u, __functionAddress);
     }
 
     /**
@@ -8259,12 +18255,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord2dv(@NativeType("GLdouble const *") double[] u) {
-        long __functionAddress = GL.getICD().glEvalCoord2dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(u, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_EVAL_COORD2DV, RenderThread.bytes(u));
+            RenderThread.put(__command, u);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_EVAL_COORD2DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glEvalCoord2dv([D)", u);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glEvalCoord2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(u, 2);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(u, __functionAddress);
     }
 
     /**
@@ -8273,11 +18283,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glFeedbackBuffer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFeedbackBuffer(@NativeType("GLenum") int type, @NativeType("GLfloat *") float[] buffer) {
-        long __functionAddress = GL.getICD().glFeedbackBuffer;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glFeedbackBuffer(type, buffer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_FEEDBACK_BUFFER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glFeedbackBuffer(I[F)", type, buffer);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glFeedbackBuffer;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(buffer.length, type, buffer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(buffer.length, type, buffer, __functionAddress);
     }
 
     /**
@@ -8286,12 +18309,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glFog">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFogiv(@NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        long __functionAddress = GL.getICD().glFogiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_FOGIV, Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_FOGIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glFogiv(I[I)", pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glFogiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 1);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(pname, params, __functionAddress);
     }
 
     /**
@@ -8300,12 +18338,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glFog">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFogfv(@NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        long __functionAddress = GL.getICD().glFogfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_FOGFV, Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_FOGFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glFogfv(I[F)", pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glFogfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 1);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(pname, params, __functionAddress);
     }
 
     /**
@@ -8314,7 +18367,21 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGenTextures">Reference Page</a>
      */
     public static void glGenTextures(@NativeType("GLuint *") int[] textures) {
-        GL11C.glGenTextures(textures);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGenTextures(textures));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GEN_TEXTURES);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGenTextures([I)", textures);
+            }
+            OpaqueCalls.before();
+            GL11C.glGenTextures(textures);
+            GlObjects.texturesCreated(textures);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8323,7 +18390,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glDeleteTextures">Reference Page</a>
      */
     public static void glDeleteTextures(@NativeType("GLuint const *") int[] textures) {
-        GL11C.glDeleteTextures(textures);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_DELETE_TEXTURES, RenderThread.bytes(textures));
+            RenderThread.put(__command, textures);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_DELETE_TEXTURES);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glDeleteTextures([I)", textures);
+            }
+            OpaqueCalls.before();
+            GlStateCache.texturesDeleted(textures);
+            GlObjects.texturesDeleted(textures);
+            TextureCompression.texturesDeleted(textures);
+            GL11C.glDeleteTextures(textures);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8332,12 +18416,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetClipPlane">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetClipPlane(@NativeType("GLenum") int plane, @NativeType("GLdouble *") double[] equation) {
-        long __functionAddress = GL.getICD().glGetClipPlane;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(equation, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetClipPlane(plane, equation));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_CLIP_PLANE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetClipPlane(I[D)", plane, equation);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetClipPlane;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(equation, 4);
+            }
+            callPV(plane, equation, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(plane, equation, __functionAddress);
     }
 
     /**
@@ -8346,7 +18443,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetFloatv">Reference Page</a>
      */
     public static void glGetFloatv(@NativeType("GLenum") int pname, @NativeType("GLfloat *") float[] params) {
-        GL11C.glGetFloatv(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetFloatv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_FLOATV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetFloatv(I[F)", pname, params);
+            }
+            if (GlQueries.answers(pname)) {
+                GlQueries.getFloats(pname, params);
+                return;
+            }
+            OpaqueCalls.before();
+            GL11C.glGetFloatv(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8355,7 +18469,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetIntegerv">Reference Page</a>
      */
     public static void glGetIntegerv(@NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        GL11C.glGetIntegerv(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetIntegerv(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_INTEGERV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetIntegerv(I[I)", pname, params);
+            }
+            if (GlQueries.answers(pname)) {
+                GlQueries.getIntegers(pname, params);
+                return;
+            }
+            OpaqueCalls.before();
+            GL11C.glGetIntegerv(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8364,7 +18495,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetDoublev">Reference Page</a>
      */
     public static void glGetDoublev(@NativeType("GLenum") int pname, @NativeType("GLdouble *") double[] params) {
-        GL11C.glGetDoublev(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetDoublev(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_DOUBLEV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetDoublev(I[D)", pname, params);
+            }
+            if (GlQueries.answers(pname)) {
+                GlQueries.getDoubles(pname, params);
+                return;
+            }
+            OpaqueCalls.before();
+            GL11C.glGetDoublev(pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8373,12 +18521,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetLight">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetLightiv(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] data) {
-        long __functionAddress = GL.getICD().glGetLightiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetLightiv(light, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_LIGHTIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetLightiv(II[I)", light, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetLightiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 4);
+            }
+            callPV(light, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(light, pname, data, __functionAddress);
     }
 
     /**
@@ -8387,12 +18548,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetLight">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetLightfv(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLfloat *") float[] data) {
-        long __functionAddress = GL.getICD().glGetLightfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetLightfv(light, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_LIGHTFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetLightfv(II[F)", light, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetLightfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 4);
+            }
+            callPV(light, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(light, pname, data, __functionAddress);
     }
 
     /**
@@ -8401,12 +18575,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetMapiv(@NativeType("GLenum") int target, @NativeType("GLenum") int query, @NativeType("GLint *") int[] data) {
-        long __functionAddress = GL.getICD().glGetMapiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetMapiv(target, query, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MAPIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMapiv(II[I)", target, query, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetMapiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 4);
+            }
+            callPV(target, query, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(target, query, data, __functionAddress);
     }
 
     /**
@@ -8415,12 +18602,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetMapfv(@NativeType("GLenum") int target, @NativeType("GLenum") int query, @NativeType("GLfloat *") float[] data) {
-        long __functionAddress = GL.getICD().glGetMapfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetMapfv(target, query, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MAPFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMapfv(II[F)", target, query, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetMapfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 4);
+            }
+            callPV(target, query, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(target, query, data, __functionAddress);
     }
 
     /**
@@ -8429,12 +18629,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetMapdv(@NativeType("GLenum") int target, @NativeType("GLenum") int query, @NativeType("GLdouble *") double[] data) {
-        long __functionAddress = GL.getICD().glGetMapdv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetMapdv(target, query, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MAPDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMapdv(II[D)", target, query, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetMapdv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 4);
+            }
+            callPV(target, query, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(target, query, data, __functionAddress);
     }
 
     /**
@@ -8443,12 +18656,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetMaterialiv(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] data) {
-        long __functionAddress = GL.getICD().glGetMaterialiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetMaterialiv(face, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MATERIALIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMaterialiv(II[I)", face, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetMaterialiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 1);
+            }
+            callPV(face, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(face, pname, data, __functionAddress);
     }
 
     /**
@@ -8457,12 +18683,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetMaterialfv(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLfloat *") float[] data) {
-        long __functionAddress = GL.getICD().glGetMaterialfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetMaterialfv(face, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_MATERIALFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetMaterialfv(II[F)", face, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetMaterialfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 1);
+            }
+            callPV(face, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(face, pname, data, __functionAddress);
     }
 
     /**
@@ -8471,12 +18710,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLfloat *") float[] data) {
-        long __functionAddress = GL.getICD().glGetPixelMapfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 32);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetPixelMapfv(map, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_PIXEL_MAPFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPixelMapfv(I[F)", map, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetPixelMapfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 32);
+            }
+            callPV(map, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(map, data, __functionAddress);
     }
 
     /**
@@ -8485,12 +18737,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLushort *") short[] data) {
-        long __functionAddress = GL.getICD().glGetPixelMapusv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 32);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetPixelMapusv(map, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_PIXEL_MAPUSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPixelMapusv(I[S)", map, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetPixelMapusv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 32);
+            }
+            callPV(map, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(map, data, __functionAddress);
     }
 
     /**
@@ -8499,12 +18764,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLuint *") int[] data) {
-        long __functionAddress = GL.getICD().glGetPixelMapuiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 32);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetPixelMapuiv(map, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_PIXEL_MAPUIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetPixelMapuiv(I[I)", map, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetPixelMapuiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 32);
+            }
+            callPV(map, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(map, data, __functionAddress);
     }
 
     /**
@@ -8513,12 +18791,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetTexEnv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetTexEnviv(@NativeType("GLenum") int env, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] data) {
-        long __functionAddress = GL.getICD().glGetTexEnviv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexEnviv(env, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_ENVIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexEnviv(II[I)", env, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetTexEnviv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 1);
+            }
+            callPV(env, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(env, pname, data, __functionAddress);
     }
 
     /**
@@ -8527,12 +18818,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetTexEnv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetTexEnvfv(@NativeType("GLenum") int env, @NativeType("GLenum") int pname, @NativeType("GLfloat *") float[] data) {
-        long __functionAddress = GL.getICD().glGetTexEnvfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexEnvfv(env, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_ENVFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexEnvfv(II[F)", env, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetTexEnvfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 1);
+            }
+            callPV(env, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(env, pname, data, __functionAddress);
     }
 
     /**
@@ -8541,12 +18845,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetTexGeniv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] data) {
-        long __functionAddress = GL.getICD().glGetTexGeniv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexGeniv(coord, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_GENIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexGeniv(II[I)", coord, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetTexGeniv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 1);
+            }
+            callPV(coord, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coord, pname, data, __functionAddress);
     }
 
     /**
@@ -8555,12 +18872,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetTexGenfv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLfloat *") float[] data) {
-        long __functionAddress = GL.getICD().glGetTexGenfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexGenfv(coord, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_GENFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexGenfv(II[F)", coord, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetTexGenfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 4);
+            }
+            callPV(coord, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coord, pname, data, __functionAddress);
     }
 
     /**
@@ -8569,12 +18899,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glGetTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetTexGendv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLdouble *") double[] data) {
-        long __functionAddress = GL.getICD().glGetTexGendv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(data, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexGendv(coord, pname, data));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_GENDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexGendv(II[D)", coord, pname, data);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glGetTexGendv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(data, 4);
+            }
+            callPV(coord, pname, data, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coord, pname, data, __functionAddress);
     }
 
     /**
@@ -8583,7 +18926,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") short[] pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexImage(tex, level, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_IMAGE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexImage(IIII[S)", tex, level, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8592,7 +18948,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") int[] pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexImage(tex, level, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_IMAGE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexImage(IIII[I)", tex, level, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8601,7 +18970,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") float[] pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexImage(tex, level, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_IMAGE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexImage(IIII[F)", tex, level, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8610,7 +18992,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") double[] pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexImage(tex, level, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_IMAGE);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexImage(IIII[D)", tex, level, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8619,7 +19014,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexLevelParameter">Reference Page</a>
      */
     public static void glGetTexLevelParameteriv(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        GL11C.glGetTexLevelParameteriv(target, level, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexLevelParameteriv(target, level, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_LEVEL_PARAMETERIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexLevelParameteriv(III[I)", target, level, pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexLevelParameteriv(target, level, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8628,7 +19036,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexLevelParameter">Reference Page</a>
      */
     public static void glGetTexLevelParameterfv(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int pname, @NativeType("GLfloat *") float[] params) {
-        GL11C.glGetTexLevelParameterfv(target, level, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexLevelParameterfv(target, level, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_LEVEL_PARAMETERFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexLevelParameterfv(III[F)", target, level, pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexLevelParameterfv(target, level, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8637,7 +19058,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexParameter">Reference Page</a>
      */
     public static void glGetTexParameteriv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        GL11C.glGetTexParameteriv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexParameteriv(target, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_PARAMETERIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexParameteriv(II[I)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexParameteriv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8646,7 +19080,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glGetTexParameter">Reference Page</a>
      */
     public static void glGetTexParameterfv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat *") float[] params) {
-        GL11C.glGetTexParameterfv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexParameterfv(target, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_PARAMETERFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexParameterfv(II[F)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            GL11C.glGetTexParameterfv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -8655,12 +19102,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexiv(@NativeType("GLint const *") int[] index) {
-        long __functionAddress = GL.getICD().glIndexiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(index, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_INDEXIV, RenderThread.bytes(index));
+            RenderThread.put(__command, index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexiv([I)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(index, 1);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(index, __functionAddress);
     }
 
     /**
@@ -8669,12 +19130,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexsv(@NativeType("GLshort const *") short[] index) {
-        long __functionAddress = GL.getICD().glIndexsv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(index, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_INDEXSV, RenderThread.bytes(index));
+            RenderThread.put(__command, index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexsv([S)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexsv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(index, 1);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(index, __functionAddress);
     }
 
     /**
@@ -8683,12 +19158,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexfv(@NativeType("GLfloat const *") float[] index) {
-        long __functionAddress = GL.getICD().glIndexfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(index, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_INDEXFV, RenderThread.bytes(index));
+            RenderThread.put(__command, index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexfv([F)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(index, 1);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(index, __functionAddress);
     }
 
     /**
@@ -8697,12 +19186,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexdv(@NativeType("GLdouble const *") double[] index) {
-        long __functionAddress = GL.getICD().glIndexdv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(index, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_INDEXDV, RenderThread.bytes(index));
+            RenderThread.put(__command, index);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INDEXDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glIndexdv([D)", index);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glIndexdv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(index, 1);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(index, __functionAddress);
     }
 
     /**
@@ -8711,11 +19214,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") short[] pointer) {
-        long __functionAddress = GL.getICD().glInterleavedArrays;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glInterleavedArrays(format, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INTERLEAVED_ARRAYS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glInterleavedArrays(II[S)", format, stride, pointer);
+            }
+            ClientArrayStreaming.interleavedArrays();
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glInterleavedArrays;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(format, stride, pointer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(format, stride, pointer, __functionAddress);
     }
 
     /**
@@ -8724,11 +19241,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") int[] pointer) {
-        long __functionAddress = GL.getICD().glInterleavedArrays;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glInterleavedArrays(format, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INTERLEAVED_ARRAYS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glInterleavedArrays(II[I)", format, stride, pointer);
+            }
+            ClientArrayStreaming.interleavedArrays();
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glInterleavedArrays;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(format, stride, pointer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(format, stride, pointer, __functionAddress);
     }
 
     /**
@@ -8737,11 +19268,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") float[] pointer) {
-        long __functionAddress = GL.getICD().glInterleavedArrays;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glInterleavedArrays(format, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INTERLEAVED_ARRAYS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glInterleavedArrays(II[F)", format, stride, pointer);
+            }
+            ClientArrayStreaming.interleavedArrays();
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glInterleavedArrays;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(format, stride, pointer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(format, stride, pointer, __functionAddress);
     }
 
     /**
@@ -8750,11 +19295,25 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") double[] pointer) {
-        long __functionAddress = GL.getICD().glInterleavedArrays;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glInterleavedArrays(format, stride, pointer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_INTERLEAVED_ARRAYS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glInterleavedArrays(II[D)", format, stride, pointer);
+            }
+            ClientArrayStreaming.interleavedArrays();
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glInterleavedArrays;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(format, stride, pointer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(format, stride, pointer, __functionAddress);
     }
 
     /**
@@ -8763,12 +19322,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glLightModel">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightModeliv(@NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        long __functionAddress = GL.getICD().glLightModeliv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_LIGHT_MODELIV, Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIGHT_MODELIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLightModeliv(I[I)", pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLightModeliv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(pname, params, __functionAddress);
     }
 
     /**
@@ -8777,12 +19351,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glLightModel">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightModelfv(@NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        long __functionAddress = GL.getICD().glLightModelfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_LIGHT_MODELFV, Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIGHT_MODELFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLightModelfv(I[F)", pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLightModelfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(pname, params, __functionAddress);
     }
 
     /**
@@ -8791,12 +19380,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glLight">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightiv(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        long __functionAddress = GL.getICD().glLightiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_LIGHTIV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(light).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIGHTIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLightiv(II[I)", light, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLightiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(light, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(light, pname, params, __functionAddress);
     }
 
     /**
@@ -8805,12 +19409,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glLight">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightfv(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        long __functionAddress = GL.getICD().glLightfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_LIGHTFV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(light).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LIGHTFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLightfv(II[F)", light, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLightfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(light, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(light, pname, params, __functionAddress);
     }
 
     /**
@@ -8819,12 +19438,29 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glLoadMatrixf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLoadMatrixf(@NativeType("GLfloat const *") float[] m) {
-        long __functionAddress = GL.getICD().glLoadMatrixf;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(m, 16);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_LOAD_MATRIXF, RenderThread.bytes(m));
+            RenderThread.put(__command, m);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LOAD_MATRIXF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLoadMatrixf([F)", m);
+            }
+            if (MatrixStacks.loadMatrix(m)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLoadMatrixf;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(m, 16);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(m, __functionAddress);
     }
 
     /**
@@ -8833,12 +19469,29 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glLoadMatrixd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLoadMatrixd(@NativeType("GLdouble const *") double[] m) {
-        long __functionAddress = GL.getICD().glLoadMatrixd;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(m, 16);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_LOAD_MATRIXD, RenderThread.bytes(m));
+            RenderThread.put(__command, m);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_LOAD_MATRIXD);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glLoadMatrixd([D)", m);
+            }
+            if (MatrixStacks.loadMatrix(m)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glLoadMatrixd;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(m, 16);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(m, __functionAddress);
     }
 
     /**
@@ -8847,12 +19500,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap1f(@NativeType("GLenum") int target, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2, @NativeType("GLint") int stride, @NativeType("GLint") int order, @NativeType("GLfloat const *") float[] points) {
-        long __functionAddress = GL.getICD().glMap1f;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(points, order * stride);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MAP1F, 3 * Integer.BYTES + 2 * Float.BYTES + RenderThread.bytes(points));
+            __command.putInt(target).putFloat(u1).putFloat(u2).putInt(stride).putInt(order);
+            RenderThread.put(__command, points);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MAP1F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMap1f(IFFII[F)", target, u1, u2, stride, order, points);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMap1f;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(points, order * stride);
+            }
+            callPV(target, u1, u2, stride, order, points, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(target, u1, u2, stride, order, points, __functionAddress);
     }
 
     /**
@@ -8861,12 +19529,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap1d(@NativeType("GLenum") int target, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2, @NativeType("GLint") int stride, @NativeType("GLint") int order, @NativeType("GLdouble const *") double[] points) {
-        long __functionAddress = GL.getICD().glMap1d;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(points, stride * order);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MAP1D, 3 * Integer.BYTES + 2 * Double.BYTES + RenderThread.bytes(points));
+            __command.putInt(target).putDouble(u1).putDouble(u2).putInt(stride).putInt(order);
+            RenderThread.put(__command, points);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MAP1D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMap1d(IDDII[D)", target, u1, u2, stride, order, points);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMap1d;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(points, stride * order);
+            }
+            callPV(target, u1, u2, stride, order, points, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(target, u1, u2, stride, order, points, __functionAddress);
     }
 
     /**
@@ -8875,12 +19558,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap2f(@NativeType("GLenum") int target, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2, @NativeType("GLint") int ustride, @NativeType("GLint") int uorder, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2, @NativeType("GLint") int vstride, @NativeType("GLint") int vorder, @NativeType("GLfloat const *") float[] points) {
-        long __functionAddress = GL.getICD().glMap2f;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(points, ustride * uorder * vstride * vorder);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MAP2F, 5 * Integer.BYTES + 4 * Float.BYTES + RenderThread.bytes(points));
+            __command.putInt(target).putFloat(u1).putFloat(u2).putInt(ustride).putInt(uorder).putFloat(v1).putFloat(v2).putInt(vstride).putInt(vorder);
+            RenderThread.put(__command, points);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MAP2F);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMap2f(IFFIIFFII[F)", target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMap2f;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(points, ustride * uorder * vstride * vorder);
+            }
+            callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
     }
 
     /**
@@ -8889,12 +19587,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap2d(@NativeType("GLenum") int target, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2, @NativeType("GLint") int ustride, @NativeType("GLint") int uorder, @NativeType("GLdouble") double v1, @NativeType("GLdouble") double v2, @NativeType("GLint") int vstride, @NativeType("GLint") int vorder, @NativeType("GLdouble const *") double[] points) {
-        long __functionAddress = GL.getICD().glMap2d;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(points, ustride * uorder * vstride * vorder);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MAP2D, 5 * Integer.BYTES + 4 * Double.BYTES + RenderThread.bytes(points));
+            __command.putInt(target).putDouble(u1).putDouble(u2).putInt(ustride).putInt(uorder).putDouble(v1).putDouble(v2).putInt(vstride).putInt(vorder);
+            RenderThread.put(__command, points);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MAP2D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMap2d(IDDIIDDII[D)", target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMap2d;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(points, ustride * uorder * vstride * vorder);
+            }
+            callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
     }
 
     /**
@@ -8903,12 +19616,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMaterialiv(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        long __functionAddress = GL.getICD().glMaterialiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MATERIALIV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(face).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MATERIALIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMaterialiv(II[I)", face, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMaterialiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(face, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(face, pname, params, __functionAddress);
     }
 
     /**
@@ -8917,12 +19645,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMaterialfv(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        long __functionAddress = GL.getICD().glMaterialfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MATERIALFV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(face).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MATERIALFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMaterialfv(II[F)", face, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMaterialfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(face, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(face, pname, params, __functionAddress);
     }
 
     /**
@@ -8931,12 +19674,29 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMultMatrixf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMultMatrixf(@NativeType("GLfloat const *") float[] m) {
-        long __functionAddress = GL.getICD().glMultMatrixf;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(m, 16);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MULT_MATRIXF, RenderThread.bytes(m));
+            RenderThread.put(__command, m);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MULT_MATRIXF);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMultMatrixf([F)", m);
+            }
+            if (MatrixStacks.multiplyMatrix(m)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMultMatrixf;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(m, 16);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(m, __functionAddress);
     }
 
     /**
@@ -8945,12 +19705,29 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glMultMatrixd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMultMatrixd(@NativeType("GLdouble const *") double[] m) {
-        long __functionAddress = GL.getICD().glMultMatrixd;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(m, 16);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MULT_MATRIXD, RenderThread.bytes(m));
+            RenderThread.put(__command, m);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MULT_MATRIXD);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMultMatrixd([D)", m);
+            }
+            if (MatrixStacks.multiplyMatrix(m)) {
+                return;
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glMultMatrixd;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(m, 16);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(m, __functionAddress);
     }
 
     /**
@@ -8959,12 +19736,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glNormal3fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_NORMAL3FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3fv([F)", v);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8973,12 +19764,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glNormal3sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_NORMAL3SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3sv([S)", v);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8987,12 +19792,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glNormal3iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_NORMAL3IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3iv([I)", v);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9001,12 +19820,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glNormal3dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_NORMAL3DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_NORMAL3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glNormal3dv([D)", v);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glNormal3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9015,11 +19848,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLfloat const *") float[] values) {
-        long __functionAddress = GL.getICD().glPixelMapfv;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_PIXEL_MAPFV, Integer.BYTES + RenderThread.bytes(values));
+            __command.putInt(map);
+            RenderThread.put(__command, values);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_MAPFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelMapfv(I[F)", map, values);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPixelMapfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, values.length, values, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(map, values.length, values, __functionAddress);
     }
 
     /**
@@ -9028,11 +19876,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLushort const *") short[] values) {
-        long __functionAddress = GL.getICD().glPixelMapusv;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_PIXEL_MAPUSV, Integer.BYTES + RenderThread.bytes(values));
+            __command.putInt(map);
+            RenderThread.put(__command, values);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_MAPUSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelMapusv(I[S)", map, values);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPixelMapusv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, values.length, values, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(map, values.length, values, __functionAddress);
     }
 
     /**
@@ -9041,11 +19904,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLuint const *") int[] values) {
-        long __functionAddress = GL.getICD().glPixelMapuiv;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_PIXEL_MAPUIV, Integer.BYTES + RenderThread.bytes(values));
+            __command.putInt(map);
+            RenderThread.put(__command, values);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PIXEL_MAPUIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPixelMapuiv(I[I)", map, values);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPixelMapuiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, values.length, values, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(map, values.length, values, __functionAddress);
     }
 
     /**
@@ -9054,12 +19932,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glPrioritizeTextures">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPrioritizeTextures(@NativeType("GLuint const *") int[] textures, @NativeType("GLfloat const *") float[] priorities) {
-        long __functionAddress = GL.getICD().glPrioritizeTextures;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(priorities, textures.length);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_PRIORITIZE_TEXTURES, RenderThread.bytes(textures) + RenderThread.bytes(priorities));
+            RenderThread.put(__command, textures);
+            RenderThread.put(__command, priorities);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_PRIORITIZE_TEXTURES);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glPrioritizeTextures([I[F)", textures, priorities);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glPrioritizeTextures;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(priorities, textures.length);
+            }
+            callPPV(textures.length, textures, priorities, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPPV(textures.length, textures, priorities, __functionAddress);
     }
 
     /**
@@ -9068,12 +19961,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2iv(@NativeType("GLint const *") int[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos2iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS2IV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS2IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos2iv([I)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos2iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9082,12 +19989,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2sv(@NativeType("GLshort const *") short[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos2sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS2SV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS2SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos2sv([S)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos2sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9096,12 +20017,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2fv(@NativeType("GLfloat const *") float[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos2fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS2FV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS2FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos2fv([F)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9110,12 +20045,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2dv(@NativeType("GLdouble const *") double[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos2dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS2DV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS2DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos2dv([D)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9124,12 +20073,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3iv(@NativeType("GLint const *") int[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos3iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS3IV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos3iv([I)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9138,12 +20101,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3sv(@NativeType("GLshort const *") short[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos3sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS3SV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos3sv([S)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9152,12 +20129,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3fv(@NativeType("GLfloat const *") float[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos3fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS3FV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos3fv([F)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9166,12 +20157,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3dv(@NativeType("GLdouble const *") double[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos3dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS3DV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos3dv([D)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9180,12 +20185,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4iv(@NativeType("GLint const *") int[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos4iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS4IV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS4IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos4iv([I)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9194,12 +20213,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4sv(@NativeType("GLshort const *") short[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos4sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS4SV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS4SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos4sv([S)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9208,12 +20241,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4fv(@NativeType("GLfloat const *") float[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos4fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS4FV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS4FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos4fv([F)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9222,12 +20269,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4dv(@NativeType("GLdouble const *") double[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos4dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RASTER_POS4DV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RASTER_POS4DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRasterPos4dv([D)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRasterPos4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9236,7 +20297,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") short[] pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glReadPixels(x, y, width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_READ_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glReadPixels(IIIIII[S)", x, y, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9245,7 +20319,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") int[] pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glReadPixels(x, y, width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_READ_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glReadPixels(IIIIII[I)", x, y, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9254,7 +20341,20 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") float[] pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glReadPixels(x, y, width, height, format, type, pixels));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_READ_PIXELS);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glReadPixels(IIIIII[F)", x, y, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9263,13 +20363,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectiv(@NativeType("GLint const *") int[] v1, @NativeType("GLint const *") int[] v2) {
-        long __functionAddress = GL.getICD().glRectiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v1, 2);
-            check(v2, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RECTIV, RenderThread.bytes(v1) + RenderThread.bytes(v2));
+            RenderThread.put(__command, v1);
+            RenderThread.put(__command, v2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RECTIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRectiv([I[I)", v1, v2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRectiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v1, 2);
+                check(v2, 2);
+            }
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPPV(v1, v2, __functionAddress);
     }
 
     /**
@@ -9278,13 +20393,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectsv(@NativeType("GLshort const *") short[] v1, @NativeType("GLshort const *") short[] v2) {
-        long __functionAddress = GL.getICD().glRectsv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v1, 2);
-            check(v2, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RECTSV, RenderThread.bytes(v1) + RenderThread.bytes(v2));
+            RenderThread.put(__command, v1);
+            RenderThread.put(__command, v2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RECTSV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRectsv([S[S)", v1, v2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRectsv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v1, 2);
+                check(v2, 2);
+            }
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPPV(v1, v2, __functionAddress);
     }
 
     /**
@@ -9293,13 +20423,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectfv(@NativeType("GLfloat const *") float[] v1, @NativeType("GLfloat const *") float[] v2) {
-        long __functionAddress = GL.getICD().glRectfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v1, 2);
-            check(v2, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RECTFV, RenderThread.bytes(v1) + RenderThread.bytes(v2));
+            RenderThread.put(__command, v1);
+            RenderThread.put(__command, v2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RECTFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRectfv([F[F)", v1, v2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRectfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v1, 2);
+                check(v2, 2);
+            }
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPPV(v1, v2, __functionAddress);
     }
 
     /**
@@ -9308,13 +20453,28 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectdv(@NativeType("GLdouble const *") double[] v1, @NativeType("GLdouble const *") double[] v2) {
-        long __functionAddress = GL.getICD().glRectdv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v1, 2);
-            check(v2, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_RECTDV, RenderThread.bytes(v1) + RenderThread.bytes(v2));
+            RenderThread.put(__command, v1);
+            RenderThread.put(__command, v2);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_RECTDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glRectdv([D[D)", v1, v2);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glRectdv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v1, 2);
+                check(v2, 2);
+            }
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPPV(v1, v2, __functionAddress);
     }
 
     /**
@@ -9323,11 +20483,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glSelectBuffer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glSelectBuffer(@NativeType("GLuint *") int[] buffer) {
-        long __functionAddress = GL.getICD().glSelectBuffer;
-        if (CHECKS) {
-            check(__functionAddress);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glSelectBuffer(buffer));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_SELECT_BUFFER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glSelectBuffer([I)", buffer);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glSelectBuffer;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(buffer.length, buffer, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(buffer.length, buffer, __functionAddress);
     }
 
     /**
@@ -9336,12 +20509,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glTexCoord1fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD1FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD1FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord1fv([F)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord1fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 1);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9350,12 +20538,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glTexCoord1sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD1SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD1SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord1sv([S)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord1sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 1);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9364,12 +20567,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glTexCoord1iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD1IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD1IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord1iv([I)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord1iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 1);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9378,12 +20596,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glTexCoord1dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 1);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD1DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD1DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord1dv([D)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord1dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 1);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9392,12 +20625,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glTexCoord2fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD2FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD2FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord2fv([F)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 2);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9406,12 +20654,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glTexCoord2sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD2SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD2SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord2sv([S)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord2sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 2);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9420,12 +20683,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glTexCoord2iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD2IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD2IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord2iv([I)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord2iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 2);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9434,12 +20712,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glTexCoord2dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD2DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD2DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord2dv([D)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 2);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9448,12 +20741,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glTexCoord3fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD3FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord3fv([F)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9462,12 +20770,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glTexCoord3sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD3SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord3sv([S)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9476,12 +20799,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glTexCoord3iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD3IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord3iv([I)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9490,12 +20828,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glTexCoord3dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD3DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord3dv([D)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9504,12 +20857,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glTexCoord4fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD4FV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD4FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord4fv([F)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9518,12 +20886,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glTexCoord4sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD4SV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD4SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord4sv([S)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9532,12 +20915,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glTexCoord4iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD4IV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD4IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord4iv([I)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9546,12 +20944,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glTexCoord4dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_COORD4DV, RenderThread.bytes(v));
+            RenderThread.put(__command, v);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_COORD4DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexCoord4dv([D)", v);
+            }
+            OpaqueCalls.before();
+            ImmediateModeBatcher.invalidateCurrent();
+            long __functionAddress = GL.getICD().glTexCoord4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9560,12 +20973,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexEnv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexEnviv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        long __functionAddress = GL.getICD().glTexEnviv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_ENVIV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(target).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_ENVIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexEnviv(II[I)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexEnviv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(target, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(target, pname, params, __functionAddress);
     }
 
     /**
@@ -9574,12 +21002,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexEnv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexEnvfv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        long __functionAddress = GL.getICD().glTexEnvfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_ENVFV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(target).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_ENVFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexEnvfv(II[F)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexEnvfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(target, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(target, pname, params, __functionAddress);
     }
 
     /**
@@ -9588,12 +21031,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexGeniv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        long __functionAddress = GL.getICD().glTexGeniv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_GENIV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(coord).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_GENIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexGeniv(II[I)", coord, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexGeniv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(coord, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coord, pname, params, __functionAddress);
     }
 
     /**
@@ -9602,12 +21060,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexGenfv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        long __functionAddress = GL.getICD().glTexGenfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_GENFV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(coord).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_GENFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexGenfv(II[F)", coord, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexGenfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(coord, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coord, pname, params, __functionAddress);
     }
 
     /**
@@ -9616,12 +21089,27 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexGendv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLdouble const *") double[] params) {
-        long __functionAddress = GL.getICD().glTexGendv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_GENDV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(coord).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_GENDV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexGendv(II[D)", coord, pname, params);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glTexGendv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(coord, pname, params, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coord, pname, params, __functionAddress);
     }
 
     /**
@@ -9630,7 +21118,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") short [] pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE1_D, 7 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage1D(IIIIIII[S)", target, level, internalformat, width, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9639,7 +21142,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") int [] pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE1_D, 7 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage1D(IIIIIII[I)", target, level, internalformat, width, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9648,7 +21166,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") float [] pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE1_D, 7 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage1D(IIIIIII[F)", target, level, internalformat, width, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9657,7 +21190,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") double [] pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE1_D, 7 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage1D(IIIIIII[D)", target, level, internalformat, width, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9666,7 +21214,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") short [] pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage2D(IIIIIIII[S)", target, level, internalformat, width, height, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texImage2D(target, level, internalformat, width, height, border, format, type, NULL, 0);
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+            GlObjects.texImage2D(target, level, width, height, format, type);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9675,7 +21240,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") int [] pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage2D(IIIIIIII[I)", target, level, internalformat, width, height, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texImage2D(target, level, internalformat, width, height, border, format, type, NULL, 0);
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+            GlObjects.texImage2D(target, level, width, height, format, type);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9684,7 +21266,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") float [] pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage2D(IIIIIIII[F)", target, level, internalformat, width, height, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texImage2D(target, level, internalformat, width, height, border, format, type, NULL, 0);
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+            GlObjects.texImage2D(target, level, width, height, format, type);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9693,7 +21292,24 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") double [] pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height).putInt(border).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexImage2D(IIIIIIII[D)", target, level, internalformat, width, height, border, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texImage2D(target, level, internalformat, width, height, border, format, type, NULL, 0);
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+            GlObjects.texImage2D(target, level, width, height, format, type);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9702,7 +21318,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexParameter">Reference Page</a>
      */
     public static void glTexParameteriv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        GL11C.glTexParameteriv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_PARAMETERIV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(target).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_PARAMETERIV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexParameteriv(II[I)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateTexParameter(target, pname);
+            GL11C.glTexParameteriv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9711,7 +21343,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexParameter">Reference Page</a>
      */
     public static void glTexParameterfv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        GL11C.glTexParameterfv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_PARAMETERFV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(target).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_PARAMETERFV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexParameterfv(II[F)", target, pname, params);
+            }
+            OpaqueCalls.before();
+            GlStateCache.invalidateTexParameter(target, pname);
+            GL11C.glTexParameterfv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9720,7 +21368,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") short[] pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE1_D, 6 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(width).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage1D(IIIIII[S)", target, level, xoffset, width, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9729,7 +21392,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") int[] pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE1_D, 6 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(width).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage1D(IIIIII[I)", target, level, xoffset, width, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9738,7 +21416,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") float[] pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE1_D, 6 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(width).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage1D(IIIIII[F)", target, level, xoffset, width, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9747,7 +21440,22 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") double[] pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE1_D, 6 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(width).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE1_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage1D(IIIIII[D)", target, level, xoffset, width, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9756,7 +21464,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") short[] pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage2D(IIIIIIII[S)", target, level, xoffset, yoffset, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texSubImage2D(target);
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9765,7 +21489,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") int[] pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage2D(IIIIIIII[I)", target, level, xoffset, yoffset, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texSubImage2D(target);
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9774,7 +21514,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") float[] pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage2D(IIIIIIII[F)", target, level, xoffset, yoffset, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texSubImage2D(target);
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9783,7 +21539,23 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") double[] pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_SUB_IMAGE2_D, 8 * Integer.BYTES + RenderThread.bytes(pixels));
+            __command.putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(width).putInt(height).putInt(format).putInt(type);
+            RenderThread.put(__command, pixels);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_SUB_IMAGE2_D);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexSubImage2D(IIIIIIII[D)", target, level, xoffset, yoffset, width, height, format, type, pixels);
+            }
+            OpaqueCalls.before();
+            TextureCompression.texSubImage2D(target);
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     /**
@@ -9792,12 +21564,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2fv(@NativeType("GLfloat const *") float[] coords) {
-        long __functionAddress = GL.getICD().glVertex2fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX2FV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX2FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex2fv([F)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9806,12 +21592,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2sv(@NativeType("GLshort const *") short[] coords) {
-        long __functionAddress = GL.getICD().glVertex2sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX2SV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX2SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex2sv([S)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex2sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9820,12 +21620,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2iv(@NativeType("GLint const *") int[] coords) {
-        long __functionAddress = GL.getICD().glVertex2iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX2IV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX2IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex2iv([I)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex2iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9834,12 +21648,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2dv(@NativeType("GLdouble const *") double[] coords) {
-        long __functionAddress = GL.getICD().glVertex2dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX2DV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX2DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex2dv([D)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9848,12 +21676,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3fv(@NativeType("GLfloat const *") float[] coords) {
-        long __functionAddress = GL.getICD().glVertex3fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX3FV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX3FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex3fv([F)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9862,12 +21704,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3sv(@NativeType("GLshort const *") short[] coords) {
-        long __functionAddress = GL.getICD().glVertex3sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX3SV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX3SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex3sv([S)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9876,12 +21732,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3iv(@NativeType("GLint const *") int[] coords) {
-        long __functionAddress = GL.getICD().glVertex3iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX3IV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX3IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex3iv([I)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9890,12 +21760,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3dv(@NativeType("GLdouble const *") double[] coords) {
-        long __functionAddress = GL.getICD().glVertex3dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX3DV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX3DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex3dv([D)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9904,12 +21788,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4fv(@NativeType("GLfloat const *") float[] coords) {
-        long __functionAddress = GL.getICD().glVertex4fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX4FV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX4FV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex4fv([F)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9918,12 +21816,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4sv(@NativeType("GLshort const *") short[] coords) {
-        long __functionAddress = GL.getICD().glVertex4sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX4SV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX4SV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex4sv([S)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9932,12 +21844,26 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4iv(@NativeType("GLint const *") int[] coords) {
-        long __functionAddress = GL.getICD().glVertex4iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX4IV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX4IV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex4iv([I)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9946,39 +21872,104 @@ public class GL11 {
      * @see <a href="https://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4dv(@NativeType("GLdouble const *") double[] coords) {
-        long __functionAddress = GL.getICD().glVertex4dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_VERTEX4DV, RenderThread.bytes(coords));
+            RenderThread.put(__command, coords);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_VERTEX4DV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glVertex4dv([D)", coords);
+            }
+            OpaqueCalls.before();
+            long __functionAddress = GL.getICD().glVertex4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            CallProfiler.exit(__start);
         }
-        callPV(coords, __functionAddress);
     }
 
     // COMPATIBILITY EXTENSION BELOW
 
     public static void glGetTexLevelParameter(int target, int level, int pname, IntBuffer params) {
-        glGetTexLevelParameteriv(target, level, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetTexLevelParameter(target, level, pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_TEX_LEVEL_PARAMETER);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetTexLevelParameter(IIIi)", target, level, pname, params);
+            }
+            glGetTexLevelParameteriv(target, level, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     public static void glGetFloat(int pname, FloatBuffer params) {
-        // hack: altitude uses this to get the actual framebuffer size after a resolution change, but, because we do not
-        // reconstruct the entire window to change the resolution, as LWJGL2 did, GL does not yet know: ask GLFW
-        if (pname == GL11.GL_VIEWPORT) {
-            int[] width = new int[1];
-            int[] height = new int[1];
-            glfwGetFramebufferSize(Display.window(), width, height);
-            params.put(2, width[0]);
-            params.put(3, height[0]);
-        } else {
-            glGetFloatv(pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            RenderThread.run(() -> glGetFloat(pname, params));
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_GET_FLOAT);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glGetFloat(If)", pname, params);
+            }
+            // hack: altitude uses this to get the actual framebuffer size after a resolution change, but, because we do not
+            // reconstruct the entire window to change the resolution, as LWJGL2 did, GL does not yet know: ask GLFW
+            if (pname == GL11.GL_VIEWPORT) {
+                int[] width = new int[1];
+                int[] height = new int[1];
+                RenderThread.onMainThread(() -> glfwGetFramebufferSize(Display.window(), width, height));
+                params.put(2, width[0]);
+                params.put(3, height[0]);
+            } else {
+                glGetFloatv(pname, params);
+            }
+        } finally {
+            CallProfiler.exit(__start);
         }
     }
 
     public static void glTexEnv(int target, int pname, FloatBuffer params) {
-        glTexEnvfv(target, pname, params);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_TEX_ENV, 2 * Integer.BYTES + RenderThread.bytes(params));
+            __command.putInt(target).putInt(pname);
+            RenderThread.put(__command, params);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_TEX_ENV);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glTexEnv(IIf)", target, pname, params);
+            }
+            glTexEnvfv(target, pname, params);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 
     public static void glMultMatrix(FloatBuffer m) {
-        glMultMatrixf(m);
+        if (RenderThread.ENABLED && RenderThread.offRenderThread()) {
+            ByteBuffer __command = RenderThread.queue(GlEntryPoint.GL_MULT_MATRIX, RenderThread.bytes(m));
+            RenderThread.put(__command, m);
+            return;
+        }
+        long __start = CallProfiler.enter(GlEntryPoint.GL_MULT_MATRIX);
+        try {
+            if (GlTrace.ENABLED) {
+                GlTrace.call("glMultMatrix(f)", m);
+            }
+            glMultMatrixf(m);
+        } finally {
+            CallProfiler.exit(__start);
+        }
     }
 }
@@ -31,6 +31,8 @@
  */
 package org.lwjgl.opengl;
 
+import lwjglalti.gl.RenderThread;
+
 public final class GLContext {
 
     // unused, but altitude is conscientious enough to try to clear these using reflection
@@ -44,7 +46,8 @@ public final class GLContext {
     }
 
     public static ContextCapabilities getCapabilities() {
-        return ContextCapabilities.adapt(GL.getCapabilities());
+        // the capabilities are those of the thread that owns the context
+        return ContextCapabilities.adapt(RenderThread.get(GL::getCapabilities));
     }
 
     public static synchronized void unloadOpenGLLibrary() {
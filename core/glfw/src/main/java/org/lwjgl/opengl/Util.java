@@ -31,6 +31,8 @@
  */
 package org.lwjgl.opengl;
 
+import lwjglalti.gl.GlValidation;
+
 import static org.lwjgl.opengl.ARBImaging.GL_TABLE_TOO_LARGE;
 import static org.lwjgl.opengl.GL11.GL_INVALID_ENUM;
 import static org.lwjgl.opengl.GL11.GL_INVALID_OPERATION;
@@ -49,6 +51,10 @@ public class Util {
     }
 
     public static void checkGLError() throws OpenGLException {
+        // glGetError waits for the driver, and finds nothing without validation
+        if (!GlValidation.checksErrors()) {
+            return;
+        }
         int err = glGetError();
         if (err == GL_NO_ERROR) {
             return;
@@ -0,0 +1,121 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.NullBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL15;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientArrayStreamingTest {
+
+    // more than half a segment of the ring, so that every draw takes a segment of its own
+    private static final int VERTICES = 50_000;
+    private static final int VERTEX_BYTES = 3 * Float.BYTES;
+
+    private static final FloatBuffer vertices = BufferUtils.createFloatBuffer(4 * VERTICES * 3);
+
+    @BeforeAll
+    static void createDisplay() throws LWJGLException {
+        assertTrue(ClientArrayStreaming.ENABLED);
+        NullDisplay.create();
+    }
+
+    @AfterAll
+    static void checkCalls() {
+        NullDisplay.assertNoInvalidCalls();
+    }
+
+    @BeforeEach
+    void resetRing() {
+        // a ring of its own for every test, at the start of its first segment
+        ClientArrayStreaming.contextCreated();
+        ClientArrayStreaming.endFrame();
+        GL11.glVertexPointer(3, GL11.GL_FLOAT, 0, vertices);
+        GL11.glEnableClientState(GL11.GL_VERTEX_ARRAY);
+    }
+
+    @AfterEach
+    void disableArrays() {
+        GL11.glDisableClientState(GL11.GL_VERTEX_ARRAY);
+    }
+
+    @Test
+    void drawIsMadeFromTheRing() {
+        long draws = NullBackend.calls("glDrawArrays");
+        long pointers = NullBackend.calls("glVertexPointer");
+
+        GL11.glDrawArrays(GL11.GL_TRIANGLES, 3, VERTICES);
+        ClientArrayStreaming.endFrame();
+
+        assertEquals(draws + 1, NullBackend.calls("glDrawArrays"));
+        assertEquals(pointers + 1, NullBackend.calls("glVertexPointer"));
+        assertEquals(1, ClientArrayStreaming.lastFrameStreamedDraws());
+        assertEquals((long) VERTICES * VERTEX_BYTES, ClientArrayStreaming.lastFrameStreamedBytes());
+        assertEquals(0, GL11.glGetInteger(GL15.GL_ARRAY_BUFFER_BINDING));
+    }
+
+    @Test
+    void ringWaitsForTheFenceOfASegmentALapAgo() {
+        long fences = NullBackend.calls("glFenceSync");
+        long waits = NullBackend.calls("glClientWaitSync");
+        long deletes = NullBackend.calls("glDeleteSync");
+
+        // one segment per draw, and every segment once
+        for (int i = 0; i < 4; ++i) {
+            GL11.glDrawArrays(GL11.GL_TRIANGLES, 0, VERTICES);
+        }
+        assertEquals(fences + 3, NullBackend.calls("glFenceSync"));
+        assertEquals(waits, NullBackend.calls("glClientWaitSync"));
+
+        // back to the first segment, fenced behind the first draw
+        GL11.glDrawArrays(GL11.GL_TRIANGLES, 0, VERTICES);
+        assertEquals(fences + 4, NullBackend.calls("glFenceSync"));
+        assertEquals(waits + 1, NullBackend.calls("glClientWaitSync"));
+        assertEquals(deletes + 1, NullBackend.calls("glDeleteSync"));
+
+        GL11.glDrawArrays(GL11.GL_TRIANGLES, 0, VERTICES);
+        assertEquals(waits + 2, NullBackend.calls("glClientWaitSync"));
+        assertEquals(deletes + 2, NullBackend.calls("glDeleteSync"));
+    }
+
+    @Test
+    void drawLargerThanASegmentIsLeftInClientMemory() {
+        long draws = NullBackend.calls("glDrawArrays");
+        long pointers = NullBackend.calls("glVertexPointer");
+
+        GL11.glDrawArrays(GL11.GL_TRIANGLES, 0, 4 * VERTICES);
+        ClientArrayStreaming.endFrame();
+
+        assertEquals(draws + 1, NullBackend.calls("glDrawArrays"));
+        assertEquals(pointers, NullBackend.calls("glVertexPointer"));
+        assertEquals(0, ClientArrayStreaming.lastFrameStreamedDraws());
+        assertEquals(1, ClientArrayStreaming.lastFrameClientDraws());
+    }
+
+    @Test
+    void arrayInABoundBufferIsLeftToTheDriver() {
+        int buffer = GL15.glGenBuffers();
+        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, buffer);
+        GL15.glBufferData(GL15.GL_ARRAY_BUFFER, (long) VERTICES * VERTEX_BYTES, GL15.GL_STATIC_DRAW);
+        GL11.glVertexPointer(3, GL11.GL_FLOAT, 0, 0L);
+        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, 0);
+        long pointers = NullBackend.calls("glVertexPointer");
+
+        GL11.glDrawArrays(GL11.GL_TRIANGLES, 0, VERTICES);
+        ClientArrayStreaming.endFrame();
+
+        assertEquals(pointers, NullBackend.calls("glVertexPointer"));
+        assertEquals(0, ClientArrayStreaming.lastFrameStreamedDraws());
+        GL15.glDeleteBuffers(buffer);
+    }
+}
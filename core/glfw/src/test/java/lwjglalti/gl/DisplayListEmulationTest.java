@@ -0,0 +1,159 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.NullBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.GL11;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DisplayListEmulationTest {
+
+    @BeforeAll
+    static void createDisplay() throws LWJGLException {
+        assertTrue(DisplayListEmulation.ENABLED);
+        NullDisplay.create();
+    }
+
+    @AfterAll
+    static void checkCalls() {
+        NullDisplay.assertNoInvalidCalls();
+    }
+
+    @AfterEach
+    void drawTheBatch() {
+        ImmediateModeBatcher.flush();
+    }
+
+    private static void quad(float x, float y) {
+        GL11.glBegin(GL11.GL_QUADS);
+        GL11.glTexCoord2f(0, 0);
+        GL11.glVertex2f(x, y);
+        GL11.glTexCoord2f(1, 0);
+        GL11.glVertex2f(x + 1, y);
+        GL11.glTexCoord2f(1, 1);
+        GL11.glVertex2f(x + 1, y + 1);
+        GL11.glTexCoord2f(0, 1);
+        GL11.glVertex2f(x, y + 1);
+        GL11.glEnd();
+    }
+
+    @Test
+    void geometryIsRecordedIntoABuffer() {
+        int list = GL11.glGenLists(1);
+        long newLists = NullBackend.calls("glNewList");
+        long begins = NullBackend.calls("glBegin");
+        long vertices = NullBackend.calls("glVertex2f");
+        long uploads = NullBackend.calls("glBufferData");
+
+        GL11.glNewList(list, GL11.GL_COMPILE);
+        GL11.glColor4f(1, 0.5F, 0.25F, 1);
+        quad(0, 0);
+        quad(2, 0);
+        GL11.glEndList();
+
+        assertTrue(DisplayListEmulation.isList(list));
+        assertEquals(newLists, NullBackend.calls("glNewList"));
+        assertEquals(begins, NullBackend.calls("glBegin"));
+        assertEquals(vertices, NullBackend.calls("glVertex2f"));
+        // the triangles of both quads, uploaded once
+        assertEquals(uploads + 1, NullBackend.calls("glBufferData"));
+    }
+
+    @Test
+    void recordedListIsReplayedAsOneDrawPerRun() {
+        int list = GL11.glGenLists(1);
+        GL11.glNewList(list, GL11.GL_COMPILE);
+        quad(0, 0);
+        quad(2, 0);
+        GL11.glEnable(GL11.GL_BLEND);
+        quad(4, 0);
+        GL11.glEndList();
+        long draws = NullBackend.calls("glDrawArrays");
+        long calledLists = NullBackend.calls("glCallList");
+
+        GL11.glCallList(list);
+        GL11.glCallList(list);
+
+        // a run before, and a run after, the state change, per call
+        assertEquals(draws + 4, NullBackend.calls("glDrawArrays"));
+        assertEquals(calledLists, NullBackend.calls("glCallList"));
+    }
+
+    @Test
+    void compileAndExecuteReplaysAtTheEndOfTheList() {
+        int list = GL11.glGenLists(1);
+        long draws = NullBackend.calls("glDrawArrays");
+
+        GL11.glNewList(list, GL11.GL_COMPILE_AND_EXECUTE);
+        quad(0, 0);
+        assertEquals(draws, NullBackend.calls("glDrawArrays"));
+        GL11.glEndList();
+
+        assertEquals(draws + 1, NullBackend.calls("glDrawArrays"));
+    }
+
+    @Test
+    void listIsDemotedAtACallThatCannotBeRecorded() {
+        int list = GL11.glGenLists(1);
+        long newLists = NullBackend.calls("glNewList");
+        long endLists = NullBackend.calls("glEndList");
+        long vertices = NullBackend.calls("glVertex3f");
+
+        GL11.glNewList(list, GL11.GL_COMPILE);
+        quad(0, 0);
+        GL11.glLineWidth(2);
+        GL11.glEndList();
+
+        assertTrue(!DisplayListEmulation.isList(list));
+        // compiled by the driver, with the recorded quad as two triangles
+        assertEquals(newLists + 1, NullBackend.calls("glNewList"));
+        assertEquals(endLists + 1, NullBackend.calls("glEndList"));
+        assertEquals(vertices + 6, NullBackend.calls("glVertex3f"));
+
+        long calledLists = NullBackend.calls("glCallList");
+        long draws = NullBackend.calls("glDrawArrays");
+        GL11.glCallList(list);
+        assertEquals(calledLists + 1, NullBackend.calls("glCallList"));
+        assertEquals(draws, NullBackend.calls("glDrawArrays"));
+    }
+
+    @Test
+    void listIsDemotedInsideABlock() {
+        int list = GL11.glGenLists(1);
+        long begins = NullBackend.calls("glBegin");
+        long recordedVertices = NullBackend.calls("glVertex3f");
+        long vertices = NullBackend.calls("glVertex2f");
+
+        GL11.glNewList(list, GL11.GL_COMPILE);
+        GL11.glBegin(GL11.GL_TRIANGLES);
+        GL11.glVertex2f(0, 0);
+        GL11.glNormal3f(0, 0, 1);
+        GL11.glVertex2f(1, 0);
+        GL11.glVertex2f(0, 1);
+        GL11.glEnd();
+        GL11.glEndList();
+
+        assertTrue(!DisplayListEmulation.isList(list));
+        // the block passes through: its recorded vertex, then the rest as it comes
+        assertEquals(begins + 1, NullBackend.calls("glBegin"));
+        assertEquals(recordedVertices + 1, NullBackend.calls("glVertex3f"));
+        assertEquals(vertices + 2, NullBackend.calls("glVertex2f"));
+    }
+
+    @Test
+    void deletedListIsForgotten() {
+        int list = GL11.glGenLists(1);
+        GL11.glNewList(list, GL11.GL_COMPILE);
+        quad(0, 0);
+        GL11.glEndList();
+
+        GL11.glDeleteLists(list, 1);
+
+        assertTrue(!DisplayListEmulation.isList(list));
+    }
+}
@@ -0,0 +1,75 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.NullBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.GL11;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GlQueriesTest {
+
+    @BeforeAll
+    static void createDisplay() throws LWJGLException {
+        assertTrue(GlQueries.ENABLED);
+        NullDisplay.create();
+    }
+
+    @AfterAll
+    static void checkCalls() {
+        NullDisplay.assertNoInvalidCalls();
+    }
+
+    @Test
+    void limitsAreAnsweredWithoutTheDriver() {
+        long integerQueries = NullBackend.calls("glGetIntegerv");
+        long floatQueries = NullBackend.calls("glGetFloatv");
+
+        assertEquals(8192, GL11.glGetInteger(GL11.GL_MAX_TEXTURE_SIZE));
+        assertEquals(32, GL11.glGetFloat(GL11.GL_MAX_MODELVIEW_STACK_DEPTH));
+
+        assertEquals(integerQueries, NullBackend.calls("glGetIntegerv"));
+        assertEquals(floatQueries, NullBackend.calls("glGetFloatv"));
+    }
+
+    @Test
+    void shadowedStateIsAnsweredWithoutTheDriver() {
+        GL11.glViewport(0, 0, NullDisplay.WIDTH, NullDisplay.HEIGHT);
+        GL11.glEnable(GL11.GL_BLEND);
+        long isEnabledQueries = NullBackend.calls("glIsEnabled");
+        long integerQueries = NullBackend.calls("glGetIntegerv");
+
+        assertTrue(GL11.glIsEnabled(GL11.GL_BLEND));
+        assertEquals(GL11.GL_TRUE, GL11.glGetInteger(GL11.GL_BLEND));
+        GL11.glDisable(GL11.GL_BLEND);
+        assertFalse(GL11.glIsEnabled(GL11.GL_BLEND));
+        int[] viewport = new int[4];
+        GL11.glGetIntegerv(GL11.GL_VIEWPORT, viewport);
+        assertArrayEquals(new int[]{0, 0, NullDisplay.WIDTH, NullDisplay.HEIGHT}, viewport);
+
+        assertEquals(isEnabledQueries, NullBackend.calls("glIsEnabled"));
+        assertEquals(integerQueries, NullBackend.calls("glGetIntegerv"));
+    }
+
+    @Test
+    void otherQueriesAreForwardedAndCounted() {
+        GlQueries.endFrame();
+        long integerQueries = NullBackend.calls("glGetIntegerv");
+
+        int[] polygonMode = new int[2];
+        GL11.glGetIntegerv(GL11.GL_POLYGON_MODE, polygonMode);
+        GL11.glGetInteger(GL11.GL_MAX_TEXTURE_SIZE);
+        GL11.glGetInteger(GL11.GL_MAX_TEXTURE_SIZE);
+        GlQueries.endFrame();
+
+        assertArrayEquals(new int[]{GL11.GL_FILL, GL11.GL_FILL}, polygonMode);
+        assertEquals(integerQueries + 1, NullBackend.calls("glGetIntegerv"));
+        assertEquals(2, GlQueries.lastFrameAnswered());
+        assertEquals(1, GlQueries.lastFrameForwarded());
+    }
+}
@@ -0,0 +1,66 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.NullBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.GL11;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GlStateCacheTest {
+
+    @BeforeAll
+    static void createDisplay() throws LWJGLException {
+        assertTrue(GlStateCache.ENABLED);
+        NullDisplay.create();
+    }
+
+    @AfterAll
+    static void checkCalls() {
+        NullDisplay.assertNoInvalidCalls();
+    }
+
+    @Test
+    void repeatedColorIsKeptFromTheDriver() {
+        GL11.glColor4f(0.25F, 0.5F, 0.75F, 1);
+        long calls = NullBackend.calls("glColor4f");
+
+        GL11.glColor4f(0.25F, 0.5F, 0.75F, 1);
+
+        assertEquals(calls, NullBackend.calls("glColor4f"));
+    }
+
+    @Test
+    void colorSetThroughAnArrayIsForgotten() {
+        Map<String, Runnable> overloads = new LinkedHashMap<>();
+        overloads.put("glColor3sv", () -> GL11.glColor3sv(new short[]{0, Short.MAX_VALUE, 0}));
+        overloads.put("glColor3iv", () -> GL11.glColor3iv(new int[]{0, Integer.MAX_VALUE, 0}));
+        overloads.put("glColor3fv", () -> GL11.glColor3fv(new float[]{0, 1, 0}));
+        overloads.put("glColor3dv", () -> GL11.glColor3dv(new double[]{0, 1, 0}));
+        overloads.put("glColor3usv", () -> GL11.glColor3usv(new short[]{0, -1, 0}));
+        overloads.put("glColor3uiv", () -> GL11.glColor3uiv(new int[]{0, -1, 0}));
+        overloads.put("glColor4sv", () -> GL11.glColor4sv(new short[]{0, Short.MAX_VALUE, 0, Short.MAX_VALUE}));
+        overloads.put("glColor4iv", () -> GL11.glColor4iv(new int[]{0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE}));
+        overloads.put("glColor4fv", () -> GL11.glColor4fv(new float[]{0, 1, 0, 1}));
+        overloads.put("glColor4dv", () -> GL11.glColor4dv(new double[]{0, 1, 0, 1}));
+        overloads.put("glColor4usv", () -> GL11.glColor4usv(new short[]{0, -1, 0, -1}));
+        overloads.put("glColor4uiv", () -> GL11.glColor4uiv(new int[]{0, -1, 0, -1}));
+
+        for (Map.Entry<String, Runnable> overload : overloads.entrySet()) {
+            GL11.glColor4f(1, 0, 0, 1);
+            overload.getValue().run();
+            long calls = NullBackend.calls("glColor4f");
+
+            // back to the color that the cache saw last: it must reach the driver
+            GL11.glColor4f(1, 0, 0, 1);
+
+            assertEquals(calls + 1, NullBackend.calls("glColor4f"), overload.getKey());
+        }
+    }
+}
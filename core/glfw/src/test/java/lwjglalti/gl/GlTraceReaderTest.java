@@ -0,0 +1,167 @@
+package lwjglalti.gl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.lwjgl.BufferUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GlTraceReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsWhatWasWritten() throws IOException {
+        Path file = directory.resolve("trace.bin");
+        try (GlTraceWriter writer = new GlTraceWriter(file)) {
+            writer.context(800, 600);
+            writer.call("glColor4f(FFFF)", new Object[]{1f, 0.5f, 0.25f, 0f});
+            writer.call("glLineStipple(IS)", new Object[]{3, (short) 0x0F0F});
+            writer.frame();
+            writer.call("glColor4f(FFFF)", new Object[]{0f, 0f, 0f, 1f});
+            writer.call("glShaderSourceARB(Ic)", new Object[]{7, new CharSequence[]{"void main() {", "}"}});
+            writer.call("glTranslated(DDD)", new Object[]{1.0, -2.0, 3.5});
+            writer.call("glColor3fv([F)", new Object[]{new float[]{0.1f, 0.2f, 0.3f}});
+            writer.call("glUniformMatrix4fvARB(IZf)", new Object[]{2, true, null});
+        }
+
+        try (GlTraceReader readerToTest = new GlTraceReader(file)) {
+            assertEquals(GlTraceReader.CONTEXT, readerToTest.next());
+            assertEquals(800, readerToTest.width());
+            assertEquals(600, readerToTest.height());
+
+            assertEquals(GlTraceReader.CALL, readerToTest.next());
+            assertEquals("glColor4f(FFFF)", readerToTest.signature());
+            assertArrayEquals(new Object[]{1f, 0.5f, 0.25f, 0f}, readerToTest.arguments());
+
+            assertEquals(GlTraceReader.CALL, readerToTest.next());
+            assertArrayEquals(new Object[]{3, (short) 0x0F0F}, readerToTest.arguments());
+
+            assertEquals(GlTraceReader.FRAME, readerToTest.next());
+
+            assertEquals(GlTraceReader.CALL, readerToTest.next());
+            assertEquals("glColor4f(FFFF)", readerToTest.signature());
+            assertArrayEquals(new Object[]{0f, 0f, 0f, 1f}, readerToTest.arguments());
+
+            assertEquals(GlTraceReader.CALL, readerToTest.next());
+            assertEquals(7, readerToTest.arguments()[0]);
+            assertArrayEquals(new CharSequence[]{"void main() {", "}"}, (CharSequence[]) readerToTest.arguments()[1]);
+
+            assertEquals(GlTraceReader.CALL, readerToTest.next());
+            assertArrayEquals(new Object[]{1.0, -2.0, 3.5}, readerToTest.arguments());
+
+            assertEquals(GlTraceReader.CALL, readerToTest.next());
+            assertArrayEquals(new float[]{0.1f, 0.2f, 0.3f}, (float[]) readerToTest.arguments()[0]);
+
+            assertEquals(GlTraceReader.CALL, readerToTest.next());
+            assertArrayEquals(new Object[]{2, true, null}, readerToTest.arguments());
+
+            assertEquals(GlTraceReader.END, readerToTest.next());
+        }
+    }
+
+    @Test
+    void everyArgumentKindIsReadAsWritten() throws IOException {
+        ByteBuffer bytes = BufferUtils.createByteBuffer(3).put(new byte[]{1, -2, 3}).flip();
+        ShortBuffer shorts = BufferUtils.createShortBuffer(2).put(new short[]{-4, 5}).flip();
+        IntBuffer ints = BufferUtils.createIntBuffer(2).put(new int[]{6, -7}).flip();
+        FloatBuffer floats = BufferUtils.createFloatBuffer(2).put(new float[]{0.5f, -8f}).flip();
+        DoubleBuffer doubles = BufferUtils.createDoubleBuffer(1).put(0.25).flip();
+        Path file = directory.resolve("trace.bin");
+        try (GlTraceWriter writer = new GlTraceWriter(file)) {
+            writer.call("glPrimitives(BZZP)", new Object[]{(byte) -9, true, false, 0L});
+            writer.call("glBuffers(bsifd)", new Object[]{bytes, shorts, ints, floats, doubles});
+            writer.call("glNullBuffers(bsifd)", new Object[]{null, null, null, null, null});
+            writer.call("glSequences(CCcc)", new Object[]{"gl_FragColor", null, new CharSequence[0], null});
+            writer.call("glArrays([S[I[D[F)", new Object[]{new short[]{10, -11}, new int[]{12}, new double[]{1.5}, null});
+            writer.call("glPointers(q)", new Object[]{null});
+        }
+
+        try (GlTraceReader readerToTest = new GlTraceReader(file)) {
+            readerToTest.next();
+            assertArrayEquals(new Object[]{(byte) -9, true, false, 0L}, readerToTest.arguments());
+
+            readerToTest.next();
+            Object[] buffers = readerToTest.arguments();
+            assertEquals(bytes, buffers[0]);
+            assertEquals(shorts, buffers[1]);
+            assertEquals(ints, buffers[2]);
+            assertEquals(floats, buffers[3]);
+            assertEquals(doubles, buffers[4]);
+
+            readerToTest.next();
+            assertArrayEquals(new Object[]{null, null, null, null, null}, readerToTest.arguments());
+
+            readerToTest.next();
+            assertEquals("gl_FragColor", readerToTest.arguments()[0]);
+            assertNull(readerToTest.arguments()[1]);
+            assertArrayEquals(new CharSequence[0], (CharSequence[]) readerToTest.arguments()[2]);
+            assertNull(readerToTest.arguments()[3]);
+
+            readerToTest.next();
+            assertArrayEquals(new short[]{10, -11}, (short[]) readerToTest.arguments()[0]);
+            assertArrayEquals(new int[]{12}, (int[]) readerToTest.arguments()[1]);
+            assertArrayEquals(new double[]{1.5}, (double[]) readerToTest.arguments()[2]);
+            assertNull(readerToTest.arguments()[3]);
+            assertTrue(readerToTest.replayable());
+
+            readerToTest.next();
+            assertNull(readerToTest.arguments()[0]);
+            assertFalse(readerToTest.replayable());
+
+            assertEquals(GlTraceReader.END, readerToTest.next());
+        }
+    }
+
+    @Test
+    void clientPointersAreNotReplayable() throws IOException {
+        Path file = directory.resolve("trace.bin");
+        try (GlTraceWriter writer = new GlTraceWriter(file)) {
+            writer.call("glVertexPointer(IIIP)", new Object[]{2, 0x1406, 0, 0L});
+            writer.call("glVertexPointer(IIIP)", new Object[]{2, 0x1406, 0, 0x7F00_0000_1000L});
+            writer.call("glShaderSourceARB(Iqi)", new Object[]{7, null, null});
+        }
+
+        try (GlTraceReader readerToTest = new GlTraceReader(file)) {
+            readerToTest.next();
+            assertTrue(readerToTest.replayable());
+            readerToTest.next();
+            assertFalse(readerToTest.replayable());
+            readerToTest.next();
+            assertFalse(readerToTest.replayable());
+            assertNull(readerToTest.arguments()[1]);
+        }
+    }
+
+    @Test
+    void parameterTypesMatchCodes() {
+        assertArrayEquals(
+                new Class<?>[]{int.class, float[].class, FloatBuffer.class, long.class, CharSequence[].class},
+                GlTraceReader.parameterTypes("glFoo(I[FfPc)")
+        );
+        assertEquals("glFoo", GlTraceReader.name("glFoo(I[FfPc)"));
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = directory.resolve("other.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+        assertThrows(IOException.class, () -> new GlTraceReader(file));
+    }
+}
@@ -0,0 +1,132 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.NullBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.GL11;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImmediateModeBatcherTest {
+
+    @BeforeAll
+    static void createDisplay() throws LWJGLException {
+        assertTrue(ImmediateModeBatcher.ENABLED);
+        NullDisplay.create();
+    }
+
+    @AfterAll
+    static void checkCalls() {
+        NullDisplay.assertNoInvalidCalls();
+    }
+
+    @AfterEach
+    void drawTheBatch() {
+        ImmediateModeBatcher.flush();
+    }
+
+    private static void quad(float x, float y) {
+        GL11.glBegin(GL11.GL_QUADS);
+        GL11.glTexCoord2f(0, 0);
+        GL11.glVertex2f(x, y);
+        GL11.glTexCoord2f(1, 0);
+        GL11.glVertex2f(x + 1, y);
+        GL11.glTexCoord2f(1, 1);
+        GL11.glVertex2f(x + 1, y + 1);
+        GL11.glTexCoord2f(0, 1);
+        GL11.glVertex2f(x, y + 1);
+        GL11.glEnd();
+    }
+
+    @Test
+    void quadsAreKeptFromTheDriver() {
+        long begins = NullBackend.calls("glBegin");
+        long vertices = NullBackend.calls("glVertex2f");
+        long draws = NullBackend.calls("glDrawArrays");
+
+        quad(0, 0);
+        quad(2, 0);
+
+        assertEquals(begins, NullBackend.calls("glBegin"));
+        assertEquals(vertices, NullBackend.calls("glVertex2f"));
+        assertEquals(draws, NullBackend.calls("glDrawArrays"));
+    }
+
+    @Test
+    void batchIsDrawnOnceBeforeAnOpaqueCall() {
+        quad(0, 0);
+        quad(2, 0);
+        long draws = NullBackend.calls("glDrawArrays");
+        long clears = NullBackend.calls("glClear");
+
+        GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+
+        assertEquals(draws + 1, NullBackend.calls("glDrawArrays"));
+        assertEquals(clears + 1, NullBackend.calls("glClear"));
+        // nothing is left to draw
+        GL11.glFlush();
+        assertEquals(draws + 1, NullBackend.calls("glDrawArrays"));
+    }
+
+    @Test
+    void linesPassThrough() {
+        long begins = NullBackend.calls("glBegin");
+        long vertices = NullBackend.calls("glVertex2f");
+
+        GL11.glBegin(GL11.GL_LINES);
+        GL11.glVertex2f(0, 0);
+        GL11.glVertex2f(1, 1);
+        GL11.glEnd();
+
+        assertEquals(begins + 1, NullBackend.calls("glBegin"));
+        assertEquals(vertices + 2, NullBackend.calls("glVertex2f"));
+    }
+
+    @Test
+    void blockWithAnUncapturableCallIsReplayedToTheDriver() {
+        long begins = NullBackend.calls("glBegin");
+        long vertices = NullBackend.calls("glVertex3f");
+
+        GL11.glBegin(GL11.GL_TRIANGLES);
+        GL11.glVertex2f(0, 0);
+        GL11.glVertex2f(1, 0);
+        GL11.glNormal3f(0, 0, 1);
+        GL11.glVertex2f(0, 1);
+        GL11.glEnd();
+
+        assertEquals(begins + 1, NullBackend.calls("glBegin"));
+        // the two captured vertices, as the replay passes them
+        assertEquals(vertices + 2, NullBackend.calls("glVertex3f"));
+    }
+
+    @Test
+    void arrayAttributesAreQueriedAgain() {
+        Map<String, Runnable> overloads = new LinkedHashMap<>();
+        overloads.put("glColor3fv", () -> GL11.glColor3fv(new float[]{1, 1, 1}));
+        overloads.put("glColor4dv", () -> GL11.glColor4dv(new double[]{1, 1, 1, 1}));
+        overloads.put("glColor4usv", () -> GL11.glColor4usv(new short[]{-1, -1, -1, -1}));
+        overloads.put("glTexCoord1fv", () -> GL11.glTexCoord1fv(new float[]{0}));
+        overloads.put("glTexCoord2fv", () -> GL11.glTexCoord2fv(new float[]{0, 0}));
+        overloads.put("glTexCoord2sv", () -> GL11.glTexCoord2sv(new short[]{0, 0}));
+        overloads.put("glTexCoord3iv", () -> GL11.glTexCoord3iv(new int[]{0, 0, 0}));
+        overloads.put("glTexCoord4dv", () -> GL11.glTexCoord4dv(new double[]{0, 0, 0, 1}));
+
+        for (Map.Entry<String, Runnable> overload : overloads.entrySet()) {
+            quad(0, 0);
+            overload.getValue().run();
+            long queries = NullBackend.calls("glGetFloatv");
+
+            quad(0, 0);
+
+            // the current color and texture coordinates, before capturing the next block
+            assertEquals(queries + 2, NullBackend.calls("glGetFloatv"), overload.getKey());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package lwjglalti.gl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongLongMapTest {
+
+    @Test
+    void absentKeysMapToZero() {
+        LongLongMap mapToTest = new LongLongMap(4);
+
+        assertEquals(0, mapToTest.get(1));
+        assertFalse(mapToTest.containsKey(1));
+        assertEquals(0, mapToTest.remove(1));
+    }
+
+    @Test
+    void putReplacesAndReturnsPrevious() {
+        LongLongMap mapToTest = new LongLongMap(4);
+
+        assertEquals(0, mapToTest.put(1, 10));
+        assertEquals(10, mapToTest.put(1, 20));
+
+        assertEquals(20, mapToTest.get(1));
+        assertEquals(1, mapToTest.size());
+    }
+
+    @Test
+    void growsBeyondInitialCapacity() {
+        LongLongMap mapToTest = new LongLongMap(1);
+        for (int i = 1; i <= 1000; ++i) {
+            mapToTest.put(i, i * 2L);
+        }
+
+        assertEquals(1000, mapToTest.size());
+        for (int i = 1; i <= 1000; ++i) {
+            assertEquals(i * 2L, mapToTest.get(i));
+        }
+    }
+
+    @Test
+    void removeKeepsCollidingKeysReachable() {
+        LongLongMap mapToTest = new LongLongMap(4);
+        for (int i = 0; i < 64; ++i) {
+            mapToTest.put(i, i + 1);
+        }
+        for (int i = 0; i < 64; i += 2) {
+            assertEquals(i + 1, mapToTest.remove(i));
+        }
+
+        assertEquals(32, mapToTest.size());
+        for (int i = 0; i < 64; ++i) {
+            assertEquals(i % 2 == 0 ? 0 : i + 1, mapToTest.get(i));
+            assertEquals(i % 2 != 0, mapToTest.containsKey(i));
+        }
+    }
+
+    @Test
+    void agreesWithHashMap() {
+        LongLongMap mapToTest = new LongLongMap(4);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; ++i) {
+            long key = random.nextInt(512);
+            if (random.nextBoolean()) {
+                long value = random.nextLong();
+                assertEquals(expected.getOrDefault(key, 0L), mapToTest.put(key, value));
+                expected.put(key, value);
+            } else {
+                assertEquals(expected.getOrDefault(key, 0L), mapToTest.remove(key));
+                expected.remove(key);
+            }
+        }
+
+        assertEquals(expected.size(), mapToTest.size());
+        Map<Long, Long> actual = new HashMap<>();
+        mapToTest.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void clearEmpties() {
+        LongLongMap mapToTest = new LongLongMap(4);
+        mapToTest.put(1, 1);
+        mapToTest.clear();
+
+        assertEquals(0, mapToTest.size());
+        assertEquals(0, mapToTest.get(1));
+    }
+}
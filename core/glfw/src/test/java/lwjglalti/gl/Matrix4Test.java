@@ -0,0 +1,122 @@
+package lwjglalti.gl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Matrix4Test {
+
+    private static final float DELTA = 1e-6F;
+
+    private static float[] identity() {
+        float[] m = new float[Matrix4.SIZE];
+        Matrix4.identity(m);
+        return m;
+    }
+
+    private static float[] transform(float[] m, float x, float y, float z) {
+        return new float[]{
+                m[0] * x + m[4] * y + m[8] * z + m[12],
+                m[1] * x + m[5] * y + m[9] * z + m[13],
+                m[2] * x + m[6] * y + m[10] * z + m[14],
+                m[3] * x + m[7] * y + m[11] * z + m[15],
+        };
+    }
+
+    @Test
+    void translationIsStoredInTheLastColumn() {
+        float[] m = identity();
+
+        Matrix4.translate(m, 1, 2, 3);
+
+        assertArrayEquals(new float[]{1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 1, 2, 3, 1}, m, DELTA);
+    }
+
+    @Test
+    void operationsApplyToVerticesInReverseOrder() {
+        float[] m = identity();
+
+        // as glTranslatef(10, 0, 0); glScalef(2, 2, 2): vertices are scaled first
+        Matrix4.translate(m, 10, 0, 0);
+        Matrix4.scale(m, 2, 2, 2);
+
+        assertArrayEquals(new float[]{12, 2, 0, 1}, transform(m, 1, 1, 0), DELTA);
+    }
+
+    @Test
+    void rotationIsCounterclockwise() {
+        float[] m = identity();
+
+        Matrix4.rotate(m, 90, 0, 0, 1);
+
+        assertArrayEquals(new float[]{0, 1, 0, 1}, transform(m, 1, 0, 0), DELTA);
+    }
+
+    @Test
+    void rotationAboutZeroAxisChangesNothing() {
+        float[] m = identity();
+
+        Matrix4.rotate(m, 90, 0, 0, 0);
+
+        assertArrayEquals(identity(), m, DELTA);
+    }
+
+    @Test
+    void multiplicationEqualsTheOperationsItIsMadeOf() {
+        float[] expected = identity();
+        Matrix4.translate(expected, 5, -3, 1);
+        Matrix4.rotate(expected, 30, 1, 2, 3);
+        Matrix4.scale(expected, 2, 3, 4);
+        float[] operand = identity();
+        Matrix4.rotate(operand, 30, 1, 2, 3);
+        Matrix4.scale(operand, 2, 3, 4);
+
+        float[] m = identity();
+        Matrix4.translate(m, 5, -3, 1);
+        Matrix4.multiply(m, operand);
+
+        assertArrayEquals(expected, m, 1e-5F);
+    }
+
+    @Test
+    void orthoMapsTheVolumeToClipSpace() {
+        float[] m = identity();
+
+        // as Altitude sets up its 2d projection: the origin at the top left
+        assertTrue(Matrix4.ortho(m, 0, 800, 600, 0, -1, 1));
+
+        assertArrayEquals(new float[]{-1, 1, 0, 1}, transform(m, 0, 0, 0), DELTA);
+        assertArrayEquals(new float[]{1, -1, 0, 1}, transform(m, 800, 600, 0), DELTA);
+    }
+
+    @Test
+    void frustumMapsTheNearPlaneToClipSpace() {
+        float[] m = identity();
+
+        assertTrue(Matrix4.frustum(m, -1, 1, -1, 1, 1, 10));
+
+        float[] corner = transform(m, 1, 1, -1);
+        assertArrayEquals(new float[]{1, 1, -1}, new float[]{corner[0] / corner[3], corner[1] / corner[3], corner[2] / corner[3]}, DELTA);
+    }
+
+    @Test
+    void emptyVolumesAreRejected() {
+        float[] m = identity();
+
+        assertFalse(Matrix4.ortho(m, 0, 0, 0, 1, -1, 1));
+        assertFalse(Matrix4.frustum(m, -1, 1, -1, 1, 0, 10));
+        assertArrayEquals(identity(), m, DELTA);
+    }
+
+    @Test
+    void projectionsAreNotAffine() {
+        float[] m = identity();
+        assertTrue(Matrix4.isAffine(m));
+
+        Matrix4.frustum(m, -1, 1, -1, 1, 1, 10);
+
+        assertFalse(Matrix4.isAffine(m));
+    }
+}
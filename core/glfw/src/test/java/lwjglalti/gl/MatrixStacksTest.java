@@ -0,0 +1,145 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.NullBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.GL11;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatrixStacksTest {
+
+    private static final float[] IDENTITY = {1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1};
+
+    @BeforeAll
+    static void createDisplay() throws LWJGLException {
+        assertTrue(MatrixStacks.ENABLED);
+        NullDisplay.create();
+    }
+
+    @AfterAll
+    static void checkCalls() {
+        NullDisplay.assertNoInvalidCalls();
+    }
+
+    @BeforeEach
+    void resetStacks() {
+        MatrixStacks.contextCreated();
+    }
+
+    private static float[] matrix(int pname) {
+        float[] matrix = new float[16];
+        GL11.glGetFloatv(pname, matrix);
+        return matrix;
+    }
+
+    @Test
+    void matrixCallsAreKeptFromTheDriver() {
+        long pushes = NullBackend.calls("glPushMatrix");
+        long translations = NullBackend.calls("glTranslatef");
+        long pops = NullBackend.calls("glPopMatrix");
+        long loads = NullBackend.calls("glLoadMatrixf");
+        long queries = NullBackend.calls("glGetIntegerv");
+
+        GL11.glPushMatrix();
+        GL11.glTranslatef(1, 2, 3);
+        GL11.glRotatef(90, 0, 0, 1);
+        GL11.glScalef(2, 2, 2);
+        assertEquals(2, GL11.glGetInteger(GL11.GL_MODELVIEW_STACK_DEPTH));
+        GL11.glPopMatrix();
+        assertEquals(1, GL11.glGetInteger(GL11.GL_MODELVIEW_STACK_DEPTH));
+
+        assertEquals(pushes, NullBackend.calls("glPushMatrix"));
+        assertEquals(translations, NullBackend.calls("glTranslatef"));
+        assertEquals(pops, NullBackend.calls("glPopMatrix"));
+        assertEquals(loads, NullBackend.calls("glLoadMatrixf"));
+        assertEquals(queries, NullBackend.calls("glGetIntegerv"));
+    }
+
+    @Test
+    void pushedMatrixIsRestoredByThePop() {
+        GL11.glTranslatef(1, 2, 3);
+        GL11.glPushMatrix();
+        GL11.glScalef(2, 2, 2);
+        assertArrayEquals(
+                new float[]{2, 0, 0, 0, 0, 2, 0, 0, 0, 0, 2, 0, 1, 2, 3, 1},
+                matrix(GL11.GL_MODELVIEW_MATRIX)
+        );
+
+        GL11.glPopMatrix();
+
+        assertArrayEquals(
+                new float[]{1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 1, 2, 3, 1},
+                matrix(GL11.GL_MODELVIEW_MATRIX)
+        );
+    }
+
+    @Test
+    void modesHaveTheirOwnStacks() {
+        long modes = NullBackend.calls("glMatrixMode");
+
+        GL11.glMatrixMode(GL11.GL_PROJECTION);
+        GL11.glOrtho(0, 800, 600, 0, -1, 1);
+
+        assertEquals(GL11.GL_PROJECTION, GL11.glGetInteger(GL11.GL_MATRIX_MODE));
+        assertEquals(2F / 800, matrix(GL11.GL_PROJECTION_MATRIX)[0], 1e-6F);
+        assertArrayEquals(IDENTITY, matrix(GL11.GL_MODELVIEW_MATRIX));
+        assertEquals(modes, NullBackend.calls("glMatrixMode"));
+    }
+
+    @Test
+    void overflowAndUnderflowAreIgnored() {
+        GL11.glMatrixMode(GL11.GL_PROJECTION);
+        // the null backend has a projection stack of 4
+        for (int i = 0; i < 5; ++i) {
+            GL11.glPushMatrix();
+        }
+        assertEquals(4, GL11.glGetInteger(GL11.GL_PROJECTION_STACK_DEPTH));
+        for (int i = 0; i < 5; ++i) {
+            GL11.glPopMatrix();
+        }
+        assertEquals(1, GL11.glGetInteger(GL11.GL_PROJECTION_STACK_DEPTH));
+        GL11.glTranslatef(1, 0, 0);
+        GL11.glPopMatrix();
+
+        assertEquals(1, matrix(GL11.GL_PROJECTION_MATRIX)[12]);
+        assertEquals(GL11.GL_NO_ERROR, GL11.glGetError());
+    }
+
+    @Test
+    void changedMatricesAreLoadedBeforeAnOpaqueCall() {
+        long loads = NullBackend.calls("glLoadMatrixf");
+        long modes = NullBackend.calls("glMatrixMode");
+
+        GL11.glMatrixMode(GL11.GL_PROJECTION);
+        GL11.glTranslatef(1, 0, 0);
+        GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+        GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+
+        // the projection matrix only, once, in the mode of the mirror
+        assertEquals(loads + 1, NullBackend.calls("glLoadMatrixf"));
+        assertEquals(modes + 1, NullBackend.calls("glMatrixMode"));
+    }
+
+    @Test
+    void matricesAreQueriedAgainAfterADriverListThatChangesThem() {
+        int list = GL11.glGenLists(1);
+        GL11.glNewList(list, GL11.GL_COMPILE);
+        // demotes the list to the driver, if it is emulated
+        GL11.glLineWidth(2);
+        GL11.glTranslatef(1, 0, 0);
+        GL11.glEndList();
+        long matrixQueries = NullBackend.calls("glGetFloatv");
+
+        GL11.glCallList(list);
+        GL11.glTranslatef(1, 0, 0);
+
+        assertEquals(matrixQueries + 3, NullBackend.calls("glGetFloatv"));
+        assertEquals(1, matrix(GL11.GL_MODELVIEW_MATRIX)[12]);
+    }
+}
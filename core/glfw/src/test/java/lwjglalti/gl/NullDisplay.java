@@ -0,0 +1,38 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.NullBackend;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.Display;
+import org.lwjgl.opengl.DisplayMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A display on the null backend, for the tests of the layers of the shim: surefire runs them with
+ * {@code lwjglalti.null_backend=true}, and with the layers enabled in the properties of the test resources. The
+ * display is shared by the tests, and lives as long as their JVM: like Altitude, the display initializes GLFW once,
+ * and cannot be created again once destroyed.
+ */
+final class NullDisplay {
+
+    static final int WIDTH = 800;
+    static final int HEIGHT = 600;
+
+    private NullDisplay() {
+        // static api
+    }
+
+    /**
+     * Create the display, unless an earlier test did
+     */
+    static void create() throws LWJGLException {
+        assertTrue(NullBackend.ENABLED, "run with -Dlwjglalti.null_backend=true");
+        Display.setDisplayMode(new DisplayMode(WIDTH, HEIGHT));
+        Display.create();
+    }
+
+    static void assertNoInvalidCalls() {
+        assertEquals(0, NullBackend.invalidCalls(), "calls that a driver would have rejected");
+    }
+}
@@ -0,0 +1,141 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.NullBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.GL11;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.lwjgl.system.MemoryUtil.memGetByte;
+import static org.lwjgl.system.MemoryUtil.memGetDouble;
+import static org.lwjgl.system.MemoryUtil.memGetFloat;
+import static org.lwjgl.system.MemoryUtil.memGetInt;
+import static org.lwjgl.system.MemoryUtil.memGetShort;
+
+/**
+ * Calls recorded as the adapters queue them, and replayed: the color index calls, which no layer keeps from the
+ * driver, show their integer and pointer arguments, and the matrix calls show floating-point ones in the mirror of
+ * {@link MatrixStacks}.
+ */
+class QueuedCallsTest {
+
+    @BeforeAll
+    static void createDisplay() throws LWJGLException {
+        NullDisplay.create();
+    }
+
+    @AfterAll
+    static void checkCalls() {
+        NullDisplay.assertNoInvalidCalls();
+    }
+
+    private static ByteBuffer chunk(GlEntryPoint entryPoint) {
+        ByteBuffer chunk = BufferUtils.createByteBuffer(256).order(ByteOrder.LITTLE_ENDIAN);
+        return chunk.putShort((short) entryPoint.ordinal());
+    }
+
+    private static void replay(ByteBuffer chunk) {
+        chunk.flip();
+        QueuedCalls.run(chunk);
+        assertEquals(0, chunk.remaining());
+    }
+
+    @Test
+    void primitivesAreReplayed() {
+        long calls = NullBackend.calls("glIndexi");
+
+        replay(chunk(GlEntryPoint.GL_INDEXI).putInt(-42));
+        replay(chunk(GlEntryPoint.GL_INDEXUB).put((byte) 0xF1));
+        replay(chunk(GlEntryPoint.GL_INDEXS).putShort((short) -7));
+        replay(chunk(GlEntryPoint.GL_EDGE_FLAG).put((byte) 1));
+
+        assertEquals(calls + 1, NullBackend.calls("glIndexi"));
+        assertEquals(-42, (int) NullBackend.lastArgument("glIndexi", 0));
+        assertEquals((byte) 0xF1, (byte) NullBackend.lastArgument("glIndexub", 0));
+        assertEquals(-7, (short) NullBackend.lastArgument("glIndexs", 0));
+        assertEquals(1, (byte) NullBackend.lastArgument("glEdgeFlag", 0));
+    }
+
+    @Test
+    void floatsAndDoublesAreReplayed() {
+        MatrixStacks.contextCreated();
+        float[] matrix = new float[16];
+
+        replay(chunk(GlEntryPoint.GL_TRANSLATEF).putFloat(1.5f).putFloat(-2).putFloat(0.25f));
+        replay(chunk(GlEntryPoint.GL_TRANSLATED).putDouble(0.5).putDouble(1).putDouble(-0.25));
+        GL11.glGetFloatv(GL11.GL_MODELVIEW_MATRIX, matrix);
+
+        assertArrayEquals(new float[]{1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 2, -1, 0, 1}, matrix);
+        MatrixStacks.contextCreated();
+    }
+
+    @Test
+    void buffersAreReplayedFromTheChunk() {
+        ByteBuffer chunk = chunk(GlEntryPoint.GL_INDEXUBV);
+        RenderThread.put(chunk, BufferUtils.createByteBuffer(1).put((byte) -3).flip());
+        replay(chunk);
+        assertEquals(-3, memGetByte(NullBackend.lastArgument("glIndexubv", 0)));
+
+        chunk = chunk(GlEntryPoint.GL_INDEXSV);
+        RenderThread.put(chunk, BufferUtils.createShortBuffer(1).put((short) 300).flip());
+        replay(chunk);
+        assertEquals(300, memGetShort(NullBackend.lastArgument("glIndexsv", 0)));
+
+        chunk = chunk(GlEntryPoint.GL_INDEXIV);
+        RenderThread.put(chunk, BufferUtils.createIntBuffer(1).put(-70_000).flip());
+        replay(chunk);
+        assertEquals(-70_000, memGetInt(NullBackend.lastArgument("glIndexiv", 0)));
+
+        chunk = chunk(GlEntryPoint.GL_INDEXFV);
+        RenderThread.put(chunk, BufferUtils.createFloatBuffer(1).put(0.75f).flip());
+        replay(chunk);
+        assertEquals(0.75f, memGetFloat(NullBackend.lastArgument("glIndexfv", 0)));
+
+        chunk = chunk(GlEntryPoint.GL_INDEXDV);
+        RenderThread.put(chunk, BufferUtils.createDoubleBuffer(1).put(-1.125).flip());
+        replay(chunk);
+        assertEquals(-1.125, memGetDouble(NullBackend.lastArgument("glIndexdv", 0)));
+    }
+
+    @Test
+    void arraysAreReplayedAsBuffers() {
+        ByteBuffer chunk = chunk(GlEntryPoint.GL_INDEXSV);
+        RenderThread.put(chunk, new short[]{-300});
+        replay(chunk);
+        assertEquals(-300, memGetShort(NullBackend.lastArgument("glIndexsv", 0)));
+
+        chunk = chunk(GlEntryPoint.GL_INDEXIV);
+        RenderThread.put(chunk, new int[]{70_000});
+        replay(chunk);
+        assertEquals(70_000, memGetInt(NullBackend.lastArgument("glIndexiv", 0)));
+
+        chunk = chunk(GlEntryPoint.GL_INDEXFV);
+        RenderThread.put(chunk, new float[]{-0.5f});
+        replay(chunk);
+        assertEquals(-0.5f, memGetFloat(NullBackend.lastArgument("glIndexfv", 0)));
+
+        chunk = chunk(GlEntryPoint.GL_INDEXDV);
+        RenderThread.put(chunk, new double[]{2.5});
+        replay(chunk);
+        assertEquals(2.5, memGetDouble(NullBackend.lastArgument("glIndexdv", 0)));
+    }
+
+    @Test
+    void nullBuffersAreReplayedAsNull() {
+        long calls = NullBackend.calls("glBitmap");
+        ByteBuffer chunk = chunk(GlEntryPoint.GL_BITMAP).putInt(0).putInt(0)
+                .putFloat(0).putFloat(0).putFloat(4).putFloat(0);
+        RenderThread.put(chunk, (ByteBuffer) null);
+
+        replay(chunk);
+
+        assertEquals(calls + 1, NullBackend.calls("glBitmap"));
+    }
+}
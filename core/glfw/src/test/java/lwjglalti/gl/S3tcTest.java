@@ -0,0 +1,118 @@
+package lwjglalti.gl;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3tcTest {
+
+    @Test
+    void blocksAreSizedByAlpha() {
+        assertEquals(8 * 4 * 8, S3tc.encodedBytes(32, 16, false));
+        assertEquals(8 * 4 * 16, S3tc.encodedBytes(32, 16, true));
+    }
+
+    @Test
+    void opaqueOnlyWithFullAlphaEverywhere() {
+        ByteBuffer pixels = image(8, 4, (x, y) -> rgba(10, 20, 30, 255));
+
+        assertTrue(S3tc.opaque(pixels, 8, 4));
+
+        pixels.put((7 * 4 + 3), (byte) 254);
+
+        assertFalse(S3tc.opaque(pixels, 8, 4));
+    }
+
+    @Test
+    void solidColorsOf565RoundTripExactly() {
+        ByteBuffer pixels = image(8, 8, (x, y) -> x < 4 ? rgba(255, 0, 255, 255) : rgba(0, 255, 0, 255));
+
+        ByteBuffer decoded = roundTrip(pixels, 8, 8, false, false);
+
+        assertEquals(pixels, decoded);
+    }
+
+    @Test
+    void twoColorBlocksRoundTripExactly() {
+        ByteBuffer pixels = image(4, 4, (x, y) -> (x + y) % 2 == 0 ? rgba(0, 0, 0, 255) : rgba(255, 255, 255, 255));
+
+        ByteBuffer decoded = roundTrip(pixels, 4, 4, false, false);
+
+        assertEquals(pixels, decoded);
+    }
+
+    @Test
+    void gradientsStayClose() {
+        ByteBuffer pixels = image(64, 32, (x, y) -> rgba(x * 4, y * 8, 128, x * 4));
+
+        ByteBuffer decoded = roundTrip(pixels, 64, 32, false, true);
+
+        for (int i = 0; i < 64 * 32 * 4; ++i) {
+            int error = Math.abs((pixels.get(i) & 0xFF) - (decoded.get(i) & 0xFF));
+            assertTrue(error <= 16, "component " + i + " is off by " + error);
+        }
+    }
+
+    @Test
+    void alphaRoundTripsExactlyAtItsExtremes() {
+        ByteBuffer pixels = image(4, 4, (x, y) -> rgba(100, 100, 100, x < 2 ? 0 : 255));
+
+        ByteBuffer decoded = roundTrip(pixels, 4, 4, false, true);
+
+        for (int i = 0; i < 16; ++i) {
+            assertEquals(pixels.get(i * 4 + 3), decoded.get(i * 4 + 3));
+        }
+    }
+
+    @Test
+    void bgraIsDecodedAsRgba() {
+        ByteBuffer bgra = image(4, 4, (x, y) -> rgba(0, 0, 255, 255));
+
+        ByteBuffer decoded = roundTrip(bgra, 4, 4, true, false);
+
+        assertEquals(image(4, 4, (x, y) -> rgba(255, 0, 0, 255)), decoded);
+    }
+
+    @Test
+    void encodesOnlyTheGivenRowsOfBlocks() {
+        ByteBuffer pixels = image(4, 8, (x, y) -> rgba(255, 255, 255, 255));
+        ByteBuffer blocks = ByteBuffer.allocate(S3tc.encodedBytes(4, 8, false));
+
+        S3tc.encode(pixels, 4, false, false, blocks, 1, 2);
+
+        for (int i = 0; i < S3tc.BC1_BLOCK_BYTES; ++i) {
+            assertEquals(0, blocks.get(i));
+        }
+        assertEquals((byte) 0xFF, blocks.get(S3tc.BC1_BLOCK_BYTES));
+    }
+
+    private interface Texels {
+        int rgba(int x, int y);
+    }
+
+    private static int rgba(int r, int g, int b, int a) {
+        return r << 24 | g << 16 | b << 8 | a;
+    }
+
+    private static ByteBuffer image(int width, int height, Texels texels) {
+        ByteBuffer pixels = ByteBuffer.allocate(width * height * 4);
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                pixels.putInt((y * width + x) * 4, texels.rgba(x, y));
+            }
+        }
+        return pixels;
+    }
+
+    private static ByteBuffer roundTrip(ByteBuffer pixels, int width, int height, boolean bgra, boolean alpha) {
+        ByteBuffer blocks = ByteBuffer.allocate(S3tc.encodedBytes(width, height, alpha));
+        S3tc.encode(pixels, width, bgra, alpha, blocks, 0, height / 4);
+        ByteBuffer decoded = ByteBuffer.allocate(width * height * 4);
+        S3tc.decode(blocks, width, height, alpha, decoded);
+        return decoded;
+    }
+}
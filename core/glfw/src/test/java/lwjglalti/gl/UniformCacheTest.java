@@ -0,0 +1,132 @@
+package lwjglalti.gl;
+
+import lwjglalti.render.NullBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.ARBShaderObjects;
+import org.lwjgl.opengl.GL11;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UniformCacheTest {
+
+    private int program;
+
+    @BeforeAll
+    static void createDisplay() throws LWJGLException {
+        assertTrue(UniformCache.ENABLED);
+        NullDisplay.create();
+    }
+
+    @AfterAll
+    static void checkCalls() {
+        NullDisplay.assertNoInvalidCalls();
+    }
+
+    @BeforeEach
+    void useProgram() {
+        program = ARBShaderObjects.glCreateProgramObjectARB();
+        ARBShaderObjects.glLinkProgramARB(program);
+        ARBShaderObjects.glUseProgramObjectARB(program);
+    }
+
+    @AfterEach
+    void deleteProgram() {
+        ARBShaderObjects.glUseProgramObjectARB(0);
+        ARBShaderObjects.glDeleteObjectARB(program);
+    }
+
+    @Test
+    void repeatedUploadIsSkipped() {
+        long uploads = NullBackend.calls("glUniform1fARB");
+
+        ARBShaderObjects.glUniform1fARB(0, 1);
+        ARBShaderObjects.glUniform1fARB(0, 1);
+        ARBShaderObjects.glUniform1fvARB(0, new float[]{1});
+        assertEquals(uploads + 1, NullBackend.calls("glUniform1fARB"));
+
+        ARBShaderObjects.glUniform1fARB(0, 2);
+        assertEquals(uploads + 2, NullBackend.calls("glUniform1fARB"));
+    }
+
+    @Test
+    void sameBitsOfAnotherFunctionAreUploaded() {
+        long uploads = NullBackend.calls("glUniform1iARB");
+
+        ARBShaderObjects.glUniform1fARB(0, 1);
+        ARBShaderObjects.glUniform1iARB(0, Float.floatToRawIntBits(1));
+
+        assertEquals(uploads + 1, NullBackend.calls("glUniform1iARB"));
+    }
+
+    @Test
+    void locationIsLookedUpOnce() {
+        long lookups = NullBackend.calls("glGetUniformLocationARB");
+
+        int location = ARBShaderObjects.glGetUniformLocationARB(program, "scale");
+
+        assertEquals(location, ARBShaderObjects.glGetUniformLocationARB(program, "scale"));
+        assertEquals(lookups + 1, NullBackend.calls("glGetUniformLocationARB"));
+    }
+
+    @Test
+    void relinkForgetsValuesAndLocations() {
+        ARBShaderObjects.glGetUniformLocationARB(program, "scale");
+        ARBShaderObjects.glUniform1fARB(0, 1);
+        long lookups = NullBackend.calls("glGetUniformLocationARB");
+        long uploads = NullBackend.calls("glUniform1fARB");
+
+        ARBShaderObjects.glLinkProgramARB(program);
+        ARBShaderObjects.glGetUniformLocationARB(program, "scale");
+        ARBShaderObjects.glUniform1fARB(0, 1);
+
+        assertEquals(lookups + 1, NullBackend.calls("glGetUniformLocationARB"));
+        assertEquals(uploads + 1, NullBackend.calls("glUniform1fARB"));
+    }
+
+    @Test
+    void deletedProgramIsForgotten() {
+        ARBShaderObjects.glGetUniformLocationARB(program, "scale");
+        long lookups = NullBackend.calls("glGetUniformLocationARB");
+
+        ARBShaderObjects.glDeleteObjectARB(program);
+        ARBShaderObjects.glGetUniformLocationARB(program, "scale");
+        program = 0;
+
+        assertEquals(lookups + 1, NullBackend.calls("glGetUniformLocationARB"));
+    }
+
+    @Test
+    void arrayUploadForgetsEveryValue() {
+        ARBShaderObjects.glUniform1fARB(0, 1);
+        long uploads = NullBackend.calls("glUniform1fARB");
+
+        ARBShaderObjects.glUniform1fvARB(1, new float[]{1, 2});
+        ARBShaderObjects.glUniform1fARB(0, 1);
+
+        assertEquals(uploads + 1, NullBackend.calls("glUniform1fARB"));
+    }
+
+    @Test
+    void listUploadingUniformsForgetsEveryValueWhenCalled() {
+        int list = GL11.glGenLists(1);
+        GL11.glNewList(list, GL11.GL_COMPILE);
+        ARBShaderObjects.glUniform1fARB(1, 1);
+        GL11.glEndList();
+        ARBShaderObjects.glUseProgramObjectARB(program);
+        ARBShaderObjects.glUniform1fARB(0, 1);
+        ARBShaderObjects.glUniform1fARB(0, 1);
+        long uploads = NullBackend.calls("glUniform1fARB");
+
+        GL11.glCallList(list);
+        ARBShaderObjects.glUseProgramObjectARB(program);
+        ARBShaderObjects.glUniform1fARB(0, 1);
+
+        assertEquals(uploads + 1, NullBackend.calls("glUniform1fARB"));
+    }
+}
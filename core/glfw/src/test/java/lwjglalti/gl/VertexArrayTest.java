@@ -0,0 +1,89 @@
+package lwjglalti.gl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.lwjgl.opengl.GL11.GL_LINES;
+import static org.lwjgl.opengl.GL11.GL_POINTS;
+import static org.lwjgl.opengl.GL11.GL_POLYGON;
+import static org.lwjgl.opengl.GL11.GL_QUADS;
+import static org.lwjgl.opengl.GL11.GL_QUAD_STRIP;
+import static org.lwjgl.opengl.GL11.GL_TRIANGLES;
+import static org.lwjgl.opengl.GL11.GL_TRIANGLE_FAN;
+import static org.lwjgl.opengl.GL11.GL_TRIANGLE_STRIP;
+
+class VertexArrayTest {
+
+    private final VertexArray primitive = new VertexArray(4);
+    private final VertexArray triangles = new VertexArray(4);
+
+    @AfterEach
+    void free() {
+        primitive.free();
+        triangles.free();
+    }
+
+    /**
+     * The indices of the vertices of the triangles of a primitive of vertices 0 to n - 1, stored as their x
+     */
+    private int[] triangulate(int mode, int n) {
+        primitive.clear();
+        for (int i = 0; i < n; ++i) {
+            primitive.put(i, 0, 0, 0, 0, 1, 1, 1, 1);
+        }
+        triangles.appendTriangles(mode, primitive);
+        int[] indices = new int[triangles.count()];
+        for (int i = 0; i < indices.length; ++i) {
+            indices[i] = (int) triangles.get(i, VertexArray.X);
+        }
+        return indices;
+    }
+
+    @Test
+    void onlyFilledPrimitivesAreTriangulable() {
+        assertTrue(VertexArray.isTriangulable(GL_QUADS));
+        assertTrue(VertexArray.isTriangulable(GL_POLYGON));
+        assertFalse(VertexArray.isTriangulable(GL_LINES));
+        assertFalse(VertexArray.isTriangulable(GL_POINTS));
+    }
+
+    @Test
+    void trianglesDropIncompleteTriangles() {
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5}, triangulate(GL_TRIANGLES, 7));
+    }
+
+    @Test
+    void triangleStripKeepsItsWinding() {
+        assertArrayEquals(new int[]{0, 1, 2, 2, 1, 3, 2, 3, 4}, triangulate(GL_TRIANGLE_STRIP, 5));
+    }
+
+    @Test
+    void triangleFanSharesItsFirstVertex() {
+        assertArrayEquals(new int[]{0, 1, 2, 0, 2, 3}, triangulate(GL_TRIANGLE_FAN, 4));
+    }
+
+    @Test
+    void quadsAreProvokedByTheirLastVertex() {
+        assertArrayEquals(new int[]{0, 1, 3, 1, 2, 3, 4, 5, 7, 5, 6, 7}, triangulate(GL_QUADS, 8));
+    }
+
+    @Test
+    void quadStripFollowsTheBoundaryOfEachQuad() {
+        assertArrayEquals(new int[]{0, 1, 3, 2, 0, 3, 2, 3, 5, 4, 2, 5}, triangulate(GL_QUAD_STRIP, 6));
+    }
+
+    @Test
+    void polygonIsProvokedByItsFirstVertex() {
+        assertArrayEquals(new int[]{1, 2, 0, 2, 3, 0, 3, 4, 0}, triangulate(GL_POLYGON, 5));
+    }
+
+    @Test
+    void trianglesAreAppended() {
+        triangulate(GL_TRIANGLES, 3);
+
+        assertArrayEquals(new int[]{0, 1, 2, 0, 1, 2, 3, 4, 5}, triangulate(GL_TRIANGLES, 6));
+    }
+}
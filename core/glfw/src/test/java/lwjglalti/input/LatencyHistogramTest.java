@@ -0,0 +1,89 @@
+package lwjglalti.input;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentilesAreRoundedUpToTheirBucket() {
+        LatencyHistogram histogramToTest = new LatencyHistogram(10, 10);
+
+        for (long nanos = 5; nanos < 100; nanos += 10) {
+            histogramToTest.record(nanos);
+        }
+
+        assertEquals(10, histogramToTest.percentileNanos(0.1));
+        assertEquals(50, histogramToTest.percentileNanos(0.5));
+        // but never past the maximum
+        assertEquals(95, histogramToTest.percentileNanos(0.95));
+        assertEquals(95, histogramToTest.percentileNanos(1));
+    }
+
+    @Test
+    void tracksCountMeanAndMax() {
+        LatencyHistogram histogramToTest = new LatencyHistogram(10, 10);
+
+        histogramToTest.record(10);
+        histogramToTest.record(20);
+        histogramToTest.record(60);
+
+        assertEquals(3, histogramToTest.count());
+        assertEquals(30, histogramToTest.meanNanos());
+        assertEquals(60, histogramToTest.maxNanos());
+    }
+
+    @Test
+    void latenciesPastTheLastBucketOverflow() {
+        LatencyHistogram histogramToTest = new LatencyHistogram(10, 10);
+
+        histogramToTest.record(5);
+        histogramToTest.record(500);
+
+        assertEquals(10, histogramToTest.percentileNanos(0.5));
+        assertEquals(500, histogramToTest.percentileNanos(1));
+    }
+
+    @Test
+    void negativeLatenciesCountAsZero() {
+        LatencyHistogram histogramToTest = new LatencyHistogram(10, 10);
+
+        histogramToTest.record(-5);
+
+        assertEquals(1, histogramToTest.count());
+        assertEquals(0, histogramToTest.meanNanos());
+        assertEquals(0, histogramToTest.percentileNanos(0.5));
+    }
+
+    @Test
+    void emptyHistogramReadsZero() {
+        LatencyHistogram histogramToTest = new LatencyHistogram(10, 10);
+
+        assertEquals(0, histogramToTest.count());
+        assertEquals(0, histogramToTest.meanNanos());
+        assertEquals(0, histogramToTest.maxNanos());
+        assertEquals(0, histogramToTest.percentileNanos(0.99));
+    }
+
+    @Test
+    void addMergesAndClearEmpties() {
+        LatencyHistogram histogramToTest = new LatencyHistogram(10, 10);
+        LatencyHistogram other = new LatencyHistogram(10, 10);
+        histogramToTest.record(5);
+        other.record(95);
+
+        histogramToTest.add(other);
+
+        assertEquals(2, histogramToTest.count());
+        assertEquals(95, histogramToTest.maxNanos());
+        assertEquals(10, histogramToTest.percentileNanos(0.5));
+
+        LatencyHistogram copy = histogramToTest.copy();
+        histogramToTest.clear();
+
+        assertEquals(0, histogramToTest.count());
+        assertEquals(0, histogramToTest.percentileNanos(1));
+        assertEquals(2, copy.count());
+    }
+}
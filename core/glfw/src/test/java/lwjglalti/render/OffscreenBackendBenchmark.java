@@ -0,0 +1,108 @@
+package lwjglalti.render;
+
+import org.junit.jupiter.api.Test;
+import org.lwjgl.opengl.Display;
+import org.lwjgl.opengl.DisplayMode;
+import org.lwjgl.opengl.GL11;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Renders frames of sprites through the shim on the offscreen backend, and reports their frame time and the checksum
+ * of the last frame: run by {@code mvn verify -Dlwjglalti.offscreen_backend=osmesa} (or {@code egl}) on machines with
+ * Mesa, but without a GPU or display. Fails unless a frame of solid quads comes out exact to the pixel.
+ */
+class OffscreenBackendBenchmark {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+    private static final int SPRITES = 5000;
+    private static final int FRAMES = 100;
+
+    private static String renderer;
+
+    @Test
+    void framesOfSprites() throws Exception {
+        assertTrue(OffscreenBackend.ENABLED, "run with -Dlwjglalti.offscreen_backend=osmesa or egl");
+        Display.setDisplayMode(new DisplayMode(WIDTH, HEIGHT));
+        Display.create();
+        Display.setVSyncEnabled(false);
+        setUp();
+
+        drawQuads();
+        Display.swapBuffers();
+        // rows bottom first: the red quad covers the left half, and the green one the top right quarter
+        assertPixel(WIDTH / 4, HEIGHT / 2, 0xFF, 0x00, 0x00);
+        assertPixel(3 * WIDTH / 4, 3 * HEIGHT / 4, 0x00, 0xFF, 0x00);
+        assertPixel(3 * WIDTH / 4, HEIGHT / 4, 0x00, 0x00, 0x00);
+
+        long start = 0;
+        for (int frame = -10; frame < FRAMES; ++frame) {
+            if (frame == 0) {
+                // discard warm-up frames
+                GL11.glFinish();
+                start = System.nanoTime();
+            }
+            drawSprites();
+            Display.swapBuffers();
+            Display.processMessages();
+        }
+        long elapsed = System.nanoTime() - start;
+        CRC32 checksum = new CRC32();
+        checksum.update(OffscreenBackend.framebuffer());
+        Display.destroy();
+
+        System.out.printf("renderer %s, backend %s%n", renderer, OffscreenBackend.API.orElseThrow());
+        System.out.printf("%d sprites: %.3f ms per frame over %d frames%n", SPRITES, elapsed / 1e6 / FRAMES, FRAMES);
+        System.out.printf("last frame checksum: %08x%n", checksum.getValue());
+    }
+
+    private static void setUp() {
+        renderer = GL11.glGetString(GL11.GL_RENDERER);
+        GL11.glMatrixMode(GL11.GL_PROJECTION);
+        GL11.glLoadIdentity();
+        GL11.glOrtho(0, WIDTH, HEIGHT, 0, -1, 1);
+        GL11.glMatrixMode(GL11.GL_MODELVIEW);
+        GL11.glLoadIdentity();
+        GL11.glClearColor(0, 0, 0, 1);
+    }
+
+    private static void drawQuads() {
+        GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+        GL11.glColor4f(1, 0, 0, 1);
+        quad(0, 0, WIDTH / 2F, HEIGHT);
+        GL11.glColor4f(0, 1, 0, 1);
+        quad(WIDTH / 2F, 0, WIDTH / 2F, HEIGHT / 2F);
+    }
+
+    private static void drawSprites() {
+        GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+        for (int i = 0; i < SPRITES; ++i) {
+            // deterministic, so that every run draws the same frame
+            GL11.glColor4f((i % 7) / 6F, (i % 5) / 4F, (i % 3) / 2F, 1F);
+            quad((i * 37) % (WIDTH - 16), (i * 53) % (HEIGHT - 16), 16, 16);
+        }
+    }
+
+    private static void quad(float x, float y, float width, float height) {
+        GL11.glBegin(GL11.GL_QUADS);
+        GL11.glVertex2f(x, y);
+        GL11.glVertex2f(x + width, y);
+        GL11.glVertex2f(x + width, y + height);
+        GL11.glVertex2f(x, y + height);
+        GL11.glEnd();
+    }
+
+    private static void assertPixel(int x, int y, int red, int green, int blue) {
+        ByteBuffer frame = OffscreenBackend.framebuffer();
+        int offset = (y * OffscreenBackend.framebufferWidth() + x) * 4;
+        String at = "pixel at " + x + ", " + y;
+        assertEquals(red, Byte.toUnsignedInt(frame.get(offset)), at);
+        assertEquals(green, Byte.toUnsignedInt(frame.get(offset + 1)), at);
+        assertEquals(blue, Byte.toUnsignedInt(frame.get(offset + 2)), at);
+    }
+}